@@ -109,7 +109,31 @@ public enum VulkanBufferUsageFlag implements VulkanEnumBitmaskType
    * and use that address to access the buffer’s memory from a shader.
    */
 
-  VK_BUFFER_USAGE_SHADER_DEVICE_ADDRESS_BIT(0x00020000);
+  VK_BUFFER_USAGE_SHADER_DEVICE_ADDRESS_BIT(0x00020000),
+
+  /**
+   * VK_BUFFER_USAGE_SAMPLER_DESCRIPTOR_BUFFER_BIT_EXT specifies that the
+   * buffer is suitable to contain sampler and combined image sampler
+   * descriptors when bound as a descriptor buffer.
+   */
+
+  VK_BUFFER_USAGE_SAMPLER_DESCRIPTOR_BUFFER_BIT_EXT(0x00200000),
+
+  /**
+   * VK_BUFFER_USAGE_RESOURCE_DESCRIPTOR_BUFFER_BIT_EXT specifies that the
+   * buffer is suitable to contain resource descriptors when bound as a
+   * descriptor buffer.
+   */
+
+  VK_BUFFER_USAGE_RESOURCE_DESCRIPTOR_BUFFER_BIT_EXT(0x00400000),
+
+  /**
+   * VK_BUFFER_USAGE_PUSH_DESCRIPTORS_DESCRIPTOR_BUFFER_BIT_EXT specifies that
+   * the buffer, when bound, can be used by the implementation to support
+   * push descriptors when using descriptor buffers.
+   */
+
+  VK_BUFFER_USAGE_PUSH_DESCRIPTORS_DESCRIPTOR_BUFFER_BIT_EXT(0x04000000);
 
   private final int value;
 
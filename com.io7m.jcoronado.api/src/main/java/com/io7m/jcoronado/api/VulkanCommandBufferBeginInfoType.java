@@ -19,6 +19,7 @@ package com.io7m.jcoronado.api;
 import com.io7m.immutables.styles.ImmutablesStyleType;
 import org.immutables.value.Value;
 
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -37,4 +38,11 @@ public interface VulkanCommandBufferBeginInfoType
    */
 
   Set<VulkanCommandBufferUsageFlag> flags();
+
+  /**
+   * @return The inheritance info; this is required for secondary command
+   * buffers and ignored for primary command buffers
+   */
+
+  Optional<VulkanCommandBufferInheritanceInfo> inheritanceInfo();
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.api;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Structure specifying command buffer inheritance information. This is
+ * required when beginning secondary command buffers.
+ *
+ * @see "VkCommandBufferInheritanceInfo"
+ */
+
+@VulkanAPIStructType(vulkanStruct = "VkCommandBufferInheritanceInfo")
+@ImmutablesStyleType
+@Value.Immutable
+public interface VulkanCommandBufferInheritanceInfoType
+{
+  /**
+   * @return The render pass with which the command buffer will be compatible,
+   * if the command buffer will execute within a render pass instance
+   */
+
+  Optional<VulkanRenderPassType> renderPass();
+
+  /**
+   * @return The index of the subpass within the render pass
+   */
+
+  @Value.Default
+  default int subpass()
+  {
+    return 0;
+  }
+
+  /**
+   * @return The framebuffer the command buffer will render into, if known
+   */
+
+  Optional<VulkanFramebufferType> framebuffer();
+
+  /**
+   * @return {@code true} if the command buffer can be executed while an
+   * occlusion query is active in the primary command buffer
+   */
+
+  @Value.Default
+  default boolean occlusionQueryEnable()
+  {
+    return false;
+  }
+
+  /**
+   * @return The query flags that can be used by an active occlusion query
+   */
+
+  Set<VulkanQueryControlFlag> queryFlags();
+
+  /**
+   * @return The set of pipeline statistics that can be counted by an active
+   * query in the primary command buffer
+   */
+
+  Set<VulkanQueryPipelineStatisticFlag> pipelineStatistics();
+
+  /**
+   * @return The dynamic rendering state, if the command buffer will execute
+   * within a dynamic render pass instance begun with
+   * {@link VulkanCommandBufferType#beginRendering(VulkanRenderingInfo)}
+   */
+
+  Optional<VulkanCommandBufferInheritanceRenderingInfo> renderingInfo();
+}
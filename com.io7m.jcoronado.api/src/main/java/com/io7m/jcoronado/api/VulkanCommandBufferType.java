@@ -16,8 +16,12 @@
 
 package com.io7m.jcoronado.api;
 
+import java.lang.foreign.MemorySegment;
 import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static com.io7m.jcoronado.api.VulkanClearValueType.VulkanClearValueColorType;
@@ -151,6 +155,29 @@ public interface VulkanCommandBufferType extends VulkanHandleDispatchableType
     VulkanPipelineType pipeline)
     throws VulkanException;
 
+  /**
+   * Bind shader objects to a command buffer. Each element of {@code stages}
+   * is bound to the shader at the same index in {@code shaders}; an empty
+   * shader unbinds the stage. Binding a shader object to a stage unbinds any
+   * pipeline bound to the corresponding bind point.
+   *
+   * @param stages  The stages to update
+   * @param shaders The shaders to bind to each stage
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(
+    api = "VK_EXT_shader_object",
+    vulkanFunction = "vkCmdBindShadersEXT"
+  )
+  @VulkanAPIDeviceFeatureRequiredType(featureName = "shaderObject")
+  @VulkanExternallySynchronizedType
+  void bindShaders(
+    List<VulkanShaderStageFlag> stages,
+    List<Optional<VulkanShaderObjectType>> shaders)
+    throws VulkanException;
+
   /**
    * Bind vertex buffers to a command buffer.
    *
@@ -173,6 +200,92 @@ public interface VulkanCommandBufferType extends VulkanHandleDispatchableType
     List<Long> offsets)
     throws VulkanException;
 
+  /**
+   * Bind a single vertex buffer to a command buffer. Implementations are
+   * expected to perform no heap allocations.
+   *
+   * @param binding The index of the vertex input binding whose state is
+   *                updated by the command
+   * @param buffer  The buffer
+   * @param offset  The buffer offset
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCmdBindVertexBuffers")
+  @VulkanExternallySynchronizedType
+  void bindVertexBuffer(
+    int binding,
+    VulkanBufferType buffer,
+    long offset)
+    throws VulkanException;
+
+  /**
+   * Bind vertex buffers to a command buffer. The number of bindings updated
+   * is {@code buffers.length}, and {@code offsets} must contain at least that
+   * many elements. Implementations are expected to perform no heap
+   * allocations.
+   *
+   * @param first_binding The index of the first vertex input binding whose
+   *                      state is updated by the command
+   * @param buffers       An array of buffer handles
+   * @param offsets       An array of buffer offsets
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCmdBindVertexBuffers")
+  @VulkanExternallySynchronizedType
+  void bindVertexBuffers(
+    int first_binding,
+    VulkanBufferType[] buffers,
+    long[] offsets)
+    throws VulkanException;
+
+  /**
+   * Bind vertex buffers to a command buffer. The number of bindings updated
+   * is {@code buffers.length}, and {@code offsets} must have at least that
+   * many elements remaining. The position of {@code offsets} is not
+   * modified. Implementations are expected to perform no heap allocations.
+   *
+   * @param first_binding The index of the first vertex input binding whose
+   *                      state is updated by the command
+   * @param buffers       An array of buffer handles
+   * @param offsets       A buffer of buffer offsets
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCmdBindVertexBuffers")
+  @VulkanExternallySynchronizedType
+  void bindVertexBuffers(
+    int first_binding,
+    VulkanBufferType[] buffers,
+    LongBuffer offsets)
+    throws VulkanException;
+
+  /**
+   * Bind vertex buffers to a command buffer. The number of bindings updated
+   * is {@code buffers.length}, and {@code offsets} must contain at least that
+   * many 64-bit offsets in native byte order. Implementations are expected to
+   * perform no heap allocations.
+   *
+   * @param first_binding The index of the first vertex input binding whose
+   *                      state is updated by the command
+   * @param buffers       An array of buffer handles
+   * @param offsets       A memory segment containing buffer offsets
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCmdBindVertexBuffers")
+  @VulkanExternallySynchronizedType
+  void bindVertexBuffers(
+    int first_binding,
+    VulkanBufferType[] buffers,
+    MemorySegment offsets)
+    throws VulkanException;
+
   /**
    * Bind index buffer to a command buffer.
    *
@@ -215,6 +328,104 @@ public interface VulkanCommandBufferType extends VulkanHandleDispatchableType
     List<Integer> dynamic_offsets)
     throws VulkanException;
 
+  /**
+   * Bind a single descriptor set, with no dynamic offsets, to a command
+   * buffer. Implementations are expected to perform no heap allocations.
+   *
+   * @param pipeline_bind_point The pipeline bind point
+   * @param layout              The pipeline layout
+   * @param set                 The set number of the descriptor set
+   * @param descriptor_set      The descriptor set
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCmdBindDescriptorSets")
+  @VulkanExternallySynchronizedType
+  void bindDescriptorSet(
+    VulkanPipelineBindPoint pipeline_bind_point,
+    VulkanPipelineLayoutType layout,
+    int set,
+    VulkanDescriptorSetType descriptor_set)
+    throws VulkanException;
+
+  /**
+   * Bind descriptor sets to a command buffer. All elements of
+   * {@code dynamic_offsets} are used as dynamic offsets. Implementations are
+   * expected to perform no heap allocations.
+   *
+   * @param pipeline_bind_point The pipeline bind point
+   * @param layout              The pipeline layout
+   * @param first_set           The set number of the first descriptor set to be
+   *                            bound
+   * @param descriptor_sets     The descriptor sets
+   * @param dynamic_offsets     An array of dynamic offsets
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCmdBindDescriptorSets")
+  @VulkanExternallySynchronizedType
+  void bindDescriptorSets(
+    VulkanPipelineBindPoint pipeline_bind_point,
+    VulkanPipelineLayoutType layout,
+    int first_set,
+    VulkanDescriptorSetType[] descriptor_sets,
+    int[] dynamic_offsets)
+    throws VulkanException;
+
+  /**
+   * Bind descriptor sets to a command buffer. All remaining elements of
+   * {@code dynamic_offsets} are used as dynamic offsets, and the position of
+   * {@code dynamic_offsets} is not modified. Implementations are expected to
+   * perform no heap allocations.
+   *
+   * @param pipeline_bind_point The pipeline bind point
+   * @param layout              The pipeline layout
+   * @param first_set           The set number of the first descriptor set to be
+   *                            bound
+   * @param descriptor_sets     The descriptor sets
+   * @param dynamic_offsets     A buffer of dynamic offsets
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCmdBindDescriptorSets")
+  @VulkanExternallySynchronizedType
+  void bindDescriptorSets(
+    VulkanPipelineBindPoint pipeline_bind_point,
+    VulkanPipelineLayoutType layout,
+    int first_set,
+    VulkanDescriptorSetType[] descriptor_sets,
+    IntBuffer dynamic_offsets)
+    throws VulkanException;
+
+  /**
+   * Bind descriptor sets to a command buffer. The memory segment is treated
+   * as an array of 32-bit dynamic offsets in native byte order, and all of
+   * them are used. Implementations are expected to perform no heap
+   * allocations.
+   *
+   * @param pipeline_bind_point The pipeline bind point
+   * @param layout              The pipeline layout
+   * @param first_set           The set number of the first descriptor set to be
+   *                            bound
+   * @param descriptor_sets     The descriptor sets
+   * @param dynamic_offsets     A memory segment containing dynamic offsets
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCmdBindDescriptorSets")
+  @VulkanExternallySynchronizedType
+  void bindDescriptorSets(
+    VulkanPipelineBindPoint pipeline_bind_point,
+    VulkanPipelineLayoutType layout,
+    int first_set,
+    VulkanDescriptorSetType[] descriptor_sets,
+    MemorySegment dynamic_offsets)
+    throws VulkanException;
+
   /**
    * Copy regions of an image, potentially performing format conversion.
    *
@@ -522,6 +733,22 @@ public interface VulkanCommandBufferType extends VulkanHandleDispatchableType
     int group_count_z)
     throws VulkanException;
 
+  /**
+   * Dispatch compute work items with parameters read from a buffer.
+   *
+   * @param buffer The buffer containing dispatch parameters.
+   * @param offset The byte offset into buffer where parameters begin.
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCmdDispatchIndirect")
+  @VulkanExternallySynchronizedType
+  void dispatchIndirect(
+    VulkanBufferType buffer,
+    long offset)
+    throws VulkanException;
+
   /**
    * Draw primitives.
    *
@@ -607,6 +834,181 @@ public interface VulkanCommandBufferType extends VulkanHandleDispatchableType
     int stride)
     throws VulkanException;
 
+  /**
+   * Draw primitives indirectly, with the draw count read from a buffer.
+   *
+   * @param buffer              The buffer containing draw parameters.
+   * @param offset              The byte offset into buffer where parameters
+   *                            begin.
+   * @param count_buffer        The buffer containing the draw count.
+   * @param count_buffer_offset The byte offset into count_buffer where the
+   *                            draw count begins.
+   * @param max_draw_count      The maximum number of draws that will be
+   *                            executed.
+   * @param stride              The byte stride between successive sets of
+   *                            draw parameters.
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCmdDrawIndirectCount")
+  @VulkanAPIDeviceFeatureRequiredType(featureName = "drawIndirectCount")
+  @VulkanExternallySynchronizedType
+  void drawIndirectCount(
+    VulkanBufferType buffer,
+    long offset,
+    VulkanBufferType count_buffer,
+    long count_buffer_offset,
+    int max_draw_count,
+    int stride)
+    throws VulkanException;
+
+  /**
+   * Draw indexed primitives indirectly, with the draw count read from a
+   * buffer.
+   *
+   * @param buffer              The buffer containing draw parameters.
+   * @param offset              The byte offset into buffer where parameters
+   *                            begin.
+   * @param count_buffer        The buffer containing the draw count.
+   * @param count_buffer_offset The byte offset into count_buffer where the
+   *                            draw count begins.
+   * @param max_draw_count      The maximum number of draws that will be
+   *                            executed.
+   * @param stride              The byte stride between successive sets of
+   *                            draw parameters.
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCmdDrawIndexedIndirectCount")
+  @VulkanAPIDeviceFeatureRequiredType(featureName = "drawIndirectCount")
+  @VulkanExternallySynchronizedType
+  void drawIndexedIndirectCount(
+    VulkanBufferType buffer,
+    long offset,
+    VulkanBufferType count_buffer,
+    long count_buffer_offset,
+    int max_draw_count,
+    int stride)
+    throws VulkanException;
+
+  /**
+   * Draw multiple ranges of primitives in a single command. The array is
+   * interpreted as a sequence of {@code (first_vertex, vertex_count)} pairs,
+   * and so must have an even length.
+   * The number of draw ranges must not exceed
+   * {@link VulkanPhysicalDeviceLimitsType#maxMultiDrawCount()}.
+   *
+   * @param vertex_info    The packed draw ranges.
+   * @param instance_count The number of instances to draw.
+   * @param first_instance The instance ID of the first instance to draw.
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(
+    api = "VK_EXT_multi_draw",
+    vulkanFunction = "vkCmdDrawMultiEXT"
+  )
+  @VulkanAPIDeviceFeatureRequiredType(featureName = "multiDraw")
+  @VulkanExternallySynchronizedType
+  void drawMulti(
+    int[] vertex_info,
+    int instance_count,
+    int first_instance)
+    throws VulkanException;
+
+  /**
+   * Draw multiple ranges of primitives in a single command. The segment
+   * holds {@code draw_count} {@code VkMultiDrawInfoEXT} structures (two
+   * 32-bit integers {@code first_vertex} and {@code vertex_count}) separated
+   * by {@code stride} bytes.
+   * The number of draw ranges must not exceed
+   * {@link VulkanPhysicalDeviceLimitsType#maxMultiDrawCount()}.
+   *
+   * @param vertex_info    The draw ranges.
+   * @param draw_count     The number of draw ranges.
+   * @param instance_count The number of instances to draw.
+   * @param first_instance The instance ID of the first instance to draw.
+   * @param stride         The byte stride between successive draw ranges.
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(
+    api = "VK_EXT_multi_draw",
+    vulkanFunction = "vkCmdDrawMultiEXT"
+  )
+  @VulkanAPIDeviceFeatureRequiredType(featureName = "multiDraw")
+  @VulkanExternallySynchronizedType
+  void drawMulti(
+    MemorySegment vertex_info,
+    int draw_count,
+    int instance_count,
+    int first_instance,
+    int stride)
+    throws VulkanException;
+
+  /**
+   * Draw multiple ranges of indexed primitives in a single command. The
+   * array is interpreted as a sequence of
+   * {@code (first_index, index_count, vertex_offset)} triples, and so must
+   * have a length that is a multiple of three.
+   * The number of draw ranges must not exceed
+   * {@link VulkanPhysicalDeviceLimitsType#maxMultiDrawCount()}.
+   *
+   * @param index_info     The packed draw ranges.
+   * @param instance_count The number of instances to draw.
+   * @param first_instance The instance ID of the first instance to draw.
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(
+    api = "VK_EXT_multi_draw",
+    vulkanFunction = "vkCmdDrawMultiIndexedEXT"
+  )
+  @VulkanAPIDeviceFeatureRequiredType(featureName = "multiDraw")
+  @VulkanExternallySynchronizedType
+  void drawMultiIndexed(
+    int[] index_info,
+    int instance_count,
+    int first_instance)
+    throws VulkanException;
+
+  /**
+   * Draw multiple ranges of indexed primitives in a single command. The
+   * segment holds {@code draw_count} {@code VkMultiDrawIndexedInfoEXT}
+   * structures (three 32-bit integers {@code first_index},
+   * {@code index_count}, and {@code vertex_offset}) separated by
+   * {@code stride} bytes.
+   * The number of draw ranges must not exceed
+   * {@link VulkanPhysicalDeviceLimitsType#maxMultiDrawCount()}.
+   *
+   * @param index_info     The draw ranges.
+   * @param draw_count     The number of draw ranges.
+   * @param instance_count The number of instances to draw.
+   * @param first_instance The instance ID of the first instance to draw.
+   * @param stride         The byte stride between successive draw ranges.
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(
+    api = "VK_EXT_multi_draw",
+    vulkanFunction = "vkCmdDrawMultiIndexedEXT"
+  )
+  @VulkanAPIDeviceFeatureRequiredType(featureName = "multiDraw")
+  @VulkanExternallySynchronizedType
+  void drawMultiIndexed(
+    MemorySegment index_info,
+    int draw_count,
+    int instance_count,
+    int first_instance,
+    int stride)
+    throws VulkanException;
+
   /**
    * Execute a secondary command buffer from a primary command buffer.
    *
@@ -621,6 +1023,21 @@ public interface VulkanCommandBufferType extends VulkanHandleDispatchableType
     List<VulkanCommandBufferType> commandBuffers)
     throws VulkanException;
 
+  /**
+   * Replay all commands recorded in the given command stream into this
+   * command buffer. The stream must have been created by the same device
+   * as this command buffer, and is not modified by this operation.
+   *
+   * @param stream The command stream
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanExternallySynchronizedType
+  void executeCommandStream(
+    VulkanCommandStreamType stream)
+    throws VulkanException;
+
   /**
    * Fill a region of a buffer with a fixed value.
    *
@@ -840,6 +1257,291 @@ public interface VulkanCommandBufferType extends VulkanHandleDispatchableType
     List<VulkanViewport> viewports)
     throws VulkanException;
 
+  /**
+   * Set the cull mode dynamic state.
+   *
+   * @param cull_mode The cull mode
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCmdSetCullMode")
+  @VulkanExternallySynchronizedType
+  void setCullMode(
+    Set<VulkanCullModeFlag> cull_mode)
+    throws VulkanException;
+
+  /**
+   * Set the front face orientation dynamic state.
+   *
+   * @param front_face The front face orientation
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCmdSetFrontFace")
+  @VulkanExternallySynchronizedType
+  void setFrontFace(
+    VulkanFrontFace front_face)
+    throws VulkanException;
+
+  /**
+   * Set the primitive topology dynamic state.
+   *
+   * @param topology The primitive topology
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCmdSetPrimitiveTopology")
+  @VulkanExternallySynchronizedType
+  void setPrimitiveTopology(
+    VulkanPrimitiveTopology topology)
+    throws VulkanException;
+
+  /**
+   * Set the depth test enable dynamic state.
+   *
+   * @param enable {@code true} if depth testing is enabled
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCmdSetDepthTestEnable")
+  @VulkanExternallySynchronizedType
+  void setDepthTestEnable(
+    boolean enable)
+    throws VulkanException;
+
+  /**
+   * Set the depth write enable dynamic state.
+   *
+   * @param enable {@code true} if depth writes are enabled
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCmdSetDepthWriteEnable")
+  @VulkanExternallySynchronizedType
+  void setDepthWriteEnable(
+    boolean enable)
+    throws VulkanException;
+
+  /**
+   * Set the depth comparison operator dynamic state.
+   *
+   * @param compare_op The comparison operator used in the depth test
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCmdSetDepthCompareOp")
+  @VulkanExternallySynchronizedType
+  void setDepthCompareOp(
+    VulkanCompareOp compare_op)
+    throws VulkanException;
+
+  /**
+   * Set the depth bounds test enable dynamic state.
+   *
+   * @param enable {@code true} if the depth bounds test is enabled
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCmdSetDepthBoundsTestEnable")
+  @VulkanExternallySynchronizedType
+  void setDepthBoundsTestEnable(
+    boolean enable)
+    throws VulkanException;
+
+  /**
+   * Set the stencil test enable dynamic state.
+   *
+   * @param enable {@code true} if stencil testing is enabled
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCmdSetStencilTestEnable")
+  @VulkanExternallySynchronizedType
+  void setStencilTestEnable(
+    boolean enable)
+    throws VulkanException;
+
+  /**
+   * Set the stencil operation dynamic state.
+   *
+   * @param face_mask     The set of stencil faces to update
+   * @param fail_op       The action performed on samples that fail the
+   *                      stencil test
+   * @param pass_op       The action performed on samples that pass both the
+   *                      depth and stencil tests
+   * @param depth_fail_op The action performed on samples that pass the
+   *                      stencil test and fail the depth test
+   * @param compare_op    The comparison operator used in the stencil test
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCmdSetStencilOp")
+  @VulkanExternallySynchronizedType
+  void setStencilOp(
+    Set<VulkanStencilFaceFlag> face_mask,
+    VulkanStencilOp fail_op,
+    VulkanStencilOp pass_op,
+    VulkanStencilOp depth_fail_op,
+    VulkanCompareOp compare_op)
+    throws VulkanException;
+
+  /**
+   * Set the rasterizer discard enable dynamic state.
+   *
+   * @param enable {@code true} if primitives are discarded before
+   *               rasterization
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCmdSetRasterizerDiscardEnable")
+  @VulkanExternallySynchronizedType
+  void setRasterizerDiscardEnable(
+    boolean enable)
+    throws VulkanException;
+
+  /**
+   * Set the depth bias enable dynamic state.
+   *
+   * @param enable {@code true} if depth bias is enabled
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCmdSetDepthBiasEnable")
+  @VulkanExternallySynchronizedType
+  void setDepthBiasEnable(
+    boolean enable)
+    throws VulkanException;
+
+  /**
+   * Set the primitive restart enable dynamic state.
+   *
+   * @param enable {@code true} if primitive restart is enabled
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCmdSetPrimitiveRestartEnable")
+  @VulkanExternallySynchronizedType
+  void setPrimitiveRestartEnable(
+    boolean enable)
+    throws VulkanException;
+
+  /**
+   * Set the polygon mode dynamic state.
+   *
+   * @param polygon_mode The polygon mode
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(
+    api = "VK_EXT_extended_dynamic_state3",
+    vulkanFunction = "vkCmdSetPolygonModeEXT"
+  )
+  @VulkanAPIDeviceFeatureRequiredType(
+    featureName = "extendedDynamicState3PolygonMode")
+  @VulkanExternallySynchronizedType
+  void setPolygonMode(
+    VulkanPolygonMode polygon_mode)
+    throws VulkanException;
+
+  /**
+   * Set the color blend enable dynamic state for a range of attachments.
+   *
+   * @param first_attachment The first attachment to update
+   * @param enables          The blend enable state of each attachment
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(
+    api = "VK_EXT_extended_dynamic_state3",
+    vulkanFunction = "vkCmdSetColorBlendEnableEXT"
+  )
+  @VulkanAPIDeviceFeatureRequiredType(
+    featureName = "extendedDynamicState3ColorBlendEnable")
+  @VulkanExternallySynchronizedType
+  void setColorBlendEnable(
+    int first_attachment,
+    List<Boolean> enables)
+    throws VulkanException;
+
+  /**
+   * Set the color blend equation dynamic state for a range of attachments.
+   *
+   * @param first_attachment The first attachment to update
+   * @param equations        The blend equation of each attachment
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(
+    api = "VK_EXT_extended_dynamic_state3",
+    vulkanFunction = "vkCmdSetColorBlendEquationEXT"
+  )
+  @VulkanAPIDeviceFeatureRequiredType(
+    featureName = "extendedDynamicState3ColorBlendEquation")
+  @VulkanExternallySynchronizedType
+  void setColorBlendEquation(
+    int first_attachment,
+    List<VulkanColorBlendEquationEXT> equations)
+    throws VulkanException;
+
+  /**
+   * Set the color write mask dynamic state for a range of attachments.
+   *
+   * @param first_attachment The first attachment to update
+   * @param masks            The color write mask of each attachment
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(
+    api = "VK_EXT_extended_dynamic_state3",
+    vulkanFunction = "vkCmdSetColorWriteMaskEXT"
+  )
+  @VulkanAPIDeviceFeatureRequiredType(
+    featureName = "extendedDynamicState3ColorWriteMask")
+  @VulkanExternallySynchronizedType
+  void setColorWriteMask(
+    int first_attachment,
+    List<Set<VulkanColorComponentFlag>> masks)
+    throws VulkanException;
+
+  /**
+   * Set the vertex input dynamic state. This replaces the vertex input state
+   * of the bound pipeline in its entirety. Bindings use a divisor of
+   * {@code 1}.
+   *
+   * @param bindings   The vertex binding descriptions
+   * @param attributes The vertex attribute descriptions
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(
+    api = "VK_EXT_vertex_input_dynamic_state",
+    vulkanFunction = "vkCmdSetVertexInputEXT"
+  )
+  @VulkanAPIDeviceFeatureRequiredType(
+    featureName = "vertexInputDynamicState")
+  @VulkanExternallySynchronizedType
+  void setVertexInput(
+    List<VulkanVertexInputBindingDescription> bindings,
+    List<VulkanVertexInputAttributeDescription> attributes)
+    throws VulkanException;
+
   /**
    * Set an event object to signaled state.
    *
@@ -992,5 +1694,132 @@ public interface VulkanCommandBufferType extends VulkanHandleDispatchableType
     long offset,
     ByteBuffer data)
     throws VulkanException;
+
+  /**
+   * Push descriptor updates into the command buffer. The destination sets
+   * of the writes are ignored. The descriptor set layout at index
+   * {@code set} in {@code layout} must have been created with
+   * {@link VulkanDescriptorSetLayoutCreateFlag#VK_DESCRIPTOR_SET_LAYOUT_CREATE_PUSH_DESCRIPTOR_BIT}.
+   *
+   * @param pipeline_bind_point The pipeline bind point
+   * @param layout              The pipeline layout
+   * @param set                 The index of the set to update
+   * @param descriptor_writes   The descriptor writes
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCmdPushDescriptorSet")
+  @VulkanAPIFunctionType(
+    api = "VK_KHR_push_descriptor",
+    vulkanFunction = "vkCmdPushDescriptorSetKHR"
+  )
+  @VulkanExternallySynchronizedType
+  void pushDescriptorSet(
+    VulkanPipelineBindPoint pipeline_bind_point,
+    VulkanPipelineLayoutType layout,
+    int set,
+    List<VulkanWriteDescriptorSet> descriptor_writes)
+    throws VulkanException;
+
+  /**
+   * Push descriptor updates into the command buffer using a descriptor
+   * update template created with
+   * {@link VulkanDescriptorUpdateTemplateKind#VK_DESCRIPTOR_UPDATE_TEMPLATE_TYPE_PUSH_DESCRIPTORS}.
+   *
+   * @param template The descriptor update template
+   * @param layout   The pipeline layout
+   * @param set      The index of the set to update
+   * @param data     The packed update data
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCmdPushDescriptorSetWithTemplate")
+  @VulkanAPIFunctionType(
+    api = "VK_KHR_push_descriptor",
+    vulkanFunction = "vkCmdPushDescriptorSetWithTemplateKHR"
+  )
+  @VulkanExternallySynchronizedType
+  void pushDescriptorSetWithTemplate(
+    VulkanDescriptorUpdateTemplateType template,
+    VulkanPipelineLayoutType layout,
+    int set,
+    MemorySegment data)
+    throws VulkanException;
+
+  /**
+   * Push descriptor updates into the command buffer using a descriptor
+   * update template created with
+   * {@link VulkanDescriptorUpdateTemplateKind#VK_DESCRIPTOR_UPDATE_TEMPLATE_TYPE_PUSH_DESCRIPTORS}.
+   * The update data begins at the buffer's position.
+   *
+   * @param template The descriptor update template
+   * @param layout   The pipeline layout
+   * @param set      The index of the set to update
+   * @param data     The packed update data
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCmdPushDescriptorSetWithTemplate")
+  @VulkanAPIFunctionType(
+    api = "VK_KHR_push_descriptor",
+    vulkanFunction = "vkCmdPushDescriptorSetWithTemplateKHR"
+  )
+  @VulkanExternallySynchronizedType
+  void pushDescriptorSetWithTemplate(
+    VulkanDescriptorUpdateTemplateType template,
+    VulkanPipelineLayoutType layout,
+    int set,
+    ByteBuffer data)
+    throws VulkanException;
+
+  /**
+   * Bind descriptor buffers. Binding descriptor buffers replaces any
+   * previously bound descriptor buffers, and the buffers are subsequently
+   * referred to by their indices in {@code binding_infos}.
+   *
+   * @param binding_infos The descriptor buffers
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(
+    api = "VK_EXT_descriptor_buffer",
+    vulkanFunction = "vkCmdBindDescriptorBuffersEXT"
+  )
+  @VulkanExternallySynchronizedType
+  void bindDescriptorBuffers(
+    List<VulkanDescriptorBufferBindingInfoEXT> binding_infos)
+    throws VulkanException;
+
+  /**
+   * Set the descriptor buffer offsets for the sets in the range
+   * {@code [first_set, first_set + buffer_indices.length)}. Set
+   * {@code first_set + i} is read from the bound descriptor buffer with
+   * index {@code buffer_indices[i]} at byte offset {@code offsets[i]}.
+   *
+   * @param pipeline_bind_point The pipeline bind point
+   * @param layout              The pipeline layout
+   * @param first_set           The index of the first set
+   * @param buffer_indices      The indices of the bound descriptor buffers
+   * @param offsets             The offsets within the descriptor buffers
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(
+    api = "VK_EXT_descriptor_buffer",
+    vulkanFunction = "vkCmdSetDescriptorBufferOffsetsEXT"
+  )
+  @VulkanExternallySynchronizedType
+  void setDescriptorBufferOffsets(
+    VulkanPipelineBindPoint pipeline_bind_point,
+    VulkanPipelineLayoutType layout,
+    int first_set,
+    int[] buffer_indices,
+    long[] offsets)
+    throws VulkanException;
 }
 
@@ -0,0 +1,40 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.api;
+
+/**
+ * A function that resolves API handles to raw Vulkan handle values for the
+ * purposes of recording them into a {@link VulkanCommandStreamType}.
+ */
+
+@FunctionalInterface
+public interface VulkanCommandStreamHandleResolverType
+{
+  /**
+   * Resolve the raw handle value of the given object.
+   *
+   * @param handle The handle
+   *
+   * @return The raw handle value
+   *
+   * @throws VulkanException On errors, such as the handle belonging to an
+   *                         incompatible implementation
+   */
+
+  long handle(VulkanHandleNonDispatchableType handle)
+    throws VulkanException;
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.api;
+
+/**
+ * <p>A receiver of commands replayed from a
+ * {@link VulkanCommandStreamType}.</p>
+ *
+ * <p>All arguments are passed as raw handle values, packed flag and enum
+ * values, and raw off-heap addresses. Addresses point into the memory
+ * of the stream being replayed and are only valid for the duration of the
+ * call. Arrays of viewports, scissor rectangles, and blend constants are
+ * laid out exactly as the corresponding arrays of {@code VkViewport},
+ * {@code VkRect2D}, and {@code float[4]} structures.</p>
+ */
+
+public interface VulkanCommandStreamReceiverType
+{
+  /**
+   * @param bind_point The packed bind point
+   * @param pipeline   The raw pipeline handle
+   *
+   * @throws VulkanException On errors
+   */
+
+  void bindPipeline(
+    int bind_point,
+    long pipeline)
+    throws VulkanException;
+
+  /**
+   * @param first_binding   The first binding
+   * @param count           The number of bindings
+   * @param buffers_address The address of an array of {@code count} raw
+   *                        buffer handles
+   * @param offsets_address The address of an array of {@code count} offsets
+   *
+   * @throws VulkanException On errors
+   */
+
+  void bindVertexBuffers(
+    int first_binding,
+    int count,
+    long buffers_address,
+    long offsets_address)
+    throws VulkanException;
+
+  /**
+   * @param buffer     The raw buffer handle
+   * @param offset     The offset
+   * @param index_type The packed index type
+   *
+   * @throws VulkanException On errors
+   */
+
+  void bindIndexBuffer(
+    long buffer,
+    long offset,
+    int index_type)
+    throws VulkanException;
+
+  /**
+   * @param bind_point              The packed bind point
+   * @param layout                  The raw pipeline layout handle
+   * @param first_set               The first set
+   * @param set_count               The number of sets
+   * @param sets_address            The address of an array of
+   *                                {@code set_count} raw descriptor set
+   *                                handles
+   * @param dynamic_offset_count    The number of dynamic offsets
+   * @param dynamic_offsets_address The address of an array of
+   *                                {@code dynamic_offset_count} offsets, or
+   *                                {@code 0} if there are none
+   *
+   * @throws VulkanException On errors
+   */
+
+  void bindDescriptorSets(
+    int bind_point,
+    long layout,
+    int first_set,
+    int set_count,
+    long sets_address,
+    int dynamic_offset_count,
+    long dynamic_offsets_address)
+    throws VulkanException;
+
+  /**
+   * @param vertex_count   The number of vertices to draw.
+   * @param instance_count The number of instances to draw.
+   * @param first_vertex   The index of the first vertex to draw.
+   * @param first_instance The instance ID of the first instance to draw.
+   *
+   * @throws VulkanException On errors
+   */
+
+  void draw(
+    int vertex_count,
+    int instance_count,
+    int first_vertex,
+    int first_instance)
+    throws VulkanException;
+
+  /**
+   * @param vertex_count   The number of vertices to draw.
+   * @param instance_count The number of instances to draw.
+   * @param first_vertex   The index of the first vertex to draw.
+   * @param vertex_offset  The vertex offset.
+   * @param first_instance The instance ID of the first instance to draw.
+   *
+   * @throws VulkanException On errors
+   */
+
+  void drawIndexed(
+    int vertex_count,
+    int instance_count,
+    int first_vertex,
+    int vertex_offset,
+    int first_instance)
+    throws VulkanException;
+
+  /**
+   * @param buffer     The raw buffer handle
+   * @param offset     The offset
+   * @param draw_count The draw count
+   * @param stride     The stride
+   *
+   * @throws VulkanException On errors
+   */
+
+  void drawIndirect(
+    long buffer,
+    long offset,
+    int draw_count,
+    int stride)
+    throws VulkanException;
+
+  /**
+   * @param buffer     The raw buffer handle
+   * @param offset     The offset
+   * @param draw_count The draw count
+   * @param stride     The stride
+   *
+   * @throws VulkanException On errors
+   */
+
+  void drawIndexedIndirect(
+    long buffer,
+    long offset,
+    int draw_count,
+    int stride)
+    throws VulkanException;
+
+  /**
+   * @param group_count_x The number of local workgroups in the X dimension.
+   * @param group_count_y The number of local workgroups in the Y dimension.
+   * @param group_count_z The number of local workgroups in the Z dimension.
+   *
+   * @throws VulkanException On errors
+   */
+
+  void dispatch(
+    int group_count_x,
+    int group_count_y,
+    int group_count_z)
+    throws VulkanException;
+
+  /**
+   * @param first_viewport    The first viewport
+   * @param count             The number of viewports
+   * @param viewports_address The address of an array of {@code VkViewport}
+   *
+   * @throws VulkanException On errors
+   */
+
+  void setViewport(
+    int first_viewport,
+    int count,
+    long viewports_address)
+    throws VulkanException;
+
+  /**
+   * @param first_scissor    The first scissor
+   * @param count            The number of scissors
+   * @param scissors_address The address of an array of {@code VkRect2D}
+   *
+   * @throws VulkanException On errors
+   */
+
+  void setScissor(
+    int first_scissor,
+    int count,
+    long scissors_address)
+    throws VulkanException;
+
+  /**
+   * @param width The line width
+   *
+   * @throws VulkanException On errors
+   */
+
+  void setLineWidth(float width)
+    throws VulkanException;
+
+  /**
+   * @param depth_bias_constant_factor The constant depth bias factor
+   * @param depth_bias_clamp           The depth bias clamp
+   * @param depth_bias_slope_factor    The slope depth bias factor
+   *
+   * @throws VulkanException On errors
+   */
+
+  void setDepthBias(
+    float depth_bias_constant_factor,
+    float depth_bias_clamp,
+    float depth_bias_slope_factor)
+    throws VulkanException;
+
+  /**
+   * @param min_depth_bounds The lower depth bound
+   * @param max_depth_bounds The upper depth bound
+   *
+   * @throws VulkanException On errors
+   */
+
+  void setDepthBounds(
+    float min_depth_bounds,
+    float max_depth_bounds)
+    throws VulkanException;
+
+  /**
+   * @param constants_address The address of an array of four floats
+   *
+   * @throws VulkanException On errors
+   */
+
+  void setBlendConstants(long constants_address)
+    throws VulkanException;
+
+  /**
+   * @param face_mask The packed face mask
+   * @param reference The reference value
+   *
+   * @throws VulkanException On errors
+   */
+
+  void setStencilReference(
+    int face_mask,
+    int reference)
+    throws VulkanException;
+
+  /**
+   * @param face_mask The packed face mask
+   * @param mask      The compare mask
+   *
+   * @throws VulkanException On errors
+   */
+
+  void setStencilCompareMask(
+    int face_mask,
+    int mask)
+    throws VulkanException;
+
+  /**
+   * @param face_mask The packed face mask
+   * @param mask      The write mask
+   *
+   * @throws VulkanException On errors
+   */
+
+  void setStencilWriteMask(
+    int face_mask,
+    int mask)
+    throws VulkanException;
+
+  /**
+   * @param layout       The raw pipeline layout handle
+   * @param stage_flags  The packed shader stage flags
+   * @param offset       The offset
+   * @param size         The size in bytes of the data
+   * @param data_address The address of the data
+   *
+   * @throws VulkanException On errors
+   */
+
+  void pushConstants(
+    long layout,
+    int stage_flags,
+    int offset,
+    int size,
+    long data_address)
+    throws VulkanException;
+}
@@ -0,0 +1,515 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.api;
+
+import com.io7m.jmulticlose.core.CloseableType;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>A deferred command stream.</p>
+ *
+ * <p>A command stream records a subset of the operations available on
+ * {@link VulkanCommandBufferType} into a compact off-heap byte stream of
+ * opcodes, raw handles, and scalar values. The stream can later be replayed
+ * into a real command buffer with
+ * {@link VulkanCommandBufferType#executeCommandStream(VulkanCommandStreamType)}.</p>
+ *
+ * <p>Command streams are not thread-safe and require no locking: a stream is
+ * intended to be owned by a single recording thread at any given time. Many
+ * threads can each record into their own stream concurrently, and a single
+ * thread can then concatenate and replay the streams into one command buffer.
+ * Structural commands such as render pass instances, barriers, and copies
+ * are not recorded into streams; they are recorded directly onto the
+ * command buffer around the replayed streams.</p>
+ */
+
+public interface VulkanCommandStreamType extends CloseableType
+{
+  /**
+   * @return The number of commands recorded into the stream
+   */
+
+  int commandCount();
+
+  /**
+   * @return The number of bytes of the stream that are in use
+   */
+
+  long byteSize();
+
+  /**
+   * Discard all recorded commands. The underlying storage is retained.
+   */
+
+  @VulkanExternallySynchronizedType
+  void reset();
+
+  /**
+   * Append all commands recorded in {@code other} to the end of this stream.
+   * Both streams must have been created by the same device.
+   *
+   * @param other The stream to append
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanExternallySynchronizedType
+  void append(VulkanCommandStreamType other)
+    throws VulkanException;
+
+  /**
+   * Record a pipeline binding.
+   *
+   * @param bind_point The bind point
+   * @param pipeline   The pipeline
+   *
+   * @throws VulkanException On errors
+   *
+   * @see VulkanCommandBufferType#bindPipeline(VulkanPipelineBindPoint, VulkanPipelineType)
+   */
+
+  @VulkanExternallySynchronizedType
+  void bindPipeline(
+    VulkanPipelineBindPoint bind_point,
+    VulkanPipelineType pipeline)
+    throws VulkanException;
+
+  /**
+   * Record a single vertex buffer binding.
+   *
+   * @param binding The index of the vertex input binding
+   * @param buffer  The buffer
+   * @param offset  The buffer offset
+   *
+   * @throws VulkanException On errors
+   *
+   * @see VulkanCommandBufferType#bindVertexBuffer(int, VulkanBufferType, long)
+   */
+
+  @VulkanExternallySynchronizedType
+  void bindVertexBuffer(
+    int binding,
+    VulkanBufferType buffer,
+    long offset)
+    throws VulkanException;
+
+  /**
+   * Record a vertex buffer binding. The number of bindings updated is
+   * {@code buffers.length}, and {@code offsets} must contain at least that
+   * many elements; only the first {@code buffers.length} offsets are
+   * recorded.
+   *
+   * @param first_binding The index of the first vertex input binding
+   * @param buffers       An array of buffer handles
+   * @param offsets       An array of buffer offsets
+   *
+   * @throws VulkanException On errors
+   *
+   * @see VulkanCommandBufferType#bindVertexBuffers(int, VulkanBufferType[], long[])
+   */
+
+  @VulkanExternallySynchronizedType
+  void bindVertexBuffers(
+    int first_binding,
+    VulkanBufferType[] buffers,
+    long[] offsets)
+    throws VulkanException;
+
+  /**
+   * Record an index buffer binding.
+   *
+   * @param buffer     The index buffer
+   * @param offset     The starting offset in bytes within buffer
+   * @param index_type The type of indices
+   *
+   * @throws VulkanException On errors
+   *
+   * @see VulkanCommandBufferType#bindIndexBuffer(VulkanBufferType, long, VulkanIndexType)
+   */
+
+  @VulkanExternallySynchronizedType
+  void bindIndexBuffer(
+    VulkanBufferType buffer,
+    long offset,
+    VulkanIndexType index_type)
+    throws VulkanException;
+
+  /**
+   * Record a single descriptor set binding with no dynamic offsets.
+   *
+   * @param pipeline_bind_point The pipeline bind point
+   * @param layout              The pipeline layout
+   * @param set                 The set number of the descriptor set
+   * @param descriptor_set      The descriptor set
+   *
+   * @throws VulkanException On errors
+   *
+   * @see VulkanCommandBufferType#bindDescriptorSet(VulkanPipelineBindPoint, VulkanPipelineLayoutType, int, VulkanDescriptorSetType)
+   */
+
+  @VulkanExternallySynchronizedType
+  void bindDescriptorSet(
+    VulkanPipelineBindPoint pipeline_bind_point,
+    VulkanPipelineLayoutType layout,
+    int set,
+    VulkanDescriptorSetType descriptor_set)
+    throws VulkanException;
+
+  /**
+   * Record a descriptor set binding.
+   *
+   * @param pipeline_bind_point The pipeline bind point
+   * @param layout              The pipeline layout
+   * @param first_set           The set number of the first descriptor set
+   * @param descriptor_sets     The descriptor sets
+   * @param dynamic_offsets     An array of dynamic offsets
+   *
+   * @throws VulkanException On errors
+   *
+   * @see VulkanCommandBufferType#bindDescriptorSets(VulkanPipelineBindPoint, VulkanPipelineLayoutType, int, VulkanDescriptorSetType[], int[])
+   */
+
+  @VulkanExternallySynchronizedType
+  void bindDescriptorSets(
+    VulkanPipelineBindPoint pipeline_bind_point,
+    VulkanPipelineLayoutType layout,
+    int first_set,
+    VulkanDescriptorSetType[] descriptor_sets,
+    int[] dynamic_offsets)
+    throws VulkanException;
+
+  /**
+   * Record a draw.
+   *
+   * @param vertex_count   The number of vertices to draw.
+   * @param instance_count The number of instances to draw.
+   * @param first_vertex   The index of the first vertex to draw.
+   * @param first_instance The instance ID of the first instance to draw.
+   *
+   * @throws VulkanException On errors
+   *
+   * @see VulkanCommandBufferType#draw(int, int, int, int)
+   */
+
+  @VulkanExternallySynchronizedType
+  void draw(
+    int vertex_count,
+    int instance_count,
+    int first_vertex,
+    int first_instance)
+    throws VulkanException;
+
+  /**
+   * Record an indexed draw.
+   *
+   * @param vertex_count   The number of vertices to draw.
+   * @param instance_count The number of instances to draw.
+   * @param first_vertex   The index of the first vertex to draw.
+   * @param vertex_offset  The value added to the vertex index before indexing
+   *                       into the vertex buffer.
+   * @param first_instance The instance ID of the first instance to draw.
+   *
+   * @throws VulkanException On errors
+   *
+   * @see VulkanCommandBufferType#drawIndexed(int, int, int, int, int)
+   */
+
+  @VulkanExternallySynchronizedType
+  void drawIndexed(
+    int vertex_count,
+    int instance_count,
+    int first_vertex,
+    int vertex_offset,
+    int first_instance)
+    throws VulkanException;
+
+  /**
+   * Record an indirect draw.
+   *
+   * @param buffer     The buffer containing draw parameters.
+   * @param offset     The byte offset into buffer where parameters begin.
+   * @param draw_count The number of draws to execute, and can be zero.
+   * @param stride     The byte stride between successive sets of draw
+   *                   parameters.
+   *
+   * @throws VulkanException On errors
+   *
+   * @see VulkanCommandBufferType#drawIndirect(VulkanBufferType, long, int, int)
+   */
+
+  @VulkanExternallySynchronizedType
+  void drawIndirect(
+    VulkanBufferType buffer,
+    long offset,
+    int draw_count,
+    int stride)
+    throws VulkanException;
+
+  /**
+   * Record an indexed indirect draw.
+   *
+   * @param buffer     The buffer containing draw parameters.
+   * @param offset     The byte offset into buffer where parameters begin.
+   * @param draw_count The number of draws to execute, and can be zero.
+   * @param stride     The byte stride between successive sets of draw
+   *                   parameters.
+   *
+   * @throws VulkanException On errors
+   *
+   * @see VulkanCommandBufferType#drawIndexedIndirect(VulkanBufferType, long, int, int)
+   */
+
+  @VulkanExternallySynchronizedType
+  void drawIndexedIndirect(
+    VulkanBufferType buffer,
+    long offset,
+    int draw_count,
+    int stride)
+    throws VulkanException;
+
+  /**
+   * Record a compute dispatch.
+   *
+   * @param group_count_x The number of local workgroups in the X dimension.
+   * @param group_count_y The number of local workgroups in the Y dimension.
+   * @param group_count_z The number of local workgroups in the Z dimension.
+   *
+   * @throws VulkanException On errors
+   *
+   * @see VulkanCommandBufferType#dispatch(int, int, int)
+   */
+
+  @VulkanExternallySynchronizedType
+  void dispatch(
+    int group_count_x,
+    int group_count_y,
+    int group_count_z)
+    throws VulkanException;
+
+  /**
+   * Record a viewport update.
+   *
+   * @param first_viewport The index of the first viewport
+   * @param viewports      The viewports
+   *
+   * @throws VulkanException On errors
+   *
+   * @see VulkanCommandBufferType#setViewport(int, List)
+   */
+
+  @VulkanExternallySynchronizedType
+  void setViewport(
+    int first_viewport,
+    List<VulkanViewport> viewports)
+    throws VulkanException;
+
+  /**
+   * Record a single viewport update.
+   *
+   * @param index    The index of the viewport
+   * @param viewport The viewport
+   *
+   * @throws VulkanException On errors
+   *
+   * @see VulkanCommandBufferType#setViewport(int, List)
+   */
+
+  @VulkanExternallySynchronizedType
+  void setViewport(
+    int index,
+    VulkanViewport viewport)
+    throws VulkanException;
+
+  /**
+   * Record a scissor update.
+   *
+   * @param first_scissor The index of the first scissor
+   * @param rectangles    The scissor rectangles
+   *
+   * @throws VulkanException On errors
+   *
+   * @see VulkanCommandBufferType#setScissor(int, List)
+   */
+
+  @VulkanExternallySynchronizedType
+  void setScissor(
+    int first_scissor,
+    List<VulkanRectangle2D> rectangles)
+    throws VulkanException;
+
+  /**
+   * Record a single scissor update.
+   *
+   * @param index     The index of the scissor
+   * @param rectangle The scissor rectangle
+   *
+   * @throws VulkanException On errors
+   *
+   * @see VulkanCommandBufferType#setScissor(int, List)
+   */
+
+  @VulkanExternallySynchronizedType
+  void setScissor(
+    int index,
+    VulkanRectangle2D rectangle)
+    throws VulkanException;
+
+  /**
+   * Record a line width update.
+   *
+   * @param width The width of rasterized line segments.
+   *
+   * @throws VulkanException On errors
+   *
+   * @see VulkanCommandBufferType#setLineWidth(float)
+   */
+
+  @VulkanExternallySynchronizedType
+  void setLineWidth(float width)
+    throws VulkanException;
+
+  /**
+   * Record a depth bias update.
+   *
+   * @param depth_bias_constant_factor The constant depth bias factor
+   * @param depth_bias_clamp           The maximum (or minimum) depth bias
+   * @param depth_bias_slope_factor    The slope depth bias factor
+   *
+   * @throws VulkanException On errors
+   *
+   * @see VulkanCommandBufferType#setDepthBias(float, float, float)
+   */
+
+  @VulkanExternallySynchronizedType
+  void setDepthBias(
+    float depth_bias_constant_factor,
+    float depth_bias_clamp,
+    float depth_bias_slope_factor)
+    throws VulkanException;
+
+  /**
+   * Record a depth bounds update.
+   *
+   * @param min_depth_bounds The lower bound of the depth bounds test
+   * @param max_depth_bounds The upper bound of the depth bounds test
+   *
+   * @throws VulkanException On errors
+   *
+   * @see VulkanCommandBufferType#setDepthBounds(float, float)
+   */
+
+  @VulkanExternallySynchronizedType
+  void setDepthBounds(
+    float min_depth_bounds,
+    float max_depth_bounds)
+    throws VulkanException;
+
+  /**
+   * Record a blend constants update.
+   *
+   * @param constants The blend constants
+   *
+   * @throws VulkanException On errors
+   *
+   * @see VulkanCommandBufferType#setBlendConstants(VulkanBlendConstants)
+   */
+
+  @VulkanExternallySynchronizedType
+  void setBlendConstants(
+    VulkanBlendConstants constants)
+    throws VulkanException;
+
+  /**
+   * Record a stencil reference update.
+   *
+   * @param face_mask The set of stencil faces to update
+   * @param reference The new stencil reference value
+   *
+   * @throws VulkanException On errors
+   *
+   * @see VulkanCommandBufferType#setStencilReference(Set, int)
+   */
+
+  @VulkanExternallySynchronizedType
+  void setStencilReference(
+    Set<VulkanStencilFaceFlag> face_mask,
+    int reference)
+    throws VulkanException;
+
+  /**
+   * Record a stencil compare mask update.
+   *
+   * @param face_mask The set of stencil faces to update
+   * @param mask      The new stencil compare mask value
+   *
+   * @throws VulkanException On errors
+   *
+   * @see VulkanCommandBufferType#setStencilCompareMask(Set, int)
+   */
+
+  @VulkanExternallySynchronizedType
+  void setStencilCompareMask(
+    Set<VulkanStencilFaceFlag> face_mask,
+    int mask)
+    throws VulkanException;
+
+  /**
+   * Record a stencil write mask update.
+   *
+   * @param face_mask The set of stencil faces to update
+   * @param mask      The new stencil write mask value
+   *
+   * @throws VulkanException On errors
+   *
+   * @see VulkanCommandBufferType#setStencilWriteMask(Set, int)
+   */
+
+  @VulkanExternallySynchronizedType
+  void setStencilWriteMask(
+    Set<VulkanStencilFaceFlag> face_mask,
+    int mask)
+    throws VulkanException;
+
+  /**
+   * Record a push constants update. The remaining bytes of {@code data} are
+   * copied into the stream, and the position of {@code data} is not
+   * modified.
+   *
+   * @param layout     The pipeline layout
+   * @param stageFlags The stage flags
+   * @param offset     The offset
+   * @param data       The data
+   *
+   * @throws VulkanException On errors
+   *
+   * @see VulkanCommandBufferType#pushConstants(VulkanPipelineLayoutType, Set, long, ByteBuffer)
+   */
+
+  @VulkanExternallySynchronizedType
+  void pushConstants(
+    VulkanPipelineLayoutType layout,
+    Set<VulkanShaderStageFlag> stageFlags,
+    long offset,
+    ByteBuffer data)
+    throws VulkanException;
+
+  @Override
+  void close();
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.api;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+import java.util.Optional;
+
+/**
+ * Structure specifying the parameters of a descriptor to be written into a
+ * descriptor buffer. Exactly one of {@link #sampler()},
+ * {@link #imageInfo()}, or {@link #addressInfo()} is used, depending on the
+ * descriptor type. If the relevant field is absent, a null descriptor is
+ * produced (which requires the {@code nullDescriptor} feature).
+ *
+ * @see "VkDescriptorGetInfoEXT"
+ * @see "VkDescriptorDataEXT"
+ */
+
+@VulkanAPIStructType(vulkanStruct = "VkDescriptorGetInfoEXT")
+@ImmutablesStyleType
+@Value.Immutable
+public interface VulkanDescriptorGetInfoEXTType
+{
+  /**
+   * @return The type of descriptor to get
+   */
+
+  VulkanDescriptorType descriptorType();
+
+  /**
+   * @return The sampler, for {@code VK_DESCRIPTOR_TYPE_SAMPLER}
+   */
+
+  Optional<VulkanSamplerType> sampler();
+
+  /**
+   * @return The image info, for combined image samplers, sampled images,
+   * storage images, and input attachments
+   */
+
+  Optional<VulkanDescriptorImageInfo> imageInfo();
+
+  /**
+   * @return The address info, for uniform and storage buffers and texel
+   * buffers
+   */
+
+  Optional<VulkanDescriptorAddressInfoEXT> addressInfo();
+
+  /**
+   * Check preconditions for the type.
+   */
+
+  @Value.Check
+  default void checkPreconditions()
+  {
+    final var type = this.descriptorType();
+    final var field = switch (type) {
+      case VK_DESCRIPTOR_TYPE_SAMPLER -> "sampler";
+      case VK_DESCRIPTOR_TYPE_COMBINED_IMAGE_SAMPLER,
+           VK_DESCRIPTOR_TYPE_SAMPLED_IMAGE,
+           VK_DESCRIPTOR_TYPE_STORAGE_IMAGE,
+           VK_DESCRIPTOR_TYPE_INPUT_ATTACHMENT -> "imageInfo";
+      case VK_DESCRIPTOR_TYPE_UNIFORM_TEXEL_BUFFER,
+           VK_DESCRIPTOR_TYPE_STORAGE_TEXEL_BUFFER,
+           VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER,
+           VK_DESCRIPTOR_TYPE_STORAGE_BUFFER -> "addressInfo";
+      case VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER_DYNAMIC,
+           VK_DESCRIPTOR_TYPE_STORAGE_BUFFER_DYNAMIC -> {
+        throw new IllegalArgumentException(
+          "Descriptor type %s cannot be used with descriptor buffers."
+            .formatted(type)
+        );
+      }
+    };
+
+    final var unexpected =
+      (this.sampler().isPresent() && !"sampler".equals(field))
+      || (this.imageInfo().isPresent() && !"imageInfo".equals(field))
+      || (this.addressInfo().isPresent() && !"addressInfo".equals(field));
+
+    if (unexpected) {
+      throw new IllegalArgumentException(
+        "Only the %s field may be specified for descriptor type %s."
+          .formatted(field, type)
+      );
+    }
+  }
+}
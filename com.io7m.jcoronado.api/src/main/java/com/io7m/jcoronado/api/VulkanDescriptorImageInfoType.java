@@ -19,6 +19,8 @@ package com.io7m.jcoronado.api;
 import com.io7m.immutables.styles.ImmutablesStyleType;
 import org.immutables.value.Value;
 
+import java.util.Optional;
+
 /**
  * @see "VkDescriptorImageInfo"
  */
@@ -31,18 +33,20 @@ public interface VulkanDescriptorImageInfoType
   /**
    * @return A sampler handle, and is used in descriptor updates for types
    * VK_DESCRIPTOR_TYPE_SAMPLER and VK_DESCRIPTOR_TYPE_COMBINED_IMAGE_SAMPLER if the binding being
-   * updated does not use immutable samplers.
+   * updated does not use immutable samplers. The sampler may be omitted for
+   * descriptor types that do not use a sampler.
    */
 
-  VulkanSamplerType sampler();
+  Optional<VulkanSamplerType> sampler();
 
   /**
    * @return An image view handle, and is used in descriptor updates for types
    * VK_DESCRIPTOR_TYPE_SAMPLED_IMAGE, VK_DESCRIPTOR_TYPE_STORAGE_IMAGE,
    * VK_DESCRIPTOR_TYPE_COMBINED_IMAGE_SAMPLER, and VK_DESCRIPTOR_TYPE_INPUT_ATTACHMENT.
+   * The image view may be omitted for VK_DESCRIPTOR_TYPE_SAMPLER.
    */
 
-  VulkanImageViewType imageView();
+  Optional<VulkanImageViewType> imageView();
 
   /**
    * @return The layout that the image subresources accessible from imageView will be in at the time
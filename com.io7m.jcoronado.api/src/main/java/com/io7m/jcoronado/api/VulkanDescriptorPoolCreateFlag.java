@@ -32,7 +32,14 @@ public enum VulkanDescriptorPoolCreateFlag implements VulkanEnumBitmaskType
    * pool, i.e. only vkAllocateDescriptorSets and vkResetDescriptorPool are allowed.
    */
 
-  VK_DESCRIPTOR_POOL_CREATE_FREE_DESCRIPTOR_SET_BIT(0x00000001);
+  VK_DESCRIPTOR_POOL_CREATE_FREE_DESCRIPTOR_SET_BIT(0x00000001),
+
+  /**
+   * Specifies that descriptor sets allocated from this pool can include
+   * bindings with the VK_DESCRIPTOR_BINDING_UPDATE_AFTER_BIND_BIT bit set.
+   */
+
+  VK_DESCRIPTOR_POOL_CREATE_UPDATE_AFTER_BIND_BIT(0x00000002);
 
   private final int value;
 
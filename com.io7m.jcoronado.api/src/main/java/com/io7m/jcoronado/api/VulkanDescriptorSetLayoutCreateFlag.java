@@ -29,7 +29,28 @@ public enum VulkanDescriptorSetLayoutCreateFlag implements VulkanEnumBitmaskType
    * No flags set.
    */
 
-  VK_DESCRIPTOR_SET_LAYOUT_CREATE_NONE(0x0);
+  VK_DESCRIPTOR_SET_LAYOUT_CREATE_NONE(0x0),
+
+  /**
+   * Descriptor sets must not be allocated using this layout, and
+   * descriptors are instead pushed by vkCmdPushDescriptorSet.
+   */
+
+  VK_DESCRIPTOR_SET_LAYOUT_CREATE_PUSH_DESCRIPTOR_BIT(0x1),
+
+  /**
+   * Descriptor sets using this layout must be allocated from a descriptor
+   * pool created with the VK_DESCRIPTOR_POOL_CREATE_UPDATE_AFTER_BIND_BIT
+   * bit set.
+   */
+
+  VK_DESCRIPTOR_SET_LAYOUT_CREATE_UPDATE_AFTER_BIND_POOL_BIT(0x2),
+
+  /**
+   * The descriptor set layout must only be used with descriptor buffers.
+   */
+
+  VK_DESCRIPTOR_SET_LAYOUT_CREATE_DESCRIPTOR_BUFFER_BIT_EXT(0x10);
 
   private final int value;
 
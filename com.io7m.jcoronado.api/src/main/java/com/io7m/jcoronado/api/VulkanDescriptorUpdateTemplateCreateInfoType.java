@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.api;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Information required to create a descriptor update template.
+ *
+ * @see "VkDescriptorUpdateTemplateCreateInfo"
+ */
+
+@VulkanAPIStructType(vulkanStruct = "VkDescriptorUpdateTemplateCreateInfo")
+@ImmutablesStyleType
+@Value.Immutable
+public interface VulkanDescriptorUpdateTemplateCreateInfoType
+{
+  /**
+   * @return The kind of template
+   */
+
+  @Value.Default
+  default VulkanDescriptorUpdateTemplateKind templateKind()
+  {
+    return VulkanDescriptorUpdateTemplateKind.VK_DESCRIPTOR_UPDATE_TEMPLATE_TYPE_DESCRIPTOR_SET;
+  }
+
+  /**
+   * @return The descriptor set layout used to build the template. All
+   * descriptor sets updated with the template must be compatible with
+   * this layout.
+   */
+
+  VulkanDescriptorSetLayoutType descriptorSetLayout();
+
+  /**
+   * @return The pipeline bind point that will be used when pushing
+   * descriptors with the template. Ignored for descriptor set templates.
+   */
+
+  @Value.Default
+  default VulkanPipelineBindPoint pipelineBindPoint()
+  {
+    return VulkanPipelineBindPoint.VK_PIPELINE_BIND_POINT_GRAPHICS;
+  }
+
+  /**
+   * @return The pipeline layout that will be used when pushing descriptors
+   * with the template. Required for push descriptor templates.
+   */
+
+  Optional<VulkanPipelineLayoutType> pipelineLayout();
+
+  /**
+   * @return The index of the set that will be pushed with the template.
+   * Ignored for descriptor set templates.
+   */
+
+  @Value.Default
+  default int set()
+  {
+    return 0;
+  }
+
+  /**
+   * @return The descriptor updates performed by the template
+   */
+
+  List<VulkanDescriptorUpdateTemplateEntry> entries();
+
+  /**
+   * Check preconditions for the type.
+   */
+
+  @Value.Check
+  default void checkPreconditions()
+  {
+    if (this.entries().isEmpty()) {
+      throw new IllegalArgumentException(
+        "At least one descriptor update template entry is required."
+      );
+    }
+
+    if (this.templateKind()
+        == VulkanDescriptorUpdateTemplateKind.VK_DESCRIPTOR_UPDATE_TEMPLATE_TYPE_PUSH_DESCRIPTORS) {
+      if (this.pipelineLayout().isEmpty()) {
+        throw new IllegalArgumentException(
+          "Push descriptor templates require a pipeline layout."
+        );
+      }
+    }
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.api;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+/**
+ * Describes a single descriptor update of a descriptor update template, and
+ * where the data for that update is located in the packed update data.
+ *
+ * @see "VkDescriptorUpdateTemplateEntry"
+ */
+
+@VulkanAPIStructType(vulkanStruct = "VkDescriptorUpdateTemplateEntry")
+@ImmutablesStyleType
+@Value.Immutable
+public interface VulkanDescriptorUpdateTemplateEntryType
+{
+  /**
+   * @return The descriptor binding to update when using this entry
+   */
+
+  int destinationBinding();
+
+  /**
+   * @return The starting element in the array identified by the binding
+   */
+
+  @Value.Default
+  default int destinationArrayElement()
+  {
+    return 0;
+  }
+
+  /**
+   * @return The number of descriptors to update
+   */
+
+  @Value.Default
+  default int descriptorCount()
+  {
+    return 1;
+  }
+
+  /**
+   * @return The type of the descriptors to update
+   */
+
+  VulkanDescriptorType descriptorType();
+
+  /**
+   * @return The offset in bytes of the first descriptor in the update data
+   */
+
+  long offset();
+
+  /**
+   * @return The stride in bytes between two consecutive descriptors in the
+   * update data
+   */
+
+  long stride();
+
+  /**
+   * Check preconditions for the type.
+   */
+
+  @Value.Check
+  default void checkPreconditions()
+  {
+    if (this.offset() < 0L) {
+      throw new IllegalArgumentException(
+        "Offset %d must be non-negative"
+          .formatted(Long.valueOf(this.offset()))
+      );
+    }
+    if (this.stride() < 0L) {
+      throw new IllegalArgumentException(
+        "Stride %d must be non-negative"
+          .formatted(Long.valueOf(this.stride()))
+      );
+    }
+    if (this.descriptorCount() < 0) {
+      throw new IllegalArgumentException(
+        "Descriptor count %d must be non-negative"
+          .formatted(Integer.valueOf(this.descriptorCount()))
+      );
+    }
+  }
+}
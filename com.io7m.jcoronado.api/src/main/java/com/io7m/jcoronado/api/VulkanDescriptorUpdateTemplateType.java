@@ -16,13 +16,223 @@
 
 package com.io7m.jcoronado.api;
 
+import java.lang.foreign.MemorySegment;
+import java.util.List;
+import java.util.Objects;
+
 /**
+ * A descriptor update template. A template describes, ahead of time, how a
+ * packed block of update data maps onto the bindings of a descriptor set, so
+ * that a whole descriptor set can subsequently be rewritten with a single
+ * call to
+ * {@link VulkanLogicalDeviceType#updateDescriptorSetWithTemplate(VulkanDescriptorSetType, VulkanDescriptorUpdateTemplateType, MemorySegment)}.
+ *
+ * The {@code write} methods write descriptor data for a given entry and
+ * array element into update data laid out according to the template, and
+ * perform no allocations.
+ *
  * @see "VkDescriptorUpdateTemplate"
  */
 
 public interface VulkanDescriptorUpdateTemplateType extends
   VulkanHandleNonDispatchableType
 {
+  /**
+   * The size in bytes of a {@code VkDescriptorImageInfo} structure in update
+   * data.
+   */
 
-}
+  long IMAGE_INFO_SIZE = 24L;
+
+  /**
+   * The size in bytes of a {@code VkDescriptorBufferInfo} structure in update
+   * data.
+   */
+
+  long BUFFER_INFO_SIZE = 24L;
+
+  /**
+   * The size in bytes of a {@code VkBufferView} handle in update data.
+   */
+
+  long BUFFER_VIEW_SIZE = 8L;
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkDestroyDescriptorUpdateTemplate")
+  @Override
+  @VulkanExternallySynchronizedType
+  void close()
+    throws VulkanException;
+
+  /**
+   * @return The entries with which the template was created
+   */
+
+  List<VulkanDescriptorUpdateTemplateEntry> entries();
+
+  /**
+   * @param type The descriptor type
+   *
+   * @return The size in bytes of a single descriptor of the given type in
+   * update data
+   */
+
+  static long descriptorDataSize(
+    final VulkanDescriptorType type)
+  {
+    return switch (Objects.requireNonNull(type, "type")) {
+      case VK_DESCRIPTOR_TYPE_SAMPLER,
+           VK_DESCRIPTOR_TYPE_COMBINED_IMAGE_SAMPLER,
+           VK_DESCRIPTOR_TYPE_SAMPLED_IMAGE,
+           VK_DESCRIPTOR_TYPE_STORAGE_IMAGE,
+           VK_DESCRIPTOR_TYPE_INPUT_ATTACHMENT -> IMAGE_INFO_SIZE;
+      case VK_DESCRIPTOR_TYPE_UNIFORM_TEXEL_BUFFER,
+           VK_DESCRIPTOR_TYPE_STORAGE_TEXEL_BUFFER -> BUFFER_VIEW_SIZE;
+      case VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER,
+           VK_DESCRIPTOR_TYPE_STORAGE_BUFFER,
+           VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER_DYNAMIC,
+           VK_DESCRIPTOR_TYPE_STORAGE_BUFFER_DYNAMIC -> BUFFER_INFO_SIZE;
+    };
+  }
+
+  /**
+   * @return The minimum size in bytes of update data used with this template
+   */
 
+  default long dataSize()
+  {
+    var size = 0L;
+    for (final var entry : this.entries()) {
+      final var count = entry.descriptorCount();
+      if (count == 0) {
+        continue;
+      }
+      final var end =
+        entry.offset()
+        + ((long) (count - 1) * entry.stride())
+        + descriptorDataSize(entry.descriptorType());
+      size = Math.max(size, end);
+    }
+    return size;
+  }
+
+  /**
+   * Determine the offset in bytes within update data of the given array
+   * element of the given entry.
+   *
+   * @param entry   The entry index
+   * @param element The array element within the entry
+   *
+   * @return The byte offset
+   */
+
+  default long offsetOf(
+    final int entry,
+    final int element)
+  {
+    final var entries = this.entries();
+    final var e = entries.get(Objects.checkIndex(entry, entries.size()));
+    Objects.checkIndex(element, e.descriptorCount());
+    return e.offset() + ((long) element * e.stride());
+  }
+
+  /**
+   * Write a sampler descriptor into update data.
+   *
+   * @param data    The update data
+   * @param entry   The entry index
+   * @param element The array element within the entry
+   * @param sampler The sampler
+   *
+   * @throws VulkanException On errors
+   */
+
+  void writeSampler(
+    MemorySegment data,
+    int entry,
+    int element,
+    VulkanSamplerType sampler)
+    throws VulkanException;
+
+  /**
+   * Write a sampled image, storage image, or input attachment descriptor
+   * into update data.
+   *
+   * @param data      The update data
+   * @param entry     The entry index
+   * @param element   The array element within the entry
+   * @param imageView The image view
+   * @param layout    The layout the image will be in when accessed
+   *
+   * @throws VulkanException On errors
+   */
+
+  void writeImage(
+    MemorySegment data,
+    int entry,
+    int element,
+    VulkanImageViewType imageView,
+    VulkanImageLayout layout)
+    throws VulkanException;
+
+  /**
+   * Write a combined image sampler descriptor into update data.
+   *
+   * @param data      The update data
+   * @param entry     The entry index
+   * @param element   The array element within the entry
+   * @param sampler   The sampler
+   * @param imageView The image view
+   * @param layout    The layout the image will be in when accessed
+   *
+   * @throws VulkanException On errors
+   */
+
+  void writeCombinedImageSampler(
+    MemorySegment data,
+    int entry,
+    int element,
+    VulkanSamplerType sampler,
+    VulkanImageViewType imageView,
+    VulkanImageLayout layout)
+    throws VulkanException;
+
+  /**
+   * Write a uniform or storage buffer descriptor into update data.
+   *
+   * @param data    The update data
+   * @param entry   The entry index
+   * @param element The array element within the entry
+   * @param buffer  The buffer
+   * @param offset  The offset in bytes from the start of the buffer
+   * @param range   The size in bytes of the range, or {@code VK_WHOLE_SIZE}
+   *
+   * @throws VulkanException On errors
+   */
+
+  void writeBuffer(
+    MemorySegment data,
+    int entry,
+    int element,
+    VulkanBufferType buffer,
+    long offset,
+    long range)
+    throws VulkanException;
+
+  /**
+   * Write a uniform or storage texel buffer descriptor into update data.
+   *
+   * @param data       The update data
+   * @param entry      The entry index
+   * @param element    The array element within the entry
+   * @param bufferView The buffer view
+   *
+   * @throws VulkanException On errors
+   */
+
+  void writeBufferView(
+    MemorySegment data,
+    int entry,
+    int element,
+    VulkanBufferViewType bufferView)
+    throws VulkanException;
+}
@@ -104,7 +104,146 @@ public enum VulkanDynamicState implements VulkanEnumIntegerType
    * with VkPipelineDepthStencilStateCreateInfo member stencilTestEnable set to {@code true}.
    */
 
-  VK_DYNAMIC_STATE_STENCIL_REFERENCE(8);
+  VK_DYNAMIC_STATE_STENCIL_REFERENCE(8),
+
+  /**
+   * VK_DYNAMIC_STATE_CULL_MODE specifies that the cullMode state in
+   * VkPipelineRasterizationStateCreateInfo will be ignored and must be set dynamically with
+   * vkCmdSetCullMode before any drawing commands.
+   */
+
+  VK_DYNAMIC_STATE_CULL_MODE(1000267000),
+
+  /**
+   * VK_DYNAMIC_STATE_FRONT_FACE specifies that the frontFace state in
+   * VkPipelineRasterizationStateCreateInfo will be ignored and must be set dynamically with
+   * vkCmdSetFrontFace before any drawing commands.
+   */
+
+  VK_DYNAMIC_STATE_FRONT_FACE(1000267001),
+
+  /**
+   * VK_DYNAMIC_STATE_PRIMITIVE_TOPOLOGY specifies that the topology state in
+   * VkPipelineInputAssemblyStateCreateInfo only specifies the topology class, and the specific
+   * topology order and adjacency must be set dynamically with vkCmdSetPrimitiveTopology before any
+   * drawing commands.
+   */
+
+  VK_DYNAMIC_STATE_PRIMITIVE_TOPOLOGY(1000267002),
+
+  /**
+   * VK_DYNAMIC_STATE_DEPTH_TEST_ENABLE specifies that the depthTestEnable state in
+   * VkPipelineDepthStencilStateCreateInfo will be ignored and must be set dynamically with
+   * vkCmdSetDepthTestEnable before any draw call.
+   */
+
+  VK_DYNAMIC_STATE_DEPTH_TEST_ENABLE(1000267006),
+
+  /**
+   * VK_DYNAMIC_STATE_DEPTH_WRITE_ENABLE specifies that the depthWriteEnable state in
+   * VkPipelineDepthStencilStateCreateInfo will be ignored and must be set dynamically with
+   * vkCmdSetDepthWriteEnable before any draw call.
+   */
+
+  VK_DYNAMIC_STATE_DEPTH_WRITE_ENABLE(1000267007),
+
+  /**
+   * VK_DYNAMIC_STATE_DEPTH_COMPARE_OP specifies that the depthCompareOp state in
+   * VkPipelineDepthStencilStateCreateInfo will be ignored and must be set dynamically with
+   * vkCmdSetDepthCompareOp before any draw call.
+   */
+
+  VK_DYNAMIC_STATE_DEPTH_COMPARE_OP(1000267008),
+
+  /**
+   * VK_DYNAMIC_STATE_DEPTH_BOUNDS_TEST_ENABLE specifies that the depthBoundsTestEnable state in
+   * VkPipelineDepthStencilStateCreateInfo will be ignored and must be set dynamically with
+   * vkCmdSetDepthBoundsTestEnable before any draw call.
+   */
+
+  VK_DYNAMIC_STATE_DEPTH_BOUNDS_TEST_ENABLE(1000267009),
+
+  /**
+   * VK_DYNAMIC_STATE_STENCIL_TEST_ENABLE specifies that the stencilTestEnable state in
+   * VkPipelineDepthStencilStateCreateInfo will be ignored and must be set dynamically with
+   * vkCmdSetStencilTestEnable before any draw call.
+   */
+
+  VK_DYNAMIC_STATE_STENCIL_TEST_ENABLE(1000267010),
+
+  /**
+   * VK_DYNAMIC_STATE_STENCIL_OP specifies that the failOp, passOp, depthFailOp, and compareOp
+   * states in VkPipelineDepthStencilStateCreateInfo for both front and back will be ignored and
+   * must be set dynamically with vkCmdSetStencilOp before any draws are performed with a pipeline
+   * state with VkPipelineDepthStencilStateCreateInfo member stencilTestEnable set to
+   * {@code true}.
+   */
+
+  VK_DYNAMIC_STATE_STENCIL_OP(1000267011),
+
+  /**
+   * VK_DYNAMIC_STATE_RASTERIZER_DISCARD_ENABLE specifies that the rasterizerDiscardEnable state in
+   * VkPipelineRasterizationStateCreateInfo will be ignored and must be set dynamically with
+   * vkCmdSetRasterizerDiscardEnable before any drawing commands.
+   */
+
+  VK_DYNAMIC_STATE_RASTERIZER_DISCARD_ENABLE(1000377001),
+
+  /**
+   * VK_DYNAMIC_STATE_DEPTH_BIAS_ENABLE specifies that the depthBiasEnable state in
+   * VkPipelineRasterizationStateCreateInfo will be ignored and must be set dynamically with
+   * vkCmdSetDepthBiasEnable before any drawing commands.
+   */
+
+  VK_DYNAMIC_STATE_DEPTH_BIAS_ENABLE(1000377002),
+
+  /**
+   * VK_DYNAMIC_STATE_PRIMITIVE_RESTART_ENABLE specifies that the primitiveRestartEnable state in
+   * VkPipelineInputAssemblyStateCreateInfo will be ignored and must be set dynamically with
+   * vkCmdSetPrimitiveRestartEnable before any drawing commands.
+   */
+
+  VK_DYNAMIC_STATE_PRIMITIVE_RESTART_ENABLE(1000377004),
+
+  /**
+   * VK_DYNAMIC_STATE_VERTEX_INPUT_EXT specifies that the pVertexInputState state will be ignored
+   * and must be set dynamically with vkCmdSetVertexInputEXT before any drawing commands.
+   */
+
+  VK_DYNAMIC_STATE_VERTEX_INPUT_EXT(1000352000),
+
+  /**
+   * VK_DYNAMIC_STATE_POLYGON_MODE_EXT specifies that the polygonMode state in
+   * VkPipelineRasterizationStateCreateInfo will be ignored and must be set dynamically with
+   * vkCmdSetPolygonModeEXT before any drawing commands.
+   */
+
+  VK_DYNAMIC_STATE_POLYGON_MODE_EXT(1000455004),
+
+  /**
+   * VK_DYNAMIC_STATE_COLOR_BLEND_ENABLE_EXT specifies that the blendEnable state in
+   * VkPipelineColorBlendAttachmentState will be ignored and must be set dynamically with
+   * vkCmdSetColorBlendEnableEXT before any draw call.
+   */
+
+  VK_DYNAMIC_STATE_COLOR_BLEND_ENABLE_EXT(1000455010),
+
+  /**
+   * VK_DYNAMIC_STATE_COLOR_BLEND_EQUATION_EXT specifies that the srcColorBlendFactor,
+   * dstColorBlendFactor, colorBlendOp, srcAlphaBlendFactor, dstAlphaBlendFactor, and alphaBlendOp
+   * states in VkPipelineColorBlendAttachmentState will be ignored and must be set dynamically with
+   * vkCmdSetColorBlendEquationEXT before any draw call.
+   */
+
+  VK_DYNAMIC_STATE_COLOR_BLEND_EQUATION_EXT(1000455011),
+
+  /**
+   * VK_DYNAMIC_STATE_COLOR_WRITE_MASK_EXT specifies that the colorWriteMask state in
+   * VkPipelineColorBlendAttachmentState will be ignored and must be set dynamically with
+   * vkCmdSetColorWriteMaskEXT before any draw call.
+   */
+
+  VK_DYNAMIC_STATE_COLOR_WRITE_MASK_EXT(1000455012);
 
   private final int value;
 
@@ -24,6 +24,10 @@ import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Set;
 
+import static com.io7m.jcoronado.api.VulkanPipelineCreateFlag.VK_PIPELINE_CREATE_LIBRARY_BIT_KHR;
+import static com.io7m.jcoronado.api.VulkanPipelineCreateFlag.VK_PIPELINE_CREATE_LINK_TIME_OPTIMIZATION_BIT_EXT;
+import static com.io7m.jcoronado.api.VulkanPipelineCreateFlag.VK_PIPELINE_CREATE_RETAIN_LINK_TIME_OPTIMIZATION_INFO_BIT_EXT;
+
 /**
  * Structure specifying parameters of a newly created graphics pipeline.
  *
@@ -185,4 +189,63 @@ public interface VulkanGraphicsPipelineCreateInfoType
    */
 
   Optional<VulkanPipelineRenderingCreateInfo> renderingCreateInfo();
+
+  /**
+   * The subsets of the graphics pipeline that will be compiled into this
+   * pipeline. If empty, and no libraries are specified, the pipeline is a
+   * complete, non-library pipeline.
+   *
+   * @return The graphics pipeline library subsets
+   *
+   * @see "VkGraphicsPipelineLibraryCreateInfoEXT"
+   */
+
+  Set<VulkanGraphicsPipelineLibraryFlagEXT> libraryFlags();
+
+  /**
+   * The pipeline libraries that will be linked into this pipeline. The
+   * libraries must have been created with
+   * {@link VulkanPipelineCreateFlag#VK_PIPELINE_CREATE_LIBRARY_BIT_KHR}.
+   *
+   * @return The pipeline libraries to link
+   *
+   * @see "VkPipelineLibraryCreateInfoKHR"
+   */
+
+  List<VulkanPipelineType> libraries();
+
+  /**
+   * @return {@code true} if this pipeline uses graphics pipeline libraries
+   */
+
+  default boolean usesPipelineLibraries()
+  {
+    return !this.libraryFlags().isEmpty()
+      || !this.libraries().isEmpty()
+      || this.flags().contains(VK_PIPELINE_CREATE_LIBRARY_BIT_KHR);
+  }
+
+  /**
+   * Check preconditions for the type.
+   */
+
+  @Value.Check
+  default void checkPreconditions()
+  {
+    final var flags = this.flags();
+    if (flags.contains(VK_PIPELINE_CREATE_LINK_TIME_OPTIMIZATION_BIT_EXT)
+      && this.libraries().isEmpty()) {
+      throw new IllegalArgumentException(
+        "Link time optimization requires at least one pipeline library to link"
+      );
+    }
+
+    if (flags.contains(VK_PIPELINE_CREATE_RETAIN_LINK_TIME_OPTIMIZATION_INFO_BIT_EXT)
+      && !flags.contains(VK_PIPELINE_CREATE_LIBRARY_BIT_KHR)) {
+      throw new IllegalArgumentException(
+        "Retaining link time optimization info requires %s"
+          .formatted(VK_PIPELINE_CREATE_LIBRARY_BIT_KHR)
+      );
+    }
+  }
 }
@@ -16,6 +16,7 @@
 
 package com.io7m.jcoronado.api;
 
+import java.lang.foreign.MemorySegment;
 import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
@@ -50,6 +51,14 @@ public interface VulkanLogicalDeviceType extends VulkanHandleDispatchableType
 
   VulkanPhysicalDeviceType physicalDevice();
 
+  /**
+   * @return The features that were enabled when this logical device was
+   * created, which may be a subset of the features supported by the
+   * physical device
+   */
+
+  VulkanPhysicalDeviceFeatures enabledFeatures();
+
   /**
    * @return The queues present on the logical device
    *
@@ -120,6 +129,142 @@ public interface VulkanLogicalDeviceType extends VulkanHandleDispatchableType
     VulkanShaderModuleCreateInfo create_info)
     throws VulkanException;
 
+  /**
+   * Retrieve the identifier of a shader module. This requires the
+   * {@code VK_EXT_shader_module_identifier} extension.
+   *
+   * @param module The shader module
+   *
+   * @return The shader module identifier
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkGetShaderModuleIdentifierEXT")
+  VulkanShaderModuleIdentifierEXT getShaderModuleIdentifier(
+    VulkanShaderModuleType module)
+    throws VulkanException;
+
+  /**
+   * Retrieve the identifier that a shader module would have if it were
+   * created with the given creation info, without creating the module. This
+   * requires the {@code VK_EXT_shader_module_identifier} extension.
+   *
+   * @param create_info The creation info
+   *
+   * @return The shader module identifier
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkGetShaderModuleCreateInfoIdentifierEXT")
+  VulkanShaderModuleIdentifierEXT getShaderModuleCreateInfoIdentifier(
+    VulkanShaderModuleCreateInfo create_info)
+    throws VulkanException;
+
+  /**
+   * Create a set of shader objects. Shaders whose creation info includes
+   * {@link VulkanShaderCreateFlagEXT#VK_SHADER_CREATE_LINK_STAGE_BIT_EXT}
+   * are linked together, which may allow the implementation to optimize
+   * across stages; all other shaders are created independently. If any
+   * shader cannot be created, all shaders created by the call are destroyed
+   * and an exception is raised. In particular, if binary code is provided
+   * that is not compatible with the device, a
+   * {@link VulkanCallFailedException} is raised with an error name of
+   * {@code VK_INCOMPATIBLE_SHADER_BINARY_EXT}, and the shaders should be
+   * recreated from SPIR-V.
+   *
+   * @param create_infos The creation infos
+   *
+   * @return The shader objects, in the order of the creation infos
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(
+    api = "VK_EXT_shader_object",
+    vulkanFunction = "vkCreateShadersEXT"
+  )
+  @VulkanAPIDeviceFeatureRequiredType(featureName = "shaderObject")
+  List<VulkanShaderObjectType> createShaders(
+    List<VulkanShaderCreateInfoEXT> create_infos)
+    throws VulkanException;
+
+  /**
+   * Retrieve the size of the binary code of a shader object.
+   *
+   * @param shader The shader object
+   *
+   * @return The size in octets of the shader binary
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(
+    api = "VK_EXT_shader_object",
+    vulkanFunction = "vkGetShaderBinaryDataEXT"
+  )
+  long getShaderBinaryDataSize(
+    VulkanShaderObjectType shader)
+    throws VulkanException;
+
+  /**
+   * Retrieve the binary code of a shader object. The binary code can be
+   * stored and later passed back to
+   * {@link #createShaders(List)} with a code type of
+   * {@link VulkanShaderCodeTypeEXT#VK_SHADER_CODE_TYPE_BINARY_EXT} to avoid
+   * recompiling the shader from SPIR-V. The data is written starting at the
+   * buffer's current position.
+   *
+   * @param shader The shader object
+   * @param data   A direct buffer with at least
+   *               {@link #getShaderBinaryDataSize(VulkanShaderObjectType)}
+   *               octets remaining
+   *
+   * @return The number of octets written
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(
+    api = "VK_EXT_shader_object",
+    vulkanFunction = "vkGetShaderBinaryDataEXT"
+  )
+  long getShaderBinaryData(
+    VulkanShaderObjectType shader,
+    ByteBuffer data)
+    throws VulkanException;
+
+  /**
+   * Retrieve the binary code of a shader object.
+   *
+   * @param shader The shader object
+   *
+   * @return The shader binary
+   *
+   * @throws VulkanException On errors
+   * @see #getShaderBinaryData(VulkanShaderObjectType, ByteBuffer)
+   */
+
+  @VulkanAPIFunctionType(
+    api = "VK_EXT_shader_object",
+    vulkanFunction = "vkGetShaderBinaryDataEXT"
+  )
+  default byte[] getShaderBinaryData(
+    final VulkanShaderObjectType shader)
+    throws VulkanException
+  {
+    final var size =
+      Math.toIntExact(this.getShaderBinaryDataSize(shader));
+    final var buffer =
+      ByteBuffer.allocateDirect(size);
+    final var written =
+      Math.toIntExact(this.getShaderBinaryData(shader, buffer));
+    final var result = new byte[written];
+    buffer.get(0, result);
+    return result;
+  }
+
   /**
    * Create a sampler.
    *
@@ -306,6 +451,159 @@ public interface VulkanLogicalDeviceType extends VulkanHandleDispatchableType
     List<VulkanCopyDescriptorSet> descriptor_copies)
     throws VulkanException;
 
+  /**
+   * Create a descriptor update template.
+   *
+   * @param info The descriptor update template creation info
+   *
+   * @return A descriptor update template
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkCreateDescriptorUpdateTemplate")
+  VulkanDescriptorUpdateTemplateType createDescriptorUpdateTemplate(
+    VulkanDescriptorUpdateTemplateCreateInfo info)
+    throws VulkanException;
+
+  /**
+   * Update the contents of a descriptor set using a descriptor update
+   * template. The update data must be laid out as described by the
+   * template, and must be at least
+   * {@link VulkanDescriptorUpdateTemplateType#dataSize()} bytes long.
+   *
+   * @param descriptor_set The descriptor set to update
+   * @param template       The descriptor update template
+   * @param data           The packed update data
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkUpdateDescriptorSetWithTemplate")
+  void updateDescriptorSetWithTemplate(
+    VulkanDescriptorSetType descriptor_set,
+    VulkanDescriptorUpdateTemplateType template,
+    MemorySegment data)
+    throws VulkanException;
+
+  /**
+   * Update the contents of a descriptor set using a descriptor update
+   * template. The update data, beginning at the buffer's position, must be
+   * laid out as described by the template, and must be at least
+   * {@link VulkanDescriptorUpdateTemplateType#dataSize()} bytes long.
+   *
+   * @param descriptor_set The descriptor set to update
+   * @param template       The descriptor update template
+   * @param data           The packed update data
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkUpdateDescriptorSetWithTemplate")
+  void updateDescriptorSetWithTemplate(
+    VulkanDescriptorSetType descriptor_set,
+    VulkanDescriptorUpdateTemplateType template,
+    ByteBuffer data)
+    throws VulkanException;
+
+  /**
+   * Retrieve the descriptor indexing properties of the device. These
+   * include the limits that apply to descriptor set layouts created with
+   * update-after-bind bindings.
+   *
+   * @return The descriptor indexing properties
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(vulkanFunction = "vkGetPhysicalDeviceProperties2")
+  VulkanPhysicalDeviceDescriptorIndexingProperties descriptorIndexingProperties()
+    throws VulkanException;
+
+  /**
+   * Retrieve the descriptor buffer properties of the device. The
+   * {@code VK_EXT_descriptor_buffer} extension must be enabled.
+   *
+   * @return The descriptor buffer properties
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(
+    api = "VK_EXT_descriptor_buffer",
+    vulkanFunction = "vkGetPhysicalDeviceProperties2"
+  )
+  VulkanPhysicalDeviceDescriptorBufferPropertiesEXT descriptorBufferProperties()
+    throws VulkanException;
+
+  /**
+   * Retrieve the amount of descriptor buffer memory required to hold a
+   * descriptor set with the given layout. The layout must have been created
+   * with
+   * {@link VulkanDescriptorSetLayoutCreateFlag#VK_DESCRIPTOR_SET_LAYOUT_CREATE_DESCRIPTOR_BUFFER_BIT_EXT}.
+   *
+   * @param layout The descriptor set layout
+   *
+   * @return The size in bytes
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(
+    api = "VK_EXT_descriptor_buffer",
+    vulkanFunction = "vkGetDescriptorSetLayoutSizeEXT"
+  )
+  long getDescriptorSetLayoutSize(
+    VulkanDescriptorSetLayoutType layout)
+    throws VulkanException;
+
+  /**
+   * Retrieve the offset in bytes of a binding within the descriptor buffer
+   * memory of a descriptor set with the given layout.
+   *
+   * @param layout  The descriptor set layout
+   * @param binding The binding number
+   *
+   * @return The offset in bytes
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(
+    api = "VK_EXT_descriptor_buffer",
+    vulkanFunction = "vkGetDescriptorSetLayoutBindingOffsetEXT"
+  )
+  long getDescriptorSetLayoutBindingOffset(
+    VulkanDescriptorSetLayoutType layout,
+    int binding)
+    throws VulkanException;
+
+  /**
+   * Write a descriptor into memory. The descriptor is written to
+   * {@code target} at {@code offset}, and occupies the number of bytes given
+   * by {@link VulkanPhysicalDeviceDescriptorBufferPropertiesEXTType#descriptorSize(VulkanDescriptorType, boolean)}.
+   * The target will typically be a slice of a persistently mapped
+   * descriptor buffer.
+   *
+   * @param info   The descriptor info
+   * @param target The target memory
+   * @param offset The offset in bytes within the target memory
+   *
+   * @return The number of bytes written
+   *
+   * @throws VulkanException On errors
+   */
+
+  @VulkanAPIFunctionType(
+    api = "VK_EXT_descriptor_buffer",
+    vulkanFunction = "vkGetDescriptorEXT"
+  )
+  long getDescriptor(
+    VulkanDescriptorGetInfoEXT info,
+    MemorySegment target,
+    long offset)
+    throws VulkanException;
+
   /**
    * Create a render pass.
    *
@@ -446,14 +744,19 @@ public interface VulkanLogicalDeviceType extends VulkanHandleDispatchableType
     throws VulkanException;
 
   /**
-   * Create a set of graphics pipelines.
+   * Create a set of graphics pipelines. If any pipeline fails with
+   * {@code VK_PIPELINE_COMPILE_REQUIRED}, a
+   * {@link VulkanPipelineCompileRequiredException} is raised that holds the
+   * pipelines that were created. If creation fails for any other reason,
+   * any pipelines that were created are destroyed.
    *
    * @param pipeline_cache A pipeline cache
    * @param pipeline_infos The pipeline creation infos
    *
    * @return A list of graphics pipelines
    *
-   * @throws VulkanException On errors
+   * @throws VulkanPipelineCompileRequiredException If compilation is required
+   * @throws VulkanException                        On errors
    */
 
   @VulkanAPIFunctionType(vulkanFunction = "vkCreateGraphicsPipelines")
@@ -588,6 +891,39 @@ public interface VulkanLogicalDeviceType extends VulkanHandleDispatchableType
       .get(0);
   }
 
+  /**
+   * Create a deferred command stream. Command streams are host-side objects
+   * and do not correspond to any Vulkan object; they are replayed into
+   * command buffers with
+   * {@link VulkanCommandBufferType#executeCommandStream(VulkanCommandStreamType)}.
+   *
+   * @param initial_capacity The initial capacity of the stream in bytes
+   *
+   * @return A command stream
+   *
+   * @throws VulkanException On errors
+   */
+
+  VulkanCommandStreamType createCommandStream(
+    long initial_capacity)
+    throws VulkanException;
+
+  /**
+   * Create a deferred command stream with a default initial capacity.
+   *
+   * @return A command stream
+   *
+   * @throws VulkanException On errors
+   *
+   * @see #createCommandStream(long)
+   */
+
+  default VulkanCommandStreamType createCommandStream()
+    throws VulkanException
+  {
+    return this.createCommandStream(4096L);
+  }
+
   /**
    * Create a binary semaphore.
    *
@@ -1143,14 +1479,19 @@ public interface VulkanLogicalDeviceType extends VulkanHandleDispatchableType
   }
 
   /**
-   * Create a set of compute pipelines.
+   * Create a set of compute pipelines. If any pipeline fails with
+   * {@code VK_PIPELINE_COMPILE_REQUIRED}, a
+   * {@link VulkanPipelineCompileRequiredException} is raised that holds the
+   * pipelines that were created. If creation fails for any other reason,
+   * any pipelines that were created are destroyed.
    *
    * @param pipeline_cache A pipeline cache
    * @param pipeline_infos The pipeline creation infos
    *
    * @return A list of compute pipelines
    *
-   * @throws VulkanException On errors
+   * @throws VulkanPipelineCompileRequiredException If compilation is required
+   * @throws VulkanException                        On errors
    */
 
   @VulkanAPIFunctionType(vulkanFunction = "vkCreateComputePipelines")
@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.api;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * An exception raised by one or more required device features not being enabled.
+ */
+
+public final class VulkanMissingRequiredFeaturesException
+  extends VulkanException
+{
+  /**
+   * Construct an exception.
+   *
+   * @param missing The missing features
+   * @param message The error message
+   */
+
+  public VulkanMissingRequiredFeaturesException(
+    final Set<String> missing,
+    final String message)
+  {
+    super(
+      Objects.requireNonNull(message, "message"),
+      createAttributes(missing),
+      "error-vulkan-missing-feature",
+      Optional.empty()
+    );
+  }
+
+  private static Map<String, String> createAttributes(
+    final Iterable<String> missing)
+  {
+    final var r = new HashMap<String, String>();
+    var index = 0;
+    for (final var m : missing) {
+      r.put("Missing Feature (%d)".formatted(Integer.valueOf(index)), m);
+      ++index;
+    }
+    return Map.copyOf(r);
+  }
+}
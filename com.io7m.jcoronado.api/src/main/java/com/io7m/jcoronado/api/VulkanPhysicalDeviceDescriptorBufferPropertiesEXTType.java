@@ -0,0 +1,256 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.api;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+/**
+ * The descriptor buffer properties of a device.
+ *
+ * @see "VkPhysicalDeviceDescriptorBufferPropertiesEXT"
+ */
+
+@VulkanAPIStructType(vulkanStruct = "VkPhysicalDeviceDescriptorBufferPropertiesEXT")
+@ImmutablesStyleType
+@Value.Immutable
+public interface VulkanPhysicalDeviceDescriptorBufferPropertiesEXTType
+{
+  /**
+   * @return Whether combined image sampler descriptor arrays must be written as
+   * a single array of images followed by a single array of samplers
+   */
+
+  boolean combinedImageSamplerDescriptorSingleArray();
+
+  /**
+   * @return Whether push descriptors can be used without a push descriptor
+   * buffer
+   */
+
+  boolean bufferlessPushDescriptors();
+
+  /**
+   * @return Whether samplers and image views may be created after descriptors
+   * referring to them are submitted
+   */
+
+  boolean allowSamplerImageViewPostSubmitCreation();
+
+  /**
+   * @return The required alignment in bytes of descriptor buffer offsets
+   */
+
+  long descriptorBufferOffsetAlignment();
+
+  /**
+   * @return The maximum number of descriptor buffers that can be bound at once
+   */
+
+  int maxDescriptorBufferBindings();
+
+  /**
+   * @return The maximum number of resource descriptor buffers that can be bound
+   * at once
+   */
+
+  int maxResourceDescriptorBufferBindings();
+
+  /**
+   * @return The maximum number of sampler descriptor buffers that can be bound
+   * at once
+   */
+
+  int maxSamplerDescriptorBufferBindings();
+
+  /**
+   * @return The maximum number of embedded immutable sampler sets that can be
+   * bound at once
+   */
+
+  int maxEmbeddedImmutableSamplerBindings();
+
+  /**
+   * @return The maximum number of unique immutable samplers in embedded
+   * immutable sampler sets
+   */
+
+  int maxEmbeddedImmutableSamplers();
+
+  /**
+   * @return The size in bytes of a sampler descriptor
+   */
+
+  long samplerDescriptorSize();
+
+  /**
+   * @return The size in bytes of a combined image sampler descriptor
+   */
+
+  long combinedImageSamplerDescriptorSize();
+
+  /**
+   * @return The size in bytes of a sampled image descriptor
+   */
+
+  long sampledImageDescriptorSize();
+
+  /**
+   * @return The size in bytes of a storage image descriptor
+   */
+
+  long storageImageDescriptorSize();
+
+  /**
+   * @return The size in bytes of a uniform texel buffer descriptor
+   */
+
+  long uniformTexelBufferDescriptorSize();
+
+  /**
+   * @return The size in bytes of a uniform texel buffer descriptor when
+   * robustBufferAccess is enabled
+   */
+
+  long robustUniformTexelBufferDescriptorSize();
+
+  /**
+   * @return The size in bytes of a storage texel buffer descriptor
+   */
+
+  long storageTexelBufferDescriptorSize();
+
+  /**
+   * @return The size in bytes of a storage texel buffer descriptor when
+   * robustBufferAccess is enabled
+   */
+
+  long robustStorageTexelBufferDescriptorSize();
+
+  /**
+   * @return The size in bytes of a uniform buffer descriptor
+   */
+
+  long uniformBufferDescriptorSize();
+
+  /**
+   * @return The size in bytes of a uniform buffer descriptor when
+   * robustBufferAccess is enabled
+   */
+
+  long robustUniformBufferDescriptorSize();
+
+  /**
+   * @return The size in bytes of a storage buffer descriptor
+   */
+
+  long storageBufferDescriptorSize();
+
+  /**
+   * @return The size in bytes of a storage buffer descriptor when
+   * robustBufferAccess is enabled
+   */
+
+  long robustStorageBufferDescriptorSize();
+
+  /**
+   * @return The size in bytes of an input attachment descriptor
+   */
+
+  long inputAttachmentDescriptorSize();
+
+  /**
+   * @return The maximum range in bytes of sampler descriptor buffers that can
+   * be addressed at once
+   */
+
+  long maxSamplerDescriptorBufferRange();
+
+  /**
+   * @return The maximum range in bytes of resource descriptor buffers that can
+   * be addressed at once
+   */
+
+  long maxResourceDescriptorBufferRange();
+
+  /**
+   * @return The total size in bytes of the address space available for sampler
+   * descriptor buffers
+   */
+
+  long samplerDescriptorBufferAddressSpaceSize();
+
+  /**
+   * @return The total size in bytes of the address space available for resource
+   * descriptor buffers
+   */
+
+  long resourceDescriptorBufferAddressSpaceSize();
+
+  /**
+   * @return The total size in bytes of the address space available for all
+   * descriptor buffers
+   */
+
+  long descriptorBufferAddressSpaceSize();
+
+  /**
+   * Determine the size in bytes of a descriptor of the given type.
+   *
+   * @param type   The descriptor type
+   * @param robust {@code true} if the robustBufferAccess feature is enabled
+   *
+   * @return The descriptor size in bytes
+   */
+
+  default long descriptorSize(
+    final VulkanDescriptorType type,
+    final boolean robust)
+  {
+    return switch (type) {
+      case VK_DESCRIPTOR_TYPE_SAMPLER ->
+        this.samplerDescriptorSize();
+      case VK_DESCRIPTOR_TYPE_COMBINED_IMAGE_SAMPLER ->
+        this.combinedImageSamplerDescriptorSize();
+      case VK_DESCRIPTOR_TYPE_SAMPLED_IMAGE ->
+        this.sampledImageDescriptorSize();
+      case VK_DESCRIPTOR_TYPE_STORAGE_IMAGE ->
+        this.storageImageDescriptorSize();
+      case VK_DESCRIPTOR_TYPE_INPUT_ATTACHMENT ->
+        this.inputAttachmentDescriptorSize();
+      case VK_DESCRIPTOR_TYPE_UNIFORM_TEXEL_BUFFER -> robust
+        ? this.robustUniformTexelBufferDescriptorSize()
+        : this.uniformTexelBufferDescriptorSize();
+      case VK_DESCRIPTOR_TYPE_STORAGE_TEXEL_BUFFER -> robust
+        ? this.robustStorageTexelBufferDescriptorSize()
+        : this.storageTexelBufferDescriptorSize();
+      case VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER -> robust
+        ? this.robustUniformBufferDescriptorSize()
+        : this.uniformBufferDescriptorSize();
+      case VK_DESCRIPTOR_TYPE_STORAGE_BUFFER -> robust
+        ? this.robustStorageBufferDescriptorSize()
+        : this.storageBufferDescriptorSize();
+      case VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER_DYNAMIC,
+           VK_DESCRIPTOR_TYPE_STORAGE_BUFFER_DYNAMIC ->
+        throw new IllegalArgumentException(
+          "Descriptor type %s cannot be used with descriptor buffers."
+            .formatted(type)
+        );
+    };
+  }
+}
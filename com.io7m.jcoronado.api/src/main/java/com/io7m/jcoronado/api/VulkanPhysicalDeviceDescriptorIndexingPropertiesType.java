@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.api;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+/**
+ * The descriptor indexing properties of a device.
+ *
+ * @see "VkPhysicalDeviceDescriptorIndexingProperties"
+ */
+
+@VulkanAPIStructType(vulkanStruct = "VkPhysicalDeviceDescriptorIndexingProperties")
+@ImmutablesStyleType
+@Value.Immutable
+public interface VulkanPhysicalDeviceDescriptorIndexingPropertiesType
+{
+  /**
+   * @return Whether uniform buffer descriptors natively support non-uniform
+   * indexing
+   */
+
+  boolean shaderUniformBufferArrayNonUniformIndexingNative();
+
+  /**
+   * @return Whether sampler and image descriptors natively support non-uniform
+   * indexing
+   */
+
+  boolean shaderSampledImageArrayNonUniformIndexingNative();
+
+  /**
+   * @return Whether storage buffer descriptors natively support non-uniform
+   * indexing
+   */
+
+  boolean shaderStorageBufferArrayNonUniformIndexingNative();
+
+  /**
+   * @return Whether storage image descriptors natively support non-uniform
+   * indexing
+   */
+
+  boolean shaderStorageImageArrayNonUniformIndexingNative();
+
+  /**
+   * @return Whether input attachment descriptors natively support non-uniform
+   * indexing
+   */
+
+  boolean shaderInputAttachmentArrayNonUniformIndexingNative();
+
+  /**
+   * @return Whether robustBufferAccess can be enabled together with update-
+   * after-bind descriptors
+   */
+
+  boolean robustBufferAccessUpdateAfterBind();
+
+  /**
+   * @return Whether implicit LOD calculations for image operations have well-
+   * defined results when the image and sampler objects are not uniform within a
+   * quad
+   */
+
+  boolean quadDivergentImplicitLod();
+
+  /**
+   * @return The maximum number of descriptors that can be created across all
+   * pools created with the update-after-bind flag
+   */
+
+  int maxUpdateAfterBindDescriptorsInAllPools();
+
+  /**
+   * @return The maximum number of samplers accessible to a single shader stage
+   * in update-after-bind layouts
+   */
+
+  int maxPerStageDescriptorUpdateAfterBindSamplers();
+
+  /**
+   * @return The maximum number of uniform buffers accessible to a single shader
+   * stage in update-after-bind layouts
+   */
+
+  int maxPerStageDescriptorUpdateAfterBindUniformBuffers();
+
+  /**
+   * @return The maximum number of storage buffers accessible to a single shader
+   * stage in update-after-bind layouts
+   */
+
+  int maxPerStageDescriptorUpdateAfterBindStorageBuffers();
+
+  /**
+   * @return The maximum number of sampled images accessible to a single shader
+   * stage in update-after-bind layouts
+   */
+
+  int maxPerStageDescriptorUpdateAfterBindSampledImages();
+
+  /**
+   * @return The maximum number of storage images accessible to a single shader
+   * stage in update-after-bind layouts
+   */
+
+  int maxPerStageDescriptorUpdateAfterBindStorageImages();
+
+  /**
+   * @return The maximum number of input attachments accessible to a single
+   * shader stage in update-after-bind layouts
+   */
+
+  int maxPerStageDescriptorUpdateAfterBindInputAttachments();
+
+  /**
+   * @return The maximum number of resources accessible to a single shader stage
+   * in update-after-bind layouts
+   */
+
+  int maxPerStageUpdateAfterBindResources();
+
+  /**
+   * @return The maximum number of samplers in all bindings of an update-after-
+   * bind pipeline layout
+   */
+
+  int maxDescriptorSetUpdateAfterBindSamplers();
+
+  /**
+   * @return The maximum number of uniform buffers in all bindings of an update-
+   * after-bind pipeline layout
+   */
+
+  int maxDescriptorSetUpdateAfterBindUniformBuffers();
+
+  /**
+   * @return The maximum number of dynamic uniform buffers in all bindings of an
+   * update-after-bind pipeline layout
+   */
+
+  int maxDescriptorSetUpdateAfterBindUniformBuffersDynamic();
+
+  /**
+   * @return The maximum number of storage buffers in all bindings of an update-
+   * after-bind pipeline layout
+   */
+
+  int maxDescriptorSetUpdateAfterBindStorageBuffers();
+
+  /**
+   * @return The maximum number of dynamic storage buffers in all bindings of an
+   * update-after-bind pipeline layout
+   */
+
+  int maxDescriptorSetUpdateAfterBindStorageBuffersDynamic();
+
+  /**
+   * @return The maximum number of sampled images in all bindings of an update-
+   * after-bind pipeline layout
+   */
+
+  int maxDescriptorSetUpdateAfterBindSampledImages();
+
+  /**
+   * @return The maximum number of storage images in all bindings of an update-
+   * after-bind pipeline layout
+   */
+
+  int maxDescriptorSetUpdateAfterBindStorageImages();
+
+  /**
+   * @return The maximum number of input attachments in all bindings of an
+   * update-after-bind pipeline layout
+   */
+
+  int maxDescriptorSetUpdateAfterBindInputAttachments();
+}
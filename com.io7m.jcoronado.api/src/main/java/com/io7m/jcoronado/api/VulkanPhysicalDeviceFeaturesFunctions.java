@@ -46,6 +46,8 @@ public final class VulkanPhysicalDeviceFeaturesFunctions
       .setFeatures12(VulkanPhysicalDeviceFeatures12.builder().build())
       .setFeatures13(VulkanPhysicalDeviceFeatures13.builder().build())
       .setFeatures14(VulkanPhysicalDeviceFeatures14.builder().build())
+      .setFeaturesMultiDrawEXT(
+        VulkanPhysicalDeviceFeaturesMultiDrawEXT.builder().build())
       .build();
 
   /**
@@ -69,6 +71,7 @@ public final class VulkanPhysicalDeviceFeaturesFunctions
       .setFeatures12(random12())
       .setFeatures13(random13())
       .setFeatures14(random14())
+      .setFeaturesMultiDrawEXT(randomMultiDrawEXT())
       .build();
   }
 
@@ -94,6 +97,8 @@ public final class VulkanPhysicalDeviceFeaturesFunctions
       .setFeatures12(or(a.features12(), b.features12()))
       .setFeatures13(or(a.features13(), b.features13()))
       .setFeatures14(or(a.features14(), b.features14()))
+      .setFeaturesMultiDrawEXT(
+        or(a.featuresMultiDrawEXT(), b.featuresMultiDrawEXT()))
       .build();
   }
 
@@ -776,6 +781,39 @@ public final class VulkanPhysicalDeviceFeaturesFunctions
       .build();
   }
 
+  /**
+   * @return A random feature selection
+   */
+
+  public static VulkanPhysicalDeviceFeaturesMultiDrawEXT randomMultiDrawEXT()
+  {
+    return VulkanPhysicalDeviceFeaturesMultiDrawEXT.builder()
+      .setMultiDraw(randomBoolean())
+      .build();
+  }
+
+  /**
+   * Apply a bitwise OR to all fields.
+   *
+   * @param a The left features
+   * @param b The right features
+   *
+   * @return The OR of all features
+   */
+
+  public static VulkanPhysicalDeviceFeaturesMultiDrawEXT or(
+    final VulkanPhysicalDeviceFeaturesMultiDrawEXT a,
+    final VulkanPhysicalDeviceFeaturesMultiDrawEXT b)
+  {
+    Objects.requireNonNull(a, "a");
+    Objects.requireNonNull(b, "b");
+
+    return VulkanPhysicalDeviceFeaturesMultiDrawEXT.builder()
+      .setMultiDraw(
+        a.multiDraw() || b.multiDraw())
+      .build();
+  }
+
   /**
    * @param f The features
    *
@@ -971,6 +1009,20 @@ public final class VulkanPhysicalDeviceFeaturesFunctions
     return m;
   }
 
+  /**
+   * @param f The features
+   *
+   * @return The features as a boolean map
+   */
+
+  public static Map<String, Boolean> mapOfMultiDrawEXT(
+    final VulkanPhysicalDeviceFeaturesMultiDrawEXT f)
+  {
+    final var m = new TreeMap<String, Boolean>();
+    m.put("MultiDraw", f.multiDraw());
+    return m;
+  }
+
   /**
    * @param f The features
    *
@@ -986,6 +1038,7 @@ public final class VulkanPhysicalDeviceFeaturesFunctions
     m.putAll(mapOf12(f.features12()));
     m.putAll(mapOf13(f.features13()));
     m.putAll(mapOf14(f.features14()));
+    m.putAll(mapOfMultiDrawEXT(f.featuresMultiDrawEXT()));
     return m;
   }
 
@@ -1159,6 +1212,40 @@ public final class VulkanPhysicalDeviceFeaturesFunctions
     return failedSet;
   }
 
+  /**
+   * Determine if the given set of features in {@code supported} satisfies
+   * those in {@code requested}. An empty set is returned if everything is
+   * supported.
+   *
+   * @param supported The supported features
+   * @param requested The requested features
+   *
+   * @return The features that were not available
+   */
+
+  public static Set<String> isSupportedMultiDrawEXT(
+    final VulkanPhysicalDeviceFeaturesMultiDrawEXT supported,
+    final VulkanPhysicalDeviceFeaturesMultiDrawEXT requested)
+  {
+    final var supportedMap =
+      mapOfMultiDrawEXT(supported);
+    final var requiredMap =
+      mapOfMultiDrawEXT(requested);
+    final var failedSet =
+      new TreeSet<String>();
+
+    for (final var entry : requiredMap.entrySet()) {
+      final var requestedValue = entry.getValue();
+      final var supportedValue = supportedMap.get(entry.getKey());
+      if (requestedValue.booleanValue()) {
+        if (!supportedValue.booleanValue()) {
+          failedSet.add(entry.getKey());
+        }
+      }
+    }
+    return failedSet;
+  }
+
   /**
    * Determine if the given set of features in {@code supported} satisfies
    * those in {@code requested}. An empty set is returned if everything is
@@ -1185,6 +1272,10 @@ public final class VulkanPhysicalDeviceFeaturesFunctions
       isSupported13(supported.features13(), requested.features13()));
     failedSet.addAll(
       isSupported14(supported.features14(), requested.features14()));
+    failedSet.addAll(
+      isSupportedMultiDrawEXT(
+        supported.featuresMultiDrawEXT(),
+        requested.featuresMultiDrawEXT()));
     return failedSet;
   }
 }
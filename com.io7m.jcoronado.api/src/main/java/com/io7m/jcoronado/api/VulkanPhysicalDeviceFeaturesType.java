@@ -89,4 +89,17 @@ public interface VulkanPhysicalDeviceFeaturesType
   {
     return VulkanPhysicalDeviceFeatures14.builder().build();
   }
+
+  /**
+   * @return The features of the {@code VK_EXT_multi_draw} extension. If the
+   * extension is not supported, no features are supported.
+   *
+   * @see "VkPhysicalDeviceMultiDrawFeaturesEXT"
+   */
+
+  @Value.Default
+  default VulkanPhysicalDeviceFeaturesMultiDrawEXT featuresMultiDrawEXT()
+  {
+    return VulkanPhysicalDeviceFeaturesMultiDrawEXT.builder().build();
+  }
 }
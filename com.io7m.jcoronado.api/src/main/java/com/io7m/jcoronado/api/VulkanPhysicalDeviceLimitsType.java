@@ -405,6 +405,20 @@ public interface VulkanPhysicalDeviceLimitsType
 
   int maxMemoryAllocationCount();
 
+  /**
+   * @return the maximum number of draws that can be passed to a single
+   * vkCmdDrawMultiEXT or vkCmdDrawMultiIndexedEXT call. This is
+   * {@code 0} if the {@code VK_EXT_multi_draw} extension is not supported.
+   *
+   * @see "VkPhysicalDeviceMultiDrawPropertiesEXT"
+   */
+
+  @Value.Default
+  default int maxMultiDrawCount()
+  {
+    return 0;
+  }
+
   /**
    * @return the maximum number of input attachments that can be accessible to a single shader stage
    * in a pipeline layout. Descriptors with a type of VK_DESCRIPTOR_TYPE_INPUT_ATTACHMENT count
@@ -19,6 +19,9 @@ package com.io7m.jcoronado.api;
 import com.io7m.immutables.styles.ImmutablesStyleType;
 import org.immutables.value.Value;
 
+import java.util.Optional;
+import java.util.UUID;
+
 /**
  * The basic properties of a device.
  *
@@ -66,6 +69,23 @@ public interface VulkanPhysicalDevicePropertiesType
 
   VulkanVersion driverVersion();
 
+  /**
+   * @return The universally unique identifier for the device's pipeline
+   * cache data format
+   */
+
+  UUID pipelineCacheUUID();
+
+  /**
+   * @return The universally unique identifier for the algorithm the device
+   * uses to compute shader module identifiers, if the device supports the
+   * {@code VK_EXT_shader_module_identifier} extension
+   *
+   * @see "VkPhysicalDeviceShaderModuleIdentifierPropertiesEXT"
+   */
+
+  Optional<UUID> shaderModuleIdentifierAlgorithmUUID();
+
   /**
    * The type of device.
    */
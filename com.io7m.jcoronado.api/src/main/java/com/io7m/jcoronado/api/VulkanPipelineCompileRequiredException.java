@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2018 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.api;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <p>An exception raised when the creation of one or more pipelines
+ * returned {@code VK_PIPELINE_COMPILE_REQUIRED}. This happens when a
+ * pipeline created with
+ * {@link VulkanPipelineCreateFlag#VK_PIPELINE_CREATE_FAIL_ON_PIPELINE_COMPILE_REQUIRED_BIT}
+ * could not be created without compiling shaders (for example, because a
+ * shader stage referred to a module by identifier and the pipeline was not
+ * found in the pipeline cache).</p>
+ *
+ * <p>The exception carries one entry for each requested pipeline, in the
+ * order in which the pipelines were requested. Pipelines that were created
+ * are present, and belong to the caller, who is responsible for closing
+ * them. Empty entries must be created again without the flag (or with
+ * shader modules in place of identifiers).</p>
+ */
+
+public final class VulkanPipelineCompileRequiredException
+  extends VulkanException
+{
+  private final List<Optional<VulkanPipelineType>> pipelines;
+
+  /**
+   * Construct an exception.
+   *
+   * @param function    The function that returned the result
+   * @param inPipelines The pipelines, one for each requested pipeline
+   */
+
+  public VulkanPipelineCompileRequiredException(
+    final String function,
+    final List<Optional<VulkanPipelineType>> inPipelines)
+  {
+    super(
+      "Pipeline compilation is required (%s)."
+        .formatted(Objects.requireNonNull(function, "function")),
+      createAttributes(function, inPipelines),
+      "error-vulkan-pipeline-compile-required",
+      Optional.empty()
+    );
+
+    this.pipelines = List.copyOf(inPipelines);
+  }
+
+  private static Map<String, String> createAttributes(
+    final String function,
+    final List<Optional<VulkanPipelineType>> pipelines)
+  {
+    final var failed =
+      pipelines.stream()
+        .filter(Optional::isEmpty)
+        .count();
+
+    return Map.of(
+      "Function", function,
+      "Pipelines", Integer.toString(pipelines.size()),
+      "Pipelines Requiring Compilation", Long.toString(failed)
+    );
+  }
+
+  /**
+   * @return The pipelines, one for each requested pipeline, with empty
+   * entries for the pipelines that require compilation
+   */
+
+  public List<Optional<VulkanPipelineType>> pipelines()
+  {
+    return this.pipelines;
+  }
+}
@@ -59,7 +59,47 @@ public enum VulkanPipelineCreateFlag implements VulkanEnumBitmaskType
    * vkCmdDispatchBase with a non-zero base workgroup.
    */
 
-  VK_PIPELINE_CREATE_DISPATCH_BASE(0x00000010);
+  VK_PIPELINE_CREATE_DISPATCH_BASE(0x00000010),
+
+  /**
+   * VK_PIPELINE_CREATE_FAIL_ON_PIPELINE_COMPILE_REQUIRED_BIT specifies that
+   * pipeline creation will fail with VK_PIPELINE_COMPILE_REQUIRED if a
+   * compile is required to create a valid pipeline.
+   */
+
+  VK_PIPELINE_CREATE_FAIL_ON_PIPELINE_COMPILE_REQUIRED_BIT(0x00000100),
+
+  /**
+   * VK_PIPELINE_CREATE_LINK_TIME_OPTIMIZATION_BIT_EXT specifies that
+   * pipeline libraries being linked into this pipeline should have link time
+   * optimizations applied.
+   */
+
+  VK_PIPELINE_CREATE_LINK_TIME_OPTIMIZATION_BIT_EXT(0x00000400),
+
+  /**
+   * VK_PIPELINE_CREATE_LIBRARY_BIT_KHR specifies that the pipeline cannot be
+   * used directly, and instead defines a pipeline library that can be
+   * combined with other pipelines.
+   */
+
+  VK_PIPELINE_CREATE_LIBRARY_BIT_KHR(0x00000800),
+
+  /**
+   * VK_PIPELINE_CREATE_RETAIN_LINK_TIME_OPTIMIZATION_INFO_BIT_EXT specifies
+   * that any state retained for link time optimization should be kept in
+   * the pipeline library, so that it may later be linked with
+   * VK_PIPELINE_CREATE_LINK_TIME_OPTIMIZATION_BIT_EXT.
+   */
+
+  VK_PIPELINE_CREATE_RETAIN_LINK_TIME_OPTIMIZATION_INFO_BIT_EXT(0x00800000),
+
+  /**
+   * VK_PIPELINE_CREATE_DESCRIPTOR_BUFFER_BIT_EXT specifies that a pipeline
+   * will be used with descriptor buffers, rather than descriptor sets.
+   */
+
+  VK_PIPELINE_CREATE_DESCRIPTOR_BUFFER_BIT_EXT(0x20000000);
 
   private final int value;
 
@@ -17,18 +17,29 @@
 package com.io7m.jcoronado.api;
 
 /**
- * Vulkan 1.1 specification: "VkPipelineLayoutCreateFlags is a bitmask type for setting a mask, but
- * is currently reserved for future use."
+ * Flags specifying options for pipeline layout creation.
+ *
+ * @see "VkPipelineLayoutCreateFlagBits"
  */
 
-@VulkanAPIEnumType(vulkanEnum = "VkPipelineLayoutCreateFlags")
+@VulkanAPIEnumType(vulkanEnum = "VkPipelineLayoutCreateFlagBits")
 public enum VulkanPipelineLayoutCreateFlag implements VulkanEnumBitmaskType
 {
   /**
    * No flags set.
    */
 
-  VK_PIPELINE_LAYOUT_CREATE_FLAG_NONE(0x0);
+  VK_PIPELINE_LAYOUT_CREATE_FLAG_NONE(0x0),
+
+  /**
+   * VK_PIPELINE_LAYOUT_CREATE_INDEPENDENT_SETS_BIT_EXT specifies that
+   * implementations must ensure that the properties and/or absence of a
+   * particular descriptor set do not influence any other properties of the
+   * pipeline layout. This allows pipelines libraries linked without
+   * link-time optimization to ignore descriptor sets that they do not use.
+   */
+
+  VK_PIPELINE_LAYOUT_CREATE_INDEPENDENT_SETS_BIT_EXT(0x00000002);
 
   private final int value;
 
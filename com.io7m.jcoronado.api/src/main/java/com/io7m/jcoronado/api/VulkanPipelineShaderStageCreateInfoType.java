@@ -44,10 +44,26 @@ public interface VulkanPipelineShaderStageCreateInfoType
   VulkanShaderStageFlag stage();
 
   /**
-   * @return A shader module containing the shader for the stage.
+   * @return A shader module containing the shader for the stage. Exactly one
+   * of {@link #module()} and {@link #moduleIdentifier()} must be present.
    */
 
-  VulkanShaderModuleType module();
+  Optional<VulkanShaderModuleType> module();
+
+  /**
+   * A shader module identifier that identifies the shader for the stage
+   * without requiring a shader module. Pipelines that use identifiers must
+   * be created with
+   * {@link VulkanPipelineCreateFlag#VK_PIPELINE_CREATE_FAIL_ON_PIPELINE_COMPILE_REQUIRED_BIT},
+   * and creation fails with {@code VK_PIPELINE_COMPILE_REQUIRED} if the
+   * implementation cannot find the shader in a pipeline cache.
+   *
+   * @return The shader module identifier for the stage
+   *
+   * @see "VkPipelineShaderStageModuleIdentifierCreateInfoEXT"
+   */
+
+  Optional<VulkanShaderModuleIdentifierEXT> moduleIdentifier();
 
   /**
    * @return The entry point name of the shader for this stage.
@@ -60,4 +76,18 @@ public interface VulkanPipelineShaderStageCreateInfoType
    */
 
   Optional<VulkanSpecializationMap> specializationInfo();
+
+  /**
+   * Check preconditions for the type.
+   */
+
+  @Value.Check
+  default void checkPreconditions()
+  {
+    if (this.module().isPresent() == this.moduleIdentifier().isPresent()) {
+      throw new IllegalArgumentException(
+        "Exactly one of a shader module or a shader module identifier must be specified."
+      );
+    }
+  }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.api;
+
+/**
+ * The type of code provided when creating shader objects.
+ *
+ * @see "VkShaderCodeTypeEXT"
+ */
+
+@VulkanAPIEnumType(vulkanEnum = "VkShaderCodeTypeEXT")
+public enum VulkanShaderCodeTypeEXT implements VulkanEnumIntegerType
+{
+  /**
+   * VK_SHADER_CODE_TYPE_BINARY_EXT specifies shader code in an opaque,
+   * implementation-defined binary format specific to the physical device,
+   * as previously retrieved with vkGetShaderBinaryDataEXT.
+   */
+
+  VK_SHADER_CODE_TYPE_BINARY_EXT(0),
+
+  /**
+   * VK_SHADER_CODE_TYPE_SPIRV_EXT specifies shader code in SPIR-V format.
+   */
+
+  VK_SHADER_CODE_TYPE_SPIRV_EXT(1);
+
+  private final int value;
+
+  VulkanShaderCodeTypeEXT(final int i)
+  {
+    this.value = i;
+  }
+
+  @Override
+  public int value()
+  {
+    return this.value;
+  }
+}
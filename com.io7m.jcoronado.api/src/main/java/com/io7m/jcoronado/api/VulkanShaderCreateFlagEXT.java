@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.api;
+
+/**
+ * Flags specified when creating shader objects.
+ *
+ * @see "VkShaderCreateFlagBitsEXT"
+ */
+
+@VulkanAPIEnumType(vulkanEnum = "VkShaderCreateFlagBitsEXT")
+public enum VulkanShaderCreateFlagEXT implements VulkanEnumBitmaskType
+{
+  /**
+   * VK_SHADER_CREATE_LINK_STAGE_BIT_EXT specifies that a shader is linked to
+   * all other shaders created in the same call whose create info also
+   * includes this flag.
+   */
+
+  VK_SHADER_CREATE_LINK_STAGE_BIT_EXT(0x00000001),
+
+  /**
+   * VK_SHADER_CREATE_ALLOW_VARYING_SUBGROUP_SIZE_BIT_EXT specifies that the
+   * SubgroupSize may vary in a task, mesh, or compute shader.
+   */
+
+  VK_SHADER_CREATE_ALLOW_VARYING_SUBGROUP_SIZE_BIT_EXT(0x00000002),
+
+  /**
+   * VK_SHADER_CREATE_REQUIRE_FULL_SUBGROUPS_BIT_EXT specifies that the
+   * subgroup sizes must be launched with all invocations active in a task,
+   * mesh, or compute shader.
+   */
+
+  VK_SHADER_CREATE_REQUIRE_FULL_SUBGROUPS_BIT_EXT(0x00000004),
+
+  /**
+   * VK_SHADER_CREATE_NO_TASK_SHADER_BIT_EXT specifies that a mesh shader
+   * must only be used without a task shader.
+   */
+
+  VK_SHADER_CREATE_NO_TASK_SHADER_BIT_EXT(0x00000008),
+
+  /**
+   * VK_SHADER_CREATE_DISPATCH_BASE_BIT_EXT specifies that a compute shader
+   * can be used with vkCmdDispatchBase with a non-zero base workgroup.
+   */
+
+  VK_SHADER_CREATE_DISPATCH_BASE_BIT_EXT(0x00000010);
+
+  private final int value;
+
+  VulkanShaderCreateFlagEXT(final int i)
+  {
+    this.value = i;
+  }
+
+  @Override
+  public int value()
+  {
+    return this.value;
+  }
+}
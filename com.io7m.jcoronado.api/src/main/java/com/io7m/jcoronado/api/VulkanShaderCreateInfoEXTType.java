@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.api;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Information used to create a shader object.
+ *
+ * @see "VkShaderCreateInfoEXT"
+ */
+
+@VulkanAPIStructType(vulkanStruct = "VkShaderCreateInfoEXT")
+@ImmutablesStyleType
+@Value.Immutable
+public interface VulkanShaderCreateInfoEXTType
+{
+  /**
+   * @return The shader creation flags
+   */
+
+  Set<VulkanShaderCreateFlagEXT> flags();
+
+  /**
+   * @return The single stage for which the shader is being created
+   */
+
+  VulkanShaderStageFlag stage();
+
+  /**
+   * @return The stages which may be bound to follow this shader
+   */
+
+  Set<VulkanShaderStageFlag> nextStages();
+
+  /**
+   * @return The type of the shader code
+   */
+
+  @Value.Default
+  default VulkanShaderCodeTypeEXT codeType()
+  {
+    return VulkanShaderCodeTypeEXT.VK_SHADER_CODE_TYPE_SPIRV_EXT;
+  }
+
+  /**
+   * @return The shader code
+   */
+
+  ByteBuffer code();
+
+  /**
+   * @return The entry point name of the shader
+   */
+
+  @Value.Default
+  default String name()
+  {
+    return "main";
+  }
+
+  /**
+   * @return The descriptor set layouts used by the shader
+   */
+
+  List<VulkanDescriptorSetLayoutType> setLayouts();
+
+  /**
+   * @return The push constant ranges used by the shader
+   */
+
+  List<VulkanPushConstantRange> pushConstantRanges();
+
+  /**
+   * @return The specialization constants for the shader
+   */
+
+  Optional<VulkanSpecializationMap> specializationInfo();
+
+  /**
+   * Check preconditions for the type.
+   */
+
+  @Value.Check
+  default void checkPreconditions()
+  {
+    if (!this.code().isDirect()) {
+      throw new IllegalArgumentException(
+        "Must use direct byte buffers for shader code");
+    }
+
+    final var stage = this.stage();
+    switch (stage) {
+      case VK_SHADER_STAGE_ALL, VK_SHADER_STAGE_ALL_GRAPHICS -> {
+        throw new IllegalArgumentException(
+          "Shader objects must be created for a single stage (received %s)"
+            .formatted(stage)
+        );
+      }
+      default -> {
+
+      }
+    }
+  }
+}
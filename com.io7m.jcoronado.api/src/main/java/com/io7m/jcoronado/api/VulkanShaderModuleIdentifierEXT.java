@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.api;
+
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * An opaque shader module identifier. Identifiers are only meaningful for
+ * devices that report the same shader module identifier algorithm, and are
+ * typically persisted so that later runs can create pipelines without
+ * supplying the original SPIR-V.
+ *
+ * @param data The identifier octets
+ *
+ * @see "VkShaderModuleIdentifierEXT"
+ */
+
+@VulkanAPIStructType(vulkanStruct = "VkShaderModuleIdentifierEXT")
+public record VulkanShaderModuleIdentifierEXT(byte[] data)
+{
+  /**
+   * The maximum size of an identifier.
+   *
+   * @see "VK_MAX_SHADER_MODULE_IDENTIFIER_SIZE_EXT"
+   */
+
+  public static final int MAXIMUM_SIZE = 32;
+
+  /**
+   * An opaque shader module identifier.
+   *
+   * @param data The identifier octets
+   */
+
+  public VulkanShaderModuleIdentifierEXT
+  {
+    Objects.requireNonNull(data, "data");
+
+    if (data.length == 0 || data.length > MAXIMUM_SIZE) {
+      throw new IllegalArgumentException(
+        "Identifier size %d must be in the range [1, %d]"
+          .formatted(Integer.valueOf(data.length), Integer.valueOf(MAXIMUM_SIZE))
+      );
+    }
+    data = data.clone();
+  }
+
+  /**
+   * @return A copy of the identifier octets
+   */
+
+  @Override
+  public byte[] data()
+  {
+    return this.data.clone();
+  }
+
+  /**
+   * @return The size of the identifier in octets
+   */
+
+  public int size()
+  {
+    return this.data.length;
+  }
+
+  @Override
+  public boolean equals(
+    final Object other)
+  {
+    if (this == other) {
+      return true;
+    }
+    if (other instanceof final VulkanShaderModuleIdentifierEXT that) {
+      return Arrays.equals(this.data, that.data);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return Arrays.hashCode(this.data);
+  }
+
+  @Override
+  public String toString()
+  {
+    return HexFormat.of().formatHex(this.data);
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.api;
+
+/**
+ * A shader object. A shader object holds the compiled code for a single
+ * shader stage, and may be bound to a command buffer in place of a pipeline
+ * using
+ * {@link VulkanCommandBufferType#bindShaders(java.util.List, java.util.List)}.
+ * All state that a pipeline would otherwise have fixed must then be set
+ * dynamically.
+ *
+ * @see "VkShaderEXT"
+ */
+
+public interface VulkanShaderObjectType extends VulkanHandleNonDispatchableType
+{
+  /**
+   * @return The stage for which the shader was created
+   */
+
+  VulkanShaderStageFlag stage();
+
+  @VulkanAPIFunctionType(
+    api = "VK_EXT_shader_object",
+    vulkanFunction = "vkDestroyShaderEXT"
+  )
+  @Override
+  @VulkanExternallySynchronizedType
+  void close()
+    throws VulkanException;
+}
@@ -20,6 +20,7 @@ import com.io7m.immutables.styles.ImmutablesStyleType;
 import org.immutables.value.Value;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * @see "VkWriteDescriptorSet"
@@ -31,10 +32,11 @@ import java.util.List;
 public interface VulkanWriteDescriptorSetType
 {
   /**
-   * @return The destination descriptor set to update.
+   * @return The destination descriptor set to update. This is required when
+   * updating descriptor sets, and is ignored when pushing descriptors.
    */
 
-  VulkanDescriptorSetType destinationSet();
+  Optional<VulkanDescriptorSetType> destinationSet();
 
   /**
    * @return The descriptor binding within that set.
@@ -0,0 +1,920 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.api.internal;
+
+import com.io7m.jcoronado.api.VulkanBlendConstants;
+import com.io7m.jcoronado.api.VulkanBufferType;
+import com.io7m.jcoronado.api.VulkanCommandStreamHandleResolverType;
+import com.io7m.jcoronado.api.VulkanCommandStreamReceiverType;
+import com.io7m.jcoronado.api.VulkanCommandStreamType;
+import com.io7m.jcoronado.api.VulkanDescriptorSetType;
+import com.io7m.jcoronado.api.VulkanDestroyedException;
+import com.io7m.jcoronado.api.VulkanEnumMaps;
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanHandleNonDispatchableType;
+import com.io7m.jcoronado.api.VulkanIncompatibleClassException;
+import com.io7m.jcoronado.api.VulkanIndexType;
+import com.io7m.jcoronado.api.VulkanPipelineBindPoint;
+import com.io7m.jcoronado.api.VulkanPipelineLayoutType;
+import com.io7m.jcoronado.api.VulkanPipelineType;
+import com.io7m.jcoronado.api.VulkanRectangle2D;
+import com.io7m.jcoronado.api.VulkanShaderStageFlag;
+import com.io7m.jcoronado.api.VulkanStencilFaceFlag;
+import com.io7m.jcoronado.api.VulkanViewport;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+/**
+ * <p>The standard off-heap implementation of {@link VulkanCommandStreamType},
+ * shared by all implementations of the API. This class is not part of the
+ * public API.</p>
+ *
+ * <p>Each command is encoded as an eight-byte header consisting of an
+ * opcode and the total size of the command, followed by a payload of raw
+ * handles and scalar values. Every command begins on an eight-byte
+ * boundary. Handles are resolved to raw values at recording time using the
+ * {@link VulkanCommandStreamHandleResolverType} provided by the device that
+ * created the stream, and streams may only be appended to streams that
+ * share the same resolver.</p>
+ *
+ * <p>All storage for a stream is allocated from a single shared arena that
+ * is closed only when the stream is closed. When the stream grows, a new
+ * segment of twice the size is allocated from the same arena and the old
+ * segment is abandoned. Closing a shared arena is expensive (it requires a
+ * handshake with all threads), so this avoids doing so on the recording
+ * path. Because capacity doubles, the abandoned segments always total less
+ * than the current capacity, and so a stream never holds more than twice
+ * the memory it needs. Streams are expected to be reset and reused, which
+ * retains the largest segment and stops further growth.</p>
+ */
+
+public final class VulkanCommandStreamBuffer
+  implements VulkanCommandStreamType
+{
+  private static final int OP_BIND_PIPELINE = 1;
+  private static final int OP_BIND_VERTEX_BUFFERS = 2;
+  private static final int OP_BIND_INDEX_BUFFER = 3;
+  private static final int OP_BIND_DESCRIPTOR_SETS = 4;
+  private static final int OP_DRAW = 5;
+  private static final int OP_DRAW_INDEXED = 6;
+  private static final int OP_DRAW_INDIRECT = 7;
+  private static final int OP_DRAW_INDEXED_INDIRECT = 8;
+  private static final int OP_DISPATCH = 9;
+  private static final int OP_SET_VIEWPORT = 10;
+  private static final int OP_SET_SCISSOR = 11;
+  private static final int OP_SET_LINE_WIDTH = 12;
+  private static final int OP_SET_DEPTH_BIAS = 13;
+  private static final int OP_SET_DEPTH_BOUNDS = 14;
+  private static final int OP_SET_BLEND_CONSTANTS = 15;
+  private static final int OP_SET_STENCIL_REFERENCE = 16;
+  private static final int OP_SET_STENCIL_COMPARE_MASK = 17;
+  private static final int OP_SET_STENCIL_WRITE_MASK = 18;
+  private static final int OP_PUSH_CONSTANTS = 19;
+
+  private static final int HEADER_SIZE = 8;
+  private static final int VIEWPORT_SIZE = 24;
+  private static final int RECT2D_SIZE = 16;
+
+  private final VulkanCommandStreamHandleResolverType resolver;
+  private final Arena arena;
+  private MemorySegment segment;
+  private long position;
+  private int commands;
+  private boolean closed;
+
+  /**
+   * Create a command stream.
+   *
+   * @param inResolver        The handle resolver
+   * @param initialCapacity   The initial capacity in bytes
+   */
+
+  public VulkanCommandStreamBuffer(
+    final VulkanCommandStreamHandleResolverType inResolver,
+    final long initialCapacity)
+  {
+    this.resolver =
+      Objects.requireNonNull(inResolver, "resolver");
+
+    if (initialCapacity < 0L) {
+      throw new IllegalArgumentException(
+        "Initial capacity %d must be non-negative".formatted(
+          Long.valueOf(initialCapacity))
+      );
+    }
+
+    this.arena = Arena.ofShared();
+    this.segment = this.arena.allocate(Math.max(64L, initialCapacity), 8L);
+    this.position = 0L;
+    this.commands = 0;
+  }
+
+  private static long align8(
+    final long x)
+  {
+    return (x + 7L) & ~7L;
+  }
+
+  /**
+   * @return The handle resolver used by this stream
+   */
+
+  public VulkanCommandStreamHandleResolverType resolver()
+  {
+    return this.resolver;
+  }
+
+  @Override
+  public int commandCount()
+  {
+    return this.commands;
+  }
+
+  @Override
+  public long byteSize()
+  {
+    return this.position;
+  }
+
+  @Override
+  public void reset()
+  {
+    this.position = 0L;
+    this.commands = 0;
+  }
+
+  @Override
+  public void append(
+    final VulkanCommandStreamType other)
+    throws VulkanException
+  {
+    Objects.requireNonNull(other, "other");
+    this.checkNotClosed();
+
+    if (!(other instanceof final VulkanCommandStreamBuffer otherStream)) {
+      throw new VulkanIncompatibleClassException(
+        "Command stream %s is not of class %s".formatted(
+          other.getClass().getName(),
+          VulkanCommandStreamBuffer.class.getName())
+      );
+    }
+    if (otherStream.resolver != this.resolver) {
+      throw new VulkanIncompatibleClassException(
+        "Command stream was created by an incompatible device."
+      );
+    }
+    otherStream.checkNotClosed();
+
+    final var size = otherStream.position;
+    final var offset = this.reserve(size);
+    MemorySegment.copy(otherStream.segment, 0L, this.segment, offset, size);
+    this.position = offset + size;
+    this.commands += otherStream.commands;
+  }
+
+  private void checkNotClosed()
+    throws VulkanDestroyedException
+  {
+    if (this.closed) {
+      throw new VulkanDestroyedException(
+        "Command stream has been closed.",
+        VulkanCommandStreamBuffer.class
+      );
+    }
+  }
+
+  /**
+   * Ensure that at least {@code size} bytes are available at the current
+   * position, growing the storage if necessary.
+   */
+
+  private long reserve(
+    final long size)
+  {
+    final var required = this.position + size;
+    final var capacity = this.segment.byteSize();
+    if (required > capacity) {
+      final var newCapacity = Math.max(capacity * 2L, required);
+      final var newSegment = this.arena.allocate(newCapacity, 8L);
+      MemorySegment.copy(this.segment, 0L, newSegment, 0L, this.position);
+      this.segment = newSegment;
+    }
+    return this.position;
+  }
+
+  private long begin(
+    final int opcode,
+    final long size)
+    throws VulkanDestroyedException
+  {
+    this.checkNotClosed();
+
+    final var aligned = align8(size);
+    final var offset = this.reserve(aligned);
+    this.segment.set(JAVA_INT, offset, opcode);
+    this.segment.set(JAVA_INT, offset + 4L, Math.toIntExact(aligned));
+    this.position = offset + aligned;
+    ++this.commands;
+    return offset;
+  }
+
+  private long handleOf(
+    final VulkanHandleNonDispatchableType handle)
+    throws VulkanException
+  {
+    return this.resolver.handle(Objects.requireNonNull(handle, "handle"));
+  }
+
+  @Override
+  public void bindPipeline(
+    final VulkanPipelineBindPoint bind_point,
+    final VulkanPipelineType pipeline)
+    throws VulkanException
+  {
+    Objects.requireNonNull(bind_point, "bind_point");
+
+    final var h = this.handleOf(pipeline);
+    final var o = this.begin(OP_BIND_PIPELINE, 24L);
+    final var s = this.segment;
+    s.set(JAVA_LONG, o + 8L, h);
+    s.set(JAVA_INT, o + 16L, bind_point.value());
+  }
+
+  @Override
+  public void bindVertexBuffer(
+    final int binding,
+    final VulkanBufferType buffer,
+    final long offset)
+    throws VulkanException
+  {
+    final var h = this.handleOf(buffer);
+    final var o = this.begin(OP_BIND_VERTEX_BUFFERS, 32L);
+    final var s = this.segment;
+    s.set(JAVA_INT, o + 8L, binding);
+    s.set(JAVA_INT, o + 12L, 1);
+    s.set(JAVA_LONG, o + 16L, h);
+    s.set(JAVA_LONG, o + 24L, offset);
+  }
+
+  @Override
+  public void bindVertexBuffers(
+    final int first_binding,
+    final VulkanBufferType[] buffers,
+    final long[] offsets)
+    throws VulkanException
+  {
+    Objects.requireNonNull(buffers, "buffers");
+    Objects.requireNonNull(offsets, "offsets");
+
+    final var count = buffers.length;
+    if (offsets.length < count) {
+      throw new IllegalArgumentException(
+        "Offsets count %d must be at least the buffer count %d".formatted(
+          Integer.valueOf(offsets.length),
+          Integer.valueOf(count))
+      );
+    }
+
+    final var o =
+      this.begin(OP_BIND_VERTEX_BUFFERS, 16L + (16L * count));
+
+    /*
+     * Resolve the handles after reserving space; on failure, the partially
+     * written command is discarded.
+     */
+
+    final var s = this.segment;
+    s.set(JAVA_INT, o + 8L, first_binding);
+    s.set(JAVA_INT, o + 12L, count);
+
+    final var buffersBase = o + 16L;
+    final var offsetsBase = buffersBase + (8L * count);
+    try {
+      for (int index = 0; index < count; ++index) {
+        s.set(JAVA_LONG, buffersBase + (8L * index), this.handleOf(buffers[index]));
+        s.set(JAVA_LONG, offsetsBase + (8L * index), offsets[index]);
+      }
+    } catch (final VulkanException | RuntimeException e) {
+      this.position = o;
+      --this.commands;
+      throw e;
+    }
+  }
+
+  @Override
+  public void bindIndexBuffer(
+    final VulkanBufferType buffer,
+    final long offset,
+    final VulkanIndexType index_type)
+    throws VulkanException
+  {
+    Objects.requireNonNull(index_type, "index_type");
+
+    final var h = this.handleOf(buffer);
+    final var o = this.begin(OP_BIND_INDEX_BUFFER, 32L);
+    final var s = this.segment;
+    s.set(JAVA_LONG, o + 8L, h);
+    s.set(JAVA_LONG, o + 16L, offset);
+    s.set(JAVA_INT, o + 24L, index_type.value());
+  }
+
+  @Override
+  public void bindDescriptorSet(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int set,
+    final VulkanDescriptorSetType descriptor_set)
+    throws VulkanException
+  {
+    Objects.requireNonNull(pipeline_bind_point, "pipeline_bind_point");
+
+    final var hl = this.handleOf(layout);
+    final var hs = this.handleOf(descriptor_set);
+    final var o = this.begin(OP_BIND_DESCRIPTOR_SETS, 40L);
+    final var s = this.segment;
+    s.set(JAVA_LONG, o + 8L, hl);
+    s.set(JAVA_INT, o + 16L, pipeline_bind_point.value());
+    s.set(JAVA_INT, o + 20L, set);
+    s.set(JAVA_INT, o + 24L, 1);
+    s.set(JAVA_INT, o + 28L, 0);
+    s.set(JAVA_LONG, o + 32L, hs);
+  }
+
+  @Override
+  public void bindDescriptorSets(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int first_set,
+    final VulkanDescriptorSetType[] descriptor_sets,
+    final int[] dynamic_offsets)
+    throws VulkanException
+  {
+    Objects.requireNonNull(pipeline_bind_point, "pipeline_bind_point");
+    Objects.requireNonNull(descriptor_sets, "descriptor_sets");
+    Objects.requireNonNull(dynamic_offsets, "dynamic_offsets");
+
+    final var hl = this.handleOf(layout);
+    final var setCount = descriptor_sets.length;
+    final var dynCount = dynamic_offsets.length;
+    final var o =
+      this.begin(
+        OP_BIND_DESCRIPTOR_SETS,
+        32L + (8L * setCount) + (4L * dynCount)
+      );
+
+    final var s = this.segment;
+    s.set(JAVA_LONG, o + 8L, hl);
+    s.set(JAVA_INT, o + 16L, pipeline_bind_point.value());
+    s.set(JAVA_INT, o + 20L, first_set);
+    s.set(JAVA_INT, o + 24L, setCount);
+    s.set(JAVA_INT, o + 28L, dynCount);
+
+    final var setsBase = o + 32L;
+    try {
+      for (int index = 0; index < setCount; ++index) {
+        s.set(
+          JAVA_LONG,
+          setsBase + (8L * index),
+          this.handleOf(descriptor_sets[index])
+        );
+      }
+    } catch (final VulkanException | RuntimeException e) {
+      this.position = o;
+      --this.commands;
+      throw e;
+    }
+
+    MemorySegment.copy(
+      dynamic_offsets,
+      0,
+      s,
+      JAVA_INT,
+      setsBase + (8L * setCount),
+      dynCount
+    );
+  }
+
+  @Override
+  public void draw(
+    final int vertex_count,
+    final int instance_count,
+    final int first_vertex,
+    final int first_instance)
+    throws VulkanException
+  {
+    final var o = this.begin(OP_DRAW, 24L);
+    final var s = this.segment;
+    s.set(JAVA_INT, o + 8L, vertex_count);
+    s.set(JAVA_INT, o + 12L, instance_count);
+    s.set(JAVA_INT, o + 16L, first_vertex);
+    s.set(JAVA_INT, o + 20L, first_instance);
+  }
+
+  @Override
+  public void drawIndexed(
+    final int vertex_count,
+    final int instance_count,
+    final int first_vertex,
+    final int vertex_offset,
+    final int first_instance)
+    throws VulkanException
+  {
+    final var o = this.begin(OP_DRAW_INDEXED, 28L);
+    final var s = this.segment;
+    s.set(JAVA_INT, o + 8L, vertex_count);
+    s.set(JAVA_INT, o + 12L, instance_count);
+    s.set(JAVA_INT, o + 16L, first_vertex);
+    s.set(JAVA_INT, o + 20L, vertex_offset);
+    s.set(JAVA_INT, o + 24L, first_instance);
+  }
+
+  @Override
+  public void drawIndirect(
+    final VulkanBufferType buffer,
+    final long offset,
+    final int draw_count,
+    final int stride)
+    throws VulkanException
+  {
+    this.recordIndirect(OP_DRAW_INDIRECT, buffer, offset, draw_count, stride);
+  }
+
+  @Override
+  public void drawIndexedIndirect(
+    final VulkanBufferType buffer,
+    final long offset,
+    final int draw_count,
+    final int stride)
+    throws VulkanException
+  {
+    this.recordIndirect(
+      OP_DRAW_INDEXED_INDIRECT, buffer, offset, draw_count, stride);
+  }
+
+  private void recordIndirect(
+    final int opcode,
+    final VulkanBufferType buffer,
+    final long offset,
+    final int draw_count,
+    final int stride)
+    throws VulkanException
+  {
+    final var h = this.handleOf(buffer);
+    final var o = this.begin(opcode, 32L);
+    final var s = this.segment;
+    s.set(JAVA_LONG, o + 8L, h);
+    s.set(JAVA_LONG, o + 16L, offset);
+    s.set(JAVA_INT, o + 24L, draw_count);
+    s.set(JAVA_INT, o + 28L, stride);
+  }
+
+  @Override
+  public void dispatch(
+    final int group_count_x,
+    final int group_count_y,
+    final int group_count_z)
+    throws VulkanException
+  {
+    final var o = this.begin(OP_DISPATCH, 20L);
+    final var s = this.segment;
+    s.set(JAVA_INT, o + 8L, group_count_x);
+    s.set(JAVA_INT, o + 12L, group_count_y);
+    s.set(JAVA_INT, o + 16L, group_count_z);
+  }
+
+  @Override
+  public void setViewport(
+    final int first_viewport,
+    final List<VulkanViewport> viewports)
+    throws VulkanException
+  {
+    Objects.requireNonNull(viewports, "viewports");
+
+    final var count = viewports.size();
+    final var o =
+      this.begin(OP_SET_VIEWPORT, 16L + ((long) VIEWPORT_SIZE * count));
+    final var s = this.segment;
+    s.set(JAVA_INT, o + 8L, first_viewport);
+    s.set(JAVA_INT, o + 12L, count);
+    for (int index = 0; index < count; ++index) {
+      this.putViewport(
+        o + 16L + ((long) VIEWPORT_SIZE * index),
+        viewports.get(index)
+      );
+    }
+  }
+
+  @Override
+  public void setViewport(
+    final int index,
+    final VulkanViewport viewport)
+    throws VulkanException
+  {
+    Objects.requireNonNull(viewport, "viewport");
+
+    final var o = this.begin(OP_SET_VIEWPORT, 16L + VIEWPORT_SIZE);
+    final var s = this.segment;
+    s.set(JAVA_INT, o + 8L, index);
+    s.set(JAVA_INT, o + 12L, 1);
+    this.putViewport(o + 16L, viewport);
+  }
+
+  private void putViewport(
+    final long offset,
+    final VulkanViewport viewport)
+  {
+    final var s = this.segment;
+    s.set(JAVA_FLOAT, offset, viewport.x());
+    s.set(JAVA_FLOAT, offset + 4L, viewport.y());
+    s.set(JAVA_FLOAT, offset + 8L, viewport.width());
+    s.set(JAVA_FLOAT, offset + 12L, viewport.height());
+    s.set(JAVA_FLOAT, offset + 16L, viewport.minDepth());
+    s.set(JAVA_FLOAT, offset + 20L, viewport.maxDepth());
+  }
+
+  @Override
+  public void setScissor(
+    final int first_scissor,
+    final List<VulkanRectangle2D> rectangles)
+    throws VulkanException
+  {
+    Objects.requireNonNull(rectangles, "rectangles");
+
+    final var count = rectangles.size();
+    final var o =
+      this.begin(OP_SET_SCISSOR, 16L + ((long) RECT2D_SIZE * count));
+    final var s = this.segment;
+    s.set(JAVA_INT, o + 8L, first_scissor);
+    s.set(JAVA_INT, o + 12L, count);
+    for (int index = 0; index < count; ++index) {
+      this.putRectangle(
+        o + 16L + ((long) RECT2D_SIZE * index),
+        rectangles.get(index)
+      );
+    }
+  }
+
+  @Override
+  public void setScissor(
+    final int index,
+    final VulkanRectangle2D rectangle)
+    throws VulkanException
+  {
+    Objects.requireNonNull(rectangle, "rectangle");
+
+    final var o = this.begin(OP_SET_SCISSOR, 16L + RECT2D_SIZE);
+    final var s = this.segment;
+    s.set(JAVA_INT, o + 8L, index);
+    s.set(JAVA_INT, o + 12L, 1);
+    this.putRectangle(o + 16L, rectangle);
+  }
+
+  private void putRectangle(
+    final long offset,
+    final VulkanRectangle2D rectangle)
+  {
+    final var s = this.segment;
+    final var ro = rectangle.offset();
+    final var re = rectangle.extent();
+    s.set(JAVA_INT, offset, ro.x());
+    s.set(JAVA_INT, offset + 4L, ro.y());
+    s.set(JAVA_INT, offset + 8L, re.width());
+    s.set(JAVA_INT, offset + 12L, re.height());
+  }
+
+  @Override
+  public void setLineWidth(
+    final float width)
+    throws VulkanException
+  {
+    final var o = this.begin(OP_SET_LINE_WIDTH, 12L);
+    this.segment.set(JAVA_FLOAT, o + 8L, width);
+  }
+
+  @Override
+  public void setDepthBias(
+    final float depth_bias_constant_factor,
+    final float depth_bias_clamp,
+    final float depth_bias_slope_factor)
+    throws VulkanException
+  {
+    final var o = this.begin(OP_SET_DEPTH_BIAS, 20L);
+    final var s = this.segment;
+    s.set(JAVA_FLOAT, o + 8L, depth_bias_constant_factor);
+    s.set(JAVA_FLOAT, o + 12L, depth_bias_clamp);
+    s.set(JAVA_FLOAT, o + 16L, depth_bias_slope_factor);
+  }
+
+  @Override
+  public void setDepthBounds(
+    final float min_depth_bounds,
+    final float max_depth_bounds)
+    throws VulkanException
+  {
+    final var o = this.begin(OP_SET_DEPTH_BOUNDS, 16L);
+    final var s = this.segment;
+    s.set(JAVA_FLOAT, o + 8L, min_depth_bounds);
+    s.set(JAVA_FLOAT, o + 12L, max_depth_bounds);
+  }
+
+  @Override
+  public void setBlendConstants(
+    final VulkanBlendConstants constants)
+    throws VulkanException
+  {
+    Objects.requireNonNull(constants, "constants");
+
+    final var o = this.begin(OP_SET_BLEND_CONSTANTS, 24L);
+    final var s = this.segment;
+    s.set(JAVA_FLOAT, o + 8L, constants.r());
+    s.set(JAVA_FLOAT, o + 12L, constants.g());
+    s.set(JAVA_FLOAT, o + 16L, constants.b());
+    s.set(JAVA_FLOAT, o + 20L, constants.a());
+  }
+
+  @Override
+  public void setStencilReference(
+    final Set<VulkanStencilFaceFlag> face_mask,
+    final int reference)
+    throws VulkanException
+  {
+    this.recordStencil(OP_SET_STENCIL_REFERENCE, face_mask, reference);
+  }
+
+  @Override
+  public void setStencilCompareMask(
+    final Set<VulkanStencilFaceFlag> face_mask,
+    final int mask)
+    throws VulkanException
+  {
+    this.recordStencil(OP_SET_STENCIL_COMPARE_MASK, face_mask, mask);
+  }
+
+  @Override
+  public void setStencilWriteMask(
+    final Set<VulkanStencilFaceFlag> face_mask,
+    final int mask)
+    throws VulkanException
+  {
+    this.recordStencil(OP_SET_STENCIL_WRITE_MASK, face_mask, mask);
+  }
+
+  private void recordStencil(
+    final int opcode,
+    final Set<VulkanStencilFaceFlag> face_mask,
+    final int value)
+    throws VulkanException
+  {
+    Objects.requireNonNull(face_mask, "face_mask");
+
+    final var o = this.begin(opcode, 16L);
+    final var s = this.segment;
+    s.set(JAVA_INT, o + 8L, VulkanEnumMaps.packValues(face_mask));
+    s.set(JAVA_INT, o + 12L, value);
+  }
+
+  @Override
+  public void pushConstants(
+    final VulkanPipelineLayoutType layout,
+    final Set<VulkanShaderStageFlag> stageFlags,
+    final long offset,
+    final ByteBuffer data)
+    throws VulkanException
+  {
+    Objects.requireNonNull(stageFlags, "stageFlags");
+    Objects.requireNonNull(data, "data");
+
+    final var h = this.handleOf(layout);
+    final var size = data.remaining();
+    final var o = this.begin(OP_PUSH_CONSTANTS, 32L + size);
+    final var s = this.segment;
+    s.set(JAVA_LONG, o + 8L, h);
+    s.set(JAVA_INT, o + 16L, VulkanEnumMaps.packValues(stageFlags));
+    s.set(JAVA_INT, o + 20L, Math.toIntExact(offset));
+    s.set(JAVA_INT, o + 24L, size);
+    MemorySegment.copy(MemorySegment.ofBuffer(data), 0L, s, o + 32L, size);
+  }
+
+  /**
+   * Replay all commands in the stream, in the order they were recorded,
+   * into the given receiver.
+   *
+   * @param receiver The receiver
+   *
+   * @throws VulkanException On errors
+   */
+
+  public void replay(
+    final VulkanCommandStreamReceiverType receiver)
+    throws VulkanException
+  {
+    Objects.requireNonNull(receiver, "receiver");
+    this.checkNotClosed();
+
+    final var s = this.segment;
+    final var base = s.address();
+    final var end = this.position;
+
+    var o = 0L;
+    while (o < end) {
+      final var opcode = s.get(JAVA_INT, o);
+      final var size = s.get(JAVA_INT, o + 4L);
+
+      switch (opcode) {
+        case OP_BIND_PIPELINE -> {
+          receiver.bindPipeline(
+            s.get(JAVA_INT, o + 16L),
+            s.get(JAVA_LONG, o + 8L)
+          );
+        }
+        case OP_BIND_VERTEX_BUFFERS -> {
+          final var count = s.get(JAVA_INT, o + 12L);
+          final var buffers = base + o + 16L;
+          receiver.bindVertexBuffers(
+            s.get(JAVA_INT, o + 8L),
+            count,
+            buffers,
+            buffers + (8L * count)
+          );
+        }
+        case OP_BIND_INDEX_BUFFER -> {
+          receiver.bindIndexBuffer(
+            s.get(JAVA_LONG, o + 8L),
+            s.get(JAVA_LONG, o + 16L),
+            s.get(JAVA_INT, o + 24L)
+          );
+        }
+        case OP_BIND_DESCRIPTOR_SETS -> {
+          final var setCount = s.get(JAVA_INT, o + 24L);
+          final var dynCount = s.get(JAVA_INT, o + 28L);
+          final var sets = base + o + 32L;
+          receiver.bindDescriptorSets(
+            s.get(JAVA_INT, o + 16L),
+            s.get(JAVA_LONG, o + 8L),
+            s.get(JAVA_INT, o + 20L),
+            setCount,
+            sets,
+            dynCount,
+            dynCount == 0 ? 0L : sets + (8L * setCount)
+          );
+        }
+        case OP_DRAW -> {
+          receiver.draw(
+            s.get(JAVA_INT, o + 8L),
+            s.get(JAVA_INT, o + 12L),
+            s.get(JAVA_INT, o + 16L),
+            s.get(JAVA_INT, o + 20L)
+          );
+        }
+        case OP_DRAW_INDEXED -> {
+          receiver.drawIndexed(
+            s.get(JAVA_INT, o + 8L),
+            s.get(JAVA_INT, o + 12L),
+            s.get(JAVA_INT, o + 16L),
+            s.get(JAVA_INT, o + 20L),
+            s.get(JAVA_INT, o + 24L)
+          );
+        }
+        case OP_DRAW_INDIRECT -> {
+          receiver.drawIndirect(
+            s.get(JAVA_LONG, o + 8L),
+            s.get(JAVA_LONG, o + 16L),
+            s.get(JAVA_INT, o + 24L),
+            s.get(JAVA_INT, o + 28L)
+          );
+        }
+        case OP_DRAW_INDEXED_INDIRECT -> {
+          receiver.drawIndexedIndirect(
+            s.get(JAVA_LONG, o + 8L),
+            s.get(JAVA_LONG, o + 16L),
+            s.get(JAVA_INT, o + 24L),
+            s.get(JAVA_INT, o + 28L)
+          );
+        }
+        case OP_DISPATCH -> {
+          receiver.dispatch(
+            s.get(JAVA_INT, o + 8L),
+            s.get(JAVA_INT, o + 12L),
+            s.get(JAVA_INT, o + 16L)
+          );
+        }
+        case OP_SET_VIEWPORT -> {
+          receiver.setViewport(
+            s.get(JAVA_INT, o + 8L),
+            s.get(JAVA_INT, o + 12L),
+            base + o + 16L
+          );
+        }
+        case OP_SET_SCISSOR -> {
+          receiver.setScissor(
+            s.get(JAVA_INT, o + 8L),
+            s.get(JAVA_INT, o + 12L),
+            base + o + 16L
+          );
+        }
+        case OP_SET_LINE_WIDTH -> {
+          receiver.setLineWidth(s.get(JAVA_FLOAT, o + 8L));
+        }
+        case OP_SET_DEPTH_BIAS -> {
+          receiver.setDepthBias(
+            s.get(JAVA_FLOAT, o + 8L),
+            s.get(JAVA_FLOAT, o + 12L),
+            s.get(JAVA_FLOAT, o + 16L)
+          );
+        }
+        case OP_SET_DEPTH_BOUNDS -> {
+          receiver.setDepthBounds(
+            s.get(JAVA_FLOAT, o + 8L),
+            s.get(JAVA_FLOAT, o + 12L)
+          );
+        }
+        case OP_SET_BLEND_CONSTANTS -> {
+          receiver.setBlendConstants(base + o + 8L);
+        }
+        case OP_SET_STENCIL_REFERENCE -> {
+          receiver.setStencilReference(
+            s.get(JAVA_INT, o + 8L),
+            s.get(JAVA_INT, o + 12L)
+          );
+        }
+        case OP_SET_STENCIL_COMPARE_MASK -> {
+          receiver.setStencilCompareMask(
+            s.get(JAVA_INT, o + 8L),
+            s.get(JAVA_INT, o + 12L)
+          );
+        }
+        case OP_SET_STENCIL_WRITE_MASK -> {
+          receiver.setStencilWriteMask(
+            s.get(JAVA_INT, o + 8L),
+            s.get(JAVA_INT, o + 12L)
+          );
+        }
+        case OP_PUSH_CONSTANTS -> {
+          receiver.pushConstants(
+            s.get(JAVA_LONG, o + 8L),
+            s.get(JAVA_INT, o + 16L),
+            s.get(JAVA_INT, o + 20L),
+            s.get(JAVA_INT, o + 24L),
+            base + o + 32L
+          );
+        }
+        default -> {
+          throw new IllegalStateException(
+            "Unrecognized command stream opcode: %d".formatted(
+              Integer.valueOf(opcode))
+          );
+        }
+      }
+
+      o += size;
+    }
+  }
+
+  @Override
+  public void close()
+  {
+    if (!this.closed) {
+      this.closed = true;
+      this.arena.close();
+    }
+  }
+
+  @Override
+  public boolean isClosed()
+  {
+    return this.closed;
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[VulkanCommandStreamBuffer 0x%x %d]",
+      Integer.valueOf(System.identityHashCode(this)),
+      Integer.valueOf(this.commands)
+    );
+  }
+}
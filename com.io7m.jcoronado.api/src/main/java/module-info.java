@@ -29,4 +29,9 @@ module com.io7m.jcoronado.api
   requires com.io7m.seltzer.api;
 
   exports com.io7m.jcoronado.api;
+
+  exports com.io7m.jcoronado.api.internal
+    to com.io7m.jcoronado.fake,
+      com.io7m.jcoronado.lwjgl,
+      com.io7m.jcoronado.tests;
 }
@@ -25,35 +25,58 @@ import com.io7m.jcoronado.api.VulkanClearAttachment;
 import com.io7m.jcoronado.api.VulkanClearRectangle;
 import com.io7m.jcoronado.api.VulkanClearValueDepthStencil;
 import com.io7m.jcoronado.api.VulkanClearValueType;
+import com.io7m.jcoronado.api.VulkanColorBlendEquationEXT;
+import com.io7m.jcoronado.api.VulkanColorComponentFlag;
 import com.io7m.jcoronado.api.VulkanCommandBufferBeginInfo;
 import com.io7m.jcoronado.api.VulkanCommandBufferResetFlag;
 import com.io7m.jcoronado.api.VulkanCommandBufferType;
+import com.io7m.jcoronado.api.VulkanCommandStreamType;
+import com.io7m.jcoronado.api.VulkanCompareOp;
+import com.io7m.jcoronado.api.VulkanCullModeFlag;
 import com.io7m.jcoronado.api.VulkanDependencyInfo;
+import com.io7m.jcoronado.api.VulkanDescriptorBufferBindingInfoEXT;
 import com.io7m.jcoronado.api.VulkanDescriptorSetType;
+import com.io7m.jcoronado.api.VulkanDescriptorUpdateTemplateType;
 import com.io7m.jcoronado.api.VulkanEventType;
+import com.io7m.jcoronado.api.VulkanException;
 import com.io7m.jcoronado.api.VulkanFilter;
+import com.io7m.jcoronado.api.VulkanFrontFace;
 import com.io7m.jcoronado.api.VulkanImageBlit;
 import com.io7m.jcoronado.api.VulkanImageCopy;
 import com.io7m.jcoronado.api.VulkanImageLayout;
 import com.io7m.jcoronado.api.VulkanImageSubresourceRange;
 import com.io7m.jcoronado.api.VulkanImageType;
 import com.io7m.jcoronado.api.VulkanIndexType;
+import com.io7m.jcoronado.api.VulkanMissingRequiredExtensionsException;
+import com.io7m.jcoronado.api.VulkanMissingRequiredFeaturesException;
 import com.io7m.jcoronado.api.VulkanPipelineBindPoint;
 import com.io7m.jcoronado.api.VulkanPipelineLayoutType;
 import com.io7m.jcoronado.api.VulkanPipelineStageFlag;
 import com.io7m.jcoronado.api.VulkanPipelineType;
+import com.io7m.jcoronado.api.VulkanPolygonMode;
+import com.io7m.jcoronado.api.VulkanPrimitiveTopology;
 import com.io7m.jcoronado.api.VulkanQueryControlFlag;
 import com.io7m.jcoronado.api.VulkanQueryPoolType;
 import com.io7m.jcoronado.api.VulkanRectangle2D;
 import com.io7m.jcoronado.api.VulkanRenderPassBeginInfo;
 import com.io7m.jcoronado.api.VulkanRenderingInfo;
+import com.io7m.jcoronado.api.VulkanShaderObjectType;
 import com.io7m.jcoronado.api.VulkanShaderStageFlag;
 import com.io7m.jcoronado.api.VulkanStencilFaceFlag;
+import com.io7m.jcoronado.api.VulkanStencilOp;
 import com.io7m.jcoronado.api.VulkanSubpassContents;
+import com.io7m.jcoronado.api.VulkanVertexInputAttributeDescription;
+import com.io7m.jcoronado.api.VulkanVertexInputBindingDescription;
 import com.io7m.jcoronado.api.VulkanViewport;
+import com.io7m.jcoronado.api.VulkanWriteDescriptorSet;
 
+import java.lang.foreign.MemorySegment;
 import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -63,12 +86,28 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 public final class VFakeCommandBuffer implements VulkanCommandBufferType
 {
+  private final VFakeLogicalDevice device;
   private final AtomicBoolean closed;
+  private final VFakeCommandStreams.CountingReceiver streamReceiver;
 
-  VFakeCommandBuffer()
+  VFakeCommandBuffer(
+    final VFakeLogicalDevice inDevice)
   {
+    this.device =
+      Objects.requireNonNull(inDevice, "inDevice");
     this.closed =
       new AtomicBoolean(false);
+    this.streamReceiver =
+      new VFakeCommandStreams.CountingReceiver();
+  }
+
+  /**
+   * @return The total number of commands replayed from command streams
+   */
+
+  public long streamCommandsExecuted()
+  {
+    return this.streamReceiver.count();
   }
 
   @Override
@@ -111,6 +150,20 @@ public final class VFakeCommandBuffer implements VulkanCommandBufferType
 
   }
 
+  @Override
+  public void bindShaders(
+    final List<VulkanShaderStageFlag> stages,
+    final List<Optional<VulkanShaderObjectType>> shaders)
+    throws VulkanException
+  {
+    if (!this.device.enabledExtensions().containsKey("VK_EXT_shader_object")) {
+      throw new VulkanMissingRequiredExtensionsException(
+        Set.of("VK_EXT_shader_object"),
+        "The VK_EXT_shader_object extension is not enabled on this device."
+      );
+    }
+  }
+
   @Override
   public void bindVertexBuffers(
     final int first_binding,
@@ -121,6 +174,42 @@ public final class VFakeCommandBuffer implements VulkanCommandBufferType
 
   }
 
+  @Override
+  public void bindVertexBuffer(
+    final int binding,
+    final VulkanBufferType buffer,
+    final long offset)
+  {
+
+  }
+
+  @Override
+  public void bindVertexBuffers(
+    final int first_binding,
+    final VulkanBufferType[] buffers,
+    final long[] offsets)
+  {
+
+  }
+
+  @Override
+  public void bindVertexBuffers(
+    final int first_binding,
+    final VulkanBufferType[] buffers,
+    final LongBuffer offsets)
+  {
+
+  }
+
+  @Override
+  public void bindVertexBuffers(
+    final int first_binding,
+    final VulkanBufferType[] buffers,
+    final MemorySegment offsets)
+  {
+
+  }
+
   @Override
   public void bindIndexBuffer(
     final VulkanBufferType buffer,
@@ -141,6 +230,49 @@ public final class VFakeCommandBuffer implements VulkanCommandBufferType
 
   }
 
+  @Override
+  public void bindDescriptorSet(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int set,
+    final VulkanDescriptorSetType descriptor_set)
+  {
+
+  }
+
+  @Override
+  public void bindDescriptorSets(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int first_set,
+    final VulkanDescriptorSetType[] descriptor_sets,
+    final int[] dynamic_offsets)
+  {
+
+  }
+
+  @Override
+  public void bindDescriptorSets(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int first_set,
+    final VulkanDescriptorSetType[] descriptor_sets,
+    final IntBuffer dynamic_offsets)
+  {
+
+  }
+
+  @Override
+  public void bindDescriptorSets(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int first_set,
+    final VulkanDescriptorSetType[] descriptor_sets,
+    final MemorySegment dynamic_offsets)
+  {
+
+  }
+
   @Override
   public void blitImage(
     final VulkanImageType source_image,
@@ -230,6 +362,14 @@ public final class VFakeCommandBuffer implements VulkanCommandBufferType
 
   }
 
+  @Override
+  public void dispatchIndirect(
+    final VulkanBufferType buffer,
+    final long offset)
+  {
+
+  }
+
   @Override
   public void draw(
     final int vertex_count,
@@ -271,6 +411,120 @@ public final class VFakeCommandBuffer implements VulkanCommandBufferType
 
   }
 
+  @Override
+  public void drawIndirectCount(
+    final VulkanBufferType buffer,
+    final long offset,
+    final VulkanBufferType count_buffer,
+    final long count_buffer_offset,
+    final int max_draw_count,
+    final int stride)
+    throws VulkanException
+  {
+    this.checkDrawIndirectCount();
+  }
+
+  @Override
+  public void drawIndexedIndirectCount(
+    final VulkanBufferType buffer,
+    final long offset,
+    final VulkanBufferType count_buffer,
+    final long count_buffer_offset,
+    final int max_draw_count,
+    final int stride)
+    throws VulkanException
+  {
+    this.checkDrawIndirectCount();
+  }
+
+  @Override
+  public void drawMulti(
+    final int[] vertex_info,
+    final int instance_count,
+    final int first_instance)
+    throws VulkanException
+  {
+    this.checkMultiDraw(vertex_info.length / 2);
+  }
+
+  @Override
+  public void drawMulti(
+    final MemorySegment vertex_info,
+    final int draw_count,
+    final int instance_count,
+    final int first_instance,
+    final int stride)
+    throws VulkanException
+  {
+    this.checkMultiDraw(draw_count);
+  }
+
+  @Override
+  public void drawMultiIndexed(
+    final int[] index_info,
+    final int instance_count,
+    final int first_instance)
+    throws VulkanException
+  {
+    this.checkMultiDraw(index_info.length / 3);
+  }
+
+  @Override
+  public void drawMultiIndexed(
+    final MemorySegment index_info,
+    final int draw_count,
+    final int instance_count,
+    final int first_instance,
+    final int stride)
+    throws VulkanException
+  {
+    this.checkMultiDraw(draw_count);
+  }
+
+  private void checkDrawIndirectCount()
+    throws VulkanException
+  {
+    final var features =
+      this.device.physicalDevice().features();
+
+    if (!features.features12().drawIndirectCount()) {
+      throw new VulkanMissingRequiredFeaturesException(
+        Set.of("drawIndirectCount"),
+        "The drawIndirectCount feature is not enabled on this device."
+      );
+    }
+  }
+
+  private void checkMultiDraw(
+    final int draw_count)
+    throws VulkanException
+  {
+    if (!this.device.enabledExtensions().containsKey("VK_EXT_multi_draw")) {
+      throw new VulkanMissingRequiredExtensionsException(
+        Set.of("VK_EXT_multi_draw"),
+        "The VK_EXT_multi_draw extension is not enabled on this device."
+      );
+    }
+
+    final var physical = this.device.physicalDevice();
+    if (!physical.features().featuresMultiDrawEXT().multiDraw()) {
+      throw new VulkanMissingRequiredFeaturesException(
+        Set.of("multiDraw"),
+        "The multiDraw feature is not enabled on this device."
+      );
+    }
+
+    final var maximum = physical.limits().maxMultiDrawCount();
+    if (Integer.compareUnsigned(draw_count, maximum) > 0) {
+      throw new IllegalArgumentException(
+        "Draw count %d exceeds the device limit maxMultiDrawCount %d"
+          .formatted(
+            Integer.valueOf(draw_count),
+            Integer.valueOf(maximum))
+      );
+    }
+  }
+
   @Override
   public void executeCommands(
     final List<VulkanCommandBufferType> commandBuffers)
@@ -278,6 +532,15 @@ public final class VFakeCommandBuffer implements VulkanCommandBufferType
 
   }
 
+  @Override
+  public void executeCommandStream(
+    final VulkanCommandStreamType stream)
+    throws VulkanException
+  {
+    VFakeCommandStreams.check(stream, this.device.commandStreamResolver())
+      .replay(this.streamReceiver);
+  }
+
   @Override
   public void fillBuffer(
     final VulkanBufferType buffer,
@@ -379,6 +642,162 @@ public final class VFakeCommandBuffer implements VulkanCommandBufferType
 
   }
 
+  @Override
+  public void setCullMode(
+    final Set<VulkanCullModeFlag> cull_mode)
+  {
+
+  }
+
+  @Override
+  public void setFrontFace(
+    final VulkanFrontFace front_face)
+  {
+
+  }
+
+  @Override
+  public void setPrimitiveTopology(
+    final VulkanPrimitiveTopology topology)
+  {
+
+  }
+
+  @Override
+  public void setDepthTestEnable(
+    final boolean enable)
+  {
+
+  }
+
+  @Override
+  public void setDepthWriteEnable(
+    final boolean enable)
+  {
+
+  }
+
+  @Override
+  public void setDepthCompareOp(
+    final VulkanCompareOp compare_op)
+  {
+
+  }
+
+  @Override
+  public void setDepthBoundsTestEnable(
+    final boolean enable)
+  {
+
+  }
+
+  @Override
+  public void setStencilTestEnable(
+    final boolean enable)
+  {
+
+  }
+
+  @Override
+  public void setStencilOp(
+    final Set<VulkanStencilFaceFlag> face_mask,
+    final VulkanStencilOp fail_op,
+    final VulkanStencilOp pass_op,
+    final VulkanStencilOp depth_fail_op,
+    final VulkanCompareOp compare_op)
+  {
+
+  }
+
+  @Override
+  public void setRasterizerDiscardEnable(
+    final boolean enable)
+  {
+
+  }
+
+  @Override
+  public void setDepthBiasEnable(
+    final boolean enable)
+  {
+
+  }
+
+  @Override
+  public void setPrimitiveRestartEnable(
+    final boolean enable)
+  {
+
+  }
+
+  @Override
+  public void setPolygonMode(
+    final VulkanPolygonMode polygon_mode)
+    throws VulkanException
+  {
+    this.checkExtendedDynamicState3();
+  }
+
+  @Override
+  public void setColorBlendEnable(
+    final int first_attachment,
+    final List<Boolean> enables)
+    throws VulkanException
+  {
+    this.checkExtendedDynamicState3();
+  }
+
+  @Override
+  public void setColorBlendEquation(
+    final int first_attachment,
+    final List<VulkanColorBlendEquationEXT> equations)
+    throws VulkanException
+  {
+    this.checkExtendedDynamicState3();
+  }
+
+  @Override
+  public void setColorWriteMask(
+    final int first_attachment,
+    final List<Set<VulkanColorComponentFlag>> masks)
+    throws VulkanException
+  {
+    this.checkExtendedDynamicState3();
+  }
+
+  @Override
+  public void setVertexInput(
+    final List<VulkanVertexInputBindingDescription> bindings,
+    final List<VulkanVertexInputAttributeDescription> attributes)
+    throws VulkanException
+  {
+    this.checkVertexInputDynamicState();
+  }
+
+  private void checkExtendedDynamicState3()
+    throws VulkanException
+  {
+    if (!this.device.enabledExtensions()
+      .containsKey("VK_EXT_extended_dynamic_state3")) {
+      throw new VulkanMissingRequiredExtensionsException(
+        Set.of("VK_EXT_extended_dynamic_state3"),
+        "The VK_EXT_extended_dynamic_state3 extension is not enabled on this device."
+      );
+    }
+  }
+
+  private void checkVertexInputDynamicState()
+    throws VulkanException
+  {
+    if (!this.device.enabledExtensions()
+      .containsKey("VK_EXT_vertex_input_dynamic_state")) {
+      throw new VulkanMissingRequiredExtensionsException(
+        Set.of("VK_EXT_vertex_input_dynamic_state"),
+        "The VK_EXT_vertex_input_dynamic_state extension is not enabled on this device."
+      );
+    }
+  }
+
   @Override
   public void setEvent(
     final VulkanEventType event,
@@ -470,4 +889,100 @@ public final class VFakeCommandBuffer implements VulkanCommandBufferType
   {
     return this.closed.get();
   }
+
+  @Override
+  public void pushDescriptorSet(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int set,
+    final List<VulkanWriteDescriptorSet> descriptor_writes)
+    throws VulkanException
+  {
+    Objects.requireNonNull(pipeline_bind_point, "pipeline_bind_point");
+    Objects.requireNonNull(layout, "layout");
+    Objects.requireNonNull(descriptor_writes, "descriptor_writes");
+
+    this.checkPushDescriptors();
+  }
+
+  @Override
+  public void pushDescriptorSetWithTemplate(
+    final VulkanDescriptorUpdateTemplateType template,
+    final VulkanPipelineLayoutType layout,
+    final int set,
+    final MemorySegment data)
+    throws VulkanException
+  {
+    Objects.requireNonNull(template, "template");
+    Objects.requireNonNull(layout, "layout");
+    Objects.requireNonNull(data, "data");
+
+    this.checkPushDescriptors();
+    Objects.checkFromIndexSize(0L, template.dataSize(), data.byteSize());
+  }
+
+  @Override
+  public void pushDescriptorSetWithTemplate(
+    final VulkanDescriptorUpdateTemplateType template,
+    final VulkanPipelineLayoutType layout,
+    final int set,
+    final ByteBuffer data)
+    throws VulkanException
+  {
+    Objects.requireNonNull(template, "template");
+    Objects.requireNonNull(layout, "layout");
+    Objects.requireNonNull(data, "data");
+
+    this.checkPushDescriptors();
+    Objects.checkFromIndexSize(0L, template.dataSize(), data.remaining());
+  }
+
+  private void checkPushDescriptors()
+    throws VulkanException
+  {
+    if (this.device.enabledExtensions().containsKey("VK_KHR_push_descriptor")) {
+      return;
+    }
+
+    final var features =
+      this.device.physicalDevice().features();
+
+    if (!features.features14().pushDescriptor()) {
+      throw new VulkanMissingRequiredExtensionsException(
+        Set.of("VK_KHR_push_descriptor"),
+        "Push descriptors require Vulkan 1.4 or the VK_KHR_push_descriptor extension."
+      );
+    }
+  }
+
+  @Override
+  public void bindDescriptorBuffers(
+    final List<VulkanDescriptorBufferBindingInfoEXT> binding_infos)
+    throws VulkanException
+  {
+    this.checkDescriptorBuffer();
+  }
+
+  @Override
+  public void setDescriptorBufferOffsets(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int first_set,
+    final int[] buffer_indices,
+    final long[] offsets)
+    throws VulkanException
+  {
+    this.checkDescriptorBuffer();
+  }
+
+  private void checkDescriptorBuffer()
+    throws VulkanException
+  {
+    if (!this.device.enabledExtensions().containsKey("VK_EXT_descriptor_buffer")) {
+      throw new VulkanMissingRequiredExtensionsException(
+        Set.of("VK_EXT_descriptor_buffer"),
+        "The VK_EXT_descriptor_buffer extension is not enabled on this device."
+      );
+    }
+  }
 }
@@ -0,0 +1,264 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.fake;
+
+import com.io7m.jcoronado.api.VulkanCommandStreamHandleResolverType;
+import com.io7m.jcoronado.api.VulkanCommandStreamReceiverType;
+import com.io7m.jcoronado.api.VulkanCommandStreamType;
+import com.io7m.jcoronado.api.VulkanIncompatibleClassException;
+import com.io7m.jcoronado.api.internal.VulkanCommandStreamBuffer;
+
+import java.util.Objects;
+
+/**
+ * Fake command stream support. Fake handles are resolved to their identity
+ * hash codes, and replayed commands are counted but otherwise ignored.
+ */
+
+final class VFakeCommandStreams
+{
+  private VFakeCommandStreams()
+  {
+
+  }
+
+  static VulkanCommandStreamHandleResolverType createResolver()
+  {
+    return handle -> Integer.toUnsignedLong(
+      System.identityHashCode(Objects.requireNonNull(handle, "handle"))
+    );
+  }
+
+  static VulkanCommandStreamBuffer create(
+    final VulkanCommandStreamHandleResolverType resolver,
+    final long initialCapacity)
+  {
+    return new VulkanCommandStreamBuffer(resolver, initialCapacity);
+  }
+
+  static VulkanCommandStreamBuffer check(
+    final VulkanCommandStreamType stream,
+    final VulkanCommandStreamHandleResolverType resolver)
+    throws VulkanIncompatibleClassException
+  {
+    if (stream instanceof final VulkanCommandStreamBuffer buffer) {
+      if (buffer.resolver() == resolver) {
+        return buffer;
+      }
+      throw new VulkanIncompatibleClassException(
+        "Command stream was created by a different device."
+      );
+    }
+    throw new VulkanIncompatibleClassException(
+      "Command stream was not created by a fake device."
+    );
+  }
+
+  /**
+   * A receiver that counts commands.
+   */
+
+  static final class CountingReceiver
+    implements VulkanCommandStreamReceiverType
+  {
+    private long count;
+
+    CountingReceiver()
+    {
+
+    }
+
+    long count()
+    {
+      return this.count;
+    }
+
+    @Override
+    public void bindPipeline(
+      final int bind_point,
+      final long pipeline)
+    {
+      ++this.count;
+    }
+
+    @Override
+    public void bindVertexBuffers(
+      final int first_binding,
+      final int count,
+      final long buffers_address,
+      final long offsets_address)
+    {
+      ++this.count;
+    }
+
+    @Override
+    public void bindIndexBuffer(
+      final long buffer,
+      final long offset,
+      final int index_type)
+    {
+      ++this.count;
+    }
+
+    @Override
+    public void bindDescriptorSets(
+      final int bind_point,
+      final long layout,
+      final int first_set,
+      final int set_count,
+      final long sets_address,
+      final int dynamic_offset_count,
+      final long dynamic_offsets_address)
+    {
+      ++this.count;
+    }
+
+    @Override
+    public void draw(
+      final int vertex_count,
+      final int instance_count,
+      final int first_vertex,
+      final int first_instance)
+    {
+      ++this.count;
+    }
+
+    @Override
+    public void drawIndexed(
+      final int vertex_count,
+      final int instance_count,
+      final int first_vertex,
+      final int vertex_offset,
+      final int first_instance)
+    {
+      ++this.count;
+    }
+
+    @Override
+    public void drawIndirect(
+      final long buffer,
+      final long offset,
+      final int draw_count,
+      final int stride)
+    {
+      ++this.count;
+    }
+
+    @Override
+    public void drawIndexedIndirect(
+      final long buffer,
+      final long offset,
+      final int draw_count,
+      final int stride)
+    {
+      ++this.count;
+    }
+
+    @Override
+    public void dispatch(
+      final int group_count_x,
+      final int group_count_y,
+      final int group_count_z)
+    {
+      ++this.count;
+    }
+
+    @Override
+    public void setViewport(
+      final int first_viewport,
+      final int count,
+      final long viewports_address)
+    {
+      ++this.count;
+    }
+
+    @Override
+    public void setScissor(
+      final int first_scissor,
+      final int count,
+      final long scissors_address)
+    {
+      ++this.count;
+    }
+
+    @Override
+    public void setLineWidth(
+      final float width)
+    {
+      ++this.count;
+    }
+
+    @Override
+    public void setDepthBias(
+      final float depth_bias_constant_factor,
+      final float depth_bias_clamp,
+      final float depth_bias_slope_factor)
+    {
+      ++this.count;
+    }
+
+    @Override
+    public void setDepthBounds(
+      final float min_depth_bounds,
+      final float max_depth_bounds)
+    {
+      ++this.count;
+    }
+
+    @Override
+    public void setBlendConstants(
+      final long constants_address)
+    {
+      ++this.count;
+    }
+
+    @Override
+    public void setStencilReference(
+      final int face_mask,
+      final int reference)
+    {
+      ++this.count;
+    }
+
+    @Override
+    public void setStencilCompareMask(
+      final int face_mask,
+      final int mask)
+    {
+      ++this.count;
+    }
+
+    @Override
+    public void setStencilWriteMask(
+      final int face_mask,
+      final int mask)
+    {
+      ++this.count;
+    }
+
+    @Override
+    public void pushConstants(
+      final long layout,
+      final int stage_flags,
+      final int offset,
+      final int size,
+      final long data_address)
+    {
+      ++this.count;
+    }
+  }
+}
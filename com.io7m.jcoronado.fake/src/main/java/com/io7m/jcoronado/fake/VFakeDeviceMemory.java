@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.fake;
+
+import com.io7m.jcoronado.api.VulkanDeviceMemoryType;
+import com.io7m.jcoronado.api.VulkanMemoryAllocateInfo;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A fake device memory allocation. No host or device memory is actually
+ * reserved; the allocation exists only so that code that sub-allocates from
+ * device memory can be exercised without a device.
+ */
+
+public final class VFakeDeviceMemory implements VulkanDeviceMemoryType
+{
+  private final VFakeLogicalDevice device;
+  private final VulkanMemoryAllocateInfo info;
+  private final long handle;
+  private final AtomicBoolean closed;
+
+  VFakeDeviceMemory(
+    final VFakeLogicalDevice inDevice,
+    final VulkanMemoryAllocateInfo inInfo,
+    final long inHandle)
+  {
+    this.device =
+      Objects.requireNonNull(inDevice, "device");
+    this.info =
+      Objects.requireNonNull(inInfo, "info");
+    this.handle =
+      inHandle;
+    this.closed =
+      new AtomicBoolean(false);
+  }
+
+  /**
+   * @return The information used to allocate the memory
+   */
+
+  public VulkanMemoryAllocateInfo info()
+  {
+    return this.info;
+  }
+
+  /**
+   * @return The fake handle value
+   */
+
+  public long handle()
+  {
+    return this.handle;
+  }
+
+  @Override
+  public void close()
+  {
+    if (this.closed.compareAndSet(false, true)) {
+      this.device.freeMemory(this);
+    }
+  }
+
+  @Override
+  public boolean isClosed()
+  {
+    return this.closed.get();
+  }
+
+  @Override
+  public String toString()
+  {
+    return "[VFakeDeviceMemory 0x%s %s]".formatted(
+      Long.toUnsignedString(this.handle, 16),
+      Long.toUnsignedString(this.info.size())
+    );
+  }
+}
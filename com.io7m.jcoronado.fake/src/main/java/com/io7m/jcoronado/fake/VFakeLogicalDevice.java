@@ -27,9 +27,12 @@ import com.io7m.jcoronado.api.VulkanCommandBufferType;
 import com.io7m.jcoronado.api.VulkanCommandPoolCreateInfo;
 import com.io7m.jcoronado.api.VulkanCommandPoolResetFlag;
 import com.io7m.jcoronado.api.VulkanCommandPoolType;
+import com.io7m.jcoronado.api.VulkanCommandStreamHandleResolverType;
+import com.io7m.jcoronado.api.VulkanCommandStreamType;
 import com.io7m.jcoronado.api.VulkanComputePipelineCreateInfo;
 import com.io7m.jcoronado.api.VulkanCopyDescriptorSet;
 import com.io7m.jcoronado.api.VulkanDebuggingType;
+import com.io7m.jcoronado.api.VulkanDescriptorGetInfoEXT;
 import com.io7m.jcoronado.api.VulkanDescriptorPoolCreateInfo;
 import com.io7m.jcoronado.api.VulkanDescriptorPoolResetFlag;
 import com.io7m.jcoronado.api.VulkanDescriptorPoolType;
@@ -37,6 +40,8 @@ import com.io7m.jcoronado.api.VulkanDescriptorSetAllocateInfo;
 import com.io7m.jcoronado.api.VulkanDescriptorSetLayoutCreateInfo;
 import com.io7m.jcoronado.api.VulkanDescriptorSetLayoutType;
 import com.io7m.jcoronado.api.VulkanDescriptorSetType;
+import com.io7m.jcoronado.api.VulkanDescriptorUpdateTemplateCreateInfo;
+import com.io7m.jcoronado.api.VulkanDescriptorUpdateTemplateType;
 import com.io7m.jcoronado.api.VulkanDeviceAddress;
 import com.io7m.jcoronado.api.VulkanDeviceMemoryType;
 import com.io7m.jcoronado.api.VulkanEventCreateInfo;
@@ -61,6 +66,9 @@ import com.io7m.jcoronado.api.VulkanMappedMemoryType;
 import com.io7m.jcoronado.api.VulkanMemoryAllocateInfo;
 import com.io7m.jcoronado.api.VulkanMemoryMapFlag;
 import com.io7m.jcoronado.api.VulkanMemoryRequirements;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceDescriptorBufferPropertiesEXT;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceDescriptorIndexingProperties;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceFeatures;
 import com.io7m.jcoronado.api.VulkanPhysicalDeviceType;
 import com.io7m.jcoronado.api.VulkanPipelineCacheCreateInfo;
 import com.io7m.jcoronado.api.VulkanPipelineCacheType;
@@ -79,12 +87,17 @@ import com.io7m.jcoronado.api.VulkanSemaphoreBinaryType;
 import com.io7m.jcoronado.api.VulkanSemaphoreTimelineCreateInfo;
 import com.io7m.jcoronado.api.VulkanSemaphoreTimelineType;
 import com.io7m.jcoronado.api.VulkanSemaphoreTimelineWait;
+import com.io7m.jcoronado.api.VulkanShaderCreateInfoEXT;
 import com.io7m.jcoronado.api.VulkanShaderModuleCreateInfo;
+import com.io7m.jcoronado.api.VulkanShaderModuleIdentifierEXT;
 import com.io7m.jcoronado.api.VulkanShaderModuleType;
+import com.io7m.jcoronado.api.VulkanShaderObjectType;
 import com.io7m.jcoronado.api.VulkanSubresourceLayout;
 import com.io7m.jcoronado.api.VulkanWriteDescriptorSet;
 
+import java.lang.foreign.MemorySegment;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -92,6 +105,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
@@ -106,6 +121,9 @@ public final class VFakeLogicalDevice implements VulkanLogicalDeviceType
   private final AtomicBoolean closed;
   private final VFakePhysicalDevice physicalDevice;
   private final VKFakeDebugging debugging;
+  private final AtomicLong memoryHandles;
+  private final AtomicInteger memoryAllocations;
+  private final VulkanCommandStreamHandleResolverType commandStreamResolver;
 
   /**
    * A logical device.
@@ -122,12 +140,23 @@ public final class VFakeLogicalDevice implements VulkanLogicalDeviceType
       new VKFakeDebugging();
     this.closed =
       new AtomicBoolean(false);
+    this.memoryHandles =
+      new AtomicLong(0L);
+    this.memoryAllocations =
+      new AtomicInteger(0);
+    this.commandStreamResolver =
+      VFakeCommandStreams.createResolver();
     this.queues =
       List.of();
     this.enabledExtensions =
       Map.of();
   }
 
+  VulkanCommandStreamHandleResolverType commandStreamResolver()
+  {
+    return this.commandStreamResolver;
+  }
+
   /**
    * Set the queues.
    *
@@ -179,6 +208,19 @@ public final class VFakeLogicalDevice implements VulkanLogicalDeviceType
     return this.physicalDevice;
   }
 
+  /**
+   * A fake device behaves as if it was created with every feature of its
+   * physical device enabled.
+   *
+   * @return The features of the physical device
+   */
+
+  @Override
+  public VulkanPhysicalDeviceFeatures enabledFeatures()
+  {
+    return this.physicalDevice.features();
+  }
+
   @Override
   public List<VulkanQueueType> queues()
     throws VulkanException
@@ -201,6 +243,47 @@ public final class VFakeLogicalDevice implements VulkanLogicalDeviceType
     throw errorNotImplemented("createShaderModule");
   }
 
+  @Override
+  public VulkanShaderModuleIdentifierEXT getShaderModuleIdentifier(
+    final VulkanShaderModuleType module)
+    throws VulkanException
+  {
+    throw errorNotImplemented("getShaderModuleIdentifier");
+  }
+
+  @Override
+  public VulkanShaderModuleIdentifierEXT getShaderModuleCreateInfoIdentifier(
+    final VulkanShaderModuleCreateInfo create_info)
+    throws VulkanException
+  {
+    throw errorNotImplemented("getShaderModuleCreateInfoIdentifier");
+  }
+
+  @Override
+  public List<VulkanShaderObjectType> createShaders(
+    final List<VulkanShaderCreateInfoEXT> create_infos)
+    throws VulkanException
+  {
+    throw errorNotImplemented("createShaders");
+  }
+
+  @Override
+  public long getShaderBinaryDataSize(
+    final VulkanShaderObjectType shader)
+    throws VulkanException
+  {
+    throw errorNotImplemented("getShaderBinaryDataSize");
+  }
+
+  @Override
+  public long getShaderBinaryData(
+    final VulkanShaderObjectType shader,
+    final ByteBuffer data)
+    throws VulkanException
+  {
+    throw errorNotImplemented("getShaderBinaryData");
+  }
+
   @Override
   public VulkanSamplerType createSampler(
     final VulkanSamplerCreateInfo create_info)
@@ -274,6 +357,75 @@ public final class VFakeLogicalDevice implements VulkanLogicalDeviceType
     throw errorNotImplemented("updateDescriptorSets");
   }
 
+  @Override
+  public VulkanDescriptorUpdateTemplateType createDescriptorUpdateTemplate(
+    final VulkanDescriptorUpdateTemplateCreateInfo info)
+    throws VulkanException
+  {
+    throw errorNotImplemented("createDescriptorUpdateTemplate");
+  }
+
+  @Override
+  public void updateDescriptorSetWithTemplate(
+    final VulkanDescriptorSetType descriptor_set,
+    final VulkanDescriptorUpdateTemplateType template,
+    final MemorySegment data)
+    throws VulkanException
+  {
+    throw errorNotImplemented("updateDescriptorSetWithTemplate");
+  }
+
+  @Override
+  public void updateDescriptorSetWithTemplate(
+    final VulkanDescriptorSetType descriptor_set,
+    final VulkanDescriptorUpdateTemplateType template,
+    final ByteBuffer data)
+    throws VulkanException
+  {
+    throw errorNotImplemented("updateDescriptorSetWithTemplate");
+  }
+
+  @Override
+  public VulkanPhysicalDeviceDescriptorIndexingProperties descriptorIndexingProperties()
+    throws VulkanException
+  {
+    throw errorNotImplemented("descriptorIndexingProperties");
+  }
+
+  @Override
+  public VulkanPhysicalDeviceDescriptorBufferPropertiesEXT descriptorBufferProperties()
+    throws VulkanException
+  {
+    throw errorNotImplemented("descriptorBufferProperties");
+  }
+
+  @Override
+  public long getDescriptorSetLayoutSize(
+    final VulkanDescriptorSetLayoutType layout)
+    throws VulkanException
+  {
+    throw errorNotImplemented("getDescriptorSetLayoutSize");
+  }
+
+  @Override
+  public long getDescriptorSetLayoutBindingOffset(
+    final VulkanDescriptorSetLayoutType layout,
+    final int binding)
+    throws VulkanException
+  {
+    throw errorNotImplemented("getDescriptorSetLayoutBindingOffset");
+  }
+
+  @Override
+  public long getDescriptor(
+    final VulkanDescriptorGetInfoEXT info,
+    final MemorySegment target,
+    final long offset)
+    throws VulkanException
+  {
+    throw errorNotImplemented("getDescriptor");
+  }
+
   @Override
   public VulkanRenderPassType createRenderPass(
     final VulkanRenderPassCreateInfo render_pass_create_info)
@@ -347,13 +499,24 @@ public final class VFakeLogicalDevice implements VulkanLogicalDeviceType
     return new VFakeCommandPool();
   }
 
+  @Override
+  public VulkanCommandStreamType createCommandStream(
+    final long initial_capacity)
+  {
+    return VFakeCommandStreams.create(
+      this.commandStreamResolver, initial_capacity);
+  }
+
   @Override
   public List<VulkanCommandBufferType> createCommandBuffers(
     final VulkanCommandBufferCreateInfo create_info)
   {
-    return List.of(
-      new VFakeCommandBuffer()
-    );
+    final var results =
+      new ArrayList<VulkanCommandBufferType>(create_info.count());
+    for (int index = 0; index < create_info.count(); ++index) {
+      results.add(new VFakeCommandBuffer(this));
+    }
+    return List.copyOf(results);
   }
 
   @Override
@@ -402,9 +565,8 @@ public final class VFakeLogicalDevice implements VulkanLogicalDeviceType
   public void resetCommandPool(
     final VulkanCommandPoolType pool,
     final Set<VulkanCommandPoolResetFlag> flags)
-    throws VulkanCallFailedException
   {
-    throw errorNotImplemented("resetCommandPool");
+
   }
 
   @Override
@@ -498,7 +660,46 @@ public final class VFakeLogicalDevice implements VulkanLogicalDeviceType
     final VulkanMemoryAllocateInfo info)
     throws VulkanException
   {
-    throw errorNotImplemented("allocateMemory");
+    Objects.requireNonNull(info, "info");
+
+    final var limit =
+      this.physicalDevice.limits().maxMemoryAllocationCount();
+    final var count =
+      this.memoryAllocations.incrementAndGet();
+
+    if (Integer.compareUnsigned(count, limit) > 0) {
+      this.memoryAllocations.decrementAndGet();
+      throw new VulkanCallFailedException(
+        "Too many memory allocations.",
+        Map.ofEntries(
+          Map.entry("ErrorCode", "VK_ERROR_TOO_MANY_OBJECTS"),
+          Map.entry("Function", "allocateMemory"),
+          Map.entry("Limit", Integer.toUnsignedString(limit))
+        )
+      );
+    }
+
+    return new VFakeDeviceMemory(
+      this,
+      info,
+      this.memoryHandles.incrementAndGet()
+    );
+  }
+
+  void freeMemory(
+    final VFakeDeviceMemory memory)
+  {
+    Objects.requireNonNull(memory, "memory");
+    this.memoryAllocations.decrementAndGet();
+  }
+
+  /**
+   * @return The number of device memory allocations that have not been freed
+   */
+
+  public int memoryAllocationCount()
+  {
+    return this.memoryAllocations.get();
   }
 
   @Override
@@ -57,6 +57,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -126,6 +127,7 @@ public final class VFakePhysicalDevice
         .setId(this.hashCode())
         .setVendorId(0x494F374D)
         .setName("Fake")
+        .setPipelineCacheUUID(new UUID(0L, this.hashCode()))
         .build();
 
     final var lineWidthRange =
@@ -214,6 +216,7 @@ public final class VFakePhysicalDevice
         .setMaxImageDimensionCube(4096)
         .setMaxInterpolationOffset(0.5f)
         .setMaxMemoryAllocationCount(4096)
+        .setMaxMultiDrawCount(2048)
         .setMaxPerStageDescriptorInputAttachments(4)
         .setMaxPerStageDescriptorSampledImages(16)
         .setMaxPerStageDescriptorSamplers(16)
@@ -0,0 +1,426 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.fake;
+
+import com.io7m.jcoronado.api.VulkanDestroyedException;
+import com.io7m.jcoronado.vma.VMADetailedStatistics;
+import com.io7m.jcoronado.vma.VMAStatistics;
+import com.io7m.jcoronado.vma.VMAVirtualAllocation;
+import com.io7m.jcoronado.vma.VMAVirtualAllocationCreateInfo;
+import com.io7m.jcoronado.vma.VMAVirtualBlockCreateInfo;
+import com.io7m.jcoronado.vma.VMAVirtualBlockType;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.io7m.jcoronado.vma.VMAVirtualAllocationCreateFlag.VMA_VIRTUAL_ALLOCATION_CREATE_STRATEGY_MIN_OFFSET_BIT;
+import static com.io7m.jcoronado.vma.VMAVirtualAllocationCreateFlag.VMA_VIRTUAL_ALLOCATION_CREATE_UPPER_ADDRESS_BIT;
+import static com.io7m.jcoronado.vma.VMAVirtualBlockCreateFlag.VMA_VIRTUAL_BLOCK_CREATE_LINEAR_ALGORITHM_BIT;
+
+/**
+ * A pure-Java virtual block. Free ranges are kept in two ordered sets, one
+ * by offset (for coalescing and lowest-offset placement) and one by size
+ * (for best-fit placement), and adjacent free ranges are merged when an
+ * allocation is freed.
+ *
+ * Placement is chosen as follows:
+ *
+ * <ul>
+ *   <li>Upper address allocations take the highest-addressed range that fits.</li>
+ *   <li>Minimum offset allocations, and all other allocations in linear
+ *   blocks, take the lowest-addressed range that fits.</li>
+ *   <li>All other allocations take the smallest range that fits.</li>
+ * </ul>
+ *
+ * The placement of individual allocations will therefore not match VMA
+ * exactly, but the results are always valid: allocations never overlap,
+ * respect their alignment, and lie within the block.
+ */
+
+public final class VFakeVirtualBlock implements VMAVirtualBlockType
+{
+  private static final Comparator<Range> BY_SIZE =
+    Comparator.comparingLong(Range::size)
+      .thenComparingLong(Range::offset);
+
+  private final VMAVirtualBlockCreateInfo info;
+  private final boolean linear;
+  private final ReentrantLock lock;
+  private final TreeMap<Long, Range> freeByOffset;
+  private final TreeSet<Range> freeBySize;
+  private final HashMap<Long, VMAVirtualAllocation> live;
+  private long allocatedBytes;
+  private boolean closed;
+
+  private record Range(
+    long offset,
+    long size)
+  {
+    long end()
+    {
+      return this.offset + this.size;
+    }
+  }
+
+  VFakeVirtualBlock(
+    final VMAVirtualBlockCreateInfo inInfo)
+  {
+    this.info =
+      Objects.requireNonNull(inInfo, "info");
+    this.linear =
+      inInfo.flags().contains(VMA_VIRTUAL_BLOCK_CREATE_LINEAR_ALGORITHM_BIT);
+    this.lock =
+      new ReentrantLock();
+    this.freeByOffset =
+      new TreeMap<>();
+    this.freeBySize =
+      new TreeSet<>(BY_SIZE);
+    this.live =
+      new HashMap<>();
+
+    this.addFree(new Range(0L, inInfo.size()));
+  }
+
+  private static long alignUp(
+    final long offset,
+    final long alignment)
+  {
+    return (offset + (alignment - 1L)) & -alignment;
+  }
+
+  private void addFree(
+    final Range range)
+  {
+    this.freeByOffset.put(Long.valueOf(range.offset()), range);
+    this.freeBySize.add(range);
+  }
+
+  private void removeFree(
+    final Range range)
+  {
+    this.freeByOffset.remove(Long.valueOf(range.offset()));
+    this.freeBySize.remove(range);
+  }
+
+  private void checkNotClosed()
+    throws VulkanDestroyedException
+  {
+    if (this.closed) {
+      throw new VulkanDestroyedException(
+        "Object has been closed/destroyed.",
+        this.getClass()
+      );
+    }
+  }
+
+  @Override
+  public VMAVirtualBlockCreateInfo createInfo()
+  {
+    return this.info;
+  }
+
+  @Override
+  public Optional<VMAVirtualAllocation> allocate(
+    final VMAVirtualAllocationCreateInfo allocation_info)
+    throws VulkanDestroyedException
+  {
+    Objects.requireNonNull(allocation_info, "allocation_info");
+
+    final var flags = allocation_info.flags();
+    final var upper = flags.contains(VMA_VIRTUAL_ALLOCATION_CREATE_UPPER_ADDRESS_BIT);
+    if (upper && !this.linear) {
+      throw new IllegalArgumentException(
+        "Upper address allocations require a linear virtual block.");
+    }
+
+    final var size = allocation_info.size();
+    final var alignment = allocation_info.alignment();
+
+    this.lock.lock();
+    try {
+      this.checkNotClosed();
+
+      final long start;
+      if (upper) {
+        start = this.findHighest(size, alignment);
+      } else if (this.linear
+                 || flags.contains(VMA_VIRTUAL_ALLOCATION_CREATE_STRATEGY_MIN_OFFSET_BIT)) {
+        start = this.findLowest(size, alignment);
+      } else {
+        start = this.findBest(size, alignment);
+      }
+
+      if (start < 0L) {
+        return Optional.empty();
+      }
+
+      final var allocation =
+        VMAVirtualAllocation.builder()
+          .setHandle(start + 1L)
+          .setOffset(start)
+          .setSize(size)
+          .build();
+
+      this.live.put(Long.valueOf(allocation.handle()), allocation);
+      this.allocatedBytes += size;
+      return Optional.of(allocation);
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Carve {@code [start, start + size)} out of the free range {@code range}.
+   */
+
+  private long carve(
+    final Range range,
+    final long start,
+    final long size)
+  {
+    this.removeFree(range);
+
+    final var front = start - range.offset();
+    if (front > 0L) {
+      this.addFree(new Range(range.offset(), front));
+    }
+
+    final var end = start + size;
+    final var back = range.end() - end;
+    if (back > 0L) {
+      this.addFree(new Range(end, back));
+    }
+    return start;
+  }
+
+  private long findBest(
+    final long size,
+    final long alignment)
+  {
+    final var candidates =
+      this.freeBySize.tailSet(new Range(Long.MIN_VALUE, size), true);
+
+    for (final var range : candidates) {
+      final var start = alignUp(range.offset(), alignment);
+      if (start + size <= range.end()) {
+        return this.carve(range, start, size);
+      }
+    }
+    return -1L;
+  }
+
+  private long findLowest(
+    final long size,
+    final long alignment)
+  {
+    for (final var range : this.freeByOffset.values()) {
+      final var start = alignUp(range.offset(), alignment);
+      if (start + size <= range.end()) {
+        return this.carve(range, start, size);
+      }
+    }
+    return -1L;
+  }
+
+  private long findHighest(
+    final long size,
+    final long alignment)
+  {
+    for (final var range : this.freeByOffset.descendingMap().values()) {
+      if (range.size() < size) {
+        continue;
+      }
+      final var start = (range.end() - size) & -alignment;
+      if (start >= range.offset()) {
+        return this.carve(range, start, size);
+      }
+    }
+    return -1L;
+  }
+
+  @Override
+  public void free(
+    final VMAVirtualAllocation allocation)
+    throws VulkanDestroyedException
+  {
+    Objects.requireNonNull(allocation, "allocation");
+
+    this.lock.lock();
+    try {
+      this.checkNotClosed();
+
+      final var key = Long.valueOf(allocation.handle());
+      final var existing = this.live.get(key);
+      if (!allocation.equals(existing)) {
+        throw new IllegalArgumentException(
+          "Allocation %s is not live in this block."
+            .formatted(allocation));
+      }
+      this.live.remove(key);
+      this.allocatedBytes -= allocation.size();
+
+      var offset = allocation.offset();
+      var end = offset + allocation.size();
+
+      final Map.Entry<Long, Range> lower =
+        this.freeByOffset.lowerEntry(Long.valueOf(offset));
+      if (lower != null && lower.getValue().end() == offset) {
+        final var range = lower.getValue();
+        this.removeFree(range);
+        offset = range.offset();
+      }
+
+      final var higher = this.freeByOffset.get(Long.valueOf(end));
+      if (higher != null) {
+        this.removeFree(higher);
+        end = higher.end();
+      }
+
+      this.addFree(new Range(offset, end - offset));
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public void clear()
+    throws VulkanDestroyedException
+  {
+    this.lock.lock();
+    try {
+      this.checkNotClosed();
+      this.live.clear();
+      this.freeByOffset.clear();
+      this.freeBySize.clear();
+      this.allocatedBytes = 0L;
+      this.addFree(new Range(0L, this.info.size()));
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public boolean isEmpty()
+    throws VulkanDestroyedException
+  {
+    this.lock.lock();
+    try {
+      this.checkNotClosed();
+      return this.live.isEmpty();
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public VMAStatistics statistics()
+    throws VulkanDestroyedException
+  {
+    this.lock.lock();
+    try {
+      this.checkNotClosed();
+      return this.statisticsLocked();
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  private VMAStatistics statisticsLocked()
+  {
+    return VMAStatistics.builder()
+      .setBlockCount(1L)
+      .setAllocationCount(this.live.size())
+      .setBlockBytes(this.info.size())
+      .setAllocationBytes(this.allocatedBytes)
+      .build();
+  }
+
+  @Override
+  public VMADetailedStatistics calculateStatistics()
+    throws VulkanDestroyedException
+  {
+    this.lock.lock();
+    try {
+      this.checkNotClosed();
+
+      var allocationMin = -1L;
+      var allocationMax = 0L;
+      for (final var allocation : this.live.values()) {
+        final var size = allocation.size();
+        if (Long.compareUnsigned(size, allocationMin) < 0) {
+          allocationMin = size;
+        }
+        allocationMax = Math.max(allocationMax, size);
+      }
+
+      final var unusedMin =
+        this.freeBySize.isEmpty() ? -1L : this.freeBySize.first().size();
+      final var unusedMax =
+        this.freeBySize.isEmpty() ? 0L : this.freeBySize.last().size();
+
+      return VMADetailedStatistics.builder()
+        .setStatistics(this.statisticsLocked())
+        .setUnusedRangeCount(this.freeByOffset.size())
+        .setAllocationSizeMin(allocationMin)
+        .setAllocationSizeMax(allocationMax)
+        .setUnusedRangeSizeMin(unusedMin)
+        .setUnusedRangeSizeMax(unusedMax)
+        .build();
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public boolean isClosed()
+  {
+    this.lock.lock();
+    try {
+      return this.closed;
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public void close()
+  {
+    this.lock.lock();
+    try {
+      this.closed = true;
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return new StringBuilder(32)
+      .append("[VFakeVirtualBlock ")
+      .append(this.info.size())
+      .append(']')
+      .toString();
+  }
+}
@@ -25,6 +25,7 @@ module com.io7m.jcoronado.fake
 
   requires com.io7m.jcoronado.api;
   requires com.io7m.jcoronado.extensions.khr.surface.api;
+  requires com.io7m.jcoronado.vma;
 
   requires com.io7m.junreachable.core;
   requires com.io7m.jmulticlose.core;
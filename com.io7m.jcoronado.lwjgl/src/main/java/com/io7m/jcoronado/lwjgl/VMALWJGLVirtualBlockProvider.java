@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.lwjgl;
+
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.lwjgl.internal.VMALWJGLVirtualBlock;
+import com.io7m.jcoronado.vma.VMAVirtualBlockCreateInfo;
+import com.io7m.jcoronado.vma.VMAVirtualBlockProviderType;
+import com.io7m.jcoronado.vma.VMAVirtualBlockType;
+
+/**
+ * A LWJGL-based virtual block provider.
+ */
+
+public final class VMALWJGLVirtualBlockProvider
+  implements VMAVirtualBlockProviderType
+{
+  private VMALWJGLVirtualBlockProvider()
+  {
+
+  }
+
+  /**
+   * @return A new virtual block provider
+   */
+
+  public static VMAVirtualBlockProviderType create()
+  {
+    return new VMALWJGLVirtualBlockProvider();
+  }
+
+  @Override
+  public String providerName()
+  {
+    return "com.io7m.jcoronado.lwjgl";
+  }
+
+  @Override
+  public String providerVersion()
+  {
+    final var pack = this.getClass().getPackage();
+    final var version = pack.getImplementationVersion();
+    return version == null ? "0.0.0" : version;
+  }
+
+  @Override
+  public VMAVirtualBlockType createVirtualBlock(
+    final VMAVirtualBlockCreateInfo info)
+    throws VulkanException
+  {
+    return VMALWJGLVirtualBlock.create(info);
+  }
+}
@@ -19,6 +19,7 @@ package com.io7m.jcoronado.lwjgl.internal;
 import com.io7m.jcoronado.api.VulkanBufferCreateInfo;
 import com.io7m.jcoronado.api.VulkanBufferType;
 import com.io7m.jcoronado.api.VulkanChecks;
+import com.io7m.jcoronado.api.VulkanDestroyedException;
 import com.io7m.jcoronado.api.VulkanDeviceMemoryType;
 import com.io7m.jcoronado.api.VulkanEnumMaps;
 import com.io7m.jcoronado.api.VulkanException;
@@ -30,19 +31,39 @@ import com.io7m.jcoronado.vma.VMAAllocationInfoType;
 import com.io7m.jcoronado.vma.VMAAllocationResult;
 import com.io7m.jcoronado.vma.VMAAllocationType;
 import com.io7m.jcoronado.vma.VMAAllocatorType;
+import com.io7m.jcoronado.vma.VMABudget;
+import com.io7m.jcoronado.vma.VMADefragmentationContextType;
+import com.io7m.jcoronado.vma.VMADefragmentationInfo;
+import com.io7m.jcoronado.vma.VMADetailedStatistics;
 import com.io7m.jcoronado.vma.VMAMappedMemoryType;
+import com.io7m.jcoronado.vma.VMAPoolCreateInfo;
+import com.io7m.jcoronado.vma.VMAPoolType;
+import com.io7m.jcoronado.vma.VMAStatistics;
+import com.io7m.jcoronado.vma.VMATotalStatistics;
+import org.lwjgl.system.MemoryStack;
 import org.lwjgl.system.MemoryUtil;
 import org.lwjgl.util.vma.Vma;
 import org.lwjgl.util.vma.VmaAllocationCreateInfo;
 import org.lwjgl.util.vma.VmaAllocationInfo;
+import org.lwjgl.util.vma.VmaBudget;
+import org.lwjgl.util.vma.VmaDefragmentationInfo;
+import org.lwjgl.util.vma.VmaDetailedStatistics;
+import org.lwjgl.util.vma.VmaPoolCreateInfo;
+import org.lwjgl.util.vma.VmaStatistics;
+import org.lwjgl.util.vma.VmaTotalStatistics;
 import org.lwjgl.vulkan.VK10;
+import org.lwjgl.vulkan.VkPhysicalDeviceMemoryProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import static com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLHandle.Ownership.USER_OWNED;
 
@@ -60,6 +81,8 @@ public final class VMALWJGLAllocator
   private final VulkanLWJGLLogicalDevice device;
   private final long allocator_address;
   private final VulkanLWJGLHostAllocatorProxy host_allocator_proxy;
+  private final ConcurrentHashMap<Long, VMALWJGLAllocation<?>> allocations;
+  private final ReentrantReadWriteLock closeLock;
 
   /**
    * @param inDevice             The device
@@ -85,6 +108,8 @@ public final class VMALWJGLAllocator
       );
 
     this.allocator_address = inAllocatorAddress;
+    this.allocations = new ConcurrentHashMap<>();
+    this.closeLock = new ReentrantReadWriteLock();
   }
 
   @Override
@@ -93,6 +118,17 @@ public final class VMALWJGLAllocator
     return LOG;
   }
 
+  long allocatorAddress()
+  {
+    return this.allocator_address;
+  }
+
+  VMALWJGLAllocation<?> findAllocation(
+    final long vk_allocation_handle)
+  {
+    return this.allocations.get(Long.valueOf(vk_allocation_handle));
+  }
+
   @Override
   protected void closeActual()
   {
@@ -100,7 +136,389 @@ public final class VMALWJGLAllocator
       LOG.trace("Destroying VMA allocator: {}", this);
     }
 
-    Vma.vmaDestroyAllocator(this.allocator_address);
+    /*
+     * Wait for any concurrent heapBudgets() calls (such as those made by
+     * monitoring threads) to finish before destroying the allocator. Those
+     * calls check the closed flag under the read lock, and the flag has
+     * already been set by the time this method runs, so no new calls can
+     * reach the native allocator.
+     */
+
+    final var lock = this.closeLock.writeLock();
+    lock.lock();
+    try {
+      Vma.vmaDestroyAllocator(this.allocator_address);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private Optional<VMALWJGLPool> checkPool(
+    final Optional<VMAPoolType> pool_opt)
+    throws VulkanException
+  {
+    if (pool_opt.isEmpty()) {
+      return Optional.empty();
+    }
+
+    final var pool =
+      VulkanLWJGLClassChecks.checkInstanceOf(
+        pool_opt.get(),
+        VMALWJGLPool.class);
+
+    if (pool.allocator != this) {
+      throw new IllegalArgumentException(
+        "Pool %s was not created by allocator %s".formatted(pool, this)
+      );
+    }
+
+    pool.checkNotClosed();
+    return Optional.of(pool);
+  }
+
+  private VmaAllocationCreateInfo packAllocationCreateInfo(
+    final MemoryStack stack,
+    final VMAAllocationCreateInfo alloc_create_info)
+    throws VulkanException
+  {
+    return this.packAllocationCreateInfo(
+      stack,
+      alloc_create_info,
+      this.checkPool(alloc_create_info.pool())
+    );
+  }
+
+  private VmaAllocationCreateInfo packAllocationCreateInfo(
+    final MemoryStack stack,
+    final VMAAllocationCreateInfo alloc_create_info,
+    final Optional<VMALWJGLPool> pool)
+  {
+    final long pool_handle;
+    if (pool.isPresent()) {
+      pool_handle = pool.get().handle();
+    } else {
+      pool_handle = 0L;
+    }
+
+    return VmaAllocationCreateInfo.calloc(stack)
+      .flags(VulkanEnumMaps.packValues(alloc_create_info.flags()))
+      .memoryTypeBits((int) alloc_create_info.memoryTypeBits())
+      .preferredFlags(VulkanEnumMaps.packValues(alloc_create_info.preferredFlags()))
+      .requiredFlags(VulkanEnumMaps.packValues(alloc_create_info.requiredFlags()))
+      .pUserData(0L)
+      .pool(pool_handle);
+  }
+
+  @Override
+  public VMAPoolType createPool(
+    final VMAPoolCreateInfo info)
+    throws VulkanException
+  {
+    Objects.requireNonNull(info, "info");
+    this.checkNotClosed();
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var vk_pool_create_info =
+        VmaPoolCreateInfo.calloc(stack)
+          .memoryTypeIndex(info.memoryTypeIndex())
+          .flags(VulkanEnumMaps.packValues(info.flags()))
+          .blockSize(info.blockSize())
+          .minBlockCount(info.minBlockCount())
+          .maxBlockCount(info.maxBlockCount())
+          .priority(info.priority())
+          .minAllocationAlignment(info.minAllocationAlignment());
+
+      final var vk_pool = stack.mallocPointer(1);
+      VulkanChecks.checkReturnCode(
+        Vma.vmaCreatePool(this.allocator_address, vk_pool_create_info, vk_pool),
+        "vmaCreatePool");
+
+      return new VMALWJGLPool(this, vk_pool.get(0), info);
+    }
+  }
+
+  @Override
+  public int findMemoryTypeIndexForBufferInfo(
+    final VMAAllocationCreateInfo alloc_create_info,
+    final VulkanBufferCreateInfo buffer_create_info)
+    throws VulkanException
+  {
+    Objects.requireNonNull(alloc_create_info, "alloc_create_info");
+    Objects.requireNonNull(buffer_create_info, "buffer_create_info");
+    this.checkNotClosed();
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var vk_buffer_create_info =
+        VulkanLWJGLBufferCreateInfos.packInfo(stack, buffer_create_info);
+      final var vk_alloc_create_info =
+        this.packAllocationCreateInfo(stack, alloc_create_info);
+      final var index = stack.mallocInt(1);
+
+      VulkanChecks.checkReturnCode(
+        Vma.vmaFindMemoryTypeIndexForBufferInfo(
+          this.allocator_address,
+          vk_buffer_create_info,
+          vk_alloc_create_info,
+          index),
+        "vmaFindMemoryTypeIndexForBufferInfo");
+
+      return index.get(0);
+    }
+  }
+
+  @Override
+  public int findMemoryTypeIndexForImageInfo(
+    final VMAAllocationCreateInfo alloc_create_info,
+    final VulkanImageCreateInfo image_create_info)
+    throws VulkanException
+  {
+    Objects.requireNonNull(alloc_create_info, "alloc_create_info");
+    Objects.requireNonNull(image_create_info, "image_create_info");
+    this.checkNotClosed();
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var vk_image_create_info =
+        VulkanLWJGLImageCreateInfos.pack(stack, image_create_info);
+      final var vk_alloc_create_info =
+        this.packAllocationCreateInfo(stack, alloc_create_info);
+      final var index = stack.mallocInt(1);
+
+      VulkanChecks.checkReturnCode(
+        Vma.vmaFindMemoryTypeIndexForImageInfo(
+          this.allocator_address,
+          vk_image_create_info,
+          vk_alloc_create_info,
+          index),
+        "vmaFindMemoryTypeIndexForImageInfo");
+
+      return index.get(0);
+    }
+  }
+
+  private VkPhysicalDeviceMemoryProperties memoryProperties(
+    final MemoryStack stack)
+  {
+    final var ptr = stack.mallocPointer(1);
+    Vma.vmaGetMemoryProperties(this.allocator_address, ptr);
+    return VkPhysicalDeviceMemoryProperties.create(ptr.get(0));
+  }
+
+  static VMAStatistics statistics(
+    final VmaStatistics s)
+  {
+    return VMAStatistics.builder()
+      .setBlockCount(Integer.toUnsignedLong(s.blockCount()))
+      .setAllocationCount(Integer.toUnsignedLong(s.allocationCount()))
+      .setBlockBytes(s.blockBytes())
+      .setAllocationBytes(s.allocationBytes())
+      .build();
+  }
+
+  static VMADetailedStatistics detailedStatistics(
+    final VmaDetailedStatistics s)
+  {
+    return VMADetailedStatistics.builder()
+      .setStatistics(statistics(s.statistics()))
+      .setUnusedRangeCount(Integer.toUnsignedLong(s.unusedRangeCount()))
+      .setAllocationSizeMin(s.allocationSizeMin())
+      .setAllocationSizeMax(s.allocationSizeMax())
+      .setUnusedRangeSizeMin(s.unusedRangeSizeMin())
+      .setUnusedRangeSizeMax(s.unusedRangeSizeMax())
+      .build();
+  }
+
+  @Override
+  public List<VMABudget> heapBudgets()
+    throws VulkanException
+  {
+    final var lock = this.closeLock.readLock();
+    lock.lock();
+    try {
+      this.checkNotClosed();
+      return this.heapBudgetsLocked();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private List<VMABudget> heapBudgetsLocked()
+  {
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var heap_count =
+        this.memoryProperties(stack).memoryHeapCount();
+      final var vk_budgets = VmaBudget.calloc(heap_count, stack);
+      Vma.vmaGetHeapBudgets(this.allocator_address, vk_budgets);
+
+      final var results = new ArrayList<VMABudget>(heap_count);
+      for (int index = 0; index < heap_count; ++index) {
+        final var vk_budget = vk_budgets.get(index);
+        results.add(
+          VMABudget.builder()
+            .setHeapIndex(index)
+            .setStatistics(statistics(vk_budget.statistics()))
+            .setUsage(vk_budget.usage())
+            .setBudget(vk_budget.budget())
+            .build()
+        );
+      }
+      return List.copyOf(results);
+    }
+  }
+
+  @Override
+  public VMATotalStatistics calculateStatistics()
+    throws VulkanException
+  {
+    this.checkNotClosed();
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var properties = this.memoryProperties(stack);
+      final var heap_count = properties.memoryHeapCount();
+      final var type_count = properties.memoryTypeCount();
+      final var vk_stats = VmaTotalStatistics.calloc(stack);
+      Vma.vmaCalculateStatistics(this.allocator_address, vk_stats);
+
+      final var builder = VMATotalStatistics.builder();
+      final var vk_types = vk_stats.memoryType();
+      for (int index = 0; index < type_count; ++index) {
+        builder.addMemoryTypes(detailedStatistics(vk_types.get(index)));
+      }
+      final var vk_heaps = vk_stats.memoryHeap();
+      for (int index = 0; index < heap_count; ++index) {
+        builder.addMemoryHeaps(detailedStatistics(vk_heaps.get(index)));
+      }
+      builder.setTotal(detailedStatistics(vk_stats.total()));
+      return builder.build();
+    }
+  }
+
+  @Override
+  public String buildStatsString(
+    final boolean detailed)
+    throws VulkanException
+  {
+    this.checkNotClosed();
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var ptr = stack.mallocPointer(1);
+      Vma.vmaBuildStatsString(this.allocator_address, ptr, detailed);
+
+      final var address = ptr.get(0);
+      try {
+        return MemoryUtil.memUTF8(address);
+      } finally {
+        Vma.nvmaFreeStatsString(this.allocator_address, address);
+      }
+    }
+  }
+
+  @Override
+  public VMADefragmentationContextType beginDefragmentation(
+    final VMADefragmentationInfo info)
+    throws VulkanException
+  {
+    Objects.requireNonNull(info, "info");
+    this.checkNotClosed();
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final long pool_handle;
+      final var pool = this.checkPool(info.pool());
+      if (pool.isPresent()) {
+        pool_handle = pool.get().handle();
+      } else {
+        pool_handle = 0L;
+      }
+
+      final var vk_info =
+        VmaDefragmentationInfo.calloc(stack)
+          .flags(VulkanEnumMaps.packValues(info.flags()))
+          .pool(pool_handle)
+          .maxBytesPerPass(info.maxBytesPerPass())
+          .maxAllocationsPerPass(info.maxAllocationsPerPass());
+
+      final var vk_context = stack.mallocPointer(1);
+      VulkanChecks.checkReturnCode(
+        Vma.vmaBeginDefragmentation(this.allocator_address, vk_info, vk_context),
+        "vmaBeginDefragmentation");
+
+      return new VMALWJGLDefragmentation(this, vk_context.get(0));
+    }
+  }
+
+  /**
+   * Create a buffer that is bound to the given temporary allocation, but
+   * is not yet associated with any allocation object.
+   */
+
+  VulkanLWJGLBuffer createDetachedBuffer(
+    final VMALWJGLAllocation<VulkanLWJGLBuffer> allocation,
+    final VulkanBufferCreateInfo info,
+    final long vk_temporary_allocation)
+    throws VulkanException
+  {
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var vk_device = this.device.device();
+      final var vk_buffer = stack.mallocLong(1);
+
+      VulkanChecks.checkReturnCode(
+        VK10.vkCreateBuffer(
+          vk_device,
+          VulkanLWJGLBufferCreateInfos.packInfo(stack, info),
+          null,
+          vk_buffer),
+        "vkCreateBuffer");
+
+      final var vk_buffer_handle = vk_buffer.get(0);
+      final var result =
+        Vma.vmaBindBufferMemory(
+          this.allocator_address,
+          vk_temporary_allocation,
+          vk_buffer_handle);
+
+      if (result != VK10.VK_SUCCESS) {
+        VK10.vkDestroyBuffer(vk_device, vk_buffer_handle, null);
+        throw VulkanChecks.failed(result, "vmaBindBufferMemory");
+      }
+      return this.wrapBuffer(allocation, vk_buffer_handle);
+    }
+  }
+
+  /**
+   * Create an image that is bound to the given temporary allocation, but
+   * is not yet associated with any allocation object.
+   */
+
+  VulkanLWJGLImage createDetachedImage(
+    final VMALWJGLAllocation<VulkanLWJGLImage> allocation,
+    final VulkanImageCreateInfo info,
+    final long vk_temporary_allocation)
+    throws VulkanException
+  {
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var vk_device = this.device.device();
+      final var vk_image = stack.mallocLong(1);
+
+      VulkanChecks.checkReturnCode(
+        VK10.vkCreateImage(
+          vk_device,
+          VulkanLWJGLImageCreateInfos.pack(stack, info),
+          null,
+          vk_image),
+        "vkCreateImage");
+
+      final var vk_image_handle = vk_image.get(0);
+      final var result =
+        Vma.vmaBindImageMemory(
+          this.allocator_address,
+          vk_temporary_allocation,
+          vk_image_handle);
+
+      if (result != VK10.VK_SUCCESS) {
+        VK10.vkDestroyImage(vk_device, vk_image_handle, null);
+        throw VulkanChecks.failed(result, "vmaBindImageMemory");
+      }
+      return this.wrapImage(allocation, vk_image_handle);
+    }
   }
 
   @Override
@@ -117,14 +535,10 @@ public final class VMALWJGLAllocator
       final var vk_buffer_create_info =
         VulkanLWJGLBufferCreateInfos.packInfo(stack, buffer_create_info);
 
+      final var pool =
+        this.checkPool(alloc_create_info.pool());
       final var vk_alloc_create_info =
-        VmaAllocationCreateInfo.calloc(stack)
-          .flags(VulkanEnumMaps.packValues(alloc_create_info.flags()))
-          .memoryTypeBits((int) alloc_create_info.memoryTypeBits())
-          .preferredFlags(VulkanEnumMaps.packValues(alloc_create_info.preferredFlags()))
-          .requiredFlags(VulkanEnumMaps.packValues(alloc_create_info.requiredFlags()))
-          .pUserData(0L)
-          .pool(0L);
+        this.packAllocationCreateInfo(stack, alloc_create_info, pool);
 
       final var vk_allocation =
         stack.mallocPointer(1);
@@ -133,55 +547,48 @@ public final class VMALWJGLAllocator
       final var vk_buffer =
         stack.mallocLong(1);
 
-      VulkanChecks.checkReturnCode(
-        Vma.vmaCreateBuffer(
-          this.allocator_address,
-          vk_buffer_create_info,
-          vk_alloc_create_info,
-          vk_buffer,
-          vk_allocation,
-          vk_allocation_info),
-        "vmaCreateBuffer");
-
-      final Optional<VulkanDeviceMemoryType> device_memory;
-      final var vk_device_memory = vk_allocation_info.deviceMemory();
-      if (vk_device_memory != 0L) {
-        device_memory =
-          Optional.of(new VulkanLWJGLDeviceMemory(
-            USER_OWNED,
-            this.device.device(),
-            vk_device_memory,
-            this.host_allocator_proxy));
-      } else {
-        device_memory = Optional.empty();
+      if (pool.isPresent()) {
+        pool.get().allocationCreated();
+      }
+
+      try {
+        VulkanChecks.checkReturnCode(
+          Vma.vmaCreateBuffer(
+            this.allocator_address,
+            vk_buffer_create_info,
+            vk_alloc_create_info,
+            vk_buffer,
+            vk_allocation,
+            vk_allocation_info),
+          "vmaCreateBuffer");
+      } catch (final VulkanException | RuntimeException e) {
+        if (pool.isPresent()) {
+          pool.get().allocationDestroyed();
+        }
+        throw e;
       }
 
       final var info =
-        VMAAllocationInfo.builder()
-          .setDeviceMemory(device_memory)
-          .setMemoryType(vk_allocation_info.memoryType())
-          .setOffset(vk_allocation_info.offset())
-          .setSize(vk_allocation_info.size())
-          .build();
+        this.allocationInfo(vk_allocation_info);
 
       final var vk_buffer_handle = vk_buffer.get(0);
       final var vk_allocation_handle = vk_allocation.get(0);
 
-      final var buffer =
-        new VulkanLWJGLBuffer(
-          USER_OWNED,
-          vk_buffer_handle,
-          () -> this.destroyVmaBuffer(vk_buffer_handle, vk_allocation_handle),
-          this.host_allocator_proxy);
-
       final var allocation =
-        new VMALWJGLAllocation<>(
+        new VMALWJGLAllocation<VulkanLWJGLBuffer>(
           this,
+          pool,
           vk_allocation_handle,
-          buffer,
+          buffer_create_info,
           info,
           AllocatedItemKind.BUFFER);
 
+      final var buffer =
+        this.wrapBuffer(allocation, vk_buffer_handle);
+
+      allocation.setItem(buffer);
+      this.allocations.put(Long.valueOf(vk_allocation_handle), allocation);
+
       return VMAAllocationResult.<VulkanBufferType>builder()
         .setAllocation(allocation)
         .setResult(buffer)
@@ -203,14 +610,10 @@ public final class VMALWJGLAllocator
       final var vk_image_create_info =
         VulkanLWJGLImageCreateInfos.pack(stack, image_create_info);
 
+      final var pool =
+        this.checkPool(alloc_create_info.pool());
       final var vk_alloc_create_info =
-        VmaAllocationCreateInfo.calloc(stack)
-          .flags(VulkanEnumMaps.packValues(alloc_create_info.flags()))
-          .memoryTypeBits((int) alloc_create_info.memoryTypeBits())
-          .preferredFlags(VulkanEnumMaps.packValues(alloc_create_info.preferredFlags()))
-          .requiredFlags(VulkanEnumMaps.packValues(alloc_create_info.requiredFlags()))
-          .pUserData(0L)
-          .pool(0L);
+        this.packAllocationCreateInfo(stack, alloc_create_info, pool);
 
       final var vk_allocation =
         stack.mallocPointer(1);
@@ -219,62 +622,101 @@ public final class VMALWJGLAllocator
       final var vk_image =
         stack.mallocLong(1);
 
-      VulkanChecks.checkReturnCode(
-        Vma.vmaCreateImage(
-          this.allocator_address,
-          vk_image_create_info,
-          vk_alloc_create_info,
-          vk_image,
-          vk_allocation,
-          vk_allocation_info),
-        "vmaCreateImage");
-
-      final Optional<VulkanDeviceMemoryType> device_memory;
-      final var vk_device_memory = vk_allocation_info.deviceMemory();
-      if (vk_device_memory != 0L) {
-        device_memory =
-          Optional.of(new VulkanLWJGLDeviceMemory(
-            USER_OWNED,
-            this.device.device(),
-            vk_device_memory,
-            this.host_allocator_proxy));
-      } else {
-        device_memory = Optional.empty();
+      if (pool.isPresent()) {
+        pool.get().allocationCreated();
+      }
+
+      try {
+        VulkanChecks.checkReturnCode(
+          Vma.vmaCreateImage(
+            this.allocator_address,
+            vk_image_create_info,
+            vk_alloc_create_info,
+            vk_image,
+            vk_allocation,
+            vk_allocation_info),
+          "vmaCreateImage");
+      } catch (final VulkanException | RuntimeException e) {
+        if (pool.isPresent()) {
+          pool.get().allocationDestroyed();
+        }
+        throw e;
       }
 
       final var info =
-        VMAAllocationInfo.builder()
-          .setDeviceMemory(device_memory)
-          .setMemoryType(vk_allocation_info.memoryType())
-          .setOffset(vk_allocation_info.offset())
-          .setSize(vk_allocation_info.size())
-          .build();
-
-      final var vk_buffer_handle = vk_image.get(0);
-      final var vk_allocation_handle = vk_allocation.get(0);
+        this.allocationInfo(vk_allocation_info);
 
-      final var buffer =
-        new VulkanLWJGLImage(
-          USER_OWNED,
-          vk_buffer_handle,
-          () -> this.destroyVmaImage(vk_buffer_handle, vk_allocation_handle),
-          this.host_allocator_proxy);
+      final var vk_image_handle = vk_image.get(0);
+      final var vk_allocation_handle = vk_allocation.get(0);
 
       final var allocation =
-        new VMALWJGLAllocation<>(
+        new VMALWJGLAllocation<VulkanLWJGLImage>(
           this,
+          pool,
           vk_allocation_handle,
-          buffer,
+          image_create_info,
           info,
           AllocatedItemKind.IMAGE);
 
+      final var image =
+        this.wrapImage(allocation, vk_image_handle);
+
+      allocation.setItem(image);
+      this.allocations.put(Long.valueOf(vk_allocation_handle), allocation);
+
       return VMAAllocationResult.<VulkanImageType>builder()
         .setAllocation(allocation)
-        .setResult(buffer)
+        .setResult(image)
         .build();
     }
   }
 
+  VMAAllocationInfo allocationInfo(
+    final VmaAllocationInfo vk_allocation_info)
+  {
+    final Optional<VulkanDeviceMemoryType> device_memory;
+    final var vk_device_memory = vk_allocation_info.deviceMemory();
+    if (vk_device_memory != 0L) {
+      device_memory =
+        Optional.of(new VulkanLWJGLDeviceMemory(
+          USER_OWNED,
+          this.device.device(),
+          vk_device_memory,
+          this.host_allocator_proxy));
+    } else {
+      device_memory = Optional.empty();
+    }
+
+    return VMAAllocationInfo.builder()
+      .setDeviceMemory(device_memory)
+      .setMemoryType(vk_allocation_info.memoryType())
+      .setOffset(vk_allocation_info.offset())
+      .setSize(vk_allocation_info.size())
+      .build();
+  }
+
+  VulkanLWJGLBuffer wrapBuffer(
+    final VMALWJGLAllocation<VulkanLWJGLBuffer> allocation,
+    final long vk_buffer_handle)
+  {
+    return new VulkanLWJGLBuffer(
+      USER_OWNED,
+      vk_buffer_handle,
+      () -> allocation.itemClosed(vk_buffer_handle),
+      this.host_allocator_proxy);
+  }
+
+  VulkanLWJGLImage wrapImage(
+    final VMALWJGLAllocation<VulkanLWJGLImage> allocation,
+    final long vk_image_handle)
+  {
+    return new VulkanLWJGLImage(
+      USER_OWNED,
+      vk_image_handle,
+      () -> allocation.itemClosed(vk_image_handle),
+      this.host_allocator_proxy);
+  }
+
   private void destroyVmaBuffer(
     final long vk_buffer_handle,
     final long vk_allocation_handle)
@@ -337,33 +779,32 @@ public final class VMALWJGLAllocator
     }
   }
 
-  private void destroyImage(
-    final VMALWJGLAllocation<VulkanLWJGLImage> allocation)
+  private void destroyDetached(
+    final AllocatedItemKind kind,
+    final long vk_handle)
   {
-    final var image_handle = allocation.item.handle();
-    final var alloc_handle = allocation.allocation;
-
-    if (LOG.isTraceEnabled()) {
-      LOG.trace("Destroying image and allocation: {}", this);
-    }
-
-    Vma.vmaDestroyImage(this.allocator_address, image_handle, alloc_handle);
-  }
-
-  private void destroyBuffer(
-    final VMALWJGLAllocation<VulkanLWJGLBuffer> allocation)
-  {
-    final var buffer_handle = allocation.item.handle();
-    final var alloc_handle = allocation.allocation;
-
-    if (LOG.isTraceEnabled()) {
-      LOG.trace("Destroying buffer and allocation: {}", this);
+    final var vk_device = this.device.device();
+    switch (kind) {
+      case BUFFER -> {
+        if (LOG.isTraceEnabled()) {
+          LOG.trace(
+            "VK10.vkDestroyBuffer: Buffer 0x{}",
+            Long.toUnsignedString(vk_handle, 16));
+        }
+        VK10.vkDestroyBuffer(vk_device, vk_handle, null);
+      }
+      case IMAGE -> {
+        if (LOG.isTraceEnabled()) {
+          LOG.trace(
+            "VK10.vkDestroyImage: Image 0x{}",
+            Long.toUnsignedString(vk_handle, 16));
+        }
+        VK10.vkDestroyImage(vk_device, vk_handle, null);
+      }
     }
-
-    Vma.vmaDestroyBuffer(this.allocator_address, buffer_handle, alloc_handle);
   }
 
-  private enum AllocatedItemKind
+  enum AllocatedItemKind
   {
     /**
      * Allocated object is a buffer.
@@ -375,35 +816,121 @@ public final class VMALWJGLAllocator
     IMAGE
   }
 
-  private static final class VMALWJGLAllocation<T> implements VMAAllocationType
+  /**
+   * An allocation, and the buffer or image bound to it. The item bound to
+   * the allocation is replaced when the allocation is moved by
+   * defragmentation.
+   *
+   * @param <T> The type of bound item
+   */
+
+  static final class VMALWJGLAllocation<T extends VulkanLWJGLHandle>
+    implements VMAAllocationType
   {
-    private final VMAAllocationInfo info;
-    private final AllocatedItemKind deallocation;
+    private final AllocatedItemKind kind;
     private final long allocation;
     private final VMALWJGLAllocator allocator;
-    private final T item;
+    private final Optional<VMALWJGLPool> pool;
+    private final Object createInfo;
     private final AtomicBoolean closed;
+    private volatile VMAAllocationInfo info;
+    private volatile T item;
 
     private VMALWJGLAllocation(
       final VMALWJGLAllocator in_allocator,
+      final Optional<VMALWJGLPool> in_pool,
       final long in_allocation,
-      final T in_item,
+      final Object in_create_info,
       final VMAAllocationInfo in_info,
-      final AllocatedItemKind in_deallocation)
+      final AllocatedItemKind in_kind)
     {
       this.allocator =
         Objects.requireNonNull(in_allocator, "in_allocator");
+      this.pool =
+        Objects.requireNonNull(in_pool, "in_pool");
+      this.createInfo =
+        Objects.requireNonNull(in_create_info, "in_create_info");
       this.info =
         Objects.requireNonNull(in_info, "info");
-      this.item =
-        Objects.requireNonNull(in_item, "item");
-      this.deallocation =
-        Objects.requireNonNull(in_deallocation, "in_deallocation");
+      this.kind =
+        Objects.requireNonNull(in_kind, "in_kind");
 
       this.allocation = in_allocation;
       this.closed = new AtomicBoolean(false);
     }
 
+    long allocation()
+    {
+      return this.allocation;
+    }
+
+    AllocatedItemKind kind()
+    {
+      return this.kind;
+    }
+
+    Object createInfo()
+    {
+      return this.createInfo;
+    }
+
+    T item()
+    {
+      return this.item;
+    }
+
+    void setItem(
+      final T in_item)
+    {
+      this.item = Objects.requireNonNull(in_item, "item");
+    }
+
+    /**
+     * Bind a new item to the allocation, returning the previously bound
+     * item. The previous item is detached from the allocation; closing it
+     * destroys only the item.
+     */
+
+    @SuppressWarnings("unchecked")
+    VulkanLWJGLHandle rebind(
+      final VulkanLWJGLHandle in_item,
+      final VMAAllocationInfo in_info)
+    {
+      final var previous = this.item;
+      this.info = Objects.requireNonNull(in_info, "info");
+      this.item = (T) Objects.requireNonNull(in_item, "item");
+      return previous;
+    }
+
+    /**
+     * The item with the given handle was closed. If the item is the one
+     * currently bound to this allocation, the item and the allocation are
+     * destroyed together. Otherwise, the item was detached from the
+     * allocation by defragmentation and only the item is destroyed.
+     */
+
+    void itemClosed(
+      final long vk_handle)
+    {
+      if (this.item.handle() != vk_handle) {
+        this.allocator.destroyDetached(this.kind, vk_handle);
+        return;
+      }
+
+      if (this.closed.compareAndSet(false, true)) {
+        this.allocator.allocations.remove(Long.valueOf(this.allocation));
+        switch (this.kind) {
+          case BUFFER -> {
+            this.allocator.destroyVmaBuffer(vk_handle, this.allocation);
+          }
+          case IMAGE -> {
+            this.allocator.destroyVmaImage(vk_handle, this.allocation);
+          }
+        }
+        this.pool.ifPresent(VMALWJGLPool::allocationDestroyed);
+      }
+    }
+
     @Override
     public boolean equals(final Object o)
     {
@@ -414,30 +941,28 @@ public final class VMALWJGLAllocator
         return false;
       }
       final var that = (VMALWJGLAllocation<?>) o;
-      return Objects.equals(this.info.deviceMemory(), that.info.deviceMemory())
-        && (this.info.offset() == that.info.offset());
+      return this.allocation == that.allocation;
     }
 
     @Override
     public int hashCode()
     {
-      return Objects.hash(
-        this.info.deviceMemory(),
-        Long.valueOf(this.info.offset()));
+      return Long.hashCode(this.allocation);
     }
 
     @Override
     public String toString()
     {
+      final var current = this.info;
       return new StringBuilder(32)
         .append("[VMALWJGLAllocation 0x")
         .append(Long.toUnsignedString(this.allocation, 16))
         .append(' ')
-        .append(this.info.deviceMemory())
+        .append(current.deviceMemory())
         .append(' ')
-        .append(this.info.offset())
+        .append(current.offset())
         .append(' ')
-        .append(this.info.size())
+        .append(current.size())
         .append(']')
         .toString();
     }
@@ -449,21 +974,9 @@ public final class VMALWJGLAllocator
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public void close()
     {
-      if (this.closed.compareAndSet(false, true)) {
-        switch (this.deallocation) {
-          case BUFFER: {
-            this.allocator.destroyBuffer((VMALWJGLAllocation<VulkanLWJGLBuffer>) this);
-            break;
-          }
-          case IMAGE: {
-            this.allocator.destroyImage((VMALWJGLAllocation<VulkanLWJGLImage>) this);
-            break;
-          }
-        }
-      }
+      this.item.close();
     }
 
     @Override
@@ -473,6 +986,108 @@ public final class VMALWJGLAllocator
     }
   }
 
+  /**
+   * A pool. The pool counts the allocations made from it that have not yet
+   * been destroyed. Closing a pool that still has live allocations raises
+   * an exception; the pool accepts no further allocations, and the
+   * underlying VMA pool is destroyed when the last of its allocations is
+   * destroyed.
+   */
+
+  static final class VMALWJGLPool
+    extends VulkanLWJGLHandle implements VMAPoolType
+  {
+    private final VMALWJGLAllocator allocator;
+    private final VMAPoolCreateInfo info;
+    private final Object liveLock;
+    private long live;
+    private boolean destroyed;
+
+    VMALWJGLPool(
+      final VMALWJGLAllocator inAllocator,
+      final long inHandle,
+      final VMAPoolCreateInfo inInfo)
+    {
+      super(USER_OWNED, inAllocator.host_allocator_proxy, inHandle);
+
+      this.allocator = Objects.requireNonNull(inAllocator, "allocator");
+      this.info = Objects.requireNonNull(inInfo, "info");
+      this.liveLock = new Object();
+    }
+
+    /**
+     * An allocation is about to be made from the pool.
+     */
+
+    void allocationCreated()
+      throws VulkanDestroyedException
+    {
+      synchronized (this.liveLock) {
+        this.checkNotClosed();
+        ++this.live;
+      }
+    }
+
+    /**
+     * An allocation made from the pool has been destroyed, or could not be
+     * made.
+     */
+
+    void allocationDestroyed()
+    {
+      synchronized (this.liveLock) {
+        --this.live;
+        if (this.live == 0L && this.isClosed()) {
+          this.destroy();
+        }
+      }
+    }
+
+    @Override
+    public VMAPoolCreateInfo createInfo()
+    {
+      return this.info;
+    }
+
+    @Override
+    protected Logger logger()
+    {
+      return LOG;
+    }
+
+    @Override
+    protected void closeActual()
+    {
+      synchronized (this.liveLock) {
+        if (this.live == 0L) {
+          this.destroy();
+          return;
+        }
+
+        throw new IllegalStateException(
+          "Pool %s was closed with %d live allocations, and will be destroyed when they are freed."
+            .formatted(this, Long.valueOf(this.live))
+        );
+      }
+    }
+
+    private void destroy()
+    {
+      if (this.destroyed) {
+        return;
+      }
+      this.destroyed = true;
+
+      if (LOG.isTraceEnabled()) {
+        LOG.trace(
+          "Vma.vmaDestroyPool: Allocator 0x{} Pool 0x{}",
+          Long.toUnsignedString(this.allocator.allocator_address, 16),
+          Long.toUnsignedString(this.handle(), 16));
+      }
+      Vma.vmaDestroyPool(this.allocator.allocator_address, this.handle());
+    }
+  }
+
   static final class VMALWJGLMappedMemory
     extends VulkanLWJGLHandle implements VMAMappedMemoryType
   {
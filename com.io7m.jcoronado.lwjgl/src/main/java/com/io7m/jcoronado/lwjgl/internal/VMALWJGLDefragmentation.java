@@ -0,0 +1,368 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.lwjgl.internal;
+
+import com.io7m.jcoronado.api.VulkanBufferCreateInfo;
+import com.io7m.jcoronado.api.VulkanChecks;
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanImageCreateInfo;
+import com.io7m.jcoronado.lwjgl.internal.VMALWJGLAllocator.VMALWJGLAllocation;
+import com.io7m.jcoronado.vma.VMADefragmentationContextType;
+import com.io7m.jcoronado.vma.VMADefragmentationMoveBuffer;
+import com.io7m.jcoronado.vma.VMADefragmentationMoveImage;
+import com.io7m.jcoronado.vma.VMADefragmentationMoveType;
+import com.io7m.jcoronado.vma.VMADefragmentationPassType;
+import org.lwjgl.util.vma.Vma;
+import org.lwjgl.util.vma.VmaAllocationInfo;
+import org.lwjgl.util.vma.VmaDefragmentationPassMoveInfo;
+import org.lwjgl.vulkan.VK10;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLHandle.Ownership.USER_OWNED;
+import static org.lwjgl.util.vma.Vma.VMA_DEFRAGMENTATION_MOVE_OPERATION_IGNORE;
+
+/**
+ * @see "VmaDefragmentationContext"
+ */
+
+public final class VMALWJGLDefragmentation
+  extends VulkanLWJGLHandle
+  implements VMADefragmentationContextType
+{
+  private static final Logger LOG =
+    LoggerFactory.getLogger(VMALWJGLDefragmentation.class);
+
+  private final VMALWJGLAllocator allocator;
+  private final AtomicReference<Pass> pass;
+
+  VMALWJGLDefragmentation(
+    final VMALWJGLAllocator inAllocator,
+    final long inContext)
+  {
+    super(USER_OWNED, inAllocator.hostAllocatorProxy(), inContext);
+
+    this.allocator =
+      Objects.requireNonNull(inAllocator, "allocator");
+    this.pass =
+      new AtomicReference<>();
+  }
+
+  @Override
+  protected Logger logger()
+  {
+    return LOG;
+  }
+
+  @Override
+  protected void closeActual()
+  {
+    final var current = this.pass.get();
+    if (current != null) {
+      current.abandon();
+    }
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("Vma.vmaEndDefragmentation: {}", this);
+    }
+
+    Vma.vmaEndDefragmentation(
+      this.allocator.allocatorAddress(),
+      this.handle(),
+      null);
+  }
+
+  @Override
+  public Optional<VMADefragmentationPassType> beginPass()
+    throws VulkanException
+  {
+    this.checkNotClosed();
+
+    if (this.pass.get() != null) {
+      throw new IllegalStateException(
+        "A defragmentation pass is already in progress.");
+    }
+
+    final var vk_pass = VmaDefragmentationPassMoveInfo.calloc();
+    final int result;
+    try {
+      result = Vma.vmaBeginDefragmentationPass(
+        this.allocator.allocatorAddress(),
+        this.handle(),
+        vk_pass);
+    } catch (final Throwable e) {
+      vk_pass.free();
+      throw e;
+    }
+
+    if (result == VK10.VK_SUCCESS) {
+      vk_pass.free();
+      return Optional.empty();
+    }
+
+    if (result != VK10.VK_INCOMPLETE) {
+      vk_pass.free();
+      throw VulkanChecks.failed(result, "vmaBeginDefragmentationPass");
+    }
+
+    final var newPass = new Pass(vk_pass);
+    this.pass.set(newPass);
+
+    try {
+      newPass.prepare();
+    } catch (final VulkanException e) {
+      newPass.abandon();
+      throw e;
+    }
+    return Optional.of(newPass);
+  }
+
+  private final class Pass implements VMADefragmentationPassType
+  {
+    private final VmaDefragmentationPassMoveInfo vk_pass;
+    private final VMALWJGLAllocation<?>[] sources;
+    private final VulkanLWJGLHandle[] targets;
+    private final ArrayList<VMADefragmentationMoveType> moves;
+    private final List<VMADefragmentationMoveType> movesRead;
+    private final AtomicBoolean ended;
+
+    Pass(
+      final VmaDefragmentationPassMoveInfo in_vk_pass)
+    {
+      this.vk_pass =
+        Objects.requireNonNull(in_vk_pass, "vk_pass");
+
+      final var count = in_vk_pass.moveCount();
+      this.sources = new VMALWJGLAllocation<?>[count];
+      this.targets = new VulkanLWJGLHandle[count];
+      this.moves = new ArrayList<>(count);
+      this.movesRead = Collections.unmodifiableList(this.moves);
+      this.ended = new AtomicBoolean(false);
+    }
+
+    /**
+     * Create and bind a target resource for every move. Moves of
+     * allocations that this allocator does not track are ignored.
+     */
+
+    @SuppressWarnings("unchecked")
+    void prepare()
+      throws VulkanException
+    {
+      final var owner = VMALWJGLDefragmentation.this.allocator;
+      final var vk_moves = this.vk_pass.pMoves();
+
+      for (int index = 0; index < this.sources.length; ++index) {
+        final var vk_move = vk_moves.get(index);
+        final var source =
+          owner.findAllocation(vk_move.srcAllocation());
+
+        if (source == null) {
+          vk_move.operation(VMA_DEFRAGMENTATION_MOVE_OPERATION_IGNORE);
+          continue;
+        }
+
+        this.sources[index] = source;
+        switch (source.kind()) {
+          case BUFFER -> {
+            final var info =
+              (VulkanBufferCreateInfo) source.createInfo();
+            final var target =
+              owner.createDetachedBuffer(
+                (VMALWJGLAllocation<VulkanLWJGLBuffer>) source,
+                info,
+                vk_move.dstTmpAllocation());
+
+            this.targets[index] = target;
+            this.moves.add(
+              VMADefragmentationMoveBuffer.builder()
+                .setAllocation(source)
+                .setSource((VulkanLWJGLBuffer) source.item())
+                .setTarget(target)
+                .setSize(info.size())
+                .build()
+            );
+          }
+          case IMAGE -> {
+            final var info =
+              (VulkanImageCreateInfo) source.createInfo();
+            final var target =
+              owner.createDetachedImage(
+                (VMALWJGLAllocation<VulkanLWJGLImage>) source,
+                info,
+                vk_move.dstTmpAllocation());
+
+            this.targets[index] = target;
+            this.moves.add(
+              VMADefragmentationMoveImage.builder()
+                .setAllocation(source)
+                .setSource((VulkanLWJGLImage) source.item())
+                .setTarget(target)
+                .setCreateInfo(info)
+                .build()
+            );
+          }
+        }
+      }
+    }
+
+    @Override
+    public List<VMADefragmentationMoveType> moves()
+    {
+      return this.movesRead;
+    }
+
+    private int indexOf(
+      final VMADefragmentationMoveType move)
+    {
+      for (int index = 0; index < this.sources.length; ++index) {
+        if (this.sources[index] == move.allocation()) {
+          return index;
+        }
+      }
+      throw new IllegalArgumentException(
+        "Move %s does not belong to this pass.".formatted(move));
+    }
+
+    @Override
+    public void ignore(
+      final VMADefragmentationMoveType move)
+    {
+      Objects.requireNonNull(move, "move");
+
+      if (this.ended.get()) {
+        throw new IllegalStateException("The pass has already ended.");
+      }
+
+      this.vk_pass.pMoves()
+        .get(this.indexOf(move))
+        .operation(VMA_DEFRAGMENTATION_MOVE_OPERATION_IGNORE);
+    }
+
+    /**
+     * End the pass without moving anything.
+     */
+
+    void abandon()
+    {
+      if (!this.ended.get()) {
+        final var vk_moves = this.vk_pass.pMoves();
+        for (int index = 0; index < this.sources.length; ++index) {
+          vk_moves.get(index)
+            .operation(VMA_DEFRAGMENTATION_MOVE_OPERATION_IGNORE);
+        }
+        try {
+          this.end();
+        } catch (final VulkanException e) {
+          LOG.error("Failed to end defragmentation pass: ", e);
+        }
+      }
+    }
+
+    @Override
+    public boolean end()
+      throws VulkanException
+    {
+      if (!this.ended.compareAndSet(false, true)) {
+        throw new IllegalStateException("The pass has already ended.");
+      }
+
+      final var owner = VMALWJGLDefragmentation.this.allocator;
+      try {
+        final var result =
+          Vma.vmaEndDefragmentationPass(
+            owner.allocatorAddress(),
+            VMALWJGLDefragmentation.this.handle(),
+            this.vk_pass);
+
+        if (result != VK10.VK_SUCCESS && result != VK10.VK_INCOMPLETE) {
+          this.closeTargets();
+          throw VulkanChecks.failed(result, "vmaEndDefragmentationPass");
+        }
+
+        this.commit();
+        return result == VK10.VK_SUCCESS;
+      } finally {
+        this.vk_pass.free();
+        VMALWJGLDefragmentation.this.pass.set(null);
+      }
+    }
+
+    /**
+     * Close every target resource. This is used when the pass could not be
+     * ended, in which case no allocation is rebound to its target.
+     */
+
+    private void closeTargets()
+    {
+      for (int index = 0; index < this.targets.length; ++index) {
+        final var target = this.targets[index];
+        if (target != null) {
+          this.targets[index] = null;
+          target.close();
+        }
+      }
+    }
+
+    /**
+     * Rebind every moved allocation to its target resource and close the
+     * source resource. Close the targets of ignored moves.
+     */
+
+    private void commit()
+    {
+      final var owner = VMALWJGLDefragmentation.this.allocator;
+      final var vk_moves = this.vk_pass.pMoves();
+
+      try (var stack = VulkanLWJGLMemoryStack.stack()) {
+        final var vk_info = VmaAllocationInfo.malloc(stack);
+
+        for (int index = 0; index < this.sources.length; ++index) {
+          final var source = this.sources[index];
+          final var target = this.targets[index];
+          if (source == null || target == null) {
+            continue;
+          }
+
+          final var operation = vk_moves.get(index).operation();
+          if (operation == VMA_DEFRAGMENTATION_MOVE_OPERATION_IGNORE) {
+            target.close();
+            continue;
+          }
+
+          Vma.vmaGetAllocationInfo(
+            owner.allocatorAddress(),
+            source.allocation(),
+            vk_info);
+
+          final var previous =
+            source.rebind(target, owner.allocationInfo(vk_info));
+          previous.close();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.lwjgl.internal;
+
+import com.io7m.jcoronado.api.VulkanChecks;
+import com.io7m.jcoronado.api.VulkanDestroyedException;
+import com.io7m.jcoronado.api.VulkanEnumMaps;
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.vma.VMADetailedStatistics;
+import com.io7m.jcoronado.vma.VMAStatistics;
+import com.io7m.jcoronado.vma.VMAVirtualAllocation;
+import com.io7m.jcoronado.vma.VMAVirtualAllocationCreateInfo;
+import com.io7m.jcoronado.vma.VMAVirtualBlockCreateInfo;
+import com.io7m.jcoronado.vma.VMAVirtualBlockType;
+import org.lwjgl.util.vma.Vma;
+import org.lwjgl.util.vma.VmaDetailedStatistics;
+import org.lwjgl.util.vma.VmaStatistics;
+import org.lwjgl.util.vma.VmaVirtualAllocationCreateInfo;
+import org.lwjgl.util.vma.VmaVirtualBlockCreateInfo;
+import org.lwjgl.vulkan.VK10;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.io7m.jcoronado.vma.VMAVirtualAllocationCreateFlag.VMA_VIRTUAL_ALLOCATION_CREATE_UPPER_ADDRESS_BIT;
+import static com.io7m.jcoronado.vma.VMAVirtualBlockCreateFlag.VMA_VIRTUAL_BLOCK_CREATE_LINEAR_ALGORITHM_BIT;
+
+/**
+ * A virtual block backed by VMA. VMA virtual blocks are not internally
+ * synchronized, so every operation is serialized by a lock.
+ *
+ * @see "VmaVirtualBlock"
+ */
+
+public final class VMALWJGLVirtualBlock implements VMAVirtualBlockType
+{
+  private static final Logger LOG =
+    LoggerFactory.getLogger(VMALWJGLVirtualBlock.class);
+
+  private final VMAVirtualBlockCreateInfo info;
+  private final long block;
+  private final ReentrantLock lock;
+  private final HashSet<Long> live;
+  private boolean closed;
+
+  private VMALWJGLVirtualBlock(
+    final VMAVirtualBlockCreateInfo inInfo,
+    final long inBlock)
+  {
+    this.info =
+      Objects.requireNonNull(inInfo, "info");
+    this.block =
+      inBlock;
+    this.lock =
+      new ReentrantLock();
+    this.live =
+      new HashSet<>();
+  }
+
+  /**
+   * Create a new virtual block.
+   *
+   * @param info The block parameters
+   *
+   * @return A new virtual block
+   *
+   * @throws VulkanException On errors
+   */
+
+  public static VMALWJGLVirtualBlock create(
+    final VMAVirtualBlockCreateInfo info)
+    throws VulkanException
+  {
+    Objects.requireNonNull(info, "info");
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var vk_info =
+        VmaVirtualBlockCreateInfo.calloc(stack)
+          .size(info.size())
+          .flags(VulkanEnumMaps.packValues(info.flags()));
+
+      final var vk_block = stack.mallocPointer(1);
+      VulkanChecks.checkReturnCode(
+        Vma.vmaCreateVirtualBlock(vk_info, vk_block),
+        "vmaCreateVirtualBlock");
+
+      return new VMALWJGLVirtualBlock(info, vk_block.get(0));
+    }
+  }
+
+  private void checkNotClosed()
+    throws VulkanDestroyedException
+  {
+    if (this.closed) {
+      throw new VulkanDestroyedException(
+        "Object has been closed/destroyed.",
+        this.getClass()
+      );
+    }
+  }
+
+  @Override
+  public VMAVirtualBlockCreateInfo createInfo()
+  {
+    return this.info;
+  }
+
+  @Override
+  public Optional<VMAVirtualAllocation> allocate(
+    final VMAVirtualAllocationCreateInfo allocation_info)
+    throws VulkanException
+  {
+    Objects.requireNonNull(allocation_info, "allocation_info");
+
+    if (allocation_info.flags().contains(VMA_VIRTUAL_ALLOCATION_CREATE_UPPER_ADDRESS_BIT)
+        && !this.info.flags().contains(VMA_VIRTUAL_BLOCK_CREATE_LINEAR_ALGORITHM_BIT)) {
+      throw new IllegalArgumentException(
+        "Upper address allocations require a linear virtual block.");
+    }
+
+    this.lock.lock();
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      this.checkNotClosed();
+
+      final var vk_info =
+        VmaVirtualAllocationCreateInfo.calloc(stack)
+          .size(allocation_info.size())
+          .alignment(allocation_info.alignment())
+          .flags(VulkanEnumMaps.packValues(allocation_info.flags()));
+
+      final var vk_allocation = stack.mallocPointer(1);
+      final var vk_offset = stack.mallocLong(1);
+      final var result =
+        Vma.vmaVirtualAllocate(this.block, vk_info, vk_allocation, vk_offset);
+
+      if (result == VK10.VK_ERROR_OUT_OF_DEVICE_MEMORY) {
+        return Optional.empty();
+      }
+      VulkanChecks.checkReturnCode(result, "vmaVirtualAllocate");
+
+      final var handle = vk_allocation.get(0);
+      this.live.add(Long.valueOf(handle));
+
+      return Optional.of(
+        VMAVirtualAllocation.builder()
+          .setHandle(handle)
+          .setOffset(vk_offset.get(0))
+          .setSize(allocation_info.size())
+          .build()
+      );
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public void free(
+    final VMAVirtualAllocation allocation)
+    throws VulkanException
+  {
+    Objects.requireNonNull(allocation, "allocation");
+
+    this.lock.lock();
+    try {
+      this.checkNotClosed();
+
+      if (!this.live.remove(Long.valueOf(allocation.handle()))) {
+        throw new IllegalArgumentException(
+          "Allocation %s is not live in this block."
+            .formatted(allocation));
+      }
+      Vma.vmaVirtualFree(this.block, allocation.handle());
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public void clear()
+    throws VulkanException
+  {
+    this.lock.lock();
+    try {
+      this.checkNotClosed();
+      Vma.vmaClearVirtualBlock(this.block);
+      this.live.clear();
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public boolean isEmpty()
+    throws VulkanException
+  {
+    this.lock.lock();
+    try {
+      this.checkNotClosed();
+      return Vma.vmaIsVirtualBlockEmpty(this.block);
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public VMAStatistics statistics()
+    throws VulkanException
+  {
+    this.lock.lock();
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      this.checkNotClosed();
+      final var vk_stats = VmaStatistics.calloc(stack);
+      Vma.vmaGetVirtualBlockStatistics(this.block, vk_stats);
+      return VMALWJGLAllocator.statistics(vk_stats);
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public VMADetailedStatistics calculateStatistics()
+    throws VulkanException
+  {
+    this.lock.lock();
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      this.checkNotClosed();
+      final var vk_stats = VmaDetailedStatistics.calloc(stack);
+      Vma.vmaCalculateVirtualBlockStatistics(this.block, vk_stats);
+      return VMALWJGLAllocator.detailedStatistics(vk_stats);
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public boolean isClosed()
+  {
+    this.lock.lock();
+    try {
+      return this.closed;
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public void close()
+  {
+    this.lock.lock();
+    try {
+      if (!this.closed) {
+        this.closed = true;
+
+        if (LOG.isTraceEnabled()) {
+          LOG.trace(
+            "Vma.vmaDestroyVirtualBlock: 0x{} ({} live allocations)",
+            Long.toUnsignedString(this.block, 16),
+            Integer.valueOf(this.live.size()));
+        }
+
+        Vma.vmaClearVirtualBlock(this.block);
+        this.live.clear();
+        Vma.vmaDestroyVirtualBlock(this.block);
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return new StringBuilder(32)
+      .append("[VMALWJGLVirtualBlock 0x")
+      .append(Long.toUnsignedString(this.block, 16))
+      .append(' ')
+      .append(this.info.size())
+      .append(']')
+      .toString();
+  }
+}
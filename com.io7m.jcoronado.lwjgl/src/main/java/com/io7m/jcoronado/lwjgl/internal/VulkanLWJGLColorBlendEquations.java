@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.lwjgl.internal;
+
+import com.io7m.jcoronado.api.VulkanColorBlendEquationEXT;
+import com.io7m.jcoronado.api.VulkanException;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.vulkan.VkColorBlendEquationEXT;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Functions to pack color blend equations.
+ */
+
+public final class VulkanLWJGLColorBlendEquations
+{
+  private VulkanLWJGLColorBlendEquations()
+  {
+
+  }
+
+  /**
+   * Pack a structure.
+   *
+   * @param source The input structure
+   * @param target The output structure
+   *
+   * @return A packed structure
+   */
+
+  public static VkColorBlendEquationEXT packInto(
+    final VulkanColorBlendEquationEXT source,
+    final VkColorBlendEquationEXT target)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+
+    return target
+      .srcColorBlendFactor(source.srcColorBlendFactor().value())
+      .dstColorBlendFactor(source.dstColorBlendFactor().value())
+      .colorBlendOp(source.colorBlendOp().value())
+      .srcAlphaBlendFactor(source.srcAlphaBlendFactor().value())
+      .dstAlphaBlendFactor(source.dstAlphaBlendFactor().value())
+      .alphaBlendOp(source.alphaBlendOp().value());
+  }
+
+  /**
+   * Pack structures.
+   *
+   * @param stack A stack
+   * @param infos A list of structure
+   *
+   * @return A list of packed structure
+   *
+   * @throws VulkanException On errors
+   */
+
+  public static VkColorBlendEquationEXT.Buffer packList(
+    final MemoryStack stack,
+    final List<VulkanColorBlendEquationEXT> infos)
+    throws VulkanException
+  {
+    Objects.requireNonNull(stack, "stack");
+    Objects.requireNonNull(infos, "infos");
+
+    return VulkanLWJGLArrays.pack(
+      infos,
+      (stack1, source, target) -> packInto(source, target),
+      VkColorBlendEquationEXT::calloc,
+      stack
+    );
+  }
+}
@@ -24,53 +24,93 @@ import com.io7m.jcoronado.api.VulkanChecks;
 import com.io7m.jcoronado.api.VulkanClearAttachment;
 import com.io7m.jcoronado.api.VulkanClearRectangle;
 import com.io7m.jcoronado.api.VulkanClearValueDepthStencil;
+import com.io7m.jcoronado.api.VulkanColorBlendEquationEXT;
+import com.io7m.jcoronado.api.VulkanColorComponentFlag;
 import com.io7m.jcoronado.api.VulkanCommandBufferBeginInfo;
 import com.io7m.jcoronado.api.VulkanCommandBufferResetFlag;
 import com.io7m.jcoronado.api.VulkanCommandBufferType;
+import com.io7m.jcoronado.api.VulkanCommandStreamType;
+import com.io7m.jcoronado.api.VulkanCompareOp;
+import com.io7m.jcoronado.api.VulkanCullModeFlag;
 import com.io7m.jcoronado.api.VulkanDependencyInfo;
+import com.io7m.jcoronado.api.VulkanDescriptorBufferBindingInfoEXT;
 import com.io7m.jcoronado.api.VulkanDescriptorSetType;
+import com.io7m.jcoronado.api.VulkanDescriptorUpdateTemplateType;
 import com.io7m.jcoronado.api.VulkanDestroyedException;
 import com.io7m.jcoronado.api.VulkanEnumMaps;
 import com.io7m.jcoronado.api.VulkanEventType;
 import com.io7m.jcoronado.api.VulkanException;
 import com.io7m.jcoronado.api.VulkanExternallySynchronizedType;
 import com.io7m.jcoronado.api.VulkanFilter;
+import com.io7m.jcoronado.api.VulkanFrontFace;
 import com.io7m.jcoronado.api.VulkanImageBlit;
 import com.io7m.jcoronado.api.VulkanImageCopy;
 import com.io7m.jcoronado.api.VulkanImageLayout;
 import com.io7m.jcoronado.api.VulkanImageSubresourceRange;
 import com.io7m.jcoronado.api.VulkanImageType;
 import com.io7m.jcoronado.api.VulkanIndexType;
+import com.io7m.jcoronado.api.VulkanMissingRequiredExtensionsException;
+import com.io7m.jcoronado.api.VulkanMissingRequiredFeaturesException;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceFeatures;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceLimits;
 import com.io7m.jcoronado.api.VulkanPipelineBindPoint;
 import com.io7m.jcoronado.api.VulkanPipelineLayoutType;
 import com.io7m.jcoronado.api.VulkanPipelineStageFlag;
 import com.io7m.jcoronado.api.VulkanPipelineType;
+import com.io7m.jcoronado.api.VulkanPolygonMode;
+import com.io7m.jcoronado.api.VulkanPrimitiveTopology;
 import com.io7m.jcoronado.api.VulkanQueryControlFlag;
 import com.io7m.jcoronado.api.VulkanQueryPoolType;
 import com.io7m.jcoronado.api.VulkanRectangle2D;
 import com.io7m.jcoronado.api.VulkanRenderPassBeginInfo;
 import com.io7m.jcoronado.api.VulkanRenderingInfo;
+import com.io7m.jcoronado.api.VulkanShaderObjectType;
 import com.io7m.jcoronado.api.VulkanShaderStageFlag;
 import com.io7m.jcoronado.api.VulkanStencilFaceFlag;
+import com.io7m.jcoronado.api.VulkanStencilOp;
 import com.io7m.jcoronado.api.VulkanSubpassContents;
+import com.io7m.jcoronado.api.VulkanVertexInputAttributeDescription;
+import com.io7m.jcoronado.api.VulkanVertexInputBindingDescription;
 import com.io7m.jcoronado.api.VulkanViewport;
+import com.io7m.jcoronado.api.VulkanWriteDescriptorSet;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.vulkan.EXTDescriptorBuffer;
+import org.lwjgl.vulkan.EXTExtendedDynamicState3;
+import org.lwjgl.vulkan.EXTMultiDraw;
+import org.lwjgl.vulkan.EXTShaderObject;
+import org.lwjgl.vulkan.EXTVertexInputDynamicState;
+import org.lwjgl.vulkan.KHRPushDescriptor;
 import org.lwjgl.vulkan.VK10;
+import org.lwjgl.vulkan.VK12;
 import org.lwjgl.vulkan.VK13;
 import org.lwjgl.vulkan.VK14;
 import org.lwjgl.vulkan.VkCommandBuffer;
 import org.lwjgl.vulkan.VkDependencyInfo;
+import org.lwjgl.vulkan.VkDescriptorBufferBindingInfoEXT;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.foreign.MemorySegment;
 import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import static com.io7m.jcoronado.api.VulkanClearValueType.VulkanClearValueColorType;
 import static com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLClassChecks.checkInstanceOf;
 import static com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLScalarArrays.packIntsOrNull;
+import static com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLScalarArrays.packIntsRawOrNull;
 import static com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLScalarArrays.packLongs;
+import static com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLScalarArrays.packLongsRaw;
+import static org.lwjgl.system.MemoryUtil.memAddress;
+import static org.lwjgl.system.MemoryUtil.memByteBuffer;
+import static org.lwjgl.system.MemoryUtil.memIntBuffer;
+import static org.lwjgl.system.MemoryUtil.memPutLong;
+import static org.lwjgl.system.MemoryUtil.nmemAlloc;
+import static org.lwjgl.system.MemoryUtil.nmemFree;
 
 /**
  * LWJGL {@link VulkanCommandBufferType}.
@@ -83,15 +123,29 @@ public final class VulkanLWJGLCommandBuffer
   private static final Logger LOG =
     LoggerFactory.getLogger(VulkanLWJGLCommandBuffer.class);
 
+  /**
+   * Arrays of multi-draw ranges larger than this (in bytes) are copied to
+   * the native heap rather than onto the thread's memory stack.
+   */
+
+  private static final int MULTI_DRAW_STACK_LIMIT = 16384;
+
   private final VkCommandBuffer buffer;
+  private final VulkanPhysicalDeviceFeatures features;
+  private final VulkanPhysicalDeviceLimits limits;
+  private VulkanLWJGLCommandStreams.Receiver streamReceiver;
 
   VulkanLWJGLCommandBuffer(
     final Ownership ownership,
     final VkCommandBuffer inHandle,
+    final VulkanPhysicalDeviceFeatures inFeatures,
+    final VulkanPhysicalDeviceLimits inLimits,
     final VulkanLWJGLHostAllocatorProxy inHostAllocatorProxy)
   {
     super(ownership, inHostAllocatorProxy, inHandle.address());
     this.buffer = Objects.requireNonNull(inHandle, "inHandle");
+    this.features = Objects.requireNonNull(inFeatures, "inFeatures");
+    this.limits = Objects.requireNonNull(inLimits, "inLimits");
   }
 
   VkCommandBuffer buffer()
@@ -213,6 +267,59 @@ public final class VulkanLWJGLCommandBuffer
     );
   }
 
+  private void checkShaderObject()
+    throws VulkanMissingRequiredExtensionsException
+  {
+    if (!this.buffer.getCapabilities().VK_EXT_shader_object) {
+      throw new VulkanMissingRequiredExtensionsException(
+        Set.of("VK_EXT_shader_object"),
+        "The VK_EXT_shader_object extension is not enabled on this device."
+      );
+    }
+  }
+
+  @Override
+  public void bindShaders(
+    final List<VulkanShaderStageFlag> stages,
+    final List<Optional<VulkanShaderObjectType>> shaders)
+    throws VulkanException
+  {
+    Objects.requireNonNull(stages, "stages");
+    Objects.requireNonNull(shaders, "shaders");
+
+    final var count = stages.size();
+    if (shaders.size() != count) {
+      throw new IllegalArgumentException(
+        "Stage count %d must match shader count %d"
+          .formatted(Integer.valueOf(count), Integer.valueOf(shaders.size()))
+      );
+    }
+
+    this.checkNotClosed();
+    this.checkShaderObject();
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var packedStages = stack.mallocInt(count);
+      final var packedShaders = stack.mallocLong(count);
+      for (int index = 0; index < count; ++index) {
+        packedStages.put(index, stages.get(index).value());
+        final var shader = shaders.get(index);
+        if (shader.isPresent()) {
+          packedShaders.put(
+            index,
+            checkInstanceOf(shader.get(), VulkanLWJGLShaderObject.class)
+              .handle()
+          );
+        } else {
+          packedShaders.put(index, VK10.VK_NULL_HANDLE);
+        }
+      }
+
+      EXTShaderObject.vkCmdBindShadersEXT(
+        this.buffer, packedStages, packedShaders);
+    }
+  }
+
   @Override
   public void bindVertexBuffers(
     final int first_binding,
@@ -238,6 +345,125 @@ public final class VulkanLWJGLCommandBuffer
     }
   }
 
+  @Override
+  public void bindVertexBuffer(
+    final int binding,
+    final VulkanBufferType vertexBuffer,
+    final long offset)
+    throws VulkanException
+  {
+    Objects.requireNonNull(vertexBuffer, "buffer");
+
+    this.checkNotClosed();
+
+    final var cbuffer =
+      checkInstanceOf(vertexBuffer, VulkanLWJGLBuffer.class);
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var pBuffers = stack.nmalloc(Long.BYTES, Long.BYTES);
+      final var pOffsets = stack.nmalloc(Long.BYTES, Long.BYTES);
+      memPutLong(pBuffers, cbuffer.handle());
+      memPutLong(pOffsets, offset);
+      VK10.nvkCmdBindVertexBuffers(this.buffer, binding, 1, pBuffers, pOffsets);
+    }
+  }
+
+  @Override
+  public void bindVertexBuffers(
+    final int first_binding,
+    final VulkanBufferType[] buffers,
+    final long[] offsets)
+    throws VulkanException
+  {
+    Objects.requireNonNull(buffers, "buffers");
+    Objects.requireNonNull(offsets, "offsets");
+
+    this.checkNotClosed();
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var count = buffers.length;
+      VK10.nvkCmdBindVertexBuffers(
+        this.buffer,
+        first_binding,
+        count,
+        packBufferHandles(stack, buffers),
+        packLongsRaw(stack, offsets, count)
+      );
+    }
+  }
+
+  @Override
+  public void bindVertexBuffers(
+    final int first_binding,
+    final VulkanBufferType[] buffers,
+    final LongBuffer offsets)
+    throws VulkanException
+  {
+    Objects.requireNonNull(buffers, "buffers");
+    Objects.requireNonNull(offsets, "offsets");
+
+    this.checkNotClosed();
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var count = buffers.length;
+      VK10.nvkCmdBindVertexBuffers(
+        this.buffer,
+        first_binding,
+        count,
+        packBufferHandles(stack, buffers),
+        packLongsRaw(stack, offsets, count)
+      );
+    }
+  }
+
+  @Override
+  public void bindVertexBuffers(
+    final int first_binding,
+    final VulkanBufferType[] buffers,
+    final MemorySegment offsets)
+    throws VulkanException
+  {
+    Objects.requireNonNull(buffers, "buffers");
+    Objects.requireNonNull(offsets, "offsets");
+
+    this.checkNotClosed();
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var count = buffers.length;
+      VK10.nvkCmdBindVertexBuffers(
+        this.buffer,
+        first_binding,
+        count,
+        packBufferHandles(stack, buffers),
+        packLongsRaw(stack, offsets, count)
+      );
+    }
+  }
+
+  private static long packBufferHandles(
+    final MemoryStack stack,
+    final VulkanBufferType[] buffers)
+    throws VulkanException
+  {
+    return packLongsRaw(
+      stack,
+      buffers,
+      b -> checkInstanceOf(b, VulkanLWJGLBuffer.class).handle()
+    );
+  }
+
+  private static long packDescriptorSetHandles(
+    final MemoryStack stack,
+    final VulkanDescriptorSetType[] sets)
+    throws VulkanException
+  {
+    return packLongsRaw(
+      stack,
+      sets,
+      s -> checkInstanceOf(s, VulkanLWJGLDescriptorSet.class).handle()
+    );
+  }
+
   @Override
   public void bindIndexBuffer(
     final VulkanBufferType indexBuffer,
@@ -295,6 +521,140 @@ public final class VulkanLWJGLCommandBuffer
     }
   }
 
+  @Override
+  public void bindDescriptorSet(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int set,
+    final VulkanDescriptorSetType descriptor_set)
+    throws VulkanException
+  {
+    Objects.requireNonNull(pipeline_bind_point, "pipeline_bind_point");
+    Objects.requireNonNull(layout, "layout");
+    Objects.requireNonNull(descriptor_set, "descriptor_set");
+
+    this.checkNotClosed();
+
+    final var clayout =
+      checkInstanceOf(layout, VulkanLWJGLPipelineLayout.class);
+    final var cset =
+      checkInstanceOf(descriptor_set, VulkanLWJGLDescriptorSet.class);
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var pSets = stack.nmalloc(Long.BYTES, Long.BYTES);
+      memPutLong(pSets, cset.handle());
+      VK10.nvkCmdBindDescriptorSets(
+        this.buffer,
+        pipeline_bind_point.value(),
+        clayout.handle(),
+        set,
+        1,
+        pSets,
+        0,
+        0L
+      );
+    }
+  }
+
+  @Override
+  public void bindDescriptorSets(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int first_set,
+    final VulkanDescriptorSetType[] descriptor_sets,
+    final int[] dynamic_offsets)
+    throws VulkanException
+  {
+    Objects.requireNonNull(pipeline_bind_point, "pipeline_bind_point");
+    Objects.requireNonNull(layout, "layout");
+    Objects.requireNonNull(descriptor_sets, "descriptor_sets");
+    Objects.requireNonNull(dynamic_offsets, "dynamic_offsets");
+
+    this.checkNotClosed();
+
+    final var clayout =
+      checkInstanceOf(layout, VulkanLWJGLPipelineLayout.class);
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      VK10.nvkCmdBindDescriptorSets(
+        this.buffer,
+        pipeline_bind_point.value(),
+        clayout.handle(),
+        first_set,
+        descriptor_sets.length,
+        packDescriptorSetHandles(stack, descriptor_sets),
+        dynamic_offsets.length,
+        packIntsRawOrNull(stack, dynamic_offsets)
+      );
+    }
+  }
+
+  @Override
+  public void bindDescriptorSets(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int first_set,
+    final VulkanDescriptorSetType[] descriptor_sets,
+    final IntBuffer dynamic_offsets)
+    throws VulkanException
+  {
+    Objects.requireNonNull(pipeline_bind_point, "pipeline_bind_point");
+    Objects.requireNonNull(layout, "layout");
+    Objects.requireNonNull(descriptor_sets, "descriptor_sets");
+    Objects.requireNonNull(dynamic_offsets, "dynamic_offsets");
+
+    this.checkNotClosed();
+
+    final var clayout =
+      checkInstanceOf(layout, VulkanLWJGLPipelineLayout.class);
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      VK10.nvkCmdBindDescriptorSets(
+        this.buffer,
+        pipeline_bind_point.value(),
+        clayout.handle(),
+        first_set,
+        descriptor_sets.length,
+        packDescriptorSetHandles(stack, descriptor_sets),
+        dynamic_offsets.remaining(),
+        packIntsRawOrNull(stack, dynamic_offsets)
+      );
+    }
+  }
+
+  @Override
+  public void bindDescriptorSets(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int first_set,
+    final VulkanDescriptorSetType[] descriptor_sets,
+    final MemorySegment dynamic_offsets)
+    throws VulkanException
+  {
+    Objects.requireNonNull(pipeline_bind_point, "pipeline_bind_point");
+    Objects.requireNonNull(layout, "layout");
+    Objects.requireNonNull(descriptor_sets, "descriptor_sets");
+    Objects.requireNonNull(dynamic_offsets, "dynamic_offsets");
+
+    this.checkNotClosed();
+
+    final var clayout =
+      checkInstanceOf(layout, VulkanLWJGLPipelineLayout.class);
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      VK10.nvkCmdBindDescriptorSets(
+        this.buffer,
+        pipeline_bind_point.value(),
+        clayout.handle(),
+        first_set,
+        descriptor_sets.length,
+        packDescriptorSetHandles(stack, descriptor_sets),
+        Math.toIntExact(dynamic_offsets.byteSize() / Integer.BYTES),
+        packIntsRawOrNull(stack, dynamic_offsets)
+      );
+    }
+  }
+
   @Override
   public @VulkanExternallySynchronizedType void blitImage(
     final VulkanImageType source_image,
@@ -452,6 +812,23 @@ public final class VulkanLWJGLCommandBuffer
     );
   }
 
+  @Override
+  public @VulkanExternallySynchronizedType void dispatchIndirect(
+    final VulkanBufferType indirectBuffer,
+    final long offset)
+    throws VulkanException
+  {
+    Objects.requireNonNull(indirectBuffer, "buffer");
+
+    this.checkNotClosed();
+
+    VK10.vkCmdDispatchIndirect(
+      this.buffer,
+      checkInstanceOf(indirectBuffer, VulkanLWJGLBuffer.class).handle(),
+      offset
+    );
+  }
+
   @Override
   public @VulkanExternallySynchronizedType void copyBuffer(
     final VulkanBufferType source,
@@ -619,71 +996,434 @@ public final class VulkanLWJGLCommandBuffer
   }
 
   @Override
-  public void executeCommands(
-    final List<VulkanCommandBufferType> commandBuffers)
+  public @VulkanExternallySynchronizedType void drawIndirectCount(
+    final VulkanBufferType indirectBuffer,
+    final long offset,
+    final VulkanBufferType countBuffer,
+    final long count_buffer_offset,
+    final int max_draw_count,
+    final int stride)
     throws VulkanException
   {
-    Objects.requireNonNull(commandBuffers, "commandBuffers");
+    Objects.requireNonNull(indirectBuffer, "buffer");
+    Objects.requireNonNull(countBuffer, "count_buffer");
 
     this.checkNotClosed();
+    this.checkDrawIndirectCount();
 
-    try (var stack = VulkanLWJGLMemoryStack.stack()) {
-      final var pointers =
-        stack.mallocPointer(commandBuffers.size());
-
-      for (int index = 0; index < commandBuffers.size(); ++index) {
-        final var secondary =
-          checkInstanceOf(
-            commandBuffers.get(index),
-            VulkanLWJGLCommandBuffer.class
-          );
-        pointers.put(index, secondary.buffer.address());
-      }
-
-      VK10.vkCmdExecuteCommands(
-        this.buffer,
-        pointers
-      );
-    }
+    VK12.vkCmdDrawIndirectCount(
+      this.buffer,
+      checkInstanceOf(indirectBuffer, VulkanLWJGLBuffer.class).handle(),
+      offset,
+      checkInstanceOf(countBuffer, VulkanLWJGLBuffer.class).handle(),
+      count_buffer_offset,
+      max_draw_count,
+      stride
+    );
   }
 
   @Override
-  public @VulkanExternallySynchronizedType void fillBuffer(
-    final VulkanBufferType outputBuffer,
+  public @VulkanExternallySynchronizedType void drawIndexedIndirectCount(
+    final VulkanBufferType indirectBuffer,
     final long offset,
-    final long size,
-    final int data)
+    final VulkanBufferType countBuffer,
+    final long count_buffer_offset,
+    final int max_draw_count,
+    final int stride)
     throws VulkanException
   {
-    Objects.requireNonNull(outputBuffer, "buffer");
+    Objects.requireNonNull(indirectBuffer, "buffer");
+    Objects.requireNonNull(countBuffer, "count_buffer");
 
     this.checkNotClosed();
+    this.checkDrawIndirectCount();
 
-    VK10.vkCmdFillBuffer(
+    VK12.vkCmdDrawIndexedIndirectCount(
       this.buffer,
-      checkInstanceOf(outputBuffer, VulkanLWJGLBuffer.class).handle(),
+      checkInstanceOf(indirectBuffer, VulkanLWJGLBuffer.class).handle(),
       offset,
-      size,
-      data
+      checkInstanceOf(countBuffer, VulkanLWJGLBuffer.class).handle(),
+      count_buffer_offset,
+      max_draw_count,
+      stride
     );
   }
 
-  @Override
-  public void endRenderPass()
-    throws VulkanDestroyedException
+  private void checkDrawIndirectCount()
+    throws VulkanMissingRequiredFeaturesException
   {
-    this.checkNotClosed();
-    VK10.vkCmdEndRenderPass(this.buffer);
+    if (!this.features.features12().drawIndirectCount()) {
+      throw new VulkanMissingRequiredFeaturesException(
+        Set.of("drawIndirectCount"),
+        "The drawIndirectCount feature is not enabled on this device."
+      );
+    }
   }
 
-  @Override
-  public @VulkanExternallySynchronizedType void pipelineBarrier(
-    final VulkanDependencyInfo info)
+  private void checkMultiDraw(
+    final int draw_count)
     throws VulkanException
   {
-    Objects.requireNonNull(info, "info");
-
-    this.checkNotClosed();
+    if (!this.buffer.getCapabilities().VK_EXT_multi_draw) {
+      throw new VulkanMissingRequiredExtensionsException(
+        Set.of("VK_EXT_multi_draw"),
+        "The VK_EXT_multi_draw extension is not enabled on this device."
+      );
+    }
+    if (!this.features.featuresMultiDrawEXT().multiDraw()) {
+      throw new VulkanMissingRequiredFeaturesException(
+        Set.of("multiDraw"),
+        "The multiDraw feature is not enabled on this device."
+      );
+    }
+
+    final var maximum = this.limits.maxMultiDrawCount();
+    if (Integer.compareUnsigned(draw_count, maximum) > 0) {
+      throw new IllegalArgumentException(
+        "Draw count %d exceeds the device limit maxMultiDrawCount %d"
+          .formatted(
+            Integer.valueOf(draw_count),
+            Integer.valueOf(maximum))
+      );
+    }
+  }
+
+  @Override
+  public @VulkanExternallySynchronizedType void drawMulti(
+    final int[] vertex_info,
+    final int instance_count,
+    final int first_instance)
+    throws VulkanException
+  {
+    Objects.requireNonNull(vertex_info, "vertex_info");
+    checkMultiDrawArray(vertex_info, 2);
+
+    final var draw_count = vertex_info.length / 2;
+
+    this.checkNotClosed();
+    this.checkMultiDraw(draw_count);
+
+    final var stride = 2 * Integer.BYTES;
+    final var size = vertex_info.length * Integer.BYTES;
+
+    if (size <= MULTI_DRAW_STACK_LIMIT) {
+      try (var stack = VulkanLWJGLMemoryStack.stack()) {
+        EXTMultiDraw.nvkCmdDrawMultiEXT(
+          this.buffer,
+          draw_count,
+          packIntsRawOrNull(stack, vertex_info),
+          instance_count,
+          first_instance,
+          stride
+        );
+      }
+      return;
+    }
+
+    final var address = nmemAllocChecked(size);
+    try {
+      memIntBuffer(address, vertex_info.length).put(vertex_info);
+      EXTMultiDraw.nvkCmdDrawMultiEXT(
+        this.buffer,
+        draw_count,
+        address,
+        instance_count,
+        first_instance,
+        stride
+      );
+    } finally {
+      nmemFree(address);
+    }
+  }
+
+  @Override
+  public @VulkanExternallySynchronizedType void drawMulti(
+    final MemorySegment vertex_info,
+    final int draw_count,
+    final int instance_count,
+    final int first_instance,
+    final int stride)
+    throws VulkanException
+  {
+    Objects.requireNonNull(vertex_info, "vertex_info");
+    final var size =
+      checkMultiDrawSegment(vertex_info, draw_count, stride, 2);
+
+    this.checkNotClosed();
+    this.checkMultiDraw(draw_count);
+
+    if (vertex_info.isNative() || size == 0L) {
+      EXTMultiDraw.nvkCmdDrawMultiEXT(
+        this.buffer,
+        draw_count,
+        size == 0L ? 0L : vertex_info.address(),
+        instance_count,
+        first_instance,
+        stride
+      );
+      return;
+    }
+
+    final var address = copySegmentToNative(vertex_info, size);
+    try {
+      EXTMultiDraw.nvkCmdDrawMultiEXT(
+        this.buffer,
+        draw_count,
+        address,
+        instance_count,
+        first_instance,
+        stride
+      );
+    } finally {
+      nmemFree(address);
+    }
+  }
+
+  @Override
+  public @VulkanExternallySynchronizedType void drawMultiIndexed(
+    final int[] index_info,
+    final int instance_count,
+    final int first_instance)
+    throws VulkanException
+  {
+    Objects.requireNonNull(index_info, "index_info");
+    checkMultiDrawArray(index_info, 3);
+
+    final var draw_count = index_info.length / 3;
+
+    this.checkNotClosed();
+    this.checkMultiDraw(draw_count);
+
+    final var stride = 3 * Integer.BYTES;
+    final var size = index_info.length * Integer.BYTES;
+
+    if (size <= MULTI_DRAW_STACK_LIMIT) {
+      try (var stack = VulkanLWJGLMemoryStack.stack()) {
+        EXTMultiDraw.nvkCmdDrawMultiIndexedEXT(
+          this.buffer,
+          draw_count,
+          packIntsRawOrNull(stack, index_info),
+          instance_count,
+          first_instance,
+          stride,
+          0L
+        );
+      }
+      return;
+    }
+
+    final var address = nmemAllocChecked(size);
+    try {
+      memIntBuffer(address, index_info.length).put(index_info);
+      EXTMultiDraw.nvkCmdDrawMultiIndexedEXT(
+        this.buffer,
+        draw_count,
+        address,
+        instance_count,
+        first_instance,
+        stride,
+        0L
+      );
+    } finally {
+      nmemFree(address);
+    }
+  }
+
+  @Override
+  public @VulkanExternallySynchronizedType void drawMultiIndexed(
+    final MemorySegment index_info,
+    final int draw_count,
+    final int instance_count,
+    final int first_instance,
+    final int stride)
+    throws VulkanException
+  {
+    Objects.requireNonNull(index_info, "index_info");
+    final var size =
+      checkMultiDrawSegment(index_info, draw_count, stride, 3);
+
+    this.checkNotClosed();
+    this.checkMultiDraw(draw_count);
+
+    if (index_info.isNative() || size == 0L) {
+      EXTMultiDraw.nvkCmdDrawMultiIndexedEXT(
+        this.buffer,
+        draw_count,
+        size == 0L ? 0L : index_info.address(),
+        instance_count,
+        first_instance,
+        stride,
+        0L
+      );
+      return;
+    }
+
+    final var address = copySegmentToNative(index_info, size);
+    try {
+      EXTMultiDraw.nvkCmdDrawMultiIndexedEXT(
+        this.buffer,
+        draw_count,
+        address,
+        instance_count,
+        first_instance,
+        stride,
+        0L
+      );
+    } finally {
+      nmemFree(address);
+    }
+  }
+
+  private static void checkMultiDrawArray(
+    final int[] values,
+    final int components)
+  {
+    if (values.length % components != 0) {
+      throw new IllegalArgumentException(
+        "Multi-draw array length %d must be a multiple of %d"
+          .formatted(
+            Integer.valueOf(values.length),
+            Integer.valueOf(components))
+      );
+    }
+  }
+
+  private static long checkMultiDrawSegment(
+    final MemorySegment values,
+    final int draw_count,
+    final int stride,
+    final int components)
+  {
+    final var element = components * Integer.BYTES;
+    if (draw_count < 0) {
+      throw new IllegalArgumentException(
+        "Draw count %d must be non-negative"
+          .formatted(Integer.valueOf(draw_count))
+      );
+    }
+    if (stride < element || stride % Integer.BYTES != 0) {
+      throw new IllegalArgumentException(
+        "Stride %d must be a multiple of %d and at least %d"
+          .formatted(
+            Integer.valueOf(stride),
+            Integer.valueOf(Integer.BYTES),
+            Integer.valueOf(element))
+      );
+    }
+    if (draw_count == 0) {
+      return 0L;
+    }
+
+    final var size = ((long) (draw_count - 1) * stride) + element;
+    Objects.checkFromIndexSize(0L, size, values.byteSize());
+    return size;
+  }
+
+  private static long nmemAllocChecked(
+    final long size)
+  {
+    final var address = nmemAlloc(size);
+    if (address == 0L) {
+      throw new OutOfMemoryError(
+        "Failed to allocate %d bytes".formatted(Long.valueOf(size))
+      );
+    }
+    return address;
+  }
+
+  private static long copySegmentToNative(
+    final MemorySegment values,
+    final long size)
+  {
+    final var address = nmemAllocChecked(size);
+    MemorySegment.ofBuffer(memByteBuffer(address, Math.toIntExact(size)))
+      .copyFrom(values.asSlice(0L, size));
+    return address;
+  }
+
+  @Override
+  public void executeCommands(
+    final List<VulkanCommandBufferType> commandBuffers)
+    throws VulkanException
+  {
+    Objects.requireNonNull(commandBuffers, "commandBuffers");
+
+    this.checkNotClosed();
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var pointers =
+        stack.mallocPointer(commandBuffers.size());
+
+      for (int index = 0; index < commandBuffers.size(); ++index) {
+        final var secondary =
+          checkInstanceOf(
+            commandBuffers.get(index),
+            VulkanLWJGLCommandBuffer.class
+          );
+        pointers.put(index, secondary.buffer.address());
+      }
+
+      VK10.vkCmdExecuteCommands(
+        this.buffer,
+        pointers
+      );
+    }
+  }
+
+  @Override
+  public void executeCommandStream(
+    final VulkanCommandStreamType stream)
+    throws VulkanException
+  {
+    Objects.requireNonNull(stream, "stream");
+
+    this.checkNotClosed();
+
+    final var streamBuffer =
+      VulkanLWJGLCommandStreams.check(stream, this.buffer.getDevice());
+    if (this.streamReceiver == null) {
+      this.streamReceiver = new VulkanLWJGLCommandStreams.Receiver(this.buffer);
+    }
+    streamBuffer.replay(this.streamReceiver);
+  }
+
+  @Override
+  public @VulkanExternallySynchronizedType void fillBuffer(
+    final VulkanBufferType outputBuffer,
+    final long offset,
+    final long size,
+    final int data)
+    throws VulkanException
+  {
+    Objects.requireNonNull(outputBuffer, "buffer");
+
+    this.checkNotClosed();
+
+    VK10.vkCmdFillBuffer(
+      this.buffer,
+      checkInstanceOf(outputBuffer, VulkanLWJGLBuffer.class).handle(),
+      offset,
+      size,
+      data
+    );
+  }
+
+  @Override
+  public void endRenderPass()
+    throws VulkanDestroyedException
+  {
+    this.checkNotClosed();
+    VK10.vkCmdEndRenderPass(this.buffer);
+  }
+
+  @Override
+  public @VulkanExternallySynchronizedType void pipelineBarrier(
+    final VulkanDependencyInfo info)
+    throws VulkanException
+  {
+    Objects.requireNonNull(info, "info");
+
+    this.checkNotClosed();
 
     try (var stack = VulkanLWJGLMemoryStack.stack()) {
       VK13.vkCmdPipelineBarrier2(
@@ -850,6 +1590,273 @@ public final class VulkanLWJGLCommandBuffer
     }
   }
 
+  @Override
+  public @VulkanExternallySynchronizedType void setCullMode(
+    final Set<VulkanCullModeFlag> cull_mode)
+    throws VulkanException
+  {
+    Objects.requireNonNull(cull_mode, "cull_mode");
+
+    this.checkNotClosed();
+
+    VK13.vkCmdSetCullMode(
+      this.buffer, VulkanEnumMaps.packValues(cull_mode));
+  }
+
+  @Override
+  public @VulkanExternallySynchronizedType void setFrontFace(
+    final VulkanFrontFace front_face)
+    throws VulkanException
+  {
+    Objects.requireNonNull(front_face, "front_face");
+
+    this.checkNotClosed();
+
+    VK13.vkCmdSetFrontFace(this.buffer, front_face.value());
+  }
+
+  @Override
+  public @VulkanExternallySynchronizedType void setPrimitiveTopology(
+    final VulkanPrimitiveTopology topology)
+    throws VulkanException
+  {
+    Objects.requireNonNull(topology, "topology");
+
+    this.checkNotClosed();
+
+    VK13.vkCmdSetPrimitiveTopology(this.buffer, topology.value());
+  }
+
+  @Override
+  public @VulkanExternallySynchronizedType void setDepthTestEnable(
+    final boolean enable)
+    throws VulkanException
+  {
+    this.checkNotClosed();
+
+    VK13.vkCmdSetDepthTestEnable(this.buffer, enable);
+  }
+
+  @Override
+  public @VulkanExternallySynchronizedType void setDepthWriteEnable(
+    final boolean enable)
+    throws VulkanException
+  {
+    this.checkNotClosed();
+
+    VK13.vkCmdSetDepthWriteEnable(this.buffer, enable);
+  }
+
+  @Override
+  public @VulkanExternallySynchronizedType void setDepthCompareOp(
+    final VulkanCompareOp compare_op)
+    throws VulkanException
+  {
+    Objects.requireNonNull(compare_op, "compare_op");
+
+    this.checkNotClosed();
+
+    VK13.vkCmdSetDepthCompareOp(this.buffer, compare_op.value());
+  }
+
+  @Override
+  public @VulkanExternallySynchronizedType void setDepthBoundsTestEnable(
+    final boolean enable)
+    throws VulkanException
+  {
+    this.checkNotClosed();
+
+    VK13.vkCmdSetDepthBoundsTestEnable(this.buffer, enable);
+  }
+
+  @Override
+  public @VulkanExternallySynchronizedType void setStencilTestEnable(
+    final boolean enable)
+    throws VulkanException
+  {
+    this.checkNotClosed();
+
+    VK13.vkCmdSetStencilTestEnable(this.buffer, enable);
+  }
+
+  @Override
+  public @VulkanExternallySynchronizedType void setStencilOp(
+    final Set<VulkanStencilFaceFlag> face_mask,
+    final VulkanStencilOp fail_op,
+    final VulkanStencilOp pass_op,
+    final VulkanStencilOp depth_fail_op,
+    final VulkanCompareOp compare_op)
+    throws VulkanException
+  {
+    Objects.requireNonNull(face_mask, "face_mask");
+    Objects.requireNonNull(fail_op, "fail_op");
+    Objects.requireNonNull(pass_op, "pass_op");
+    Objects.requireNonNull(depth_fail_op, "depth_fail_op");
+    Objects.requireNonNull(compare_op, "compare_op");
+
+    this.checkNotClosed();
+
+    VK13.vkCmdSetStencilOp(
+      this.buffer,
+      VulkanEnumMaps.packValues(face_mask),
+      fail_op.value(),
+      pass_op.value(),
+      depth_fail_op.value(),
+      compare_op.value()
+    );
+  }
+
+  @Override
+  public @VulkanExternallySynchronizedType void setRasterizerDiscardEnable(
+    final boolean enable)
+    throws VulkanException
+  {
+    this.checkNotClosed();
+
+    VK13.vkCmdSetRasterizerDiscardEnable(this.buffer, enable);
+  }
+
+  @Override
+  public @VulkanExternallySynchronizedType void setDepthBiasEnable(
+    final boolean enable)
+    throws VulkanException
+  {
+    this.checkNotClosed();
+
+    VK13.vkCmdSetDepthBiasEnable(this.buffer, enable);
+  }
+
+  @Override
+  public @VulkanExternallySynchronizedType void setPrimitiveRestartEnable(
+    final boolean enable)
+    throws VulkanException
+  {
+    this.checkNotClosed();
+
+    VK13.vkCmdSetPrimitiveRestartEnable(this.buffer, enable);
+  }
+
+  private void checkExtendedDynamicState3()
+    throws VulkanMissingRequiredExtensionsException
+  {
+    if (!this.buffer.getCapabilities().VK_EXT_extended_dynamic_state3) {
+      throw new VulkanMissingRequiredExtensionsException(
+        Set.of("VK_EXT_extended_dynamic_state3"),
+        "The VK_EXT_extended_dynamic_state3 extension is not enabled on this device."
+      );
+    }
+  }
+
+  @Override
+  public @VulkanExternallySynchronizedType void setPolygonMode(
+    final VulkanPolygonMode polygon_mode)
+    throws VulkanException
+  {
+    Objects.requireNonNull(polygon_mode, "polygon_mode");
+
+    this.checkNotClosed();
+    this.checkExtendedDynamicState3();
+
+    EXTExtendedDynamicState3.vkCmdSetPolygonModeEXT(
+      this.buffer, polygon_mode.value());
+  }
+
+  @Override
+  public @VulkanExternallySynchronizedType void setColorBlendEnable(
+    final int first_attachment,
+    final List<Boolean> enables)
+    throws VulkanException
+  {
+    Objects.requireNonNull(enables, "enables");
+
+    this.checkNotClosed();
+    this.checkExtendedDynamicState3();
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var count = enables.size();
+      final var packed = stack.mallocInt(count);
+      for (int index = 0; index < count; ++index) {
+        packed.put(index, enables.get(index).booleanValue() ? 1 : 0);
+      }
+      EXTExtendedDynamicState3.vkCmdSetColorBlendEnableEXT(
+        this.buffer, first_attachment, packed);
+    }
+  }
+
+  @Override
+  public @VulkanExternallySynchronizedType void setColorBlendEquation(
+    final int first_attachment,
+    final List<VulkanColorBlendEquationEXT> equations)
+    throws VulkanException
+  {
+    Objects.requireNonNull(equations, "equations");
+
+    this.checkNotClosed();
+    this.checkExtendedDynamicState3();
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      EXTExtendedDynamicState3.vkCmdSetColorBlendEquationEXT(
+        this.buffer,
+        first_attachment,
+        VulkanLWJGLColorBlendEquations.packList(stack, equations)
+      );
+    }
+  }
+
+  @Override
+  public @VulkanExternallySynchronizedType void setColorWriteMask(
+    final int first_attachment,
+    final List<Set<VulkanColorComponentFlag>> masks)
+    throws VulkanException
+  {
+    Objects.requireNonNull(masks, "masks");
+
+    this.checkNotClosed();
+    this.checkExtendedDynamicState3();
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var count = masks.size();
+      final var packed = stack.mallocInt(count);
+      for (int index = 0; index < count; ++index) {
+        packed.put(index, VulkanEnumMaps.packValues(masks.get(index)));
+      }
+      EXTExtendedDynamicState3.vkCmdSetColorWriteMaskEXT(
+        this.buffer, first_attachment, packed);
+    }
+  }
+
+  private void checkVertexInputDynamicState()
+    throws VulkanMissingRequiredExtensionsException
+  {
+    if (!this.buffer.getCapabilities().VK_EXT_vertex_input_dynamic_state) {
+      throw new VulkanMissingRequiredExtensionsException(
+        Set.of("VK_EXT_vertex_input_dynamic_state"),
+        "The VK_EXT_vertex_input_dynamic_state extension is not enabled on this device."
+      );
+    }
+  }
+
+  @Override
+  public @VulkanExternallySynchronizedType void setVertexInput(
+    final List<VulkanVertexInputBindingDescription> bindings,
+    final List<VulkanVertexInputAttributeDescription> attributes)
+    throws VulkanException
+  {
+    Objects.requireNonNull(bindings, "bindings");
+    Objects.requireNonNull(attributes, "attributes");
+
+    this.checkNotClosed();
+    this.checkVertexInputDynamicState();
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      EXTVertexInputDynamicState.vkCmdSetVertexInputEXT(
+        this.buffer,
+        VulkanLWJGLVertexInputDescriptions2.packBindingsOrNull(stack, bindings),
+        VulkanLWJGLVertexInputDescriptions2.packAttributesOrNull(stack, attributes)
+      );
+    }
+  }
+
   @Override
   public void setEvent(
     final VulkanEventType event,
@@ -1028,4 +2035,240 @@ public final class VulkanLWJGLCommandBuffer
       data
     );
   }
+
+  @Override
+  public void pushDescriptorSet(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int set,
+    final List<VulkanWriteDescriptorSet> descriptor_writes)
+    throws VulkanException
+  {
+    Objects.requireNonNull(pipeline_bind_point, "pipeline_bind_point");
+    Objects.requireNonNull(layout, "layout");
+    Objects.requireNonNull(descriptor_writes, "descriptor_writes");
+
+    this.checkNotClosed();
+
+    final var layoutHandle =
+      checkInstanceOf(layout, VulkanLWJGLPipelineLayout.class).handle();
+    final var capabilities =
+      this.buffer.getCapabilities();
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var writes =
+        VulkanLWJGLWriteDescriptorSets.packListWithoutSets(
+          stack, descriptor_writes);
+
+      if (capabilities.vkCmdPushDescriptorSet != 0L) {
+        VK14.vkCmdPushDescriptorSet(
+          this.buffer,
+          pipeline_bind_point.value(),
+          layoutHandle,
+          set,
+          writes
+        );
+        return;
+      }
+
+      if (capabilities.vkCmdPushDescriptorSetKHR != 0L) {
+        KHRPushDescriptor.vkCmdPushDescriptorSetKHR(
+          this.buffer,
+          pipeline_bind_point.value(),
+          layoutHandle,
+          set,
+          writes
+        );
+        return;
+      }
+    }
+
+    throw errorNoPushDescriptors();
+  }
+
+  @Override
+  public void pushDescriptorSetWithTemplate(
+    final VulkanDescriptorUpdateTemplateType template,
+    final VulkanPipelineLayoutType layout,
+    final int set,
+    final MemorySegment data)
+    throws VulkanException
+  {
+    Objects.requireNonNull(template, "template");
+    Objects.requireNonNull(layout, "layout");
+    Objects.requireNonNull(data, "data");
+
+    this.checkNotClosed();
+
+    final var t =
+      checkInstanceOf(template, VulkanLWJGLDescriptorUpdateTemplate.class);
+    final var size =
+      t.dataSize();
+
+    Objects.checkFromIndexSize(0L, size, data.byteSize());
+
+    if (data.isNative()) {
+      this.pushDescriptorSetWithTemplateRaw(t, layout, set, data.address());
+      return;
+    }
+
+    final var address = copySegmentToNative(data, size);
+    try {
+      this.pushDescriptorSetWithTemplateRaw(t, layout, set, address);
+    } finally {
+      nmemFree(address);
+    }
+  }
+
+  @Override
+  public void pushDescriptorSetWithTemplate(
+    final VulkanDescriptorUpdateTemplateType template,
+    final VulkanPipelineLayoutType layout,
+    final int set,
+    final ByteBuffer data)
+    throws VulkanException
+  {
+    Objects.requireNonNull(data, "data");
+
+    if (!data.isDirect()) {
+      this.pushDescriptorSetWithTemplate(
+        template, layout, set, MemorySegment.ofBuffer(data));
+      return;
+    }
+
+    Objects.requireNonNull(template, "template");
+    Objects.requireNonNull(layout, "layout");
+
+    this.checkNotClosed();
+
+    final var t =
+      checkInstanceOf(template, VulkanLWJGLDescriptorUpdateTemplate.class);
+
+    Objects.checkFromIndexSize(0L, t.dataSize(), data.remaining());
+    this.pushDescriptorSetWithTemplateRaw(t, layout, set, memAddress(data));
+  }
+
+  private void pushDescriptorSetWithTemplateRaw(
+    final VulkanLWJGLDescriptorUpdateTemplate template,
+    final VulkanPipelineLayoutType layout,
+    final int set,
+    final long address)
+    throws VulkanException
+  {
+    final var layoutHandle =
+      checkInstanceOf(layout, VulkanLWJGLPipelineLayout.class).handle();
+    final var capabilities =
+      this.buffer.getCapabilities();
+
+    if (capabilities.vkCmdPushDescriptorSetWithTemplate != 0L) {
+      VK14.nvkCmdPushDescriptorSetWithTemplate(
+        this.buffer,
+        template.handle(),
+        layoutHandle,
+        set,
+        address
+      );
+      return;
+    }
+
+    if (capabilities.vkCmdPushDescriptorSetWithTemplateKHR != 0L) {
+      KHRPushDescriptor.nvkCmdPushDescriptorSetWithTemplateKHR(
+        this.buffer,
+        template.handle(),
+        layoutHandle,
+        set,
+        address
+      );
+      return;
+    }
+
+    throw errorNoPushDescriptors();
+  }
+
+  private static VulkanMissingRequiredExtensionsException errorNoPushDescriptors()
+  {
+    return new VulkanMissingRequiredExtensionsException(
+      Set.of("VK_KHR_push_descriptor"),
+      "Push descriptors require Vulkan 1.4 or the VK_KHR_push_descriptor extension."
+    );
+  }
+
+  private void checkDescriptorBuffer()
+    throws VulkanMissingRequiredExtensionsException
+  {
+    if (!this.buffer.getCapabilities().VK_EXT_descriptor_buffer) {
+      throw new VulkanMissingRequiredExtensionsException(
+        Set.of("VK_EXT_descriptor_buffer"),
+        "The VK_EXT_descriptor_buffer extension is not enabled on this device."
+      );
+    }
+  }
+
+  @Override
+  public @VulkanExternallySynchronizedType void bindDescriptorBuffers(
+    final List<VulkanDescriptorBufferBindingInfoEXT> binding_infos)
+    throws VulkanException
+  {
+    Objects.requireNonNull(binding_infos, "binding_infos");
+
+    this.checkNotClosed();
+    this.checkDescriptorBuffer();
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var count = binding_infos.size();
+      final var infos =
+        VkDescriptorBufferBindingInfoEXT.calloc(count, stack);
+
+      for (int index = 0; index < count; ++index) {
+        final var info = binding_infos.get(index);
+        infos.get(index)
+          .sType$Default()
+          .address(info.address().value())
+          .usage(VulkanEnumMaps.packValues(info.usage()));
+      }
+
+      EXTDescriptorBuffer.vkCmdBindDescriptorBuffersEXT(this.buffer, infos);
+    }
+  }
+
+  @Override
+  public @VulkanExternallySynchronizedType void setDescriptorBufferOffsets(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int first_set,
+    final int[] buffer_indices,
+    final long[] offsets)
+    throws VulkanException
+  {
+    Objects.requireNonNull(pipeline_bind_point, "pipeline_bind_point");
+    Objects.requireNonNull(layout, "layout");
+    Objects.requireNonNull(buffer_indices, "buffer_indices");
+    Objects.requireNonNull(offsets, "offsets");
+
+    if (buffer_indices.length != offsets.length) {
+      throw new IllegalArgumentException(
+        "Buffer index count (%d) must equal offset count (%d)."
+          .formatted(
+            Integer.valueOf(buffer_indices.length),
+            Integer.valueOf(offsets.length))
+      );
+    }
+
+    this.checkNotClosed();
+    this.checkDescriptorBuffer();
+
+    final var layoutHandle =
+      checkInstanceOf(layout, VulkanLWJGLPipelineLayout.class).handle();
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      EXTDescriptorBuffer.vkCmdSetDescriptorBufferOffsetsEXT(
+        this.buffer,
+        pipeline_bind_point.value(),
+        layoutHandle,
+        first_set,
+        stack.ints(buffer_indices),
+        stack.longs(offsets)
+      );
+    }
+  }
 }
@@ -17,10 +17,17 @@
 package com.io7m.jcoronado.lwjgl.internal;
 
 import com.io7m.jcoronado.api.VulkanCommandBufferBeginInfo;
+import com.io7m.jcoronado.api.VulkanCommandBufferInheritanceInfo;
+import com.io7m.jcoronado.api.VulkanCommandBufferInheritanceRenderingInfo;
 import com.io7m.jcoronado.api.VulkanEnumMaps;
+import com.io7m.jcoronado.api.VulkanFormat;
+import com.io7m.jcoronado.api.VulkanException;
 import org.lwjgl.system.MemoryStack;
 import org.lwjgl.vulkan.VK10;
+import org.lwjgl.vulkan.VK13;
 import org.lwjgl.vulkan.VkCommandBufferBeginInfo;
+import org.lwjgl.vulkan.VkCommandBufferInheritanceInfo;
+import org.lwjgl.vulkan.VkCommandBufferInheritanceRenderingInfo;
 
 import java.util.Objects;
 
@@ -42,19 +49,133 @@ public final class VulkanLWJGLCommandBufferBeginInfos
    * @param info  A structure
    *
    * @return A packed structure
+   *
+   * @throws VulkanException On errors
    */
 
   public static VkCommandBufferBeginInfo pack(
     final MemoryStack stack,
     final VulkanCommandBufferBeginInfo info)
+    throws VulkanException
   {
     Objects.requireNonNull(stack, "stack");
     Objects.requireNonNull(info, "info");
 
+    final var inheritance = info.inheritanceInfo();
+    final VkCommandBufferInheritanceInfo inheritanceInfo;
+    if (inheritance.isPresent()) {
+      inheritanceInfo = packInheritanceInfo(stack, inheritance.get());
+    } else {
+      inheritanceInfo = null;
+    }
+
     return VkCommandBufferBeginInfo.calloc(stack)
       .sType(VK10.VK_STRUCTURE_TYPE_COMMAND_BUFFER_BEGIN_INFO)
       .pNext(0L)
       .flags(VulkanEnumMaps.packValues(info.flags()))
-      .pInheritanceInfo(null);
+      .pInheritanceInfo(inheritanceInfo);
+  }
+
+  /**
+   * Pack a structure.
+   *
+   * @param stack A stack
+   * @param info  A structure
+   *
+   * @return A packed structure
+   *
+   * @throws VulkanException On errors
+   */
+
+  public static VkCommandBufferInheritanceInfo packInheritanceInfo(
+    final MemoryStack stack,
+    final VulkanCommandBufferInheritanceInfo info)
+    throws VulkanException
+  {
+    Objects.requireNonNull(stack, "stack");
+    Objects.requireNonNull(info, "info");
+
+    var renderPass = 0L;
+    if (info.renderPass().isPresent()) {
+      renderPass =
+        VulkanLWJGLClassChecks.checkInstanceOf(
+          info.renderPass().get(),
+          VulkanLWJGLRenderPass.class
+        ).handle();
+    }
+
+    var framebuffer = 0L;
+    if (info.framebuffer().isPresent()) {
+      framebuffer =
+        VulkanLWJGLClassChecks.checkInstanceOf(
+          info.framebuffer().get(),
+          VulkanLWJGLFramebuffer.class
+        ).handle();
+    }
+
+    var next = 0L;
+    if (info.renderingInfo().isPresent()) {
+      next = packInheritanceRenderingInfo(
+        stack,
+        info.renderingInfo().get()
+      ).address();
+    }
+
+    return VkCommandBufferInheritanceInfo.calloc(stack)
+      .sType(VK10.VK_STRUCTURE_TYPE_COMMAND_BUFFER_INHERITANCE_INFO)
+      .pNext(next)
+      .renderPass(renderPass)
+      .subpass(info.subpass())
+      .framebuffer(framebuffer)
+      .occlusionQueryEnable(info.occlusionQueryEnable())
+      .queryFlags(VulkanEnumMaps.packValues(info.queryFlags()))
+      .pipelineStatistics(VulkanEnumMaps.packValues(info.pipelineStatistics()));
+  }
+
+  /**
+   * Pack a structure.
+   *
+   * @param stack A stack
+   * @param info  A structure
+   *
+   * @return A packed structure
+   *
+   * @throws VulkanException On errors
+   */
+
+  public static VkCommandBufferInheritanceRenderingInfo packInheritanceRenderingInfo(
+    final MemoryStack stack,
+    final VulkanCommandBufferInheritanceRenderingInfo info)
+    throws VulkanException
+  {
+    Objects.requireNonNull(stack, "stack");
+    Objects.requireNonNull(info, "info");
+
+    final var colorAttachmentFormats =
+      VulkanLWJGLScalarArrays.packInts(
+        stack,
+        info.colorAttachmentFormats(),
+        VulkanFormat::value
+      );
+
+    final var depthAttachmentFormat =
+      info.depthAttachmentFormat()
+        .map(x -> Integer.valueOf(x.value()))
+        .orElse(Integer.valueOf(0));
+
+    final var stencilAttachmentFormat =
+      info.stencilAttachmentFormat()
+        .map(x -> Integer.valueOf(x.value()))
+        .orElse(Integer.valueOf(0));
+
+    return VkCommandBufferInheritanceRenderingInfo.calloc(stack)
+      .sType(VK13.VK_STRUCTURE_TYPE_COMMAND_BUFFER_INHERITANCE_RENDERING_INFO)
+      .pNext(0L)
+      .flags(VulkanEnumMaps.packValues(info.flags()))
+      .viewMask((int) info.viewMask())
+      .pColorAttachmentFormats(colorAttachmentFormats)
+      .depthAttachmentFormat(depthAttachmentFormat.intValue())
+      .stencilAttachmentFormat(stencilAttachmentFormat.intValue())
+      .rasterizationSamples(info.rasterizationSamples().value());
   }
 }
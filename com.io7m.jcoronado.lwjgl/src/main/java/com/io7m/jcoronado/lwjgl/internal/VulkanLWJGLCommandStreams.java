@@ -0,0 +1,360 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.lwjgl.internal;
+
+import com.io7m.jcoronado.api.VulkanCommandStreamHandleResolverType;
+import com.io7m.jcoronado.api.VulkanCommandStreamReceiverType;
+import com.io7m.jcoronado.api.VulkanCommandStreamType;
+import com.io7m.jcoronado.api.VulkanHandleNonDispatchableType;
+import com.io7m.jcoronado.api.VulkanIncompatibleClassException;
+import com.io7m.jcoronado.api.internal.VulkanCommandStreamBuffer;
+import org.lwjgl.vulkan.VK10;
+import org.lwjgl.vulkan.VkCommandBuffer;
+import org.lwjgl.vulkan.VkDevice;
+
+import java.util.Objects;
+
+/**
+ * Functions to record and replay command streams.
+ */
+
+public final class VulkanLWJGLCommandStreams
+{
+  private VulkanLWJGLCommandStreams()
+  {
+
+  }
+
+  /**
+   * Create a new command stream.
+   *
+   * @param resolver        The resolver of the device creating the stream
+   * @param initialCapacity The initial capacity
+   *
+   * @return A new command stream
+   */
+
+  public static VulkanCommandStreamBuffer create(
+    final Resolver resolver,
+    final long initialCapacity)
+  {
+    return new VulkanCommandStreamBuffer(resolver, initialCapacity);
+  }
+
+  /**
+   * Check that the given stream was created by the given device.
+   *
+   * @param stream The stream
+   * @param device The device
+   *
+   * @return The stream
+   *
+   * @throws VulkanIncompatibleClassException On incompatible streams
+   */
+
+  public static VulkanCommandStreamBuffer check(
+    final VulkanCommandStreamType stream,
+    final VkDevice device)
+    throws VulkanIncompatibleClassException
+  {
+    final var buffer =
+      VulkanLWJGLClassChecks.checkInstanceOf(
+        stream, VulkanCommandStreamBuffer.class);
+
+    if (!(buffer.resolver() instanceof final Resolver resolver)) {
+      throw new VulkanIncompatibleClassException(
+        "Command stream was not created by an LWJGL device."
+      );
+    }
+    if (resolver.device.address() != device.address()) {
+      throw new VulkanIncompatibleClassException(
+        "Command stream was created by a different device."
+      );
+    }
+    return buffer;
+  }
+
+  /**
+   * A handle resolver bound to a single logical device. Each logical device
+   * owns exactly one resolver, and so streams are compatible with each other
+   * (and with command buffers) if and only if they share a resolver.
+   */
+
+  static final class Resolver
+    implements VulkanCommandStreamHandleResolverType
+  {
+    private final VkDevice device;
+
+    Resolver(
+      final VkDevice inDevice)
+    {
+      this.device = Objects.requireNonNull(inDevice, "device");
+    }
+
+    @Override
+    public long handle(
+      final VulkanHandleNonDispatchableType handle)
+      throws VulkanIncompatibleClassException
+    {
+      if (handle instanceof final VulkanLWJGLHandle lwjglHandle) {
+        return lwjglHandle.handle();
+      }
+
+      throw new VulkanIncompatibleClassException(
+        "Handle of class %s is not an LWJGL handle.".formatted(
+          handle.getClass().getName())
+      );
+    }
+  }
+
+  /**
+   * A receiver that records replayed commands directly into a command
+   * buffer.
+   */
+
+  static final class Receiver
+    implements VulkanCommandStreamReceiverType
+  {
+    private final VkCommandBuffer buffer;
+
+    Receiver(
+      final VkCommandBuffer inBuffer)
+    {
+      this.buffer = Objects.requireNonNull(inBuffer, "buffer");
+    }
+
+    @Override
+    public void bindPipeline(
+      final int bind_point,
+      final long pipeline)
+    {
+      VK10.vkCmdBindPipeline(this.buffer, bind_point, pipeline);
+    }
+
+    @Override
+    public void bindVertexBuffers(
+      final int first_binding,
+      final int count,
+      final long buffers_address,
+      final long offsets_address)
+    {
+      VK10.nvkCmdBindVertexBuffers(
+        this.buffer,
+        first_binding,
+        count,
+        buffers_address,
+        offsets_address
+      );
+    }
+
+    @Override
+    public void bindIndexBuffer(
+      final long index_buffer,
+      final long offset,
+      final int index_type)
+    {
+      VK10.vkCmdBindIndexBuffer(this.buffer, index_buffer, offset, index_type);
+    }
+
+    @Override
+    public void bindDescriptorSets(
+      final int bind_point,
+      final long layout,
+      final int first_set,
+      final int set_count,
+      final long sets_address,
+      final int dynamic_offset_count,
+      final long dynamic_offsets_address)
+    {
+      VK10.nvkCmdBindDescriptorSets(
+        this.buffer,
+        bind_point,
+        layout,
+        first_set,
+        set_count,
+        sets_address,
+        dynamic_offset_count,
+        dynamic_offsets_address
+      );
+    }
+
+    @Override
+    public void draw(
+      final int vertex_count,
+      final int instance_count,
+      final int first_vertex,
+      final int first_instance)
+    {
+      VK10.vkCmdDraw(
+        this.buffer,
+        vertex_count,
+        instance_count,
+        first_vertex,
+        first_instance
+      );
+    }
+
+    @Override
+    public void drawIndexed(
+      final int vertex_count,
+      final int instance_count,
+      final int first_vertex,
+      final int vertex_offset,
+      final int first_instance)
+    {
+      VK10.vkCmdDrawIndexed(
+        this.buffer,
+        vertex_count,
+        instance_count,
+        first_vertex,
+        vertex_offset,
+        first_instance
+      );
+    }
+
+    @Override
+    public void drawIndirect(
+      final long indirect_buffer,
+      final long offset,
+      final int draw_count,
+      final int stride)
+    {
+      VK10.vkCmdDrawIndirect(
+        this.buffer, indirect_buffer, offset, draw_count, stride);
+    }
+
+    @Override
+    public void drawIndexedIndirect(
+      final long indirect_buffer,
+      final long offset,
+      final int draw_count,
+      final int stride)
+    {
+      VK10.vkCmdDrawIndexedIndirect(
+        this.buffer, indirect_buffer, offset, draw_count, stride);
+    }
+
+    @Override
+    public void dispatch(
+      final int group_count_x,
+      final int group_count_y,
+      final int group_count_z)
+    {
+      VK10.vkCmdDispatch(
+        this.buffer, group_count_x, group_count_y, group_count_z);
+    }
+
+    @Override
+    public void setViewport(
+      final int first_viewport,
+      final int count,
+      final long viewports_address)
+    {
+      VK10.nvkCmdSetViewport(
+        this.buffer, first_viewport, count, viewports_address);
+    }
+
+    @Override
+    public void setScissor(
+      final int first_scissor,
+      final int count,
+      final long scissors_address)
+    {
+      VK10.nvkCmdSetScissor(
+        this.buffer, first_scissor, count, scissors_address);
+    }
+
+    @Override
+    public void setLineWidth(
+      final float width)
+    {
+      VK10.vkCmdSetLineWidth(this.buffer, width);
+    }
+
+    @Override
+    public void setDepthBias(
+      final float depth_bias_constant_factor,
+      final float depth_bias_clamp,
+      final float depth_bias_slope_factor)
+    {
+      VK10.vkCmdSetDepthBias(
+        this.buffer,
+        depth_bias_constant_factor,
+        depth_bias_clamp,
+        depth_bias_slope_factor
+      );
+    }
+
+    @Override
+    public void setDepthBounds(
+      final float min_depth_bounds,
+      final float max_depth_bounds)
+    {
+      VK10.vkCmdSetDepthBounds(
+        this.buffer, min_depth_bounds, max_depth_bounds);
+    }
+
+    @Override
+    public void setBlendConstants(
+      final long constants_address)
+    {
+      VK10.nvkCmdSetBlendConstants(this.buffer, constants_address);
+    }
+
+    @Override
+    public void setStencilReference(
+      final int face_mask,
+      final int reference)
+    {
+      VK10.vkCmdSetStencilReference(this.buffer, face_mask, reference);
+    }
+
+    @Override
+    public void setStencilCompareMask(
+      final int face_mask,
+      final int mask)
+    {
+      VK10.vkCmdSetStencilCompareMask(this.buffer, face_mask, mask);
+    }
+
+    @Override
+    public void setStencilWriteMask(
+      final int face_mask,
+      final int mask)
+    {
+      VK10.vkCmdSetStencilWriteMask(this.buffer, face_mask, mask);
+    }
+
+    @Override
+    public void pushConstants(
+      final long layout,
+      final int stage_flags,
+      final int offset,
+      final int size,
+      final long data_address)
+    {
+      VK10.nvkCmdPushConstants(
+        this.buffer,
+        layout,
+        stage_flags,
+        offset,
+        size,
+        data_address
+      );
+    }
+  }
+}
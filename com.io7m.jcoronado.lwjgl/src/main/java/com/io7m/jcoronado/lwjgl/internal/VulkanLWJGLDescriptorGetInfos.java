@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.lwjgl.internal;
+
+import com.io7m.jcoronado.api.VulkanDescriptorAddressInfoEXT;
+import com.io7m.jcoronado.api.VulkanDescriptorGetInfoEXT;
+import com.io7m.jcoronado.api.VulkanException;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.vulkan.VkDescriptorAddressInfoEXT;
+import org.lwjgl.vulkan.VkDescriptorGetInfoEXT;
+
+import java.util.Objects;
+
+import static com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLClassChecks.checkInstanceOf;
+
+/**
+ * Functions to pack descriptor get infos.
+ */
+
+public final class VulkanLWJGLDescriptorGetInfos
+{
+  private VulkanLWJGLDescriptorGetInfos()
+  {
+
+  }
+
+  /**
+   * Pack a structure. Absent descriptor data results in a null pointer in
+   * the packed structure, requesting a null descriptor.
+   *
+   * @param stack A stack
+   * @param info  A structure
+   *
+   * @return A packed structure
+   *
+   * @throws VulkanException On errors
+   */
+
+  public static VkDescriptorGetInfoEXT pack(
+    final MemoryStack stack,
+    final VulkanDescriptorGetInfoEXT info)
+    throws VulkanException
+  {
+    Objects.requireNonNull(stack, "stack");
+    Objects.requireNonNull(info, "info");
+
+    final var type =
+      info.descriptorType();
+    final var target =
+      VkDescriptorGetInfoEXT.calloc(stack)
+        .sType$Default()
+        .type(type.value());
+    final var data =
+      target.data();
+
+    switch (type) {
+      case VK_DESCRIPTOR_TYPE_SAMPLER -> {
+        final var sampler = info.sampler();
+        if (sampler.isPresent()) {
+          data.pSampler(stack.longs(
+            checkInstanceOf(sampler.get(), VulkanLWJGLSampler.class)
+              .handle()));
+        }
+      }
+      case VK_DESCRIPTOR_TYPE_COMBINED_IMAGE_SAMPLER -> {
+        final var image = info.imageInfo();
+        if (image.isPresent()) {
+          data.pCombinedImageSampler(
+            VulkanLWJGLDescriptorImageInfos.pack(stack, image.get()));
+        }
+      }
+      case VK_DESCRIPTOR_TYPE_SAMPLED_IMAGE -> {
+        final var image = info.imageInfo();
+        if (image.isPresent()) {
+          data.pSampledImage(
+            VulkanLWJGLDescriptorImageInfos.pack(stack, image.get()));
+        }
+      }
+      case VK_DESCRIPTOR_TYPE_STORAGE_IMAGE -> {
+        final var image = info.imageInfo();
+        if (image.isPresent()) {
+          data.pStorageImage(
+            VulkanLWJGLDescriptorImageInfos.pack(stack, image.get()));
+        }
+      }
+      case VK_DESCRIPTOR_TYPE_INPUT_ATTACHMENT -> {
+        final var image = info.imageInfo();
+        if (image.isPresent()) {
+          data.pInputAttachmentImage(
+            VulkanLWJGLDescriptorImageInfos.pack(stack, image.get()));
+        }
+      }
+      case VK_DESCRIPTOR_TYPE_UNIFORM_TEXEL_BUFFER -> {
+        final var address = info.addressInfo();
+        if (address.isPresent()) {
+          data.pUniformTexelBuffer(packAddress(stack, address.get()));
+        }
+      }
+      case VK_DESCRIPTOR_TYPE_STORAGE_TEXEL_BUFFER -> {
+        final var address = info.addressInfo();
+        if (address.isPresent()) {
+          data.pStorageTexelBuffer(packAddress(stack, address.get()));
+        }
+      }
+      case VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER -> {
+        final var address = info.addressInfo();
+        if (address.isPresent()) {
+          data.pUniformBuffer(packAddress(stack, address.get()));
+        }
+      }
+      case VK_DESCRIPTOR_TYPE_STORAGE_BUFFER -> {
+        final var address = info.addressInfo();
+        if (address.isPresent()) {
+          data.pStorageBuffer(packAddress(stack, address.get()));
+        }
+      }
+      case VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER_DYNAMIC,
+           VK_DESCRIPTOR_TYPE_STORAGE_BUFFER_DYNAMIC -> {
+        throw new IllegalArgumentException(
+          "Descriptor type %s cannot be used with descriptor buffers."
+            .formatted(type)
+        );
+      }
+    }
+    return target;
+  }
+
+  /**
+   * Pack a structure.
+   *
+   * @param stack A stack
+   * @param info  A structure
+   *
+   * @return A packed structure
+   */
+
+  public static VkDescriptorAddressInfoEXT packAddress(
+    final MemoryStack stack,
+    final VulkanDescriptorAddressInfoEXT info)
+  {
+    Objects.requireNonNull(stack, "stack");
+    Objects.requireNonNull(info, "info");
+
+    return VkDescriptorAddressInfoEXT.calloc(stack)
+      .sType$Default()
+      .address(info.address().value())
+      .range(info.range())
+      .format(info.format().value());
+  }
+}
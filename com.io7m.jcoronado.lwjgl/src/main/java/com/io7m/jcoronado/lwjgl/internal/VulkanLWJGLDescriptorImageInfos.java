@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Objects;
 
 import static com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLClassChecks.checkInstanceOf;
+import static org.lwjgl.vulkan.VK10.VK_NULL_HANDLE;
 
 /**
  * Functions to pack descriptor infos.
@@ -79,14 +80,26 @@ public final class VulkanLWJGLDescriptorImageInfos
     Objects.requireNonNull(source, "source");
     Objects.requireNonNull(target, "target");
 
+    long sampler = VK_NULL_HANDLE;
+    final var samplerOpt = source.sampler();
+    if (samplerOpt.isPresent()) {
+      sampler = checkInstanceOf(
+        samplerOpt.get(),
+        VulkanLWJGLSampler.class).handle();
+    }
+
+    long imageView = VK_NULL_HANDLE;
+    final var imageViewOpt = source.imageView();
+    if (imageViewOpt.isPresent()) {
+      imageView = checkInstanceOf(
+        imageViewOpt.get(),
+        VulkanLWJGLImageView.class).handle();
+    }
+
     return target
-      .sampler(checkInstanceOf(
-        source.sampler(),
-        VulkanLWJGLSampler.class).handle())
+      .sampler(sampler)
       .imageLayout(source.imageLayout().value())
-      .imageView(checkInstanceOf(
-        source.imageView(),
-        VulkanLWJGLImageView.class).handle());
+      .imageView(imageView);
   }
 
   /**
@@ -0,0 +1,291 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.lwjgl.internal;
+
+import com.io7m.jcoronado.api.VulkanBufferType;
+import com.io7m.jcoronado.api.VulkanBufferViewType;
+import com.io7m.jcoronado.api.VulkanDescriptorType;
+import com.io7m.jcoronado.api.VulkanDescriptorUpdateTemplateEntry;
+import com.io7m.jcoronado.api.VulkanDescriptorUpdateTemplateType;
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanImageLayout;
+import com.io7m.jcoronado.api.VulkanImageViewType;
+import com.io7m.jcoronado.api.VulkanSamplerType;
+import org.lwjgl.vulkan.VK11;
+import org.lwjgl.vulkan.VkDevice;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.foreign.MemorySegment;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_COMBINED_IMAGE_SAMPLER;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_INPUT_ATTACHMENT;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_SAMPLED_IMAGE;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_SAMPLER;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_STORAGE_BUFFER;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_STORAGE_BUFFER_DYNAMIC;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_STORAGE_IMAGE;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_STORAGE_TEXEL_BUFFER;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER_DYNAMIC;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_UNIFORM_TEXEL_BUFFER;
+import static com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLClassChecks.checkInstanceOf;
+import static java.lang.foreign.ValueLayout.JAVA_INT_UNALIGNED;
+import static java.lang.foreign.ValueLayout.JAVA_LONG_UNALIGNED;
+
+/**
+ * LWJGL {@code VkDescriptorUpdateTemplate}
+ */
+
+public final class VulkanLWJGLDescriptorUpdateTemplate
+  extends VulkanLWJGLHandle implements VulkanDescriptorUpdateTemplateType
+{
+  private static final Logger LOG = LoggerFactory.getLogger(
+    VulkanLWJGLDescriptorUpdateTemplate.class);
+
+  private static final Set<VulkanDescriptorType> SAMPLER_TYPES =
+    Set.of(VK_DESCRIPTOR_TYPE_SAMPLER);
+
+  private static final Set<VulkanDescriptorType> COMBINED_IMAGE_SAMPLER_TYPES =
+    Set.of(VK_DESCRIPTOR_TYPE_COMBINED_IMAGE_SAMPLER);
+
+  private static final Set<VulkanDescriptorType> IMAGE_TYPES =
+    Set.of(
+      VK_DESCRIPTOR_TYPE_SAMPLED_IMAGE,
+      VK_DESCRIPTOR_TYPE_STORAGE_IMAGE,
+      VK_DESCRIPTOR_TYPE_INPUT_ATTACHMENT
+    );
+
+  private static final Set<VulkanDescriptorType> BUFFER_TYPES =
+    Set.of(
+      VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER,
+      VK_DESCRIPTOR_TYPE_STORAGE_BUFFER,
+      VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER_DYNAMIC,
+      VK_DESCRIPTOR_TYPE_STORAGE_BUFFER_DYNAMIC
+    );
+
+  private static final Set<VulkanDescriptorType> BUFFER_VIEW_TYPES =
+    Set.of(
+      VK_DESCRIPTOR_TYPE_UNIFORM_TEXEL_BUFFER,
+      VK_DESCRIPTOR_TYPE_STORAGE_TEXEL_BUFFER
+    );
+
+  private final VkDevice device;
+  private final List<VulkanDescriptorUpdateTemplateEntry> entries;
+  private final long dataSize;
+
+  VulkanLWJGLDescriptorUpdateTemplate(
+    final VkDevice inDevice,
+    final long inHandle,
+    final List<VulkanDescriptorUpdateTemplateEntry> inEntries,
+    final VulkanLWJGLHostAllocatorProxy inHostAllocatorProxy)
+  {
+    super(Ownership.USER_OWNED, inHostAllocatorProxy, inHandle);
+    this.device =
+      Objects.requireNonNull(inDevice, "device");
+    this.entries =
+      List.copyOf(Objects.requireNonNull(inEntries, "entries"));
+    this.dataSize =
+      VulkanDescriptorUpdateTemplateType.super.dataSize();
+  }
+
+  @Override
+  protected Logger logger()
+  {
+    return LOG;
+  }
+
+  @Override
+  protected void closeActual()
+  {
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("Destroying descriptor update template: {}", this);
+    }
+
+    VK11.vkDestroyDescriptorUpdateTemplate(
+      this.device,
+      this.handle(),
+      this.hostAllocatorProxy().callbackBuffer()
+    );
+  }
+
+  @Override
+  public List<VulkanDescriptorUpdateTemplateEntry> entries()
+  {
+    return this.entries;
+  }
+
+  @Override
+  public long dataSize()
+  {
+    return this.dataSize;
+  }
+
+  @Override
+  public void writeSampler(
+    final MemorySegment data,
+    final int entry,
+    final int element,
+    final VulkanSamplerType sampler)
+    throws VulkanException
+  {
+    Objects.requireNonNull(data, "data");
+    Objects.requireNonNull(sampler, "sampler");
+
+    final var offset =
+      this.checkWrite(data, entry, element, SAMPLER_TYPES);
+
+    data.set(
+      JAVA_LONG_UNALIGNED,
+      offset,
+      checkInstanceOf(sampler, VulkanLWJGLSampler.class).handle()
+    );
+    data.set(JAVA_LONG_UNALIGNED, offset + 8L, 0L);
+    data.set(JAVA_INT_UNALIGNED, offset + 16L, 0);
+  }
+
+  @Override
+  public void writeImage(
+    final MemorySegment data,
+    final int entry,
+    final int element,
+    final VulkanImageViewType imageView,
+    final VulkanImageLayout layout)
+    throws VulkanException
+  {
+    Objects.requireNonNull(data, "data");
+    Objects.requireNonNull(imageView, "imageView");
+    Objects.requireNonNull(layout, "layout");
+
+    final var offset =
+      this.checkWrite(data, entry, element, IMAGE_TYPES);
+
+    data.set(JAVA_LONG_UNALIGNED, offset, 0L);
+    data.set(
+      JAVA_LONG_UNALIGNED,
+      offset + 8L,
+      checkInstanceOf(imageView, VulkanLWJGLImageView.class).handle()
+    );
+    data.set(JAVA_INT_UNALIGNED, offset + 16L, layout.value());
+  }
+
+  @Override
+  public void writeCombinedImageSampler(
+    final MemorySegment data,
+    final int entry,
+    final int element,
+    final VulkanSamplerType sampler,
+    final VulkanImageViewType imageView,
+    final VulkanImageLayout layout)
+    throws VulkanException
+  {
+    Objects.requireNonNull(data, "data");
+    Objects.requireNonNull(sampler, "sampler");
+    Objects.requireNonNull(imageView, "imageView");
+    Objects.requireNonNull(layout, "layout");
+
+    final var offset =
+      this.checkWrite(data, entry, element, COMBINED_IMAGE_SAMPLER_TYPES);
+
+    data.set(
+      JAVA_LONG_UNALIGNED,
+      offset,
+      checkInstanceOf(sampler, VulkanLWJGLSampler.class).handle()
+    );
+    data.set(
+      JAVA_LONG_UNALIGNED,
+      offset + 8L,
+      checkInstanceOf(imageView, VulkanLWJGLImageView.class).handle()
+    );
+    data.set(JAVA_INT_UNALIGNED, offset + 16L, layout.value());
+  }
+
+  @Override
+  public void writeBuffer(
+    final MemorySegment data,
+    final int entry,
+    final int element,
+    final VulkanBufferType buffer,
+    final long offset,
+    final long range)
+    throws VulkanException
+  {
+    Objects.requireNonNull(data, "data");
+    Objects.requireNonNull(buffer, "buffer");
+
+    final var position =
+      this.checkWrite(data, entry, element, BUFFER_TYPES);
+
+    data.set(
+      JAVA_LONG_UNALIGNED,
+      position,
+      checkInstanceOf(buffer, VulkanLWJGLBuffer.class).handle()
+    );
+    data.set(JAVA_LONG_UNALIGNED, position + 8L, offset);
+    data.set(JAVA_LONG_UNALIGNED, position + 16L, range);
+  }
+
+  @Override
+  public void writeBufferView(
+    final MemorySegment data,
+    final int entry,
+    final int element,
+    final VulkanBufferViewType bufferView)
+    throws VulkanException
+  {
+    Objects.requireNonNull(data, "data");
+    Objects.requireNonNull(bufferView, "bufferView");
+
+    final var offset =
+      this.checkWrite(data, entry, element, BUFFER_VIEW_TYPES);
+
+    data.set(
+      JAVA_LONG_UNALIGNED,
+      offset,
+      checkInstanceOf(bufferView, VulkanLWJGLBufferView.class).handle()
+    );
+  }
+
+  private long checkWrite(
+    final MemorySegment data,
+    final int entry,
+    final int element,
+    final Set<VulkanDescriptorType> types)
+  {
+    final var offset =
+      this.offsetOf(entry, element);
+    final var type =
+      this.entries().get(entry).descriptorType();
+
+    if (!types.contains(type)) {
+      throw new IllegalArgumentException(
+        "Entry %d has descriptor type %s, which cannot be written here."
+          .formatted(Integer.valueOf(entry), type)
+      );
+    }
+
+    Objects.checkFromIndexSize(
+      offset,
+      VulkanDescriptorUpdateTemplateType.descriptorDataSize(type),
+      data.byteSize()
+    );
+    return offset;
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.lwjgl.internal;
+
+import com.io7m.jcoronado.api.VulkanDescriptorUpdateTemplateCreateInfo;
+import com.io7m.jcoronado.api.VulkanDescriptorUpdateTemplateEntry;
+import com.io7m.jcoronado.api.VulkanException;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.vulkan.VK11;
+import org.lwjgl.vulkan.VkDescriptorUpdateTemplateCreateInfo;
+import org.lwjgl.vulkan.VkDescriptorUpdateTemplateEntry;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLClassChecks.checkInstanceOf;
+
+/**
+ * Functions to pack descriptor update templates.
+ */
+
+public final class VulkanLWJGLDescriptorUpdateTemplates
+{
+  private VulkanLWJGLDescriptorUpdateTemplates()
+  {
+
+  }
+
+  /**
+   * Pack a value into a Vulkan structure.
+   *
+   * @param stack The stack used for allocations
+   * @param info  The input value
+   *
+   * @return A packed Vulkan structure
+   *
+   * @throws VulkanException On errors
+   */
+
+  public static VkDescriptorUpdateTemplateCreateInfo packDescriptorUpdateTemplateCreateInfo(
+    final MemoryStack stack,
+    final VulkanDescriptorUpdateTemplateCreateInfo info)
+    throws VulkanException
+  {
+    Objects.requireNonNull(stack, "stack");
+    Objects.requireNonNull(info, "info");
+
+    final var layout =
+      checkInstanceOf(
+        info.descriptorSetLayout(),
+        VulkanLWJGLDescriptorSetLayout.class
+      );
+
+    var pipelineLayout = 0L;
+    final var pipelineLayoutOpt = info.pipelineLayout();
+    if (pipelineLayoutOpt.isPresent()) {
+      pipelineLayout =
+        checkInstanceOf(
+          pipelineLayoutOpt.get(),
+          VulkanLWJGLPipelineLayout.class
+        ).handle();
+    }
+
+    return VkDescriptorUpdateTemplateCreateInfo.calloc(stack)
+      .sType(VK11.VK_STRUCTURE_TYPE_DESCRIPTOR_UPDATE_TEMPLATE_CREATE_INFO)
+      .pNext(0L)
+      .flags(0)
+      .pDescriptorUpdateEntries(packEntries(stack, info.entries()))
+      .templateType(info.templateKind().value())
+      .descriptorSetLayout(layout.handle())
+      .pipelineBindPoint(info.pipelineBindPoint().value())
+      .pipelineLayout(pipelineLayout)
+      .set(info.set());
+  }
+
+  private static VkDescriptorUpdateTemplateEntry.Buffer packEntries(
+    final MemoryStack stack,
+    final List<VulkanDescriptorUpdateTemplateEntry> entries)
+  {
+    final var count = entries.size();
+    final var buffer = VkDescriptorUpdateTemplateEntry.calloc(count, stack);
+    for (var index = 0; index < count; ++index) {
+      final var source = entries.get(index);
+      buffer.get(index)
+        .dstBinding(source.destinationBinding())
+        .dstArrayElement(source.destinationArrayElement())
+        .descriptorCount(source.descriptorCount())
+        .descriptorType(source.descriptorType().value())
+        .offset(source.offset())
+        .stride(source.stride());
+    }
+    return buffer;
+  }
+}
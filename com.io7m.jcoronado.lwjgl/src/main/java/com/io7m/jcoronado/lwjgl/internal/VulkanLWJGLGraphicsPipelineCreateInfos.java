@@ -25,11 +25,15 @@ import com.io7m.jcoronado.api.VulkanPipelineRenderingCreateInfo;
 import org.lwjgl.system.MemoryStack;
 import org.lwjgl.vulkan.VK10;
 import org.lwjgl.vulkan.VkGraphicsPipelineCreateInfo;
+import org.lwjgl.vulkan.VkGraphicsPipelineLibraryCreateInfoEXT;
+import org.lwjgl.vulkan.VkPipelineLibraryCreateInfoKHR;
 import org.lwjgl.vulkan.VkPipelineRenderingCreateInfo;
 
 import java.util.List;
 import java.util.Objects;
 
+import static org.lwjgl.vulkan.EXTGraphicsPipelineLibrary.VK_STRUCTURE_TYPE_GRAPHICS_PIPELINE_LIBRARY_CREATE_INFO_EXT;
+import static org.lwjgl.vulkan.KHRPipelineLibrary.VK_STRUCTURE_TYPE_PIPELINE_LIBRARY_CREATE_INFO_KHR;
 import static org.lwjgl.vulkan.VK13.VK_STRUCTURE_TYPE_PIPELINE_RENDERING_CREATE_INFO;
 
 /**
@@ -88,6 +92,7 @@ public final class VulkanLWJGLGraphicsPipelineCreateInfos
       .sType(VK10.VK_STRUCTURE_TYPE_GRAPHICS_PIPELINE_CREATE_INFO)
       .flags(VulkanEnumMaps.packValues(source.flags()));
 
+    var next = 0L;
     if (source.renderingCreateInfo().isPresent()) {
       final var createInfo =
         VkPipelineRenderingCreateInfo.calloc(stack);
@@ -97,9 +102,40 @@ public final class VulkanLWJGLGraphicsPipelineCreateInfos
         source.renderingCreateInfo().get(),
         createInfo
       );
-      target.pNext(createInfo.address());
+      createInfo.pNext(next);
+      next = createInfo.address();
     }
 
+    if (!source.libraryFlags().isEmpty()) {
+      final var libraryInfo =
+        VkGraphicsPipelineLibraryCreateInfoEXT.calloc(stack)
+          .sType(VK_STRUCTURE_TYPE_GRAPHICS_PIPELINE_LIBRARY_CREATE_INFO_EXT)
+          .pNext(next)
+          .flags(VulkanEnumMaps.packValues(source.libraryFlags()));
+      next = libraryInfo.address();
+    }
+
+    if (!source.libraries().isEmpty()) {
+      final var libraries = source.libraries();
+      final var handles = stack.mallocLong(libraries.size());
+      for (var index = 0; index < libraries.size(); ++index) {
+        final var library =
+          VulkanLWJGLClassChecks.checkInstanceOf(
+            libraries.get(index),
+            VulkanLWJGLPipeline.class);
+        handles.put(index, library.handle());
+      }
+
+      final var linkInfo =
+        VkPipelineLibraryCreateInfoKHR.calloc(stack)
+          .sType(VK_STRUCTURE_TYPE_PIPELINE_LIBRARY_CREATE_INFO_KHR)
+          .pNext(next)
+          .pLibraries(handles);
+      next = linkInfo.address();
+    }
+
+    target.pNext(next);
+
     packIntoBasePipelineIndex(source, target);
     packIntoBasePipelineHandle(source, target);
     packIntoLayout(source, target);
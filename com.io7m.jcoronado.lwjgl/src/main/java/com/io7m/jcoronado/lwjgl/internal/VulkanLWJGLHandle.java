@@ -28,6 +28,8 @@ sealed abstract class VulkanLWJGLHandle
   implements VulkanHandleType
   permits VMALWJGLAllocator,
   VMALWJGLAllocator.VMALWJGLMappedMemory,
+  VMALWJGLAllocator.VMALWJGLPool,
+  VMALWJGLDefragmentation,
   VulkanLWJGLBuffer,
   VulkanLWJGLBufferView,
   VulkanLWJGLCommandBuffer,
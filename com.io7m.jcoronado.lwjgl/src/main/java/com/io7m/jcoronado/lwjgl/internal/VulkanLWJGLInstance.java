@@ -41,6 +41,7 @@ import com.io7m.jcoronado.api.VulkanPhysicalDeviceFeatures11;
 import com.io7m.jcoronado.api.VulkanPhysicalDeviceFeatures12;
 import com.io7m.jcoronado.api.VulkanPhysicalDeviceFeatures13;
 import com.io7m.jcoronado.api.VulkanPhysicalDeviceFeatures14;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceFeaturesMultiDrawEXT;
 import com.io7m.jcoronado.api.VulkanPhysicalDeviceIDProperties;
 import com.io7m.jcoronado.api.VulkanPhysicalDeviceLimits;
 import com.io7m.jcoronado.api.VulkanPhysicalDeviceMemoryProperties;
@@ -58,6 +59,7 @@ import org.lwjgl.system.MemoryStack;
 import org.lwjgl.vulkan.VK10;
 import org.lwjgl.vulkan.VK11;
 import org.lwjgl.vulkan.VkConformanceVersion;
+import org.lwjgl.vulkan.VkExtensionProperties;
 import org.lwjgl.vulkan.VkExtent3D;
 import org.lwjgl.vulkan.VkInstance;
 import org.lwjgl.vulkan.VkMemoryHeap;
@@ -69,8 +71,11 @@ import org.lwjgl.vulkan.VkPhysicalDeviceFeatures2;
 import org.lwjgl.vulkan.VkPhysicalDeviceIDProperties;
 import org.lwjgl.vulkan.VkPhysicalDeviceLimits;
 import org.lwjgl.vulkan.VkPhysicalDeviceMemoryProperties;
+import org.lwjgl.vulkan.VkPhysicalDeviceMultiDrawFeaturesEXT;
+import org.lwjgl.vulkan.VkPhysicalDeviceMultiDrawPropertiesEXT;
 import org.lwjgl.vulkan.VkPhysicalDeviceProperties;
 import org.lwjgl.vulkan.VkPhysicalDeviceProperties2;
+import org.lwjgl.vulkan.VkPhysicalDeviceShaderModuleIdentifierPropertiesEXT;
 import org.lwjgl.vulkan.VkPhysicalDeviceVulkan11Features;
 import org.lwjgl.vulkan.VkPhysicalDeviceVulkan12Features;
 import org.lwjgl.vulkan.VkPhysicalDeviceVulkan13Features;
@@ -86,6 +91,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -95,6 +101,8 @@ import java.util.TreeMap;
 import java.util.UUID;
 import java.util.stream.Stream;
 
+import static org.lwjgl.vulkan.EXTMultiDraw.VK_EXT_MULTI_DRAW_EXTENSION_NAME;
+import static org.lwjgl.vulkan.EXTShaderModuleIdentifier.VK_EXT_SHADER_MODULE_IDENTIFIER_EXTENSION_NAME;
 import static org.lwjgl.vulkan.VK11.VK_STRUCTURE_TYPE_PHYSICAL_DEVICE_FEATURES_2;
 import static org.lwjgl.vulkan.VK11.VK_STRUCTURE_TYPE_PHYSICAL_DEVICE_ID_PROPERTIES;
 import static org.lwjgl.vulkan.VK11.VK_STRUCTURE_TYPE_PHYSICAL_DEVICE_PROPERTIES_2;
@@ -285,6 +293,7 @@ public final class VulkanLWJGLInstance
       .setName(device_name)
       .setType(device_type)
       .setVendorId(device_vendor)
+      .setPipelineCacheUUID(parseUUID(vk_properties.pipelineCacheUUID()))
       .build();
   }
 
@@ -768,9 +777,45 @@ public final class VulkanLWJGLInstance
       .build();
   }
 
+  private static Set<String> parseDeviceExtensionNames(
+    final VkPhysicalDevice vkDevice)
+  {
+    final var count = new int[1];
+    var result =
+      VK10.vkEnumerateDeviceExtensionProperties(
+        vkDevice, (ByteBuffer) null, count, null);
+    if (result != VK10.VK_SUCCESS || count[0] == 0) {
+      return Set.of();
+    }
+
+    /*
+     * Devices can expose hundreds of extensions, so the properties are
+     * allocated on the heap rather than the (small) thread memory stack.
+     */
+
+    final var extensions = VkExtensionProperties.calloc(count[0]);
+    try {
+      result =
+        VK10.vkEnumerateDeviceExtensionProperties(
+          vkDevice, (ByteBuffer) null, count, extensions);
+      if (result != VK10.VK_SUCCESS) {
+        return Set.of();
+      }
+
+      final var names = new HashSet<String>(count[0]);
+      for (var index = 0; index < count[0]; ++index) {
+        names.add(extensions.get(index).extensionNameString());
+      }
+      return Set.copyOf(names);
+    } finally {
+      extensions.free();
+    }
+  }
+
   private static VulkanPhysicalDeviceFeatures parseAllFeatures(
     final MemoryStack stack,
-    final VkPhysicalDevice vkDevice)
+    final VkPhysicalDevice vkDevice,
+    final Set<String> extensions)
   {
     final var vkFeatures14 =
       VkPhysicalDeviceVulkan14Features.calloc(stack);
@@ -797,6 +842,19 @@ public final class VulkanLWJGLInstance
     vkFeatures11.pNext(vkFeatures12.address());
     vkFeatures.pNext(vkFeatures11.address());
 
+    /*
+     * Extension feature structures may only be chained if the device
+     * supports the extension.
+     */
+
+    VkPhysicalDeviceMultiDrawFeaturesEXT vkFeaturesMultiDraw = null;
+    if (extensions.contains(VK_EXT_MULTI_DRAW_EXTENSION_NAME)) {
+      vkFeaturesMultiDraw =
+        VkPhysicalDeviceMultiDrawFeaturesEXT.calloc(stack)
+          .sType$Default();
+      vkFeatures14.pNext(vkFeaturesMultiDraw.address());
+    }
+
     VK11.vkGetPhysicalDeviceFeatures2(vkDevice, vkFeatures);
 
     final var features10 =
@@ -810,12 +868,19 @@ public final class VulkanLWJGLInstance
     final var features14 =
       parsePhysicalDeviceFeatures14(vkFeatures14);
 
+    final var featuresMultiDraw =
+      VulkanPhysicalDeviceFeaturesMultiDrawEXT.builder();
+    if (vkFeaturesMultiDraw != null) {
+      featuresMultiDraw.setMultiDraw(vkFeaturesMultiDraw.multiDraw());
+    }
+
     return VulkanPhysicalDeviceFeatures.builder()
       .setFeatures10(features10)
       .setFeatures11(features11)
       .setFeatures12(features12)
       .setFeatures13(features13)
       .setFeatures14(features14)
+      .setFeaturesMultiDrawEXT(featuresMultiDraw.build())
       .build();
   }
 
@@ -1144,19 +1209,23 @@ public final class VulkanLWJGLInstance
     final VkPhysicalDeviceMemoryProperties vkMemory,
     final VulkanVersion apiVersion)
   {
+    final var extensions =
+      parseDeviceExtensionNames(vkDevice);
     final var properties =
-      parseAllProperties(stack, vkDevice, index, apiVersion);
+      parseAllProperties(stack, vkDevice, index, apiVersion, extensions);
 
     final var features =
       parseAllFeatures(
         stack,
-        vkDevice
+        vkDevice,
+        extensions
       );
 
     VK10.vkGetPhysicalDeviceMemoryProperties(vkDevice, vkMemory);
 
     final var limits =
-      parsePhysicalDeviceLimits(vkProperties.limits());
+      parsePhysicalDeviceLimits(vkProperties.limits())
+        .withMaxMultiDrawCount(properties.maxMultiDrawCount());
     final var memory =
       parsePhysicalDeviceMemoryProperties(vkMemory);
     final var queueFamilies =
@@ -1180,7 +1249,8 @@ public final class VulkanLWJGLInstance
     final MemoryStack stack,
     final VkPhysicalDevice vkDevice,
     final int index,
-    final VulkanVersion apiVersion)
+    final VulkanVersion apiVersion,
+    final Set<String> extensions)
   {
     final var vkIdProperties =
       VkPhysicalDeviceIDProperties.calloc(stack);
@@ -1201,20 +1271,47 @@ public final class VulkanLWJGLInstance
       vkIdProperties.pNext(vkDriverProperties.address());
     }
 
+    VkPhysicalDeviceMultiDrawPropertiesEXT vkMultiDrawProperties = null;
+    if (extensions.contains(VK_EXT_MULTI_DRAW_EXTENSION_NAME)) {
+      vkMultiDrawProperties =
+        VkPhysicalDeviceMultiDrawPropertiesEXT.calloc(stack)
+          .sType$Default()
+          .pNext(vkProperties2.pNext());
+      vkProperties2.pNext(vkMultiDrawProperties.address());
+    }
+
+    VkPhysicalDeviceShaderModuleIdentifierPropertiesEXT vkIdentifierProperties = null;
+    if (extensions.contains(VK_EXT_SHADER_MODULE_IDENTIFIER_EXTENSION_NAME)) {
+      vkIdentifierProperties =
+        VkPhysicalDeviceShaderModuleIdentifierPropertiesEXT.calloc(stack)
+          .sType$Default()
+          .pNext(vkProperties2.pNext());
+      vkProperties2.pNext(vkIdentifierProperties.address());
+    }
+
     VK11.vkGetPhysicalDeviceProperties2(vkDevice, vkProperties2);
 
-    final var properties =
+    var properties =
       parsePhysicalDeviceProperties(vkProperties2.properties(), index);
+    if (vkIdentifierProperties != null) {
+      properties = properties.withShaderModuleIdentifierAlgorithmUUID(
+        parseUUID(vkIdentifierProperties.shaderModuleIdentifierAlgorithmUUID()));
+    }
     final var driverProperties =
       parsePhysicalDeviceDriverPropertiesOpt(Optional.ofNullable(
         vkDriverProperties));
     final var idProperties =
       parsePhysicalDeviceIdPropertiesOpt(vkIdProperties);
+    final var maxMultiDrawCount =
+      vkMultiDrawProperties != null
+        ? vkMultiDrawProperties.maxMultiDrawCount()
+        : 0;
 
     return new PropertiesAndExtras(
       properties,
       driverProperties,
-      idProperties
+      idProperties,
+      maxMultiDrawCount
     );
   }
 
@@ -1322,7 +1419,8 @@ public final class VulkanLWJGLInstance
   private record PropertiesAndExtras(
     VulkanPhysicalDeviceProperties properties,
     Optional<VulkanPhysicalDeviceDriverProperties> driverProperties,
-    Optional<VulkanPhysicalDeviceIDProperties> idProperties)
+    Optional<VulkanPhysicalDeviceIDProperties> idProperties,
+    int maxMultiDrawCount)
   {
 
   }
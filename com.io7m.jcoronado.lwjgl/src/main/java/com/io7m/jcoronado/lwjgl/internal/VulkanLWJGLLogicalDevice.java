@@ -26,9 +26,11 @@ import com.io7m.jcoronado.api.VulkanCommandBufferType;
 import com.io7m.jcoronado.api.VulkanCommandPoolCreateInfo;
 import com.io7m.jcoronado.api.VulkanCommandPoolResetFlag;
 import com.io7m.jcoronado.api.VulkanCommandPoolType;
+import com.io7m.jcoronado.api.VulkanCommandStreamType;
 import com.io7m.jcoronado.api.VulkanComputePipelineCreateInfo;
 import com.io7m.jcoronado.api.VulkanCopyDescriptorSet;
 import com.io7m.jcoronado.api.VulkanDebuggingType;
+import com.io7m.jcoronado.api.VulkanDescriptorGetInfoEXT;
 import com.io7m.jcoronado.api.VulkanDescriptorPoolCreateInfo;
 import com.io7m.jcoronado.api.VulkanDescriptorPoolResetFlag;
 import com.io7m.jcoronado.api.VulkanDescriptorPoolType;
@@ -36,6 +38,8 @@ import com.io7m.jcoronado.api.VulkanDescriptorSetAllocateInfo;
 import com.io7m.jcoronado.api.VulkanDescriptorSetLayoutCreateInfo;
 import com.io7m.jcoronado.api.VulkanDescriptorSetLayoutType;
 import com.io7m.jcoronado.api.VulkanDescriptorSetType;
+import com.io7m.jcoronado.api.VulkanDescriptorUpdateTemplateCreateInfo;
+import com.io7m.jcoronado.api.VulkanDescriptorUpdateTemplateType;
 import com.io7m.jcoronado.api.VulkanDestroyedException;
 import com.io7m.jcoronado.api.VulkanDeviceAddress;
 import com.io7m.jcoronado.api.VulkanDeviceMemoryType;
@@ -63,6 +67,11 @@ import com.io7m.jcoronado.api.VulkanMappedMemoryType;
 import com.io7m.jcoronado.api.VulkanMemoryAllocateInfo;
 import com.io7m.jcoronado.api.VulkanMemoryMapFlag;
 import com.io7m.jcoronado.api.VulkanMemoryRequirements;
+import com.io7m.jcoronado.api.VulkanMissingRequiredExtensionsException;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceDescriptorBufferPropertiesEXT;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceDescriptorIndexingProperties;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceFeatures;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceFeaturesFunctions;
 import com.io7m.jcoronado.api.VulkanPhysicalDeviceType;
 import com.io7m.jcoronado.api.VulkanPipelineCacheCreateInfo;
 import com.io7m.jcoronado.api.VulkanPipelineCacheType;
@@ -82,28 +91,40 @@ import com.io7m.jcoronado.api.VulkanSemaphoreBinaryType;
 import com.io7m.jcoronado.api.VulkanSemaphoreTimelineCreateInfo;
 import com.io7m.jcoronado.api.VulkanSemaphoreTimelineType;
 import com.io7m.jcoronado.api.VulkanSemaphoreTimelineWait;
+import com.io7m.jcoronado.api.VulkanShaderCreateInfoEXT;
 import com.io7m.jcoronado.api.VulkanShaderModuleCreateInfo;
+import com.io7m.jcoronado.api.VulkanShaderModuleIdentifierEXT;
 import com.io7m.jcoronado.api.VulkanShaderModuleType;
+import com.io7m.jcoronado.api.VulkanShaderObjectType;
 import com.io7m.jcoronado.api.VulkanSubresourceLayout;
 import com.io7m.jcoronado.api.VulkanUncheckedException;
 import com.io7m.jcoronado.api.VulkanWriteDescriptorSet;
 import com.io7m.jcoronado.extensions.ext_debug_utils.api.VulkanDebugUtilsType;
+import org.lwjgl.system.MemoryUtil;
+import org.lwjgl.vulkan.EXTDescriptorBuffer;
+import org.lwjgl.vulkan.EXTShaderObject;
 import org.lwjgl.vulkan.VK10;
+import org.lwjgl.vulkan.VK11;
 import org.lwjgl.vulkan.VK13;
 import org.lwjgl.vulkan.VK14;
 import org.lwjgl.vulkan.VkBufferDeviceAddressInfo;
 import org.lwjgl.vulkan.VkCommandBuffer;
 import org.lwjgl.vulkan.VkDevice;
 import org.lwjgl.vulkan.VkMemoryRequirements;
+import org.lwjgl.vulkan.VkPhysicalDeviceDescriptorBufferPropertiesEXT;
+import org.lwjgl.vulkan.VkPhysicalDeviceDescriptorIndexingProperties;
+import org.lwjgl.vulkan.VkPhysicalDeviceProperties2;
 import org.lwjgl.vulkan.VkQueue;
 import org.lwjgl.vulkan.VkSemaphoreCreateInfo;
 import org.lwjgl.vulkan.VkSemaphoreSignalInfo;
 import org.lwjgl.vulkan.VkSemaphoreTypeCreateInfo;
 import org.lwjgl.vulkan.VkSemaphoreWaitInfo;
+import org.lwjgl.vulkan.VkShaderModuleIdentifierEXT;
 import org.lwjgl.vulkan.VkSubresourceLayout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.foreign.MemorySegment;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -118,10 +139,14 @@ import static com.io7m.jcoronado.api.VulkanLogicalDeviceType.VulkanPipelineCache
 import static com.io7m.jcoronado.api.VulkanLogicalDeviceType.VulkanPipelineCacheDataResult.VK_PIPELINE_CACHE_SUCCESS;
 import static com.io7m.jcoronado.api.VulkanLogicalDeviceType.VulkanWaitStatus.VK_WAIT_SUCCEEDED;
 import static com.io7m.jcoronado.api.VulkanLogicalDeviceType.VulkanWaitStatus.VK_WAIT_TIMED_OUT;
+import static com.io7m.jcoronado.api.VulkanPipelineLayoutCreateFlag.VK_PIPELINE_LAYOUT_CREATE_INDEPENDENT_SETS_BIT_EXT;
 import static com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLClassChecks.checkInstanceOf;
 import static com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLHandle.Ownership.USER_OWNED;
 import static com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLHandle.Ownership.VULKAN_OWNED;
 import static com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLScalarArrays.packLongs;
+import static org.lwjgl.vulkan.EXTShaderModuleIdentifier.VK_STRUCTURE_TYPE_SHADER_MODULE_IDENTIFIER_EXT;
+import static org.lwjgl.vulkan.EXTShaderModuleIdentifier.vkGetShaderModuleCreateInfoIdentifierEXT;
+import static org.lwjgl.vulkan.EXTShaderModuleIdentifier.vkGetShaderModuleIdentifierEXT;
 import static org.lwjgl.vulkan.VK10.VK_EVENT_RESET;
 import static org.lwjgl.vulkan.VK10.VK_EVENT_SET;
 import static org.lwjgl.vulkan.VK10.VK_INCOMPLETE;
@@ -147,6 +172,10 @@ public final class VulkanLWJGLLogicalDevice
   private final List<VulkanQueueType> queues_read;
   private final Map<String, VulkanExtensionType> extensions_enabled_read_only;
   private final VulkanDebuggingType debugging;
+  private final boolean robustBufferAccess;
+  private final VulkanLWJGLCommandStreams.Resolver commandStreamResolver;
+  private volatile VulkanPhysicalDeviceDescriptorBufferPropertiesEXT descriptorBufferProperties;
+  private volatile VulkanPhysicalDeviceDescriptorIndexingProperties descriptorIndexingProperties;
 
   VulkanLWJGLLogicalDevice(
     final Map<String, VulkanExtensionType> inExtensionsEnabled,
@@ -167,10 +196,17 @@ public final class VulkanLWJGLLogicalDevice
       Objects.requireNonNull(inDevice, "inDevice");
     this.creation =
       Objects.requireNonNull(inCreation, "inCreation");
+    this.robustBufferAccess =
+      this.creation.features()
+        .map(f -> Boolean.valueOf(f.features10().robustBufferAccess()))
+        .orElse(Boolean.FALSE)
+        .booleanValue();
     this.queues =
       new ArrayList<>(32);
     this.queues_read =
       Collections.unmodifiableList(this.queues);
+    this.commandStreamResolver =
+      new VulkanLWJGLCommandStreams.Resolver(this.device);
 
     this.initializeQueues();
     this.debugging = this.initializeDebugging();
@@ -200,11 +236,14 @@ public final class VulkanLWJGLLogicalDevice
     return new VulkanLWJGLDebuggingNoOp();
   }
 
-  @SuppressWarnings("unchecked")
-  private static List<VulkanPipelineType> castPipelines(
-    final ArrayList<VulkanLWJGLPipeline> result_pipelines)
+  private VulkanPipelineType wrapPipeline(
+    final VulkanLWJGLHostAllocatorProxy proxy,
+    final long pipe)
   {
-    return (List<VulkanPipelineType>) (Object) result_pipelines;
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("Created pipeline: 0x{}", Long.toUnsignedString(pipe, 16));
+    }
+    return new VulkanLWJGLPipeline(USER_OWNED, this.device, pipe, proxy);
   }
 
   private static long mapPipelineCacheOptional(
@@ -345,6 +384,220 @@ public final class VulkanLWJGLLogicalDevice
     }
   }
 
+  private void checkShaderModuleIdentifier()
+    throws VulkanMissingRequiredExtensionsException
+  {
+    if (!this.device.getCapabilities().VK_EXT_shader_module_identifier) {
+      throw new VulkanMissingRequiredExtensionsException(
+        Set.of("VK_EXT_shader_module_identifier"),
+        "The VK_EXT_shader_module_identifier extension is not enabled on this device."
+      );
+    }
+  }
+
+  private static VulkanShaderModuleIdentifierEXT unpackShaderModuleIdentifier(
+    final VkShaderModuleIdentifierEXT identifier)
+  {
+    final var data = new byte[identifier.identifierSize()];
+    identifier.identifier().get(0, data);
+    return new VulkanShaderModuleIdentifierEXT(data);
+  }
+
+  @Override
+  public VulkanShaderModuleIdentifierEXT getShaderModuleIdentifier(
+    final VulkanShaderModuleType module)
+    throws VulkanException
+  {
+    Objects.requireNonNull(module, "module");
+
+    this.checkNotClosed();
+    this.checkShaderModuleIdentifier();
+
+    final var c_module =
+      checkInstanceOf(module, VulkanLWJGLShaderModule.class);
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var identifier =
+        VkShaderModuleIdentifierEXT.calloc(stack)
+          .sType(VK_STRUCTURE_TYPE_SHADER_MODULE_IDENTIFIER_EXT)
+          .pNext(0L);
+
+      vkGetShaderModuleIdentifierEXT(
+        this.device,
+        c_module.handle(),
+        identifier);
+
+      return unpackShaderModuleIdentifier(identifier);
+    }
+  }
+
+  @Override
+  public VulkanShaderModuleIdentifierEXT getShaderModuleCreateInfoIdentifier(
+    final VulkanShaderModuleCreateInfo create_info)
+    throws VulkanException
+  {
+    Objects.requireNonNull(create_info, "create_info");
+
+    this.checkNotClosed();
+    this.checkShaderModuleIdentifier();
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var identifier =
+        VkShaderModuleIdentifierEXT.calloc(stack)
+          .sType(VK_STRUCTURE_TYPE_SHADER_MODULE_IDENTIFIER_EXT)
+          .pNext(0L);
+
+      vkGetShaderModuleCreateInfoIdentifierEXT(
+        this.device,
+        VulkanLWJGLShaderModules.pack(stack, create_info),
+        identifier);
+
+      return unpackShaderModuleIdentifier(identifier);
+    }
+  }
+
+  private void checkGraphicsPipelineLibrary()
+    throws VulkanMissingRequiredExtensionsException
+  {
+    if (!this.device.getCapabilities().VK_EXT_graphics_pipeline_library) {
+      throw new VulkanMissingRequiredExtensionsException(
+        Set.of("VK_EXT_graphics_pipeline_library"),
+        "The VK_EXT_graphics_pipeline_library extension is not enabled on this device."
+      );
+    }
+  }
+
+  private void checkShaderObject()
+    throws VulkanMissingRequiredExtensionsException
+  {
+    if (!this.device.getCapabilities().VK_EXT_shader_object) {
+      throw new VulkanMissingRequiredExtensionsException(
+        Set.of("VK_EXT_shader_object"),
+        "The VK_EXT_shader_object extension is not enabled on this device."
+      );
+    }
+  }
+
+  @Override
+  public List<VulkanShaderObjectType> createShaders(
+    final List<VulkanShaderCreateInfoEXT> create_infos)
+    throws VulkanException
+  {
+    Objects.requireNonNull(create_infos, "create_infos");
+
+    this.checkNotClosed();
+    this.checkShaderObject();
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(
+        "Creating shader objects: {}",
+        Integer.valueOf(create_infos.size()));
+    }
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var count = create_infos.size();
+      final var results = stack.callocLong(count);
+      final var proxy = this.hostAllocatorProxy();
+
+      final var code =
+        EXTShaderObject.vkCreateShadersEXT(
+          this.device,
+          VulkanLWJGLShaderCreateInfos.packList(stack, create_infos),
+          proxy.callbackBuffer(),
+          results
+        );
+
+      if (code != VK_SUCCESS) {
+        for (int index = 0; index < count; ++index) {
+          final var shader = results.get(index);
+          if (shader != VK10.VK_NULL_HANDLE) {
+            EXTShaderObject.vkDestroyShaderEXT(
+              this.device, shader, proxy.callbackBuffer());
+          }
+        }
+        throw VulkanChecks.failed(code, "vkCreateShadersEXT");
+      }
+
+      final var shaders =
+        new ArrayList<VulkanShaderObjectType>(count);
+
+      for (int index = 0; index < count; ++index) {
+        final var shader = results.get(index);
+        if (LOG.isTraceEnabled()) {
+          LOG.trace(
+            "Created shader object: 0x{}",
+            Long.toUnsignedString(shader, 16));
+        }
+        shaders.add(new VulkanLWJGLShaderObject(
+          USER_OWNED,
+          this.device,
+          shader,
+          create_infos.get(index).stage(),
+          proxy
+        ));
+      }
+      return shaders;
+    }
+  }
+
+  @Override
+  public long getShaderBinaryDataSize(
+    final VulkanShaderObjectType shader)
+    throws VulkanException
+  {
+    Objects.requireNonNull(shader, "shader");
+
+    this.checkNotClosed();
+    this.checkShaderObject();
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var size = stack.mallocPointer(1);
+
+      VulkanChecks.checkReturnCode(
+        EXTShaderObject.vkGetShaderBinaryDataEXT(
+          this.device,
+          checkInstanceOf(shader, VulkanLWJGLShaderObject.class).handle(),
+          size,
+          null),
+        "vkGetShaderBinaryDataEXT");
+
+      return size.get(0);
+    }
+  }
+
+  @Override
+  public long getShaderBinaryData(
+    final VulkanShaderObjectType shader,
+    final ByteBuffer data)
+    throws VulkanException
+  {
+    Objects.requireNonNull(shader, "shader");
+    Objects.requireNonNull(data, "data");
+
+    this.checkNotClosed();
+    this.checkShaderObject();
+
+    if (!data.isDirect()) {
+      throw new IllegalArgumentException(
+        "Must use direct byte buffers for shader binary data");
+    }
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var size = stack.mallocPointer(1);
+      size.put(0, Integer.toUnsignedLong(data.remaining()));
+
+      VulkanChecks.checkReturnCode(
+        EXTShaderObject.vkGetShaderBinaryDataEXT(
+          this.device,
+          checkInstanceOf(shader, VulkanLWJGLShaderObject.class).handle(),
+          size,
+          data),
+        "vkGetShaderBinaryDataEXT");
+
+      return size.get(0);
+    }
+  }
+
   @Override
   public VulkanSamplerType createSampler(
     final VulkanSamplerCreateInfo create_info)
@@ -474,6 +727,10 @@ public final class VulkanLWJGLLogicalDevice
 
     this.checkNotClosed();
 
+    if (info.flags().contains(VK_PIPELINE_LAYOUT_CREATE_INDEPENDENT_SETS_BIT_EXT)) {
+      this.checkGraphicsPipelineLibrary();
+    }
+
     try (var stack = VulkanLWJGLMemoryStack.stack()) {
       final var proxy = this.hostAllocatorProxy();
       final var layout = new long[1];
@@ -627,6 +884,401 @@ public final class VulkanLWJGLLogicalDevice
     }
   }
 
+  @Override
+  public VulkanDescriptorUpdateTemplateType createDescriptorUpdateTemplate(
+    final VulkanDescriptorUpdateTemplateCreateInfo info)
+    throws VulkanException
+  {
+    Objects.requireNonNull(info, "info");
+
+    this.checkNotClosed();
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var proxy = this.hostAllocatorProxy();
+      final var template = new long[1];
+      VulkanChecks.checkReturnCode(
+        VK11.vkCreateDescriptorUpdateTemplate(
+          this.device,
+          VulkanLWJGLDescriptorUpdateTemplates
+            .packDescriptorUpdateTemplateCreateInfo(stack, info),
+          proxy.callbackBuffer(),
+          template),
+        "vkCreateDescriptorUpdateTemplate");
+
+      final var template_handle = template[0];
+      if (LOG.isTraceEnabled()) {
+        LOG.trace(
+          "Created descriptor update template: 0x{}",
+          Long.toUnsignedString(template_handle, 16));
+      }
+
+      return new VulkanLWJGLDescriptorUpdateTemplate(
+        this.device,
+        template_handle,
+        info.entries(),
+        proxy);
+    }
+  }
+
+  @Override
+  public void updateDescriptorSetWithTemplate(
+    final VulkanDescriptorSetType descriptor_set,
+    final VulkanDescriptorUpdateTemplateType template,
+    final MemorySegment data)
+    throws VulkanException
+  {
+    Objects.requireNonNull(descriptor_set, "descriptor_set");
+    Objects.requireNonNull(template, "template");
+    Objects.requireNonNull(data, "data");
+
+    this.checkNotClosed();
+
+    final var set =
+      checkInstanceOf(descriptor_set, VulkanLWJGLDescriptorSet.class);
+    final var t =
+      checkInstanceOf(template, VulkanLWJGLDescriptorUpdateTemplate.class);
+    final var size =
+      checkTemplateDataSize(t, data.byteSize());
+
+    if (data.isNative()) {
+      VK11.nvkUpdateDescriptorSetWithTemplate(
+        this.device, set.handle(), t.handle(), data.address());
+      return;
+    }
+
+    final var copy = MemoryUtil.memAlloc(Math.toIntExact(size));
+    try {
+      MemorySegment.ofBuffer(copy).copyFrom(data.asSlice(0L, size));
+      VK11.nvkUpdateDescriptorSetWithTemplate(
+        this.device, set.handle(), t.handle(), MemoryUtil.memAddress(copy));
+    } finally {
+      MemoryUtil.memFree(copy);
+    }
+  }
+
+  @Override
+  public void updateDescriptorSetWithTemplate(
+    final VulkanDescriptorSetType descriptor_set,
+    final VulkanDescriptorUpdateTemplateType template,
+    final ByteBuffer data)
+    throws VulkanException
+  {
+    Objects.requireNonNull(descriptor_set, "descriptor_set");
+    Objects.requireNonNull(template, "template");
+    Objects.requireNonNull(data, "data");
+
+    if (data.isDirect()) {
+      this.checkNotClosed();
+
+      final var set =
+        checkInstanceOf(descriptor_set, VulkanLWJGLDescriptorSet.class);
+      final var t =
+        checkInstanceOf(template, VulkanLWJGLDescriptorUpdateTemplate.class);
+
+      checkTemplateDataSize(t, data.remaining());
+      VK11.nvkUpdateDescriptorSetWithTemplate(
+        this.device, set.handle(), t.handle(), MemoryUtil.memAddress(data));
+      return;
+    }
+
+    this.updateDescriptorSetWithTemplate(
+      descriptor_set,
+      template,
+      MemorySegment.ofBuffer(data)
+    );
+  }
+
+  private void checkDescriptorBuffer()
+    throws VulkanMissingRequiredExtensionsException
+  {
+    if (!this.device.getCapabilities().VK_EXT_descriptor_buffer) {
+      throw new VulkanMissingRequiredExtensionsException(
+        Set.of("VK_EXT_descriptor_buffer"),
+        "The VK_EXT_descriptor_buffer extension is not enabled on this device."
+      );
+    }
+  }
+
+  @Override
+  public VulkanPhysicalDeviceFeatures enabledFeatures()
+  {
+    return this.creation.features()
+      .orElseGet(VulkanPhysicalDeviceFeaturesFunctions::none);
+  }
+
+  @Override
+  public VulkanPhysicalDeviceDescriptorIndexingProperties descriptorIndexingProperties()
+    throws VulkanException
+  {
+    this.checkNotClosed();
+
+    var properties = this.descriptorIndexingProperties;
+    if (properties == null) {
+      properties = this.fetchDescriptorIndexingProperties();
+      this.descriptorIndexingProperties = properties;
+    }
+    return properties;
+  }
+
+  private VulkanPhysicalDeviceDescriptorIndexingProperties fetchDescriptorIndexingProperties()
+  {
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var p =
+        VkPhysicalDeviceDescriptorIndexingProperties.calloc(stack)
+          .sType$Default();
+      final var properties2 =
+        VkPhysicalDeviceProperties2.calloc(stack)
+          .sType$Default()
+          .pNext(p.address());
+
+      VK11.vkGetPhysicalDeviceProperties2(
+        this.physical_device.device(),
+        properties2
+      );
+
+      return VulkanPhysicalDeviceDescriptorIndexingProperties.builder()
+        .setShaderUniformBufferArrayNonUniformIndexingNative(
+          p.shaderUniformBufferArrayNonUniformIndexingNative())
+        .setShaderSampledImageArrayNonUniformIndexingNative(
+          p.shaderSampledImageArrayNonUniformIndexingNative())
+        .setShaderStorageBufferArrayNonUniformIndexingNative(
+          p.shaderStorageBufferArrayNonUniformIndexingNative())
+        .setShaderStorageImageArrayNonUniformIndexingNative(
+          p.shaderStorageImageArrayNonUniformIndexingNative())
+        .setShaderInputAttachmentArrayNonUniformIndexingNative(
+          p.shaderInputAttachmentArrayNonUniformIndexingNative())
+        .setRobustBufferAccessUpdateAfterBind(
+          p.robustBufferAccessUpdateAfterBind())
+        .setQuadDivergentImplicitLod(
+          p.quadDivergentImplicitLod())
+        .setMaxUpdateAfterBindDescriptorsInAllPools(
+          p.maxUpdateAfterBindDescriptorsInAllPools())
+        .setMaxPerStageDescriptorUpdateAfterBindSamplers(
+          p.maxPerStageDescriptorUpdateAfterBindSamplers())
+        .setMaxPerStageDescriptorUpdateAfterBindUniformBuffers(
+          p.maxPerStageDescriptorUpdateAfterBindUniformBuffers())
+        .setMaxPerStageDescriptorUpdateAfterBindStorageBuffers(
+          p.maxPerStageDescriptorUpdateAfterBindStorageBuffers())
+        .setMaxPerStageDescriptorUpdateAfterBindSampledImages(
+          p.maxPerStageDescriptorUpdateAfterBindSampledImages())
+        .setMaxPerStageDescriptorUpdateAfterBindStorageImages(
+          p.maxPerStageDescriptorUpdateAfterBindStorageImages())
+        .setMaxPerStageDescriptorUpdateAfterBindInputAttachments(
+          p.maxPerStageDescriptorUpdateAfterBindInputAttachments())
+        .setMaxPerStageUpdateAfterBindResources(
+          p.maxPerStageUpdateAfterBindResources())
+        .setMaxDescriptorSetUpdateAfterBindSamplers(
+          p.maxDescriptorSetUpdateAfterBindSamplers())
+        .setMaxDescriptorSetUpdateAfterBindUniformBuffers(
+          p.maxDescriptorSetUpdateAfterBindUniformBuffers())
+        .setMaxDescriptorSetUpdateAfterBindUniformBuffersDynamic(
+          p.maxDescriptorSetUpdateAfterBindUniformBuffersDynamic())
+        .setMaxDescriptorSetUpdateAfterBindStorageBuffers(
+          p.maxDescriptorSetUpdateAfterBindStorageBuffers())
+        .setMaxDescriptorSetUpdateAfterBindStorageBuffersDynamic(
+          p.maxDescriptorSetUpdateAfterBindStorageBuffersDynamic())
+        .setMaxDescriptorSetUpdateAfterBindSampledImages(
+          p.maxDescriptorSetUpdateAfterBindSampledImages())
+        .setMaxDescriptorSetUpdateAfterBindStorageImages(
+          p.maxDescriptorSetUpdateAfterBindStorageImages())
+        .setMaxDescriptorSetUpdateAfterBindInputAttachments(
+          p.maxDescriptorSetUpdateAfterBindInputAttachments())
+        .build();
+    }
+  }
+
+  @Override
+  public VulkanPhysicalDeviceDescriptorBufferPropertiesEXT descriptorBufferProperties()
+    throws VulkanException
+  {
+    this.checkNotClosed();
+    this.checkDescriptorBuffer();
+
+    var properties = this.descriptorBufferProperties;
+    if (properties == null) {
+      properties = this.fetchDescriptorBufferProperties();
+      this.descriptorBufferProperties = properties;
+    }
+    return properties;
+  }
+
+  private VulkanPhysicalDeviceDescriptorBufferPropertiesEXT fetchDescriptorBufferProperties()
+  {
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var p =
+        VkPhysicalDeviceDescriptorBufferPropertiesEXT.calloc(stack)
+          .sType$Default();
+      final var properties2 =
+        VkPhysicalDeviceProperties2.calloc(stack)
+          .sType$Default()
+          .pNext(p.address());
+
+      VK11.vkGetPhysicalDeviceProperties2(
+        this.physical_device.device(),
+        properties2
+      );
+
+      return VulkanPhysicalDeviceDescriptorBufferPropertiesEXT.builder()
+        .setCombinedImageSamplerDescriptorSingleArray(
+          p.combinedImageSamplerDescriptorSingleArray())
+        .setBufferlessPushDescriptors(
+          p.bufferlessPushDescriptors())
+        .setAllowSamplerImageViewPostSubmitCreation(
+          p.allowSamplerImageViewPostSubmitCreation())
+        .setDescriptorBufferOffsetAlignment(
+          p.descriptorBufferOffsetAlignment())
+        .setMaxDescriptorBufferBindings(
+          p.maxDescriptorBufferBindings())
+        .setMaxResourceDescriptorBufferBindings(
+          p.maxResourceDescriptorBufferBindings())
+        .setMaxSamplerDescriptorBufferBindings(
+          p.maxSamplerDescriptorBufferBindings())
+        .setMaxEmbeddedImmutableSamplerBindings(
+          p.maxEmbeddedImmutableSamplerBindings())
+        .setMaxEmbeddedImmutableSamplers(
+          p.maxEmbeddedImmutableSamplers())
+        .setSamplerDescriptorSize(
+          p.samplerDescriptorSize())
+        .setCombinedImageSamplerDescriptorSize(
+          p.combinedImageSamplerDescriptorSize())
+        .setSampledImageDescriptorSize(
+          p.sampledImageDescriptorSize())
+        .setStorageImageDescriptorSize(
+          p.storageImageDescriptorSize())
+        .setUniformTexelBufferDescriptorSize(
+          p.uniformTexelBufferDescriptorSize())
+        .setRobustUniformTexelBufferDescriptorSize(
+          p.robustUniformTexelBufferDescriptorSize())
+        .setStorageTexelBufferDescriptorSize(
+          p.storageTexelBufferDescriptorSize())
+        .setRobustStorageTexelBufferDescriptorSize(
+          p.robustStorageTexelBufferDescriptorSize())
+        .setUniformBufferDescriptorSize(
+          p.uniformBufferDescriptorSize())
+        .setRobustUniformBufferDescriptorSize(
+          p.robustUniformBufferDescriptorSize())
+        .setStorageBufferDescriptorSize(
+          p.storageBufferDescriptorSize())
+        .setRobustStorageBufferDescriptorSize(
+          p.robustStorageBufferDescriptorSize())
+        .setInputAttachmentDescriptorSize(
+          p.inputAttachmentDescriptorSize())
+        .setMaxSamplerDescriptorBufferRange(
+          p.maxSamplerDescriptorBufferRange())
+        .setMaxResourceDescriptorBufferRange(
+          p.maxResourceDescriptorBufferRange())
+        .setSamplerDescriptorBufferAddressSpaceSize(
+          p.samplerDescriptorBufferAddressSpaceSize())
+        .setResourceDescriptorBufferAddressSpaceSize(
+          p.resourceDescriptorBufferAddressSpaceSize())
+        .setDescriptorBufferAddressSpaceSize(
+          p.descriptorBufferAddressSpaceSize())
+        .build();
+    }
+  }
+
+  @Override
+  public long getDescriptorSetLayoutSize(
+    final VulkanDescriptorSetLayoutType layout)
+    throws VulkanException
+  {
+    Objects.requireNonNull(layout, "layout");
+
+    this.checkNotClosed();
+    this.checkDescriptorBuffer();
+
+    final var l =
+      checkInstanceOf(layout, VulkanLWJGLDescriptorSetLayout.class);
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var size = stack.mallocLong(1);
+      EXTDescriptorBuffer.vkGetDescriptorSetLayoutSizeEXT(
+        this.device, l.handle(), size);
+      return size.get(0);
+    }
+  }
+
+  @Override
+  public long getDescriptorSetLayoutBindingOffset(
+    final VulkanDescriptorSetLayoutType layout,
+    final int binding)
+    throws VulkanException
+  {
+    Objects.requireNonNull(layout, "layout");
+
+    this.checkNotClosed();
+    this.checkDescriptorBuffer();
+
+    final var l =
+      checkInstanceOf(layout, VulkanLWJGLDescriptorSetLayout.class);
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var offset = stack.mallocLong(1);
+      EXTDescriptorBuffer.vkGetDescriptorSetLayoutBindingOffsetEXT(
+        this.device, l.handle(), binding, offset);
+      return offset.get(0);
+    }
+  }
+
+  @Override
+  public long getDescriptor(
+    final VulkanDescriptorGetInfoEXT info,
+    final MemorySegment target,
+    final long offset)
+    throws VulkanException
+  {
+    Objects.requireNonNull(info, "info");
+    Objects.requireNonNull(target, "target");
+
+    final var type =
+      info.descriptorType();
+    final var size =
+      this.descriptorBufferProperties()
+        .descriptorSize(type, this.robustBufferAccess);
+
+    Objects.checkFromIndexSize(offset, size, target.byteSize());
+
+    try (var stack = VulkanLWJGLMemoryStack.stack()) {
+      final var getInfo =
+        VulkanLWJGLDescriptorGetInfos.pack(stack, info);
+
+      if (target.isNative()) {
+        EXTDescriptorBuffer.nvkGetDescriptorEXT(
+          this.device,
+          getInfo.address(),
+          size,
+          target.address() + offset
+        );
+        return size;
+      }
+
+      final var temporary = stack.malloc(Math.toIntExact(size));
+      EXTDescriptorBuffer.nvkGetDescriptorEXT(
+        this.device,
+        getInfo.address(),
+        size,
+        MemoryUtil.memAddress(temporary)
+      );
+      MemorySegment.copy(
+        MemorySegment.ofBuffer(temporary), 0L, target, offset, size);
+      return size;
+    }
+  }
+
+  private static long checkTemplateDataSize(
+    final VulkanLWJGLDescriptorUpdateTemplate template,
+    final long available)
+  {
+    final var required = template.dataSize();
+    if (available < required) {
+      throw new IllegalArgumentException(
+        "Update data size %d is smaller than the template data size %d."
+          .formatted(Long.valueOf(available), Long.valueOf(required))
+      );
+    }
+    return required;
+  }
+
   @Override
   public VulkanRenderPassType createRenderPass(
     final VulkanRenderPassCreateInfo render_pass_create_info)
@@ -793,34 +1445,38 @@ public final class VulkanLWJGLLogicalDevice
 
     this.checkNotClosed();
 
+    for (final var info : pipeline_infos) {
+      if (info.usesPipelineLibraries()) {
+        this.checkGraphicsPipelineLibrary();
+        break;
+      }
+    }
+
+    for (final var info : pipeline_infos) {
+      for (final var stage : info.stages()) {
+        if (stage.moduleIdentifier().isPresent()) {
+          this.checkShaderModuleIdentifier();
+        }
+      }
+    }
+
     try (var stack = VulkanLWJGLMemoryStack.stack()) {
       final var pipes = new long[pipeline_infos.size()];
       final var proxy = this.hostAllocatorProxy();
-      VulkanChecks.checkReturnCode(
+      final var result =
         VK10.vkCreateGraphicsPipelines(
           this.device,
           mapPipelineCacheOptional(pipeline_cache),
           VulkanLWJGLGraphicsPipelineCreateInfos.pack(stack, pipeline_infos),
           proxy.callbackBuffer(),
-          pipes),
-        "vkCreateGraphicsPipelines");
-
-      final var result_pipelines =
-        new ArrayList<VulkanLWJGLPipeline>(pipeline_infos.size());
+          pipes);
 
-      for (var index = 0; index < pipeline_infos.size(); ++index) {
-        final var pipe = pipes[index];
-        if (LOG.isTraceEnabled()) {
-          LOG.trace("Created pipeline: 0x{}", Long.toUnsignedString(pipe, 16));
-        }
-        result_pipelines.add(new VulkanLWJGLPipeline(
-          USER_OWNED,
-          this.device,
-          pipe,
-          proxy));
-      }
-
-      return castPipelines(result_pipelines);
+      return VulkanLWJGLPipelines.collect(
+        result,
+        "vkCreateGraphicsPipelines",
+        pipes,
+        pipe -> this.wrapPipeline(proxy, pipe)
+      );
     }
   }
 
@@ -949,6 +1605,16 @@ public final class VulkanLWJGLLogicalDevice
     }
   }
 
+  @Override
+  public VulkanCommandStreamType createCommandStream(
+    final long initial_capacity)
+    throws VulkanException
+  {
+    this.checkNotClosed();
+    return VulkanLWJGLCommandStreams.create(
+      this.commandStreamResolver, initial_capacity);
+  }
+
   @Override
   public List<VulkanCommandBufferType> createCommandBuffers(
     final VulkanCommandBufferCreateInfo create_info)
@@ -981,12 +1647,20 @@ public final class VulkanLWJGLLogicalDevice
       }
 
       final var proxy = this.hostAllocatorProxy();
+      final var features =
+        this.creation.features()
+          .orElseGet(VulkanPhysicalDeviceFeaturesFunctions::none);
+      final var limits =
+        this.physical_device.limits();
+
       final List<VulkanCommandBufferType> results = new ArrayList<>(count);
       for (var index = 0; index < count; ++index) {
         final var handle = new VkCommandBuffer(buffers.get(index), this.device);
         final var buffer = new VulkanLWJGLCommandBuffer(
           VULKAN_OWNED,
           handle,
+          features,
+          limits,
           proxy);
         results.add(buffer);
       }
@@ -1724,34 +2398,29 @@ public final class VulkanLWJGLLogicalDevice
     Objects.requireNonNull(pipeline_cache, "pipeline_cache");
     Objects.requireNonNull(pipeline_infos, "pipeline_infos");
 
+    for (final var info : pipeline_infos) {
+      if (info.stage().moduleIdentifier().isPresent()) {
+        this.checkShaderModuleIdentifier();
+      }
+    }
+
     try (var stack = VulkanLWJGLMemoryStack.stack()) {
       final var pipes = new long[pipeline_infos.size()];
       final var proxy = this.hostAllocatorProxy();
-      VulkanChecks.checkReturnCode(
+      final var result =
         VK10.vkCreateComputePipelines(
           this.device,
           mapPipelineCacheOptional(pipeline_cache),
           VulkanLWJGLComputePipelineCreateInfos.pack(stack, pipeline_infos),
           proxy.callbackBuffer(),
-          pipes),
-        "vkCreateComputePipelines");
-
-      final var result_pipelines =
-        new ArrayList<VulkanLWJGLPipeline>(pipeline_infos.size());
+          pipes);
 
-      for (var index = 0; index < pipeline_infos.size(); ++index) {
-        final var pipe = pipes[index];
-        if (LOG.isTraceEnabled()) {
-          LOG.trace("Created pipeline: 0x{}", Long.toUnsignedString(pipe, 16));
-        }
-        result_pipelines.add(new VulkanLWJGLPipeline(
-          USER_OWNED,
-          this.device,
-          pipe,
-          proxy));
-      }
-
-      return castPipelines(result_pipelines);
+      return VulkanLWJGLPipelines.collect(
+        result,
+        "vkCreateComputePipelines",
+        pipes,
+        pipe -> this.wrapPipeline(proxy, pipe)
+      );
     }
   }
 
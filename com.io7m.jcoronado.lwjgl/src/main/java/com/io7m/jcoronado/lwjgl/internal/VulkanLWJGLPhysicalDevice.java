@@ -61,6 +61,7 @@ import org.lwjgl.vulkan.VkLayerProperties;
 import org.lwjgl.vulkan.VkPhysicalDevice;
 import org.lwjgl.vulkan.VkPhysicalDeviceFeatures;
 import org.lwjgl.vulkan.VkPhysicalDeviceFeatures2;
+import org.lwjgl.vulkan.VkPhysicalDeviceMultiDrawFeaturesEXT;
 import org.lwjgl.vulkan.VkPhysicalDeviceSwapchainMaintenance1FeaturesEXT;
 import org.lwjgl.vulkan.VkPhysicalDeviceVulkan11Features;
 import org.lwjgl.vulkan.VkPhysicalDeviceVulkan12Features;
@@ -616,6 +617,21 @@ public final class VulkanLWJGLPhysicalDevice
       requestFeatures.features10());
 
     swapchainFeatures.pNext(0L);
+
+    /*
+     * Extension feature structures are only chained if one of their
+     * features is requested, because the corresponding extension must then
+     * be enabled.
+     */
+
+    if (requestFeatures.featuresMultiDrawEXT().multiDraw()) {
+      final var multiDrawFeatures =
+        VkPhysicalDeviceMultiDrawFeaturesEXT.calloc(stack)
+          .sType$Default()
+          .multiDraw(true);
+      swapchainFeatures.pNext(multiDrawFeatures.address());
+    }
+
     vkFeatures14.pNext(swapchainFeatures.address());
     vkFeatures13.pNext(vkFeatures14.address());
     vkFeatures12.pNext(vkFeatures13.address());
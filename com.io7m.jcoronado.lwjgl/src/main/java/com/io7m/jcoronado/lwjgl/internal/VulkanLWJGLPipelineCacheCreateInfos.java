@@ -72,11 +72,12 @@ public final class VulkanLWJGLPipelineCacheCreateInfos
     Objects.requireNonNull(source, "source");
     Objects.requireNonNull(target, "target");
 
+    final var initialData = source.initialData();
     return target.set(
       VK10.VK_STRUCTURE_TYPE_PIPELINE_CACHE_CREATE_INFO,
       0L,
       VulkanEnumMaps.packValues(source.flags()),
-      target.pInitialData());
+      initialData.hasRemaining() ? initialData : null);
   }
 
   /**
@@ -54,6 +54,28 @@ public final class VulkanLWJGLPipelineLayouts
     return buffer;
   }
 
+  /**
+   * Pack push constant ranges.
+   *
+   * @param stack  A stack
+   * @param ranges The ranges
+   *
+   * @return The packed ranges, or {@code null} if there are no ranges
+   */
+
+  public static VkPushConstantRange.Buffer packPushConstantRangesOrNull(
+    final MemoryStack stack,
+    final List<VulkanPushConstantRange> ranges)
+  {
+    Objects.requireNonNull(stack, "stack");
+    Objects.requireNonNull(ranges, "ranges");
+
+    if (ranges.isEmpty()) {
+      return null;
+    }
+    return packPushConstantRanges(stack, ranges);
+  }
+
   private static VkPushConstantRange packPushConstantRangeInto(
     final VulkanPushConstantRange source,
     final VkPushConstantRange target)
@@ -104,7 +126,18 @@ public final class VulkanLWJGLPipelineLayouts
       .flags(VulkanEnumMaps.packValues(info.flags()));
   }
 
-  private static LongBuffer packSetLayouts(
+  /**
+   * Pack descriptor set layout handles.
+   *
+   * @param stack   A stack
+   * @param layouts The layouts
+   *
+   * @return The packed handles, or {@code null} if there are no layouts
+   *
+   * @throws VulkanException On errors
+   */
+
+  public static LongBuffer packSetLayouts(
     final MemoryStack stack,
     final List<VulkanDescriptorSetLayoutType> layouts)
     throws VulkanException
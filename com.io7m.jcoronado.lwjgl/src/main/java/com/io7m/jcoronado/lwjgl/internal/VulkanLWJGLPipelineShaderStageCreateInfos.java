@@ -22,10 +22,13 @@ import com.io7m.jcoronado.api.VulkanPipelineShaderStageCreateInfo;
 import org.lwjgl.system.MemoryStack;
 import org.lwjgl.vulkan.VK10;
 import org.lwjgl.vulkan.VkPipelineShaderStageCreateInfo;
+import org.lwjgl.vulkan.VkPipelineShaderStageModuleIdentifierCreateInfoEXT;
 
 import java.util.List;
 import java.util.Objects;
 
+import static org.lwjgl.vulkan.EXTShaderModuleIdentifier.VK_STRUCTURE_TYPE_PIPELINE_SHADER_STAGE_MODULE_IDENTIFIER_CREATE_INFO_EXT;
+
 /**
  * Functions to pack pipeline shader stage create infos.
  */
@@ -57,29 +60,57 @@ public final class VulkanLWJGLPipelineShaderStageCreateInfos
     Objects.requireNonNull(stack, "stack");
     Objects.requireNonNull(info, "info");
 
-    final var module =
-      VulkanLWJGLClassChecks.checkInstanceOf(
-        info.module(),
-        VulkanLWJGLShaderModule.class);
-
     final var target =
       VkPipelineShaderStageCreateInfo.calloc(stack);
 
-    return packInto(stack, info, module, target);
+    return packInto(stack, info, target);
+  }
+
+  private static long moduleHandle(
+    final VulkanPipelineShaderStageCreateInfo source)
+    throws VulkanIncompatibleClassException
+  {
+    final var moduleOpt = source.module();
+    if (moduleOpt.isPresent()) {
+      return VulkanLWJGLClassChecks.checkInstanceOf(
+        moduleOpt.get(),
+        VulkanLWJGLShaderModule.class
+      ).handle();
+    }
+    return VK10.VK_NULL_HANDLE;
+  }
+
+  private static long packModuleIdentifier(
+    final MemoryStack stack,
+    final VulkanPipelineShaderStageCreateInfo source)
+  {
+    final var identifierOpt = source.moduleIdentifier();
+    if (identifierOpt.isEmpty()) {
+      return 0L;
+    }
+
+    final var identifier =
+      identifierOpt.get();
+
+    return VkPipelineShaderStageModuleIdentifierCreateInfoEXT.calloc(stack)
+      .sType(VK_STRUCTURE_TYPE_PIPELINE_SHADER_STAGE_MODULE_IDENTIFIER_CREATE_INFO_EXT)
+      .pNext(0L)
+      .pIdentifier(stack.bytes(identifier.data()))
+      .address();
   }
 
   private static VkPipelineShaderStageCreateInfo packInto(
     final MemoryStack stack,
     final VulkanPipelineShaderStageCreateInfo source,
-    final VulkanLWJGLShaderModule module,
     final VkPipelineShaderStageCreateInfo target)
+    throws VulkanIncompatibleClassException
   {
     return target
       .sType(VK10.VK_STRUCTURE_TYPE_PIPELINE_SHADER_STAGE_CREATE_INFO)
-      .pNext(0L)
+      .pNext(packModuleIdentifier(stack, source))
       .flags(VulkanEnumMaps.packValues(source.flags()))
       .stage(source.stage().value())
-      .module(module.handle())
+      .module(moduleHandle(source))
       .pName(stack.ASCII(source.shaderEntryPoint()))
       .pSpecializationInfo(VulkanLWJGLSpecializationInfos.packOptional(
         stack, source.specializationInfo()));
@@ -111,13 +142,9 @@ public final class VulkanLWJGLPipelineShaderStageCreateInfos
     for (var index = 0; index < stages.size(); ++index) {
       final var source =
         stages.get(index);
-      final var module =
-        VulkanLWJGLClassChecks.checkInstanceOf(
-          source.module(),
-          VulkanLWJGLShaderModule.class);
       final var target =
         VkPipelineShaderStageCreateInfo.create(buffer.address(index));
-      packInto(stack, source, module, target);
+      packInto(stack, source, target);
     }
 
     return buffer;
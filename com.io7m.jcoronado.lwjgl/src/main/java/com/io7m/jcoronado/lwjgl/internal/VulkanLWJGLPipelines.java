@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2018 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.lwjgl.internal;
+
+import com.io7m.jcoronado.api.VulkanChecks;
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanPipelineCompileRequiredException;
+import com.io7m.jcoronado.api.VulkanPipelineType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongFunction;
+
+import static org.lwjgl.vulkan.VK10.VK_NULL_HANDLE;
+import static org.lwjgl.vulkan.VK10.VK_SUCCESS;
+import static org.lwjgl.vulkan.VK13.VK_PIPELINE_COMPILE_REQUIRED;
+
+/**
+ * Functions to interpret the results of pipeline creation.
+ */
+
+public final class VulkanLWJGLPipelines
+{
+  private VulkanLWJGLPipelines()
+  {
+
+  }
+
+  /**
+   * <p>Interpret the result of a {@code vkCreate*Pipelines} call.</p>
+   *
+   * <p>If the call failed, the implementation may still have created some
+   * of the pipelines. If the result is {@code VK_PIPELINE_COMPILE_REQUIRED},
+   * the created pipelines are handed to the caller in a
+   * {@link VulkanPipelineCompileRequiredException}. On any other error, the
+   * created pipelines are closed before the error is raised.</p>
+   *
+   * @param result   The result code
+   * @param function The function that returned the result
+   * @param handles  The pipeline handles written by the call
+   * @param wrap     A function that takes ownership of a handle
+   *
+   * @return The created pipelines
+   *
+   * @throws VulkanException On errors
+   */
+
+  public static List<VulkanPipelineType> collect(
+    final int result,
+    final String function,
+    final long[] handles,
+    final LongFunction<VulkanPipelineType> wrap)
+    throws VulkanException
+  {
+    Objects.requireNonNull(function, "function");
+    Objects.requireNonNull(handles, "handles");
+    Objects.requireNonNull(wrap, "wrap");
+
+    if (result == VK_SUCCESS) {
+      final var pipelines =
+        new ArrayList<VulkanPipelineType>(handles.length);
+      for (final var handle : handles) {
+        pipelines.add(wrap.apply(handle));
+      }
+      return pipelines;
+    }
+
+    final var pipelines =
+      new ArrayList<Optional<VulkanPipelineType>>(handles.length);
+    for (final var handle : handles) {
+      if (handle == VK_NULL_HANDLE) {
+        pipelines.add(Optional.empty());
+      } else {
+        pipelines.add(Optional.of(wrap.apply(handle)));
+      }
+    }
+
+    if (result == VK_PIPELINE_COMPILE_REQUIRED) {
+      throw new VulkanPipelineCompileRequiredException(function, pipelines);
+    }
+
+    final var failure = VulkanChecks.failed(result, function);
+    for (final var pipeline : pipelines) {
+      if (pipeline.isPresent()) {
+        try {
+          pipeline.get().close();
+        } catch (final VulkanException e) {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+    throw failure;
+  }
+}
@@ -20,12 +20,19 @@ import com.io7m.jcoronado.api.VulkanException;
 import org.lwjgl.PointerBuffer;
 import org.lwjgl.system.MemoryStack;
 
+import java.lang.foreign.MemorySegment;
 import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
 import java.nio.LongBuffer;
 import java.util.List;
 import java.util.Objects;
 
+import static java.lang.foreign.ValueLayout.JAVA_INT_UNALIGNED;
+import static java.lang.foreign.ValueLayout.JAVA_LONG_UNALIGNED;
+import static org.lwjgl.system.MemoryUtil.memAddress;
+import static org.lwjgl.system.MemoryUtil.memPutInt;
+import static org.lwjgl.system.MemoryUtil.memPutLong;
+
 /**
  * Functions to pack integer arrays.
  */
@@ -351,6 +358,248 @@ public final class VulkanLWJGLScalarArrays
     return buffer;
   }
 
+  /**
+   * Pack an array of long values, returning the raw address of the packed
+   * array. No heap allocations are performed.
+   *
+   * @param stack  The stack
+   * @param values The input array
+   * @param getter A function from {@code T} to {@code long}
+   * @param <T>    The type of input values
+   *
+   * @return The address of the packed array
+   *
+   * @throws VulkanException If required
+   */
+
+  public static <T> long packLongsRaw(
+    final MemoryStack stack,
+    final T[] values,
+    final LongGetterType<T> getter)
+    throws VulkanException
+  {
+    Objects.requireNonNull(stack, "stack");
+    Objects.requireNonNull(values, "values");
+    Objects.requireNonNull(getter, "getter");
+
+    final var size = values.length;
+    final var address = stack.nmalloc(Long.BYTES, size * Long.BYTES);
+    for (var index = 0; index < size; ++index) {
+      memPutLong(
+        address + ((long) index * Long.BYTES),
+        getter.get(values[index])
+      );
+    }
+    return address;
+  }
+
+  /**
+   * Pack the first {@code count} elements of an array of long values,
+   * returning the raw address of the packed array. No heap allocations are
+   * performed.
+   *
+   * @param stack  The stack
+   * @param values The input array
+   * @param count  The number of values to pack
+   *
+   * @return The address of the packed array
+   */
+
+  public static long packLongsRaw(
+    final MemoryStack stack,
+    final long[] values,
+    final int count)
+  {
+    Objects.requireNonNull(stack, "stack");
+    Objects.requireNonNull(values, "values");
+    Objects.checkFromIndexSize(0, count, values.length);
+
+    final var address = stack.nmalloc(Long.BYTES, count * Long.BYTES);
+    for (var index = 0; index < count; ++index) {
+      memPutLong(address + ((long) index * Long.BYTES), values[index]);
+    }
+    return address;
+  }
+
+  /**
+   * Obtain the raw address of the first {@code count} remaining elements of
+   * a buffer of long values. Direct buffers are used in place, and heap
+   * buffers are copied onto the stack. The position of the buffer is not
+   * modified. No heap allocations are performed.
+   *
+   * @param stack  The stack
+   * @param values The input buffer
+   * @param count  The number of values required
+   *
+   * @return The address of the packed array
+   */
+
+  public static long packLongsRaw(
+    final MemoryStack stack,
+    final LongBuffer values,
+    final int count)
+  {
+    Objects.requireNonNull(stack, "stack");
+    Objects.requireNonNull(values, "values");
+    Objects.checkFromIndexSize(0, count, values.remaining());
+
+    if (values.isDirect()) {
+      return memAddress(values);
+    }
+
+    final var base = values.position();
+    final var address = stack.nmalloc(Long.BYTES, count * Long.BYTES);
+    for (var index = 0; index < count; ++index) {
+      memPutLong(
+        address + ((long) index * Long.BYTES),
+        values.get(base + index)
+      );
+    }
+    return address;
+  }
+
+  /**
+   * Obtain the raw address of the first {@code count} long values in a memory
+   * segment. Native segments are used in place, and heap segments are copied
+   * onto the stack. No heap allocations are performed.
+   *
+   * @param stack  The stack
+   * @param values The input segment
+   * @param count  The number of values required
+   *
+   * @return The address of the packed array
+   */
+
+  public static long packLongsRaw(
+    final MemoryStack stack,
+    final MemorySegment values,
+    final int count)
+  {
+    Objects.requireNonNull(stack, "stack");
+    Objects.requireNonNull(values, "values");
+    Objects.checkFromIndexSize(
+      0L, (long) count * Long.BYTES, values.byteSize());
+
+    if (values.isNative()) {
+      return values.address();
+    }
+
+    final var address = stack.nmalloc(Long.BYTES, count * Long.BYTES);
+    for (var index = 0; index < count; ++index) {
+      memPutLong(
+        address + ((long) index * Long.BYTES),
+        values.getAtIndex(JAVA_LONG_UNALIGNED, index)
+      );
+    }
+    return address;
+  }
+
+  /**
+   * Pack an array of int values, returning the raw address of the packed
+   * array. Returns {@code 0L} if the array is empty. No heap allocations are
+   * performed.
+   *
+   * @param stack  The stack
+   * @param values The input array
+   *
+   * @return The address of the packed array
+   */
+
+  public static long packIntsRawOrNull(
+    final MemoryStack stack,
+    final int[] values)
+  {
+    Objects.requireNonNull(stack, "stack");
+    Objects.requireNonNull(values, "values");
+
+    final var size = values.length;
+    if (size == 0) {
+      return 0L;
+    }
+
+    final var address = stack.nmalloc(Integer.BYTES, size * Integer.BYTES);
+    for (var index = 0; index < size; ++index) {
+      memPutInt(address + ((long) index * Integer.BYTES), values[index]);
+    }
+    return address;
+  }
+
+  /**
+   * Obtain the raw address of the remaining elements of a buffer of int
+   * values. Direct buffers are used in place, and heap buffers are copied
+   * onto the stack. The position of the buffer is not modified. Returns
+   * {@code 0L} if the buffer has no remaining elements. No heap allocations
+   * are performed.
+   *
+   * @param stack  The stack
+   * @param values The input buffer
+   *
+   * @return The address of the packed array
+   */
+
+  public static long packIntsRawOrNull(
+    final MemoryStack stack,
+    final IntBuffer values)
+  {
+    Objects.requireNonNull(stack, "stack");
+    Objects.requireNonNull(values, "values");
+
+    final var size = values.remaining();
+    if (size == 0) {
+      return 0L;
+    }
+    if (values.isDirect()) {
+      return memAddress(values);
+    }
+
+    final var base = values.position();
+    final var address = stack.nmalloc(Integer.BYTES, size * Integer.BYTES);
+    for (var index = 0; index < size; ++index) {
+      memPutInt(
+        address + ((long) index * Integer.BYTES),
+        values.get(base + index)
+      );
+    }
+    return address;
+  }
+
+  /**
+   * Obtain the raw address of the int values in a memory segment. Native
+   * segments are used in place, and heap segments are copied onto the stack.
+   * Returns {@code 0L} if the segment is empty. No heap allocations are
+   * performed.
+   *
+   * @param stack  The stack
+   * @param values The input segment
+   *
+   * @return The address of the packed array
+   */
+
+  public static long packIntsRawOrNull(
+    final MemoryStack stack,
+    final MemorySegment values)
+  {
+    Objects.requireNonNull(stack, "stack");
+    Objects.requireNonNull(values, "values");
+
+    final var size = Math.toIntExact(values.byteSize() / Integer.BYTES);
+    if (size == 0) {
+      return 0L;
+    }
+    if (values.isNative()) {
+      return values.address();
+    }
+
+    final var address = stack.nmalloc(Integer.BYTES, size * Integer.BYTES);
+    for (var index = 0; index < size; ++index) {
+      memPutInt(
+        address + ((long) index * Integer.BYTES),
+        values.getAtIndex(JAVA_INT_UNALIGNED, index)
+      );
+    }
+    return address;
+  }
+
   /**
    * A function from {@code T} to {@code long}
    *
@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.lwjgl.internal;
+
+import com.io7m.jcoronado.api.VulkanEnumMaps;
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanShaderCreateInfoEXT;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.vulkan.EXTShaderObject;
+import org.lwjgl.vulkan.VkShaderCreateInfoEXT;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Functions to pack shader object create infos.
+ */
+
+public final class VulkanLWJGLShaderCreateInfos
+{
+  private VulkanLWJGLShaderCreateInfos()
+  {
+
+  }
+
+  /**
+   * Pack a structure.
+   *
+   * @param stack  A stack
+   * @param source The input structure
+   * @param target The output structure
+   *
+   * @return A packed structure
+   *
+   * @throws VulkanException On errors
+   */
+
+  public static VkShaderCreateInfoEXT packInto(
+    final MemoryStack stack,
+    final VulkanShaderCreateInfoEXT source,
+    final VkShaderCreateInfoEXT target)
+    throws VulkanException
+  {
+    Objects.requireNonNull(stack, "stack");
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+
+    return target
+      .sType(EXTShaderObject.VK_STRUCTURE_TYPE_SHADER_CREATE_INFO_EXT)
+      .pNext(0L)
+      .flags(VulkanEnumMaps.packValues(source.flags()))
+      .stage(source.stage().value())
+      .nextStage(VulkanEnumMaps.packValues(source.nextStages()))
+      .codeType(source.codeType().value())
+      .pCode(source.code())
+      .pName(stack.UTF8(source.name()))
+      .pSetLayouts(
+        VulkanLWJGLPipelineLayouts.packSetLayouts(stack, source.setLayouts()))
+      .pPushConstantRanges(
+        VulkanLWJGLPipelineLayouts.packPushConstantRangesOrNull(
+          stack, source.pushConstantRanges()))
+      .pSpecializationInfo(
+        VulkanLWJGLSpecializationInfos.packOptional(
+          stack, source.specializationInfo()));
+  }
+
+  /**
+   * Pack structures.
+   *
+   * @param stack A stack
+   * @param infos A list of structures
+   *
+   * @return A list of packed structures
+   *
+   * @throws VulkanException On errors
+   */
+
+  public static VkShaderCreateInfoEXT.Buffer packList(
+    final MemoryStack stack,
+    final List<VulkanShaderCreateInfoEXT> infos)
+    throws VulkanException
+  {
+    Objects.requireNonNull(stack, "stack");
+    Objects.requireNonNull(infos, "infos");
+
+    return VulkanLWJGLArrays.pack(
+      infos,
+      VulkanLWJGLShaderCreateInfos::packInto,
+      VkShaderCreateInfoEXT::calloc,
+      stack
+    );
+  }
+}
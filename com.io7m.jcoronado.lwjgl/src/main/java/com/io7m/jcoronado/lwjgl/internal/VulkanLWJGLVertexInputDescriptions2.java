@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.lwjgl.internal;
+
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanVertexInputAttributeDescription;
+import com.io7m.jcoronado.api.VulkanVertexInputBindingDescription;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.vulkan.EXTVertexInputDynamicState;
+import org.lwjgl.vulkan.VkVertexInputAttributeDescription2EXT;
+import org.lwjgl.vulkan.VkVertexInputBindingDescription2EXT;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Functions to pack vertex input descriptions for dynamic vertex input
+ * state.
+ */
+
+public final class VulkanLWJGLVertexInputDescriptions2
+{
+  private VulkanLWJGLVertexInputDescriptions2()
+  {
+
+  }
+
+  /**
+   * Pack a structure. The binding divisor is always {@code 1}.
+   *
+   * @param source The input structure
+   * @param target The output structure
+   *
+   * @return A packed structure
+   */
+
+  public static VkVertexInputBindingDescription2EXT packBindingInto(
+    final VulkanVertexInputBindingDescription source,
+    final VkVertexInputBindingDescription2EXT target)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+
+    return target
+      .sType(EXTVertexInputDynamicState.VK_STRUCTURE_TYPE_VERTEX_INPUT_BINDING_DESCRIPTION_2_EXT)
+      .pNext(0L)
+      .binding(source.binding())
+      .stride(source.stride())
+      .inputRate(source.inputRate().value())
+      .divisor(1);
+  }
+
+  /**
+   * Pack a structure.
+   *
+   * @param source The input structure
+   * @param target The output structure
+   *
+   * @return A packed structure
+   */
+
+  public static VkVertexInputAttributeDescription2EXT packAttributeInto(
+    final VulkanVertexInputAttributeDescription source,
+    final VkVertexInputAttributeDescription2EXT target)
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+
+    return target
+      .sType(EXTVertexInputDynamicState.VK_STRUCTURE_TYPE_VERTEX_INPUT_ATTRIBUTE_DESCRIPTION_2_EXT)
+      .pNext(0L)
+      .location(source.location())
+      .binding(source.binding())
+      .format(source.format().value())
+      .offset(source.offset());
+  }
+
+  /**
+   * Pack structures.
+   *
+   * @param stack A stack
+   * @param infos A list of structure
+   *
+   * @return A list of packed structure, or {@code null} if the list is empty
+   *
+   * @throws VulkanException On errors
+   */
+
+  public static VkVertexInputBindingDescription2EXT.Buffer packBindingsOrNull(
+    final MemoryStack stack,
+    final List<VulkanVertexInputBindingDescription> infos)
+    throws VulkanException
+  {
+    Objects.requireNonNull(stack, "stack");
+    Objects.requireNonNull(infos, "infos");
+
+    return VulkanLWJGLArrays.packOrNull(
+      infos,
+      (stack1, source, target) -> packBindingInto(source, target),
+      VkVertexInputBindingDescription2EXT::calloc,
+      stack
+    );
+  }
+
+  /**
+   * Pack structures.
+   *
+   * @param stack A stack
+   * @param infos A list of structure
+   *
+   * @return A list of packed structure, or {@code null} if the list is empty
+   *
+   * @throws VulkanException On errors
+   */
+
+  public static VkVertexInputAttributeDescription2EXT.Buffer packAttributesOrNull(
+    final MemoryStack stack,
+    final List<VulkanVertexInputAttributeDescription> infos)
+    throws VulkanException
+  {
+    Objects.requireNonNull(stack, "stack");
+    Objects.requireNonNull(infos, "infos");
+
+    return VulkanLWJGLArrays.packOrNull(
+      infos,
+      (stack1, source, target) -> packAttributeInto(source, target),
+      VkVertexInputAttributeDescription2EXT::calloc,
+      stack
+    );
+  }
+}
@@ -87,8 +87,42 @@ public final class VulkanLWJGLWriteDescriptorSets
     Objects.requireNonNull(source, "source");
     Objects.requireNonNull(target, "target");
 
+    final var dst_set_opt = source.destinationSet();
+    if (dst_set_opt.isEmpty()) {
+      throw new IllegalArgumentException(
+        "A destination set is required when updating descriptor sets."
+      );
+    }
+
     final var dst_set =
-      checkInstanceOf(source.destinationSet(), VulkanLWJGLDescriptorSet.class);
+      checkInstanceOf(dst_set_opt.get(), VulkanLWJGLDescriptorSet.class);
+
+    packIntoWithoutSet(stack, source, target);
+    return target.dstSet(dst_set.handle());
+  }
+
+  /**
+   * Pack a structure for use with push descriptors. The destination set,
+   * if any, is ignored.
+   *
+   * @param stack  A stack
+   * @param source A structure
+   * @param target The output structure
+   *
+   * @return A packed structure
+   *
+   * @throws VulkanException On errors
+   */
+
+  public static VkWriteDescriptorSet packIntoWithoutSet(
+    final MemoryStack stack,
+    final VulkanWriteDescriptorSet source,
+    final VkWriteDescriptorSet target)
+    throws VulkanException
+  {
+    Objects.requireNonNull(stack, "stack");
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
 
     final var bufferInfos =
       source.bufferInfos();
@@ -117,7 +151,7 @@ public final class VulkanLWJGLWriteDescriptorSets
       .descriptorCount(source.descriptorCount())
       .dstArrayElement(source.destinationArrayElement())
       .dstBinding(source.destinationBinding())
-      .dstSet(dst_set.handle());
+      .dstSet(0L);
 
     return target;
   }
@@ -149,6 +183,33 @@ public final class VulkanLWJGLWriteDescriptorSets
     );
   }
 
+  /**
+   * Pack a list of structures for use with push descriptors.
+   *
+   * @param stack A stack
+   * @param infos A list of structure
+   *
+   * @return A packed array
+   *
+   * @throws VulkanException On errors
+   */
+
+  public static VkWriteDescriptorSet.Buffer packListWithoutSets(
+    final MemoryStack stack,
+    final List<VulkanWriteDescriptorSet> infos)
+    throws VulkanException
+  {
+    Objects.requireNonNull(stack, "stack");
+    Objects.requireNonNull(infos, "infos");
+
+    return VulkanLWJGLArrays.pack(
+      infos,
+      VulkanLWJGLWriteDescriptorSets::packIntoWithoutSet,
+      VkWriteDescriptorSet::calloc,
+      stack
+    );
+  }
+
   private static long viewHandle(final VulkanBufferViewType value)
     throws VulkanIncompatibleClassException
   {
@@ -0,0 +1,400 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.tests.api;
+
+import com.io7m.jcoronado.api.VulkanBufferType;
+import com.io7m.jcoronado.api.VulkanCommandStreamHandleResolverType;
+import com.io7m.jcoronado.api.VulkanCommandStreamReceiverType;
+import com.io7m.jcoronado.api.VulkanDescriptorSetType;
+import com.io7m.jcoronado.api.VulkanHandleNonDispatchableType;
+import com.io7m.jcoronado.api.VulkanIncompatibleClassException;
+import com.io7m.jcoronado.api.VulkanPipelineLayoutType;
+import com.io7m.jcoronado.api.VulkanViewport;
+import com.io7m.jcoronado.api.internal.VulkanCommandStreamBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.lang.foreign.MemorySegment;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.io7m.jcoronado.api.VulkanPipelineBindPoint.VK_PIPELINE_BIND_POINT_COMPUTE;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class VulkanCommandStreamBufferTest
+{
+  private Map<VulkanHandleNonDispatchableType, Long> handles;
+  private VulkanCommandStreamHandleResolverType resolver;
+  private Decoder decoder;
+
+  private static MemorySegment at(
+    final long address,
+    final long size)
+  {
+    return MemorySegment.ofAddress(address).reinterpret(size);
+  }
+
+  private <T extends VulkanHandleNonDispatchableType> T handle(
+    final Class<T> clazz,
+    final long value)
+  {
+    final var handle = Mockito.mock(clazz);
+    this.handles.put(handle, Long.valueOf(value));
+    return handle;
+  }
+
+  @BeforeEach
+  public void setup()
+  {
+    this.handles = new IdentityHashMap<>();
+    this.resolver = handle -> this.handles.get(handle).longValue();
+    this.decoder =
+      Mockito.mock(
+        Decoder.class,
+        Mockito.withSettings()
+          .useConstructor()
+          .defaultAnswer(Mockito.CALLS_REAL_METHODS)
+      );
+  }
+
+  /**
+   * Descriptor sets and dynamic offsets survive a round trip through a
+   * stream.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testDescriptorSetsRoundTrip()
+    throws Exception
+  {
+    final var layout =
+      this.handle(VulkanPipelineLayoutType.class, 0x1000L);
+    final var set0 =
+      this.handle(VulkanDescriptorSetType.class, 0x2000L);
+    final var set1 =
+      this.handle(VulkanDescriptorSetType.class, 0x2001L);
+
+    try (var stream = new VulkanCommandStreamBuffer(this.resolver, 0L)) {
+      stream.bindDescriptorSets(
+        VK_PIPELINE_BIND_POINT_COMPUTE,
+        layout,
+        2,
+        new VulkanDescriptorSetType[]{set0, set1},
+        new int[]{256, 512, 768}
+      );
+      stream.bindDescriptorSet(VK_PIPELINE_BIND_POINT_COMPUTE, layout, 1, set1);
+      stream.replay(this.decoder);
+    }
+
+    assertEquals(
+      List.of(
+        List.of(
+          "bindDescriptorSets",
+          Integer.valueOf(VK_PIPELINE_BIND_POINT_COMPUTE.value()),
+          Long.valueOf(0x1000L),
+          Integer.valueOf(2),
+          List.of(Long.valueOf(0x2000L), Long.valueOf(0x2001L)),
+          List.of(Integer.valueOf(256), Integer.valueOf(512), Integer.valueOf(768))
+        ),
+        List.of(
+          "bindDescriptorSets",
+          Integer.valueOf(VK_PIPELINE_BIND_POINT_COMPUTE.value()),
+          Long.valueOf(0x1000L),
+          Integer.valueOf(1),
+          List.of(Long.valueOf(0x2001L)),
+          List.of()
+        )
+      ),
+      this.decoder.decoded
+    );
+  }
+
+  /**
+   * Vertex buffers and their offsets survive a round trip through a stream.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testVertexBuffersRoundTrip()
+    throws Exception
+  {
+    final var buffer0 =
+      this.handle(VulkanBufferType.class, 0x3000L);
+    final var buffer1 =
+      this.handle(VulkanBufferType.class, 0x3001L);
+
+    try (var stream = new VulkanCommandStreamBuffer(this.resolver, 0L)) {
+      stream.bindVertexBuffers(
+        3,
+        new VulkanBufferType[]{buffer0, buffer1},
+        new long[]{16L, 0x1_0000_0000L, 99L}
+      );
+      stream.bindVertexBuffer(0, buffer1, 64L);
+      stream.replay(this.decoder);
+    }
+
+    assertEquals(
+      List.of(
+        List.of(
+          "bindVertexBuffers",
+          Integer.valueOf(3),
+          List.of(Long.valueOf(0x3000L), Long.valueOf(0x3001L)),
+          List.of(Long.valueOf(16L), Long.valueOf(0x1_0000_0000L))
+        ),
+        List.of(
+          "bindVertexBuffers",
+          Integer.valueOf(0),
+          List.of(Long.valueOf(0x3001L)),
+          List.of(Long.valueOf(64L))
+        )
+      ),
+      this.decoder.decoded
+    );
+  }
+
+  /**
+   * Viewports survive a round trip through a stream, including when the
+   * stream grows many times during recording.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testViewportsRoundTripGrowth()
+    throws Exception
+  {
+    final var count = 1000;
+
+    try (var stream = new VulkanCommandStreamBuffer(this.resolver, 0L)) {
+      for (int index = 0; index < count; ++index) {
+        stream.setViewport(
+          index % 4,
+          List.of(
+            VulkanViewport.builder()
+              .setX(index)
+              .setY(1.0f)
+              .setWidth(640.0f)
+              .setHeight(480.0f)
+              .setMinDepth(0.0f)
+              .setMaxDepth(1.0f)
+              .build(),
+            VulkanViewport.builder()
+              .setX(-index)
+              .setY(2.0f)
+              .setWidth(320.0f)
+              .setHeight(240.0f)
+              .setMinDepth(0.5f)
+              .setMaxDepth(0.75f)
+              .build()
+          )
+        );
+      }
+      assertEquals(count, stream.commandCount());
+      stream.replay(this.decoder);
+    }
+
+    assertEquals(count, this.decoder.decoded.size());
+    for (int index = 0; index < count; ++index) {
+      assertEquals(
+        List.of(
+          "setViewport",
+          Integer.valueOf(index % 4),
+          List.of(
+            List.of(
+              Float.valueOf(index),
+              Float.valueOf(1.0f),
+              Float.valueOf(640.0f),
+              Float.valueOf(480.0f),
+              Float.valueOf(0.0f),
+              Float.valueOf(1.0f)
+            ),
+            List.of(
+              Float.valueOf(-index),
+              Float.valueOf(2.0f),
+              Float.valueOf(320.0f),
+              Float.valueOf(240.0f),
+              Float.valueOf(0.5f),
+              Float.valueOf(0.75f)
+            )
+          )
+        ),
+        this.decoder.decoded.get(index)
+      );
+    }
+  }
+
+  /**
+   * Appending preserves payloads, and streams with different resolvers
+   * cannot be appended to each other.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testAppendRoundTrip()
+    throws Exception
+  {
+    final var buffer =
+      this.handle(VulkanBufferType.class, 0x4000L);
+
+    try (var streamA = new VulkanCommandStreamBuffer(this.resolver, 0L);
+         var streamB = new VulkanCommandStreamBuffer(this.resolver, 0L);
+         var streamC = new VulkanCommandStreamBuffer(h -> 0L, 0L)) {
+
+      streamA.bindVertexBuffer(1, buffer, 8L);
+      streamB.bindVertexBuffer(2, buffer, 24L);
+      streamA.append(streamB);
+
+      assertThrows(VulkanIncompatibleClassException.class, () -> {
+        streamA.append(streamC);
+      });
+
+      streamA.replay(this.decoder);
+    }
+
+    assertEquals(
+      List.of(
+        List.of(
+          "bindVertexBuffers",
+          Integer.valueOf(1),
+          List.of(Long.valueOf(0x4000L)),
+          List.of(Long.valueOf(8L))
+        ),
+        List.of(
+          "bindVertexBuffers",
+          Integer.valueOf(2),
+          List.of(Long.valueOf(0x4000L)),
+          List.of(Long.valueOf(24L))
+        )
+      ),
+      this.decoder.decoded
+    );
+  }
+
+  /**
+   * A receiver that decodes the payloads it is given. Commands not
+   * implemented here are not used by these tests, and are stubbed by
+   * Mockito.
+   */
+
+  abstract static class Decoder
+    implements VulkanCommandStreamReceiverType
+  {
+    final List<List<Object>> decoded = new ArrayList<>();
+
+    @Override
+    public void bindVertexBuffers(
+      final int first_binding,
+      final int count,
+      final long buffers_address,
+      final long offsets_address)
+    {
+      final var buffers = at(buffers_address, 8L * count);
+      final var offsets = at(offsets_address, 8L * count);
+      final var bufferValues = new ArrayList<Long>();
+      final var offsetValues = new ArrayList<Long>();
+      for (int index = 0; index < count; ++index) {
+        bufferValues.add(
+          Long.valueOf(buffers.getAtIndex(JAVA_LONG, index)));
+        offsetValues.add(
+          Long.valueOf(offsets.getAtIndex(JAVA_LONG, index)));
+      }
+
+      this.decoded.add(List.of(
+        "bindVertexBuffers",
+        Integer.valueOf(first_binding),
+        bufferValues,
+        offsetValues
+      ));
+    }
+
+    @Override
+    public void bindDescriptorSets(
+      final int bind_point,
+      final long layout,
+      final int first_set,
+      final int set_count,
+      final long sets_address,
+      final int dynamic_offset_count,
+      final long dynamic_offsets_address)
+    {
+      final var sets =
+        at(sets_address, 8L * set_count);
+      final var setValues = new ArrayList<Long>();
+      for (int index = 0; index < set_count; ++index) {
+        setValues.add(Long.valueOf(sets.getAtIndex(JAVA_LONG, index)));
+      }
+
+      final var offsetValues = new ArrayList<Integer>();
+      if (dynamic_offset_count > 0) {
+        final var offsets =
+          at(dynamic_offsets_address, 4L * dynamic_offset_count);
+        final int[] values = offsets.toArray(JAVA_INT);
+        for (final var value : values) {
+          offsetValues.add(Integer.valueOf(value));
+        }
+      } else {
+        assertEquals(0L, dynamic_offsets_address);
+      }
+
+      this.decoded.add(List.of(
+        "bindDescriptorSets",
+        Integer.valueOf(bind_point),
+        Long.valueOf(layout),
+        Integer.valueOf(first_set),
+        setValues,
+        offsetValues
+      ));
+    }
+
+    @Override
+    public void setViewport(
+      final int first_viewport,
+      final int count,
+      final long viewports_address)
+    {
+      final var viewports = at(viewports_address, 24L * count);
+      final var values = new ArrayList<List<Float>>();
+      for (int index = 0; index < count; ++index) {
+        final float[] fields =
+          viewports.asSlice(24L * index, 24L).toArray(JAVA_FLOAT);
+        assertEquals(6, fields.length);
+
+        final var viewport = new ArrayList<Float>();
+        for (final var field : fields) {
+          viewport.add(Float.valueOf(field));
+        }
+        values.add(viewport);
+      }
+
+      this.decoded.add(List.of(
+        "setViewport",
+        Integer.valueOf(first_viewport),
+        values
+      ));
+    }
+  }
+}
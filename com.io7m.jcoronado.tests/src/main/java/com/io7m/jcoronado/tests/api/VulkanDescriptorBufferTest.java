@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.tests.api;
+
+import com.io7m.jcoronado.api.VulkanDescriptorAddressInfoEXT;
+import com.io7m.jcoronado.api.VulkanDescriptorGetInfoEXT;
+import com.io7m.jcoronado.api.VulkanDeviceAddress;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceDescriptorBufferPropertiesEXTType;
+import com.io7m.jcoronado.api.VulkanSamplerType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_SAMPLER;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_STORAGE_BUFFER;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER_DYNAMIC;
+
+public final class VulkanDescriptorBufferTest
+{
+  private static VulkanDescriptorAddressInfoEXT address()
+  {
+    return VulkanDescriptorAddressInfoEXT.builder()
+      .setAddress(new VulkanDeviceAddress(0x10000L))
+      .setRange(256L)
+      .build();
+  }
+
+  /**
+   * Buffer descriptors accept address information.
+   */
+
+  @Test
+  public void testGetInfoBuffer()
+  {
+    final var info =
+      VulkanDescriptorGetInfoEXT.builder()
+        .setDescriptorType(VK_DESCRIPTOR_TYPE_STORAGE_BUFFER)
+        .setAddressInfo(address())
+        .build();
+
+    Assertions.assertEquals(address(), info.addressInfo().orElseThrow());
+  }
+
+  /**
+   * Sampler descriptors do not accept address information.
+   */
+
+  @Test
+  public void testGetInfoSamplerWithAddress()
+  {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      VulkanDescriptorGetInfoEXT.builder()
+        .setDescriptorType(VK_DESCRIPTOR_TYPE_SAMPLER)
+        .setSampler(Mockito.mock(VulkanSamplerType.class))
+        .setAddressInfo(address())
+        .build();
+    });
+  }
+
+  /**
+   * Dynamic buffer descriptors cannot be written to descriptor buffers.
+   */
+
+  @Test
+  public void testGetInfoDynamic()
+  {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      VulkanDescriptorGetInfoEXT.builder()
+        .setDescriptorType(VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER_DYNAMIC)
+        .setAddressInfo(address())
+        .build();
+    });
+  }
+
+  /**
+   * Descriptor sizes are selected by type and robustness.
+   */
+
+  @Test
+  public void testDescriptorSize()
+  {
+    final var properties =
+      Mockito.mock(
+        VulkanPhysicalDeviceDescriptorBufferPropertiesEXTType.class,
+        Mockito.CALLS_REAL_METHODS
+      );
+    Mockito.doReturn(16L).when(properties).uniformBufferDescriptorSize();
+    Mockito.doReturn(32L).when(properties).robustUniformBufferDescriptorSize();
+    Mockito.doReturn(8L).when(properties).samplerDescriptorSize();
+
+    Assertions.assertEquals(
+      16L, properties.descriptorSize(VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER, false));
+    Assertions.assertEquals(
+      32L, properties.descriptorSize(VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER, true));
+    Assertions.assertEquals(
+      8L, properties.descriptorSize(VK_DESCRIPTOR_TYPE_SAMPLER, true));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      properties.descriptorSize(VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER_DYNAMIC, false);
+    });
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.tests.api;
+
+import com.io7m.jcoronado.api.VulkanDescriptorSetLayoutType;
+import com.io7m.jcoronado.api.VulkanDescriptorUpdateTemplateCreateInfo;
+import com.io7m.jcoronado.api.VulkanDescriptorUpdateTemplateEntry;
+import com.io7m.jcoronado.api.VulkanDescriptorUpdateTemplateType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_COMBINED_IMAGE_SAMPLER;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_UNIFORM_TEXEL_BUFFER;
+
+public final class VulkanDescriptorUpdateTemplateTest
+{
+  private static VulkanDescriptorUpdateTemplateType template(
+    final List<VulkanDescriptorUpdateTemplateEntry> entries)
+  {
+    final var template =
+      Mockito.mock(
+        VulkanDescriptorUpdateTemplateType.class,
+        Mockito.CALLS_REAL_METHODS
+      );
+    Mockito.doReturn(entries).when(template).entries();
+    return template;
+  }
+
+  private static List<VulkanDescriptorUpdateTemplateEntry> entries()
+  {
+    return List.of(
+      VulkanDescriptorUpdateTemplateEntry.builder()
+        .setDestinationBinding(0)
+        .setDescriptorType(VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER)
+        .setDescriptorCount(4)
+        .setOffset(0L)
+        .setStride(24L)
+        .build(),
+      VulkanDescriptorUpdateTemplateEntry.builder()
+        .setDestinationBinding(1)
+        .setDescriptorType(VK_DESCRIPTOR_TYPE_COMBINED_IMAGE_SAMPLER)
+        .setOffset(96L)
+        .setStride(24L)
+        .build(),
+      VulkanDescriptorUpdateTemplateEntry.builder()
+        .setDestinationBinding(2)
+        .setDescriptorType(VK_DESCRIPTOR_TYPE_UNIFORM_TEXEL_BUFFER)
+        .setDescriptorCount(2)
+        .setOffset(120L)
+        .setStride(8L)
+        .build()
+    );
+  }
+
+  /**
+   * The data size covers the last descriptor of every entry.
+   */
+
+  @Test
+  public void testDataSize()
+  {
+    final var t = template(entries());
+    Assertions.assertEquals(136L, t.dataSize());
+  }
+
+  /**
+   * Element offsets are computed from the entry offset and stride.
+   */
+
+  @Test
+  public void testOffsetOf()
+  {
+    final var t = template(entries());
+    Assertions.assertEquals(0L, t.offsetOf(0, 0));
+    Assertions.assertEquals(72L, t.offsetOf(0, 3));
+    Assertions.assertEquals(96L, t.offsetOf(1, 0));
+    Assertions.assertEquals(128L, t.offsetOf(2, 1));
+  }
+
+  /**
+   * Offsets outside of the template are rejected.
+   */
+
+  @Test
+  public void testOffsetOfOutOfRange()
+  {
+    final var t = template(entries());
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class, () -> t.offsetOf(0, 4));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class, () -> t.offsetOf(3, 0));
+  }
+
+  /**
+   * Templates must have at least one entry.
+   */
+
+  @Test
+  public void testCreateInfoEmpty()
+  {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      VulkanDescriptorUpdateTemplateCreateInfo.builder()
+        .setDescriptorSetLayout(
+          Mockito.mock(VulkanDescriptorSetLayoutType.class))
+        .build();
+    });
+  }
+
+  /**
+   * Entries must have non-negative offsets.
+   */
+
+  @Test
+  public void testEntryNegativeOffset()
+  {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      VulkanDescriptorUpdateTemplateEntry.builder()
+        .setDestinationBinding(0)
+        .setDescriptorType(VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER)
+        .setOffset(-1L)
+        .setStride(24L)
+        .build();
+    });
+  }
+}
@@ -156,9 +156,17 @@ public final class VulkanDeviceFeaturesTest
       VulkanPhysicalDeviceFeaturesFunctions.mapOf13(f.features13());
     final var f14 =
       VulkanPhysicalDeviceFeaturesFunctions.mapOf14(f.features14());
+    final var fMultiDraw =
+      VulkanPhysicalDeviceFeaturesFunctions.mapOfMultiDrawEXT(
+        f.featuresMultiDrawEXT());
 
     assertEquals(
-      f10.size() + f11.size() + f12.size() + f13.size() + f14.size(),
+      f10.size()
+      + f11.size()
+      + f12.size()
+      + f13.size()
+      + f14.size()
+      + fMultiDraw.size(),
       m.size()
     );
 
@@ -246,6 +254,11 @@ public final class VulkanDeviceFeaturesTest
     compareBooleanMethods(a.features11(), b.features11(), r.features11());
     compareBooleanMethods(a.features12(), b.features12(), r.features12());
     compareBooleanMethods(a.features13(), b.features13(), r.features13());
+    compareBooleanMethods(
+      a.featuresMultiDrawEXT(),
+      b.featuresMultiDrawEXT(),
+      r.featuresMultiDrawEXT()
+    );
   }
 
   private static <T> void compareBooleanMethods(
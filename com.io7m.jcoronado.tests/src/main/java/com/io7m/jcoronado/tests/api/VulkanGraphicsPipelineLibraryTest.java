@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.tests.api;
+
+import com.io7m.jcoronado.api.VulkanGraphicsPipelineCreateInfo;
+import com.io7m.jcoronado.api.VulkanPipelineLayoutType;
+import com.io7m.jcoronado.api.VulkanPipelineType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static com.io7m.jcoronado.api.VulkanGraphicsPipelineLibraryFlagEXT.VK_GRAPHICS_PIPELINE_LIBRARY_FRAGMENT_OUTPUT_INTERFACE_BIT_EXT;
+import static com.io7m.jcoronado.api.VulkanGraphicsPipelineLibraryFlagEXT.VK_GRAPHICS_PIPELINE_LIBRARY_VERTEX_INPUT_INTERFACE_BIT_EXT;
+import static com.io7m.jcoronado.api.VulkanPipelineCreateFlag.VK_PIPELINE_CREATE_LIBRARY_BIT_KHR;
+import static com.io7m.jcoronado.api.VulkanPipelineCreateFlag.VK_PIPELINE_CREATE_LINK_TIME_OPTIMIZATION_BIT_EXT;
+import static com.io7m.jcoronado.api.VulkanPipelineCreateFlag.VK_PIPELINE_CREATE_RETAIN_LINK_TIME_OPTIMIZATION_INFO_BIT_EXT;
+
+public final class VulkanGraphicsPipelineLibraryTest
+{
+  @Test
+  public void testCompletePipeline()
+  {
+    final var info =
+      VulkanGraphicsPipelineCreateInfo.builder()
+        .setLayout(Mockito.mock(VulkanPipelineLayoutType.class))
+        .build();
+
+    Assertions.assertFalse(info.usesPipelineLibraries());
+  }
+
+  @Test
+  public void testLibraryPart()
+  {
+    final var info =
+      VulkanGraphicsPipelineCreateInfo.builder()
+        .setLayout(Mockito.mock(VulkanPipelineLayoutType.class))
+        .addFlags(VK_PIPELINE_CREATE_LIBRARY_BIT_KHR)
+        .addFlags(VK_PIPELINE_CREATE_RETAIN_LINK_TIME_OPTIMIZATION_INFO_BIT_EXT)
+        .addLibraryFlags(VK_GRAPHICS_PIPELINE_LIBRARY_VERTEX_INPUT_INTERFACE_BIT_EXT)
+        .addLibraryFlags(VK_GRAPHICS_PIPELINE_LIBRARY_FRAGMENT_OUTPUT_INTERFACE_BIT_EXT)
+        .build();
+
+    Assertions.assertTrue(info.usesPipelineLibraries());
+  }
+
+  @Test
+  public void testLinkOptimized()
+  {
+    final var info =
+      VulkanGraphicsPipelineCreateInfo.builder()
+        .setLayout(Mockito.mock(VulkanPipelineLayoutType.class))
+        .addFlags(VK_PIPELINE_CREATE_LINK_TIME_OPTIMIZATION_BIT_EXT)
+        .addLibraries(Mockito.mock(VulkanPipelineType.class))
+        .addLibraries(Mockito.mock(VulkanPipelineType.class))
+        .build();
+
+    Assertions.assertTrue(info.usesPipelineLibraries());
+    Assertions.assertEquals(2, info.libraries().size());
+  }
+
+  @Test
+  public void testLinkOptimizedWithoutLibraries()
+  {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      VulkanGraphicsPipelineCreateInfo.builder()
+        .setLayout(Mockito.mock(VulkanPipelineLayoutType.class))
+        .addFlags(VK_PIPELINE_CREATE_LINK_TIME_OPTIMIZATION_BIT_EXT)
+        .build();
+    });
+  }
+
+  @Test
+  public void testRetainWithoutLibrary()
+  {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      VulkanGraphicsPipelineCreateInfo.builder()
+        .setLayout(Mockito.mock(VulkanPipelineLayoutType.class))
+        .addFlags(VK_PIPELINE_CREATE_RETAIN_LINK_TIME_OPTIMIZATION_INFO_BIT_EXT)
+        .build();
+    });
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.tests.api;
+
+import com.io7m.jcoronado.api.VulkanShaderCreateInfoEXT;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static com.io7m.jcoronado.api.VulkanShaderCodeTypeEXT.VK_SHADER_CODE_TYPE_SPIRV_EXT;
+import static com.io7m.jcoronado.api.VulkanShaderCreateFlagEXT.VK_SHADER_CREATE_LINK_STAGE_BIT_EXT;
+import static com.io7m.jcoronado.api.VulkanShaderStageFlag.VK_SHADER_STAGE_ALL_GRAPHICS;
+import static com.io7m.jcoronado.api.VulkanShaderStageFlag.VK_SHADER_STAGE_FRAGMENT_BIT;
+import static com.io7m.jcoronado.api.VulkanShaderStageFlag.VK_SHADER_STAGE_VERTEX_BIT;
+
+public final class VulkanShaderCreateInfoEXTTest
+{
+  @Test
+  public void testDefaults()
+  {
+    final var info =
+      VulkanShaderCreateInfoEXT.builder()
+        .setStage(VK_SHADER_STAGE_VERTEX_BIT)
+        .addNextStages(VK_SHADER_STAGE_FRAGMENT_BIT)
+        .addFlags(VK_SHADER_CREATE_LINK_STAGE_BIT_EXT)
+        .setCode(ByteBuffer.allocateDirect(256))
+        .build();
+
+    Assertions.assertEquals("main", info.name());
+    Assertions.assertEquals(VK_SHADER_CODE_TYPE_SPIRV_EXT, info.codeType());
+  }
+
+  @Test
+  public void testNotDirect()
+  {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      VulkanShaderCreateInfoEXT.builder()
+        .setStage(VK_SHADER_STAGE_VERTEX_BIT)
+        .setCode(ByteBuffer.allocate(256))
+        .build();
+    });
+  }
+
+  @Test
+  public void testNotSingleStage()
+  {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      VulkanShaderCreateInfoEXT.builder()
+        .setStage(VK_SHADER_STAGE_ALL_GRAPHICS)
+        .setCode(ByteBuffer.allocateDirect(256))
+        .build();
+    });
+  }
+}
@@ -0,0 +1,443 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.tests.bindless;
+
+import com.io7m.jcoronado.api.VulkanBufferType;
+import com.io7m.jcoronado.api.VulkanDescriptorPoolType;
+import com.io7m.jcoronado.api.VulkanDescriptorSetLayoutCreateInfo;
+import com.io7m.jcoronado.api.VulkanDescriptorSetLayoutType;
+import com.io7m.jcoronado.api.VulkanDescriptorSetType;
+import com.io7m.jcoronado.api.VulkanImageViewType;
+import com.io7m.jcoronado.api.VulkanLogicalDeviceType;
+import com.io7m.jcoronado.api.VulkanMissingRequiredFeaturesException;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceDescriptorIndexingProperties;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceFeatures;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceFeatures12;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceType;
+import com.io7m.jcoronado.api.VulkanResourceException;
+import com.io7m.jcoronado.api.VulkanSamplerType;
+import com.io7m.jcoronado.api.VulkanSemaphoreTimelineType;
+import com.io7m.jcoronado.api.VulkanWriteDescriptorSet;
+import com.io7m.jcoronado.utility.bindless.JCBindlessConfiguration;
+import com.io7m.jcoronado.utility.bindless.JCBindlessFreeList;
+import com.io7m.jcoronado.utility.bindless.JCBindlessTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.io7m.jcoronado.api.VulkanDescriptorBindingFlag.VK_DESCRIPTOR_BINDING_VARIABLE_DESCRIPTOR_COUNT;
+import static com.io7m.jcoronado.api.VulkanImageLayout.VK_IMAGE_LAYOUT_SHADER_READ_ONLY_OPTIMAL;
+import static com.io7m.jcoronado.utility.bindless.JCBindlessKind.SAMPLED_IMAGE;
+import static com.io7m.jcoronado.utility.bindless.JCBindlessKind.SAMPLER;
+import static com.io7m.jcoronado.utility.bindless.JCBindlessKind.STORAGE_BUFFER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public final class JCBindlessTableTest
+{
+  private @Mock VulkanLogicalDeviceType device;
+  private @Mock VulkanPhysicalDeviceType physicalDevice;
+  private @Mock VulkanDescriptorSetLayoutType layout;
+  private @Mock VulkanDescriptorPoolType pool;
+  private @Mock VulkanDescriptorSetType set;
+
+  private static VulkanPhysicalDeviceFeatures bindlessFeatures()
+  {
+    return VulkanPhysicalDeviceFeatures.builder()
+      .setFeatures12(
+        VulkanPhysicalDeviceFeatures12.builder()
+          .setDescriptorBindingPartiallyBound(true)
+          .setDescriptorBindingUpdateUnusedWhilePending(true)
+          .setDescriptorBindingVariableDescriptorCount(true)
+          .setDescriptorBindingSampledImageUpdateAfterBind(true)
+          .setDescriptorBindingStorageBufferUpdateAfterBind(true)
+          .setRuntimeDescriptorArray(true)
+          .build())
+      .build();
+  }
+
+  private static VulkanPhysicalDeviceDescriptorIndexingProperties.Builder indexingProperties()
+  {
+    return VulkanPhysicalDeviceDescriptorIndexingProperties.builder()
+      .setShaderUniformBufferArrayNonUniformIndexingNative(false)
+      .setShaderSampledImageArrayNonUniformIndexingNative(false)
+      .setShaderStorageBufferArrayNonUniformIndexingNative(false)
+      .setShaderStorageImageArrayNonUniformIndexingNative(false)
+      .setShaderInputAttachmentArrayNonUniformIndexingNative(false)
+      .setRobustBufferAccessUpdateAfterBind(false)
+      .setQuadDivergentImplicitLod(false)
+      .setMaxUpdateAfterBindDescriptorsInAllPools(500000)
+      .setMaxPerStageDescriptorUpdateAfterBindSamplers(500000)
+      .setMaxPerStageDescriptorUpdateAfterBindUniformBuffers(12)
+      .setMaxPerStageDescriptorUpdateAfterBindStorageBuffers(500000)
+      .setMaxPerStageDescriptorUpdateAfterBindSampledImages(500000)
+      .setMaxPerStageDescriptorUpdateAfterBindStorageImages(500000)
+      .setMaxPerStageDescriptorUpdateAfterBindInputAttachments(4)
+      .setMaxPerStageUpdateAfterBindResources(500000)
+      .setMaxDescriptorSetUpdateAfterBindSamplers(500000)
+      .setMaxDescriptorSetUpdateAfterBindUniformBuffers(72)
+      .setMaxDescriptorSetUpdateAfterBindUniformBuffersDynamic(8)
+      .setMaxDescriptorSetUpdateAfterBindStorageBuffers(500000)
+      .setMaxDescriptorSetUpdateAfterBindStorageBuffersDynamic(8)
+      .setMaxDescriptorSetUpdateAfterBindSampledImages(500000)
+      .setMaxDescriptorSetUpdateAfterBindStorageImages(500000)
+      .setMaxDescriptorSetUpdateAfterBindInputAttachments(4);
+  }
+
+  @BeforeEach
+  public void setup()
+    throws Exception
+  {
+    Mockito.when(this.device.physicalDevice())
+      .thenReturn(this.physicalDevice);
+    Mockito.when(this.physicalDevice.features())
+      .thenReturn(bindlessFeatures());
+    Mockito.when(this.device.enabledFeatures())
+      .thenReturn(bindlessFeatures());
+    Mockito.when(this.device.descriptorIndexingProperties())
+      .thenReturn(indexingProperties().build());
+    Mockito.when(this.device.createDescriptorSetLayout(Mockito.any()))
+      .thenReturn(this.layout);
+    Mockito.when(this.device.createDescriptorPool(Mockito.any()))
+      .thenReturn(this.pool);
+    Mockito.when(this.device.allocateDescriptorSets(Mockito.any()))
+      .thenReturn(List.of(this.set));
+  }
+
+  private JCBindlessConfiguration configuration()
+  {
+    return JCBindlessConfiguration.builder()
+      .setDevice(this.device)
+      .setSampledImageCapacity(4)
+      .setSamplerCapacity(1)
+      .setStorageBufferCapacity(8)
+      .build();
+  }
+
+  /**
+   * A device without descriptor indexing support is rejected.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testMissingFeatures()
+    throws Exception
+  {
+    Mockito.when(this.device.enabledFeatures())
+      .thenReturn(VulkanPhysicalDeviceFeatures.builder().build());
+
+    final var ex =
+      assertThrows(VulkanMissingRequiredFeaturesException.class, () -> {
+        JCBindlessTable.create(this.configuration());
+      });
+    assertTrue(ex.getMessage().contains("bindless"));
+    Mockito.verify(this.device, Mockito.never())
+      .createDescriptorSetLayout(Mockito.any());
+  }
+
+  /**
+   * A device whose physical device supports descriptor indexing, but that
+   * was not created with the features enabled, is rejected.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testFeaturesNotEnabled()
+    throws Exception
+  {
+    Mockito.when(this.device.enabledFeatures())
+      .thenReturn(VulkanPhysicalDeviceFeatures.builder().build());
+
+    assertThrows(VulkanMissingRequiredFeaturesException.class, () -> {
+      JCBindlessTable.create(this.configuration());
+    });
+  }
+
+  /**
+   * Capacities that exceed the update-after-bind limits are rejected, and
+   * limits reported as the maximum unsigned value are treated as
+   * unbounded.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testLimits()
+    throws Exception
+  {
+    Mockito.when(this.device.descriptorIndexingProperties())
+      .thenReturn(
+        indexingProperties()
+          .setMaxDescriptorSetUpdateAfterBindStorageBuffers(7)
+          .build()
+      );
+
+    final var ex =
+      assertThrows(IllegalArgumentException.class, () -> {
+        JCBindlessTable.create(this.configuration());
+      });
+    assertTrue(
+      ex.getMessage().contains("maxDescriptorSetUpdateAfterBindStorageBuffers")
+    );
+
+    Mockito.when(this.device.descriptorIndexingProperties())
+      .thenReturn(
+        indexingProperties()
+          .setMaxPerStageUpdateAfterBindResources(12)
+          .build()
+      );
+
+    assertThrows(IllegalArgumentException.class, () -> {
+      JCBindlessTable.create(this.configuration());
+    });
+    Mockito.verify(this.device, Mockito.never())
+      .createDescriptorSetLayout(Mockito.any());
+
+    Mockito.when(this.device.descriptorIndexingProperties())
+      .thenReturn(
+        indexingProperties()
+          .setMaxUpdateAfterBindDescriptorsInAllPools(-1)
+          .setMaxPerStageUpdateAfterBindResources(13)
+          .build()
+      );
+
+    try (var table = JCBindlessTable.create(this.configuration())) {
+      assertEquals(8, table.capacity(STORAGE_BUFFER));
+    }
+  }
+
+  /**
+   * The layout has one binding per kind, and only the last has a variable
+   * descriptor count.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testLayout()
+    throws Exception
+  {
+    try (var table = JCBindlessTable.create(this.configuration())) {
+      final var captor =
+        ArgumentCaptor.forClass(
+          VulkanDescriptorSetLayoutCreateInfo.class);
+      Mockito.verify(this.device)
+        .createDescriptorSetLayout(captor.capture());
+
+      final var info = captor.getValue();
+      assertEquals(3, info.bindings().size());
+      assertEquals(4, info.bindings().get(0).descriptorCount());
+      assertEquals(1, info.bindings().get(1).descriptorCount());
+      assertEquals(8, info.bindings().get(2).descriptorCount());
+      assertFalse(info.bindingsFlags().get(0).contains(
+        VK_DESCRIPTOR_BINDING_VARIABLE_DESCRIPTOR_COUNT));
+      assertTrue(info.bindingsFlags().get(2).contains(
+        VK_DESCRIPTOR_BINDING_VARIABLE_DESCRIPTOR_COUNT));
+      assertEquals(this.layout, table.descriptorSetLayout());
+      assertEquals(this.set, table.descriptorSet());
+    }
+
+    Mockito.verify(this.pool).close();
+    Mockito.verify(this.layout).close();
+  }
+
+  /**
+   * Allocations are written in a single batch.
+   *
+   * @throws Exception On errors
+   */
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testAllocateFlush()
+    throws Exception
+  {
+    try (var table = JCBindlessTable.create(this.configuration())) {
+      final var i0 =
+        table.allocateSampledImage(
+          Mockito.mock(VulkanImageViewType.class),
+          VK_IMAGE_LAYOUT_SHADER_READ_ONLY_OPTIMAL);
+      final var i1 =
+        table.allocateSampledImage(
+          Mockito.mock(VulkanImageViewType.class),
+          VK_IMAGE_LAYOUT_SHADER_READ_ONLY_OPTIMAL);
+      final var s0 =
+        table.allocateSampler(Mockito.mock(VulkanSamplerType.class));
+      final var b0 =
+        table.allocateStorageBuffer(
+          Mockito.mock(VulkanBufferType.class), 0L, 256L);
+
+      assertEquals(0, i0);
+      assertEquals(1, i1);
+      assertEquals(0, s0);
+      assertEquals(0, b0);
+      assertEquals(2, table.used(SAMPLED_IMAGE));
+
+      assertEquals(4, table.flush());
+      assertEquals(0, table.flush());
+
+      final var captor = ArgumentCaptor.forClass(List.class);
+      Mockito.verify(this.device, Mockito.times(1))
+        .updateDescriptorSets(captor.capture(), Mockito.any());
+
+      final List<VulkanWriteDescriptorSet> writes = captor.getValue();
+      assertEquals(4, writes.size());
+      assertEquals(1, writes.get(1).destinationArrayElement());
+      assertEquals(
+        SAMPLER.binding(),
+        writes.get(2).destinationBinding());
+      assertEquals(
+        STORAGE_BUFFER.binding(),
+        writes.get(3).destinationBinding());
+    }
+  }
+
+  /**
+   * Freed slots are only reused once the timeline has passed.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testRecycleAfterTimeline()
+    throws Exception
+  {
+    final var semaphore =
+      Mockito.mock(VulkanSemaphoreTimelineType.class);
+    Mockito.when(this.device.getSemaphoreCounterValue(semaphore))
+      .thenReturn(Long.valueOf(5L));
+
+    try (var table = JCBindlessTable.create(this.configuration())) {
+      final var sampler = Mockito.mock(VulkanSamplerType.class);
+      final var s0 = table.allocateSampler(sampler);
+
+      assertThrows(VulkanResourceException.class, () -> {
+        table.allocateSampler(sampler);
+      });
+
+      table.free(SAMPLER, s0, 5L);
+      assertEquals(1, table.used(SAMPLER));
+      assertThrows(VulkanResourceException.class, () -> {
+        table.allocateSampler(sampler);
+      });
+
+      assertEquals(0, table.collect(4L));
+      assertEquals(1, table.used(SAMPLER));
+
+      assertEquals(1, table.collect(semaphore));
+      assertEquals(0, table.used(SAMPLER));
+      assertEquals(s0, table.allocateSampler(sampler));
+    }
+  }
+
+  /**
+   * Freeing a slot twice fails.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testDoubleFree()
+    throws Exception
+  {
+    try (var table = JCBindlessTable.create(this.configuration())) {
+      final var b0 =
+        table.allocateStorageBuffer(
+          Mockito.mock(VulkanBufferType.class), 0L, 256L);
+
+      table.free(STORAGE_BUFFER, b0, 1L);
+      assertThrows(IllegalStateException.class, () -> {
+        table.free(STORAGE_BUFFER, b0, 2L);
+      });
+      assertThrows(IllegalStateException.class, () -> {
+        table.free(STORAGE_BUFFER, 7, 2L);
+      });
+      assertThrows(IllegalArgumentException.class, () -> {
+        table.free(STORAGE_BUFFER, 8, 2L);
+      });
+    }
+  }
+
+  /**
+   * Concurrent allocation never hands out the same slot twice.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testFreeListConcurrent()
+    throws Exception
+  {
+    final var list = new JCBindlessFreeList(64);
+    final var owned = ConcurrentHashMap.<Integer>newKeySet();
+    final var failures = ConcurrentHashMap.<String>newKeySet();
+
+    try (var executor = Executors.newFixedThreadPool(8)) {
+      final var futures = new ArrayList<Future<?>>();
+      for (int thread = 0; thread < 8; ++thread) {
+        futures.add(executor.submit(() -> {
+          for (int index = 0; index < 10_000; ++index) {
+            final var slot = list.allocate();
+            if (slot == JCBindlessFreeList.NO_SLOT) {
+              continue;
+            }
+            if (!owned.add(Integer.valueOf(slot))) {
+              failures.add("Slot %d handed out twice".formatted(
+                Integer.valueOf(slot)));
+            }
+            owned.remove(Integer.valueOf(slot));
+            list.retire(slot);
+            list.release(slot);
+          }
+        }));
+      }
+      for (final var future : futures) {
+        future.get();
+      }
+    }
+
+    assertEquals(new HashSet<String>(), failures);
+    assertEquals(0, list.used());
+
+    final var all = new HashSet<Integer>();
+    for (int index = 0; index < 64; ++index) {
+      all.add(Integer.valueOf(list.allocate()));
+    }
+    assertEquals(64, all.size());
+    assertEquals(JCBindlessFreeList.NO_SLOT, list.allocate());
+  }
+}
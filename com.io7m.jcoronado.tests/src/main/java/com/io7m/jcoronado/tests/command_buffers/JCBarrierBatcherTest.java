@@ -0,0 +1,302 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.tests.command_buffers;
+
+import com.io7m.jcoronado.api.VulkanBufferMemoryBarrier;
+import com.io7m.jcoronado.api.VulkanBufferType;
+import com.io7m.jcoronado.api.VulkanCommandBufferType;
+import com.io7m.jcoronado.api.VulkanDependencyInfo;
+import com.io7m.jcoronado.api.VulkanImageLayout;
+import com.io7m.jcoronado.api.VulkanImageMemoryBarrier;
+import com.io7m.jcoronado.api.VulkanImageSubresourceRange;
+import com.io7m.jcoronado.api.VulkanImageType;
+import com.io7m.jcoronado.api.VulkanQueueFamilyIndex;
+import com.io7m.jcoronado.utility.command_buffers.JCBarrierBatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Set;
+
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_SHADER_READ_BIT;
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_SHADER_WRITE_BIT;
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_TRANSFER_READ_BIT;
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_TRANSFER_WRITE_BIT;
+import static com.io7m.jcoronado.api.VulkanImageAspectFlag.VK_IMAGE_ASPECT_COLOR_BIT;
+import static com.io7m.jcoronado.api.VulkanImageLayout.VK_IMAGE_LAYOUT_SHADER_READ_ONLY_OPTIMAL;
+import static com.io7m.jcoronado.api.VulkanImageLayout.VK_IMAGE_LAYOUT_TRANSFER_DST_OPTIMAL;
+import static com.io7m.jcoronado.api.VulkanImageLayout.VK_IMAGE_LAYOUT_UNDEFINED;
+import static com.io7m.jcoronado.api.VulkanPipelineStageFlag.VK_PIPELINE_STAGE_COMPUTE_SHADER_BIT;
+import static com.io7m.jcoronado.api.VulkanPipelineStageFlag.VK_PIPELINE_STAGE_FRAGMENT_SHADER_BIT;
+import static com.io7m.jcoronado.api.VulkanPipelineStageFlag.VK_PIPELINE_STAGE_TRANSFER_BIT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+public final class JCBarrierBatcherTest
+{
+  private @Mock VulkanCommandBufferType commandBuffer;
+  private @Mock VulkanImageType image0;
+  private @Mock VulkanImageType image1;
+  private @Mock VulkanBufferType buffer0;
+  private @Mock VulkanBufferType buffer1;
+  private JCBarrierBatcher batcher;
+
+  @BeforeEach
+  public void setup()
+  {
+    this.batcher = JCBarrierBatcher.create(this.commandBuffer);
+  }
+
+  private static VulkanImageMemoryBarrier imageBarrier(
+    final VulkanImageType image,
+    final VulkanImageLayout oldLayout,
+    final VulkanImageLayout newLayout)
+  {
+    return VulkanImageMemoryBarrier.builder()
+      .setImage(image)
+      .setOldLayout(oldLayout)
+      .setNewLayout(newLayout)
+      .addSrcStageMask(VK_PIPELINE_STAGE_TRANSFER_BIT)
+      .addSrcAccessMask(VK_ACCESS_TRANSFER_WRITE_BIT)
+      .addDstStageMask(VK_PIPELINE_STAGE_FRAGMENT_SHADER_BIT)
+      .addDstAccessMask(VK_ACCESS_SHADER_READ_BIT)
+      .setSrcQueueFamilyIndex(VulkanQueueFamilyIndex.ignored())
+      .setDstQueueFamilyIndex(VulkanQueueFamilyIndex.ignored())
+      .setSubresourceRange(
+        VulkanImageSubresourceRange.builder()
+          .addAspectMask(VK_IMAGE_ASPECT_COLOR_BIT)
+          .build()
+      )
+      .build();
+  }
+
+  /**
+   * Barriers for separate resources are emitted as one barrier before a
+   * draw.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testBatchedBeforeDraw()
+    throws Exception
+  {
+    this.batcher.pipelineBarrier(
+      VulkanDependencyInfo.builder()
+        .addImageMemoryBarriers(imageBarrier(
+          this.image0,
+          VK_IMAGE_LAYOUT_TRANSFER_DST_OPTIMAL,
+          VK_IMAGE_LAYOUT_SHADER_READ_ONLY_OPTIMAL))
+        .build()
+    );
+    this.batcher.pipelineBarrier(
+      VulkanDependencyInfo.builder()
+        .addImageMemoryBarriers(imageBarrier(
+          this.image1,
+          VK_IMAGE_LAYOUT_TRANSFER_DST_OPTIMAL,
+          VK_IMAGE_LAYOUT_SHADER_READ_ONLY_OPTIMAL))
+        .build()
+    );
+
+    Mockito.verify(this.commandBuffer, Mockito.never())
+      .pipelineBarrier(Mockito.any());
+    assertTrue(this.batcher.isPending());
+
+    this.batcher.draw(3, 1, 0, 0);
+
+    final var captor =
+      ArgumentCaptor.forClass(VulkanDependencyInfo.class);
+    final var order =
+      Mockito.inOrder(this.commandBuffer);
+
+    order.verify(this.commandBuffer, Mockito.times(1))
+      .pipelineBarrier(captor.capture());
+    order.verify(this.commandBuffer, Mockito.times(1))
+      .draw(3, 1, 0, 0);
+
+    assertEquals(2, captor.getValue().imageMemoryBarriers().size());
+    assertFalse(this.batcher.isPending());
+    assertEquals(2L, this.batcher.barriersReceived());
+    assertEquals(1L, this.batcher.barriersEmitted());
+  }
+
+  /**
+   * Barriers for the same buffer range are merged.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testBufferMasksMerged()
+    throws Exception
+  {
+    final var barrier0 =
+      VulkanBufferMemoryBarrier.builder()
+        .setBuffer(this.buffer0)
+        .setSize(128L)
+        .addSrcStageMask(VK_PIPELINE_STAGE_TRANSFER_BIT)
+        .addSrcAccessMask(VK_ACCESS_TRANSFER_WRITE_BIT)
+        .addDstStageMask(VK_PIPELINE_STAGE_FRAGMENT_SHADER_BIT)
+        .addDstAccessMask(VK_ACCESS_SHADER_READ_BIT)
+        .setSrcQueueFamilyIndex(VulkanQueueFamilyIndex.ignored())
+        .setDstQueueFamilyIndex(VulkanQueueFamilyIndex.ignored())
+        .build();
+
+    final var barrier1 =
+      VulkanBufferMemoryBarrier.builder()
+        .from(barrier0)
+        .setDstStageMask(Set.of(VK_PIPELINE_STAGE_TRANSFER_BIT))
+        .setDstAccessMask(Set.of(VK_ACCESS_TRANSFER_READ_BIT))
+        .build();
+
+    this.batcher.pipelineBarrier(
+      VulkanDependencyInfo.builder()
+        .addBufferMemoryBarriers(barrier0)
+        .build()
+    );
+    this.batcher.pipelineBarrier(
+      VulkanDependencyInfo.builder()
+        .addBufferMemoryBarriers(barrier1)
+        .build()
+    );
+    this.batcher.endCommandBuffer();
+
+    final var captor =
+      ArgumentCaptor.forClass(VulkanDependencyInfo.class);
+
+    Mockito.verify(this.commandBuffer, Mockito.times(1))
+      .pipelineBarrier(captor.capture());
+
+    final var merged =
+      captor.getValue().bufferMemoryBarriers();
+
+    assertEquals(1, merged.size());
+    assertEquals(
+      Set.of(VK_PIPELINE_STAGE_FRAGMENT_SHADER_BIT, VK_PIPELINE_STAGE_TRANSFER_BIT),
+      merged.get(0).dstStageMask()
+    );
+    assertEquals(
+      Set.of(VK_ACCESS_SHADER_READ_BIT, VK_ACCESS_TRANSFER_READ_BIT),
+      merged.get(0).dstAccessMask()
+    );
+  }
+
+  /**
+   * Chained layout transitions on the same image are not merged.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testChainedTransitionsFlushed()
+    throws Exception
+  {
+    this.batcher.pipelineBarrier(
+      VulkanDependencyInfo.builder()
+        .addImageMemoryBarriers(imageBarrier(
+          this.image0,
+          VK_IMAGE_LAYOUT_UNDEFINED,
+          VK_IMAGE_LAYOUT_TRANSFER_DST_OPTIMAL))
+        .build()
+    );
+    this.batcher.pipelineBarrier(
+      VulkanDependencyInfo.builder()
+        .addImageMemoryBarriers(imageBarrier(
+          this.image0,
+          VK_IMAGE_LAYOUT_TRANSFER_DST_OPTIMAL,
+          VK_IMAGE_LAYOUT_SHADER_READ_ONLY_OPTIMAL))
+        .build()
+    );
+    this.batcher.flush();
+
+    Mockito.verify(this.commandBuffer, Mockito.times(2))
+      .pipelineBarrier(Mockito.any());
+    assertEquals(2L, this.batcher.barriersEmitted());
+  }
+
+  /**
+   * A barrier whose source stages include the destination stages of a
+   * pending barrier on a different resource forms a dependency chain, and
+   * is not merged into the same call.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testChainedStagesFlushed()
+    throws Exception
+  {
+    final var barrier0 =
+      VulkanBufferMemoryBarrier.builder()
+        .setBuffer(this.buffer0)
+        .setSize(128L)
+        .addSrcStageMask(VK_PIPELINE_STAGE_TRANSFER_BIT)
+        .addSrcAccessMask(VK_ACCESS_TRANSFER_WRITE_BIT)
+        .addDstStageMask(VK_PIPELINE_STAGE_COMPUTE_SHADER_BIT)
+        .addDstAccessMask(VK_ACCESS_SHADER_READ_BIT)
+        .setSrcQueueFamilyIndex(VulkanQueueFamilyIndex.ignored())
+        .setDstQueueFamilyIndex(VulkanQueueFamilyIndex.ignored())
+        .build();
+
+    final var barrier1 =
+      VulkanBufferMemoryBarrier.builder()
+        .setBuffer(this.buffer1)
+        .setSize(128L)
+        .addSrcStageMask(VK_PIPELINE_STAGE_COMPUTE_SHADER_BIT)
+        .addSrcAccessMask(VK_ACCESS_SHADER_WRITE_BIT)
+        .addDstStageMask(VK_PIPELINE_STAGE_FRAGMENT_SHADER_BIT)
+        .addDstAccessMask(VK_ACCESS_SHADER_READ_BIT)
+        .setSrcQueueFamilyIndex(VulkanQueueFamilyIndex.ignored())
+        .setDstQueueFamilyIndex(VulkanQueueFamilyIndex.ignored())
+        .build();
+
+    this.batcher.pipelineBarrier(
+      VulkanDependencyInfo.builder()
+        .addBufferMemoryBarriers(barrier0)
+        .build()
+    );
+    this.batcher.pipelineBarrier(
+      VulkanDependencyInfo.builder()
+        .addBufferMemoryBarriers(barrier1)
+        .build()
+    );
+    this.batcher.endCommandBuffer();
+
+    final var captor =
+      ArgumentCaptor.forClass(VulkanDependencyInfo.class);
+
+    Mockito.verify(this.commandBuffer, Mockito.times(2))
+      .pipelineBarrier(captor.capture());
+
+    final var emitted = captor.getAllValues();
+    assertEquals(
+      this.buffer0,
+      emitted.get(0).bufferMemoryBarriers().get(0).buffer()
+    );
+    assertEquals(
+      this.buffer1,
+      emitted.get(1).bufferMemoryBarriers().get(0).buffer()
+    );
+    assertEquals(2L, this.batcher.barriersEmitted());
+  }
+}
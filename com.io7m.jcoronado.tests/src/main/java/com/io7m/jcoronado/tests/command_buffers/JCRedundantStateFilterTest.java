@@ -0,0 +1,461 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.tests.command_buffers;
+
+import com.io7m.jcoronado.api.VulkanBufferType;
+import com.io7m.jcoronado.api.VulkanCommandBufferBeginInfo;
+import com.io7m.jcoronado.api.VulkanCommandBufferType;
+import com.io7m.jcoronado.api.VulkanDescriptorSetType;
+import com.io7m.jcoronado.api.VulkanPipelineLayoutType;
+import com.io7m.jcoronado.api.VulkanPipelineType;
+import com.io7m.jcoronado.api.VulkanShaderObjectType;
+import com.io7m.jcoronado.api.VulkanVertexInputAttributeDescription;
+import com.io7m.jcoronado.api.VulkanVertexInputBindingDescription;
+import com.io7m.jcoronado.api.VulkanViewport;
+import com.io7m.jcoronado.utility.command_buffers.JCRedundantStateFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.io7m.jcoronado.api.VulkanCompareOp.VK_COMPARE_OP_ALWAYS;
+import static com.io7m.jcoronado.api.VulkanCompareOp.VK_COMPARE_OP_LESS;
+import static com.io7m.jcoronado.api.VulkanCullModeFlag.VK_CULL_MODE_BACK_BIT;
+import static com.io7m.jcoronado.api.VulkanCullModeFlag.VK_CULL_MODE_FRONT_BIT;
+import static com.io7m.jcoronado.api.VulkanIndexType.VK_INDEX_TYPE_UINT16;
+import static com.io7m.jcoronado.api.VulkanIndexType.VK_INDEX_TYPE_UINT32;
+import static com.io7m.jcoronado.api.VulkanPipelineBindPoint.VK_PIPELINE_BIND_POINT_COMPUTE;
+import static com.io7m.jcoronado.api.VulkanPipelineBindPoint.VK_PIPELINE_BIND_POINT_GRAPHICS;
+import static com.io7m.jcoronado.api.VulkanShaderStageFlag.VK_SHADER_STAGE_VERTEX_BIT;
+import static com.io7m.jcoronado.api.VulkanStencilFaceFlag.VK_STENCIL_FACE_BACK_BIT;
+import static com.io7m.jcoronado.api.VulkanStencilFaceFlag.VK_STENCIL_FACE_FRONT_BIT;
+import static com.io7m.jcoronado.api.VulkanStencilOp.VK_STENCIL_OP_KEEP;
+import static com.io7m.jcoronado.api.VulkanStencilOp.VK_STENCIL_OP_ZERO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@ExtendWith(MockitoExtension.class)
+public final class JCRedundantStateFilterTest
+{
+  private @Mock VulkanCommandBufferType commandBuffer;
+  private @Mock VulkanPipelineType pipeline0;
+  private @Mock VulkanPipelineType pipeline1;
+  private @Mock VulkanPipelineLayoutType layout0;
+  private @Mock VulkanPipelineLayoutType layout1;
+  private @Mock VulkanDescriptorSetType set0;
+  private @Mock VulkanDescriptorSetType set1;
+  private @Mock VulkanBufferType buffer0;
+  private @Mock VulkanBufferType buffer1;
+  private JCRedundantStateFilter filter;
+
+  @BeforeEach
+  public void setup()
+  {
+    this.filter = JCRedundantStateFilter.create(this.commandBuffer);
+  }
+
+  /**
+   * The delegate is exposed.
+   */
+
+  @Test
+  public void testDelegate()
+  {
+    assertSame(this.commandBuffer, this.filter.delegate());
+  }
+
+  /**
+   * Binding the same pipeline twice forwards only one call.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testPipelineRedundant()
+    throws Exception
+  {
+    this.filter.bindPipeline(VK_PIPELINE_BIND_POINT_GRAPHICS, this.pipeline0);
+    this.filter.bindPipeline(VK_PIPELINE_BIND_POINT_GRAPHICS, this.pipeline0);
+    this.filter.bindPipeline(VK_PIPELINE_BIND_POINT_COMPUTE, this.pipeline0);
+    this.filter.bindPipeline(VK_PIPELINE_BIND_POINT_GRAPHICS, this.pipeline1);
+
+    Mockito.verify(this.commandBuffer, Mockito.times(1))
+      .bindPipeline(VK_PIPELINE_BIND_POINT_GRAPHICS, this.pipeline0);
+    Mockito.verify(this.commandBuffer, Mockito.times(1))
+      .bindPipeline(VK_PIPELINE_BIND_POINT_COMPUTE, this.pipeline0);
+    Mockito.verify(this.commandBuffer, Mockito.times(1))
+      .bindPipeline(VK_PIPELINE_BIND_POINT_GRAPHICS, this.pipeline1);
+
+    assertEquals(1L, this.filter.elidedCount());
+    assertEquals(3L, this.filter.forwardedCount());
+
+    this.filter.resetCounters();
+    assertEquals(0L, this.filter.elidedCount());
+    assertEquals(0L, this.filter.forwardedCount());
+  }
+
+  /**
+   * Beginning a command buffer forgets all tracked state.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testBeginInvalidates()
+    throws Exception
+  {
+    final var info =
+      VulkanCommandBufferBeginInfo.builder()
+        .build();
+
+    this.filter.bindPipeline(VK_PIPELINE_BIND_POINT_GRAPHICS, this.pipeline0);
+    this.filter.beginCommandBuffer(info);
+    this.filter.bindPipeline(VK_PIPELINE_BIND_POINT_GRAPHICS, this.pipeline0);
+
+    Mockito.verify(this.commandBuffer, Mockito.times(2))
+      .bindPipeline(VK_PIPELINE_BIND_POINT_GRAPHICS, this.pipeline0);
+    Mockito.verify(this.commandBuffer, Mockito.times(1))
+      .beginCommandBuffer(info);
+    assertEquals(0L, this.filter.elidedCount());
+  }
+
+  /**
+   * Redundant vertex and index buffer bindings are dropped.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testBuffersRedundant()
+    throws Exception
+  {
+    this.filter.bindVertexBuffer(0, this.buffer0, 0L);
+    this.filter.bindVertexBuffer(0, this.buffer0, 0L);
+    this.filter.bindVertexBuffers(
+      0, new VulkanBufferType[]{this.buffer0, this.buffer1}, new long[]{0L, 8L});
+    this.filter.bindVertexBuffers(
+      0, List.of(this.buffer0, this.buffer1), List.of(0L, 8L));
+    this.filter.bindVertexBuffer(1, this.buffer1, 16L);
+
+    this.filter.bindIndexBuffer(this.buffer0, 0L, VK_INDEX_TYPE_UINT16);
+    this.filter.bindIndexBuffer(this.buffer0, 0L, VK_INDEX_TYPE_UINT16);
+    this.filter.bindIndexBuffer(this.buffer0, 0L, VK_INDEX_TYPE_UINT32);
+
+    Mockito.verify(this.commandBuffer, Mockito.times(1))
+      .bindVertexBuffer(0, this.buffer0, 0L);
+    Mockito.verify(this.commandBuffer, Mockito.times(1))
+      .bindVertexBuffer(1, this.buffer1, 16L);
+    Mockito.verify(this.commandBuffer, Mockito.times(1))
+      .bindVertexBuffers(
+        Mockito.eq(0),
+        Mockito.any(VulkanBufferType[].class),
+        Mockito.any(long[].class));
+    Mockito.verify(this.commandBuffer, Mockito.never())
+      .bindVertexBuffers(
+        Mockito.anyInt(),
+        Mockito.anyInt(),
+        Mockito.anyList(),
+        Mockito.anyList());
+    Mockito.verify(this.commandBuffer, Mockito.times(1))
+      .bindIndexBuffer(this.buffer0, 0L, VK_INDEX_TYPE_UINT16);
+    Mockito.verify(this.commandBuffer, Mockito.times(1))
+      .bindIndexBuffer(this.buffer0, 0L, VK_INDEX_TYPE_UINT32);
+
+    assertEquals(3L, this.filter.elidedCount());
+    assertEquals(5L, this.filter.forwardedCount());
+  }
+
+  /**
+   * Redundant descriptor set bindings are dropped, unless dynamic offsets
+   * are used or the pipeline layout changes.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testDescriptorSetsRedundant()
+    throws Exception
+  {
+    final var bp = VK_PIPELINE_BIND_POINT_GRAPHICS;
+
+    this.filter.bindDescriptorSet(bp, this.layout0, 0, this.set0);
+    this.filter.bindDescriptorSet(bp, this.layout0, 0, this.set0);
+    this.filter.bindDescriptorSets(
+      bp, this.layout0, 0, List.of(this.set0), List.of());
+    this.filter.bindDescriptorSets(
+      bp, this.layout0, 0, List.of(this.set0), List.of(Integer.valueOf(256)));
+    this.filter.bindDescriptorSet(bp, this.layout0, 0, this.set0);
+    this.filter.bindDescriptorSet(bp, this.layout1, 1, this.set1);
+    this.filter.bindDescriptorSet(bp, this.layout0, 0, this.set0);
+
+    Mockito.verify(this.commandBuffer, Mockito.times(3))
+      .bindDescriptorSet(bp, this.layout0, 0, this.set0);
+    Mockito.verify(this.commandBuffer, Mockito.times(1))
+      .bindDescriptorSet(bp, this.layout1, 1, this.set1);
+    Mockito.verify(this.commandBuffer, Mockito.times(1))
+      .bindDescriptorSets(
+        bp, this.layout0, 0, List.of(this.set0), List.of(Integer.valueOf(256)));
+
+    assertEquals(2L, this.filter.elidedCount());
+    assertEquals(5L, this.filter.forwardedCount());
+  }
+
+  /**
+   * Pushing descriptors forgets the pushed set, so a subsequent binding of
+   * the same set is forwarded.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testPushDescriptorsForgetSet()
+    throws Exception
+  {
+    final var bp = VK_PIPELINE_BIND_POINT_GRAPHICS;
+
+    this.filter.bindDescriptorSet(bp, this.layout0, 0, this.set0);
+    this.filter.pushDescriptorSet(bp, this.layout0, 0, List.of());
+    this.filter.bindDescriptorSet(bp, this.layout0, 0, this.set0);
+    this.filter.bindDescriptorSet(bp, this.layout0, 0, this.set0);
+
+    Mockito.verify(this.commandBuffer, Mockito.times(2))
+      .bindDescriptorSet(bp, this.layout0, 0, this.set0);
+    Mockito.verify(this.commandBuffer, Mockito.times(1))
+      .pushDescriptorSet(bp, this.layout0, 0, List.of());
+
+    assertEquals(1L, this.filter.elidedCount());
+    assertEquals(3L, this.filter.forwardedCount());
+  }
+
+  /**
+   * Redundant dynamic state is dropped, and binding a new graphics pipeline
+   * forgets dynamic state.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testDynamicStateRedundant()
+    throws Exception
+  {
+    final var viewport =
+      VulkanViewport.builder()
+        .setWidth(640.0f)
+        .setHeight(480.0f)
+        .setMaxDepth(1.0f)
+        .build();
+
+    final var viewportSame =
+      VulkanViewport.builder()
+        .from(viewport)
+        .build();
+
+    final var front = Set.of(VK_STENCIL_FACE_FRONT_BIT);
+    final var both = Set.of(VK_STENCIL_FACE_FRONT_BIT, VK_STENCIL_FACE_BACK_BIT);
+
+    this.filter.setViewport(0, List.of(viewport));
+    this.filter.setViewport(0, List.of(viewportSame));
+    this.filter.setLineWidth(1.0f);
+    this.filter.setLineWidth(1.0f);
+    this.filter.setStencilReference(front, 1);
+    this.filter.setStencilReference(front, 1);
+    this.filter.setStencilReference(both, 1);
+    this.filter.setStencilReference(both, 1);
+
+    assertEquals(4L, this.filter.elidedCount());
+    assertEquals(4L, this.filter.forwardedCount());
+
+    this.filter.bindPipeline(VK_PIPELINE_BIND_POINT_GRAPHICS, this.pipeline0);
+    this.filter.setLineWidth(1.0f);
+
+    Mockito.verify(this.commandBuffer, Mockito.times(1))
+      .setViewport(0, List.of(viewport));
+    Mockito.verify(this.commandBuffer, Mockito.times(2))
+      .setLineWidth(1.0f);
+    Mockito.verify(this.commandBuffer, Mockito.times(1))
+      .setStencilReference(front, 1);
+    Mockito.verify(this.commandBuffer, Mockito.times(1))
+      .setStencilReference(both, 1);
+  }
+
+  /**
+   * Redundant extended dynamic state is dropped, and binding a new graphics
+   * pipeline forgets it.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testExtendedDynamicStateRedundant()
+    throws Exception
+  {
+    final var front = Set.of(VK_STENCIL_FACE_FRONT_BIT);
+    final var both = Set.of(VK_STENCIL_FACE_FRONT_BIT, VK_STENCIL_FACE_BACK_BIT);
+    final var cull = Set.of(VK_CULL_MODE_BACK_BIT);
+
+    this.filter.setCullMode(cull);
+    this.filter.setCullMode(cull);
+    this.filter.setDepthTestEnable(true);
+    this.filter.setDepthTestEnable(true);
+    this.filter.setDepthTestEnable(false);
+    this.filter.setDepthCompareOp(VK_COMPARE_OP_LESS);
+    this.filter.setDepthCompareOp(VK_COMPARE_OP_LESS);
+    this.filter.setStencilOp(
+      both,
+      VK_STENCIL_OP_KEEP,
+      VK_STENCIL_OP_KEEP,
+      VK_STENCIL_OP_KEEP,
+      VK_COMPARE_OP_ALWAYS
+    );
+    this.filter.setStencilOp(
+      front,
+      VK_STENCIL_OP_KEEP,
+      VK_STENCIL_OP_KEEP,
+      VK_STENCIL_OP_KEEP,
+      VK_COMPARE_OP_ALWAYS
+    );
+    this.filter.setColorBlendEnable(0, List.of(Boolean.TRUE, Boolean.FALSE));
+    this.filter.setColorBlendEnable(1, List.of(Boolean.FALSE));
+
+    assertEquals(5L, this.filter.elidedCount());
+    assertEquals(6L, this.filter.forwardedCount());
+
+    this.filter.bindPipeline(VK_PIPELINE_BIND_POINT_GRAPHICS, this.pipeline0);
+    this.filter.setCullMode(cull);
+
+    Mockito.verify(this.commandBuffer, Mockito.times(2))
+      .setCullMode(cull);
+    Mockito.verify(this.commandBuffer, Mockito.times(1))
+      .setDepthTestEnable(true);
+    Mockito.verify(this.commandBuffer, Mockito.times(1))
+      .setDepthTestEnable(false);
+    Mockito.verify(this.commandBuffer, Mockito.times(1))
+      .setColorBlendEnable(0, List.of(Boolean.TRUE, Boolean.FALSE));
+    Mockito.verify(this.commandBuffer, Mockito.never())
+      .setColorBlendEnable(1, List.of(Boolean.FALSE));
+  }
+
+  /**
+   * Extended dynamic state is compared by value: an empty cull mode is not
+   * mistaken for unknown state, stencil operations are tracked per face, and
+   * equal vertex input lists are dropped even when they are fresh copies.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testExtendedDynamicStateValues()
+    throws Exception
+  {
+    final var front = Set.of(VK_STENCIL_FACE_FRONT_BIT);
+    final var back = Set.of(VK_STENCIL_FACE_BACK_BIT);
+    final var both = Set.of(VK_STENCIL_FACE_FRONT_BIT, VK_STENCIL_FACE_BACK_BIT);
+
+    this.filter.setCullMode(Set.of());
+    this.filter.setCullMode(Set.of());
+    this.filter.setCullMode(Set.of(VK_CULL_MODE_FRONT_BIT, VK_CULL_MODE_BACK_BIT));
+    this.filter.setCullMode(Set.of(VK_CULL_MODE_BACK_BIT, VK_CULL_MODE_FRONT_BIT));
+
+    assertEquals(2L, this.filter.elidedCount());
+    assertEquals(2L, this.filter.forwardedCount());
+
+    this.filter.resetCounters();
+    this.filter.setStencilOp(
+      front,
+      VK_STENCIL_OP_KEEP,
+      VK_STENCIL_OP_KEEP,
+      VK_STENCIL_OP_KEEP,
+      VK_COMPARE_OP_ALWAYS
+    );
+    this.filter.setStencilOp(
+      back,
+      VK_STENCIL_OP_ZERO,
+      VK_STENCIL_OP_KEEP,
+      VK_STENCIL_OP_KEEP,
+      VK_COMPARE_OP_ALWAYS
+    );
+    this.filter.setStencilOp(
+      both,
+      VK_STENCIL_OP_KEEP,
+      VK_STENCIL_OP_KEEP,
+      VK_STENCIL_OP_KEEP,
+      VK_COMPARE_OP_ALWAYS
+    );
+    this.filter.setStencilOp(
+      back,
+      VK_STENCIL_OP_KEEP,
+      VK_STENCIL_OP_KEEP,
+      VK_STENCIL_OP_KEEP,
+      VK_COMPARE_OP_ALWAYS
+    );
+
+    assertEquals(1L, this.filter.elidedCount());
+    assertEquals(3L, this.filter.forwardedCount());
+
+    this.filter.resetCounters();
+    for (int index = 0; index < 3; ++index) {
+      this.filter.setVertexInput(
+        List.of(
+          VulkanVertexInputBindingDescription.builder()
+            .setBinding(0)
+            .setStride(16)
+            .build()
+        ),
+        List.of(
+          VulkanVertexInputAttributeDescription.builder()
+            .setBinding(0)
+            .setLocation(0)
+            .build()
+        )
+      );
+    }
+    this.filter.setVertexInput(List.of(), List.of());
+
+    assertEquals(2L, this.filter.elidedCount());
+    assertEquals(2L, this.filter.forwardedCount());
+  }
+
+  /**
+   * Binding shader objects forgets the bound pipeline.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testShadersForgetPipeline()
+    throws Exception
+  {
+    final var shader =
+      Mockito.mock(VulkanShaderObjectType.class);
+
+    this.filter.bindPipeline(VK_PIPELINE_BIND_POINT_GRAPHICS, this.pipeline0);
+    this.filter.bindShaders(
+      List.of(VK_SHADER_STAGE_VERTEX_BIT),
+      List.of(Optional.of(shader))
+    );
+    this.filter.bindPipeline(VK_PIPELINE_BIND_POINT_GRAPHICS, this.pipeline0);
+
+    Mockito.verify(this.commandBuffer, Mockito.times(2))
+      .bindPipeline(VK_PIPELINE_BIND_POINT_GRAPHICS, this.pipeline0);
+  }
+}
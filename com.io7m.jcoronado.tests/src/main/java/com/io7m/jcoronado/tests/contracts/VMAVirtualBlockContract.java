@@ -0,0 +1,347 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.tests.contracts;
+
+import com.io7m.jcoronado.api.VulkanDestroyedException;
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.vma.VMAVirtualAllocation;
+import com.io7m.jcoronado.vma.VMAVirtualAllocationCreateInfo;
+import com.io7m.jcoronado.vma.VMAVirtualBlockCreateInfo;
+import com.io7m.jcoronado.vma.VMAVirtualBlockProviderType;
+import com.io7m.jcoronado.vma.VMAVirtualBlockType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.io7m.jcoronado.vma.VMAVirtualAllocationCreateFlag.VMA_VIRTUAL_ALLOCATION_CREATE_STRATEGY_MIN_OFFSET_BIT;
+import static com.io7m.jcoronado.vma.VMAVirtualAllocationCreateFlag.VMA_VIRTUAL_ALLOCATION_CREATE_UPPER_ADDRESS_BIT;
+import static com.io7m.jcoronado.vma.VMAVirtualBlockCreateFlag.VMA_VIRTUAL_BLOCK_CREATE_LINEAR_ALGORITHM_BIT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public abstract class VMAVirtualBlockContract
+{
+  private final List<VMAVirtualBlockType> blocks = new ArrayList<>();
+
+  protected abstract VMAVirtualBlockProviderType provider();
+
+  private VMAVirtualBlockType block(
+    final VMAVirtualBlockCreateInfo info)
+    throws VulkanException
+  {
+    final var block = this.provider().createVirtualBlock(info);
+    this.blocks.add(block);
+    return block;
+  }
+
+  private static VMAVirtualAllocationCreateInfo request(
+    final long size,
+    final long alignment)
+  {
+    return VMAVirtualAllocationCreateInfo.builder()
+      .setSize(size)
+      .setAlignment(alignment)
+      .build();
+  }
+
+  private static void checkDisjoint(
+    final long blockSize,
+    final List<VMAVirtualAllocation> allocations)
+  {
+    final var sorted = new ArrayList<>(allocations);
+    sorted.sort(Comparator.comparingLong(VMAVirtualAllocation::offset));
+
+    var end = 0L;
+    for (final var allocation : sorted) {
+      assertTrue(
+        allocation.offset() >= end,
+        "Allocation %s must not overlap".formatted(allocation));
+      end = allocation.offset() + allocation.size();
+    }
+    assertTrue(end <= blockSize, "Allocations must lie within the block");
+  }
+
+  @AfterEach
+  public final void tearDown()
+    throws VulkanException
+  {
+    for (final var block : this.blocks) {
+      block.close();
+    }
+  }
+
+  /**
+   * Allocations respect alignment and never overlap under random churn.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testChurn()
+    throws Exception
+  {
+    final var size = 1L << 20;
+    final var block =
+      this.block(VMAVirtualBlockCreateInfo.builder().setSize(size).build());
+
+    final var random = new Random(0x5eedL);
+    final var live = new ArrayList<VMAVirtualAllocation>();
+
+    for (int step = 0; step < 10_000; ++step) {
+      if (!live.isEmpty() && random.nextInt(3) == 0) {
+        block.free(live.remove(random.nextInt(live.size())));
+        continue;
+      }
+
+      final var alignment = 1L << random.nextInt(9);
+      final var request = request(1L + random.nextInt(4096), alignment);
+      final var result = block.allocate(request);
+      if (result.isPresent()) {
+        final var allocation = result.get();
+        assertEquals(0L, allocation.offset() % alignment);
+        assertEquals(request.size(), allocation.size());
+        live.add(allocation);
+      }
+    }
+
+    checkDisjoint(size, live);
+
+    final var stats = block.statistics();
+    assertEquals(live.size(), stats.allocationCount());
+    assertEquals(
+      live.stream().mapToLong(VMAVirtualAllocation::size).sum(),
+      stats.allocationBytes());
+    assertEquals(size, stats.blockBytes());
+
+    for (final var allocation : live) {
+      block.free(allocation);
+    }
+    assertTrue(block.isEmpty());
+
+    final var detailed = block.calculateStatistics();
+    assertEquals(1L, detailed.unusedRangeCount());
+    assertEquals(size, detailed.unusedRangeSizeMax());
+  }
+
+  /**
+   * A full block reports exhaustion, and freed space can be reused.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testExhaustion()
+    throws Exception
+  {
+    final var block =
+      this.block(VMAVirtualBlockCreateInfo.builder().setSize(1024L).build());
+
+    final var a = block.allocate(request(512L, 1L)).orElseThrow();
+    final var b = block.allocate(request(512L, 1L)).orElseThrow();
+    checkDisjoint(1024L, List.of(a, b));
+
+    assertTrue(block.allocate(request(1L, 1L)).isEmpty());
+
+    block.free(a);
+    final var c = block.allocate(request(256L, 1L)).orElseThrow();
+    checkDisjoint(1024L, List.of(b, c));
+    assertFalse(block.isEmpty());
+  }
+
+  /**
+   * Lowest-offset allocations are packed from the start of the block.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testMinOffset()
+    throws Exception
+  {
+    final var block =
+      this.block(VMAVirtualBlockCreateInfo.builder().setSize(4096L).build());
+
+    final var request =
+      VMAVirtualAllocationCreateInfo.builder()
+        .setSize(64L)
+        .addFlags(VMA_VIRTUAL_ALLOCATION_CREATE_STRATEGY_MIN_OFFSET_BIT)
+        .build();
+
+    final var a = block.allocate(request).orElseThrow();
+    final var b = block.allocate(request).orElseThrow();
+    assertEquals(0L, a.offset());
+    assertEquals(64L, b.offset());
+
+    block.free(a);
+    assertEquals(0L, block.allocate(request).orElseThrow().offset());
+  }
+
+  /**
+   * Upper address allocations are placed at the end of linear blocks, and
+   * are rejected for other blocks.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testUpperAddress()
+    throws Exception
+  {
+    final var request =
+      VMAVirtualAllocationCreateInfo.builder()
+        .setSize(64L)
+        .addFlags(VMA_VIRTUAL_ALLOCATION_CREATE_UPPER_ADDRESS_BIT)
+        .build();
+
+    final var general =
+      this.block(VMAVirtualBlockCreateInfo.builder().setSize(4096L).build());
+    assertThrows(IllegalArgumentException.class, () -> general.allocate(request));
+
+    final var linear =
+      this.block(
+        VMAVirtualBlockCreateInfo.builder()
+          .setSize(4096L)
+          .addFlags(VMA_VIRTUAL_BLOCK_CREATE_LINEAR_ALGORITHM_BIT)
+          .build());
+
+    final var top = linear.allocate(request).orElseThrow();
+    final var bottom = linear.allocate(request(64L, 1L)).orElseThrow();
+    assertEquals(4096L - 64L, top.offset());
+    assertEquals(0L, bottom.offset());
+  }
+
+  /**
+   * Freeing an allocation twice is rejected.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testDoubleFree()
+    throws Exception
+  {
+    final var block =
+      this.block(VMAVirtualBlockCreateInfo.builder().setSize(1024L).build());
+
+    final var a = block.allocate(request(16L, 1L)).orElseThrow();
+    block.free(a);
+    assertThrows(IllegalArgumentException.class, () -> block.free(a));
+  }
+
+  /**
+   * Clearing a block frees everything at once.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testClear()
+    throws Exception
+  {
+    final var block =
+      this.block(VMAVirtualBlockCreateInfo.builder().setSize(1024L).build());
+
+    for (int index = 0; index < 8; ++index) {
+      block.allocate(request(128L, 1L)).orElseThrow();
+    }
+    assertTrue(block.allocate(request(1L, 1L)).isEmpty());
+
+    block.clear();
+    assertTrue(block.isEmpty());
+    assertEquals(0L, block.statistics().allocationCount());
+    assertTrue(block.allocate(request(1024L, 1L)).isPresent());
+  }
+
+  /**
+   * Closed blocks reject all operations.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testClosed()
+    throws Exception
+  {
+    final var block =
+      this.block(VMAVirtualBlockCreateInfo.builder().setSize(1024L).build());
+
+    block.close();
+    assertTrue(block.isClosed());
+    assertThrows(VulkanDestroyedException.class, () -> {
+      block.allocate(request(16L, 1L));
+    });
+    assertThrows(VulkanDestroyedException.class, block::statistics);
+  }
+
+  /**
+   * A block can be used from many threads at once.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testConcurrent()
+    throws Exception
+  {
+    final var size = 1L << 22;
+    final var block =
+      this.block(VMAVirtualBlockCreateInfo.builder().setSize(size).build());
+
+    final var threads = 4;
+    try (var executor = Executors.newFixedThreadPool(threads)) {
+      final var futures = new ArrayList<Future<List<VMAVirtualAllocation>>>();
+      for (int thread = 0; thread < threads; ++thread) {
+        final var seed = thread;
+        futures.add(executor.submit(() -> {
+          final var random = new Random(seed);
+          final var live = new ArrayList<VMAVirtualAllocation>();
+          for (int step = 0; step < 5_000; ++step) {
+            if (!live.isEmpty() && random.nextBoolean()) {
+              block.free(live.remove(random.nextInt(live.size())));
+            } else {
+              block.allocate(request(1L + random.nextInt(1024), 16L))
+                .ifPresent(live::add);
+            }
+          }
+          return live;
+        }));
+      }
+
+      final var all = new ArrayList<VMAVirtualAllocation>();
+      for (final var future : futures) {
+        all.addAll(future.get());
+      }
+
+      checkDisjoint(size, all);
+      assertEquals(all.size(), block.statistics().allocationCount());
+
+      for (final var allocation : all) {
+        block.free(allocation);
+      }
+      assertTrue(block.isEmpty());
+    }
+  }
+}
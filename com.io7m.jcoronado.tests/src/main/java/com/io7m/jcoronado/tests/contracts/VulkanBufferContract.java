@@ -18,6 +18,14 @@ package com.io7m.jcoronado.tests.contracts;
 
 import com.io7m.jcoronado.api.VulkanBufferCreateInfo;
 import com.io7m.jcoronado.api.VulkanBufferType;
+import com.io7m.jcoronado.api.VulkanCommandBufferType;
+import com.io7m.jcoronado.api.VulkanCommandPoolCreateInfo;
+import com.io7m.jcoronado.api.VulkanDescriptorPoolCreateInfo;
+import com.io7m.jcoronado.api.VulkanDescriptorPoolSize;
+import com.io7m.jcoronado.api.VulkanDescriptorSetAllocateInfo;
+import com.io7m.jcoronado.api.VulkanDescriptorSetLayoutBinding;
+import com.io7m.jcoronado.api.VulkanDescriptorSetLayoutCreateInfo;
+import com.io7m.jcoronado.api.VulkanDescriptorSetType;
 import com.io7m.jcoronado.api.VulkanDeviceMemoryType;
 import com.io7m.jcoronado.api.VulkanException;
 import com.io7m.jcoronado.api.VulkanInstanceType;
@@ -25,18 +33,34 @@ import com.io7m.jcoronado.api.VulkanLogicalDeviceType;
 import com.io7m.jcoronado.api.VulkanMemoryAllocateFlag;
 import com.io7m.jcoronado.api.VulkanMemoryAllocateInfo;
 import com.io7m.jcoronado.api.VulkanPhysicalDeviceType;
+import com.io7m.jcoronado.api.VulkanPipelineLayoutCreateInfo;
+import com.io7m.jcoronado.api.VulkanPipelineLayoutType;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
 import java.util.Set;
 
 import static com.io7m.jcoronado.api.VulkanBufferUsageFlag.VK_BUFFER_USAGE_SHADER_DEVICE_ADDRESS_BIT;
 import static com.io7m.jcoronado.api.VulkanBufferUsageFlag.VK_BUFFER_USAGE_VERTEX_BUFFER_BIT;
+import static com.io7m.jcoronado.api.VulkanCommandBufferLevel.VK_COMMAND_BUFFER_LEVEL_PRIMARY;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER_DYNAMIC;
 import static com.io7m.jcoronado.api.VulkanMemoryAllocateFlag.VK_MEMORY_ALLOCATE_DEVICE_ADDRESS_BIT;
+import static com.io7m.jcoronado.api.VulkanPipelineBindPoint.VK_PIPELINE_BIND_POINT_GRAPHICS;
+import static com.io7m.jcoronado.api.VulkanShaderStageFlag.VK_SHADER_STAGE_VERTEX_BIT;
 import static com.io7m.jcoronado.api.VulkanSharingMode.VK_SHARING_MODE_EXCLUSIVE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 public abstract class VulkanBufferContract extends VulkanOnDeviceContract
@@ -191,4 +215,229 @@ public abstract class VulkanBufferContract extends VulkanOnDeviceContract
     Assertions.assertTrue(escaped_buffer.isClosed(), "Buffer is destroyed");
     Assertions.assertTrue(escaped_memory.isClosed(), "Memory is destroyed");
   }
+
+  /**
+   * Binding vertex buffers and descriptor sets using the primitive overloads
+   * does not allocate once the JIT has warmed up.
+   *
+   * @throws VulkanException On errors
+   */
+
+  @Test
+  public final void testBindVertexBuffersAllocationFree()
+    throws VulkanException
+  {
+    Assumptions.assumeTrue(this.shouldRun(), "Test should run");
+
+    final var threads =
+      ManagementFactory.getThreadMXBean();
+    Assumptions.assumeTrue(
+      threads instanceof com.sun.management.ThreadMXBean,
+      "Thread allocation counters are available"
+    );
+    final var allocations =
+      (com.sun.management.ThreadMXBean) threads;
+
+    final var queue =
+      this.device.queues()
+        .get(0);
+
+    final var buffer_info =
+      VulkanBufferCreateInfo.builder()
+        .addQueueFamilyIndices(queue.queueFamilyIndex())
+        .addUsageFlags(VK_BUFFER_USAGE_VERTEX_BUFFER_BIT)
+        .setSharingMode(VK_SHARING_MODE_EXCLUSIVE)
+        .setSize(100L)
+        .build();
+
+    try (var buffer = this.device.createBuffer(buffer_info)) {
+      final var requirements =
+        this.device.getBufferMemoryRequirements(buffer);
+      final var memory_type =
+        this.physical_device.memory().findSuitableMemoryType(
+          requirements,
+          Set.of());
+
+      try (var memory = this.device.allocateMemory(
+        VulkanMemoryAllocateInfo.builder()
+          .setMemoryTypeIndex(memory_type.index())
+          .setSize(requirements.size())
+          .build())) {
+        this.device.bindBufferMemory(buffer, memory, 0L);
+
+        try (var pool = this.device.createCommandPool(
+          VulkanCommandPoolCreateInfo.builder()
+            .setQueueFamilyIndex(queue.queueFamilyIndex())
+            .build())) {
+
+          try (var commands =
+                 this.device.createCommandBuffer(
+                   pool,
+                   VK_COMMAND_BUFFER_LEVEL_PRIMARY);
+               var setLayout =
+                 this.device.createDescriptorSetLayout(
+                   VulkanDescriptorSetLayoutCreateInfo.builder()
+                     .addBindings(
+                       VulkanDescriptorSetLayoutBinding.builder()
+                         .setBinding(0)
+                         .setDescriptorType(
+                           VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER_DYNAMIC)
+                         .setDescriptorCount(1)
+                         .addStageFlags(VK_SHADER_STAGE_VERTEX_BIT)
+                         .build())
+                     .build());
+               var plainSetLayout =
+                 this.device.createDescriptorSetLayout(
+                   VulkanDescriptorSetLayoutCreateInfo.builder()
+                     .addBindings(
+                       VulkanDescriptorSetLayoutBinding.builder()
+                         .setBinding(0)
+                         .setDescriptorType(VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER)
+                         .setDescriptorCount(1)
+                         .addStageFlags(VK_SHADER_STAGE_VERTEX_BIT)
+                         .build())
+                     .build());
+               var setPool =
+                 this.device.createDescriptorPool(
+                   VulkanDescriptorPoolCreateInfo.builder()
+                     .setMaxSets(2)
+                     .addPoolSizes(
+                       VulkanDescriptorPoolSize.builder()
+                         .setType(VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER_DYNAMIC)
+                         .setDescriptorCount(1)
+                         .build())
+                     .addPoolSizes(
+                       VulkanDescriptorPoolSize.builder()
+                         .setType(VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER)
+                         .setDescriptorCount(1)
+                         .build())
+                     .build());
+               var layout =
+                 this.device.createPipelineLayout(
+                   VulkanPipelineLayoutCreateInfo.builder()
+                     .addSetLayouts(setLayout)
+                     .addSetLayouts(plainSetLayout)
+                     .build());
+               var arena = Arena.ofConfined()) {
+
+            final var allocated =
+              this.device.allocateDescriptorSets(
+                VulkanDescriptorSetAllocateInfo.builder()
+                  .setDescriptorPool(setPool)
+                  .addSetLayouts(setLayout)
+                  .addSetLayouts(plainSetLayout)
+                  .build()
+              );
+            final var set = allocated.get(0);
+            final var plainSet = allocated.get(1);
+
+            final var buffers =
+              new VulkanBufferType[]{buffer, buffer};
+            final var offsets =
+              new long[]{0L, 16L};
+            final var offsetsDirect =
+              ByteBuffer.allocateDirect(16)
+                .order(ByteOrder.nativeOrder())
+                .asLongBuffer()
+                .put(0, 0L)
+                .put(1, 16L);
+            final var offsetsSegment =
+              arena.allocate(ValueLayout.JAVA_LONG, 2L);
+            offsetsSegment.setAtIndex(ValueLayout.JAVA_LONG, 1L, 16L);
+
+            final var sets =
+              new VulkanDescriptorSetType[]{set};
+            final var dynamicOffsets =
+              new int[]{0};
+            final var dynamicOffsetsDirect =
+              ByteBuffer.allocateDirect(4)
+                .order(ByteOrder.nativeOrder())
+                .asIntBuffer()
+                .put(0, 0);
+            final var dynamicOffsetsSegment =
+              arena.allocate(ValueLayout.JAVA_INT, 1L);
+
+            commands.beginCommandBuffer();
+
+            for (int index = 0; index < 100_000; ++index) {
+              bindAll(
+                commands,
+                buffer,
+                buffers,
+                offsets,
+                offsetsDirect,
+                offsetsSegment,
+                layout,
+                sets,
+                plainSet,
+                dynamicOffsets,
+                dynamicOffsetsDirect,
+                dynamicOffsetsSegment
+              );
+            }
+
+            final var threadId =
+              Thread.currentThread().threadId();
+            final var before =
+              allocations.getThreadAllocatedBytes(threadId);
+
+            for (int index = 0; index < 1_000; ++index) {
+              bindAll(
+                commands,
+                buffer,
+                buffers,
+                offsets,
+                offsetsDirect,
+                offsetsSegment,
+                layout,
+                sets,
+                plainSet,
+                dynamicOffsets,
+                dynamicOffsetsDirect,
+                dynamicOffsetsSegment
+              );
+            }
+
+            final var after =
+              allocations.getThreadAllocatedBytes(threadId);
+
+            commands.endCommandBuffer();
+
+            this.logger().debug("allocated: {}", after - before);
+            assertEquals(0L, after - before);
+          }
+        }
+      }
+    }
+  }
+
+  private static void bindAll(
+    final VulkanCommandBufferType commands,
+    final VulkanBufferType buffer,
+    final VulkanBufferType[] buffers,
+    final long[] offsets,
+    final LongBuffer offsetsDirect,
+    final MemorySegment offsetsSegment,
+    final VulkanPipelineLayoutType layout,
+    final VulkanDescriptorSetType[] sets,
+    final VulkanDescriptorSetType plainSet,
+    final int[] dynamicOffsets,
+    final IntBuffer dynamicOffsetsDirect,
+    final MemorySegment dynamicOffsetsSegment)
+    throws VulkanException
+  {
+    commands.bindVertexBuffer(0, buffer, 0L);
+    commands.bindVertexBuffers(0, buffers, offsets);
+    commands.bindVertexBuffers(0, buffers, offsetsDirect);
+    commands.bindVertexBuffers(0, buffers, offsetsSegment);
+
+    commands.bindDescriptorSets(
+      VK_PIPELINE_BIND_POINT_GRAPHICS, layout, 0, sets, dynamicOffsets);
+    commands.bindDescriptorSets(
+      VK_PIPELINE_BIND_POINT_GRAPHICS, layout, 0, sets, dynamicOffsetsDirect);
+    commands.bindDescriptorSets(
+      VK_PIPELINE_BIND_POINT_GRAPHICS, layout, 0, sets, dynamicOffsetsSegment);
+    commands.bindDescriptorSet(
+      VK_PIPELINE_BIND_POINT_GRAPHICS, layout, 1, plainSet);
+  }
 }
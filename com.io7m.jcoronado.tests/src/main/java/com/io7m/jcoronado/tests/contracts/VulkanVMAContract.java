@@ -18,6 +18,7 @@ package com.io7m.jcoronado.tests.contracts;
 
 import com.io7m.jcoronado.api.VulkanBufferCreateInfo;
 import com.io7m.jcoronado.api.VulkanBufferType;
+import com.io7m.jcoronado.api.VulkanDestroyedException;
 import com.io7m.jcoronado.api.VulkanDeviceMemoryType;
 import com.io7m.jcoronado.api.VulkanException;
 import com.io7m.jcoronado.api.VulkanInstanceType;
@@ -26,16 +27,24 @@ import com.io7m.jcoronado.api.VulkanMemoryAllocateInfo;
 import com.io7m.jcoronado.api.VulkanPhysicalDeviceType;
 import com.io7m.jcoronado.lwjgl.VMALWJGLAllocatorProvider;
 import com.io7m.jcoronado.vma.VMAAllocationCreateInfo;
+import com.io7m.jcoronado.vma.VMAAllocationResult;
+import com.io7m.jcoronado.vma.VMAAllocationType;
 import com.io7m.jcoronado.vma.VMAAllocatorCreateInfo;
 import com.io7m.jcoronado.vma.VMAAllocatorType;
+import com.io7m.jcoronado.vma.VMADefragmentationInfo;
+import com.io7m.jcoronado.vma.VMADefragmentationMoveBuffer;
+import com.io7m.jcoronado.vma.VMAPoolCreateInfo;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.OptionalInt;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.io7m.jcoronado.api.VulkanBufferUsageFlag.VK_BUFFER_USAGE_SHADER_DEVICE_ADDRESS_BIT;
 import static com.io7m.jcoronado.api.VulkanBufferUsageFlag.VK_BUFFER_USAGE_STORAGE_BUFFER_BIT;
@@ -43,7 +52,9 @@ import static com.io7m.jcoronado.api.VulkanBufferUsageFlag.VK_BUFFER_USAGE_VERTE
 import static com.io7m.jcoronado.api.VulkanMemoryAllocateFlag.VK_MEMORY_ALLOCATE_DEVICE_ADDRESS_BIT;
 import static com.io7m.jcoronado.api.VulkanMemoryPropertyFlag.VK_MEMORY_PROPERTY_HOST_VISIBLE_BIT;
 import static com.io7m.jcoronado.api.VulkanSharingMode.VK_SHARING_MODE_EXCLUSIVE;
+import static com.io7m.jcoronado.vma.VMADefragmentationFlag.VMA_DEFRAGMENTATION_FLAG_ALGORITHM_FULL_BIT;
 import static com.io7m.jcoronado.vma.VMAMemoryUsage.VMA_MEMORY_USAGE_GPU_ONLY;
+import static com.io7m.jcoronado.vma.VMAPoolCreateFlag.VMA_POOL_CREATE_LINEAR_ALGORITHM_BIT;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 public abstract class VulkanVMAContract extends VulkanOnDeviceContract
@@ -121,4 +132,274 @@ public abstract class VulkanVMAContract extends VulkanOnDeviceContract
 
     allocation.allocation().close();
   }
+
+  @Test
+  public final void testBufferCreateLinearPool()
+    throws VulkanException
+  {
+    Assumptions.assumeTrue(this.shouldRun(), "Test should run");
+
+    final var bufferInfo =
+      VulkanBufferCreateInfo.builder()
+        .setSize(256L)
+        .addUsageFlags(VK_BUFFER_USAGE_STORAGE_BUFFER_BIT)
+        .setSharingMode(VK_SHARING_MODE_EXCLUSIVE)
+        .build();
+
+    final var memoryTypeIndex =
+      this.vmaAllocator.findMemoryTypeIndexForBufferInfo(
+        VMAAllocationCreateInfo.builder()
+          .addRequiredFlags(VK_MEMORY_PROPERTY_HOST_VISIBLE_BIT)
+          .build(),
+        bufferInfo
+      );
+
+    try (var pool = this.vmaAllocator.createPool(
+      VMAPoolCreateInfo.builder()
+        .setMemoryTypeIndex(memoryTypeIndex)
+        .addFlags(VMA_POOL_CREATE_LINEAR_ALGORITHM_BIT)
+        .setBlockSize(65536L)
+        .setMaxBlockCount(1L)
+        .build())) {
+
+      final var vmaInfo =
+        VMAAllocationCreateInfo.builder()
+          .setPool(pool)
+          .build();
+
+      final var a0 =
+        this.vmaAllocator.createBuffer(vmaInfo, bufferInfo);
+      final var a1 =
+        this.vmaAllocator.createBuffer(vmaInfo, bufferInfo);
+
+      final var i0 = a0.allocation().info();
+      final var i1 = a1.allocation().info();
+      Assertions.assertEquals(memoryTypeIndex, i0.memoryType());
+      Assertions.assertEquals(memoryTypeIndex, i1.memoryType());
+      Assertions.assertEquals(i0.deviceMemory(), i1.deviceMemory());
+      Assertions.assertTrue(i1.offset() >= i0.offset() + i0.size());
+
+      a1.allocation().close();
+      a0.allocation().close();
+    }
+  }
+
+  /**
+   * Closing a pool with live allocations fails, and the pool rejects new
+   * allocations. Pools cannot be used with other allocators.
+   *
+   * @throws VulkanException On errors
+   */
+
+  @Test
+  public final void testPoolLiveAllocations()
+    throws VulkanException
+  {
+    Assumptions.assumeTrue(this.shouldRun(), "Test should run");
+
+    final var bufferInfo =
+      VulkanBufferCreateInfo.builder()
+        .setSize(256L)
+        .addUsageFlags(VK_BUFFER_USAGE_STORAGE_BUFFER_BIT)
+        .setSharingMode(VK_SHARING_MODE_EXCLUSIVE)
+        .build();
+
+    final var memoryTypeIndex =
+      this.vmaAllocator.findMemoryTypeIndexForBufferInfo(
+        VMAAllocationCreateInfo.builder()
+          .addRequiredFlags(VK_MEMORY_PROPERTY_HOST_VISIBLE_BIT)
+          .build(),
+        bufferInfo
+      );
+
+    final var pool =
+      this.vmaAllocator.createPool(
+        VMAPoolCreateInfo.builder()
+          .setMemoryTypeIndex(memoryTypeIndex)
+          .setBlockSize(65536L)
+          .build()
+      );
+
+    final var vmaInfo =
+      VMAAllocationCreateInfo.builder()
+        .setPool(pool)
+        .build();
+
+    try (var otherAllocator = this.createAllocator(this.device)) {
+      Assertions.assertThrows(IllegalArgumentException.class, () -> {
+        otherAllocator.createBuffer(vmaInfo, bufferInfo);
+      });
+    }
+
+    final var a0 =
+      this.vmaAllocator.createBuffer(vmaInfo, bufferInfo);
+
+    Assertions.assertThrows(IllegalStateException.class, pool::close);
+    Assertions.assertTrue(pool.isClosed());
+    Assertions.assertThrows(VulkanDestroyedException.class, () -> {
+      this.vmaAllocator.createBuffer(vmaInfo, bufferInfo);
+    });
+
+    a0.allocation().close();
+    pool.close();
+  }
+
+  @Test
+  public final void testStatistics()
+    throws VulkanException
+  {
+    Assumptions.assumeTrue(this.shouldRun(), "Test should run");
+
+    final var bufferInfo =
+      VulkanBufferCreateInfo.builder()
+        .setSize(1024L)
+        .addUsageFlags(VK_BUFFER_USAGE_STORAGE_BUFFER_BIT)
+        .setSharingMode(VK_SHARING_MODE_EXCLUSIVE)
+        .build();
+
+    final var before =
+      this.vmaAllocator.calculateStatistics();
+    final var allocation =
+      this.vmaAllocator.createBuffer(
+        VMAAllocationCreateInfo.builder()
+          .setUsage(VMA_MEMORY_USAGE_GPU_ONLY)
+          .build(),
+        bufferInfo
+      );
+    final var after =
+      this.vmaAllocator.calculateStatistics();
+
+    Assertions.assertEquals(
+      before.total().statistics().allocationCount() + 1L,
+      after.total().statistics().allocationCount()
+    );
+    Assertions.assertFalse(after.memoryTypes().isEmpty());
+    Assertions.assertFalse(after.memoryHeaps().isEmpty());
+
+    final var budgets = this.vmaAllocator.heapBudgets();
+    Assertions.assertEquals(after.memoryHeaps().size(), budgets.size());
+    for (int index = 0; index < budgets.size(); ++index) {
+      Assertions.assertEquals(index, budgets.get(index).heapIndex());
+    }
+
+    final var text = this.vmaAllocator.buildStatsString(true);
+    Assertions.assertTrue(text.startsWith("{"));
+    Assertions.assertTrue(text.contains("Total"));
+
+    allocation.allocation().close();
+  }
+
+  /**
+   * Heap budgets can be sampled from another thread while the allocator is
+   * closed, and fail cleanly afterwards.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public final void testHeapBudgetsConcurrentClose()
+    throws Exception
+  {
+    Assumptions.assumeTrue(this.shouldRun(), "Test should run");
+
+    final var failure = new AtomicReference<Throwable>();
+    final var sampler = new Thread(() -> {
+      try {
+        while (true) {
+          this.vmaAllocator.heapBudgets();
+        }
+      } catch (final Throwable e) {
+        failure.set(e);
+      }
+    });
+
+    sampler.start();
+    Thread.sleep(10L);
+    this.vmaAllocator.close();
+    sampler.join(10_000L);
+
+    Assertions.assertFalse(sampler.isAlive());
+    Assertions.assertInstanceOf(VulkanDestroyedException.class, failure.get());
+    Assertions.assertThrows(
+      VulkanDestroyedException.class,
+      () -> this.vmaAllocator.heapBudgets()
+    );
+  }
+
+  @Test
+  public final void testDefragmentationRebinds()
+    throws VulkanException
+  {
+    Assumptions.assumeTrue(this.shouldRun(), "Test should run");
+
+    final var bufferInfo =
+      VulkanBufferCreateInfo.builder()
+        .setSize(65536L)
+        .addUsageFlags(VK_BUFFER_USAGE_STORAGE_BUFFER_BIT)
+        .setSharingMode(VK_SHARING_MODE_EXCLUSIVE)
+        .build();
+
+    final var vmaInfo =
+      VMAAllocationCreateInfo.builder()
+        .setUsage(VMA_MEMORY_USAGE_GPU_ONLY)
+        .build();
+
+    final var results =
+      new ArrayList<VMAAllocationResult<VulkanBufferType>>();
+    for (int index = 0; index < 16; ++index) {
+      results.add(this.vmaAllocator.createBuffer(vmaInfo, bufferInfo));
+    }
+    for (int index = 0; index < 16; index += 2) {
+      results.get(index).allocation().close();
+    }
+
+    final var live =
+      new HashMap<VMAAllocationType, VulkanBufferType>();
+    for (int index = 1; index < 16; index += 2) {
+      final var result = results.get(index);
+      live.put(result.allocation(), result.result());
+    }
+
+    try (var context = this.vmaAllocator.beginDefragmentation(
+      VMADefragmentationInfo.builder()
+        .addFlags(VMA_DEFRAGMENTATION_FLAG_ALGORITHM_FULL_BIT)
+        .build())) {
+
+      var passes = 0;
+      while (passes < 16) {
+        final var passOpt = context.beginPass();
+        if (passOpt.isEmpty()) {
+          break;
+        }
+
+        final var pass = passOpt.get();
+        final var moves = pass.moves();
+        for (final var move : moves) {
+          final var bufferMove =
+            Assertions.assertInstanceOf(VMADefragmentationMoveBuffer.class, move);
+          Assertions.assertEquals(live.get(move.allocation()), bufferMove.source());
+          Assertions.assertEquals(65536L, bufferMove.size());
+        }
+
+        final var done = pass.end();
+        for (final var move : moves) {
+          final var bufferMove = (VMADefragmentationMoveBuffer) move;
+          Assertions.assertTrue(bufferMove.source().isClosed());
+          Assertions.assertFalse(bufferMove.target().isClosed());
+          Assertions.assertFalse(move.allocation().isClosed());
+          live.put(move.allocation(), bufferMove.target());
+        }
+
+        ++passes;
+        if (done) {
+          break;
+        }
+      }
+    }
+
+    for (final var entry : live.entrySet()) {
+      entry.getKey().close();
+      Assertions.assertTrue(entry.getValue().isClosed());
+    }
+  }
 }
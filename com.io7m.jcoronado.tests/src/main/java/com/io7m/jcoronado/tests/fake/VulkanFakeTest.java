@@ -17,34 +17,74 @@
 package com.io7m.jcoronado.tests.fake;
 
 import com.io7m.jcoronado.api.VulkanApplicationInfo;
+import com.io7m.jcoronado.api.VulkanBlendConstants;
+import com.io7m.jcoronado.api.VulkanBufferType;
+import com.io7m.jcoronado.api.VulkanCallFailedException;
 import com.io7m.jcoronado.api.VulkanCommandBufferLevel;
 import com.io7m.jcoronado.api.VulkanCommandBufferSubmitInfo;
 import com.io7m.jcoronado.api.VulkanCommandPoolCreateInfo;
 import com.io7m.jcoronado.api.VulkanCommandPoolType;
+import com.io7m.jcoronado.api.VulkanCommandStreamType;
+import com.io7m.jcoronado.api.VulkanDescriptorBufferBindingInfoEXT;
+import com.io7m.jcoronado.api.VulkanDescriptorUpdateTemplateEntry;
+import com.io7m.jcoronado.api.VulkanDescriptorUpdateTemplateType;
+import com.io7m.jcoronado.api.VulkanDeviceAddress;
 import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanExtensionType;
 import com.io7m.jcoronado.api.VulkanExtent3D;
+import com.io7m.jcoronado.api.VulkanIncompatibleClassException;
 import com.io7m.jcoronado.api.VulkanInstanceCreateInfo;
 import com.io7m.jcoronado.api.VulkanInstanceType;
 import com.io7m.jcoronado.api.VulkanLogicalDeviceCreateInfo;
+import com.io7m.jcoronado.api.VulkanMemoryAllocateInfo;
+import com.io7m.jcoronado.api.VulkanMemoryTypeIndex;
+import com.io7m.jcoronado.api.VulkanMissingRequiredExtensionsException;
+import com.io7m.jcoronado.api.VulkanMissingRequiredFeaturesException;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceFeatures14;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceFeatures;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceFeatures12;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceFeaturesMultiDrawEXT;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceLimits;
 import com.io7m.jcoronado.api.VulkanPhysicalDeviceType;
+import com.io7m.jcoronado.api.VulkanPipelineLayoutType;
 import com.io7m.jcoronado.api.VulkanQueueFamilyIndex;
 import com.io7m.jcoronado.api.VulkanQueueFamilyProperties;
 import com.io7m.jcoronado.api.VulkanQueueIndex;
+import com.io7m.jcoronado.api.VulkanRectangle2D;
+import com.io7m.jcoronado.api.VulkanShaderObjectType;
 import com.io7m.jcoronado.api.VulkanSubmitInfo;
+import com.io7m.jcoronado.api.VulkanViewport;
+import com.io7m.jcoronado.fake.VFakeCommandBuffer;
 import com.io7m.jcoronado.fake.VFakeFence;
 import com.io7m.jcoronado.fake.VFakeInstances;
 import com.io7m.jcoronado.fake.VFakeLogicalDevice;
+import com.io7m.jcoronado.fake.VFakePhysicalDevice;
 import com.io7m.jcoronado.fake.VFakeQueue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static com.io7m.jcoronado.api.VulkanBufferUsageFlag.VK_BUFFER_USAGE_RESOURCE_DESCRIPTOR_BUFFER_BIT_EXT;
 import static com.io7m.jcoronado.api.VulkanCommandBufferUsageFlag.VK_COMMAND_BUFFER_USAGE_ONE_TIME_SUBMIT_BIT;
+import static com.io7m.jcoronado.api.VulkanCullModeFlag.VK_CULL_MODE_BACK_BIT;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER;
+import static com.io7m.jcoronado.api.VulkanPipelineBindPoint.VK_PIPELINE_BIND_POINT_GRAPHICS;
+import static com.io7m.jcoronado.api.VulkanPolygonMode.VK_POLYGON_MODE_LINE;
+import static com.io7m.jcoronado.api.VulkanShaderStageFlag.VK_SHADER_STAGE_VERTEX_BIT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public final class VulkanFakeTest
@@ -297,4 +337,531 @@ public final class VulkanFakeTest
     this.device.waitForFences(List.of(fence), false, 1000L);
     assertFalse(fence.isSignalled());
   }
+
+  @Test
+  public void testCommandStreamReplay()
+    throws Exception
+  {
+    final var buffer =
+      (VFakeCommandBuffer) this.device.createCommandBuffer(
+        this.commandPool,
+        VulkanCommandBufferLevel.VK_COMMAND_BUFFER_LEVEL_PRIMARY
+      );
+
+    try (var streamA = this.device.createCommandStream(16L);
+         var streamB = this.device.createCommandStream()) {
+
+      for (int index = 0; index < 1000; ++index) {
+        streamA.setViewport(0, VulkanViewport.builder().build());
+        streamA.setScissor(0, VulkanRectangle2D.ZERO);
+        streamA.draw(3, 1, 0, 0);
+      }
+      assertEquals(3000, streamA.commandCount());
+
+      streamB.setBlendConstants(VulkanBlendConstants.ZERO);
+      streamB.setLineWidth(1.0f);
+      streamB.dispatch(1, 1, 1);
+      streamA.append(streamB);
+      assertEquals(3003, streamA.commandCount());
+
+      buffer.beginCommandBuffer(VK_COMMAND_BUFFER_USAGE_ONE_TIME_SUBMIT_BIT);
+      buffer.executeCommandStream(streamA);
+      buffer.endCommandBuffer();
+      assertEquals(3003L, buffer.streamCommandsExecuted());
+
+      streamA.reset();
+      assertEquals(0, streamA.commandCount());
+      assertEquals(0L, streamA.byteSize());
+    }
+  }
+
+  /**
+   * Streams can be recorded concurrently on separate threads, and then
+   * combined and replayed on a single thread.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testCommandStreamRecordThreaded()
+    throws Exception
+  {
+    final var buffer =
+      (VFakeCommandBuffer) this.device.createCommandBuffer(
+        this.commandPool,
+        VulkanCommandBufferLevel.VK_COMMAND_BUFFER_LEVEL_PRIMARY
+      );
+
+    final var threads = 8;
+    final var perThread = 2000;
+    final var vertexBuffer = Mockito.mock(VulkanBufferType.class);
+    final var futures = new ArrayList<Future<VulkanCommandStreamType>>();
+
+    try (var executor = Executors.newFixedThreadPool(threads)) {
+      for (int thread = 0; thread < threads; ++thread) {
+        futures.add(executor.submit(() -> {
+          final var stream = this.device.createCommandStream(16L);
+          for (int index = 0; index < perThread; ++index) {
+            stream.bindVertexBuffer(0, vertexBuffer, index);
+            stream.draw(3, 1, index, 0);
+          }
+          return stream;
+        }));
+      }
+    }
+
+    try (var combined = this.device.createCommandStream()) {
+      for (final var future : futures) {
+        try (var stream = future.get()) {
+          assertEquals(perThread * 2, stream.commandCount());
+          combined.append(stream);
+        }
+      }
+      assertEquals(threads * perThread * 2, combined.commandCount());
+
+      buffer.beginCommandBuffer(VK_COMMAND_BUFFER_USAGE_ONE_TIME_SUBMIT_BIT);
+      buffer.executeCommandStream(combined);
+      buffer.endCommandBuffer();
+      assertEquals(
+        (long) threads * perThread * 2,
+        buffer.streamCommandsExecuted()
+      );
+    }
+  }
+
+  /**
+   * Streams created by one device cannot be replayed into the command
+   * buffers of another device, or appended to the streams of another device.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testCommandStreamOtherDevice()
+    throws Exception
+  {
+    final var buffer =
+      this.device.createCommandBuffer(
+        this.commandPool,
+        VulkanCommandBufferLevel.VK_COMMAND_BUFFER_LEVEL_PRIMARY
+      );
+
+    try (var otherDevice =
+           new VFakeLogicalDevice((VFakePhysicalDevice) this.physDevice);
+         var stream = this.device.createCommandStream();
+         var otherStream = otherDevice.createCommandStream()) {
+
+      otherStream.draw(3, 1, 0, 0);
+
+      buffer.beginCommandBuffer(VK_COMMAND_BUFFER_USAGE_ONE_TIME_SUBMIT_BIT);
+      assertThrows(VulkanIncompatibleClassException.class, () -> {
+        buffer.executeCommandStream(otherStream);
+      });
+      assertThrows(VulkanIncompatibleClassException.class, () -> {
+        stream.append(otherStream);
+      });
+      buffer.executeCommandStream(stream);
+      buffer.endCommandBuffer();
+    }
+  }
+
+  /**
+   * Vertex buffer bindings recorded into a stream accept more offsets than
+   * buffers, as command buffers do, and reject fewer.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testCommandStreamVertexBufferOffsets()
+    throws Exception
+  {
+    final var vertexBuffer = Mockito.mock(VulkanBufferType.class);
+    final var buffers = new VulkanBufferType[]{vertexBuffer, vertexBuffer};
+
+    try (var stream = this.device.createCommandStream()) {
+      stream.bindVertexBuffers(0, buffers, new long[]{0L, 16L, 32L});
+      assertEquals(1, stream.commandCount());
+
+      assertThrows(IllegalArgumentException.class, () -> {
+        stream.bindVertexBuffers(0, buffers, new long[]{0L});
+      });
+      assertEquals(1, stream.commandCount());
+    }
+  }
+
+  @Test
+  public void testDrawIndirectCountRequiresFeature()
+    throws Exception
+  {
+    final var buffer =
+      this.device.createCommandBuffer(
+        this.commandPool,
+        VulkanCommandBufferLevel.VK_COMMAND_BUFFER_LEVEL_PRIMARY
+      );
+
+    final var indirect = Mockito.mock(VulkanBufferType.class);
+    buffer.beginCommandBuffer(VK_COMMAND_BUFFER_USAGE_ONE_TIME_SUBMIT_BIT);
+
+    assertThrows(VulkanMissingRequiredFeaturesException.class, () -> {
+      buffer.drawIndirectCount(indirect, 0L, indirect, 0L, 16, 16);
+    });
+    assertThrows(VulkanMissingRequiredFeaturesException.class, () -> {
+      buffer.drawIndexedIndirectCount(indirect, 0L, indirect, 0L, 16, 20);
+    });
+
+    ((VFakePhysicalDevice) this.physDevice).setFeatures(
+      VulkanPhysicalDeviceFeatures.builder()
+        .setFeatures12(
+          VulkanPhysicalDeviceFeatures12.builder()
+            .setDrawIndirectCount(true)
+            .build()
+        )
+        .build()
+    );
+
+    buffer.drawIndirectCount(indirect, 0L, indirect, 0L, 16, 16);
+    buffer.drawIndexedIndirectCount(indirect, 0L, indirect, 0L, 16, 20);
+    buffer.dispatchIndirect(indirect, 0L);
+    buffer.endCommandBuffer();
+  }
+
+  @Test
+  public void testMultiDrawRequiresExtensionFeatureAndLimit()
+    throws Exception
+  {
+    final var buffer =
+      this.device.createCommandBuffer(
+        this.commandPool,
+        VulkanCommandBufferLevel.VK_COMMAND_BUFFER_LEVEL_PRIMARY
+      );
+
+    final var ranges = new int[]{0, 3, 3, 3, 6, 3};
+    buffer.beginCommandBuffer(VK_COMMAND_BUFFER_USAGE_ONE_TIME_SUBMIT_BIT);
+
+    assertThrows(VulkanMissingRequiredExtensionsException.class, () -> {
+      buffer.drawMulti(ranges, 1, 0);
+    });
+    assertThrows(VulkanMissingRequiredExtensionsException.class, () -> {
+      buffer.drawMultiIndexed(ranges, 1, 0);
+    });
+
+    this.device.setEnabledExtensions(
+      Map.of("VK_EXT_multi_draw", Mockito.mock(VulkanExtensionType.class))
+    );
+
+    assertThrows(VulkanMissingRequiredFeaturesException.class, () -> {
+      buffer.drawMulti(ranges, 1, 0);
+    });
+    assertThrows(VulkanMissingRequiredFeaturesException.class, () -> {
+      buffer.drawMultiIndexed(ranges, 1, 0);
+    });
+
+    final var fakePhysical = (VFakePhysicalDevice) this.physDevice;
+    fakePhysical.setFeatures(
+      VulkanPhysicalDeviceFeatures.builder()
+        .setFeaturesMultiDrawEXT(
+          VulkanPhysicalDeviceFeaturesMultiDrawEXT.builder()
+            .setMultiDraw(true)
+            .build()
+        )
+        .build()
+    );
+
+    buffer.drawMulti(ranges, 1, 0);
+    buffer.drawMultiIndexed(ranges, 1, 0);
+
+    fakePhysical.setLimits(
+      VulkanPhysicalDeviceLimits.builder()
+        .from(fakePhysical.limits())
+        .setMaxMultiDrawCount(2)
+        .build()
+    );
+
+    assertThrows(IllegalArgumentException.class, () -> {
+      buffer.drawMulti(ranges, 1, 0);
+    });
+    buffer.drawMultiIndexed(ranges, 1, 0);
+    buffer.endCommandBuffer();
+  }
+
+  @Test
+  public void testDescriptorBufferRequiresExtension()
+    throws Exception
+  {
+    final var buffer =
+      this.device.createCommandBuffer(
+        this.commandPool,
+        VulkanCommandBufferLevel.VK_COMMAND_BUFFER_LEVEL_PRIMARY
+      );
+
+    final var layout =
+      Mockito.mock(VulkanPipelineLayoutType.class);
+    final var bindings =
+      List.of(
+        VulkanDescriptorBufferBindingInfoEXT.builder()
+          .setAddress(new VulkanDeviceAddress(0x1000L))
+          .addUsage(VK_BUFFER_USAGE_RESOURCE_DESCRIPTOR_BUFFER_BIT_EXT)
+          .build()
+      );
+
+    buffer.beginCommandBuffer(VK_COMMAND_BUFFER_USAGE_ONE_TIME_SUBMIT_BIT);
+
+    assertThrows(VulkanMissingRequiredExtensionsException.class, () -> {
+      buffer.bindDescriptorBuffers(bindings);
+    });
+    assertThrows(VulkanMissingRequiredExtensionsException.class, () -> {
+      buffer.setDescriptorBufferOffsets(
+        VK_PIPELINE_BIND_POINT_GRAPHICS,
+        layout,
+        0,
+        new int[]{0},
+        new long[]{0L}
+      );
+    });
+
+    this.device.setEnabledExtensions(
+      Map.of(
+        "VK_EXT_descriptor_buffer",
+        Mockito.mock(VulkanExtensionType.class)
+      )
+    );
+
+    buffer.bindDescriptorBuffers(bindings);
+    buffer.setDescriptorBufferOffsets(
+      VK_PIPELINE_BIND_POINT_GRAPHICS,
+      layout,
+      0,
+      new int[]{0},
+      new long[]{0L}
+    );
+    buffer.endCommandBuffer();
+  }
+
+  @Test
+  public void testPushDescriptorsRequireExtension()
+    throws Exception
+  {
+    final var buffer =
+      this.device.createCommandBuffer(
+        this.commandPool,
+        VulkanCommandBufferLevel.VK_COMMAND_BUFFER_LEVEL_PRIMARY
+      );
+
+    final var layout =
+      Mockito.mock(VulkanPipelineLayoutType.class);
+    final var template =
+      pushTemplate();
+
+    buffer.beginCommandBuffer(VK_COMMAND_BUFFER_USAGE_ONE_TIME_SUBMIT_BIT);
+
+    assertThrows(VulkanMissingRequiredExtensionsException.class, () -> {
+      buffer.pushDescriptorSet(
+        VK_PIPELINE_BIND_POINT_GRAPHICS, layout, 0, List.of());
+    });
+    assertThrows(VulkanMissingRequiredExtensionsException.class, () -> {
+      buffer.pushDescriptorSetWithTemplate(
+        template, layout, 0, MemorySegment.ofArray(new byte[56]));
+    });
+    assertThrows(VulkanMissingRequiredExtensionsException.class, () -> {
+      buffer.pushDescriptorSetWithTemplate(
+        template, layout, 0, ByteBuffer.allocate(56));
+    });
+
+    this.device.setEnabledExtensions(
+      Map.of(
+        "VK_KHR_push_descriptor",
+        Mockito.mock(VulkanExtensionType.class)
+      )
+    );
+
+    buffer.pushDescriptorSet(
+      VK_PIPELINE_BIND_POINT_GRAPHICS, layout, 0, List.of());
+    buffer.pushDescriptorSetWithTemplate(
+      template, layout, 0, MemorySegment.ofArray(new byte[56]));
+    buffer.pushDescriptorSetWithTemplate(
+      template, layout, 0, ByteBuffer.allocate(56));
+
+    assertThrows(IndexOutOfBoundsException.class, () -> {
+      buffer.pushDescriptorSetWithTemplate(
+        template, layout, 0, MemorySegment.ofArray(new byte[55]));
+    });
+    assertThrows(IndexOutOfBoundsException.class, () -> {
+      buffer.pushDescriptorSetWithTemplate(
+        template, layout, 0, ByteBuffer.allocate(55));
+    });
+    assertThrows(NullPointerException.class, () -> {
+      buffer.pushDescriptorSet(
+        VK_PIPELINE_BIND_POINT_GRAPHICS, layout, 0, null);
+    });
+    buffer.endCommandBuffer();
+  }
+
+  @Test
+  public void testPushDescriptorsCore()
+    throws Exception
+  {
+    final var buffer =
+      this.device.createCommandBuffer(
+        this.commandPool,
+        VulkanCommandBufferLevel.VK_COMMAND_BUFFER_LEVEL_PRIMARY
+      );
+
+    final var layout =
+      Mockito.mock(VulkanPipelineLayoutType.class);
+
+    ((VFakePhysicalDevice) this.physDevice).setFeatures(
+      VulkanPhysicalDeviceFeatures.builder()
+        .setFeatures14(
+          VulkanPhysicalDeviceFeatures14.builder()
+            .setPushDescriptor(true)
+            .build()
+        )
+        .build()
+    );
+
+    buffer.beginCommandBuffer(VK_COMMAND_BUFFER_USAGE_ONE_TIME_SUBMIT_BIT);
+    buffer.pushDescriptorSet(
+      VK_PIPELINE_BIND_POINT_GRAPHICS, layout, 0, List.of());
+    buffer.pushDescriptorSetWithTemplate(
+      pushTemplate(), layout, 0, ByteBuffer.allocate(56));
+    buffer.endCommandBuffer();
+  }
+
+  /**
+   * A template with two uniform buffers 32 bytes apart, requiring
+   * 32 + 24 = 56 bytes of update data.
+   */
+
+  private static VulkanDescriptorUpdateTemplateType pushTemplate()
+  {
+    final var template =
+      Mockito.mock(
+        VulkanDescriptorUpdateTemplateType.class,
+        Mockito.CALLS_REAL_METHODS
+      );
+
+    Mockito.doReturn(
+      List.of(
+        VulkanDescriptorUpdateTemplateEntry.builder()
+          .setDestinationBinding(0)
+          .setDescriptorCount(2)
+          .setDescriptorType(VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER)
+          .setOffset(0L)
+          .setStride(32L)
+          .build()
+      )
+    ).when(template).entries();
+    return template;
+  }
+
+  @Test
+  public void testExtendedDynamicState3RequiresExtension()
+    throws Exception
+  {
+    final var buffer =
+      this.device.createCommandBuffer(
+        this.commandPool,
+        VulkanCommandBufferLevel.VK_COMMAND_BUFFER_LEVEL_PRIMARY
+      );
+
+    buffer.beginCommandBuffer(VK_COMMAND_BUFFER_USAGE_ONE_TIME_SUBMIT_BIT);
+    buffer.setCullMode(Set.of(VK_CULL_MODE_BACK_BIT));
+    buffer.setDepthTestEnable(true);
+
+    assertThrows(VulkanMissingRequiredExtensionsException.class, () -> {
+      buffer.setPolygonMode(VK_POLYGON_MODE_LINE);
+    });
+    assertThrows(VulkanMissingRequiredExtensionsException.class, () -> {
+      buffer.setVertexInput(List.of(), List.of());
+    });
+
+    this.device.setEnabledExtensions(
+      Map.of(
+        "VK_EXT_extended_dynamic_state3",
+        Mockito.mock(VulkanExtensionType.class),
+        "VK_EXT_vertex_input_dynamic_state",
+        Mockito.mock(VulkanExtensionType.class)
+      )
+    );
+
+    buffer.setPolygonMode(VK_POLYGON_MODE_LINE);
+    buffer.setVertexInput(List.of(), List.of());
+    buffer.endCommandBuffer();
+  }
+
+  @Test
+  public void testShaderObjectRequiresExtension()
+    throws Exception
+  {
+    final var buffer =
+      this.device.createCommandBuffer(
+        this.commandPool,
+        VulkanCommandBufferLevel.VK_COMMAND_BUFFER_LEVEL_PRIMARY
+      );
+
+    final var stages =
+      List.of(VK_SHADER_STAGE_VERTEX_BIT);
+    final List<Optional<VulkanShaderObjectType>> shaders =
+      List.of(Optional.empty());
+
+    buffer.beginCommandBuffer(VK_COMMAND_BUFFER_USAGE_ONE_TIME_SUBMIT_BIT);
+
+    assertThrows(VulkanMissingRequiredExtensionsException.class, () -> {
+      buffer.bindShaders(stages, shaders);
+    });
+
+    this.device.setEnabledExtensions(
+      Map.of("VK_EXT_shader_object", Mockito.mock(VulkanExtensionType.class))
+    );
+
+    buffer.bindShaders(stages, shaders);
+    buffer.endCommandBuffer();
+  }
+
+  /**
+   * Device memory allocations are counted against the
+   * maxMemoryAllocationCount limit, and freeing an allocation makes room for
+   * another.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testAllocateMemoryLimit()
+    throws Exception
+  {
+    final var fakePhysical = (VFakePhysicalDevice) this.physDevice;
+    fakePhysical.setLimits(
+      VulkanPhysicalDeviceLimits.builder()
+        .from(fakePhysical.limits())
+        .setMaxMemoryAllocationCount(2)
+        .build()
+    );
+
+    final var info =
+      VulkanMemoryAllocateInfo.builder()
+        .setMemoryTypeIndex(new VulkanMemoryTypeIndex(0))
+        .setSize(1024L)
+        .build();
+
+    final var m0 = this.device.allocateMemory(info);
+    final var m1 = this.device.allocateMemory(info);
+    assertEquals(2, this.device.memoryAllocationCount());
+
+    assertThrows(VulkanCallFailedException.class, () -> {
+      this.device.allocateMemory(info);
+    });
+
+    m0.close();
+    m0.close();
+    assertTrue(m0.isClosed());
+    assertEquals(1, this.device.memoryAllocationCount());
+
+    final var m2 = this.device.allocateMemory(info);
+    assertFalse(m2.isClosed());
+    m1.close();
+    m2.close();
+    assertEquals(0, this.device.memoryAllocationCount());
+  }
 }
@@ -17,6 +17,8 @@
 package com.io7m.jcoronado.tests.lwjgl;
 
 import com.io7m.jcoronado.api.VulkanCommandBufferBeginInfo;
+import com.io7m.jcoronado.api.VulkanCommandBufferInheritanceInfo;
+import com.io7m.jcoronado.api.VulkanCommandBufferInheritanceRenderingInfo;
 import com.io7m.jcoronado.api.VulkanCommandBufferUsageFlag;
 import com.io7m.jcoronado.api.VulkanEnumMaps;
 import com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLCommandBufferBeginInfos;
@@ -25,11 +27,19 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.lwjgl.system.MemoryStack;
 import org.lwjgl.vulkan.VK10;
+import org.lwjgl.vulkan.VK13;
+import org.lwjgl.vulkan.VkCommandBufferInheritanceRenderingInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
 
+import static com.io7m.jcoronado.api.VulkanCommandBufferUsageFlag.VK_COMMAND_BUFFER_USAGE_RENDER_PASS_CONTINUE_BIT;
+import static com.io7m.jcoronado.api.VulkanFormat.VK_FORMAT_D32_SFLOAT;
+import static com.io7m.jcoronado.api.VulkanFormat.VK_FORMAT_R16G16B16A16_SFLOAT;
+import static com.io7m.jcoronado.api.VulkanFormat.VK_FORMAT_R8G8B8A8_UNORM;
+import static com.io7m.jcoronado.api.VulkanSampleCountFlag.VK_SAMPLE_COUNT_4_BIT;
+
 public final class VulkanLWJGLCommandBufferBeginInfosTest
 {
   private static final Logger LOG = LoggerFactory.getLogger(
@@ -46,6 +56,7 @@ public final class VulkanLWJGLCommandBufferBeginInfosTest
 
   @Test
   public void testCommandPoolCreateInfo()
+    throws Exception
   {
     final var info =
       VulkanCommandBufferBeginInfo.builder()
@@ -68,6 +79,81 @@ public final class VulkanLWJGLCommandBufferBeginInfosTest
         Assertions.assertEquals(
           VulkanEnumMaps.packValues(List.of(VulkanCommandBufferUsageFlag.values())),
           packed.flags());
+      },
+      () -> {
+        Assertions.assertNull(packed.pInheritanceInfo());
+      }
+    );
+  }
+
+  @Test
+  public void testCommandBufferInheritanceRenderingInfo()
+    throws Exception
+  {
+    final var info =
+      VulkanCommandBufferBeginInfo.builder()
+        .addFlags(VK_COMMAND_BUFFER_USAGE_RENDER_PASS_CONTINUE_BIT)
+        .setInheritanceInfo(
+          VulkanCommandBufferInheritanceInfo.builder()
+            .setRenderingInfo(
+              VulkanCommandBufferInheritanceRenderingInfo.builder()
+                .addColorAttachmentFormats(VK_FORMAT_R8G8B8A8_UNORM)
+                .addColorAttachmentFormats(VK_FORMAT_R16G16B16A16_SFLOAT)
+                .setDepthAttachmentFormat(VK_FORMAT_D32_SFLOAT)
+                .setRasterizationSamples(VK_SAMPLE_COUNT_4_BIT)
+                .build()
+            )
+            .build()
+        )
+        .build();
+
+    final var packed =
+      VulkanLWJGLCommandBufferBeginInfos.pack(this.stack, info);
+    final var inheritance =
+      packed.pInheritanceInfo();
+
+    Assertions.assertNotNull(inheritance);
+
+    final var rendering =
+      VkCommandBufferInheritanceRenderingInfo.create(inheritance.pNext());
+
+    Assertions.assertAll(
+      () -> {
+        Assertions.assertEquals(
+          VK10.VK_STRUCTURE_TYPE_COMMAND_BUFFER_INHERITANCE_INFO,
+          inheritance.sType());
+      },
+      () -> {
+        Assertions.assertEquals(0L, inheritance.renderPass());
+      },
+      () -> {
+        Assertions.assertEquals(0L, inheritance.framebuffer());
+      },
+      () -> {
+        Assertions.assertEquals(
+          VK13.VK_STRUCTURE_TYPE_COMMAND_BUFFER_INHERITANCE_RENDERING_INFO,
+          rendering.sType());
+      },
+      () -> {
+        Assertions.assertEquals(2, rendering.colorAttachmentCount());
+      },
+      () -> {
+        Assertions.assertEquals(
+          VK_FORMAT_R16G16B16A16_SFLOAT.value(),
+          rendering.pColorAttachmentFormats().get(1));
+      },
+      () -> {
+        Assertions.assertEquals(
+          VK_FORMAT_D32_SFLOAT.value(),
+          rendering.depthAttachmentFormat());
+      },
+      () -> {
+        Assertions.assertEquals(0, rendering.stencilAttachmentFormat());
+      },
+      () -> {
+        Assertions.assertEquals(
+          VK_SAMPLE_COUNT_4_BIT.value(),
+          rendering.rasterizationSamples());
       }
     );
   }
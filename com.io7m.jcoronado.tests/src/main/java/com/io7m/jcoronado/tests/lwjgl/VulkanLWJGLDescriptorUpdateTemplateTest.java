@@ -0,0 +1,349 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.tests.lwjgl;
+
+import com.io7m.jcoronado.api.VulkanDescriptorUpdateTemplateEntry;
+import com.io7m.jcoronado.api.VulkanDescriptorUpdateTemplateType;
+import com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLBuffer;
+import com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLBufferView;
+import com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLDescriptorUpdateTemplate;
+import com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLImageView;
+import com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLSampler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.lwjgl.vulkan.VkDescriptorBufferInfo;
+import org.lwjgl.vulkan.VkDescriptorImageInfo;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.List;
+
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_COMBINED_IMAGE_SAMPLER;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_SAMPLED_IMAGE;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_SAMPLER;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_UNIFORM_TEXEL_BUFFER;
+import static com.io7m.jcoronado.api.VulkanImageLayout.VK_IMAGE_LAYOUT_GENERAL;
+import static com.io7m.jcoronado.api.VulkanImageLayout.VK_IMAGE_LAYOUT_SHADER_READ_ONLY_OPTIMAL;
+import static java.lang.foreign.ValueLayout.JAVA_LONG_UNALIGNED;
+
+@ExtendWith(MockitoExtension.class)
+public final class VulkanLWJGLDescriptorUpdateTemplateTest
+{
+  /**
+   * The size of update data for {@link #entries()}: the sampler at offset
+   * 128 is the last descriptor.
+   */
+
+  private static final long DATA_SIZE = 128L + 24L;
+
+  private Arena arena;
+  private MemorySegment data;
+  private VulkanLWJGLDescriptorUpdateTemplate template;
+
+  /**
+   * Two uniform buffers with padding between them, a combined image sampler,
+   * a sampled image, two tightly packed texel buffer views, and a sampler.
+   */
+
+  private static List<VulkanDescriptorUpdateTemplateEntry> entries()
+  {
+    return List.of(
+      VulkanDescriptorUpdateTemplateEntry.builder()
+        .setDestinationBinding(0)
+        .setDescriptorType(VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER)
+        .setDescriptorCount(2)
+        .setOffset(0L)
+        .setStride(32L)
+        .build(),
+      VulkanDescriptorUpdateTemplateEntry.builder()
+        .setDestinationBinding(1)
+        .setDescriptorType(VK_DESCRIPTOR_TYPE_COMBINED_IMAGE_SAMPLER)
+        .setOffset(64L)
+        .setStride(24L)
+        .build(),
+      VulkanDescriptorUpdateTemplateEntry.builder()
+        .setDestinationBinding(2)
+        .setDescriptorType(VK_DESCRIPTOR_TYPE_SAMPLED_IMAGE)
+        .setOffset(88L)
+        .setStride(24L)
+        .build(),
+      VulkanDescriptorUpdateTemplateEntry.builder()
+        .setDestinationBinding(3)
+        .setDescriptorType(VK_DESCRIPTOR_TYPE_UNIFORM_TEXEL_BUFFER)
+        .setDescriptorCount(2)
+        .setOffset(112L)
+        .setStride(8L)
+        .build(),
+      VulkanDescriptorUpdateTemplateEntry.builder()
+        .setDestinationBinding(4)
+        .setDescriptorType(VK_DESCRIPTOR_TYPE_SAMPLER)
+        .setOffset(128L)
+        .setStride(24L)
+        .build()
+    );
+  }
+
+  @BeforeEach
+  public void setup()
+  {
+    this.template =
+      Mockito.mock(
+        VulkanLWJGLDescriptorUpdateTemplate.class,
+        Mockito.CALLS_REAL_METHODS
+      );
+    Mockito.doReturn(entries()).when(this.template).entries();
+
+    this.arena =
+      Arena.ofConfined();
+    this.data =
+      this.arena.allocate(DATA_SIZE);
+    this.data.fill((byte) 0xff);
+  }
+
+  @AfterEach
+  public void tearDown()
+  {
+    this.arena.close();
+  }
+
+  /**
+   * The descriptor data sizes match the native structure sizes.
+   */
+
+  @Test
+  public void testStructureSizes()
+  {
+    Assertions.assertEquals(
+      VkDescriptorImageInfo.SIZEOF,
+      VulkanDescriptorUpdateTemplateType.IMAGE_INFO_SIZE);
+    Assertions.assertEquals(
+      VkDescriptorBufferInfo.SIZEOF,
+      VulkanDescriptorUpdateTemplateType.BUFFER_INFO_SIZE);
+    Assertions.assertEquals(
+      Long.BYTES,
+      VulkanDescriptorUpdateTemplateType.BUFFER_VIEW_SIZE);
+
+    Assertions.assertEquals(
+      24L,
+      VulkanDescriptorUpdateTemplateType.descriptorDataSize(
+        VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER));
+    Assertions.assertEquals(
+      24L,
+      VulkanDescriptorUpdateTemplateType.descriptorDataSize(
+        VK_DESCRIPTOR_TYPE_COMBINED_IMAGE_SAMPLER));
+    Assertions.assertEquals(
+      8L,
+      VulkanDescriptorUpdateTemplateType.descriptorDataSize(
+        VK_DESCRIPTOR_TYPE_UNIFORM_TEXEL_BUFFER));
+  }
+
+  /**
+   * Buffers are written as VkDescriptorBufferInfo structures at the entry
+   * offset plus the element index times the stride, leaving padding alone.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testWriteBuffer(
+    final @Mock VulkanLWJGLBuffer buffer0,
+    final @Mock VulkanLWJGLBuffer buffer1)
+    throws Exception
+  {
+    Mockito.when(buffer0.handle())
+      .thenReturn(Long.valueOf(0x100L));
+    Mockito.when(buffer1.handle())
+      .thenReturn(Long.valueOf(0x101L));
+
+    this.template.writeBuffer(this.data, 0, 0, buffer0, 16L, 256L);
+    this.template.writeBuffer(this.data, 0, 1, buffer1, 32L, 512L);
+
+    final var info0 =
+      VkDescriptorBufferInfo.create(this.data.address());
+    final var info1 =
+      VkDescriptorBufferInfo.create(this.data.address() + 32L);
+
+    Assertions.assertEquals(0x100L, info0.buffer());
+    Assertions.assertEquals(16L, info0.offset());
+    Assertions.assertEquals(256L, info0.range());
+    Assertions.assertEquals(-1L, this.data.get(JAVA_LONG_UNALIGNED, 24L));
+    Assertions.assertEquals(0x101L, info1.buffer());
+    Assertions.assertEquals(32L, info1.offset());
+    Assertions.assertEquals(512L, info1.range());
+  }
+
+  /**
+   * Combined image samplers are written as complete VkDescriptorImageInfo
+   * structures.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testWriteCombinedImageSampler(
+    final @Mock VulkanLWJGLSampler sampler,
+    final @Mock VulkanLWJGLImageView view)
+    throws Exception
+  {
+    Mockito.when(sampler.handle())
+      .thenReturn(Long.valueOf(0x200L));
+    Mockito.when(view.handle())
+      .thenReturn(Long.valueOf(0x201L));
+
+    this.template.writeCombinedImageSampler(
+      this.data, 1, 0, sampler, view, VK_IMAGE_LAYOUT_SHADER_READ_ONLY_OPTIMAL);
+
+    final var info =
+      VkDescriptorImageInfo.create(this.data.address() + 64L);
+
+    Assertions.assertEquals(0x200L, info.sampler());
+    Assertions.assertEquals(0x201L, info.imageView());
+    Assertions.assertEquals(
+      VK_IMAGE_LAYOUT_SHADER_READ_ONLY_OPTIMAL.value(), info.imageLayout());
+  }
+
+  /**
+   * Images are written as VkDescriptorImageInfo structures with a null
+   * sampler.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testWriteImage(
+    final @Mock VulkanLWJGLImageView view)
+    throws Exception
+  {
+    Mockito.when(view.handle())
+      .thenReturn(Long.valueOf(0x300L));
+
+    this.template.writeImage(this.data, 2, 0, view, VK_IMAGE_LAYOUT_GENERAL);
+
+    final var info =
+      VkDescriptorImageInfo.create(this.data.address() + 88L);
+
+    Assertions.assertEquals(0L, info.sampler());
+    Assertions.assertEquals(0x300L, info.imageView());
+    Assertions.assertEquals(
+      VK_IMAGE_LAYOUT_GENERAL.value(), info.imageLayout());
+  }
+
+  /**
+   * Samplers are written as VkDescriptorImageInfo structures with a null
+   * image view.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testWriteSampler(
+    final @Mock VulkanLWJGLSampler sampler)
+    throws Exception
+  {
+    Mockito.when(sampler.handle())
+      .thenReturn(Long.valueOf(0x400L));
+
+    this.template.writeSampler(this.data, 4, 0, sampler);
+
+    final var info =
+      VkDescriptorImageInfo.create(this.data.address() + 128L);
+
+    Assertions.assertEquals(0x400L, info.sampler());
+    Assertions.assertEquals(0L, info.imageView());
+    Assertions.assertEquals(0, info.imageLayout());
+  }
+
+  /**
+   * Buffer views are written as tightly packed 8-byte handles.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testWriteBufferView(
+    final @Mock VulkanLWJGLBufferView view0,
+    final @Mock VulkanLWJGLBufferView view1)
+    throws Exception
+  {
+    Mockito.when(view0.handle())
+      .thenReturn(Long.valueOf(0x500L));
+    Mockito.when(view1.handle())
+      .thenReturn(Long.valueOf(0x501L));
+
+    this.template.writeBufferView(this.data, 3, 0, view0);
+    this.template.writeBufferView(this.data, 3, 1, view1);
+
+    Assertions.assertEquals(
+      0x500L, this.data.get(JAVA_LONG_UNALIGNED, 112L));
+    Assertions.assertEquals(
+      0x501L, this.data.get(JAVA_LONG_UNALIGNED, 120L));
+    Assertions.assertEquals(
+      -1L, this.data.get(JAVA_LONG_UNALIGNED, 128L));
+  }
+
+  /**
+   * Writing a descriptor of the wrong type is rejected.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testWriteWrongType(
+    final @Mock VulkanLWJGLSampler sampler)
+    throws Exception
+  {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      this.template.writeSampler(this.data, 0, 0, sampler);
+    });
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      this.template.writeSampler(this.data, 1, 0, sampler);
+    });
+  }
+
+  /**
+   * Writing outside of the template or the update data is rejected.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testWriteOutOfBounds(
+    final @Mock VulkanLWJGLBufferView view)
+    throws Exception
+  {
+    final var small =
+      this.data.asSlice(0L, 127L);
+
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+      this.template.writeBufferView(small, 3, 1, view);
+    });
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+      this.template.writeBufferView(this.data, 3, 2, view);
+    });
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+      this.template.writeBufferView(this.data, 5, 0, view);
+    });
+  }
+}
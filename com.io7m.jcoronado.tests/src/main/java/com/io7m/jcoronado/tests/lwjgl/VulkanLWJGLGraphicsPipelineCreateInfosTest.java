@@ -47,13 +47,18 @@ import com.io7m.jcoronado.api.VulkanVertexInputAttributeDescription;
 import com.io7m.jcoronado.api.VulkanVertexInputBindingDescription;
 import com.io7m.jcoronado.api.VulkanViewport;
 import com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLGraphicsPipelineCreateInfos;
+import com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLPipeline;
 import com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLPipelineLayout;
 import com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLRenderPass;
 import com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLShaderModule;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.lwjgl.system.MemoryStack;
+import org.lwjgl.vulkan.VkBaseInStructure;
+import org.lwjgl.vulkan.VkGraphicsPipelineLibraryCreateInfoEXT;
+import org.lwjgl.vulkan.VkPipelineLibraryCreateInfoKHR;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -75,6 +80,12 @@ import static com.io7m.jcoronado.api.VulkanCompareOp.VK_COMPARE_OP_LESS_OR_EQUAL
 import static com.io7m.jcoronado.api.VulkanCompareOp.VK_COMPARE_OP_NEVER;
 import static com.io7m.jcoronado.api.VulkanFormat.VK_FORMAT_B8G8R8A8_UNORM;
 import static com.io7m.jcoronado.api.VulkanFormat.VK_FORMAT_D16_UNORM;
+import static com.io7m.jcoronado.api.VulkanGraphicsPipelineLibraryFlagEXT.VK_GRAPHICS_PIPELINE_LIBRARY_FRAGMENT_OUTPUT_INTERFACE_BIT_EXT;
+import static com.io7m.jcoronado.api.VulkanGraphicsPipelineLibraryFlagEXT.VK_GRAPHICS_PIPELINE_LIBRARY_FRAGMENT_SHADER_BIT_EXT;
+import static com.io7m.jcoronado.api.VulkanGraphicsPipelineLibraryFlagEXT.VK_GRAPHICS_PIPELINE_LIBRARY_VERTEX_INPUT_INTERFACE_BIT_EXT;
+import static com.io7m.jcoronado.api.VulkanPipelineCreateFlag.VK_PIPELINE_CREATE_LIBRARY_BIT_KHR;
+import static com.io7m.jcoronado.api.VulkanPipelineCreateFlag.VK_PIPELINE_CREATE_LINK_TIME_OPTIMIZATION_BIT_EXT;
+import static com.io7m.jcoronado.api.VulkanPipelineCreateFlag.VK_PIPELINE_CREATE_RETAIN_LINK_TIME_OPTIMIZATION_INFO_BIT_EXT;
 import static com.io7m.jcoronado.api.VulkanPrimitiveTopology.VK_PRIMITIVE_TOPOLOGY_TRIANGLE_LIST;
 import static com.io7m.jcoronado.api.VulkanStencilOp.VK_STENCIL_OP_DECREMENT_AND_CLAMP;
 import static com.io7m.jcoronado.api.VulkanStencilOp.VK_STENCIL_OP_INCREMENT_AND_CLAMP;
@@ -84,6 +95,8 @@ import static com.io7m.jcoronado.api.VulkanStencilOp.VK_STENCIL_OP_REPLACE;
 import static com.io7m.jcoronado.api.VulkanStencilOp.VK_STENCIL_OP_ZERO;
 import static com.io7m.jcoronado.api.VulkanVertexInputRate.VK_VERTEX_INPUT_RATE_INSTANCE;
 import static com.io7m.jcoronado.api.VulkanVertexInputRate.VK_VERTEX_INPUT_RATE_VERTEX;
+import static org.lwjgl.vulkan.EXTGraphicsPipelineLibrary.VK_STRUCTURE_TYPE_GRAPHICS_PIPELINE_LIBRARY_CREATE_INFO_EXT;
+import static org.lwjgl.vulkan.KHRPipelineLibrary.VK_STRUCTURE_TYPE_PIPELINE_LIBRARY_CREATE_INFO_KHR;
 
 @ExtendWith(MockitoExtension.class)
 public final class VulkanLWJGLGraphicsPipelineCreateInfosTest
@@ -385,4 +398,125 @@ public final class VulkanLWJGLGraphicsPipelineCreateInfosTest
     VulkanLWJGLPipelineViewportStateCreateInfosTest.checkPacked(
       packed_0.pViewportState());
   }
+
+  /**
+   * A pipeline library part chains a VkGraphicsPipelineLibraryCreateInfoEXT
+   * structure carrying the library flags.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testPipelineLibraryPart(
+    final @Mock VulkanLWJGLPipelineLayout layout)
+    throws Exception
+  {
+    final var info =
+      VulkanGraphicsPipelineCreateInfo.builder()
+        .setLayout(layout)
+        .addFlags(VK_PIPELINE_CREATE_LIBRARY_BIT_KHR)
+        .addFlags(VK_PIPELINE_CREATE_RETAIN_LINK_TIME_OPTIMIZATION_INFO_BIT_EXT)
+        .addLibraryFlags(VK_GRAPHICS_PIPELINE_LIBRARY_VERTEX_INPUT_INTERFACE_BIT_EXT)
+        .addLibraryFlags(VK_GRAPHICS_PIPELINE_LIBRARY_FRAGMENT_OUTPUT_INTERFACE_BIT_EXT)
+        .build();
+
+    final var packed =
+      VulkanLWJGLGraphicsPipelineCreateInfos.pack(
+        this.stack,
+        List.of(info)).get(0);
+
+    Assertions.assertEquals(
+      VK_PIPELINE_CREATE_LIBRARY_BIT_KHR.value()
+      | VK_PIPELINE_CREATE_RETAIN_LINK_TIME_OPTIMIZATION_INFO_BIT_EXT.value(),
+      packed.flags()
+    );
+
+    final var next = packed.pNext();
+    Assertions.assertNotEquals(0L, next);
+    Assertions.assertEquals(
+      VK_STRUCTURE_TYPE_GRAPHICS_PIPELINE_LIBRARY_CREATE_INFO_EXT,
+      VkBaseInStructure.create(next).sType()
+    );
+
+    final var libraryInfo =
+      VkGraphicsPipelineLibraryCreateInfoEXT.create(next);
+
+    Assertions.assertEquals(
+      VK_GRAPHICS_PIPELINE_LIBRARY_VERTEX_INPUT_INTERFACE_BIT_EXT.value()
+      | VK_GRAPHICS_PIPELINE_LIBRARY_FRAGMENT_OUTPUT_INTERFACE_BIT_EXT.value(),
+      libraryInfo.flags()
+    );
+    Assertions.assertEquals(0L, libraryInfo.pNext());
+  }
+
+  /**
+   * Linking pipeline libraries chains a VkPipelineLibraryCreateInfoKHR
+   * structure carrying the library handles, after any library flags.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testPipelineLibraryLink(
+    final @Mock VulkanLWJGLPipelineLayout layout,
+    final @Mock VulkanLWJGLPipeline library_0,
+    final @Mock VulkanLWJGLPipeline library_1)
+    throws Exception
+  {
+    Mockito.when(library_0.handle())
+      .thenReturn(Long.valueOf(0x300L));
+    Mockito.when(library_1.handle())
+      .thenReturn(Long.valueOf(0x301L));
+
+    final var info =
+      VulkanGraphicsPipelineCreateInfo.builder()
+        .setLayout(layout)
+        .addFlags(VK_PIPELINE_CREATE_LINK_TIME_OPTIMIZATION_BIT_EXT)
+        .addLibraryFlags(VK_GRAPHICS_PIPELINE_LIBRARY_FRAGMENT_SHADER_BIT_EXT)
+        .addLibraries(library_0)
+        .addLibraries(library_1)
+        .build();
+
+    final var packed =
+      VulkanLWJGLGraphicsPipelineCreateInfos.pack(
+        this.stack,
+        List.of(info)).get(0);
+
+    Assertions.assertEquals(
+      VK_PIPELINE_CREATE_LINK_TIME_OPTIMIZATION_BIT_EXT.value(),
+      packed.flags()
+    );
+
+    final var linkNext = packed.pNext();
+    Assertions.assertNotEquals(0L, linkNext);
+    Assertions.assertEquals(
+      VK_STRUCTURE_TYPE_PIPELINE_LIBRARY_CREATE_INFO_KHR,
+      VkBaseInStructure.create(linkNext).sType()
+    );
+
+    final var linkInfo =
+      VkPipelineLibraryCreateInfoKHR.create(linkNext);
+    final var libraries =
+      linkInfo.pLibraries();
+
+    Assertions.assertEquals(2, linkInfo.libraryCount());
+    Assertions.assertEquals(0x300L, libraries.get(0));
+    Assertions.assertEquals(0x301L, libraries.get(1));
+
+    final var libraryNext = linkInfo.pNext();
+    Assertions.assertNotEquals(0L, libraryNext);
+    Assertions.assertEquals(
+      VK_STRUCTURE_TYPE_GRAPHICS_PIPELINE_LIBRARY_CREATE_INFO_EXT,
+      VkBaseInStructure.create(libraryNext).sType()
+    );
+
+    final var libraryInfo =
+      VkGraphicsPipelineLibraryCreateInfoEXT.create(libraryNext);
+
+    Assertions.assertEquals(
+      VK_GRAPHICS_PIPELINE_LIBRARY_FRAGMENT_SHADER_BIT_EXT.value(),
+      libraryInfo.flags()
+    );
+    Assertions.assertEquals(0L, libraryInfo.pNext());
+  }
 }
@@ -139,7 +139,7 @@ public final class VulkanLWJGLPipelineLayoutsTest
       },
 
       () -> {
-        Assertions.assertEquals(0b0, packed.flags());
+        Assertions.assertEquals(0b10, packed.flags());
       }
     );
   }
@@ -221,7 +221,7 @@ public final class VulkanLWJGLPipelineLayoutsTest
       },
 
       () -> {
-        Assertions.assertEquals(0b0, packed.flags());
+        Assertions.assertEquals(0b10, packed.flags());
       }
     );
   }
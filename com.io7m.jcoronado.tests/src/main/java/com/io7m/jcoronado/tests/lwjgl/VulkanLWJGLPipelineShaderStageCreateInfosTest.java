@@ -18,6 +18,7 @@ package com.io7m.jcoronado.tests.lwjgl;
 
 import com.io7m.jcoronado.api.VulkanIncompatibleClassException;
 import com.io7m.jcoronado.api.VulkanPipelineShaderStageCreateInfo;
+import com.io7m.jcoronado.api.VulkanShaderModuleIdentifierEXT;
 import com.io7m.jcoronado.api.VulkanShaderStageFlag;
 import com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLPipelineShaderStageCreateInfos;
 import com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLShaderModule;
@@ -28,6 +29,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.lwjgl.system.MemoryStack;
 import org.lwjgl.vulkan.VK10;
 import org.lwjgl.vulkan.VkPipelineShaderStageCreateInfo;
+import org.lwjgl.vulkan.VkPipelineShaderStageModuleIdentifierCreateInfoEXT;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -36,6 +38,8 @@ import org.slf4j.LoggerFactory;
 
 import java.util.List;
 
+import static org.lwjgl.vulkan.EXTShaderModuleIdentifier.VK_STRUCTURE_TYPE_PIPELINE_SHADER_STAGE_MODULE_IDENTIFIER_CREATE_INFO_EXT;
+
 @ExtendWith(MockitoExtension.class)
 public final class VulkanLWJGLPipelineShaderStageCreateInfosTest
 {
@@ -139,6 +143,66 @@ public final class VulkanLWJGLPipelineShaderStageCreateInfosTest
     );
   }
 
+  @Test
+  public void testPipelineShaderStageCreateInfoIdentifier()
+    throws VulkanIncompatibleClassException
+  {
+    final var identifier =
+      new VulkanShaderModuleIdentifierEXT(new byte[]{1, 2, 3, 4, 5});
+
+    final var info =
+      VulkanPipelineShaderStageCreateInfo.builder()
+        .setShaderEntryPoint("main")
+        .setModuleIdentifier(identifier)
+        .setStage(VulkanShaderStageFlag.VK_SHADER_STAGE_VERTEX_BIT)
+        .build();
+
+    final var packed =
+      VulkanLWJGLPipelineShaderStageCreateInfos.pack(this.stack, info);
+    final var chained =
+      VkPipelineShaderStageModuleIdentifierCreateInfoEXT.create(packed.pNext());
+
+    Assertions.assertAll(
+      () -> {
+        Assertions.assertEquals(VK10.VK_NULL_HANDLE, packed.module());
+      },
+      () -> {
+        Assertions.assertEquals(
+          VK_STRUCTURE_TYPE_PIPELINE_SHADER_STAGE_MODULE_IDENTIFIER_CREATE_INFO_EXT,
+          chained.sType());
+      },
+      () -> {
+        Assertions.assertEquals(5, chained.identifierSize());
+      },
+      () -> {
+        final var data = new byte[5];
+        chained.pIdentifier().get(data);
+        Assertions.assertArrayEquals(identifier.data(), data);
+      }
+    );
+  }
+
+  @Test
+  public void testPipelineShaderStageCreateInfoModuleExclusive(
+    final @Mock VulkanLWJGLShaderModule module)
+  {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      VulkanPipelineShaderStageCreateInfo.builder()
+        .setShaderEntryPoint("main")
+        .setStage(VulkanShaderStageFlag.VK_SHADER_STAGE_VERTEX_BIT)
+        .build();
+    });
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      VulkanPipelineShaderStageCreateInfo.builder()
+        .setShaderEntryPoint("main")
+        .setModule(module)
+        .setModuleIdentifier(new VulkanShaderModuleIdentifierEXT(new byte[]{1}))
+        .setStage(VulkanShaderStageFlag.VK_SHADER_STAGE_VERTEX_BIT)
+        .build();
+    });
+  }
+
   @Test
   public void testPipelineShaderStageCreateInfos(
     final @Mock VulkanLWJGLShaderModule module)
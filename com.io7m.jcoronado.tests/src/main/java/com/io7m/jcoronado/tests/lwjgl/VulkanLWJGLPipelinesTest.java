@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2018 Mark Raynsford <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.tests.lwjgl;
+
+import com.io7m.jcoronado.api.VulkanCallFailedException;
+import com.io7m.jcoronado.api.VulkanPipelineCompileRequiredException;
+import com.io7m.jcoronado.api.VulkanPipelineType;
+import com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLPipelines;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.lwjgl.vulkan.VK10.VK_ERROR_OUT_OF_DEVICE_MEMORY;
+import static org.lwjgl.vulkan.VK10.VK_SUCCESS;
+import static org.lwjgl.vulkan.VK13.VK_PIPELINE_COMPILE_REQUIRED;
+
+public final class VulkanLWJGLPipelinesTest
+{
+  private final Map<Long, VulkanPipelineType> created = new HashMap<>();
+
+  private VulkanPipelineType wrap(
+    final long handle)
+  {
+    final var pipeline = Mockito.mock(VulkanPipelineType.class);
+    this.created.put(Long.valueOf(handle), pipeline);
+    return pipeline;
+  }
+
+  /**
+   * All pipelines are returned on success.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testSuccess()
+    throws Exception
+  {
+    final var pipelines =
+      VulkanLWJGLPipelines.collect(
+        VK_SUCCESS,
+        "vkCreateGraphicsPipelines",
+        new long[]{1L, 2L},
+        this::wrap
+      );
+
+    assertEquals(
+      List.of(this.created.get(1L), this.created.get(2L)),
+      pipelines
+    );
+  }
+
+  /**
+   * When compilation is required, the pipelines that were created are
+   * handed to the caller, and the entries that need compilation are empty.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testCompileRequired()
+    throws Exception
+  {
+    final var ex =
+      assertThrows(VulkanPipelineCompileRequiredException.class, () -> {
+        VulkanLWJGLPipelines.collect(
+          VK_PIPELINE_COMPILE_REQUIRED,
+          "vkCreateGraphicsPipelines",
+          new long[]{1L, 0L, 3L},
+          this::wrap
+        );
+      });
+
+    assertEquals(
+      List.of(
+        Optional.of(this.created.get(1L)),
+        Optional.empty(),
+        Optional.of(this.created.get(3L))
+      ),
+      ex.pipelines()
+    );
+
+    for (final var pipeline : this.created.values()) {
+      Mockito.verify(pipeline, Mockito.never()).close();
+    }
+  }
+
+  /**
+   * On other errors, the pipelines that were created are destroyed.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testErrorClosesCreated()
+    throws Exception
+  {
+    assertThrows(VulkanCallFailedException.class, () -> {
+      VulkanLWJGLPipelines.collect(
+        VK_ERROR_OUT_OF_DEVICE_MEMORY,
+        "vkCreateComputePipelines",
+        new long[]{0L, 2L},
+        this::wrap
+      );
+    });
+
+    assertEquals(1, this.created.size());
+    Mockito.verify(this.created.get(2L), Mockito.times(1)).close();
+  }
+}
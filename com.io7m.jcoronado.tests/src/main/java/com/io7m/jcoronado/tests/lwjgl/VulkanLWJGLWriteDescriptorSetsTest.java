@@ -0,0 +1,237 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.tests.lwjgl;
+
+import com.io7m.jcoronado.api.VulkanDescriptorBufferInfo;
+import com.io7m.jcoronado.api.VulkanWriteDescriptorSet;
+import com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLBuffer;
+import com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLBufferView;
+import com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLDescriptorSet;
+import com.io7m.jcoronado.lwjgl.internal.VulkanLWJGLWriteDescriptorSets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.vulkan.VK10;
+import org.lwjgl.vulkan.VkWriteDescriptorSet;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_UNIFORM_TEXEL_BUFFER;
+
+@ExtendWith(MockitoExtension.class)
+public final class VulkanLWJGLWriteDescriptorSetsTest
+{
+  private static final Logger LOG = LoggerFactory.getLogger(
+    VulkanLWJGLWriteDescriptorSetsTest.class);
+
+  private MemoryStack stack = MemoryStack.create();
+
+  @BeforeEach
+  public void testSetup()
+  {
+    LOG.debug("testSetup");
+    this.stack = this.stack.push();
+  }
+
+  /**
+   * Packing a write with a destination set yields that set's handle.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testPackWithSet(
+    final @Mock VulkanLWJGLDescriptorSet set,
+    final @Mock VulkanLWJGLBuffer buffer)
+    throws Exception
+  {
+    Mockito.when(set.handle())
+      .thenReturn(Long.valueOf(200L));
+    Mockito.when(buffer.handle())
+      .thenReturn(Long.valueOf(100L));
+
+    final var packed =
+      VulkanLWJGLWriteDescriptorSets.pack(
+        this.stack, bufferWrite(set, buffer));
+
+    Assertions.assertEquals(200L, packed.dstSet());
+  }
+
+  /**
+   * Packing a write for push descriptors ignores the destination set, and
+   * preserves everything else.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testPackWithoutSet(
+    final @Mock VulkanLWJGLDescriptorSet set,
+    final @Mock VulkanLWJGLBuffer buffer)
+    throws Exception
+  {
+    Mockito.when(buffer.handle())
+      .thenReturn(Long.valueOf(100L));
+
+    final var packed =
+      VulkanLWJGLWriteDescriptorSets.packIntoWithoutSet(
+        this.stack,
+        bufferWrite(set, buffer),
+        VkWriteDescriptorSet.calloc(this.stack)
+      );
+
+    Mockito.verify(set, Mockito.never()).handle();
+
+    Assertions.assertAll(
+      () -> {
+        Assertions.assertEquals(0L, packed.dstSet());
+      },
+      () -> {
+        Assertions.assertEquals(
+          VK10.VK_STRUCTURE_TYPE_WRITE_DESCRIPTOR_SET, packed.sType());
+      },
+      () -> {
+        Assertions.assertEquals(3, packed.dstBinding());
+      },
+      () -> {
+        Assertions.assertEquals(1, packed.dstArrayElement());
+      },
+      () -> {
+        Assertions.assertEquals(1, packed.descriptorCount());
+      },
+      () -> {
+        Assertions.assertEquals(
+          VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER.value(), packed.descriptorType());
+      },
+      () -> {
+        final var infos = packed.pBufferInfo();
+        Assertions.assertEquals(1, infos.remaining());
+        Assertions.assertEquals(100L, infos.get(0).buffer());
+        Assertions.assertEquals(64L, infos.get(0).offset());
+        Assertions.assertEquals(256L, infos.get(0).range());
+      },
+      () -> {
+        Assertions.assertNull(packed.pImageInfo());
+      },
+      () -> {
+        Assertions.assertNull(packed.pTexelBufferView());
+      }
+    );
+  }
+
+  /**
+   * Packing a list of writes for push descriptors ignores every destination
+   * set, and preserves everything else.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testPackListWithoutSets(
+    final @Mock VulkanLWJGLDescriptorSet set,
+    final @Mock VulkanLWJGLBuffer buffer,
+    final @Mock VulkanLWJGLBufferView view)
+    throws Exception
+  {
+    Mockito.when(buffer.handle())
+      .thenReturn(Long.valueOf(100L));
+    Mockito.when(view.handle())
+      .thenReturn(Long.valueOf(300L));
+
+    final var texelWrite =
+      VulkanWriteDescriptorSet.builder()
+        .setDestinationBinding(5)
+        .setDescriptorCount(1)
+        .setDescriptorType(VK_DESCRIPTOR_TYPE_UNIFORM_TEXEL_BUFFER)
+        .addTexelBufferViews(view)
+        .build();
+
+    final var packed =
+      VulkanLWJGLWriteDescriptorSets.packListWithoutSets(
+        this.stack,
+        List.of(bufferWrite(set, buffer), texelWrite)
+      );
+
+    Mockito.verify(set, Mockito.never()).handle();
+
+    Assertions.assertEquals(2, packed.remaining());
+
+    final var p0 = packed.get(0);
+    final var p1 = packed.get(1);
+
+    Assertions.assertAll(
+      () -> {
+        Assertions.assertEquals(0L, p0.dstSet());
+      },
+      () -> {
+        Assertions.assertEquals(3, p0.dstBinding());
+      },
+      () -> {
+        Assertions.assertEquals(100L, p0.pBufferInfo().get(0).buffer());
+      },
+      () -> {
+        Assertions.assertEquals(0L, p1.dstSet());
+      },
+      () -> {
+        Assertions.assertEquals(5, p1.dstBinding());
+      },
+      () -> {
+        Assertions.assertEquals(0, p1.dstArrayElement());
+      },
+      () -> {
+        Assertions.assertEquals(
+          VK_DESCRIPTOR_TYPE_UNIFORM_TEXEL_BUFFER.value(),
+          p1.descriptorType());
+      },
+      () -> {
+        Assertions.assertEquals(300L, p1.pTexelBufferView().get(0));
+      },
+      () -> {
+        Assertions.assertNull(p1.pBufferInfo());
+      }
+    );
+  }
+
+  private static VulkanWriteDescriptorSet bufferWrite(
+    final VulkanLWJGLDescriptorSet set,
+    final VulkanLWJGLBuffer buffer)
+  {
+    return VulkanWriteDescriptorSet.builder()
+      .setDestinationSet(set)
+      .setDestinationBinding(3)
+      .setDestinationArrayElement(1)
+      .setDescriptorCount(1)
+      .setDescriptorType(VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER)
+      .addBufferInfos(
+        VulkanDescriptorBufferInfo.builder()
+          .setBuffer(buffer)
+          .setOffset(64L)
+          .setRange(256L)
+          .build()
+      )
+      .build();
+  }
+}
@@ -0,0 +1,360 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.tests.object_cache;
+
+import com.io7m.jcoronado.api.VulkanDescriptorSetLayoutType;
+import com.io7m.jcoronado.api.VulkanExtensionType;
+import com.io7m.jcoronado.api.VulkanLogicalDeviceType;
+import com.io7m.jcoronado.api.VulkanMissingRequiredExtensionsException;
+import com.io7m.jcoronado.api.VulkanPipelineLayoutCreateInfo;
+import com.io7m.jcoronado.api.VulkanPipelineLayoutType;
+import com.io7m.jcoronado.api.VulkanSamplerCreateInfo;
+import com.io7m.jcoronado.api.VulkanSamplerType;
+import com.io7m.jcoronado.api.VulkanShaderModuleCreateInfo;
+import com.io7m.jcoronado.api.VulkanShaderModuleIdentifierEXT;
+import com.io7m.jcoronado.api.VulkanShaderModuleType;
+import com.io7m.jcoronado.utility.object_cache.JCObjectCache;
+import com.io7m.jcoronado.utility.object_cache.JCObjectCacheConfiguration;
+import com.io7m.jcoronado.utility.object_cache.JCObjectCacheType;
+import com.io7m.jcoronado.utility.object_cache.JCObjectKind;
+import com.io7m.jcoronado.utility.object_cache.JCShaderModuleDigest;
+import com.io7m.jcoronado.utility.object_cache.JCShaderModuleIdentifierStoreType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.io7m.jcoronado.api.VulkanFilter.VK_FILTER_LINEAR;
+import static com.io7m.jcoronado.api.VulkanFilter.VK_FILTER_NEAREST;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public final class JCObjectCacheTest
+{
+  private @Mock VulkanLogicalDeviceType device;
+  private ConcurrentLinkedQueue<VulkanSamplerType> createdSamplers;
+  private JCObjectCacheType cache;
+
+  private static VulkanSamplerCreateInfo sampler(
+    final boolean linear)
+  {
+    final var filter = linear ? VK_FILTER_LINEAR : VK_FILTER_NEAREST;
+    return VulkanSamplerCreateInfo.builder()
+      .setMinFilter(filter)
+      .setMagFilter(filter)
+      .setMaxAnisotropy(16.0)
+      .build();
+  }
+
+  private static VulkanShaderModuleCreateInfo shaderModule(
+    final int... words)
+  {
+    final var data = ByteBuffer.allocateDirect(words.length * 4);
+    for (final var word : words) {
+      data.putInt(word);
+    }
+    data.flip();
+    return VulkanShaderModuleCreateInfo.builder()
+      .setData(data)
+      .setSize(data.capacity())
+      .build();
+  }
+
+  @BeforeEach
+  public void setup()
+    throws Exception
+  {
+    this.createdSamplers = new ConcurrentLinkedQueue<>();
+
+    Mockito.when(this.device.createSampler(any()))
+      .thenAnswer(invocation -> {
+        final var s = Mockito.mock(VulkanSamplerType.class);
+        this.createdSamplers.add(s);
+        return s;
+      });
+    Mockito.when(this.device.createPipelineLayout(any()))
+      .thenAnswer(invocation -> Mockito.mock(VulkanPipelineLayoutType.class));
+    Mockito.when(this.device.createShaderModule(any()))
+      .thenAnswer(invocation -> Mockito.mock(VulkanShaderModuleType.class));
+
+    this.cache =
+      JCObjectCache.create(
+        JCObjectCacheConfiguration.builder()
+          .setDevice(this.device)
+          .build()
+      );
+  }
+
+  /**
+   * Identical create infos share an object.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testShared()
+    throws Exception
+  {
+    final var r0 = this.cache.sampler(sampler(true));
+    final var r1 = this.cache.sampler(sampler(true));
+    final var r2 = this.cache.sampler(sampler(false));
+
+    assertSame(r0.object(), r1.object());
+    assertNotSame(r0.object(), r2.object());
+
+    final var stats = this.cache.statistics(JCObjectKind.SAMPLER);
+    assertEquals(1L, stats.hits());
+    assertEquals(2L, stats.misses());
+    assertEquals(2, stats.objects());
+  }
+
+  /**
+   * Objects are destroyed when the last reference is released.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testReleased()
+    throws Exception
+  {
+    final var r0 = this.cache.sampler(sampler(true));
+    final var r1 = this.cache.sampler(sampler(true));
+    final var object = r0.object();
+
+    r0.close();
+    r0.close();
+    Mockito.verify(object, Mockito.never()).close();
+
+    r1.close();
+    Mockito.verify(object, Mockito.times(1)).close();
+    assertEquals(0, this.cache.statistics(JCObjectKind.SAMPLER).objects());
+
+    final var r2 = this.cache.sampler(sampler(true));
+    assertNotSame(object, r2.object());
+  }
+
+  /**
+   * Pipeline layouts built from the same set layouts are shared.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testPipelineLayouts()
+    throws Exception
+  {
+    final var setLayout =
+      Mockito.mock(VulkanDescriptorSetLayoutType.class);
+
+    final var info0 =
+      VulkanPipelineLayoutCreateInfo.builder()
+        .addSetLayouts(setLayout)
+        .build();
+    final var info1 =
+      VulkanPipelineLayoutCreateInfo.builder()
+        .addSetLayouts(setLayout)
+        .build();
+
+    final var r0 = this.cache.pipelineLayout(info0);
+    final var r1 = this.cache.pipelineLayout(info1);
+    assertSame(r0.object(), r1.object());
+    assertEquals(
+      1L,
+      this.cache.statistics(JCObjectKind.PIPELINE_LAYOUT).hits()
+    );
+  }
+
+  /**
+   * Shader modules with identical code are shared, even when the code is
+   * held in distinct buffers.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testShaderModulesByContent()
+    throws Exception
+  {
+    final var r0 = this.cache.shaderModule(shaderModule(1, 2, 3, 4));
+    final var r1 = this.cache.shaderModule(shaderModule(1, 2, 3, 4));
+    final var r2 = this.cache.shaderModule(shaderModule(1, 2, 3, 5));
+
+    assertSame(r0.object(), r1.object());
+    assertNotSame(r0.object(), r2.object());
+    Mockito.verify(this.device, Mockito.times(2)).createShaderModule(any());
+
+    final var stats = this.cache.statistics(JCObjectKind.SHADER_MODULE);
+    assertEquals(1L, stats.hits());
+    assertEquals(2L, stats.misses());
+  }
+
+  /**
+   * The identifiers of created shader modules are recorded in the
+   * configured store.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testShaderModuleIdentifiersRecorded()
+    throws Exception
+  {
+    final var identifier =
+      new VulkanShaderModuleIdentifierEXT(new byte[]{9, 8, 7});
+    final var store =
+      Mockito.mock(JCShaderModuleIdentifierStoreType.class);
+
+    Mockito.when(this.device.enabledExtensions())
+      .thenReturn(Map.of(
+        "VK_EXT_shader_module_identifier",
+        Mockito.mock(VulkanExtensionType.class)
+      ));
+    Mockito.when(this.device.getShaderModuleIdentifier(any()))
+      .thenReturn(identifier);
+
+    final var withStore =
+      JCObjectCache.create(
+        JCObjectCacheConfiguration.builder()
+          .setDevice(this.device)
+          .setShaderModuleIdentifiers(store)
+          .build()
+      );
+
+    final var info = shaderModule(1, 2, 3, 4);
+    withStore.shaderModule(info);
+    withStore.shaderModule(info);
+
+    Mockito.verify(store, Mockito.times(1))
+      .put(JCShaderModuleDigest.of(info), identifier);
+  }
+
+  /**
+   * Shader modules are created without touching the identifier store if
+   * VK_EXT_shader_module_identifier is not enabled.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testShaderModuleIdentifiersNotEnabled()
+    throws Exception
+  {
+    final var store =
+      Mockito.mock(JCShaderModuleIdentifierStoreType.class);
+
+    Mockito.when(this.device.enabledExtensions())
+      .thenReturn(Map.of());
+    Mockito.when(this.device.getShaderModuleIdentifier(any()))
+      .thenThrow(new VulkanMissingRequiredExtensionsException(
+        Set.of("VK_EXT_shader_module_identifier"),
+        "The VK_EXT_shader_module_identifier extension is not enabled."
+      ));
+
+    final var withStore =
+      JCObjectCache.create(
+        JCObjectCacheConfiguration.builder()
+          .setDevice(this.device)
+          .setShaderModuleIdentifiers(store)
+          .build()
+      );
+
+    withStore.shaderModule(shaderModule(1, 2, 3, 4));
+
+    Mockito.verify(this.device, Mockito.times(1)).createShaderModule(any());
+    Mockito.verify(this.device, Mockito.never())
+      .getShaderModuleIdentifier(any());
+    Mockito.verifyNoInteractions(store);
+    assertEquals(
+      1, withStore.statistics(JCObjectKind.SHADER_MODULE).objects());
+  }
+
+  /**
+   * Closing the cache destroys all objects.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testClose()
+    throws Exception
+  {
+    final var r0 = this.cache.sampler(sampler(true));
+    final var r1 = this.cache.sampler(sampler(false));
+
+    this.cache.close();
+    Mockito.verify(r0.object()).close();
+    Mockito.verify(r1.object()).close();
+
+    r0.close();
+    Mockito.verify(r0.object(), Mockito.times(1)).close();
+  }
+
+  /**
+   * Concurrent acquisition and release never leaks or double-destroys an
+   * object.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testConcurrent()
+    throws Exception
+  {
+    final var executor = Executors.newFixedThreadPool(8);
+    try {
+      final var futures = new ArrayList<Future<?>>();
+      for (var thread = 0; thread < 8; ++thread) {
+        futures.add(executor.submit(() -> {
+          for (var index = 0; index < 1000; ++index) {
+            try (var r = this.cache.sampler(sampler((index & 1) == 0))) {
+              r.object();
+            }
+          }
+          return null;
+        }));
+      }
+      for (final var future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertEquals(0, this.cache.statistics(JCObjectKind.SAMPLER).objects());
+    for (final var s : this.createdSamplers) {
+      Mockito.verify(s, Mockito.times(1)).close();
+    }
+  }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.tests.object_cache;
+
+import com.io7m.jcoronado.api.VulkanLogicalDeviceType;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceProperties;
+import com.io7m.jcoronado.api.VulkanPhysicalDevicePropertiesType;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceType;
+import com.io7m.jcoronado.api.VulkanShaderModuleCreateInfo;
+import com.io7m.jcoronado.api.VulkanShaderModuleIdentifierEXT;
+import com.io7m.jcoronado.api.VulkanVersion;
+import com.io7m.jcoronado.utility.object_cache.JCShaderModuleDigest;
+import com.io7m.jcoronado.utility.object_cache.JCShaderModuleIdentifierStore;
+import com.io7m.jcoronado.utility.object_cache.JCShaderModuleIdentifierStoreConfiguration;
+import com.io7m.jcoronado.utility.object_cache.JCShaderModuleIdentifierStoreType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public final class JCShaderModuleIdentifierStoreTest
+{
+  private static final UUID CACHE_UUID =
+    UUID.fromString("8c4a1f4e-3f57-4b9e-9d40-6f1a2b3c4d5e");
+  private static final UUID ALGORITHM_UUID =
+    UUID.fromString("2f9d6c1a-7b4e-4c3d-8a5f-0e1d2c3b4a59");
+
+  private @Mock VulkanLogicalDeviceType device;
+  private @Mock VulkanPhysicalDeviceType physicalDevice;
+  private Path file;
+
+  private static VulkanPhysicalDeviceProperties properties(
+    final UUID uuid,
+    final Optional<UUID> algorithm)
+  {
+    final var version =
+      VulkanVersion.builder()
+        .setMajor(1)
+        .setMinor(3)
+        .setPatch(0)
+        .build();
+
+    return VulkanPhysicalDeviceProperties.builder()
+      .setName("Device")
+      .setType(VulkanPhysicalDevicePropertiesType.Type.VK_PHYSICAL_DEVICE_TYPE_DISCRETE_GPU)
+      .setApiVersion(version)
+      .setDriverVersion(version)
+      .setVendorId(0x10de)
+      .setId(0x2204)
+      .setPipelineCacheUUID(uuid)
+      .setShaderModuleIdentifierAlgorithmUUID(algorithm)
+      .build();
+  }
+
+  private static JCShaderModuleDigest digest(
+    final int word)
+  {
+    final var data = ByteBuffer.allocateDirect(4);
+    data.putInt(0, word);
+    return JCShaderModuleDigest.of(
+      VulkanShaderModuleCreateInfo.builder()
+        .setData(data)
+        .setSize(4L)
+        .build()
+    );
+  }
+
+  private JCShaderModuleIdentifierStoreType open()
+    throws Exception
+  {
+    return JCShaderModuleIdentifierStore.create(
+      JCShaderModuleIdentifierStoreConfiguration.builder()
+        .setDevice(this.device)
+        .setFile(this.file)
+        .build()
+    );
+  }
+
+  @BeforeEach
+  public void setup(
+    final @TempDir Path directory)
+  {
+    this.file = directory.resolve("identifiers.bin");
+
+    Mockito.when(this.device.physicalDevice())
+      .thenReturn(this.physicalDevice);
+    Mockito.when(this.physicalDevice.properties())
+      .thenReturn(properties(CACHE_UUID, Optional.of(ALGORITHM_UUID)));
+  }
+
+  /**
+   * Digests depend only on the content of the code, not its position.
+   */
+
+  @Test
+  public void testDigestContent()
+  {
+    final var data0 = ByteBuffer.allocateDirect(8);
+    data0.putInt(0, 0xcafe);
+    data0.position(4);
+
+    final var data1 = ByteBuffer.allocateDirect(4);
+    data1.putInt(0, 0xcafe);
+
+    final var d0 =
+      JCShaderModuleDigest.of(
+        VulkanShaderModuleCreateInfo.builder().setData(data0).build());
+    final var d1 =
+      JCShaderModuleDigest.of(
+        VulkanShaderModuleCreateInfo.builder().setData(data1).build());
+
+    assertNotEquals(d0, d1);
+    assertEquals(4, data0.position());
+
+    data0.position(0);
+    data0.limit(4);
+    assertEquals(
+      d1,
+      JCShaderModuleDigest.of(
+        VulkanShaderModuleCreateInfo.builder().setData(data0).build())
+    );
+  }
+
+  /**
+   * Identifiers survive a save and reload.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testRoundTrip()
+    throws Exception
+  {
+    final var id0 = new VulkanShaderModuleIdentifierEXT(new byte[]{1, 2, 3});
+    final var id1 = new VulkanShaderModuleIdentifierEXT(new byte[32]);
+
+    final var store0 = this.open();
+    assertEquals(0, store0.size());
+    assertFalse(store0.save());
+
+    store0.put(digest(0), id0);
+    store0.put(digest(1), id1);
+    assertTrue(store0.save());
+    assertFalse(store0.save());
+
+    final var store1 = this.open();
+    assertEquals(2, store1.size());
+    assertEquals(Optional.of(id0), store1.find(digest(0)));
+    assertEquals(Optional.of(id1), store1.find(digest(1)));
+    assertEquals(Optional.empty(), store1.find(digest(2)));
+  }
+
+  /**
+   * Identifiers written for a different driver are ignored.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testIncompatible()
+    throws Exception
+  {
+    final var store0 = this.open();
+    store0.put(digest(0), new VulkanShaderModuleIdentifierEXT(new byte[]{1}));
+    assertTrue(store0.save());
+
+    Mockito.when(this.physicalDevice.properties())
+      .thenReturn(properties(UUID.randomUUID(), Optional.of(ALGORITHM_UUID)));
+
+    assertEquals(0, this.open().size());
+  }
+
+  /**
+   * Identifiers written by a different identifier algorithm are ignored,
+   * even if the pipeline cache UUID matches.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testIncompatibleAlgorithm()
+    throws Exception
+  {
+    final var store0 = this.open();
+    store0.put(digest(0), new VulkanShaderModuleIdentifierEXT(new byte[]{1}));
+    assertTrue(store0.save());
+    assertEquals(1, this.open().size());
+
+    Mockito.when(this.physicalDevice.properties())
+      .thenReturn(properties(CACHE_UUID, Optional.of(UUID.randomUUID())));
+    assertEquals(0, this.open().size());
+
+    Mockito.when(this.physicalDevice.properties())
+      .thenReturn(properties(CACHE_UUID, Optional.empty()));
+    assertEquals(0, this.open().size());
+  }
+
+  /**
+   * Corrupted files are ignored.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testCorrupt()
+    throws Exception
+  {
+    final var store0 = this.open();
+    store0.put(digest(0), new VulkanShaderModuleIdentifierEXT(new byte[]{1}));
+    assertTrue(store0.save());
+
+    final var bytes = Files.readAllBytes(this.file);
+    bytes[bytes.length - 1] ^= 0x7f;
+    Files.write(this.file, bytes);
+
+    assertEquals(0, this.open().size());
+  }
+
+  /**
+   * Entries with an identifier size of zero are skipped, and the remaining
+   * entries are still loaded.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testZeroSizeEntrySkipped()
+    throws Exception
+  {
+    final var id0 = new VulkanShaderModuleIdentifierEXT(new byte[]{1, 2});
+    final var id1 = new VulkanShaderModuleIdentifierEXT(new byte[]{3, 4});
+
+    final var store0 = this.open();
+    store0.put(digest(0), id0);
+    store0.put(digest(1), id1);
+    assertTrue(store0.save());
+
+    final var data =
+      ByteBuffer.wrap(Files.readAllBytes(this.file));
+    final var headerSize =
+      JCShaderModuleIdentifierStore.FILE_HEADER_SIZE;
+    final var entries =
+      data.slice(headerSize, data.capacity() - headerSize);
+    final var zeroed =
+      JCShaderModuleDigest.fromBuffer(entries.duplicate());
+
+    entries.putInt(JCShaderModuleDigest.SIZE, 0);
+
+    final var crc = new CRC32C();
+    crc.update(entries.duplicate());
+    data.putInt(52, (int) crc.getValue());
+    Files.write(this.file, data.array());
+
+    final var store1 = this.open();
+    assertEquals(1, store1.size());
+    assertEquals(Optional.empty(), store1.find(zeroed));
+
+    final var kept =
+      zeroed.equals(digest(0)) ? digest(1) : digest(0);
+    final var keptId =
+      zeroed.equals(digest(0)) ? id1 : id0;
+    assertEquals(Optional.of(keptId), store1.find(kept));
+  }
+}
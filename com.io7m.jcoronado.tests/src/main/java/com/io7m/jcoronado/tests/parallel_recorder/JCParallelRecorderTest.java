@@ -0,0 +1,260 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.tests.parallel_recorder;
+
+import com.io7m.jcoronado.api.VulkanApplicationInfo;
+import com.io7m.jcoronado.api.VulkanCommandBufferInheritanceInfo;
+import com.io7m.jcoronado.api.VulkanCommandBufferType;
+import com.io7m.jcoronado.api.VulkanDestroyedException;
+import com.io7m.jcoronado.api.VulkanInstanceCreateInfo;
+import com.io7m.jcoronado.api.VulkanLogicalDeviceCreateInfo;
+import com.io7m.jcoronado.api.VulkanLogicalDeviceType;
+import com.io7m.jcoronado.api.VulkanQueueFamilyIndex;
+import com.io7m.jcoronado.api.VulkanResourceException;
+import com.io7m.jcoronado.fake.VFakeInstances;
+import com.io7m.jcoronado.utility.parallel_recorder.JCParallelRecorder;
+import com.io7m.jcoronado.utility.parallel_recorder.JCParallelRecorderConfiguration;
+import com.io7m.jcoronado.utility.parallel_recorder.JCParallelRecorderJobType;
+import com.io7m.jcoronado.utility.parallel_recorder.JCParallelRecorderType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JCParallelRecorderTest
+{
+  private VulkanLogicalDeviceType device;
+  private ExecutorService executor;
+  private JCParallelRecorderType recorder;
+
+  @BeforeEach
+  public void setup()
+    throws Exception
+  {
+    final var instance =
+      new VFakeInstances().createInstance(
+        VulkanInstanceCreateInfo.builder()
+          .setApplicationInfo(
+            VulkanApplicationInfo.builder()
+              .setApplicationName("com.io7m.jcoronado.tests")
+              .setApplicationVersion(1)
+              .setEngineName("com.io7m.jcoronado.tests")
+              .setEngineVersion(1)
+              .setVulkanAPIVersion(1)
+              .build()
+          )
+          .build(),
+        Optional.empty()
+      );
+
+    this.device =
+      instance.physicalDevices()
+        .get(0)
+        .createLogicalDevice(VulkanLogicalDeviceCreateInfo.builder().build());
+
+    this.executor =
+      Executors.newVirtualThreadPerTaskExecutor();
+
+    this.recorder =
+      JCParallelRecorder.create(
+        JCParallelRecorderConfiguration.builder()
+          .setDevice(this.device)
+          .setQueueFamilyIndex(new VulkanQueueFamilyIndex(0))
+          .setFramesInFlight(2)
+          .setWorkerCount(4)
+          .build(),
+        this.executor
+      );
+  }
+
+  @AfterEach
+  public void tearDown()
+    throws Exception
+  {
+    this.recorder.close();
+    this.executor.close();
+  }
+
+  private static List<JCParallelRecorderJobType> jobs(
+    final int count,
+    final Map<Integer, VulkanCommandBufferType> recorded)
+  {
+    final var jobs = new ArrayList<JCParallelRecorderJobType>(count);
+    for (int index = 0; index < count; ++index) {
+      final var jobIndex = Integer.valueOf(index);
+      jobs.add(buffer -> recorded.put(jobIndex, buffer));
+    }
+    return jobs;
+  }
+
+  /**
+   * Jobs are divided into contiguous ranges, one command buffer per range,
+   * and the buffers are returned in job order.
+   */
+
+  @Test
+  public void testRecordOrdered()
+    throws Exception
+  {
+    final var recorded =
+      new ConcurrentHashMap<Integer, VulkanCommandBufferType>();
+
+    this.recorder.beginFrame(0);
+    final var buffers =
+      this.recorder.record(
+        VulkanCommandBufferInheritanceInfo.builder().build(),
+        jobs(100, recorded)
+      );
+
+    assertEquals(4, buffers.size());
+    assertEquals(100, recorded.size());
+
+    final var identities = new IdentityHashMap<VulkanCommandBufferType, Boolean>();
+    buffers.forEach(b -> identities.put(b, Boolean.TRUE));
+    assertEquals(4, identities.size());
+
+    var bufferIndex = 0;
+    for (int index = 0; index < 100; ++index) {
+      final var buffer = recorded.get(Integer.valueOf(index));
+      while (buffers.get(bufferIndex) != buffer) {
+        ++bufferIndex;
+      }
+      assertTrue(bufferIndex < 4);
+    }
+  }
+
+  /**
+   * Fewer jobs than workers produce one buffer per job.
+   */
+
+  @Test
+  public void testRecordFewJobs()
+    throws Exception
+  {
+    final var recorded =
+      new ConcurrentHashMap<Integer, VulkanCommandBufferType>();
+
+    this.recorder.beginFrame(0);
+    assertEquals(
+      0,
+      this.recorder.record(
+        VulkanCommandBufferInheritanceInfo.builder().build(),
+        List.of()
+      ).size()
+    );
+    assertEquals(
+      2,
+      this.recorder.record(
+        VulkanCommandBufferInheritanceInfo.builder().build(),
+        jobs(2, recorded)
+      ).size()
+    );
+  }
+
+  /**
+   * Command buffers are reused when a frame is begun again, and distinct
+   * frames use distinct buffers.
+   */
+
+  @Test
+  public void testFrameReuse()
+    throws Exception
+  {
+    final var recorded =
+      new ConcurrentHashMap<Integer, VulkanCommandBufferType>();
+    final var inheritance =
+      VulkanCommandBufferInheritanceInfo.builder().build();
+
+    this.recorder.beginFrame(0);
+    final var frame0 = this.recorder.record(inheritance, jobs(8, recorded));
+    this.recorder.beginFrame(1);
+    final var frame1 = this.recorder.record(inheritance, jobs(8, recorded));
+    this.recorder.beginFrame(0);
+    final var frame0Again = this.recorder.record(inheritance, jobs(8, recorded));
+
+    for (int index = 0; index < 4; ++index) {
+      assertSame(frame0.get(index), frame0Again.get(index));
+      assertNotSame(frame0.get(index), frame1.get(index));
+    }
+  }
+
+  /**
+   * Job failures are propagated.
+   */
+
+  @Test
+  public void testJobFailure()
+    throws Exception
+  {
+    final var jobs = new ArrayList<JCParallelRecorderJobType>();
+    for (int index = 0; index < 8; ++index) {
+      jobs.add(buffer -> {
+        throw new VulkanResourceException("Failed!");
+      });
+    }
+
+    this.recorder.beginFrame(0);
+    final var ex =
+      assertThrows(VulkanResourceException.class, () -> {
+        this.recorder.record(
+          VulkanCommandBufferInheritanceInfo.builder().build(),
+          jobs
+        );
+      });
+    assertEquals(3, ex.getSuppressed().length);
+  }
+
+  /**
+   * Frame indices must be in range.
+   */
+
+  @Test
+  public void testFrameIndexInvalid()
+  {
+    assertThrows(IllegalArgumentException.class, () -> {
+      this.recorder.beginFrame(2);
+    });
+  }
+
+  /**
+   * Closed recorders cannot be used.
+   */
+
+  @Test
+  public void testClosed()
+    throws Exception
+  {
+    this.recorder.close();
+    assertThrows(VulkanDestroyedException.class, () -> {
+      this.recorder.beginFrame(0);
+    });
+  }
+}
@@ -0,0 +1,385 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.tests.pipeline_cache;
+
+import com.io7m.jcoronado.api.VulkanLogicalDeviceType;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceProperties;
+import com.io7m.jcoronado.api.VulkanPhysicalDevicePropertiesType;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceType;
+import com.io7m.jcoronado.api.VulkanPipelineCacheCreateInfo;
+import com.io7m.jcoronado.api.VulkanPipelineCacheType;
+import com.io7m.jcoronado.api.VulkanVersion;
+import com.io7m.jcoronado.utility.pipeline_cache.JCPipelineCacheConfiguration;
+import com.io7m.jcoronado.utility.pipeline_cache.JCPipelineCacheHeader;
+import com.io7m.jcoronado.utility.pipeline_cache.JCPipelineCacheLoadStatus;
+import com.io7m.jcoronado.utility.pipeline_cache.JCPipelineCacheManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.io7m.jcoronado.api.VulkanLogicalDeviceType.VulkanPipelineCacheDataResult.VK_PIPELINE_CACHE_SUCCESS;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public final class JCPipelineCacheManagerTest
+{
+  private static final UUID CACHE_UUID =
+    UUID.fromString("8c4a1f4e-3f57-4b9e-9d40-6f1a2b3c4d5e");
+
+  private @Mock VulkanLogicalDeviceType device;
+  private @Mock VulkanPhysicalDeviceType physicalDevice;
+  private List<ByteBuffer> initialData;
+  private byte[] deviceData;
+  private Path file;
+
+  private static VulkanPhysicalDeviceProperties properties(
+    final int vendorId,
+    final int deviceId)
+  {
+    final var version =
+      VulkanVersion.builder()
+        .setMajor(1)
+        .setMinor(3)
+        .setPatch(0)
+        .build();
+
+    return VulkanPhysicalDeviceProperties.builder()
+      .setName("Device")
+      .setType(VulkanPhysicalDevicePropertiesType.Type.VK_PHYSICAL_DEVICE_TYPE_DISCRETE_GPU)
+      .setApiVersion(version)
+      .setDriverVersion(version)
+      .setVendorId(vendorId)
+      .setId(deviceId)
+      .setPipelineCacheUUID(CACHE_UUID)
+      .build();
+  }
+
+  private static byte[] cacheData(
+    final int vendorId,
+    final int deviceId,
+    final int extra)
+  {
+    final var buffer =
+      ByteBuffer.allocate(32 + extra).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(0, 32);
+    buffer.putInt(4, 1);
+    buffer.putInt(8, vendorId);
+    buffer.putInt(12, deviceId);
+    buffer.order(ByteOrder.BIG_ENDIAN);
+    buffer.putLong(16, CACHE_UUID.getMostSignificantBits());
+    buffer.putLong(24, CACHE_UUID.getLeastSignificantBits());
+    for (var index = 0; index < extra; ++index) {
+      buffer.put(32 + index, (byte) index);
+    }
+    return buffer.array();
+  }
+
+  @BeforeEach
+  public void setup(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    this.file = directory.resolve("pipelines.bin");
+    this.initialData = new ArrayList<>();
+    this.deviceData = cacheData(0x10de, 0x2204, 64);
+
+    Mockito.when(this.device.physicalDevice())
+      .thenReturn(this.physicalDevice);
+    Mockito.when(this.physicalDevice.properties())
+      .thenReturn(properties(0x10de, 0x2204));
+
+    Mockito.when(this.device.createPipelineCache(any()))
+      .thenAnswer(invocation -> {
+        final VulkanPipelineCacheCreateInfo info = invocation.getArgument(0);
+        final var data = info.initialData();
+        final var copy = ByteBuffer.allocate(data.remaining());
+        copy.put(data.duplicate());
+        this.initialData.add(copy.flip());
+        return Mockito.mock(VulkanPipelineCacheType.class);
+      });
+    Mockito.when(this.device.getPipelineCacheDataSize(any()))
+      .thenAnswer(invocation -> Long.valueOf(this.deviceData.length));
+    Mockito.when(this.device.getPipelineCacheData(any(), any()))
+      .thenAnswer(invocation -> {
+        final ByteBuffer target = invocation.getArgument(1);
+        target.put(0, this.deviceData);
+        return VK_PIPELINE_CACHE_SUCCESS;
+      });
+  }
+
+  private JCPipelineCacheConfiguration configuration()
+  {
+    return JCPipelineCacheConfiguration.builder()
+      .setDevice(this.device)
+      .setFile(this.file)
+      .build();
+  }
+
+  /**
+   * A missing cache file results in an empty cache.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testMissing()
+    throws Exception
+  {
+    try (var manager = JCPipelineCacheManager.create(this.configuration())) {
+      assertEquals(JCPipelineCacheLoadStatus.MISSING, manager.loadStatus());
+      assertEquals(0, this.initialData.get(0).remaining());
+    }
+  }
+
+  /**
+   * Saved data is loaded again by a new manager.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testSaveLoadRoundTrip()
+    throws Exception
+  {
+    try (var manager = JCPipelineCacheManager.create(this.configuration())) {
+      assertTrue(manager.save());
+    }
+
+    try (var manager = JCPipelineCacheManager.create(this.configuration())) {
+      assertEquals(JCPipelineCacheLoadStatus.LOADED, manager.loadStatus());
+
+      final var loaded = this.initialData.get(1);
+      final var bytes = new byte[loaded.remaining()];
+      loaded.get(bytes);
+      assertArrayEquals(this.deviceData, bytes);
+    }
+
+    try (var stream = Files.list(this.file.getParent())) {
+      assertEquals(1L, stream.count());
+    }
+  }
+
+  /**
+   * Saving unchanged data does not rewrite the file.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testSaveUnchanged()
+    throws Exception
+  {
+    try (var manager = JCPipelineCacheManager.create(this.configuration())) {
+      assertTrue(manager.save());
+      assertFalse(manager.save());
+
+      this.deviceData = cacheData(0x10de, 0x2204, 128);
+      assertTrue(manager.save());
+    }
+
+    try (var manager = JCPipelineCacheManager.create(this.configuration())) {
+      assertFalse(manager.save());
+    }
+  }
+
+  /**
+   * Corrupted files are rejected.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testCorrupt()
+    throws Exception
+  {
+    try (var manager = JCPipelineCacheManager.create(this.configuration())) {
+      manager.save();
+    }
+
+    final var bytes = Files.readAllBytes(this.file);
+    bytes[bytes.length - 1] ^= (byte) 0xff;
+    Files.write(this.file, bytes);
+
+    try (var manager = JCPipelineCacheManager.create(this.configuration())) {
+      assertEquals(JCPipelineCacheLoadStatus.CORRUPT, manager.loadStatus());
+      assertEquals(0, this.initialData.get(1).remaining());
+    }
+  }
+
+  /**
+   * Truncated files are rejected.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testTruncated()
+    throws Exception
+  {
+    try (var manager = JCPipelineCacheManager.create(this.configuration())) {
+      manager.save();
+    }
+
+    final var bytes = Files.readAllBytes(this.file);
+    final var truncated = new byte[bytes.length - 8];
+    System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+    Files.write(this.file, truncated);
+
+    try (var manager = JCPipelineCacheManager.create(this.configuration())) {
+      assertEquals(JCPipelineCacheLoadStatus.CORRUPT, manager.loadStatus());
+    }
+  }
+
+  /**
+   * Data from a different device is rejected.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testIncompatible()
+    throws Exception
+  {
+    this.deviceData = cacheData(0x1002, 0x73bf, 64);
+
+    try (var manager = JCPipelineCacheManager.create(this.configuration())) {
+      manager.save();
+    }
+
+    try (var manager = JCPipelineCacheManager.create(this.configuration())) {
+      assertEquals(
+        JCPipelineCacheLoadStatus.INCOMPATIBLE,
+        manager.loadStatus()
+      );
+      assertEquals(0, this.initialData.get(1).remaining());
+    }
+  }
+
+  /**
+   * Thread caches are distinct per thread, and are merged on save.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testThreadCachesMerged()
+    throws Exception
+  {
+    try (var manager = JCPipelineCacheManager.create(this.configuration())) {
+      final var mine = manager.threadCache();
+      assertSame(mine, manager.threadCache());
+      assertNotSame(manager.cache(), mine);
+
+      final var other = new VulkanPipelineCacheType[1];
+      final var thread = new Thread(() -> {
+        try {
+          other[0] = manager.threadCache();
+        } catch (final Exception e) {
+          throw new IllegalStateException(e);
+        }
+      });
+      thread.start();
+      thread.join();
+      assertNotSame(mine, other[0]);
+
+      manager.save();
+      Mockito.verify(this.device)
+        .mergePipelineCaches(anyList(), Mockito.eq(manager.cache()));
+
+      /*
+       * The other thread has terminated, so its cache is destroyed by the
+       * merge. The cache of the current thread is retained.
+       */
+
+      Mockito.verify(other[0]).close();
+      Mockito.verify(mine, Mockito.never()).close();
+      assertSame(mine, manager.threadCache());
+    }
+  }
+
+  /**
+   * Releasing a thread cache merges and destroys it.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testThreadCacheReleased()
+    throws Exception
+  {
+    try (var manager = JCPipelineCacheManager.create(this.configuration())) {
+      final var mine = manager.threadCache();
+      manager.releaseThreadCache();
+
+      Mockito.verify(this.device)
+        .mergePipelineCaches(List.of(mine), manager.cache());
+      Mockito.verify(mine).close();
+      assertNotSame(mine, manager.threadCache());
+
+      /*
+       * Releasing without a cache does nothing.
+       */
+
+      manager.releaseThreadCache();
+      manager.releaseThreadCache();
+    }
+  }
+
+  /**
+   * Headers are parsed correctly.
+   */
+
+  @Test
+  public void testHeaderParse()
+  {
+    final var header =
+      JCPipelineCacheHeader.parse(ByteBuffer.wrap(cacheData(1, 2, 0)))
+        .orElseThrow();
+
+    assertEquals(32, header.headerSize());
+    assertEquals(1, header.headerVersion());
+    assertEquals(1, header.vendorId());
+    assertEquals(2, header.deviceId());
+    assertEquals(CACHE_UUID, header.pipelineCacheUUID());
+    assertTrue(
+      JCPipelineCacheHeader.parse(ByteBuffer.allocate(16)).isEmpty()
+    );
+  }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.tests.pipeline_cache;
+
+import com.io7m.jcoronado.api.VulkanComputePipelineCreateInfo;
+import com.io7m.jcoronado.api.VulkanCullModeFlag;
+import com.io7m.jcoronado.api.VulkanGraphicsPipelineCreateInfo;
+import com.io7m.jcoronado.api.VulkanLogicalDeviceType;
+import com.io7m.jcoronado.api.VulkanPipelineCacheType;
+import com.io7m.jcoronado.api.VulkanPipelineLayoutType;
+import com.io7m.jcoronado.api.VulkanPipelineRasterizationStateCreateInfo;
+import com.io7m.jcoronado.api.VulkanPipelineShaderStageCreateInfo;
+import com.io7m.jcoronado.api.VulkanPipelineType;
+import com.io7m.jcoronado.api.VulkanShaderModuleType;
+import com.io7m.jcoronado.api.VulkanSpecializationMap;
+import com.io7m.jcoronado.api.VulkanSpecializationMapEntry;
+import com.io7m.jcoronado.utility.pipeline_cache.JCPipelineDeduplicator;
+import com.io7m.jcoronado.utility.pipeline_cache.JCPipelineDeduplicatorConfiguration;
+import com.io7m.jcoronado.utility.pipeline_cache.JCPipelineDeduplicatorType;
+import com.io7m.jcoronado.utility.pipeline_cache.JCStructuralHasher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+import static com.io7m.jcoronado.api.VulkanCullModeFlag.VK_CULL_MODE_BACK_BIT;
+import static com.io7m.jcoronado.api.VulkanCullModeFlag.VK_CULL_MODE_FRONT_BIT;
+import static com.io7m.jcoronado.api.VulkanShaderStageFlag.VK_SHADER_STAGE_COMPUTE_BIT;
+import static com.io7m.jcoronado.api.VulkanShaderStageFlag.VK_SHADER_STAGE_VERTEX_BIT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyList;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public final class JCPipelineDeduplicatorTest
+{
+  private @Mock VulkanLogicalDeviceType device;
+  private @Mock VulkanPipelineLayoutType layout;
+  private @Mock VulkanShaderModuleType module;
+  private JCPipelineDeduplicatorType deduplicator;
+
+  @BeforeEach
+  public void setup()
+    throws Exception
+  {
+    Mockito.when(this.device.createGraphicsPipelines(
+      Mockito.<Optional<VulkanPipelineCacheType>>any(),
+      anyList())
+    ).thenAnswer(invocation -> {
+      return List.of(Mockito.mock(VulkanPipelineType.class));
+    });
+    Mockito.when(this.device.createComputePipelines(
+      Mockito.<Optional<VulkanPipelineCacheType>>any(),
+      anyList())
+    ).thenAnswer(invocation -> {
+      return List.of(Mockito.mock(VulkanPipelineType.class));
+    });
+
+    this.deduplicator =
+      JCPipelineDeduplicator.create(
+        JCPipelineDeduplicatorConfiguration.builder()
+          .setDevice(this.device)
+          .build()
+      );
+  }
+
+  private VulkanPipelineShaderStageCreateInfo stage(
+    final int constant)
+  {
+    final var data = ByteBuffer.allocateDirect(4);
+    data.putInt(0, constant);
+
+    return VulkanPipelineShaderStageCreateInfo.builder()
+      .setStage(VK_SHADER_STAGE_VERTEX_BIT)
+      .setModule(this.module)
+      .setShaderEntryPoint("main")
+      .setSpecializationInfo(
+        VulkanSpecializationMap.builder()
+          .addEntries(
+            VulkanSpecializationMapEntry.builder()
+              .setConstantID(0)
+              .setOffset(0L)
+              .setSize(4L)
+              .build()
+          )
+          .setData(data)
+          .build()
+      )
+      .build();
+  }
+
+  private VulkanGraphicsPipelineCreateInfo graphics(
+    final VulkanPipelineLayoutType pipelineLayout,
+    final int constant,
+    final VulkanCullModeFlag cull)
+  {
+    return VulkanGraphicsPipelineCreateInfo.builder()
+      .setLayout(pipelineLayout)
+      .addStages(this.stage(constant))
+      .setRasterizationState(
+        VulkanPipelineRasterizationStateCreateInfo.builder()
+          .setCullMode(EnumSet.of(cull))
+          .build()
+      )
+      .build();
+  }
+
+  /**
+   * Structurally identical create infos yield the same pipeline.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testIdenticalGraphics()
+    throws Exception
+  {
+    final var p0 =
+      this.deduplicator.graphicsPipeline(
+        this.graphics(this.layout, 23, VK_CULL_MODE_BACK_BIT));
+    final var p1 =
+      this.deduplicator.graphicsPipeline(
+        this.graphics(this.layout, 23, VK_CULL_MODE_BACK_BIT));
+
+    assertSame(p0, p1);
+    assertEquals(1, this.deduplicator.size());
+    Mockito.verify(this.device, Mockito.times(1))
+      .createGraphicsPipelines(
+        Mockito.<Optional<VulkanPipelineCacheType>>any(),
+        anyList());
+  }
+
+  /**
+   * Create infos differing in any hashed field yield distinct pipelines.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testDistinctGraphics()
+    throws Exception
+  {
+    final var otherLayout =
+      Mockito.mock(VulkanPipelineLayoutType.class);
+
+    final var p0 =
+      this.deduplicator.graphicsPipeline(
+        this.graphics(this.layout, 23, VK_CULL_MODE_BACK_BIT));
+    final var p1 =
+      this.deduplicator.graphicsPipeline(
+        this.graphics(this.layout, 24, VK_CULL_MODE_BACK_BIT));
+    final var p2 =
+      this.deduplicator.graphicsPipeline(
+        this.graphics(this.layout, 23, VK_CULL_MODE_FRONT_BIT));
+    final var p3 =
+      this.deduplicator.graphicsPipeline(
+        this.graphics(otherLayout, 23, VK_CULL_MODE_BACK_BIT));
+
+    assertNotSame(p0, p1);
+    assertNotSame(p0, p2);
+    assertNotSame(p0, p3);
+    assertEquals(4, this.deduplicator.size());
+  }
+
+  /**
+   * Forgotten handles receive new identities.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testForget()
+    throws Exception
+  {
+    final var p0 =
+      this.deduplicator.graphicsPipeline(
+        this.graphics(this.layout, 23, VK_CULL_MODE_BACK_BIT));
+    this.deduplicator.forget(this.layout);
+    final var p1 =
+      this.deduplicator.graphicsPipeline(
+        this.graphics(this.layout, 23, VK_CULL_MODE_BACK_BIT));
+
+    assertNotSame(p0, p1);
+  }
+
+  /**
+   * Compute pipelines are deduplicated, and never match graphics
+   * pipelines.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testCompute()
+    throws Exception
+  {
+    final var info =
+      VulkanComputePipelineCreateInfo.builder()
+        .setLayout(this.layout)
+        .setStage(
+          VulkanPipelineShaderStageCreateInfo.builder()
+            .setStage(VK_SHADER_STAGE_COMPUTE_BIT)
+            .setModule(this.module)
+            .setShaderEntryPoint("main")
+            .build()
+        )
+        .build();
+
+    final var p0 = this.deduplicator.computePipeline(info);
+    final var p1 = this.deduplicator.computePipeline(info);
+    assertSame(p0, p1);
+    assertEquals(1, this.deduplicator.size());
+  }
+
+  /**
+   * Closing the deduplicator closes all pipelines.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testClose()
+    throws Exception
+  {
+    final var p0 =
+      this.deduplicator.graphicsPipeline(
+        this.graphics(this.layout, 23, VK_CULL_MODE_BACK_BIT));
+
+    this.deduplicator.close();
+    Mockito.verify(p0).close();
+    assertEquals(0, this.deduplicator.size());
+  }
+
+  /**
+   * Enum set hashing does not depend on iteration order, byte hashing
+   * does not depend on buffer position, and arrays hash identically to
+   * big-endian buffers.
+   */
+
+  @Test
+  public void testHasher()
+  {
+    final var h0 = new JCStructuralHasher();
+    final var h1 = new JCStructuralHasher();
+
+    h0.putEnumSet(EnumSet.of(VK_CULL_MODE_BACK_BIT, VK_CULL_MODE_FRONT_BIT));
+    h1.putEnumSet(
+      new LinkedHashSet<>(
+        List.of(VK_CULL_MODE_FRONT_BIT, VK_CULL_MODE_BACK_BIT)));
+    assertEquals(h0.digest(), h1.digest());
+
+    final var b0 = ByteBuffer.allocate(19);
+    final var b1 = ByteBuffer.allocate(23);
+    for (var index = 0; index < 19; ++index) {
+      b0.put(index, (byte) index);
+      b1.put(index + 4, (byte) index);
+    }
+    b1.position(4);
+
+    h0.reset().putBytes(b0);
+    h1.reset().putBytes(b1);
+    assertEquals(h0.digest(), h1.digest());
+    assertEquals(4, b1.position());
+
+    h0.reset().putBytes(b0.array());
+    assertEquals(h0.digest(), h1.digest());
+
+    b0.put(18, (byte) 0x7f);
+    h0.reset().putBytes(b0);
+    assertNotEquals(h0.digest(), h1.digest());
+
+    h0.reset().putString("main");
+    h1.reset().putString("mainX");
+    assertNotEquals(h0.digest(), h1.digest());
+  }
+}
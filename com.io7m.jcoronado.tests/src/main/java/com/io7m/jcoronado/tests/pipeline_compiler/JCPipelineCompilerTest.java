@@ -0,0 +1,276 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.tests.pipeline_compiler;
+
+import com.io7m.jcoronado.api.VulkanCallFailedException;
+import com.io7m.jcoronado.api.VulkanGraphicsPipelineCreateInfo;
+import com.io7m.jcoronado.api.VulkanLogicalDeviceType;
+import com.io7m.jcoronado.api.VulkanPipelineCacheType;
+import com.io7m.jcoronado.api.VulkanPipelineLayoutType;
+import com.io7m.jcoronado.api.VulkanPipelineType;
+import com.io7m.jcoronado.utility.pipeline_cache.JCPipelineCacheManagerType;
+import com.io7m.jcoronado.utility.pipeline_compiler.JCPipelineCompiler;
+import com.io7m.jcoronado.utility.pipeline_compiler.JCPipelineCompilerConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@Timeout(value = 10L, unit = TimeUnit.SECONDS)
+public final class JCPipelineCompilerTest
+{
+  private @Mock VulkanLogicalDeviceType device;
+  private @Mock VulkanPipelineLayoutType layout;
+  private CountDownLatch release;
+  private CountDownLatch started;
+  private CopyOnWriteArrayList<Integer> compiled;
+  private AtomicInteger calls;
+
+  private VulkanGraphicsPipelineCreateInfo info(
+    final int subpass)
+  {
+    return VulkanGraphicsPipelineCreateInfo.builder()
+      .setLayout(this.layout)
+      .setSubpass(subpass)
+      .build();
+  }
+
+  @BeforeEach
+  public void setup()
+    throws Exception
+  {
+    this.release = new CountDownLatch(1);
+    this.started = new CountDownLatch(1);
+    this.compiled = new CopyOnWriteArrayList<>();
+    this.calls = new AtomicInteger(0);
+
+    Mockito.when(this.device.createGraphicsPipelines(
+      Mockito.<Optional<VulkanPipelineCacheType>>any(),
+      anyList())
+    ).thenAnswer(invocation -> {
+      final List<VulkanGraphicsPipelineCreateInfo> infos =
+        invocation.getArgument(1);
+      this.calls.incrementAndGet();
+      this.started.countDown();
+      this.release.await();
+      this.compiled.add(Integer.valueOf(infos.get(0).subpass()));
+      return List.of(Mockito.mock(VulkanPipelineType.class));
+    });
+  }
+
+  /**
+   * Identical in-flight requests are compiled once.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testCoalesced()
+    throws Exception
+  {
+    final var configuration =
+      JCPipelineCompilerConfiguration.builder()
+        .setDevice(this.device)
+        .setWorkerCount(2)
+        .build();
+
+    try (var compiler = JCPipelineCompiler.create(configuration)) {
+      final var f0 = compiler.compileGraphics(this.info(0), 0);
+      final var f1 = compiler.compileGraphics(this.info(0), 0);
+      assertEquals(1, compiler.inFlight());
+
+      this.release.countDown();
+      assertSame(f0.get(), f1.get());
+      assertEquals(1, this.calls.get());
+      assertEquals(0, compiler.inFlight());
+    }
+  }
+
+  /**
+   * Higher priority requests are compiled first.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testPriority()
+    throws Exception
+  {
+    final var configuration =
+      JCPipelineCompilerConfiguration.builder()
+        .setDevice(this.device)
+        .setWorkerCount(1)
+        .build();
+
+    try (var compiler = JCPipelineCompiler.create(configuration)) {
+      final var blocker = compiler.compileGraphics(this.info(0), 0);
+      this.started.await();
+
+      final var low = compiler.compileGraphics(this.info(1), 0);
+      final var high = compiler.compileGraphics(this.info(2), 10);
+      final var mid = compiler.compileGraphics(this.info(3), 5);
+      final var promoted = compiler.compileGraphics(this.info(1), 20);
+
+      this.release.countDown();
+      blocker.get();
+      low.get();
+      high.get();
+      mid.get();
+      assertSame(low.get(), promoted.get());
+
+      assertEquals(
+        List.of(
+          Integer.valueOf(0),
+          Integer.valueOf(1),
+          Integer.valueOf(2),
+          Integer.valueOf(3)),
+        this.compiled
+      );
+      assertEquals(4, this.calls.get());
+    }
+  }
+
+  /**
+   * Failed compilations fail the future.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testFailure()
+    throws Exception
+  {
+    Mockito.when(this.device.createGraphicsPipelines(
+      Mockito.<Optional<VulkanPipelineCacheType>>any(),
+      anyList())
+    ).thenThrow(new VulkanCallFailedException("Failed", Map.of()));
+
+    final var configuration =
+      JCPipelineCompilerConfiguration.builder()
+        .setDevice(this.device)
+        .build();
+
+    try (var compiler = JCPipelineCompiler.create(configuration)) {
+      final var ex =
+        assertThrows(
+          ExecutionException.class,
+          () -> compiler.compileGraphics(this.info(0), 0).get()
+        );
+      assertInstanceOf(VulkanCallFailedException.class, ex.getCause());
+      assertEquals(0, compiler.inFlight());
+    }
+  }
+
+  /**
+   * Worker caches are used and merged.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testCacheMerged()
+    throws Exception
+  {
+    final var manager =
+      Mockito.mock(JCPipelineCacheManagerType.class);
+    final var cache =
+      Mockito.mock(VulkanPipelineCacheType.class);
+
+    Mockito.when(manager.threadCache())
+      .thenReturn(cache);
+
+    final var configuration =
+      JCPipelineCompilerConfiguration.builder()
+        .setDevice(this.device)
+        .setCacheManager(manager)
+        .setMergeInterval(Duration.ZERO)
+        .build();
+
+    this.release.countDown();
+    try (var compiler = JCPipelineCompiler.create(configuration)) {
+      compiler.compileGraphics(this.info(0), 0).get();
+    }
+
+    Mockito.verify(this.device)
+      .createGraphicsPipelines(Mockito.eq(Optional.of(cache)), anyList());
+    Mockito.verify(manager, Mockito.atLeastOnce())
+      .merge();
+  }
+
+  /**
+   * Closing the compiler cancels queued requests.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testCloseCancelsQueued()
+    throws Exception
+  {
+    final var configuration =
+      JCPipelineCompilerConfiguration.builder()
+        .setDevice(this.device)
+        .setWorkerCount(1)
+        .build();
+
+    final var compiler = JCPipelineCompiler.create(configuration);
+    final var running = compiler.compileGraphics(this.info(0), 0);
+    this.started.await();
+    final var queued = compiler.compileGraphics(this.info(1), 0);
+
+    final var closer = new Thread(compiler::close);
+    closer.start();
+    final var ex = assertThrows(ExecutionException.class, queued::get);
+    assertInstanceOf(CancellationException.class, ex.getCause());
+
+    this.release.countDown();
+    closer.join();
+    running.get();
+
+    final var after = compiler.compileGraphics(this.info(2), 0);
+    assertThrows(ExecutionException.class, after::get);
+    Mockito.verify(this.device, Mockito.times(1))
+      .createGraphicsPipelines(
+        Mockito.<Optional<VulkanPipelineCacheType>>any(),
+        anyList());
+  }
+}
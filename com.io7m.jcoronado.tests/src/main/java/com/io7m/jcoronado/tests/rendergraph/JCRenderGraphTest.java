@@ -0,0 +1,441 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.tests.rendergraph;
+
+import com.io7m.jcoronado.api.VulkanBufferCreateInfo;
+import com.io7m.jcoronado.api.VulkanBufferType;
+import com.io7m.jcoronado.api.VulkanCommandBufferType;
+import com.io7m.jcoronado.api.VulkanDependencyInfo;
+import com.io7m.jcoronado.api.VulkanDeviceMemoryType;
+import com.io7m.jcoronado.api.VulkanImageCreateInfo;
+import com.io7m.jcoronado.api.VulkanImageSubresourceRange;
+import com.io7m.jcoronado.api.VulkanImageType;
+import com.io7m.jcoronado.api.VulkanLogicalDeviceType;
+import com.io7m.jcoronado.api.VulkanMemoryHeap;
+import com.io7m.jcoronado.api.VulkanMemoryHeapIndex;
+import com.io7m.jcoronado.api.VulkanMemoryRequirements;
+import com.io7m.jcoronado.api.VulkanMemoryType;
+import com.io7m.jcoronado.api.VulkanMemoryTypeIndex;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceMemoryProperties;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceType;
+import com.io7m.jcoronado.utility.rendergraph.JCRGImage;
+import com.io7m.jcoronado.utility.rendergraph.JCRenderGraph;
+import com.io7m.jcoronado.utility.rendergraph.JCRenderGraphBuilderType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_SHADER_STORAGE_WRITE_BIT;
+import static com.io7m.jcoronado.api.VulkanImageAspectFlag.VK_IMAGE_ASPECT_COLOR_BIT;
+import static com.io7m.jcoronado.api.VulkanImageLayout.VK_IMAGE_LAYOUT_COLOR_ATTACHMENT_OPTIMAL;
+import static com.io7m.jcoronado.api.VulkanImageLayout.VK_IMAGE_LAYOUT_PRESENT_SRC_KHR;
+import static com.io7m.jcoronado.api.VulkanImageLayout.VK_IMAGE_LAYOUT_SHADER_READ_ONLY_OPTIMAL;
+import static com.io7m.jcoronado.api.VulkanImageLayout.VK_IMAGE_LAYOUT_UNDEFINED;
+import static com.io7m.jcoronado.api.VulkanMemoryPropertyFlag.VK_MEMORY_PROPERTY_DEVICE_LOCAL_BIT;
+import static com.io7m.jcoronado.api.VulkanPipelineStageFlag.VK_PIPELINE_STAGE_COMPUTE_SHADER_BIT;
+import static com.io7m.jcoronado.api.VulkanPipelineStageFlag.VK_PIPELINE_STAGE_FRAGMENT_SHADER_BIT;
+import static com.io7m.jcoronado.utility.rendergraph.JCRGBufferUsage.COMPUTE_SHADER_STORAGE_WRITE;
+import static com.io7m.jcoronado.utility.rendergraph.JCRGBufferUsage.FRAGMENT_SHADER_STORAGE_READ;
+import static com.io7m.jcoronado.utility.rendergraph.JCRGImageUsage.COLOR_ATTACHMENT_WRITE;
+import static com.io7m.jcoronado.utility.rendergraph.JCRGImageUsage.COMPUTE_SHADER_SAMPLED_READ;
+import static com.io7m.jcoronado.utility.rendergraph.JCRGImageUsage.FRAGMENT_SHADER_SAMPLED_READ;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public final class JCRenderGraphTest
+{
+  private @Mock VulkanLogicalDeviceType device;
+  private @Mock VulkanPhysicalDeviceType physicalDevice;
+  private @Mock VulkanCommandBufferType commandBuffer;
+  private @Mock VulkanImageType swapchainImage;
+  private @Mock VulkanDeviceMemoryType memory;
+
+  @BeforeEach
+  public void setup()
+    throws Exception
+  {
+    final var heapIndex =
+      new VulkanMemoryHeapIndex(0);
+    final var typeIndex =
+      new VulkanMemoryTypeIndex(0);
+
+    final var properties =
+      VulkanPhysicalDeviceMemoryProperties.builder()
+        .putHeaps(
+          heapIndex,
+          VulkanMemoryHeap.builder()
+            .setIndex(heapIndex)
+            .setSize(1_000_000_000L)
+            .build())
+        .putTypes(
+          typeIndex,
+          VulkanMemoryType.builder()
+            .setIndex(typeIndex)
+            .setHeapIndex(heapIndex)
+            .addFlags(VK_MEMORY_PROPERTY_DEVICE_LOCAL_BIT)
+            .build())
+        .build();
+
+    final var requirements =
+      VulkanMemoryRequirements.builder()
+        .setSize(1024L)
+        .setAlignment(256L)
+        .setMemoryTypeBits(1)
+        .build();
+
+    Mockito.when(this.device.physicalDevice())
+      .thenReturn(this.physicalDevice);
+    Mockito.when(this.physicalDevice.memory())
+      .thenReturn(properties);
+    Mockito.when(this.device.createImage(Mockito.any()))
+      .thenAnswer(i -> Mockito.mock(VulkanImageType.class));
+    Mockito.when(this.device.createBuffer(Mockito.any()))
+      .thenAnswer(i -> Mockito.mock(VulkanBufferType.class));
+    Mockito.when(this.device.getImageMemoryRequirements(Mockito.any()))
+      .thenReturn(requirements);
+    Mockito.when(this.device.getBufferMemoryRequirements(Mockito.any()))
+      .thenReturn(requirements);
+    Mockito.when(this.device.allocateMemory(Mockito.any()))
+      .thenReturn(this.memory);
+  }
+
+  private static VulkanImageCreateInfo imageInfo()
+  {
+    return VulkanImageCreateInfo.builder()
+      .build();
+  }
+
+  private JCRGImage output(
+    final JCRenderGraphBuilderType builder)
+  {
+    return builder.importImage(
+      "output",
+      VulkanImageSubresourceRange.builder()
+        .addAspectMask(VK_IMAGE_ASPECT_COLOR_BIT)
+        .build(),
+      VK_IMAGE_LAYOUT_UNDEFINED,
+      VK_IMAGE_LAYOUT_PRESENT_SRC_KHR
+    );
+  }
+
+  /**
+   * Passes that do not contribute to imported resources are culled, and
+   * transient images with disjoint lifetimes share memory.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testCullingAndAliasing()
+    throws Exception
+  {
+    final var builder = JCRenderGraph.builder(this.device);
+    final var output = this.output(builder);
+    final var a = builder.createImage("a", imageInfo(), Set.of(VK_IMAGE_ASPECT_COLOR_BIT));
+    final var b = builder.createImage("b", imageInfo(), Set.of(VK_IMAGE_ASPECT_COLOR_BIT));
+    final var c = builder.createImage("c", imageInfo(), Set.of(VK_IMAGE_ASPECT_COLOR_BIT));
+    final var unused = builder.createImage("unused", imageInfo(), Set.of(VK_IMAGE_ASPECT_COLOR_BIT));
+
+    builder.addPass("p0")
+      .use(a, COLOR_ATTACHMENT_WRITE)
+      .setExecutor(context -> { });
+    builder.addPass("p1")
+      .use(a, FRAGMENT_SHADER_SAMPLED_READ)
+      .use(b, COLOR_ATTACHMENT_WRITE)
+      .setExecutor(context -> { });
+    builder.addPass("debug")
+      .use(b, FRAGMENT_SHADER_SAMPLED_READ)
+      .use(unused, COLOR_ATTACHMENT_WRITE)
+      .setExecutor(context -> { });
+    builder.addPass("p2")
+      .use(b, FRAGMENT_SHADER_SAMPLED_READ)
+      .use(c, COLOR_ATTACHMENT_WRITE)
+      .setExecutor(context -> { });
+    builder.addPass("p3")
+      .use(c, FRAGMENT_SHADER_SAMPLED_READ)
+      .use(output, COLOR_ATTACHMENT_WRITE)
+      .setExecutor(context -> { });
+
+    try (var graph = builder.compile()) {
+      assertEquals(List.of("p0", "p1", "p2", "p3"), graph.passesExecuted());
+      assertEquals(List.of("debug"), graph.passesCulled());
+      assertEquals(3L * 1024L, graph.transientMemoryRequired());
+      assertEquals(2L * 1024L, graph.transientMemoryAllocated());
+    }
+
+    Mockito.verify(this.device, Mockito.times(3))
+      .createImage(Mockito.any());
+    Mockito.verify(this.device, Mockito.times(1))
+      .allocateMemory(Mockito.any());
+  }
+
+  /**
+   * Barriers and layout transitions are derived and recorded before each
+   * pass, and imported images are transitioned to their final layouts.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testBarriers()
+    throws Exception
+  {
+    final var builder = JCRenderGraph.builder(this.device);
+    final var output = this.output(builder);
+    final var a = builder.createImage("a", imageInfo(), Set.of(VK_IMAGE_ASPECT_COLOR_BIT));
+    final var executed = new ArrayList<String>();
+
+    builder.addPass("p0")
+      .use(a, COLOR_ATTACHMENT_WRITE)
+      .setExecutor(context -> executed.add("p0"));
+    builder.addPass("p1")
+      .use(a, FRAGMENT_SHADER_SAMPLED_READ)
+      .use(output, COLOR_ATTACHMENT_WRITE)
+      .setExecutor(context -> {
+        assertEquals(this.swapchainImage, context.image(output));
+        executed.add("p1");
+      });
+
+    try (var graph = builder.compile()) {
+      graph.bindImage(output, this.swapchainImage);
+      graph.execute(this.commandBuffer);
+      assertEquals(3, graph.barrierCount());
+    }
+
+    assertEquals(List.of("p0", "p1"), executed);
+
+    final var captor =
+      ArgumentCaptor.forClass(VulkanDependencyInfo.class);
+    Mockito.verify(this.commandBuffer, Mockito.times(3))
+      .pipelineBarrier(captor.capture());
+
+    final var infos = captor.getAllValues();
+
+    final var first = infos.get(0).imageMemoryBarriers();
+    assertEquals(1, first.size());
+    assertEquals(VK_IMAGE_LAYOUT_UNDEFINED, first.get(0).oldLayout());
+    assertEquals(VK_IMAGE_LAYOUT_COLOR_ATTACHMENT_OPTIMAL, first.get(0).newLayout());
+
+    final var second = infos.get(1).imageMemoryBarriers();
+    assertEquals(2, second.size());
+    assertEquals(VK_IMAGE_LAYOUT_SHADER_READ_ONLY_OPTIMAL, second.get(0).newLayout());
+    assertEquals(this.swapchainImage, second.get(1).image());
+
+    final var last = infos.get(2).imageMemoryBarriers();
+    assertEquals(1, last.size());
+    assertEquals(VK_IMAGE_LAYOUT_COLOR_ATTACHMENT_OPTIMAL, last.get(0).oldLayout());
+    assertEquals(VK_IMAGE_LAYOUT_PRESENT_SRC_KHR, last.get(0).newLayout());
+  }
+
+  /**
+   * The first use of a transient resource waits for the accesses made to
+   * the same memory by the previous execution of the graph, including the
+   * accesses to resources that alias it.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testTransientWaitsForPreviousExecution()
+    throws Exception
+  {
+    final var builder = JCRenderGraph.builder(this.device);
+    final var output = this.output(builder);
+    final var buffer =
+      builder.createBuffer(
+        "buffer",
+        VulkanBufferCreateInfo.builder()
+          .setSize(1024L)
+          .build()
+      );
+    final var a = builder.createImage("a", imageInfo(), Set.of(VK_IMAGE_ASPECT_COLOR_BIT));
+    final var b = builder.createImage("b", imageInfo(), Set.of(VK_IMAGE_ASPECT_COLOR_BIT));
+    final var c = builder.createImage("c", imageInfo(), Set.of(VK_IMAGE_ASPECT_COLOR_BIT));
+
+    builder.addPass("p0")
+      .use(buffer, COMPUTE_SHADER_STORAGE_WRITE)
+      .use(a, COLOR_ATTACHMENT_WRITE)
+      .setExecutor(context -> { });
+    builder.addPass("p1")
+      .use(a, FRAGMENT_SHADER_SAMPLED_READ)
+      .use(b, COLOR_ATTACHMENT_WRITE)
+      .setExecutor(context -> { });
+    builder.addPass("p2")
+      .use(b, FRAGMENT_SHADER_SAMPLED_READ)
+      .use(c, COLOR_ATTACHMENT_WRITE)
+      .setExecutor(context -> { });
+    builder.addPass("p3")
+      .use(buffer, FRAGMENT_SHADER_STORAGE_READ)
+      .use(c, COMPUTE_SHADER_SAMPLED_READ)
+      .use(output, COLOR_ATTACHMENT_WRITE)
+      .setExecutor(context -> { });
+
+    try (var graph = builder.compile()) {
+      assertEquals(3L * 1024L, graph.transientMemoryAllocated());
+      graph.bindImage(output, this.swapchainImage);
+      graph.execute(this.commandBuffer);
+    }
+
+    final var captor =
+      ArgumentCaptor.forClass(VulkanDependencyInfo.class);
+    Mockito.verify(this.commandBuffer, Mockito.atLeastOnce())
+      .pipelineBarrier(captor.capture());
+
+    /*
+     * The buffer is first written by p0, and was last read by p3 of the
+     * previous execution. The image "a" shares memory with "c", which was
+     * last read by p3 of the previous execution.
+     */
+
+    final var first = captor.getAllValues().get(0);
+    assertEquals(1, first.bufferMemoryBarriers().size());
+    final var bufferBarrier = first.bufferMemoryBarriers().get(0);
+    assertTrue(
+      bufferBarrier.srcStageMask()
+        .contains(VK_PIPELINE_STAGE_FRAGMENT_SHADER_BIT));
+    assertTrue(
+      bufferBarrier.srcAccessMask()
+        .contains(VK_ACCESS_SHADER_STORAGE_WRITE_BIT));
+
+    assertEquals(1, first.imageMemoryBarriers().size());
+    final var imageBarrier = first.imageMemoryBarriers().get(0);
+    assertEquals(VK_IMAGE_LAYOUT_UNDEFINED, imageBarrier.oldLayout());
+    assertTrue(
+      imageBarrier.srcStageMask()
+        .contains(VK_PIPELINE_STAGE_COMPUTE_SHADER_BIT));
+  }
+
+  /**
+   * Several uses of the same image in one pass are combined into a single
+   * barrier, and uses that require different layouts are rejected.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testSameResourceTwiceInPass()
+    throws Exception
+  {
+    final var builder = JCRenderGraph.builder(this.device);
+    final var output = this.output(builder);
+    final var a = builder.createImage("a", imageInfo(), Set.of(VK_IMAGE_ASPECT_COLOR_BIT));
+
+    builder.addPass("p0")
+      .use(a, COLOR_ATTACHMENT_WRITE)
+      .setExecutor(context -> { });
+    builder.addPass("p1")
+      .use(a, FRAGMENT_SHADER_SAMPLED_READ)
+      .use(a, COMPUTE_SHADER_SAMPLED_READ)
+      .use(output, COLOR_ATTACHMENT_WRITE)
+      .setExecutor(context -> { });
+
+    final var conflicting = builder.addPass("p2");
+    conflicting.use(a, FRAGMENT_SHADER_SAMPLED_READ);
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> conflicting.use(a, COLOR_ATTACHMENT_WRITE)
+    );
+    conflicting.setExecutor(context -> { });
+
+    try (var graph = builder.compile()) {
+      graph.bindImage(output, this.swapchainImage);
+      graph.execute(this.commandBuffer);
+    }
+
+    final var captor =
+      ArgumentCaptor.forClass(VulkanDependencyInfo.class);
+    Mockito.verify(this.commandBuffer, Mockito.atLeastOnce())
+      .pipelineBarrier(captor.capture());
+
+    final var second = captor.getAllValues().get(1).imageMemoryBarriers();
+    assertEquals(2, second.size());
+    assertEquals(VK_IMAGE_LAYOUT_SHADER_READ_ONLY_OPTIMAL, second.get(0).newLayout());
+    assertEquals(
+      Set.of(
+        VK_PIPELINE_STAGE_FRAGMENT_SHADER_BIT,
+        VK_PIPELINE_STAGE_COMPUTE_SHADER_BIT),
+      second.get(0).dstStageMask()
+    );
+  }
+
+  /**
+   * Reading a transient resource before writing it is rejected.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testReadBeforeWrite()
+    throws Exception
+  {
+    final var builder = JCRenderGraph.builder(this.device);
+    final var buffer =
+      builder.createBuffer(
+        "buffer",
+        VulkanBufferCreateInfo.builder()
+          .setSize(1024L)
+          .build()
+      );
+
+    builder.addPass("p0")
+      .use(builder.createImage("a", imageInfo(), Set.of(VK_IMAGE_ASPECT_COLOR_BIT)),
+           FRAGMENT_SHADER_SAMPLED_READ)
+      .use(buffer, COMPUTE_SHADER_STORAGE_WRITE)
+      .setSideEffects(true)
+      .setExecutor(context -> { });
+
+    assertThrows(IllegalArgumentException.class, builder::compile);
+  }
+
+  /**
+   * Executing a graph with an unbound imported image fails.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testUnboundImport()
+    throws Exception
+  {
+    final var builder = JCRenderGraph.builder(this.device);
+    final var output = this.output(builder);
+
+    builder.addPass("p0")
+      .use(output, COLOR_ATTACHMENT_WRITE)
+      .setExecutor(context -> { });
+
+    try (var graph = builder.compile()) {
+      assertThrows(
+        IllegalStateException.class,
+        () -> graph.execute(this.commandBuffer)
+      );
+    }
+  }
+}
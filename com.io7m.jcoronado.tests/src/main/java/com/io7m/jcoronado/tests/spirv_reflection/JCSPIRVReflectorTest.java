@@ -0,0 +1,527 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.tests.spirv_reflection;
+
+import com.io7m.jcoronado.api.VulkanDescriptorSetLayoutBinding;
+import com.io7m.jcoronado.api.VulkanVertexInputRate;
+import com.io7m.jcoronado.utility.spirv_reflection.JCSPIRVDescriptorBinding;
+import com.io7m.jcoronado.utility.spirv_reflection.JCSPIRVLayouts;
+import com.io7m.jcoronado.utility.spirv_reflection.JCSPIRVModule;
+import com.io7m.jcoronado.utility.spirv_reflection.JCSPIRVPushConstantBlock;
+import com.io7m.jcoronado.utility.spirv_reflection.JCSPIRVReflectionException;
+import com.io7m.jcoronado.utility.spirv_reflection.JCSPIRVReflector;
+import com.io7m.jcoronado.utility.spirv_reflection.JCSPIRVReflectorType;
+import com.io7m.jcoronado.utility.spirv_reflection.JCSPIRVSpecializationConstant;
+import com.io7m.jcoronado.utility.spirv_reflection.JCSPIRVVertexInput;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static com.io7m.jcoronado.api.VulkanDescriptorBindingFlag.VK_DESCRIPTOR_BINDING_PARTIALLY_BOUND;
+import static com.io7m.jcoronado.api.VulkanDescriptorBindingFlag.VK_DESCRIPTOR_BINDING_VARIABLE_DESCRIPTOR_COUNT;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_COMBINED_IMAGE_SAMPLER;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_SAMPLER;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_STORAGE_BUFFER;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER;
+import static com.io7m.jcoronado.api.VulkanFormat.VK_FORMAT_R32G32B32A32_SFLOAT;
+import static com.io7m.jcoronado.api.VulkanFormat.VK_FORMAT_R32G32B32_SFLOAT;
+import static com.io7m.jcoronado.api.VulkanFormat.VK_FORMAT_R64G64B64A64_SFLOAT;
+import static com.io7m.jcoronado.api.VulkanShaderStageFlag.VK_SHADER_STAGE_COMPUTE_BIT;
+import static com.io7m.jcoronado.api.VulkanShaderStageFlag.VK_SHADER_STAGE_FRAGMENT_BIT;
+import static com.io7m.jcoronado.api.VulkanShaderStageFlag.VK_SHADER_STAGE_VERTEX_BIT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JCSPIRVReflectorTest
+{
+  private static final int OP_MEMORY_MODEL = 14;
+  private static final int OP_ENTRY_POINT = 15;
+  private static final int OP_CAPABILITY = 17;
+  private static final int OP_TYPE_VOID = 19;
+  private static final int OP_TYPE_BOOL = 20;
+  private static final int OP_TYPE_INT = 21;
+  private static final int OP_TYPE_FLOAT = 22;
+  private static final int OP_TYPE_VECTOR = 23;
+  private static final int OP_TYPE_MATRIX = 24;
+  private static final int OP_TYPE_IMAGE = 25;
+  private static final int OP_TYPE_SAMPLER = 26;
+  private static final int OP_TYPE_SAMPLED_IMAGE = 27;
+  private static final int OP_TYPE_ARRAY = 28;
+  private static final int OP_TYPE_RUNTIME_ARRAY = 29;
+  private static final int OP_TYPE_STRUCT = 30;
+  private static final int OP_TYPE_POINTER = 32;
+  private static final int OP_CONSTANT = 43;
+  private static final int OP_SPEC_CONSTANT_TRUE = 48;
+  private static final int OP_SPEC_CONSTANT = 50;
+  private static final int OP_FUNCTION = 54;
+  private static final int OP_VARIABLE = 59;
+  private static final int OP_DECORATE = 71;
+  private static final int OP_MEMBER_DECORATE = 72;
+
+  private JCSPIRVReflectorType reflector;
+
+  /**
+   * A compute module using push constants, specialization constants,
+   * arrays of combined image samplers, and runtime-sized arrays.
+   */
+
+  private static Assembler computeModule()
+  {
+    final var a = new Assembler(0x10000, 30);
+    a.op(OP_CAPABILITY, 1);
+    a.op(OP_MEMORY_MODEL, 0, 1);
+    a.entryPoint(5, 2, "main");
+
+    a.op(OP_MEMBER_DECORATE, 8, 0, 35, 16);
+    a.op(OP_MEMBER_DECORATE, 8, 1, 35, 32);
+    a.op(OP_DECORATE, 8, 2);
+    a.op(OP_DECORATE, 11, 1, 3);
+    a.op(OP_DECORATE, 13, 1, 1);
+    a.op(OP_DECORATE, 15, 2);
+    a.op(OP_DECORATE, 17, 34, 1);
+    a.op(OP_DECORATE, 17, 33, 2);
+    a.op(OP_DECORATE, 23, 34, 0);
+    a.op(OP_DECORATE, 23, 33, 0);
+    a.op(OP_DECORATE, 26, 34, 0);
+    a.op(OP_DECORATE, 26, 33, 5);
+
+    a.op(OP_TYPE_VOID, 3);
+    a.op(OP_TYPE_FLOAT, 5, 32);
+    a.op(OP_TYPE_VECTOR, 6, 5, 4);
+    a.op(OP_TYPE_INT, 7, 32, 0);
+    a.op(OP_TYPE_STRUCT, 8, 6, 7);
+    a.op(OP_TYPE_POINTER, 9, 9, 8);
+    a.op(OP_VARIABLE, 9, 10, 9);
+
+    a.op(OP_SPEC_CONSTANT, 7, 11, 64);
+    a.op(OP_TYPE_BOOL, 12);
+    a.op(OP_SPEC_CONSTANT_TRUE, 12, 13);
+
+    a.op(OP_TYPE_RUNTIME_ARRAY, 14, 7);
+    a.op(OP_TYPE_STRUCT, 15, 14);
+    a.op(OP_TYPE_POINTER, 16, 12, 15);
+    a.op(OP_VARIABLE, 16, 17, 12);
+
+    a.op(OP_TYPE_IMAGE, 19, 5, 1, 0, 0, 0, 1, 0);
+    a.op(OP_TYPE_SAMPLED_IMAGE, 18, 19);
+    a.op(OP_CONSTANT, 7, 20, 4);
+    a.op(OP_TYPE_ARRAY, 21, 18, 20);
+    a.op(OP_TYPE_POINTER, 22, 0, 21);
+    a.op(OP_VARIABLE, 22, 23, 0);
+
+    a.op(OP_TYPE_RUNTIME_ARRAY, 24, 18);
+    a.op(OP_TYPE_POINTER, 25, 0, 24);
+    a.op(OP_VARIABLE, 25, 26, 0);
+
+    a.op(OP_FUNCTION, 3, 2, 0, 4);
+    return a;
+  }
+
+  /**
+   * A SPIR-V 1.4 module with vertex and fragment entry points, in which
+   * entry point interfaces list every global variable that they use.
+   */
+
+  private static Assembler graphicsModule()
+  {
+    final var a = new Assembler(0x10400, 30);
+    a.op(OP_CAPABILITY, 1);
+    a.op(OP_MEMORY_MODEL, 0, 1);
+    a.entryPoint(0, 1, "vertex", 10, 11, 12, 13, 15);
+    a.entryPoint(4, 2, "fragment", 13, 14);
+
+    a.op(OP_DECORATE, 10, 30, 0);
+    a.op(OP_DECORATE, 11, 30, 1);
+    a.op(OP_DECORATE, 12, 30, 5);
+    a.op(OP_DECORATE, 13, 34, 0);
+    a.op(OP_DECORATE, 13, 33, 0);
+    a.op(OP_DECORATE, 14, 34, 0);
+    a.op(OP_DECORATE, 14, 33, 1);
+    a.op(OP_DECORATE, 15, 11, 42);
+    a.op(OP_DECORATE, 23, 2);
+    a.op(OP_MEMBER_DECORATE, 23, 0, 35, 0);
+
+    a.op(OP_TYPE_FLOAT, 3, 32);
+    a.op(OP_TYPE_VECTOR, 4, 3, 3);
+    a.op(OP_TYPE_VECTOR, 5, 3, 4);
+    a.op(OP_TYPE_MATRIX, 6, 5, 4);
+    a.op(OP_TYPE_FLOAT, 7, 64);
+    a.op(OP_TYPE_VECTOR, 8, 7, 4);
+    a.op(OP_TYPE_POINTER, 20, 1, 4);
+    a.op(OP_TYPE_POINTER, 21, 1, 6);
+    a.op(OP_TYPE_POINTER, 22, 1, 8);
+    a.op(OP_TYPE_STRUCT, 23, 5);
+    a.op(OP_TYPE_POINTER, 24, 2, 23);
+    a.op(OP_TYPE_SAMPLER, 25);
+    a.op(OP_TYPE_POINTER, 26, 0, 25);
+
+    a.op(OP_VARIABLE, 20, 10, 1);
+    a.op(OP_VARIABLE, 21, 11, 1);
+    a.op(OP_VARIABLE, 22, 12, 1);
+    a.op(OP_VARIABLE, 24, 13, 2);
+    a.op(OP_VARIABLE, 26, 14, 0);
+    a.op(OP_VARIABLE, 20, 15, 1);
+    return a;
+  }
+
+  @BeforeEach
+  public void setup()
+  {
+    this.reflector = JCSPIRVReflector.create();
+  }
+
+  /**
+   * Push constants, specialization constants, and descriptors are
+   * reflected from a compute module.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testCompute()
+    throws Exception
+  {
+    final var module =
+      this.reflector.reflect(computeModule().build(ByteOrder.LITTLE_ENDIAN));
+
+    final var compute = Set.of(VK_SHADER_STAGE_COMPUTE_BIT);
+    assertEquals(compute, module.stages());
+    assertEquals(
+      List.of(new JCSPIRVPushConstantBlock(16, 20, compute)),
+      module.pushConstantBlocks()
+    );
+    assertEquals(
+      List.of(
+        new JCSPIRVSpecializationConstant(1, 4),
+        new JCSPIRVSpecializationConstant(3, 4)
+      ),
+      module.specializationConstants()
+    );
+    assertEquals(
+      List.of(
+        new JCSPIRVDescriptorBinding(
+          0, 0, VK_DESCRIPTOR_TYPE_COMBINED_IMAGE_SAMPLER, 4, compute),
+        new JCSPIRVDescriptorBinding(
+          0, 5, VK_DESCRIPTOR_TYPE_COMBINED_IMAGE_SAMPLER, 0, compute),
+        new JCSPIRVDescriptorBinding(
+          1, 2, VK_DESCRIPTOR_TYPE_STORAGE_BUFFER, 1, compute)
+      ),
+      module.descriptorBindings()
+    );
+    assertEquals(List.of(), module.vertexInputs());
+  }
+
+  /**
+   * Modules are reflected identically in either byte order, and the
+   * reflector can be reused.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testByteOrder()
+    throws Exception
+  {
+    final var little =
+      this.reflector.reflect(computeModule().build(ByteOrder.LITTLE_ENDIAN));
+    final var big =
+      this.reflector.reflect(computeModule().build(ByteOrder.BIG_ENDIAN));
+    final var graphics =
+      this.reflector.reflect(graphicsModule().build(ByteOrder.BIG_ENDIAN));
+    final var again =
+      this.reflector.reflect(computeModule().build(ByteOrder.LITTLE_ENDIAN));
+
+    assertEquals(little, big);
+    assertEquals(little, again);
+    assertEquals(2, graphics.descriptorBindings().size());
+  }
+
+  /**
+   * Stages are attributed per entry point in SPIR-V 1.4 modules, and matrix
+   * and 64-bit vertex inputs consume the correct number of locations.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testGraphics()
+    throws Exception
+  {
+    final var module =
+      this.reflector.reflect(graphicsModule().build(ByteOrder.LITTLE_ENDIAN));
+
+    assertEquals(
+      Set.of(VK_SHADER_STAGE_VERTEX_BIT, VK_SHADER_STAGE_FRAGMENT_BIT),
+      module.stages()
+    );
+    assertEquals(
+      List.of(
+        new JCSPIRVDescriptorBinding(
+          0,
+          0,
+          VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER,
+          1,
+          Set.of(VK_SHADER_STAGE_VERTEX_BIT, VK_SHADER_STAGE_FRAGMENT_BIT)),
+        new JCSPIRVDescriptorBinding(
+          0,
+          1,
+          VK_DESCRIPTOR_TYPE_SAMPLER,
+          1,
+          Set.of(VK_SHADER_STAGE_FRAGMENT_BIT))
+      ),
+      module.descriptorBindings()
+    );
+    assertEquals(
+      List.of(
+        new JCSPIRVVertexInput(0, VK_FORMAT_R32G32B32_SFLOAT, 12),
+        new JCSPIRVVertexInput(1, VK_FORMAT_R32G32B32A32_SFLOAT, 16),
+        new JCSPIRVVertexInput(2, VK_FORMAT_R32G32B32A32_SFLOAT, 16),
+        new JCSPIRVVertexInput(3, VK_FORMAT_R32G32B32A32_SFLOAT, 16),
+        new JCSPIRVVertexInput(4, VK_FORMAT_R32G32B32A32_SFLOAT, 16),
+        new JCSPIRVVertexInput(5, VK_FORMAT_R64G64B64A64_SFLOAT, 32)
+      ),
+      module.vertexInputs()
+    );
+
+    final var state =
+      JCSPIRVLayouts.vertexInputState(
+        module, 0, VulkanVertexInputRate.VK_VERTEX_INPUT_RATE_VERTEX);
+
+    assertEquals(108, state.vertexBindingDescriptions().get(0).stride());
+    assertEquals(6, state.vertexAttributeDescriptions().size());
+    assertEquals(76, state.vertexAttributeDescriptions().get(5).offset());
+  }
+
+  /**
+   * Layouts are merged across modules, with gaps filled and runtime arrays
+   * made partially bound.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testLayouts()
+    throws Exception
+  {
+    final var compute =
+      this.reflector.reflect(computeModule().build(ByteOrder.LITTLE_ENDIAN));
+    final var graphics =
+      this.reflector.reflect(graphicsModule().build(ByteOrder.LITTLE_ENDIAN));
+
+    final var computeLayouts =
+      JCSPIRVLayouts.descriptorSetLayouts(List.of(compute), 1024);
+
+    assertEquals(2, computeLayouts.size());
+
+    final var set0 = computeLayouts.get(0);
+    assertEquals(
+      List.of(
+        Set.of(),
+        Set.of(
+          VK_DESCRIPTOR_BINDING_PARTIALLY_BOUND,
+          VK_DESCRIPTOR_BINDING_VARIABLE_DESCRIPTOR_COUNT)
+      ),
+      set0.bindingsFlags()
+    );
+    assertEquals(
+      List.of(4, 1024),
+      set0.bindings()
+        .stream()
+        .map(VulkanDescriptorSetLayoutBinding::descriptorCount)
+        .toList()
+    );
+
+    final var vertexOnly =
+      new JCSPIRVModule(
+        Set.of(VK_SHADER_STAGE_VERTEX_BIT),
+        List.of(
+          new JCSPIRVDescriptorBinding(
+            2, 0, VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER, 1,
+            Set.of(VK_SHADER_STAGE_VERTEX_BIT))
+        ),
+        List.of(
+          new JCSPIRVPushConstantBlock(0, 16, Set.of(VK_SHADER_STAGE_VERTEX_BIT))
+        ),
+        List.of(),
+        List.of()
+      );
+    final var fragmentOnly =
+      new JCSPIRVModule(
+        Set.of(VK_SHADER_STAGE_FRAGMENT_BIT),
+        List.of(),
+        List.of(
+          new JCSPIRVPushConstantBlock(16, 8, Set.of(VK_SHADER_STAGE_FRAGMENT_BIT))
+        ),
+        List.of(),
+        List.of()
+      );
+
+    final var merged =
+      JCSPIRVLayouts.descriptorSetLayouts(
+        List.of(graphics, vertexOnly, fragmentOnly), 16);
+
+    assertEquals(3, merged.size());
+    assertEquals(2, merged.get(0).bindings().size());
+    assertEquals(0, merged.get(1).bindings().size());
+    assertEquals(1, merged.get(2).bindings().size());
+
+    final var ranges =
+      JCSPIRVLayouts.pushConstantRanges(List.of(vertexOnly, fragmentOnly));
+    assertEquals(2, ranges.size());
+    assertEquals(0, ranges.get(0).offset());
+    assertEquals(16, ranges.get(0).size());
+    assertEquals(Set.of(VK_SHADER_STAGE_VERTEX_BIT), ranges.get(0).stageFlags());
+    assertEquals(16, ranges.get(1).offset());
+    assertEquals(8, ranges.get(1).size());
+  }
+
+  /**
+   * Conflicting descriptor types for a binding are rejected.
+   */
+
+  @Test
+  public void testLayoutConflict()
+  {
+    final var m0 =
+      new JCSPIRVModule(
+        Set.of(VK_SHADER_STAGE_VERTEX_BIT),
+        List.of(
+          new JCSPIRVDescriptorBinding(
+            0, 0, VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER, 1,
+            Set.of(VK_SHADER_STAGE_VERTEX_BIT))
+        ),
+        List.of(),
+        List.of(),
+        List.of()
+      );
+    final var m1 =
+      new JCSPIRVModule(
+        Set.of(VK_SHADER_STAGE_FRAGMENT_BIT),
+        List.of(
+          new JCSPIRVDescriptorBinding(
+            0, 0, VK_DESCRIPTOR_TYPE_STORAGE_BUFFER, 1,
+            Set.of(VK_SHADER_STAGE_FRAGMENT_BIT))
+        ),
+        List.of(),
+        List.of(),
+        List.of()
+      );
+
+    final var ex =
+      assertThrows(JCSPIRVReflectionException.class, () -> {
+        JCSPIRVLayouts.descriptorSetLayouts(List.of(m0, m1), 1);
+      });
+    assertEquals("error-spirv-layout-conflict", ex.errorCode());
+  }
+
+  /**
+   * Malformed and unsupported modules are rejected.
+   */
+
+  @Test
+  public void testInvalid()
+  {
+    final var e0 =
+      assertThrows(JCSPIRVReflectionException.class, () -> {
+        this.reflector.reflect(ByteBuffer.allocate(20));
+      });
+    assertEquals("error-spirv-malformed", e0.errorCode());
+
+    final var truncated = computeModule().build(ByteOrder.LITTLE_ENDIAN);
+    truncated.limit(truncated.limit() - 4);
+    final var e1 =
+      assertThrows(JCSPIRVReflectionException.class, () -> {
+        this.reflector.reflect(truncated);
+      });
+    assertEquals("error-spirv-malformed", e1.errorCode());
+
+    final var mesh = new Assembler(0x10400, 4);
+    mesh.entryPoint(5364, 1, "main");
+    final var e2 =
+      assertThrows(JCSPIRVReflectionException.class, () -> {
+        this.reflector.reflect(mesh.build(ByteOrder.LITTLE_ENDIAN));
+      });
+    assertEquals("error-spirv-unsupported", e2.errorCode());
+  }
+
+  private static final class Assembler
+  {
+    private final ArrayList<Integer> words;
+
+    Assembler(
+      final int version,
+      final int bound)
+    {
+      this.words = new ArrayList<>();
+      this.words.add(0x07230203);
+      this.words.add(version);
+      this.words.add(0);
+      this.words.add(bound);
+      this.words.add(0);
+    }
+
+    void op(
+      final int opcode,
+      final int... operands)
+    {
+      this.words.add(((operands.length + 1) << 16) | opcode);
+      for (final var operand : operands) {
+        this.words.add(operand);
+      }
+    }
+
+    void entryPoint(
+      final int model,
+      final int function,
+      final String name,
+      final int... interfaces)
+    {
+      final var bytes = name.getBytes(StandardCharsets.UTF_8);
+      final var nameWords = (bytes.length / 4) + 1;
+      final var packed =
+        ByteBuffer.allocate(nameWords * 4).order(ByteOrder.LITTLE_ENDIAN);
+      packed.put(bytes);
+
+      final var operands = new int[2 + nameWords + interfaces.length];
+      operands[0] = model;
+      operands[1] = function;
+      for (var index = 0; index < nameWords; ++index) {
+        operands[2 + index] = packed.getInt(index * 4);
+      }
+      System.arraycopy(
+        interfaces, 0, operands, 2 + nameWords, interfaces.length);
+      this.op(OP_ENTRY_POINT, operands);
+    }
+
+    ByteBuffer build(
+      final ByteOrder order)
+    {
+      final var buffer =
+        ByteBuffer.allocateDirect(this.words.size() * 4).order(order);
+      for (final var word : this.words) {
+        buffer.putInt(word.intValue());
+      }
+      return buffer.flip().order(ByteOrder.BIG_ENDIAN);
+    }
+  }
+}
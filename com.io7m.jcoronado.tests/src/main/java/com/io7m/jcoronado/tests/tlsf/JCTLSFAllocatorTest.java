@@ -0,0 +1,514 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.tests.tlsf;
+
+import com.io7m.jcoronado.api.VulkanApplicationInfo;
+import com.io7m.jcoronado.api.VulkanDestroyedException;
+import com.io7m.jcoronado.api.VulkanInstanceCreateInfo;
+import com.io7m.jcoronado.api.VulkanLogicalDeviceCreateInfo;
+import com.io7m.jcoronado.api.VulkanMemoryHeap;
+import com.io7m.jcoronado.api.VulkanMemoryHeapIndex;
+import com.io7m.jcoronado.api.VulkanMemoryRequirements;
+import com.io7m.jcoronado.api.VulkanMemoryType;
+import com.io7m.jcoronado.api.VulkanMemoryTypeIndex;
+import com.io7m.jcoronado.api.VulkanMissingRequiredMemoryTypeException;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceMemoryProperties;
+import com.io7m.jcoronado.fake.VFakeInstances;
+import com.io7m.jcoronado.fake.VFakeLogicalDevice;
+import com.io7m.jcoronado.fake.VFakePhysicalDevice;
+import com.io7m.jcoronado.utility.tlsf.JCTLSFAllocation;
+import com.io7m.jcoronado.utility.tlsf.JCTLSFAllocator;
+import com.io7m.jcoronado.utility.tlsf.JCTLSFAllocatorConfiguration;
+import com.io7m.jcoronado.utility.tlsf.JCTLSFAllocatorType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static com.io7m.jcoronado.api.VulkanMemoryPropertyFlag.VK_MEMORY_PROPERTY_DEVICE_LOCAL_BIT;
+import static com.io7m.jcoronado.api.VulkanMemoryPropertyFlag.VK_MEMORY_PROPERTY_HOST_COHERENT_BIT;
+import static com.io7m.jcoronado.api.VulkanMemoryPropertyFlag.VK_MEMORY_PROPERTY_HOST_VISIBLE_BIT;
+import static com.io7m.jcoronado.utility.tlsf.JCTLSFResourceKind.LINEAR;
+import static com.io7m.jcoronado.utility.tlsf.JCTLSFResourceKind.NON_LINEAR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JCTLSFAllocatorTest
+{
+  private static final long BLOCK_SIZE = 16L * 1024L * 1024L;
+
+  private VFakeLogicalDevice device;
+  private JCTLSFAllocatorType allocator;
+
+  @BeforeEach
+  public void setup()
+    throws Exception
+  {
+    final var instance =
+      new VFakeInstances().createInstance(
+        VulkanInstanceCreateInfo.builder()
+          .setApplicationInfo(
+            VulkanApplicationInfo.builder()
+              .setApplicationName("com.io7m.jcoronado.tests")
+              .setApplicationVersion(1)
+              .setEngineName("com.io7m.jcoronado.tests")
+              .setEngineVersion(1)
+              .setVulkanAPIVersion(1)
+              .build()
+          )
+          .build(),
+        Optional.empty()
+      );
+
+    final var physicalDevice =
+      (VFakePhysicalDevice) instance.physicalDevices().get(0);
+
+    final var heapIndex = new VulkanMemoryHeapIndex(0);
+    final var type0 = new VulkanMemoryTypeIndex(0);
+    final var type1 = new VulkanMemoryTypeIndex(1);
+
+    physicalDevice.setMemory(
+      VulkanPhysicalDeviceMemoryProperties.builder()
+        .putHeaps(
+          heapIndex,
+          VulkanMemoryHeap.builder()
+            .setIndex(heapIndex)
+            .setSize(8_000_000_000L)
+            .build())
+        .putTypes(
+          type0,
+          VulkanMemoryType.builder()
+            .setIndex(type0)
+            .setHeapIndex(heapIndex)
+            .addFlags(VK_MEMORY_PROPERTY_DEVICE_LOCAL_BIT)
+            .build())
+        .putTypes(
+          type1,
+          VulkanMemoryType.builder()
+            .setIndex(type1)
+            .setHeapIndex(heapIndex)
+            .addFlags(VK_MEMORY_PROPERTY_HOST_VISIBLE_BIT)
+            .addFlags(VK_MEMORY_PROPERTY_HOST_COHERENT_BIT)
+            .build())
+        .build()
+    );
+
+    this.device =
+      (VFakeLogicalDevice) physicalDevice.createLogicalDevice(
+        VulkanLogicalDeviceCreateInfo.builder().build()
+      );
+
+    this.allocator =
+      JCTLSFAllocator.create(
+        JCTLSFAllocatorConfiguration.builder()
+          .setDevice(this.device)
+          .setBlockSize(BLOCK_SIZE)
+          .build()
+      );
+  }
+
+  @AfterEach
+  public void tearDown()
+    throws Exception
+  {
+    this.allocator.close();
+    assertEquals(0, this.device.memoryAllocationCount());
+  }
+
+  private static VulkanMemoryRequirements requirements(
+    final long size,
+    final long alignment)
+  {
+    return VulkanMemoryRequirements.builder()
+      .setSize(size)
+      .setAlignment(alignment)
+      .setMemoryTypeBits(0b11)
+      .build();
+  }
+
+  private static void checkNoOverlap(
+    final List<JCTLSFAllocation> allocations)
+  {
+    final var byMemory = new HashMap<Object, TreeMap<Long, Long>>();
+    for (final var allocation : allocations) {
+      byMemory.computeIfAbsent(allocation.memory(), k -> new TreeMap<>())
+        .put(Long.valueOf(allocation.offset()), Long.valueOf(allocation.size()));
+    }
+
+    for (final var ranges : byMemory.values()) {
+      long end = 0L;
+      for (final var entry : ranges.entrySet()) {
+        assertTrue(entry.getKey().longValue() >= end);
+        end = entry.getKey().longValue() + entry.getValue().longValue();
+      }
+    }
+  }
+
+  /**
+   * Many small allocations share a small number of device memory
+   * allocations, far below the maxMemoryAllocationCount limit that would be
+   * reached by allocating device memory per resource.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testSubAllocation()
+    throws Exception
+  {
+    final var limit =
+      this.device.physicalDevice().limits().maxMemoryAllocationCount();
+
+    final var allocations = new ArrayList<JCTLSFAllocation>();
+    for (int index = 0; index < limit * 2; ++index) {
+      final var allocation =
+        this.allocator.allocate(
+          requirements(4096L, 256L),
+          Set.of(VK_MEMORY_PROPERTY_DEVICE_LOCAL_BIT),
+          LINEAR
+        );
+      assertEquals(0L, allocation.offset() % 256L);
+      assertEquals(new VulkanMemoryTypeIndex(0), allocation.memoryTypeIndex());
+      allocations.add(allocation);
+    }
+
+    checkNoOverlap(allocations);
+    assertEquals(2, this.device.memoryAllocationCount());
+
+    final var stats = this.allocator.statistics();
+    assertEquals(2, stats.blockCount());
+    assertEquals(limit * 2, stats.allocationCount());
+    assertEquals(2L * BLOCK_SIZE, stats.blockBytes());
+    assertEquals(limit * 2L * 4096L, stats.allocationBytes());
+
+    for (final var allocation : allocations) {
+      this.allocator.free(allocation);
+    }
+
+    assertEquals(1, this.device.memoryAllocationCount());
+    assertEquals(0, this.allocator.statistics().allocationCount());
+  }
+
+  /**
+   * At most one empty block is retained per pool, and it is reused by
+   * subsequent allocations.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testRetainsOneEmptyBlock()
+    throws Exception
+  {
+    final var type = new VulkanMemoryTypeIndex(0);
+    final var allocations = new ArrayList<JCTLSFAllocation>();
+    for (int index = 0; index < 3; ++index) {
+      allocations.add(
+        this.allocator.allocate(requirements(BLOCK_SIZE, 256L), type, LINEAR));
+    }
+    assertEquals(3, this.device.memoryAllocationCount());
+
+    for (final var allocation : allocations) {
+      this.allocator.free(allocation);
+    }
+    assertEquals(1, this.device.memoryAllocationCount());
+    assertEquals(1, this.allocator.statistics().blockCount());
+
+    final var a0 =
+      this.allocator.allocate(requirements(BLOCK_SIZE, 256L), type, LINEAR);
+    assertEquals(1, this.device.memoryAllocationCount());
+
+    final var a1 =
+      this.allocator.allocate(requirements(BLOCK_SIZE, 256L), type, LINEAR);
+    assertEquals(2, this.device.memoryAllocationCount());
+
+    this.allocator.free(a0);
+    this.allocator.free(a1);
+    assertEquals(1, this.device.memoryAllocationCount());
+  }
+
+  /**
+   * Linear and non-linear resources never share device memory when the
+   * bufferImageGranularity is larger than one byte.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testGranularitySeparatesKinds()
+    throws Exception
+  {
+    assertTrue(
+      this.device.physicalDevice().limits().bufferImageGranularity() > 1L
+    );
+
+    final var type = new VulkanMemoryTypeIndex(0);
+    final var a0 = this.allocator.allocate(requirements(100L, 16L), type, LINEAR);
+    final var a1 = this.allocator.allocate(requirements(100L, 16L), type, LINEAR);
+    final var b0 = this.allocator.allocate(requirements(100L, 16L), type, NON_LINEAR);
+    final var b1 = this.allocator.allocate(requirements(100L, 16L), type, NON_LINEAR);
+
+    assertSame(a0.memory(), a1.memory());
+    assertSame(b0.memory(), b1.memory());
+    assertNotSame(a0.memory(), b0.memory());
+    assertEquals(2, this.device.memoryAllocationCount());
+  }
+
+  /**
+   * Requests larger than the block size are given dedicated device memory,
+   * which is released when the allocation is freed.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testDedicated()
+    throws Exception
+  {
+    final var large =
+      this.allocator.allocate(
+        requirements(BLOCK_SIZE + 1L, 65536L),
+        new VulkanMemoryTypeIndex(0),
+        LINEAR
+      );
+
+    assertEquals(0L, large.offset());
+    assertTrue(large.size() > BLOCK_SIZE);
+    assertEquals(1, this.device.memoryAllocationCount());
+
+    this.allocator.free(large);
+    assertTrue(large.isFreed());
+    assertTrue(large.memory().isClosed());
+    assertEquals(0, this.device.memoryAllocationCount());
+  }
+
+  /**
+   * Memory types are selected by the requirements and the required flags.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testMemoryTypeSelection()
+    throws Exception
+  {
+    final var host =
+      this.allocator.allocate(
+        requirements(100L, 16L),
+        Set.of(VK_MEMORY_PROPERTY_HOST_VISIBLE_BIT),
+        LINEAR
+      );
+    assertEquals(new VulkanMemoryTypeIndex(1), host.memoryTypeIndex());
+
+    assertThrows(VulkanMissingRequiredMemoryTypeException.class, () -> {
+      this.allocator.allocate(
+        VulkanMemoryRequirements.builder()
+          .setSize(100L)
+          .setMemoryTypeBits(0b01)
+          .build(),
+        Set.of(VK_MEMORY_PROPERTY_HOST_VISIBLE_BIT),
+        LINEAR
+      );
+    });
+
+    assertThrows(VulkanMissingRequiredMemoryTypeException.class, () -> {
+      this.allocator.allocate(
+        VulkanMemoryRequirements.builder()
+          .setSize(100L)
+          .setMemoryTypeBits(0b01)
+          .build(),
+        new VulkanMemoryTypeIndex(1),
+        LINEAR
+      );
+    });
+  }
+
+  /**
+   * Freeing an allocation twice fails.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testDoubleFree()
+    throws Exception
+  {
+    final var a =
+      this.allocator.allocate(
+        requirements(100L, 16L),
+        new VulkanMemoryTypeIndex(0),
+        LINEAR
+      );
+
+    this.allocator.free(a);
+    assertThrows(IllegalStateException.class, () -> this.allocator.free(a));
+  }
+
+  /**
+   * Freeing an allocation made by another allocator fails.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testFreeForeign()
+    throws Exception
+  {
+    final var other =
+      JCTLSFAllocator.create(
+        JCTLSFAllocatorConfiguration.builder()
+          .setDevice(this.device)
+          .setBlockSize(BLOCK_SIZE)
+          .build()
+      );
+
+    final var a =
+      other.allocate(
+        requirements(100L, 16L),
+        new VulkanMemoryTypeIndex(0),
+        LINEAR
+      );
+
+    assertThrows(IllegalArgumentException.class, () -> this.allocator.free(a));
+    other.free(a);
+    other.close();
+  }
+
+  /**
+   * Freed space in any block is found again without allocating device
+   * memory, regardless of the number of other blocks, and dedicated blocks
+   * do not take part in the search.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testBlockSelection()
+    throws Exception
+  {
+    final var type = new VulkanMemoryTypeIndex(0);
+    final var half = BLOCK_SIZE / 2L;
+
+    final var dedicated = new ArrayList<JCTLSFAllocation>();
+    for (int index = 0; index < 100; ++index) {
+      dedicated.add(
+        this.allocator.allocate(requirements(BLOCK_SIZE + 1L, 256L), type, LINEAR));
+    }
+
+    final var halves = new ArrayList<JCTLSFAllocation>();
+    for (int index = 0; index < 8; ++index) {
+      halves.add(this.allocator.allocate(requirements(half, 256L), type, LINEAR));
+    }
+    assertEquals(104, this.device.memoryAllocationCount());
+
+    final var freed = halves.get(5);
+    this.allocator.free(freed);
+
+    final var again =
+      this.allocator.allocate(requirements(half, 256L), type, LINEAR);
+    assertEquals(104, this.device.memoryAllocationCount());
+    assertEquals(freed.offset(), again.offset());
+    halves.set(5, again);
+    checkNoOverlap(halves);
+
+    for (final var allocation : dedicated) {
+      this.allocator.free(allocation);
+    }
+    for (final var allocation : halves) {
+      this.allocator.free(allocation);
+    }
+    assertEquals(1, this.device.memoryAllocationCount());
+  }
+
+  /**
+   * Closing the allocator releases all device memory, and the allocator
+   * cannot be used afterwards.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testClose()
+    throws Exception
+  {
+    final var type = new VulkanMemoryTypeIndex(0);
+    this.allocator.allocate(requirements(100L, 16L), type, LINEAR);
+    this.allocator.allocate(requirements(100L, 16L), type, NON_LINEAR);
+    assertEquals(2, this.device.memoryAllocationCount());
+
+    this.allocator.close();
+    assertEquals(0, this.device.memoryAllocationCount());
+
+    assertThrows(VulkanDestroyedException.class, () -> {
+      this.allocator.allocate(requirements(100L, 16L), type, LINEAR);
+    });
+  }
+
+  /**
+   * A long run of random allocations and frees stays consistent, and
+   * exercises the allocator's throughput.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testChurn()
+    throws Exception
+  {
+    final var random = new Random(0x5eedL);
+    final var type = new VulkanMemoryTypeIndex(0);
+    final var live = new ArrayList<JCTLSFAllocation>();
+
+    for (int iteration = 0; iteration < 200_000; ++iteration) {
+      if (live.isEmpty() || random.nextInt(100) < 52) {
+        final var size = 1L + random.nextInt(64 * 1024);
+        final var alignment = 1L << random.nextInt(12);
+        final var kind = random.nextBoolean() ? LINEAR : NON_LINEAR;
+        final var allocation =
+          this.allocator.allocate(requirements(size, alignment), type, kind);
+        assertEquals(0L, allocation.offset() % alignment);
+        assertTrue(allocation.size() >= size);
+        live.add(allocation);
+      } else {
+        final var index = random.nextInt(live.size());
+        final var last = live.remove(live.size() - 1);
+        final var freed = index < live.size() ? live.set(index, last) : last;
+        this.allocator.free(freed);
+      }
+    }
+
+    checkNoOverlap(live);
+    assertEquals(live.size(), this.allocator.statistics().allocationCount());
+
+    for (final var allocation : live) {
+      this.allocator.free(allocation);
+    }
+    assertEquals(0L, this.allocator.statistics().allocationBytes());
+    assertTrue(this.device.memoryAllocationCount() <= 2);
+  }
+}
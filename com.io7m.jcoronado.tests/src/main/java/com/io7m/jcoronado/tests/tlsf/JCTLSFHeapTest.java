@@ -0,0 +1,228 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.tests.tlsf;
+
+import com.io7m.jcoronado.utility.tlsf.JCTLSFHeap;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static com.io7m.jcoronado.utility.tlsf.JCTLSFHeap.NO_NODE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class JCTLSFHeapTest
+{
+  private static void checkNoOverlap(
+    final JCTLSFHeap heap,
+    final ArrayList<Integer> live)
+  {
+    final var ranges = new TreeMap<Long, Long>();
+    for (final var node : live) {
+      final var offset = heap.offsetOf(node.intValue());
+      final var size = heap.sizeOf(node.intValue());
+      assertTrue(offset >= 0L);
+      assertTrue(offset + size <= heap.size());
+      ranges.put(Long.valueOf(offset), Long.valueOf(size));
+    }
+
+    long end = 0L;
+    for (final var entry : ranges.entrySet()) {
+      assertTrue(entry.getKey().longValue() >= end);
+      end = entry.getKey().longValue() + entry.getValue().longValue();
+    }
+  }
+
+  /**
+   * Freeing every allocation merges the heap back into a single free range.
+   */
+
+  @Test
+  public void testFreeMerges()
+  {
+    final var heap = new JCTLSFHeap(1024L * 1024L, 16L, 1024);
+
+    final var nodes = new ArrayList<Integer>();
+    for (int index = 0; index < 100; ++index) {
+      final var node = heap.allocate(1000L, 0L);
+      assertNotEquals(NO_NODE, node);
+      nodes.add(Integer.valueOf(node));
+    }
+
+    assertEquals(100, heap.allocationCount());
+    assertEquals(100L * 1008L, heap.allocatedBytes());
+
+    for (int index = 0; index < nodes.size(); index += 2) {
+      heap.free(nodes.get(index).intValue());
+    }
+    for (int index = 1; index < nodes.size(); index += 2) {
+      heap.free(nodes.get(index).intValue());
+    }
+
+    assertTrue(heap.isEmpty());
+    assertEquals(1, heap.nodeCount());
+
+    final var all = heap.allocate(heap.size(), 0L);
+    assertNotEquals(NO_NODE, all);
+    assertEquals(0L, heap.offsetOf(all));
+    assertEquals(heap.size(), heap.sizeOf(all));
+  }
+
+  /**
+   * Allocations honour their requested alignments.
+   */
+
+  @Test
+  public void testAlignment()
+  {
+    final var heap = new JCTLSFHeap(1024L * 1024L, 16L, 1024);
+
+    heap.allocate(48L, 0L);
+    for (int shift = 4; shift < 16; ++shift) {
+      final var alignment = 1L << shift;
+      final var node = heap.allocate(100L, alignment);
+      assertNotEquals(NO_NODE, node);
+      assertEquals(0L, heap.offsetOf(node) % alignment);
+    }
+  }
+
+  /**
+   * Random allocations and frees never produce overlapping or misaligned
+   * ranges.
+   */
+
+  @Test
+  public void testRandomChurn()
+  {
+    final var random = new Random(0x5eedL);
+    final var heap = new JCTLSFHeap(64L * 1024L * 1024L, 16L, 65536);
+    final var live = new ArrayList<Integer>();
+
+    for (int iteration = 0; iteration < 20_000; ++iteration) {
+      if (live.isEmpty() || random.nextInt(100) < 55) {
+        final var size = 1L + random.nextInt(256 * 1024);
+        final var alignment = 1L << random.nextInt(12);
+        final var node = heap.allocate(size, alignment);
+        if (node != NO_NODE) {
+          assertEquals(0L, heap.offsetOf(node) % alignment);
+          assertTrue(heap.sizeOf(node) >= size);
+          live.add(Integer.valueOf(node));
+        }
+      } else {
+        final var index = random.nextInt(live.size());
+        heap.free(live.remove(index).intValue());
+      }
+
+      if (iteration % 1000 == 0) {
+        checkNoOverlap(heap, live);
+      }
+    }
+
+    checkNoOverlap(heap, live);
+    assertEquals(live.size(), heap.allocationCount());
+
+    for (final var node : live) {
+      heap.free(node.intValue());
+    }
+    assertTrue(heap.isEmpty());
+    assertEquals(0L, heap.allocatedBytes());
+    assertEquals(1, heap.nodeCount());
+  }
+
+  /**
+   * When the node capacity is exhausted, the remainder of a free range is
+   * absorbed into the allocation rather than split.
+   */
+
+  @Test
+  public void testNodeCapacity()
+  {
+    final var heap = new JCTLSFHeap(4096L, 16L, 2);
+
+    final var a = heap.allocate(100L, 0L);
+    final var b = heap.allocate(100L, 0L);
+    assertNotEquals(NO_NODE, a);
+    assertNotEquals(NO_NODE, b);
+    assertEquals(112L, heap.sizeOf(a));
+    assertEquals(4096L - 112L, heap.sizeOf(b));
+    assertEquals(NO_NODE, heap.allocate(16L, 0L));
+
+    heap.free(a);
+    heap.free(b);
+    assertEquals(1, heap.nodeCount());
+  }
+
+  /**
+   * Requests that cannot fit fail without modifying the heap.
+   */
+
+  @Test
+  public void testExhausted()
+  {
+    final var heap = new JCTLSFHeap(4096L, 16L, 16);
+
+    assertEquals(NO_NODE, heap.allocate(4097L, 0L));
+    final var a = heap.allocate(4000L, 0L);
+    assertNotEquals(NO_NODE, a);
+    assertEquals(NO_NODE, heap.allocate(128L, 0L));
+    assertEquals(NO_NODE, heap.allocate(16L, 4096L));
+    assertEquals(1, heap.allocationCount());
+  }
+
+  /**
+   * Freeing a node twice fails.
+   */
+
+  @Test
+  public void testDoubleFree()
+  {
+    final var heap = new JCTLSFHeap(4096L, 16L, 16);
+    final var a = heap.allocate(100L, 0L);
+    heap.free(a);
+
+    assertThrows(IllegalStateException.class, () -> heap.free(a));
+    assertThrows(IllegalStateException.class, () -> heap.free(NO_NODE));
+    assertThrows(IllegalStateException.class, () -> heap.offsetOf(a));
+  }
+
+  /**
+   * Invalid arguments are rejected.
+   */
+
+  @Test
+  public void testInvalid()
+  {
+    assertThrows(IllegalArgumentException.class, () -> {
+      new JCTLSFHeap(4096L, 3L, 16);
+    });
+    assertThrows(IllegalArgumentException.class, () -> {
+      new JCTLSFHeap(4095L, 16L, 16);
+    });
+    assertThrows(IllegalArgumentException.class, () -> {
+      new JCTLSFHeap(4096L, 16L, 0);
+    });
+
+    final var heap = new JCTLSFHeap(4096L, 16L, 16);
+    assertThrows(IllegalArgumentException.class, () -> heap.allocate(0L, 0L));
+    assertThrows(IllegalArgumentException.class, () -> heap.allocate(1L, 3L));
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.tests.vma;
+
+import com.io7m.jcoronado.vma.VMADefragmentationInfo;
+import org.junit.jupiter.api.Test;
+
+import static com.io7m.jcoronado.vma.VMADefragmentationFlag.VMA_DEFRAGMENTATION_FLAG_ALGORITHM_FAST_BIT;
+import static com.io7m.jcoronado.vma.VMADefragmentationFlag.VMA_DEFRAGMENTATION_FLAG_ALGORITHM_FULL_BIT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class VMADefragmentationInfoTest
+{
+  /**
+   * By default, passes are unbounded.
+   */
+
+  @Test
+  public void testDefaults()
+  {
+    final var info =
+      VMADefragmentationInfo.builder()
+        .build();
+
+    assertEquals(0L, info.maxBytesPerPass());
+    assertEquals(0, info.maxAllocationsPerPass());
+  }
+
+  /**
+   * At most one algorithm may be specified.
+   */
+
+  @Test
+  public void testMultipleAlgorithms()
+  {
+    assertThrows(IllegalArgumentException.class, () -> {
+      VMADefragmentationInfo.builder()
+        .addFlags(VMA_DEFRAGMENTATION_FLAG_ALGORITHM_FAST_BIT)
+        .addFlags(VMA_DEFRAGMENTATION_FLAG_ALGORITHM_FULL_BIT)
+        .build();
+    });
+  }
+
+  /**
+   * Per-pass limits must be non-negative.
+   */
+
+  @Test
+  public void testNegativeLimits()
+  {
+    assertThrows(IllegalArgumentException.class, () -> {
+      VMADefragmentationInfo.builder()
+        .setMaxBytesPerPass(-1L)
+        .build();
+    });
+    assertThrows(IllegalArgumentException.class, () -> {
+      VMADefragmentationInfo.builder()
+        .setMaxAllocationsPerPass(-1)
+        .build();
+    });
+  }
+}
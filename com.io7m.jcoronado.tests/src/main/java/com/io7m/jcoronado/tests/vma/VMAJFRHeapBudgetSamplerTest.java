@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.tests.vma;
+
+import com.io7m.jcoronado.vma.VMAAllocatorType;
+import com.io7m.jcoronado.vma.VMABudget;
+import com.io7m.jcoronado.vma.VMAJFRHeapBudget;
+import com.io7m.jcoronado.vma.VMAJFRHeapBudgetSampler;
+import com.io7m.jcoronado.vma.VMAStatistics;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+import static org.mockito.quality.Strictness.LENIENT;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = LENIENT)
+public final class VMAJFRHeapBudgetSamplerTest
+{
+  @Mock
+  private VMAAllocatorType allocator;
+
+  private static List<RecordedEvent> budgetEvents(
+    final Path file)
+    throws Exception
+  {
+    return RecordingFile.readAllEvents(file)
+      .stream()
+      .filter(e -> {
+        return e.getEventType()
+          .getName()
+          .equals(VMAJFRHeapBudget.class.getName());
+      })
+      .toList();
+  }
+
+  /**
+   * The sampler publishes one event per heap, per period.
+   *
+   * @param directory The output directory
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testSamples(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    when(this.allocator.heapBudgets())
+      .thenReturn(List.of(
+        VMABudget.builder()
+          .setHeapIndex(0)
+          .setStatistics(
+            VMAStatistics.builder()
+              .setBlockCount(2L)
+              .setAllocationCount(7L)
+              .setBlockBytes(2048L)
+              .setAllocationBytes(1000L)
+              .build())
+          .setUsage(4096L)
+          .setBudget(8192L)
+          .build(),
+        VMABudget.builder()
+          .setHeapIndex(1)
+          .setStatistics(VMAStatistics.builder().build())
+          .setUsage(0L)
+          .setBudget(1024L)
+          .build()
+      ));
+
+    final var file = directory.resolve("budget.jfr");
+    try (var sampler =
+           VMAJFRHeapBudgetSampler.create(this.allocator, "main")) {
+      try (var recording = new Recording()) {
+        recording.enable(VMAJFRHeapBudget.class)
+          .withPeriod(Duration.ofMillis(10L));
+        recording.start();
+        Thread.sleep(250L);
+        recording.stop();
+        recording.dump(file);
+      }
+      assertFalse(sampler.isClosed());
+    }
+
+    final var events = budgetEvents(file);
+    assertTrue(events.size() >= 2, "At least two events");
+
+    final var heap0 =
+      events.stream()
+        .filter(e -> e.getInt("heapIndex") == 0)
+        .findFirst()
+        .orElseThrow();
+
+    assertEquals("main", heap0.getString("allocator"));
+    assertEquals(4096L, heap0.getLong("usage"));
+    assertEquals(8192L, heap0.getLong("budget"));
+    assertEquals(2L, heap0.getLong("blockCount"));
+    assertEquals(7L, heap0.getLong("allocationCount"));
+    assertEquals(2048L, heap0.getLong("blockBytes"));
+    assertEquals(1000L, heap0.getLong("allocationBytes"));
+
+    assertTrue(
+      events.stream().anyMatch(e -> e.getInt("heapIndex") == 1),
+      "Heap 1 sampled"
+    );
+  }
+
+  /**
+   * Closed samplers and closed allocators publish nothing.
+   *
+   * @param directory The output directory
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testClosed(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    when(this.allocator.isClosed())
+      .thenReturn(Boolean.TRUE);
+    when(this.allocator.heapBudgets())
+      .thenReturn(List.of(
+        VMABudget.builder()
+          .setHeapIndex(0)
+          .setStatistics(VMAStatistics.builder().build())
+          .build()
+      ));
+
+    final var file = directory.resolve("budget.jfr");
+    final var closedSampler =
+      VMAJFRHeapBudgetSampler.create(this.allocator, "closed");
+    closedSampler.close();
+    assertTrue(closedSampler.isClosed());
+
+    try (var sampler =
+           VMAJFRHeapBudgetSampler.create(this.allocator, "main")) {
+      try (var recording = new Recording()) {
+        recording.enable(VMAJFRHeapBudget.class)
+          .withPeriod(Duration.ofMillis(10L));
+        recording.start();
+        Thread.sleep(100L);
+        recording.stop();
+        recording.dump(file);
+      }
+    }
+
+    assertEquals(List.of(), budgetEvents(file));
+  }
+}
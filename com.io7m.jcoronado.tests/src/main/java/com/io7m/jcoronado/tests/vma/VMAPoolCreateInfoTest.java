@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.tests.vma;
+
+import com.io7m.jcoronado.vma.VMAPoolCreateInfo;
+import org.junit.jupiter.api.Test;
+
+import static com.io7m.jcoronado.vma.VMAPoolCreateFlag.VMA_POOL_CREATE_LINEAR_ALGORITHM_BIT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class VMAPoolCreateInfoTest
+{
+  /**
+   * The defaults match those of VmaPoolCreateInfo.
+   */
+
+  @Test
+  public void testDefaults()
+  {
+    final var info =
+      VMAPoolCreateInfo.builder()
+        .setMemoryTypeIndex(2)
+        .build();
+
+    assertEquals(2, info.memoryTypeIndex());
+    assertEquals(0L, info.blockSize());
+    assertEquals(0L, info.minBlockCount());
+    assertEquals(0L, info.maxBlockCount());
+    assertEquals(0.5f, info.priority());
+    assertEquals(0L, info.minAllocationAlignment());
+  }
+
+  /**
+   * A single-block linear pool can be described.
+   */
+
+  @Test
+  public void testLinearRing()
+  {
+    final var info =
+      VMAPoolCreateInfo.builder()
+        .setMemoryTypeIndex(0)
+        .addFlags(VMA_POOL_CREATE_LINEAR_ALGORITHM_BIT)
+        .setBlockSize(4L * 1024L * 1024L)
+        .setMinBlockCount(1L)
+        .setMaxBlockCount(1L)
+        .setPriority(1.0f)
+        .build();
+
+    assertEquals(1L, info.maxBlockCount());
+  }
+
+  /**
+   * The minimum block count cannot exceed a nonzero maximum.
+   */
+
+  @Test
+  public void testBlockCountsInverted()
+  {
+    assertThrows(IllegalArgumentException.class, () -> {
+      VMAPoolCreateInfo.builder()
+        .setMemoryTypeIndex(0)
+        .setMinBlockCount(4L)
+        .setMaxBlockCount(2L)
+        .build();
+    });
+  }
+
+  /**
+   * A maximum block count of zero means "unlimited".
+   */
+
+  @Test
+  public void testBlockCountsUnlimited()
+  {
+    final var info =
+      VMAPoolCreateInfo.builder()
+        .setMemoryTypeIndex(0)
+        .setMinBlockCount(4L)
+        .build();
+
+    assertEquals(4L, info.minBlockCount());
+  }
+
+  /**
+   * Priorities outside [0, 1] are rejected.
+   */
+
+  @Test
+  public void testPriorityRange()
+  {
+    assertThrows(IllegalArgumentException.class, () -> {
+      VMAPoolCreateInfo.builder()
+        .setMemoryTypeIndex(0)
+        .setPriority(1.5f)
+        .build();
+    });
+    assertThrows(IllegalArgumentException.class, () -> {
+      VMAPoolCreateInfo.builder()
+        .setMemoryTypeIndex(0)
+        .setPriority(Float.NaN)
+        .build();
+    });
+  }
+
+  /**
+   * Alignments must be powers of two.
+   */
+
+  @Test
+  public void testAlignment()
+  {
+    assertThrows(IllegalArgumentException.class, () -> {
+      VMAPoolCreateInfo.builder()
+        .setMemoryTypeIndex(0)
+        .setMinAllocationAlignment(48L)
+        .build();
+    });
+
+    final var info =
+      VMAPoolCreateInfo.builder()
+        .setMemoryTypeIndex(0)
+        .setMinAllocationAlignment(256L)
+        .build();
+
+    assertEquals(256L, info.minAllocationAlignment());
+  }
+
+  /**
+   * Negative sizes and indices are rejected.
+   */
+
+  @Test
+  public void testNegative()
+  {
+    assertThrows(IllegalArgumentException.class, () -> {
+      VMAPoolCreateInfo.builder()
+        .setMemoryTypeIndex(-1)
+        .build();
+    });
+    assertThrows(IllegalArgumentException.class, () -> {
+      VMAPoolCreateInfo.builder()
+        .setMemoryTypeIndex(0)
+        .setBlockSize(-1L)
+        .build();
+    });
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.bindless;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import com.io7m.jcoronado.api.VulkanLogicalDeviceType;
+import com.io7m.jcoronado.api.VulkanShaderStageFlag;
+import org.immutables.value.Value;
+
+import java.util.Set;
+
+/**
+ * The configuration values required to create a bindless table.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface JCBindlessConfigurationType
+{
+  /**
+   * @return The logical device
+   */
+
+  VulkanLogicalDeviceType device();
+
+  /**
+   * @return The shader stages that can access the table; all stages if empty
+   */
+
+  Set<VulkanShaderStageFlag> stageFlags();
+
+  /**
+   * @return The number of sampled image slots
+   */
+
+  @Value.Default
+  default int sampledImageCapacity()
+  {
+    return 16384;
+  }
+
+  /**
+   * @return The number of sampler slots
+   */
+
+  @Value.Default
+  default int samplerCapacity()
+  {
+    return 256;
+  }
+
+  /**
+   * @return The number of storage buffer slots
+   */
+
+  @Value.Default
+  default int storageBufferCapacity()
+  {
+    return 16384;
+  }
+
+  /**
+   * @param kind The resource kind
+   *
+   * @return The number of slots for the given resource kind
+   */
+
+  default int capacity(
+    final JCBindlessKind kind)
+  {
+    return switch (kind) {
+      case SAMPLED_IMAGE -> this.sampledImageCapacity();
+      case SAMPLER -> this.samplerCapacity();
+      case STORAGE_BUFFER -> this.storageBufferCapacity();
+    };
+  }
+
+  /**
+   * Check preconditions for the type.
+   */
+
+  @Value.Check
+  default void checkPreconditions()
+  {
+    for (final var kind : JCBindlessKind.values()) {
+      if (this.capacity(kind) < 1) {
+        throw new IllegalArgumentException(
+          "Capacity %d for %s must be positive".formatted(
+            Integer.valueOf(this.capacity(kind)),
+            kind)
+        );
+      }
+    }
+  }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.bindless;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>A lock-free free-list of integer slots in the range
+ * {@code [0, capacity)}.</p>
+ *
+ * <p>Free slots are held in an intrusive stack threaded through an array of
+ * "next" indices. The head of the stack is packed into a single
+ * {@code long} together with a counter that is incremented on every
+ * modification, so that a compare-and-set on the head cannot succeed
+ * against a head that was popped and pushed back in the meantime (the ABA
+ * problem).</p>
+ *
+ * <p>Each slot moves through the states <i>free</i>, <i>allocated</i>, and
+ * <i>retired</i>. A slot is retired when the caller has finished with it,
+ * but the slot may still be in use by the GPU. A retired slot is released
+ * back to the free list once the GPU is known to have finished with it.
+ * Retiring or releasing a slot that is not in the expected state raises
+ * {@link IllegalStateException}.</p>
+ *
+ * <p>All methods are thread-safe.</p>
+ */
+
+public final class JCBindlessFreeList
+{
+  /**
+   * The value returned by {@link #allocate()} when no slots are free.
+   */
+
+  public static final int NO_SLOT = -1;
+
+  private static final int STATE_FREE = 0;
+  private static final int STATE_ALLOCATED = 1;
+  private static final int STATE_RETIRED = 2;
+
+  private final int capacity;
+  private final AtomicIntegerArray next;
+  private final AtomicIntegerArray states;
+  private final AtomicLong head;
+  private final AtomicInteger used;
+
+  /**
+   * Create a free list in which all slots are initially free.
+   *
+   * @param inCapacity The number of slots
+   */
+
+  public JCBindlessFreeList(
+    final int inCapacity)
+  {
+    if (inCapacity < 1) {
+      throw new IllegalArgumentException(
+        "Capacity %d must be positive".formatted(Integer.valueOf(inCapacity))
+      );
+    }
+
+    this.capacity = inCapacity;
+    this.next = new AtomicIntegerArray(inCapacity);
+    this.states = new AtomicIntegerArray(inCapacity);
+    this.used = new AtomicInteger(0);
+
+    for (int index = 0; index < inCapacity - 1; ++index) {
+      this.next.set(index, index + 1);
+    }
+    this.next.set(inCapacity - 1, NO_SLOT);
+    this.head = new AtomicLong(pack(0L, 0));
+  }
+
+  private static long pack(
+    final long tag,
+    final int index)
+  {
+    return (tag << 32) | (index & 0xffff_ffffL);
+  }
+
+  private static int unpackIndex(
+    final long value)
+  {
+    return (int) value;
+  }
+
+  private static long unpackTag(
+    final long value)
+  {
+    return value >>> 32;
+  }
+
+  /**
+   * @return The number of slots
+   */
+
+  public int capacity()
+  {
+    return this.capacity;
+  }
+
+  /**
+   * @return The number of slots that are allocated or retired
+   */
+
+  public int used()
+  {
+    return this.used.get();
+  }
+
+  /**
+   * @param slot The slot
+   *
+   * @return {@code true} if the slot is currently allocated
+   */
+
+  public boolean isAllocated(
+    final int slot)
+  {
+    return this.states.get(this.checkSlot(slot)) == STATE_ALLOCATED;
+  }
+
+  /**
+   * Allocate a slot.
+   *
+   * @return A slot, or {@link #NO_SLOT} if all slots are in use
+   */
+
+  public int allocate()
+  {
+    while (true) {
+      final var current = this.head.get();
+      final var index = unpackIndex(current);
+      if (index == NO_SLOT) {
+        return NO_SLOT;
+      }
+
+      final var following = this.next.get(index);
+      final var updated = pack(unpackTag(current) + 1L, following);
+      if (this.head.compareAndSet(current, updated)) {
+        this.states.set(index, STATE_ALLOCATED);
+        this.used.incrementAndGet();
+        return index;
+      }
+    }
+  }
+
+  /**
+   * Retire an allocated slot. The slot is not available for allocation
+   * until it has been released with {@link #release(int)}.
+   *
+   * @param slot The slot
+   */
+
+  public void retire(
+    final int slot)
+  {
+    this.checkSlot(slot);
+    if (!this.states.compareAndSet(slot, STATE_ALLOCATED, STATE_RETIRED)) {
+      throw new IllegalStateException(
+        "Slot %d is not allocated".formatted(Integer.valueOf(slot))
+      );
+    }
+  }
+
+  /**
+   * Release a retired slot, making it available for allocation.
+   *
+   * @param slot The slot
+   */
+
+  public void release(
+    final int slot)
+  {
+    this.checkSlot(slot);
+    if (!this.states.compareAndSet(slot, STATE_RETIRED, STATE_FREE)) {
+      throw new IllegalStateException(
+        "Slot %d is not retired".formatted(Integer.valueOf(slot))
+      );
+    }
+
+    this.used.decrementAndGet();
+    while (true) {
+      final var current = this.head.get();
+      this.next.set(slot, unpackIndex(current));
+      final var updated = pack(unpackTag(current) + 1L, slot);
+      if (this.head.compareAndSet(current, updated)) {
+        return;
+      }
+    }
+  }
+
+  private int checkSlot(
+    final int slot)
+  {
+    if (slot < 0 || slot >= this.capacity) {
+      throw new IllegalArgumentException(
+        "Slot %d must be in the range [0, %d)".formatted(
+          Integer.valueOf(slot),
+          Integer.valueOf(this.capacity))
+      );
+    }
+    return slot;
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.bindless;
+
+import com.io7m.jcoronado.api.VulkanDescriptorType;
+
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_SAMPLED_IMAGE;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_SAMPLER;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_STORAGE_BUFFER;
+
+/**
+ * The kinds of resources held in a bindless table. Each kind occupies a
+ * single fixed binding in the table's descriptor set, and shaders are
+ * expected to declare unsized arrays at the corresponding binding numbers.
+ */
+
+public enum JCBindlessKind
+{
+  /**
+   * Sampled images, at binding 0.
+   */
+
+  SAMPLED_IMAGE(0, VK_DESCRIPTOR_TYPE_SAMPLED_IMAGE),
+
+  /**
+   * Samplers, at binding 1.
+   */
+
+  SAMPLER(1, VK_DESCRIPTOR_TYPE_SAMPLER),
+
+  /**
+   * Storage buffers, at binding 2. This is the highest numbered binding,
+   * and is therefore the binding that has a variable descriptor count.
+   */
+
+  STORAGE_BUFFER(2, VK_DESCRIPTOR_TYPE_STORAGE_BUFFER);
+
+  private final int binding;
+  private final VulkanDescriptorType descriptorType;
+
+  JCBindlessKind(
+    final int inBinding,
+    final VulkanDescriptorType inDescriptorType)
+  {
+    this.binding = inBinding;
+    this.descriptorType = inDescriptorType;
+  }
+
+  /**
+   * @return The binding number within the descriptor set
+   */
+
+  public int binding()
+  {
+    return this.binding;
+  }
+
+  /**
+   * @return The descriptor type used for the binding
+   */
+
+  public VulkanDescriptorType descriptorType()
+  {
+    return this.descriptorType;
+  }
+}
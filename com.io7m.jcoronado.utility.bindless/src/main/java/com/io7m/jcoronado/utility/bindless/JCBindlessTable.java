@@ -0,0 +1,600 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.bindless;
+
+import com.io7m.jcoronado.api.VulkanBufferType;
+import com.io7m.jcoronado.api.VulkanDescriptorBufferInfo;
+import com.io7m.jcoronado.api.VulkanDescriptorImageInfo;
+import com.io7m.jcoronado.api.VulkanDescriptorPoolCreateInfo;
+import com.io7m.jcoronado.api.VulkanDescriptorPoolSize;
+import com.io7m.jcoronado.api.VulkanDescriptorPoolType;
+import com.io7m.jcoronado.api.VulkanDescriptorSetAllocateInfo;
+import com.io7m.jcoronado.api.VulkanDescriptorSetLayoutBinding;
+import com.io7m.jcoronado.api.VulkanDescriptorSetLayoutCreateInfo;
+import com.io7m.jcoronado.api.VulkanDescriptorSetLayoutType;
+import com.io7m.jcoronado.api.VulkanDescriptorSetType;
+import com.io7m.jcoronado.api.VulkanDestroyedException;
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanImageLayout;
+import com.io7m.jcoronado.api.VulkanImageViewType;
+import com.io7m.jcoronado.api.VulkanLogicalDeviceType;
+import com.io7m.jcoronado.api.VulkanMissingRequiredFeaturesException;
+import com.io7m.jcoronado.api.VulkanResourceException;
+import com.io7m.jcoronado.api.VulkanSamplerType;
+import com.io7m.jcoronado.api.VulkanSemaphoreTimelineType;
+import com.io7m.jcoronado.api.VulkanShaderStageFlag;
+import com.io7m.jcoronado.api.VulkanWriteDescriptorSet;
+import com.io7m.jmulticlose.core.CloseableCollection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.io7m.jcoronado.api.VulkanDescriptorBindingFlag.VK_DESCRIPTOR_BINDING_PARTIALLY_BOUND;
+import static com.io7m.jcoronado.api.VulkanDescriptorBindingFlag.VK_DESCRIPTOR_BINDING_UPDATE_AFTER_BIND;
+import static com.io7m.jcoronado.api.VulkanDescriptorBindingFlag.VK_DESCRIPTOR_BINDING_UPDATE_UNUSED_WHILE_PENDING;
+import static com.io7m.jcoronado.api.VulkanDescriptorBindingFlag.VK_DESCRIPTOR_BINDING_VARIABLE_DESCRIPTOR_COUNT;
+import static com.io7m.jcoronado.api.VulkanDescriptorPoolCreateFlag.VK_DESCRIPTOR_POOL_CREATE_UPDATE_AFTER_BIND_BIT;
+import static com.io7m.jcoronado.api.VulkanDescriptorSetLayoutCreateFlag.VK_DESCRIPTOR_SET_LAYOUT_CREATE_UPDATE_AFTER_BIND_POOL_BIT;
+import static com.io7m.jcoronado.api.VulkanShaderStageFlag.VK_SHADER_STAGE_ALL;
+
+/**
+ * The default implementation of the {@link JCBindlessTableType} interface.
+ */
+
+public final class JCBindlessTable
+  implements JCBindlessTableType
+{
+  private static final Logger LOG =
+    LoggerFactory.getLogger(JCBindlessTable.class);
+
+  private final VulkanLogicalDeviceType device;
+  private final VulkanDescriptorSetLayoutType layout;
+  private final VulkanDescriptorPoolType pool;
+  private final VulkanDescriptorSetType set;
+  private final EnumMap<JCBindlessKind, JCBindlessFreeList> slots;
+  private final ConcurrentLinkedQueue<Retired> retired;
+  private final ConcurrentLinkedQueue<VulkanWriteDescriptorSet> pending;
+  private final ReentrantLock updateLock;
+  private final ReentrantLock collectLock;
+  private final AtomicBoolean closed;
+
+  private JCBindlessTable(
+    final VulkanLogicalDeviceType inDevice,
+    final VulkanDescriptorSetLayoutType inLayout,
+    final VulkanDescriptorPoolType inPool,
+    final VulkanDescriptorSetType inSet,
+    final EnumMap<JCBindlessKind, JCBindlessFreeList> inSlots)
+  {
+    this.device =
+      Objects.requireNonNull(inDevice, "device");
+    this.layout =
+      Objects.requireNonNull(inLayout, "layout");
+    this.pool =
+      Objects.requireNonNull(inPool, "pool");
+    this.set =
+      Objects.requireNonNull(inSet, "set");
+    this.slots =
+      Objects.requireNonNull(inSlots, "slots");
+    this.retired =
+      new ConcurrentLinkedQueue<>();
+    this.pending =
+      new ConcurrentLinkedQueue<>();
+    this.updateLock =
+      new ReentrantLock();
+    this.collectLock =
+      new ReentrantLock();
+    this.closed =
+      new AtomicBoolean(false);
+  }
+
+  /**
+   * Create a bindless table. The logical device must have been created with
+   * the descriptor indexing features required for update-after-bind,
+   * partially bound, variable count descriptor arrays enabled, and the
+   * configured capacities must not exceed the device's update-after-bind
+   * descriptor limits.
+   *
+   * @param configuration The configuration
+   *
+   * @return A table
+   *
+   * @throws VulkanException          On errors
+   * @throws IllegalArgumentException If a capacity exceeds a device limit
+   */
+
+  public static JCBindlessTableType create(
+    final JCBindlessConfiguration configuration)
+    throws VulkanException
+  {
+    Objects.requireNonNull(configuration, "configuration");
+
+    final var device = configuration.device();
+    checkFeatures(device);
+    checkLimits(device, configuration);
+
+    Set<VulkanShaderStageFlag> stages = configuration.stageFlags();
+    if (stages.isEmpty()) {
+      stages = EnumSet.of(VK_SHADER_STAGE_ALL);
+    }
+
+    final var layoutInfo =
+      VulkanDescriptorSetLayoutCreateInfo.builder();
+    final var poolInfo =
+      VulkanDescriptorPoolCreateInfo.builder();
+    final var kinds =
+      JCBindlessKind.values();
+
+    for (final var kind : kinds) {
+      final var count = configuration.capacity(kind);
+      layoutInfo.addBindings(
+        VulkanDescriptorSetLayoutBinding.builder()
+          .setBinding(kind.binding())
+          .setDescriptorType(kind.descriptorType())
+          .setDescriptorCount(count)
+          .addAllStageFlags(stages)
+          .build()
+      );
+
+      final var flags = EnumSet.of(
+        VK_DESCRIPTOR_BINDING_UPDATE_AFTER_BIND,
+        VK_DESCRIPTOR_BINDING_UPDATE_UNUSED_WHILE_PENDING,
+        VK_DESCRIPTOR_BINDING_PARTIALLY_BOUND
+      );
+      if (kind.ordinal() == kinds.length - 1) {
+        flags.add(VK_DESCRIPTOR_BINDING_VARIABLE_DESCRIPTOR_COUNT);
+      }
+      layoutInfo.addBindingsFlags(flags);
+
+      poolInfo.addPoolSizes(
+        VulkanDescriptorPoolSize.builder()
+          .setType(kind.descriptorType())
+          .setDescriptorCount(count)
+          .build()
+      );
+    }
+
+    layoutInfo.addFlags(
+      VK_DESCRIPTOR_SET_LAYOUT_CREATE_UPDATE_AFTER_BIND_POOL_BIT);
+    poolInfo.addFlags(
+      VK_DESCRIPTOR_POOL_CREATE_UPDATE_AFTER_BIND_BIT);
+    poolInfo.setMaxSets(1);
+
+    final var resources =
+      CloseableCollection.create(() -> {
+        return new VulkanResourceException(
+          "One or more resources failed to close."
+        );
+      });
+
+    try {
+      final var layout =
+        resources.add(device.createDescriptorSetLayout(layoutInfo.build()));
+      final var pool =
+        resources.add(device.createDescriptorPool(poolInfo.build()));
+
+      final var variableCount =
+        configuration.capacity(kinds[kinds.length - 1]);
+
+      final var sets =
+        device.allocateDescriptorSets(
+          VulkanDescriptorSetAllocateInfo.builder()
+            .setDescriptorPool(pool)
+            .addSetLayouts(layout)
+            .addDescriptorCounts(Long.valueOf(variableCount))
+            .build()
+        );
+
+      final var slots =
+        new EnumMap<JCBindlessKind, JCBindlessFreeList>(JCBindlessKind.class);
+      for (final var kind : kinds) {
+        slots.put(kind, new JCBindlessFreeList(configuration.capacity(kind)));
+      }
+
+      LOG.debug(
+        "Created bindless table ({} images, {} samplers, {} buffers)",
+        Integer.valueOf(configuration.sampledImageCapacity()),
+        Integer.valueOf(configuration.samplerCapacity()),
+        Integer.valueOf(configuration.storageBufferCapacity())
+      );
+      return new JCBindlessTable(device, layout, pool, sets.get(0), slots);
+    } catch (final VulkanException e) {
+      try {
+        resources.close();
+      } catch (final VulkanResourceException ex) {
+        e.addSuppressed(ex);
+      }
+      throw e;
+    }
+  }
+
+  private static void checkFeatures(
+    final VulkanLogicalDeviceType device)
+    throws VulkanException
+  {
+    final var features =
+      device.enabledFeatures()
+        .features12();
+
+    final var missing = new TreeSet<String>();
+    if (!features.descriptorBindingPartiallyBound()) {
+      missing.add("descriptorBindingPartiallyBound");
+    }
+    if (!features.descriptorBindingUpdateUnusedWhilePending()) {
+      missing.add("descriptorBindingUpdateUnusedWhilePending");
+    }
+    if (!features.descriptorBindingVariableDescriptorCount()) {
+      missing.add("descriptorBindingVariableDescriptorCount");
+    }
+    if (!features.descriptorBindingSampledImageUpdateAfterBind()) {
+      missing.add("descriptorBindingSampledImageUpdateAfterBind");
+    }
+    if (!features.descriptorBindingStorageBufferUpdateAfterBind()) {
+      missing.add("descriptorBindingStorageBufferUpdateAfterBind");
+    }
+    if (!features.runtimeDescriptorArray()) {
+      missing.add("runtimeDescriptorArray");
+    }
+
+    if (!missing.isEmpty()) {
+      throw new VulkanMissingRequiredFeaturesException(
+        missing,
+        "The device is missing features required for bindless descriptors."
+      );
+    }
+  }
+
+  private static void checkLimits(
+    final VulkanLogicalDeviceType device,
+    final JCBindlessConfiguration configuration)
+    throws VulkanException
+  {
+    final var limits = device.descriptorIndexingProperties();
+
+    var total = 0L;
+    for (final var kind : JCBindlessKind.values()) {
+      final var count = configuration.capacity(kind);
+      total += count;
+
+      switch (kind) {
+        case SAMPLED_IMAGE -> {
+          checkLimit(
+            kind.name(),
+            count,
+            "maxPerStageDescriptorUpdateAfterBindSampledImages",
+            limits.maxPerStageDescriptorUpdateAfterBindSampledImages()
+          );
+          checkLimit(
+            kind.name(),
+            count,
+            "maxDescriptorSetUpdateAfterBindSampledImages",
+            limits.maxDescriptorSetUpdateAfterBindSampledImages()
+          );
+        }
+        case SAMPLER -> {
+          checkLimit(
+            kind.name(),
+            count,
+            "maxPerStageDescriptorUpdateAfterBindSamplers",
+            limits.maxPerStageDescriptorUpdateAfterBindSamplers()
+          );
+          checkLimit(
+            kind.name(),
+            count,
+            "maxDescriptorSetUpdateAfterBindSamplers",
+            limits.maxDescriptorSetUpdateAfterBindSamplers()
+          );
+        }
+        case STORAGE_BUFFER -> {
+          checkLimit(
+            kind.name(),
+            count,
+            "maxPerStageDescriptorUpdateAfterBindStorageBuffers",
+            limits.maxPerStageDescriptorUpdateAfterBindStorageBuffers()
+          );
+          checkLimit(
+            kind.name(),
+            count,
+            "maxDescriptorSetUpdateAfterBindStorageBuffers",
+            limits.maxDescriptorSetUpdateAfterBindStorageBuffers()
+          );
+        }
+      }
+    }
+
+    /*
+     * Every binding is visible to every configured stage, so each stage
+     * can access every descriptor in the table.
+     */
+
+    checkLimit(
+      "Total",
+      total,
+      "maxPerStageUpdateAfterBindResources",
+      limits.maxPerStageUpdateAfterBindResources()
+    );
+    checkLimit(
+      "Total",
+      total,
+      "maxUpdateAfterBindDescriptorsInAllPools",
+      limits.maxUpdateAfterBindDescriptorsInAllPools()
+    );
+  }
+
+  private static void checkLimit(
+    final String name,
+    final long count,
+    final String limitName,
+    final int limit)
+  {
+    final var maximum = Integer.toUnsignedLong(limit);
+    if (count > maximum) {
+      throw new IllegalArgumentException(
+        "%s capacity %d exceeds the device limit %s %d"
+          .formatted(
+            name,
+            Long.valueOf(count),
+            limitName,
+            Long.valueOf(maximum))
+      );
+    }
+  }
+
+  private void checkNotClosed()
+    throws VulkanDestroyedException
+  {
+    if (this.closed.get()) {
+      throw new VulkanDestroyedException(
+        "Bindless table has been closed.",
+        JCBindlessTable.class
+      );
+    }
+  }
+
+  private int allocateSlot(
+    final JCBindlessKind kind)
+    throws VulkanException
+  {
+    this.checkNotClosed();
+
+    final var list = this.slots.get(kind);
+    final var slot = list.allocate();
+    if (slot == JCBindlessFreeList.NO_SLOT) {
+      throw new VulkanResourceException(
+        "No free %s slots are available (capacity %d).".formatted(
+          kind,
+          Integer.valueOf(list.capacity()))
+      );
+    }
+    return slot;
+  }
+
+  private VulkanWriteDescriptorSet.Builder write(
+    final JCBindlessKind kind,
+    final int slot)
+  {
+    return VulkanWriteDescriptorSet.builder()
+      .setDestinationSet(this.set)
+      .setDestinationBinding(kind.binding())
+      .setDestinationArrayElement(slot)
+      .setDescriptorCount(1)
+      .setDescriptorType(kind.descriptorType());
+  }
+
+  @Override
+  public VulkanDescriptorSetLayoutType descriptorSetLayout()
+  {
+    return this.layout;
+  }
+
+  @Override
+  public VulkanDescriptorSetType descriptorSet()
+  {
+    return this.set;
+  }
+
+  @Override
+  public int capacity(
+    final JCBindlessKind kind)
+  {
+    return this.slots.get(Objects.requireNonNull(kind, "kind")).capacity();
+  }
+
+  @Override
+  public int used(
+    final JCBindlessKind kind)
+  {
+    return this.slots.get(Objects.requireNonNull(kind, "kind")).used();
+  }
+
+  @Override
+  public int allocateSampledImage(
+    final VulkanImageViewType imageView,
+    final VulkanImageLayout imageLayout)
+    throws VulkanException
+  {
+    Objects.requireNonNull(imageView, "imageView");
+    Objects.requireNonNull(imageLayout, "imageLayout");
+
+    final var kind = JCBindlessKind.SAMPLED_IMAGE;
+    final var slot = this.allocateSlot(kind);
+    this.pending.add(
+      this.write(kind, slot)
+        .addImageInfos(
+          VulkanDescriptorImageInfo.builder()
+            .setImageView(imageView)
+            .setImageLayout(imageLayout)
+            .build())
+        .build()
+    );
+    return slot;
+  }
+
+  @Override
+  public int allocateSampler(
+    final VulkanSamplerType sampler)
+    throws VulkanException
+  {
+    Objects.requireNonNull(sampler, "sampler");
+
+    final var kind = JCBindlessKind.SAMPLER;
+    final var slot = this.allocateSlot(kind);
+    this.pending.add(
+      this.write(kind, slot)
+        .addImageInfos(
+          VulkanDescriptorImageInfo.builder()
+            .setSampler(sampler)
+            .build())
+        .build()
+    );
+    return slot;
+  }
+
+  @Override
+  public int allocateStorageBuffer(
+    final VulkanBufferType buffer,
+    final long offset,
+    final long range)
+    throws VulkanException
+  {
+    Objects.requireNonNull(buffer, "buffer");
+
+    final var kind = JCBindlessKind.STORAGE_BUFFER;
+    final var slot = this.allocateSlot(kind);
+    this.pending.add(
+      this.write(kind, slot)
+        .addBufferInfos(
+          VulkanDescriptorBufferInfo.builder()
+            .setBuffer(buffer)
+            .setOffset(offset)
+            .setRange(range)
+            .build())
+        .build()
+    );
+    return slot;
+  }
+
+  @Override
+  public void free(
+    final JCBindlessKind kind,
+    final int slot,
+    final long timelineValue)
+    throws VulkanException
+  {
+    Objects.requireNonNull(kind, "kind");
+    this.checkNotClosed();
+
+    this.slots.get(kind).retire(slot);
+    this.retired.add(new Retired(kind, slot, timelineValue));
+  }
+
+  @Override
+  public int flush()
+    throws VulkanException
+  {
+    this.checkNotClosed();
+
+    this.updateLock.lock();
+    try {
+      final var writes = new ArrayList<VulkanWriteDescriptorSet>();
+      while (true) {
+        final var write = this.pending.poll();
+        if (write == null) {
+          break;
+        }
+        writes.add(write);
+      }
+
+      if (!writes.isEmpty()) {
+        this.device.updateDescriptorSets(writes, List.of());
+      }
+      return writes.size();
+    } finally {
+      this.updateLock.unlock();
+    }
+  }
+
+  @Override
+  public int collect(
+    final long completedValue)
+    throws VulkanException
+  {
+    this.checkNotClosed();
+
+    this.collectLock.lock();
+    try {
+      var count = 0;
+      final var iter = this.retired.iterator();
+      while (iter.hasNext()) {
+        final var entry = iter.next();
+        if (Long.compareUnsigned(entry.timelineValue, completedValue) <= 0) {
+          iter.remove();
+          this.slots.get(entry.kind).release(entry.slot);
+          ++count;
+        }
+      }
+      return count;
+    } finally {
+      this.collectLock.unlock();
+    }
+  }
+
+  @Override
+  public int collect(
+    final VulkanSemaphoreTimelineType semaphore)
+    throws VulkanException
+  {
+    Objects.requireNonNull(semaphore, "semaphore");
+    return this.collect(this.device.getSemaphoreCounterValue(semaphore));
+  }
+
+  @Override
+  public void close()
+    throws VulkanException
+  {
+    if (this.closed.compareAndSet(false, true)) {
+      final var resources =
+        CloseableCollection.create(() -> {
+          return new VulkanResourceException(
+            "One or more resources failed to close."
+          );
+        });
+
+      resources.add(this.layout);
+      resources.add(this.pool);
+      resources.close();
+    }
+  }
+
+  private record Retired(
+    JCBindlessKind kind,
+    int slot,
+    long timelineValue)
+  {
+
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.bindless;
+
+import com.io7m.jcoronado.api.VulkanBufferType;
+import com.io7m.jcoronado.api.VulkanDescriptorSetLayoutType;
+import com.io7m.jcoronado.api.VulkanDescriptorSetType;
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanImageLayout;
+import com.io7m.jcoronado.api.VulkanImageViewType;
+import com.io7m.jcoronado.api.VulkanSamplerType;
+import com.io7m.jcoronado.api.VulkanSemaphoreTimelineType;
+
+/**
+ * <p>A bindless descriptor table.</p>
+ *
+ * <p>The table owns a single large descriptor set, allocated once and bound
+ * once per command buffer, that holds arrays of sampled images, samplers,
+ * and storage buffers at the bindings given by {@link JCBindlessKind}.
+ * Resources are placed into the table by allocating a slot, and shaders
+ * access resources by indexing into the arrays using the slot numbers.
+ * Slot numbers are stable for as long as the slot is allocated.</p>
+ *
+ * <p>Slots are allocated from lock-free free-lists and so may be allocated
+ * and freed from any thread. Descriptor writes for newly allocated slots are
+ * queued, and are applied in a single batch by {@link #flush()}, which must
+ * be called before submitting any command buffer that refers to the new
+ * slots.</p>
+ *
+ * <p>Freed slots are not reused immediately, because command buffers that
+ * are still executing may refer to them. Instead, each freed slot is
+ * tagged with a timeline semaphore value, and becomes available for reuse
+ * once {@link #collect(long)} is called with a completed timeline value at
+ * least as large. Resources referred to by a slot must not be destroyed
+ * until the slot has been collected.</p>
+ */
+
+public interface JCBindlessTableType
+  extends AutoCloseable
+{
+  /**
+   * @return The descriptor set layout of the table, for use in pipeline
+   * layouts
+   */
+
+  VulkanDescriptorSetLayoutType descriptorSetLayout();
+
+  /**
+   * @return The table's descriptor set
+   */
+
+  VulkanDescriptorSetType descriptorSet();
+
+  /**
+   * @param kind The resource kind
+   *
+   * @return The number of slots for the resource kind
+   */
+
+  int capacity(JCBindlessKind kind);
+
+  /**
+   * @param kind The resource kind
+   *
+   * @return The number of allocated or not-yet-collected slots for the
+   * resource kind
+   */
+
+  int used(JCBindlessKind kind);
+
+  /**
+   * Allocate a slot for a sampled image.
+   *
+   * @param imageView   The image view
+   * @param imageLayout The layout the image will be in when accessed
+   *
+   * @return The slot
+   *
+   * @throws VulkanException On errors, or if no slots are free
+   */
+
+  int allocateSampledImage(
+    VulkanImageViewType imageView,
+    VulkanImageLayout imageLayout)
+    throws VulkanException;
+
+  /**
+   * Allocate a slot for a sampler.
+   *
+   * @param sampler The sampler
+   *
+   * @return The slot
+   *
+   * @throws VulkanException On errors, or if no slots are free
+   */
+
+  int allocateSampler(
+    VulkanSamplerType sampler)
+    throws VulkanException;
+
+  /**
+   * Allocate a slot for a storage buffer.
+   *
+   * @param buffer The buffer
+   * @param offset The offset in bytes from the start of the buffer
+   * @param range  The size in bytes of the accessible range
+   *
+   * @return The slot
+   *
+   * @throws VulkanException On errors, or if no slots are free
+   */
+
+  int allocateStorageBuffer(
+    VulkanBufferType buffer,
+    long offset,
+    long range)
+    throws VulkanException;
+
+  /**
+   * Free a slot. The slot will become available for reuse once the
+   * timeline has reached {@code timelineValue}.
+   *
+   * @param kind          The resource kind
+   * @param slot          The slot
+   * @param timelineValue The timeline value that will be signalled when the
+   *                      GPU has finished with all work referring to the
+   *                      slot
+   *
+   * @throws VulkanException On errors
+   */
+
+  void free(
+    JCBindlessKind kind,
+    int slot,
+    long timelineValue)
+    throws VulkanException;
+
+  /**
+   * Apply all queued descriptor writes.
+   *
+   * @return The number of descriptor writes applied
+   *
+   * @throws VulkanException On errors
+   */
+
+  int flush()
+    throws VulkanException;
+
+  /**
+   * Make available all freed slots whose timeline values are less than or
+   * equal to {@code completedValue}.
+   *
+   * @param completedValue The last timeline value known to be completed
+   *
+   * @return The number of slots made available
+   *
+   * @throws VulkanException On errors
+   */
+
+  int collect(long completedValue)
+    throws VulkanException;
+
+  /**
+   * Make available all freed slots whose timeline values are less than or
+   * equal to the current value of the given timeline semaphore.
+   *
+   * @param semaphore The timeline semaphore
+   *
+   * @return The number of slots made available
+   *
+   * @throws VulkanException On errors
+   */
+
+  int collect(VulkanSemaphoreTimelineType semaphore)
+    throws VulkanException;
+
+  @Override
+  void close()
+    throws VulkanException;
+}
@@ -0,0 +1,890 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.command_buffers;
+
+import com.io7m.jcoronado.api.VulkanAccessFlag;
+import com.io7m.jcoronado.api.VulkanBufferCopy;
+import com.io7m.jcoronado.api.VulkanBufferImageCopy;
+import com.io7m.jcoronado.api.VulkanBufferMemoryBarrier;
+import com.io7m.jcoronado.api.VulkanBufferType;
+import com.io7m.jcoronado.api.VulkanClearAttachment;
+import com.io7m.jcoronado.api.VulkanClearRectangle;
+import com.io7m.jcoronado.api.VulkanClearValueDepthStencil;
+import com.io7m.jcoronado.api.VulkanCommandBufferBeginInfo;
+import com.io7m.jcoronado.api.VulkanCommandBufferResetFlag;
+import com.io7m.jcoronado.api.VulkanCommandBufferType;
+import com.io7m.jcoronado.api.VulkanCommandStreamType;
+import com.io7m.jcoronado.api.VulkanDependencyFlag;
+import com.io7m.jcoronado.api.VulkanDependencyInfo;
+import com.io7m.jcoronado.api.VulkanEventType;
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanFilter;
+import com.io7m.jcoronado.api.VulkanImageBlit;
+import com.io7m.jcoronado.api.VulkanImageCopy;
+import com.io7m.jcoronado.api.VulkanImageLayout;
+import com.io7m.jcoronado.api.VulkanImageMemoryBarrier;
+import com.io7m.jcoronado.api.VulkanImageSubresourceRange;
+import com.io7m.jcoronado.api.VulkanImageType;
+import com.io7m.jcoronado.api.VulkanMemoryBarrier;
+import com.io7m.jcoronado.api.VulkanPipelineStageFlag;
+import com.io7m.jcoronado.api.VulkanQueryControlFlag;
+import com.io7m.jcoronado.api.VulkanQueryPoolType;
+import com.io7m.jcoronado.api.VulkanQueueFamilyIndex;
+import com.io7m.jcoronado.api.VulkanRenderPassBeginInfo;
+import com.io7m.jcoronado.api.VulkanRenderingInfo;
+import com.io7m.jcoronado.api.VulkanSubpassContents;
+
+import java.lang.foreign.MemorySegment;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.io7m.jcoronado.api.VulkanClearValueType.VulkanClearValueColorType;
+
+/**
+ * <p>A command buffer decorator that accumulates pipeline barriers and
+ * emits them as a single combined dependency immediately before the next
+ * command that could be affected by them (draws, dispatches, copies,
+ * clears, render pass and rendering boundaries, queries, events, the
+ * execution of secondary command buffers, and the end of recording).</p>
+ *
+ * <p>Global memory barriers are merged into a single memory barrier.
+ * Buffer and image barriers that refer to the same resource with the same
+ * range, layouts, and queue families are merged by taking the union of their
+ * stage and access masks. If a barrier refers to a resource that already has
+ * a pending barrier with a different range, layout transition, or queue
+ * family transfer (such as a chained layout transition), or if the
+ * dependency flags differ, the pending barriers are flushed first so that
+ * the ordering between them is preserved.</p>
+ *
+ * <p>Barriers issued in separate calls form dependency chains: the second
+ * barrier's first synchronization scope includes the first barrier's
+ * second scope. Barriers recorded in the same call do not. Therefore, if
+ * the source stages of an incoming buffer or image barrier intersect the
+ * destination stages of any pending barrier, or the source access mask of
+ * an incoming global memory barrier intersects any pending destination
+ * access mask, the pending barriers are flushed first, regardless of which
+ * resources the barriers refer to.</p>
+ */
+
+public final class JCBarrierBatcher
+  extends JCCommandBufferForwarding
+{
+  private final EnumSet<VulkanDependencyFlag> flags;
+  private final Masks memory;
+  private final LinkedHashMap<BufferKey, Pending<VulkanBufferMemoryBarrier>> buffers;
+  private final LinkedHashMap<ImageKey, Pending<VulkanImageMemoryBarrier>> images;
+  private final EnumSet<VulkanPipelineStageFlag> pendingDstStages;
+  private final EnumSet<VulkanAccessFlag> pendingDstAccess;
+  private boolean memoryPending;
+  private long barriersReceived;
+  private long barriersEmitted;
+
+  private JCBarrierBatcher(
+    final VulkanCommandBufferType inDelegate)
+  {
+    super(inDelegate);
+
+    this.flags =
+      EnumSet.noneOf(VulkanDependencyFlag.class);
+    this.memory =
+      new Masks();
+    this.buffers =
+      new LinkedHashMap<>();
+    this.images =
+      new LinkedHashMap<>();
+    this.pendingDstStages =
+      EnumSet.noneOf(VulkanPipelineStageFlag.class);
+    this.pendingDstAccess =
+      EnumSet.noneOf(VulkanAccessFlag.class);
+  }
+
+  /**
+   * Create a barrier batcher over the given command buffer.
+   *
+   * @param delegate The underlying command buffer
+   *
+   * @return A batching command buffer
+   */
+
+  public static JCBarrierBatcher create(
+    final VulkanCommandBufferType delegate)
+  {
+    return new JCBarrierBatcher(delegate);
+  }
+
+  /**
+   * @return The number of pipeline barrier calls received
+   */
+
+  public long barriersReceived()
+  {
+    return this.barriersReceived;
+  }
+
+  /**
+   * @return The number of pipeline barrier calls emitted to the underlying
+   * command buffer
+   */
+
+  public long barriersEmitted()
+  {
+    return this.barriersEmitted;
+  }
+
+  /**
+   * Reset the received and emitted counters to zero.
+   */
+
+  public void resetCounters()
+  {
+    this.barriersReceived = 0L;
+    this.barriersEmitted = 0L;
+  }
+
+  /**
+   * @return {@code true} if there are barriers waiting to be emitted
+   */
+
+  public boolean isPending()
+  {
+    return this.memoryPending
+           || !this.buffers.isEmpty()
+           || !this.images.isEmpty();
+  }
+
+  /**
+   * Emit any pending barriers as a single pipeline barrier. This must be
+   * called before the underlying command buffer is used directly.
+   *
+   * @throws VulkanException On errors
+   */
+
+  public void flush()
+    throws VulkanException
+  {
+    if (!this.isPending()) {
+      return;
+    }
+
+    final var info = VulkanDependencyInfo.builder();
+    info.addAllFlags(this.flags);
+
+    if (this.memoryPending) {
+      info.addMemoryBarriers(
+        VulkanMemoryBarrier.builder()
+          .setSrcAccessMask(this.memory.srcAccess)
+          .setDstAccessMask(this.memory.dstAccess)
+          .build()
+      );
+    }
+
+    for (final var pending : this.buffers.values()) {
+      final var masks = pending.masks;
+      info.addBufferMemoryBarriers(
+        VulkanBufferMemoryBarrier.builder()
+          .from(pending.barrier)
+          .setSrcStageMask(masks.srcStage)
+          .setSrcAccessMask(masks.srcAccess)
+          .setDstStageMask(masks.dstStage)
+          .setDstAccessMask(masks.dstAccess)
+          .build()
+      );
+    }
+
+    for (final var pending : this.images.values()) {
+      final var masks = pending.masks;
+      info.addImageMemoryBarriers(
+        VulkanImageMemoryBarrier.builder()
+          .from(pending.barrier)
+          .setSrcStageMask(masks.srcStage)
+          .setSrcAccessMask(masks.srcAccess)
+          .setDstStageMask(masks.dstStage)
+          .setDstAccessMask(masks.dstAccess)
+          .build()
+      );
+    }
+
+    this.discard();
+    this.delegate().pipelineBarrier(info.build());
+    ++this.barriersEmitted;
+  }
+
+  private void discard()
+  {
+    this.flags.clear();
+    this.memory.clear();
+    this.memoryPending = false;
+    this.buffers.clear();
+    this.images.clear();
+    this.pendingDstStages.clear();
+    this.pendingDstAccess.clear();
+  }
+
+  private boolean conflicts(
+    final VulkanDependencyInfo info)
+  {
+    if (!this.isPending()) {
+      return false;
+    }
+    if (!this.flags.equals(info.flags())) {
+      return true;
+    }
+    if (this.chains(info)) {
+      return true;
+    }
+
+    for (final var barrier : info.bufferMemoryBarriers()) {
+      final var key = BufferKey.of(barrier);
+      if (this.buffers.containsKey(key)) {
+        continue;
+      }
+      for (final var existing : this.buffers.keySet()) {
+        if (Objects.equals(existing.buffer(), key.buffer())) {
+          return true;
+        }
+      }
+    }
+
+    for (final var barrier : info.imageMemoryBarriers()) {
+      final var key = ImageKey.of(barrier);
+      if (this.images.containsKey(key)) {
+        continue;
+      }
+      for (final var existing : this.images.keySet()) {
+        if (Objects.equals(existing.image(), key.image())) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private boolean chains(
+    final VulkanDependencyInfo info)
+  {
+    for (final var barrier : info.memoryBarriers()) {
+      if (!Collections.disjoint(this.pendingDstAccess, barrier.srcAccessMask())) {
+        return true;
+      }
+    }
+    for (final var barrier : info.bufferMemoryBarriers()) {
+      if (!Collections.disjoint(this.pendingDstStages, barrier.srcStageMask())) {
+        return true;
+      }
+    }
+    for (final var barrier : info.imageMemoryBarriers()) {
+      if (!Collections.disjoint(this.pendingDstStages, barrier.srcStageMask())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public void pipelineBarrier(
+    final VulkanDependencyInfo info)
+    throws VulkanException
+  {
+    Objects.requireNonNull(info, "info");
+
+    ++this.barriersReceived;
+
+    if (this.conflicts(info)) {
+      this.flush();
+    }
+    if (!this.isPending()) {
+      this.flags.clear();
+    }
+
+    this.flags.addAll(info.flags());
+
+    for (final var barrier : info.memoryBarriers()) {
+      this.memoryPending = true;
+      this.memory.srcAccess.addAll(barrier.srcAccessMask());
+      this.memory.dstAccess.addAll(barrier.dstAccessMask());
+      this.pendingDstAccess.addAll(barrier.dstAccessMask());
+    }
+
+    for (final var barrier : info.bufferMemoryBarriers()) {
+      final var pending =
+        this.buffers.computeIfAbsent(
+          BufferKey.of(barrier),
+          k -> new Pending<>(barrier)
+        );
+      pending.masks.add(
+        barrier.srcStageMask(),
+        barrier.srcAccessMask(),
+        barrier.dstStageMask(),
+        barrier.dstAccessMask()
+      );
+      this.pendingDstStages.addAll(barrier.dstStageMask());
+      this.pendingDstAccess.addAll(barrier.dstAccessMask());
+    }
+
+    for (final var barrier : info.imageMemoryBarriers()) {
+      final var pending =
+        this.images.computeIfAbsent(
+          ImageKey.of(barrier),
+          k -> new Pending<>(barrier)
+        );
+      pending.masks.add(
+        barrier.srcStageMask(),
+        barrier.srcAccessMask(),
+        barrier.dstStageMask(),
+        barrier.dstAccessMask()
+      );
+      this.pendingDstStages.addAll(barrier.dstStageMask());
+      this.pendingDstAccess.addAll(barrier.dstAccessMask());
+    }
+  }
+
+  @Override
+  public void beginCommandBuffer(
+    final VulkanCommandBufferBeginInfo info)
+    throws VulkanException
+  {
+    this.discard();
+    this.delegate().beginCommandBuffer(info);
+  }
+
+  @Override
+  public void reset(
+    final Set<VulkanCommandBufferResetFlag> flags)
+    throws VulkanException
+  {
+    this.discard();
+    this.delegate().reset(flags);
+  }
+
+  @Override
+  public void beginQuery(
+    final VulkanQueryPoolType pool,
+    final int query,
+    final Set<VulkanQueryControlFlag> flags)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().beginQuery(pool, query, flags);
+  }
+
+  @Override
+  public void endQuery(
+    final VulkanQueryPoolType pool,
+    final int query)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().endQuery(pool, query);
+  }
+
+  @Override
+  public void beginRenderPass(
+    final VulkanRenderPassBeginInfo info,
+    final VulkanSubpassContents contents)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().beginRenderPass(info, contents);
+  }
+
+  @Override
+  public void blitImage(
+    final VulkanImageType source_image,
+    final VulkanImageLayout source_image_layout,
+    final VulkanImageType target_image,
+    final VulkanImageLayout target_image_layout,
+    final List<VulkanImageBlit> regions,
+    final VulkanFilter filter)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().blitImage(source_image, source_image_layout, target_image, target_image_layout, regions, filter);
+  }
+
+  @Override
+  public void copyBuffer(
+    final VulkanBufferType source,
+    final VulkanBufferType target,
+    final List<VulkanBufferCopy> regions)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().copyBuffer(source, target, regions);
+  }
+
+  @Override
+  public void copyImageToBuffer(
+    final VulkanImageType source_image,
+    final VulkanImageLayout source_layout,
+    final VulkanBufferType target_buffer,
+    final List<VulkanBufferImageCopy> regions)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().copyImageToBuffer(source_image, source_layout, target_buffer, regions);
+  }
+
+  @Override
+  public void copyBufferToImage(
+    final VulkanBufferType source_buffer,
+    final VulkanImageType target_image,
+    final VulkanImageLayout target_image_layout,
+    final List<VulkanBufferImageCopy> regions)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().copyBufferToImage(source_buffer, target_image, target_image_layout, regions);
+  }
+
+  @Override
+  public void copyImage(
+    final VulkanImageType source_image,
+    final VulkanImageLayout source_image_layout,
+    final VulkanImageType target_image,
+    final VulkanImageLayout target_image_layout,
+    final List<VulkanImageCopy> regions)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().copyImage(source_image, source_image_layout, target_image, target_image_layout, regions);
+  }
+
+  @Override
+  public void clearAttachments(
+    final List<VulkanClearAttachment> attachments,
+    final List<VulkanClearRectangle> rectangles)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().clearAttachments(attachments, rectangles);
+  }
+
+  @Override
+  public void clearColorImage(
+    final VulkanImageType image,
+    final VulkanImageLayout image_layout,
+    final VulkanClearValueColorType color,
+    final List<VulkanImageSubresourceRange> ranges)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().clearColorImage(image, image_layout, color, ranges);
+  }
+
+  @Override
+  public void clearDepthStencilImage(
+    final VulkanImageType image,
+    final VulkanImageLayout image_layout,
+    final VulkanClearValueDepthStencil depth_stencil,
+    final List<VulkanImageSubresourceRange> ranges)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().clearDepthStencilImage(image, image_layout, depth_stencil, ranges);
+  }
+
+  @Override
+  public void dispatch(
+    final int group_count_x,
+    final int group_count_y,
+    final int group_count_z)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().dispatch(group_count_x, group_count_y, group_count_z);
+  }
+
+  @Override
+  public void dispatchIndirect(
+    final VulkanBufferType buffer,
+    final long offset)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().dispatchIndirect(buffer, offset);
+  }
+
+  @Override
+  public void draw(
+    final int vertex_count,
+    final int instance_count,
+    final int first_vertex,
+    final int first_instance)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().draw(vertex_count, instance_count, first_vertex, first_instance);
+  }
+
+  @Override
+  public void drawIndexed(
+    final int vertex_count,
+    final int instance_count,
+    final int first_vertex,
+    final int vertex_offset,
+    final int first_instance)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().drawIndexed(vertex_count, instance_count, first_vertex, vertex_offset, first_instance);
+  }
+
+  @Override
+  public void drawIndirect(
+    final VulkanBufferType buffer,
+    final long offset,
+    final int draw_count,
+    final int stride)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().drawIndirect(buffer, offset, draw_count, stride);
+  }
+
+  @Override
+  public void drawIndexedIndirect(
+    final VulkanBufferType buffer,
+    final long offset,
+    final int draw_count,
+    final int stride)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().drawIndexedIndirect(buffer, offset, draw_count, stride);
+  }
+
+  @Override
+  public void drawIndirectCount(
+    final VulkanBufferType buffer,
+    final long offset,
+    final VulkanBufferType count_buffer,
+    final long count_buffer_offset,
+    final int max_draw_count,
+    final int stride)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().drawIndirectCount(
+      buffer,
+      offset,
+      count_buffer,
+      count_buffer_offset,
+      max_draw_count,
+      stride
+    );
+  }
+
+  @Override
+  public void drawIndexedIndirectCount(
+    final VulkanBufferType buffer,
+    final long offset,
+    final VulkanBufferType count_buffer,
+    final long count_buffer_offset,
+    final int max_draw_count,
+    final int stride)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().drawIndexedIndirectCount(
+      buffer,
+      offset,
+      count_buffer,
+      count_buffer_offset,
+      max_draw_count,
+      stride
+    );
+  }
+
+  @Override
+  public void drawMulti(
+    final int[] vertex_info,
+    final int instance_count,
+    final int first_instance)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().drawMulti(vertex_info, instance_count, first_instance);
+  }
+
+  @Override
+  public void drawMulti(
+    final MemorySegment vertex_info,
+    final int draw_count,
+    final int instance_count,
+    final int first_instance,
+    final int stride)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().drawMulti(
+      vertex_info,
+      draw_count,
+      instance_count,
+      first_instance,
+      stride
+    );
+  }
+
+  @Override
+  public void drawMultiIndexed(
+    final int[] index_info,
+    final int instance_count,
+    final int first_instance)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().drawMultiIndexed(index_info, instance_count, first_instance);
+  }
+
+  @Override
+  public void drawMultiIndexed(
+    final MemorySegment index_info,
+    final int draw_count,
+    final int instance_count,
+    final int first_instance,
+    final int stride)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().drawMultiIndexed(
+      index_info,
+      draw_count,
+      instance_count,
+      first_instance,
+      stride
+    );
+  }
+
+  @Override
+  public void executeCommands(
+    final List<VulkanCommandBufferType> commandBuffers)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().executeCommands(commandBuffers);
+  }
+
+  @Override
+  public void executeCommandStream(
+    final VulkanCommandStreamType stream)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().executeCommandStream(stream);
+  }
+
+  @Override
+  public void fillBuffer(
+    final VulkanBufferType buffer,
+    final long offset,
+    final long size,
+    final int data)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().fillBuffer(buffer, offset, size, data);
+  }
+
+  @Override
+  public void endRenderPass()
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().endRenderPass();
+  }
+
+  @Override
+  public void nextSubpass(
+    final VulkanSubpassContents contents)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().nextSubpass(contents);
+  }
+
+  @Override
+  public void setEvent(
+    final VulkanEventType event,
+    final VulkanDependencyInfo info)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().setEvent(event, info);
+  }
+
+  @Override
+  public void resetEvent(
+    final VulkanEventType event,
+    final Set<VulkanPipelineStageFlag> mask)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().resetEvent(event, mask);
+  }
+
+  @Override
+  public void resetQueryPool(
+    final VulkanQueryPoolType pool,
+    final int first_query,
+    final int query_count)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().resetQueryPool(pool, first_query, query_count);
+  }
+
+  @Override
+  public void endCommandBuffer()
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().endCommandBuffer();
+  }
+
+  @Override
+  public void writeTimestamp(
+    final VulkanPipelineStageFlag stage,
+    final VulkanQueryPoolType pool,
+    final int query_index)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().writeTimestamp(stage, pool, query_index);
+  }
+
+  @Override
+  public void waitEvents(
+    final List<VulkanEventType> events,
+    final List<VulkanDependencyInfo> dependencyInfos)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().waitEvents(events, dependencyInfos);
+  }
+
+  @Override
+  public void beginRendering(
+    final VulkanRenderingInfo renderingInfo)
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().beginRendering(renderingInfo);
+  }
+
+  @Override
+  public void endRendering()
+    throws VulkanException
+  {
+    this.flush();
+    this.delegate().endRendering();
+  }
+
+  private record BufferKey(
+    VulkanBufferType buffer,
+    long offset,
+    long size,
+    VulkanQueueFamilyIndex srcQueueFamilyIndex,
+    VulkanQueueFamilyIndex dstQueueFamilyIndex)
+  {
+    static BufferKey of(
+      final VulkanBufferMemoryBarrier barrier)
+    {
+      return new BufferKey(
+        barrier.buffer(),
+        barrier.offset(),
+        barrier.size(),
+        barrier.srcQueueFamilyIndex(),
+        barrier.dstQueueFamilyIndex()
+      );
+    }
+  }
+
+  private record ImageKey(
+    VulkanImageType image,
+    VulkanImageSubresourceRange subresourceRange,
+    VulkanImageLayout oldLayout,
+    VulkanImageLayout newLayout,
+    VulkanQueueFamilyIndex srcQueueFamilyIndex,
+    VulkanQueueFamilyIndex dstQueueFamilyIndex)
+  {
+    static ImageKey of(
+      final VulkanImageMemoryBarrier barrier)
+    {
+      return new ImageKey(
+        barrier.image(),
+        barrier.subresourceRange(),
+        barrier.oldLayout(),
+        barrier.newLayout(),
+        barrier.srcQueueFamilyIndex(),
+        barrier.dstQueueFamilyIndex()
+      );
+    }
+  }
+
+  private static final class Masks
+  {
+    private final EnumSet<VulkanPipelineStageFlag> srcStage;
+    private final EnumSet<VulkanAccessFlag> srcAccess;
+    private final EnumSet<VulkanPipelineStageFlag> dstStage;
+    private final EnumSet<VulkanAccessFlag> dstAccess;
+
+    Masks()
+    {
+      this.srcStage = EnumSet.noneOf(VulkanPipelineStageFlag.class);
+      this.srcAccess = EnumSet.noneOf(VulkanAccessFlag.class);
+      this.dstStage = EnumSet.noneOf(VulkanPipelineStageFlag.class);
+      this.dstAccess = EnumSet.noneOf(VulkanAccessFlag.class);
+    }
+
+    void add(
+      final Set<VulkanPipelineStageFlag> inSrcStage,
+      final Set<VulkanAccessFlag> inSrcAccess,
+      final Set<VulkanPipelineStageFlag> inDstStage,
+      final Set<VulkanAccessFlag> inDstAccess)
+    {
+      this.srcStage.addAll(inSrcStage);
+      this.srcAccess.addAll(inSrcAccess);
+      this.dstStage.addAll(inDstStage);
+      this.dstAccess.addAll(inDstAccess);
+    }
+
+    void clear()
+    {
+      this.srcStage.clear();
+      this.srcAccess.clear();
+      this.dstStage.clear();
+      this.dstAccess.clear();
+    }
+  }
+
+  private static final class Pending<T>
+  {
+    private final T barrier;
+    private final Masks masks;
+
+    Pending(
+      final T inBarrier)
+    {
+      this.barrier = inBarrier;
+      this.masks = new Masks();
+    }
+  }
+}
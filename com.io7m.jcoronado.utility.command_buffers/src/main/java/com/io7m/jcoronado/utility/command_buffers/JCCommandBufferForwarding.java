@@ -0,0 +1,968 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.command_buffers;
+
+import com.io7m.jcoronado.api.VulkanBlendConstants;
+import com.io7m.jcoronado.api.VulkanBufferCopy;
+import com.io7m.jcoronado.api.VulkanBufferImageCopy;
+import com.io7m.jcoronado.api.VulkanBufferType;
+import com.io7m.jcoronado.api.VulkanClearAttachment;
+import com.io7m.jcoronado.api.VulkanClearRectangle;
+import com.io7m.jcoronado.api.VulkanClearValueDepthStencil;
+import com.io7m.jcoronado.api.VulkanColorBlendEquationEXT;
+import com.io7m.jcoronado.api.VulkanColorComponentFlag;
+import com.io7m.jcoronado.api.VulkanCommandBufferBeginInfo;
+import com.io7m.jcoronado.api.VulkanCommandBufferResetFlag;
+import com.io7m.jcoronado.api.VulkanCommandBufferType;
+import com.io7m.jcoronado.api.VulkanCommandStreamType;
+import com.io7m.jcoronado.api.VulkanCompareOp;
+import com.io7m.jcoronado.api.VulkanCullModeFlag;
+import com.io7m.jcoronado.api.VulkanDependencyInfo;
+import com.io7m.jcoronado.api.VulkanDescriptorBufferBindingInfoEXT;
+import com.io7m.jcoronado.api.VulkanDescriptorSetType;
+import com.io7m.jcoronado.api.VulkanDescriptorUpdateTemplateType;
+import com.io7m.jcoronado.api.VulkanEventType;
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanFilter;
+import com.io7m.jcoronado.api.VulkanFrontFace;
+import com.io7m.jcoronado.api.VulkanImageBlit;
+import com.io7m.jcoronado.api.VulkanImageCopy;
+import com.io7m.jcoronado.api.VulkanImageLayout;
+import com.io7m.jcoronado.api.VulkanImageSubresourceRange;
+import com.io7m.jcoronado.api.VulkanImageType;
+import com.io7m.jcoronado.api.VulkanIndexType;
+import com.io7m.jcoronado.api.VulkanPipelineBindPoint;
+import com.io7m.jcoronado.api.VulkanPipelineLayoutType;
+import com.io7m.jcoronado.api.VulkanPipelineStageFlag;
+import com.io7m.jcoronado.api.VulkanPipelineType;
+import com.io7m.jcoronado.api.VulkanPolygonMode;
+import com.io7m.jcoronado.api.VulkanPrimitiveTopology;
+import com.io7m.jcoronado.api.VulkanQueryControlFlag;
+import com.io7m.jcoronado.api.VulkanQueryPoolType;
+import com.io7m.jcoronado.api.VulkanRectangle2D;
+import com.io7m.jcoronado.api.VulkanRenderPassBeginInfo;
+import com.io7m.jcoronado.api.VulkanRenderingInfo;
+import com.io7m.jcoronado.api.VulkanShaderObjectType;
+import com.io7m.jcoronado.api.VulkanShaderStageFlag;
+import com.io7m.jcoronado.api.VulkanStencilFaceFlag;
+import com.io7m.jcoronado.api.VulkanStencilOp;
+import com.io7m.jcoronado.api.VulkanSubpassContents;
+import com.io7m.jcoronado.api.VulkanVertexInputAttributeDescription;
+import com.io7m.jcoronado.api.VulkanVertexInputBindingDescription;
+import com.io7m.jcoronado.api.VulkanViewport;
+import com.io7m.jcoronado.api.VulkanWriteDescriptorSet;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.io7m.jcoronado.api.VulkanClearValueType.VulkanClearValueColorType;
+
+/**
+ * <p>A command buffer that forwards all calls to a delegate command buffer.</p>
+ *
+ * <p>This is the base class of the command buffer decorators in this
+ * package. Implementations of the API typically require their own
+ * command buffer classes when submitting work to queues and when executing
+ * secondary command buffers, and so the {@link #delegate()} should be used
+ * in those cases.</p>
+ */
+
+public abstract class JCCommandBufferForwarding
+  implements VulkanCommandBufferType
+{
+  private final VulkanCommandBufferType delegate;
+
+  /**
+   * Construct a forwarding command buffer.
+   *
+   * @param inDelegate The delegate command buffer
+   */
+
+  protected JCCommandBufferForwarding(
+    final VulkanCommandBufferType inDelegate)
+  {
+    this.delegate = Objects.requireNonNull(inDelegate, "delegate");
+  }
+
+  /**
+   * @return The underlying command buffer
+   */
+
+  public final VulkanCommandBufferType delegate()
+  {
+    return this.delegate;
+  }
+
+  @Override
+  public void beginCommandBuffer(
+    final VulkanCommandBufferBeginInfo info)
+    throws VulkanException
+  {
+    this.delegate.beginCommandBuffer(info);
+  }
+
+  @Override
+  public void beginQuery(
+    final VulkanQueryPoolType pool,
+    final int query,
+    final Set<VulkanQueryControlFlag> flags)
+    throws VulkanException
+  {
+    this.delegate.beginQuery(pool, query, flags);
+  }
+
+  @Override
+  public void endQuery(
+    final VulkanQueryPoolType pool,
+    final int query)
+    throws VulkanException
+  {
+    this.delegate.endQuery(pool, query);
+  }
+
+  @Override
+  public void beginRenderPass(
+    final VulkanRenderPassBeginInfo info,
+    final VulkanSubpassContents contents)
+    throws VulkanException
+  {
+    this.delegate.beginRenderPass(info, contents);
+  }
+
+  @Override
+  public void bindPipeline(
+    final VulkanPipelineBindPoint bind_point,
+    final VulkanPipelineType pipeline)
+    throws VulkanException
+  {
+    this.delegate.bindPipeline(bind_point, pipeline);
+  }
+
+  @Override
+  public void bindShaders(
+    final List<VulkanShaderStageFlag> stages,
+    final List<Optional<VulkanShaderObjectType>> shaders)
+    throws VulkanException
+  {
+    this.delegate.bindShaders(stages, shaders);
+  }
+
+  @Override
+  public void bindVertexBuffers(
+    final int first_binding,
+    final int binding_count,
+    final List<VulkanBufferType> buffers,
+    final List<Long> offsets)
+    throws VulkanException
+  {
+    this.delegate.bindVertexBuffers(first_binding, binding_count, buffers, offsets);
+  }
+
+  @Override
+  public void bindVertexBuffer(
+    final int binding,
+    final VulkanBufferType buffer,
+    final long offset)
+    throws VulkanException
+  {
+    this.delegate.bindVertexBuffer(binding, buffer, offset);
+  }
+
+  @Override
+  public void bindVertexBuffers(
+    final int first_binding,
+    final VulkanBufferType[] buffers,
+    final long[] offsets)
+    throws VulkanException
+  {
+    this.delegate.bindVertexBuffers(first_binding, buffers, offsets);
+  }
+
+  @Override
+  public void bindVertexBuffers(
+    final int first_binding,
+    final VulkanBufferType[] buffers,
+    final LongBuffer offsets)
+    throws VulkanException
+  {
+    this.delegate.bindVertexBuffers(first_binding, buffers, offsets);
+  }
+
+  @Override
+  public void bindVertexBuffers(
+    final int first_binding,
+    final VulkanBufferType[] buffers,
+    final MemorySegment offsets)
+    throws VulkanException
+  {
+    this.delegate.bindVertexBuffers(first_binding, buffers, offsets);
+  }
+
+  @Override
+  public void bindIndexBuffer(
+    final VulkanBufferType buffer,
+    final long offset,
+    final VulkanIndexType index_type)
+    throws VulkanException
+  {
+    this.delegate.bindIndexBuffer(buffer, offset, index_type);
+  }
+
+  @Override
+  public void bindDescriptorSets(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int first_set,
+    final List<VulkanDescriptorSetType> descriptor_sets,
+    final List<Integer> dynamic_offsets)
+    throws VulkanException
+  {
+    this.delegate.bindDescriptorSets(pipeline_bind_point, layout, first_set, descriptor_sets, dynamic_offsets);
+  }
+
+  @Override
+  public void bindDescriptorSet(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int set,
+    final VulkanDescriptorSetType descriptor_set)
+    throws VulkanException
+  {
+    this.delegate.bindDescriptorSet(pipeline_bind_point, layout, set, descriptor_set);
+  }
+
+  @Override
+  public void bindDescriptorSets(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int first_set,
+    final VulkanDescriptorSetType[] descriptor_sets,
+    final int[] dynamic_offsets)
+    throws VulkanException
+  {
+    this.delegate.bindDescriptorSets(pipeline_bind_point, layout, first_set, descriptor_sets, dynamic_offsets);
+  }
+
+  @Override
+  public void bindDescriptorSets(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int first_set,
+    final VulkanDescriptorSetType[] descriptor_sets,
+    final IntBuffer dynamic_offsets)
+    throws VulkanException
+  {
+    this.delegate.bindDescriptorSets(pipeline_bind_point, layout, first_set, descriptor_sets, dynamic_offsets);
+  }
+
+  @Override
+  public void bindDescriptorSets(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int first_set,
+    final VulkanDescriptorSetType[] descriptor_sets,
+    final MemorySegment dynamic_offsets)
+    throws VulkanException
+  {
+    this.delegate.bindDescriptorSets(pipeline_bind_point, layout, first_set, descriptor_sets, dynamic_offsets);
+  }
+
+  @Override
+  public void blitImage(
+    final VulkanImageType source_image,
+    final VulkanImageLayout source_image_layout,
+    final VulkanImageType target_image,
+    final VulkanImageLayout target_image_layout,
+    final List<VulkanImageBlit> regions,
+    final VulkanFilter filter)
+    throws VulkanException
+  {
+    this.delegate.blitImage(source_image, source_image_layout, target_image, target_image_layout, regions, filter);
+  }
+
+  @Override
+  public void copyBuffer(
+    final VulkanBufferType source,
+    final VulkanBufferType target,
+    final List<VulkanBufferCopy> regions)
+    throws VulkanException
+  {
+    this.delegate.copyBuffer(source, target, regions);
+  }
+
+  @Override
+  public void copyImageToBuffer(
+    final VulkanImageType source_image,
+    final VulkanImageLayout source_layout,
+    final VulkanBufferType target_buffer,
+    final List<VulkanBufferImageCopy> regions)
+    throws VulkanException
+  {
+    this.delegate.copyImageToBuffer(source_image, source_layout, target_buffer, regions);
+  }
+
+  @Override
+  public void copyBufferToImage(
+    final VulkanBufferType source_buffer,
+    final VulkanImageType target_image,
+    final VulkanImageLayout target_image_layout,
+    final List<VulkanBufferImageCopy> regions)
+    throws VulkanException
+  {
+    this.delegate.copyBufferToImage(source_buffer, target_image, target_image_layout, regions);
+  }
+
+  @Override
+  public void copyImage(
+    final VulkanImageType source_image,
+    final VulkanImageLayout source_image_layout,
+    final VulkanImageType target_image,
+    final VulkanImageLayout target_image_layout,
+    final List<VulkanImageCopy> regions)
+    throws VulkanException
+  {
+    this.delegate.copyImage(source_image, source_image_layout, target_image, target_image_layout, regions);
+  }
+
+  @Override
+  public void clearAttachments(
+    final List<VulkanClearAttachment> attachments,
+    final List<VulkanClearRectangle> rectangles)
+    throws VulkanException
+  {
+    this.delegate.clearAttachments(attachments, rectangles);
+  }
+
+  @Override
+  public void clearColorImage(
+    final VulkanImageType image,
+    final VulkanImageLayout image_layout,
+    final VulkanClearValueColorType color,
+    final List<VulkanImageSubresourceRange> ranges)
+    throws VulkanException
+  {
+    this.delegate.clearColorImage(image, image_layout, color, ranges);
+  }
+
+  @Override
+  public void clearDepthStencilImage(
+    final VulkanImageType image,
+    final VulkanImageLayout image_layout,
+    final VulkanClearValueDepthStencil depth_stencil,
+    final List<VulkanImageSubresourceRange> ranges)
+    throws VulkanException
+  {
+    this.delegate.clearDepthStencilImage(image, image_layout, depth_stencil, ranges);
+  }
+
+  @Override
+  public void dispatch(
+    final int group_count_x,
+    final int group_count_y,
+    final int group_count_z)
+    throws VulkanException
+  {
+    this.delegate.dispatch(group_count_x, group_count_y, group_count_z);
+  }
+
+  @Override
+  public void dispatchIndirect(
+    final VulkanBufferType buffer,
+    final long offset)
+    throws VulkanException
+  {
+    this.delegate.dispatchIndirect(buffer, offset);
+  }
+
+  @Override
+  public void draw(
+    final int vertex_count,
+    final int instance_count,
+    final int first_vertex,
+    final int first_instance)
+    throws VulkanException
+  {
+    this.delegate.draw(vertex_count, instance_count, first_vertex, first_instance);
+  }
+
+  @Override
+  public void drawIndexed(
+    final int vertex_count,
+    final int instance_count,
+    final int first_vertex,
+    final int vertex_offset,
+    final int first_instance)
+    throws VulkanException
+  {
+    this.delegate.drawIndexed(vertex_count, instance_count, first_vertex, vertex_offset, first_instance);
+  }
+
+  @Override
+  public void drawIndirect(
+    final VulkanBufferType buffer,
+    final long offset,
+    final int draw_count,
+    final int stride)
+    throws VulkanException
+  {
+    this.delegate.drawIndirect(buffer, offset, draw_count, stride);
+  }
+
+  @Override
+  public void drawIndexedIndirect(
+    final VulkanBufferType buffer,
+    final long offset,
+    final int draw_count,
+    final int stride)
+    throws VulkanException
+  {
+    this.delegate.drawIndexedIndirect(buffer, offset, draw_count, stride);
+  }
+
+  @Override
+  public void drawIndirectCount(
+    final VulkanBufferType buffer,
+    final long offset,
+    final VulkanBufferType count_buffer,
+    final long count_buffer_offset,
+    final int max_draw_count,
+    final int stride)
+    throws VulkanException
+  {
+    this.delegate.drawIndirectCount(
+      buffer,
+      offset,
+      count_buffer,
+      count_buffer_offset,
+      max_draw_count,
+      stride
+    );
+  }
+
+  @Override
+  public void drawIndexedIndirectCount(
+    final VulkanBufferType buffer,
+    final long offset,
+    final VulkanBufferType count_buffer,
+    final long count_buffer_offset,
+    final int max_draw_count,
+    final int stride)
+    throws VulkanException
+  {
+    this.delegate.drawIndexedIndirectCount(
+      buffer,
+      offset,
+      count_buffer,
+      count_buffer_offset,
+      max_draw_count,
+      stride
+    );
+  }
+
+  @Override
+  public void drawMulti(
+    final int[] vertex_info,
+    final int instance_count,
+    final int first_instance)
+    throws VulkanException
+  {
+    this.delegate.drawMulti(vertex_info, instance_count, first_instance);
+  }
+
+  @Override
+  public void drawMulti(
+    final MemorySegment vertex_info,
+    final int draw_count,
+    final int instance_count,
+    final int first_instance,
+    final int stride)
+    throws VulkanException
+  {
+    this.delegate.drawMulti(
+      vertex_info,
+      draw_count,
+      instance_count,
+      first_instance,
+      stride
+    );
+  }
+
+  @Override
+  public void drawMultiIndexed(
+    final int[] index_info,
+    final int instance_count,
+    final int first_instance)
+    throws VulkanException
+  {
+    this.delegate.drawMultiIndexed(index_info, instance_count, first_instance);
+  }
+
+  @Override
+  public void drawMultiIndexed(
+    final MemorySegment index_info,
+    final int draw_count,
+    final int instance_count,
+    final int first_instance,
+    final int stride)
+    throws VulkanException
+  {
+    this.delegate.drawMultiIndexed(
+      index_info,
+      draw_count,
+      instance_count,
+      first_instance,
+      stride
+    );
+  }
+
+  @Override
+  public void executeCommands(
+    final List<VulkanCommandBufferType> commandBuffers)
+    throws VulkanException
+  {
+    this.delegate.executeCommands(commandBuffers);
+  }
+
+  @Override
+  public void executeCommandStream(
+    final VulkanCommandStreamType stream)
+    throws VulkanException
+  {
+    this.delegate.executeCommandStream(stream);
+  }
+
+  @Override
+  public void fillBuffer(
+    final VulkanBufferType buffer,
+    final long offset,
+    final long size,
+    final int data)
+    throws VulkanException
+  {
+    this.delegate.fillBuffer(buffer, offset, size, data);
+  }
+
+  @Override
+  public void endRenderPass()
+    throws VulkanException
+  {
+    this.delegate.endRenderPass();
+  }
+
+  @Override
+  public void pipelineBarrier(
+    final VulkanDependencyInfo info)
+    throws VulkanException
+  {
+    this.delegate.pipelineBarrier(info);
+  }
+
+  @Override
+  public void nextSubpass(
+    final VulkanSubpassContents contents)
+    throws VulkanException
+  {
+    this.delegate.nextSubpass(contents);
+  }
+
+  @Override
+  public void setLineWidth(
+    final float width)
+    throws VulkanException
+  {
+    this.delegate.setLineWidth(width);
+  }
+
+  @Override
+  public void setDepthBias(
+    final float depth_bias_constant_factor,
+    final float depth_bias_clamp,
+    final float depth_bias_slope_factor)
+    throws VulkanException
+  {
+    this.delegate.setDepthBias(depth_bias_constant_factor, depth_bias_clamp, depth_bias_slope_factor);
+  }
+
+  @Override
+  public void setDepthBounds(
+    final float min_depth_bounds,
+    final float max_depth_bounds)
+    throws VulkanException
+  {
+    this.delegate.setDepthBounds(min_depth_bounds, max_depth_bounds);
+  }
+
+  @Override
+  public void setBlendConstants(
+    final VulkanBlendConstants constants)
+    throws VulkanException
+  {
+    this.delegate.setBlendConstants(constants);
+  }
+
+  @Override
+  public void setStencilReference(
+    final Set<VulkanStencilFaceFlag> face_mask,
+    final int reference)
+    throws VulkanException
+  {
+    this.delegate.setStencilReference(face_mask, reference);
+  }
+
+  @Override
+  public void setStencilCompareMask(
+    final Set<VulkanStencilFaceFlag> face_mask,
+    final int mask)
+    throws VulkanException
+  {
+    this.delegate.setStencilCompareMask(face_mask, mask);
+  }
+
+  @Override
+  public void setStencilWriteMask(
+    final Set<VulkanStencilFaceFlag> face_mask,
+    final int mask)
+    throws VulkanException
+  {
+    this.delegate.setStencilWriteMask(face_mask, mask);
+  }
+
+  @Override
+  public void setScissor(
+    final int first_scissor,
+    final List<VulkanRectangle2D> rectangles)
+    throws VulkanException
+  {
+    this.delegate.setScissor(first_scissor, rectangles);
+  }
+
+  @Override
+  public void setViewport(
+    final int first_viewport,
+    final List<VulkanViewport> viewports)
+    throws VulkanException
+  {
+    this.delegate.setViewport(first_viewport, viewports);
+  }
+
+  @Override
+  public void setCullMode(
+    final Set<VulkanCullModeFlag> cull_mode)
+    throws VulkanException
+  {
+    this.delegate.setCullMode(cull_mode);
+  }
+
+  @Override
+  public void setFrontFace(
+    final VulkanFrontFace front_face)
+    throws VulkanException
+  {
+    this.delegate.setFrontFace(front_face);
+  }
+
+  @Override
+  public void setPrimitiveTopology(
+    final VulkanPrimitiveTopology topology)
+    throws VulkanException
+  {
+    this.delegate.setPrimitiveTopology(topology);
+  }
+
+  @Override
+  public void setDepthTestEnable(
+    final boolean enable)
+    throws VulkanException
+  {
+    this.delegate.setDepthTestEnable(enable);
+  }
+
+  @Override
+  public void setDepthWriteEnable(
+    final boolean enable)
+    throws VulkanException
+  {
+    this.delegate.setDepthWriteEnable(enable);
+  }
+
+  @Override
+  public void setDepthCompareOp(
+    final VulkanCompareOp compare_op)
+    throws VulkanException
+  {
+    this.delegate.setDepthCompareOp(compare_op);
+  }
+
+  @Override
+  public void setDepthBoundsTestEnable(
+    final boolean enable)
+    throws VulkanException
+  {
+    this.delegate.setDepthBoundsTestEnable(enable);
+  }
+
+  @Override
+  public void setStencilTestEnable(
+    final boolean enable)
+    throws VulkanException
+  {
+    this.delegate.setStencilTestEnable(enable);
+  }
+
+  @Override
+  public void setStencilOp(
+    final Set<VulkanStencilFaceFlag> face_mask,
+    final VulkanStencilOp fail_op,
+    final VulkanStencilOp pass_op,
+    final VulkanStencilOp depth_fail_op,
+    final VulkanCompareOp compare_op)
+    throws VulkanException
+  {
+    this.delegate.setStencilOp(
+      face_mask, fail_op, pass_op, depth_fail_op, compare_op);
+  }
+
+  @Override
+  public void setRasterizerDiscardEnable(
+    final boolean enable)
+    throws VulkanException
+  {
+    this.delegate.setRasterizerDiscardEnable(enable);
+  }
+
+  @Override
+  public void setDepthBiasEnable(
+    final boolean enable)
+    throws VulkanException
+  {
+    this.delegate.setDepthBiasEnable(enable);
+  }
+
+  @Override
+  public void setPrimitiveRestartEnable(
+    final boolean enable)
+    throws VulkanException
+  {
+    this.delegate.setPrimitiveRestartEnable(enable);
+  }
+
+  @Override
+  public void setPolygonMode(
+    final VulkanPolygonMode polygon_mode)
+    throws VulkanException
+  {
+    this.delegate.setPolygonMode(polygon_mode);
+  }
+
+  @Override
+  public void setColorBlendEnable(
+    final int first_attachment,
+    final List<Boolean> enables)
+    throws VulkanException
+  {
+    this.delegate.setColorBlendEnable(first_attachment, enables);
+  }
+
+  @Override
+  public void setColorBlendEquation(
+    final int first_attachment,
+    final List<VulkanColorBlendEquationEXT> equations)
+    throws VulkanException
+  {
+    this.delegate.setColorBlendEquation(first_attachment, equations);
+  }
+
+  @Override
+  public void setColorWriteMask(
+    final int first_attachment,
+    final List<Set<VulkanColorComponentFlag>> masks)
+    throws VulkanException
+  {
+    this.delegate.setColorWriteMask(first_attachment, masks);
+  }
+
+  @Override
+  public void setVertexInput(
+    final List<VulkanVertexInputBindingDescription> bindings,
+    final List<VulkanVertexInputAttributeDescription> attributes)
+    throws VulkanException
+  {
+    this.delegate.setVertexInput(bindings, attributes);
+  }
+
+  @Override
+  public void setEvent(
+    final VulkanEventType event,
+    final VulkanDependencyInfo info)
+    throws VulkanException
+  {
+    this.delegate.setEvent(event, info);
+  }
+
+  @Override
+  public void resetEvent(
+    final VulkanEventType event,
+    final Set<VulkanPipelineStageFlag> mask)
+    throws VulkanException
+  {
+    this.delegate.resetEvent(event, mask);
+  }
+
+  @Override
+  public void resetQueryPool(
+    final VulkanQueryPoolType pool,
+    final int first_query,
+    final int query_count)
+    throws VulkanException
+  {
+    this.delegate.resetQueryPool(pool, first_query, query_count);
+  }
+
+  @Override
+  public void endCommandBuffer()
+    throws VulkanException
+  {
+    this.delegate.endCommandBuffer();
+  }
+
+  @Override
+  public void writeTimestamp(
+    final VulkanPipelineStageFlag stage,
+    final VulkanQueryPoolType pool,
+    final int query_index)
+    throws VulkanException
+  {
+    this.delegate.writeTimestamp(stage, pool, query_index);
+  }
+
+  @Override
+  public void waitEvents(
+    final List<VulkanEventType> events,
+    final List<VulkanDependencyInfo> dependencyInfos)
+    throws VulkanException
+  {
+    this.delegate.waitEvents(events, dependencyInfos);
+  }
+
+  @Override
+  public void reset(
+    final Set<VulkanCommandBufferResetFlag> flags)
+    throws VulkanException
+  {
+    this.delegate.reset(flags);
+  }
+
+  @Override
+  public void beginRendering(
+    final VulkanRenderingInfo renderingInfo)
+    throws VulkanException
+  {
+    this.delegate.beginRendering(renderingInfo);
+  }
+
+  @Override
+  public void endRendering()
+    throws VulkanException
+  {
+    this.delegate.endRendering();
+  }
+
+  @Override
+  public void pushConstants(
+    final VulkanPipelineLayoutType layout,
+    final Set<VulkanShaderStageFlag> stageFlags,
+    final long offset,
+    final ByteBuffer data)
+    throws VulkanException
+  {
+    this.delegate.pushConstants(layout, stageFlags, offset, data);
+  }
+
+  @Override
+  public void close()
+    throws VulkanException
+  {
+    this.delegate.close();
+  }
+
+  @Override
+  public boolean isClosed()
+  {
+    return this.delegate.isClosed();
+  }
+
+  @Override
+  public void pushDescriptorSet(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int set,
+    final List<VulkanWriteDescriptorSet> descriptor_writes)
+    throws VulkanException
+  {
+    this.delegate.pushDescriptorSet(
+      pipeline_bind_point, layout, set, descriptor_writes);
+  }
+
+  @Override
+  public void pushDescriptorSetWithTemplate(
+    final VulkanDescriptorUpdateTemplateType template,
+    final VulkanPipelineLayoutType layout,
+    final int set,
+    final MemorySegment data)
+    throws VulkanException
+  {
+    this.delegate.pushDescriptorSetWithTemplate(template, layout, set, data);
+  }
+
+  @Override
+  public void pushDescriptorSetWithTemplate(
+    final VulkanDescriptorUpdateTemplateType template,
+    final VulkanPipelineLayoutType layout,
+    final int set,
+    final ByteBuffer data)
+    throws VulkanException
+  {
+    this.delegate.pushDescriptorSetWithTemplate(template, layout, set, data);
+  }
+
+  @Override
+  public void bindDescriptorBuffers(
+    final List<VulkanDescriptorBufferBindingInfoEXT> binding_infos)
+    throws VulkanException
+  {
+    this.delegate.bindDescriptorBuffers(binding_infos);
+  }
+
+  @Override
+  public void setDescriptorBufferOffsets(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int first_set,
+    final int[] buffer_indices,
+    final long[] offsets)
+    throws VulkanException
+  {
+    this.delegate.setDescriptorBufferOffsets(
+      pipeline_bind_point, layout, first_set, buffer_indices, offsets);
+  }
+}
@@ -0,0 +1,1499 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.command_buffers;
+
+import com.io7m.jcoronado.api.VulkanBlendConstants;
+import com.io7m.jcoronado.api.VulkanBufferType;
+import com.io7m.jcoronado.api.VulkanColorBlendEquationEXT;
+import com.io7m.jcoronado.api.VulkanColorComponentFlag;
+import com.io7m.jcoronado.api.VulkanCommandBufferBeginInfo;
+import com.io7m.jcoronado.api.VulkanCommandBufferResetFlag;
+import com.io7m.jcoronado.api.VulkanCommandBufferType;
+import com.io7m.jcoronado.api.VulkanCommandStreamType;
+import com.io7m.jcoronado.api.VulkanCompareOp;
+import com.io7m.jcoronado.api.VulkanCullModeFlag;
+import com.io7m.jcoronado.api.VulkanDescriptorBufferBindingInfoEXT;
+import com.io7m.jcoronado.api.VulkanDescriptorSetType;
+import com.io7m.jcoronado.api.VulkanDescriptorUpdateTemplateType;
+import com.io7m.jcoronado.api.VulkanDynamicState;
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanFrontFace;
+import com.io7m.jcoronado.api.VulkanIndexType;
+import com.io7m.jcoronado.api.VulkanPipelineBindPoint;
+import com.io7m.jcoronado.api.VulkanPipelineLayoutType;
+import com.io7m.jcoronado.api.VulkanPipelineType;
+import com.io7m.jcoronado.api.VulkanPolygonMode;
+import com.io7m.jcoronado.api.VulkanPrimitiveTopology;
+import com.io7m.jcoronado.api.VulkanRectangle2D;
+import com.io7m.jcoronado.api.VulkanShaderObjectType;
+import com.io7m.jcoronado.api.VulkanShaderStageFlag;
+import com.io7m.jcoronado.api.VulkanStencilFaceFlag;
+import com.io7m.jcoronado.api.VulkanStencilOp;
+import com.io7m.jcoronado.api.VulkanVertexInputAttributeDescription;
+import com.io7m.jcoronado.api.VulkanVertexInputBindingDescription;
+import com.io7m.jcoronado.api.VulkanViewport;
+import com.io7m.jcoronado.api.VulkanWriteDescriptorSet;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.io7m.jcoronado.api.VulkanDynamicState.VK_DYNAMIC_STATE_DEPTH_BIAS_ENABLE;
+import static com.io7m.jcoronado.api.VulkanDynamicState.VK_DYNAMIC_STATE_DEPTH_BOUNDS_TEST_ENABLE;
+import static com.io7m.jcoronado.api.VulkanDynamicState.VK_DYNAMIC_STATE_DEPTH_COMPARE_OP;
+import static com.io7m.jcoronado.api.VulkanDynamicState.VK_DYNAMIC_STATE_DEPTH_TEST_ENABLE;
+import static com.io7m.jcoronado.api.VulkanDynamicState.VK_DYNAMIC_STATE_DEPTH_WRITE_ENABLE;
+import static com.io7m.jcoronado.api.VulkanDynamicState.VK_DYNAMIC_STATE_FRONT_FACE;
+import static com.io7m.jcoronado.api.VulkanDynamicState.VK_DYNAMIC_STATE_POLYGON_MODE_EXT;
+import static com.io7m.jcoronado.api.VulkanDynamicState.VK_DYNAMIC_STATE_PRIMITIVE_RESTART_ENABLE;
+import static com.io7m.jcoronado.api.VulkanDynamicState.VK_DYNAMIC_STATE_PRIMITIVE_TOPOLOGY;
+import static com.io7m.jcoronado.api.VulkanDynamicState.VK_DYNAMIC_STATE_RASTERIZER_DISCARD_ENABLE;
+import static com.io7m.jcoronado.api.VulkanDynamicState.VK_DYNAMIC_STATE_STENCIL_TEST_ENABLE;
+import static com.io7m.jcoronado.api.VulkanPipelineBindPoint.VK_PIPELINE_BIND_POINT_COMPUTE;
+import static com.io7m.jcoronado.api.VulkanPipelineBindPoint.VK_PIPELINE_BIND_POINT_GRAPHICS;
+import static com.io7m.jcoronado.api.VulkanShaderStageFlag.VK_SHADER_STAGE_COMPUTE_BIT;
+import static com.io7m.jcoronado.api.VulkanStencilFaceFlag.VK_STENCIL_FACE_BACK_BIT;
+import static com.io7m.jcoronado.api.VulkanStencilFaceFlag.VK_STENCIL_FACE_FRONT_BIT;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+/**
+ * <p>A command buffer decorator that tracks the currently bound pipelines,
+ * descriptor sets, vertex and index buffers, viewports, scissors, and
+ * dynamic state (including extended dynamic state and dynamic vertex input),
+ * and drops calls that would not change that state before
+ * they reach the underlying command buffer.</p>
+ *
+ * <p>The filter is conservative: all tracked state is forgotten when the
+ * command buffer is begun or reset, when secondary command buffers or
+ * command streams are executed, and tracked dynamic state is forgotten
+ * whenever a different graphics pipeline is bound (as binding a pipeline
+ * with static state invalidates the corresponding dynamic state). Descriptor
+ * set bindings with dynamic offsets are always forwarded. Descriptor sets
+ * bound with a different pipeline layout cause the tracked sets for the
+ * bind point to be forgotten, pushing descriptors or setting descriptor buffer
+ * offsets causes the affected sets to be forgotten, and binding descriptor
+ * buffers causes all sets to be forgotten.</p>
+ *
+ * <p>Handles are compared with {@link Object#equals(Object)}, and values
+ * such as viewports are compared by value.</p>
+ */
+
+public final class JCRedundantStateFilter
+  extends JCCommandBufferForwarding
+{
+  private static final int BIND_POINTS =
+    VulkanPipelineBindPoint.values().length;
+  private static final VulkanCullModeFlag[] CULL_MODE_FLAGS =
+    VulkanCullModeFlag.values();
+  private static final int UNKNOWN = -1;
+
+  private final VulkanPipelineType[] pipelines;
+  private final VulkanPipelineLayoutType[][] setLayouts;
+  private final VulkanDescriptorSetType[][] sets;
+  private VulkanBufferType[] vertexBuffers;
+  private long[] vertexOffsets;
+  private VulkanBufferType indexBuffer;
+  private long indexOffset;
+  private VulkanIndexType indexType;
+  private final ArrayList<VulkanViewport> viewports;
+  private final ArrayList<VulkanRectangle2D> scissors;
+  private boolean lineWidthKnown;
+  private float lineWidth;
+  private boolean depthBiasKnown;
+  private float depthBiasConstant;
+  private float depthBiasClamp;
+  private float depthBiasSlope;
+  private boolean depthBoundsKnown;
+  private float depthBoundsMin;
+  private float depthBoundsMax;
+  private VulkanBlendConstants blendConstants;
+  private final StencilState stencilReference;
+  private final StencilState stencilCompareMask;
+  private final StencilState stencilWriteMask;
+  private int stencilOpFront;
+  private int stencilOpBack;
+  private int cullMode;
+  private List<VulkanVertexInputBindingDescription> vertexInputBindings;
+  private List<VulkanVertexInputAttributeDescription> vertexInputAttributes;
+  private final EnumMap<VulkanDynamicState, Object> dynamicValues;
+  private final ArrayList<Boolean> colorBlendEnables;
+  private final ArrayList<VulkanColorBlendEquationEXT> colorBlendEquations;
+  private final ArrayList<Set<VulkanColorComponentFlag>> colorWriteMasks;
+  private long elided;
+  private long forwarded;
+
+  private JCRedundantStateFilter(
+    final VulkanCommandBufferType inDelegate)
+  {
+    super(inDelegate);
+
+    this.pipelines =
+      new VulkanPipelineType[BIND_POINTS];
+    this.setLayouts =
+      new VulkanPipelineLayoutType[BIND_POINTS][8];
+    this.sets =
+      new VulkanDescriptorSetType[BIND_POINTS][8];
+    this.vertexBuffers =
+      new VulkanBufferType[16];
+    this.vertexOffsets =
+      new long[16];
+    this.viewports =
+      new ArrayList<>();
+    this.scissors =
+      new ArrayList<>();
+    this.stencilReference =
+      new StencilState();
+    this.stencilCompareMask =
+      new StencilState();
+    this.stencilWriteMask =
+      new StencilState();
+    this.dynamicValues =
+      new EnumMap<>(VulkanDynamicState.class);
+    this.colorBlendEnables =
+      new ArrayList<>();
+    this.colorBlendEquations =
+      new ArrayList<>();
+    this.colorWriteMasks =
+      new ArrayList<>();
+    this.invalidateDynamicState();
+  }
+
+  /**
+   * Create a redundant state filter over the given command buffer.
+   *
+   * @param delegate The underlying command buffer
+   *
+   * @return A filtering command buffer
+   */
+
+  public static JCRedundantStateFilter create(
+    final VulkanCommandBufferType delegate)
+  {
+    return new JCRedundantStateFilter(delegate);
+  }
+
+  /**
+   * @return The number of state-setting calls that were dropped
+   */
+
+  public long elidedCount()
+  {
+    return this.elided;
+  }
+
+  /**
+   * @return The number of state-setting calls that were forwarded
+   */
+
+  public long forwardedCount()
+  {
+    return this.forwarded;
+  }
+
+  /**
+   * Reset the elided and forwarded counters to zero.
+   */
+
+  public void resetCounters()
+  {
+    this.elided = 0L;
+    this.forwarded = 0L;
+  }
+
+  /**
+   * Forget all tracked state. The next state-setting call of every kind
+   * will be forwarded. This must be called if the underlying command
+   * buffer is used directly.
+   */
+
+  public void invalidate()
+  {
+    Arrays.fill(this.pipelines, null);
+    for (int index = 0; index < BIND_POINTS; ++index) {
+      Arrays.fill(this.setLayouts[index], null);
+      Arrays.fill(this.sets[index], null);
+    }
+    Arrays.fill(this.vertexBuffers, null);
+    this.indexBuffer = null;
+    this.indexType = null;
+    this.invalidateDynamicState();
+  }
+
+  private void invalidateDynamicState()
+  {
+    this.viewports.clear();
+    this.scissors.clear();
+    this.lineWidthKnown = false;
+    this.depthBiasKnown = false;
+    this.depthBoundsKnown = false;
+    this.blendConstants = null;
+    this.stencilReference.invalidate();
+    this.stencilCompareMask.invalidate();
+    this.stencilWriteMask.invalidate();
+    this.stencilOpFront = UNKNOWN;
+    this.stencilOpBack = UNKNOWN;
+    this.cullMode = UNKNOWN;
+    this.vertexInputBindings = null;
+    this.vertexInputAttributes = null;
+    this.dynamicValues.clear();
+    this.colorBlendEnables.clear();
+    this.colorBlendEquations.clear();
+    this.colorWriteMasks.clear();
+  }
+
+  private static boolean floatSame(
+    final float x,
+    final float y)
+  {
+    return Float.floatToIntBits(x) == Float.floatToIntBits(y);
+  }
+
+  /*
+   * Pipelines.
+   */
+
+  @Override
+  public void bindPipeline(
+    final VulkanPipelineBindPoint bind_point,
+    final VulkanPipelineType pipeline)
+    throws VulkanException
+  {
+    final var index = bind_point.ordinal();
+    if (Objects.equals(this.pipelines[index], pipeline)) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().bindPipeline(bind_point, pipeline);
+    ++this.forwarded;
+    this.pipelines[index] = pipeline;
+    if (bind_point == VK_PIPELINE_BIND_POINT_GRAPHICS) {
+      this.invalidateDynamicState();
+    }
+  }
+
+  /**
+   * Binding shader objects unbinds the pipeline at the corresponding bind
+   * point, so the tracked pipeline is forgotten. Shader objects have no
+   * static state, so tracked dynamic state remains valid.
+   */
+
+  @Override
+  public void bindShaders(
+    final List<VulkanShaderStageFlag> stages,
+    final List<Optional<VulkanShaderObjectType>> shaders)
+    throws VulkanException
+  {
+    this.delegate().bindShaders(stages, shaders);
+
+    for (final var stage : stages) {
+      if (stage == VK_SHADER_STAGE_COMPUTE_BIT) {
+        this.pipelines[VK_PIPELINE_BIND_POINT_COMPUTE.ordinal()] = null;
+      } else {
+        this.pipelines[VK_PIPELINE_BIND_POINT_GRAPHICS.ordinal()] = null;
+      }
+    }
+  }
+
+  /*
+   * Vertex buffers.
+   */
+
+  private void ensureVertexCapacity(
+    final int count)
+  {
+    if (count > this.vertexBuffers.length) {
+      final var size = Math.max(count, this.vertexBuffers.length * 2);
+      this.vertexBuffers = Arrays.copyOf(this.vertexBuffers, size);
+      this.vertexOffsets = Arrays.copyOf(this.vertexOffsets, size);
+    }
+  }
+
+  private boolean vertexBindingSame(
+    final int binding,
+    final VulkanBufferType buffer,
+    final long offset)
+  {
+    return binding < this.vertexBuffers.length
+           && this.vertexBuffers[binding] != null
+           && this.vertexOffsets[binding] == offset
+           && Objects.equals(this.vertexBuffers[binding], buffer);
+  }
+
+  private void vertexBindingSet(
+    final int binding,
+    final VulkanBufferType buffer,
+    final long offset)
+  {
+    this.vertexBuffers[binding] = buffer;
+    this.vertexOffsets[binding] = offset;
+  }
+
+  @Override
+  public void bindVertexBuffers(
+    final int first_binding,
+    final int binding_count,
+    final List<VulkanBufferType> buffers,
+    final List<Long> offsets)
+    throws VulkanException
+  {
+    var same = true;
+    for (int index = 0; index < binding_count; ++index) {
+      if (!this.vertexBindingSame(
+        first_binding + index,
+        buffers.get(index),
+        offsets.get(index).longValue())) {
+        same = false;
+        break;
+      }
+    }
+    if (same) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().bindVertexBuffers(
+      first_binding, binding_count, buffers, offsets);
+    ++this.forwarded;
+
+    this.ensureVertexCapacity(first_binding + binding_count);
+    for (int index = 0; index < binding_count; ++index) {
+      this.vertexBindingSet(
+        first_binding + index,
+        buffers.get(index),
+        offsets.get(index).longValue()
+      );
+    }
+  }
+
+  @Override
+  public void bindVertexBuffer(
+    final int binding,
+    final VulkanBufferType buffer,
+    final long offset)
+    throws VulkanException
+  {
+    if (this.vertexBindingSame(binding, buffer, offset)) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().bindVertexBuffer(binding, buffer, offset);
+    ++this.forwarded;
+
+    this.ensureVertexCapacity(binding + 1);
+    this.vertexBindingSet(binding, buffer, offset);
+  }
+
+  @Override
+  public void bindVertexBuffers(
+    final int first_binding,
+    final VulkanBufferType[] buffers,
+    final long[] offsets)
+    throws VulkanException
+  {
+    final var count = buffers.length;
+
+    var same = true;
+    for (int index = 0; index < count; ++index) {
+      if (!this.vertexBindingSame(
+        first_binding + index, buffers[index], offsets[index])) {
+        same = false;
+        break;
+      }
+    }
+    if (same) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().bindVertexBuffers(first_binding, buffers, offsets);
+    ++this.forwarded;
+
+    this.ensureVertexCapacity(first_binding + count);
+    for (int index = 0; index < count; ++index) {
+      this.vertexBindingSet(
+        first_binding + index, buffers[index], offsets[index]);
+    }
+  }
+
+  @Override
+  public void bindVertexBuffers(
+    final int first_binding,
+    final VulkanBufferType[] buffers,
+    final LongBuffer offsets)
+    throws VulkanException
+  {
+    final var count = buffers.length;
+    final var base = offsets.position();
+
+    var same = true;
+    for (int index = 0; index < count; ++index) {
+      if (!this.vertexBindingSame(
+        first_binding + index, buffers[index], offsets.get(base + index))) {
+        same = false;
+        break;
+      }
+    }
+    if (same) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().bindVertexBuffers(first_binding, buffers, offsets);
+    ++this.forwarded;
+
+    this.ensureVertexCapacity(first_binding + count);
+    for (int index = 0; index < count; ++index) {
+      this.vertexBindingSet(
+        first_binding + index, buffers[index], offsets.get(base + index));
+    }
+  }
+
+  @Override
+  public void bindVertexBuffers(
+    final int first_binding,
+    final VulkanBufferType[] buffers,
+    final MemorySegment offsets)
+    throws VulkanException
+  {
+    final var count = buffers.length;
+
+    var same = true;
+    for (int index = 0; index < count; ++index) {
+      final var offset = offsets.getAtIndex(JAVA_LONG, index);
+      if (!this.vertexBindingSame(
+        first_binding + index, buffers[index], offset)) {
+        same = false;
+        break;
+      }
+    }
+    if (same) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().bindVertexBuffers(first_binding, buffers, offsets);
+    ++this.forwarded;
+
+    this.ensureVertexCapacity(first_binding + count);
+    for (int index = 0; index < count; ++index) {
+      this.vertexBindingSet(
+        first_binding + index,
+        buffers[index],
+        offsets.getAtIndex(JAVA_LONG, index)
+      );
+    }
+  }
+
+  /*
+   * Index buffers.
+   */
+
+  @Override
+  public void bindIndexBuffer(
+    final VulkanBufferType buffer,
+    final long offset,
+    final VulkanIndexType index_type)
+    throws VulkanException
+  {
+    if (this.indexBuffer != null
+        && this.indexOffset == offset
+        && this.indexType == index_type
+        && Objects.equals(this.indexBuffer, buffer)) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().bindIndexBuffer(buffer, offset, index_type);
+    ++this.forwarded;
+    this.indexBuffer = buffer;
+    this.indexOffset = offset;
+    this.indexType = index_type;
+  }
+
+  /*
+   * Descriptor sets.
+   */
+
+  private boolean descriptorSetSame(
+    final int bindPoint,
+    final VulkanPipelineLayoutType layout,
+    final int set,
+    final VulkanDescriptorSetType descriptorSet)
+  {
+    final var layouts = this.setLayouts[bindPoint];
+    return set < layouts.length
+           && layouts[set] != null
+           && Objects.equals(layouts[set], layout)
+           && Objects.equals(this.sets[bindPoint][set], descriptorSet);
+  }
+
+  /**
+   * Prepare to record the binding of {@code count} sets starting at
+   * {@code firstSet}. Any sets tracked with a different layout are
+   * forgotten, as the new layout may not be compatible with them.
+   */
+
+  private void descriptorSetsPrepare(
+    final int bindPoint,
+    final VulkanPipelineLayoutType layout,
+    final int firstSet,
+    final int count)
+  {
+    var layouts = this.setLayouts[bindPoint];
+    var bound = this.sets[bindPoint];
+
+    final var required = firstSet + count;
+    if (required > layouts.length) {
+      final var size = Math.max(required, layouts.length * 2);
+      layouts = Arrays.copyOf(layouts, size);
+      bound = Arrays.copyOf(bound, size);
+      this.setLayouts[bindPoint] = layouts;
+      this.sets[bindPoint] = bound;
+    }
+
+    for (int index = 0; index < layouts.length; ++index) {
+      if (layouts[index] != null && !Objects.equals(layouts[index], layout)) {
+        layouts[index] = null;
+        bound[index] = null;
+      }
+    }
+  }
+
+  private void descriptorSetSet(
+    final int bindPoint,
+    final VulkanPipelineLayoutType layout,
+    final int set,
+    final VulkanDescriptorSetType descriptorSet,
+    final boolean dynamic)
+  {
+    /*
+     * Sets bound with dynamic offsets are never considered redundant, so
+     * they are recorded as unknown.
+     */
+
+    if (dynamic) {
+      this.setLayouts[bindPoint][set] = null;
+      this.sets[bindPoint][set] = null;
+    } else {
+      this.setLayouts[bindPoint][set] = layout;
+      this.sets[bindPoint][set] = descriptorSet;
+    }
+  }
+
+  @Override
+  public void bindDescriptorSet(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int set,
+    final VulkanDescriptorSetType descriptor_set)
+    throws VulkanException
+  {
+    final var bp = pipeline_bind_point.ordinal();
+    if (this.descriptorSetSame(bp, layout, set, descriptor_set)) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().bindDescriptorSet(
+      pipeline_bind_point, layout, set, descriptor_set);
+    ++this.forwarded;
+
+    this.descriptorSetsPrepare(bp, layout, set, 1);
+    this.descriptorSetSet(bp, layout, set, descriptor_set, false);
+  }
+
+  @Override
+  public void bindDescriptorSets(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int first_set,
+    final List<VulkanDescriptorSetType> descriptor_sets,
+    final List<Integer> dynamic_offsets)
+    throws VulkanException
+  {
+    final var bp = pipeline_bind_point.ordinal();
+    final var count = descriptor_sets.size();
+    final var dynamic = !dynamic_offsets.isEmpty();
+
+    if (!dynamic) {
+      var same = true;
+      for (int index = 0; index < count; ++index) {
+        if (!this.descriptorSetSame(
+          bp, layout, first_set + index, descriptor_sets.get(index))) {
+          same = false;
+          break;
+        }
+      }
+      if (same) {
+        ++this.elided;
+        return;
+      }
+    }
+
+    this.delegate().bindDescriptorSets(
+      pipeline_bind_point, layout, first_set, descriptor_sets, dynamic_offsets);
+    ++this.forwarded;
+
+    this.descriptorSetsPrepare(bp, layout, first_set, count);
+    for (int index = 0; index < count; ++index) {
+      this.descriptorSetSet(
+        bp, layout, first_set + index, descriptor_sets.get(index), dynamic);
+    }
+  }
+
+  private boolean descriptorSetsSame(
+    final int bindPoint,
+    final VulkanPipelineLayoutType layout,
+    final int firstSet,
+    final VulkanDescriptorSetType[] descriptorSets)
+  {
+    for (int index = 0; index < descriptorSets.length; ++index) {
+      if (!this.descriptorSetSame(
+        bindPoint, layout, firstSet + index, descriptorSets[index])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void descriptorSetsSet(
+    final int bindPoint,
+    final VulkanPipelineLayoutType layout,
+    final int firstSet,
+    final VulkanDescriptorSetType[] descriptorSets,
+    final boolean dynamic)
+  {
+    this.descriptorSetsPrepare(
+      bindPoint, layout, firstSet, descriptorSets.length);
+    for (int index = 0; index < descriptorSets.length; ++index) {
+      this.descriptorSetSet(
+        bindPoint, layout, firstSet + index, descriptorSets[index], dynamic);
+    }
+  }
+
+  @Override
+  public void bindDescriptorSets(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int first_set,
+    final VulkanDescriptorSetType[] descriptor_sets,
+    final int[] dynamic_offsets)
+    throws VulkanException
+  {
+    final var bp = pipeline_bind_point.ordinal();
+    final var dynamic = dynamic_offsets.length != 0;
+    if (!dynamic && this.descriptorSetsSame(bp, layout, first_set, descriptor_sets)) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().bindDescriptorSets(
+      pipeline_bind_point, layout, first_set, descriptor_sets, dynamic_offsets);
+    ++this.forwarded;
+    this.descriptorSetsSet(bp, layout, first_set, descriptor_sets, dynamic);
+  }
+
+  @Override
+  public void bindDescriptorSets(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int first_set,
+    final VulkanDescriptorSetType[] descriptor_sets,
+    final IntBuffer dynamic_offsets)
+    throws VulkanException
+  {
+    final var bp = pipeline_bind_point.ordinal();
+    final var dynamic = dynamic_offsets.hasRemaining();
+    if (!dynamic && this.descriptorSetsSame(bp, layout, first_set, descriptor_sets)) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().bindDescriptorSets(
+      pipeline_bind_point, layout, first_set, descriptor_sets, dynamic_offsets);
+    ++this.forwarded;
+    this.descriptorSetsSet(bp, layout, first_set, descriptor_sets, dynamic);
+  }
+
+  @Override
+  public void bindDescriptorSets(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int first_set,
+    final VulkanDescriptorSetType[] descriptor_sets,
+    final MemorySegment dynamic_offsets)
+    throws VulkanException
+  {
+    final var bp = pipeline_bind_point.ordinal();
+    final var dynamic = dynamic_offsets.byteSize() >= JAVA_INT.byteSize();
+    if (!dynamic && this.descriptorSetsSame(bp, layout, first_set, descriptor_sets)) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().bindDescriptorSets(
+      pipeline_bind_point, layout, first_set, descriptor_sets, dynamic_offsets);
+    ++this.forwarded;
+    this.descriptorSetsSet(bp, layout, first_set, descriptor_sets, dynamic);
+  }
+
+  /*
+   * Push descriptors replace the contents of the set, and so the set is
+   * recorded as unknown.
+   */
+
+  @Override
+  public void pushDescriptorSet(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int set,
+    final List<VulkanWriteDescriptorSet> descriptor_writes)
+    throws VulkanException
+  {
+    this.delegate().pushDescriptorSet(
+      pipeline_bind_point, layout, set, descriptor_writes);
+    ++this.forwarded;
+
+    final var bp = pipeline_bind_point.ordinal();
+    this.descriptorSetsPrepare(bp, layout, set, 1);
+    this.descriptorSetSet(bp, layout, set, null, true);
+  }
+
+  @Override
+  public void pushDescriptorSetWithTemplate(
+    final VulkanDescriptorUpdateTemplateType template,
+    final VulkanPipelineLayoutType layout,
+    final int set,
+    final MemorySegment data)
+    throws VulkanException
+  {
+    this.delegate().pushDescriptorSetWithTemplate(template, layout, set, data);
+    ++this.forwarded;
+    this.descriptorSetPushedWithTemplate(layout, set);
+  }
+
+  @Override
+  public void pushDescriptorSetWithTemplate(
+    final VulkanDescriptorUpdateTemplateType template,
+    final VulkanPipelineLayoutType layout,
+    final int set,
+    final ByteBuffer data)
+    throws VulkanException
+  {
+    this.delegate().pushDescriptorSetWithTemplate(template, layout, set, data);
+    ++this.forwarded;
+    this.descriptorSetPushedWithTemplate(layout, set);
+  }
+
+  /*
+   * Binding descriptor buffers changes the memory that sets bound with
+   * descriptor buffer offsets refer to, and so all sets at all bind points
+   * are forgotten. Setting descriptor buffer offsets replaces the sets in
+   * the given range.
+   */
+
+  @Override
+  public void bindDescriptorBuffers(
+    final List<VulkanDescriptorBufferBindingInfoEXT> binding_infos)
+    throws VulkanException
+  {
+    this.delegate().bindDescriptorBuffers(binding_infos);
+    ++this.forwarded;
+
+    for (int index = 0; index < BIND_POINTS; ++index) {
+      Arrays.fill(this.setLayouts[index], null);
+      Arrays.fill(this.sets[index], null);
+    }
+  }
+
+  @Override
+  public void setDescriptorBufferOffsets(
+    final VulkanPipelineBindPoint pipeline_bind_point,
+    final VulkanPipelineLayoutType layout,
+    final int first_set,
+    final int[] buffer_indices,
+    final long[] offsets)
+    throws VulkanException
+  {
+    this.delegate().setDescriptorBufferOffsets(
+      pipeline_bind_point, layout, first_set, buffer_indices, offsets);
+    ++this.forwarded;
+
+    final var bp = pipeline_bind_point.ordinal();
+    final var count = buffer_indices.length;
+    this.descriptorSetsPrepare(bp, layout, first_set, count);
+    for (int index = 0; index < count; ++index) {
+      this.descriptorSetSet(bp, layout, first_set + index, null, true);
+    }
+  }
+
+  /**
+   * The bind point of a push descriptor template is fixed when the template
+   * is created and is not visible here, so the set is forgotten at every
+   * bind point.
+   */
+
+  private void descriptorSetPushedWithTemplate(
+    final VulkanPipelineLayoutType layout,
+    final int set)
+  {
+    for (int bp = 0; bp < BIND_POINTS; ++bp) {
+      this.descriptorSetsPrepare(bp, layout, set, 1);
+      this.descriptorSetSet(bp, layout, set, null, true);
+    }
+  }
+
+  /*
+   * Viewports and scissors.
+   */
+
+  private static <T> boolean rangeSame(
+    final ArrayList<T> current,
+    final int first,
+    final List<T> values)
+  {
+    final var count = values.size();
+    if (first + count > current.size()) {
+      return false;
+    }
+    for (int index = 0; index < count; ++index) {
+      final var existing = current.get(first + index);
+      if (existing == null || !existing.equals(values.get(index))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static <T> void rangeSet(
+    final ArrayList<T> current,
+    final int first,
+    final List<T> values)
+  {
+    final var count = values.size();
+    while (current.size() < first + count) {
+      current.add(null);
+    }
+    for (int index = 0; index < count; ++index) {
+      current.set(first + index, values.get(index));
+    }
+  }
+
+  @Override
+  public void setViewport(
+    final int first_viewport,
+    final List<VulkanViewport> in_viewports)
+    throws VulkanException
+  {
+    if (rangeSame(this.viewports, first_viewport, in_viewports)) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().setViewport(first_viewport, in_viewports);
+    ++this.forwarded;
+    rangeSet(this.viewports, first_viewport, in_viewports);
+  }
+
+  @Override
+  public void setScissor(
+    final int first_scissor,
+    final List<VulkanRectangle2D> rectangles)
+    throws VulkanException
+  {
+    if (rangeSame(this.scissors, first_scissor, rectangles)) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().setScissor(first_scissor, rectangles);
+    ++this.forwarded;
+    rangeSet(this.scissors, first_scissor, rectangles);
+  }
+
+  /*
+   * Other dynamic state.
+   */
+
+  @Override
+  public void setLineWidth(
+    final float width)
+    throws VulkanException
+  {
+    if (this.lineWidthKnown && floatSame(this.lineWidth, width)) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().setLineWidth(width);
+    ++this.forwarded;
+    this.lineWidthKnown = true;
+    this.lineWidth = width;
+  }
+
+  @Override
+  public void setDepthBias(
+    final float depth_bias_constant_factor,
+    final float depth_bias_clamp,
+    final float depth_bias_slope_factor)
+    throws VulkanException
+  {
+    if (this.depthBiasKnown
+        && floatSame(this.depthBiasConstant, depth_bias_constant_factor)
+        && floatSame(this.depthBiasClamp, depth_bias_clamp)
+        && floatSame(this.depthBiasSlope, depth_bias_slope_factor)) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().setDepthBias(
+      depth_bias_constant_factor,
+      depth_bias_clamp,
+      depth_bias_slope_factor
+    );
+    ++this.forwarded;
+    this.depthBiasKnown = true;
+    this.depthBiasConstant = depth_bias_constant_factor;
+    this.depthBiasClamp = depth_bias_clamp;
+    this.depthBiasSlope = depth_bias_slope_factor;
+  }
+
+  @Override
+  public void setDepthBounds(
+    final float min_depth_bounds,
+    final float max_depth_bounds)
+    throws VulkanException
+  {
+    if (this.depthBoundsKnown
+        && floatSame(this.depthBoundsMin, min_depth_bounds)
+        && floatSame(this.depthBoundsMax, max_depth_bounds)) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().setDepthBounds(min_depth_bounds, max_depth_bounds);
+    ++this.forwarded;
+    this.depthBoundsKnown = true;
+    this.depthBoundsMin = min_depth_bounds;
+    this.depthBoundsMax = max_depth_bounds;
+  }
+
+  @Override
+  public void setBlendConstants(
+    final VulkanBlendConstants constants)
+    throws VulkanException
+  {
+    if (Objects.equals(this.blendConstants, constants)) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().setBlendConstants(constants);
+    ++this.forwarded;
+    this.blendConstants = constants;
+  }
+
+  @Override
+  public void setStencilReference(
+    final Set<VulkanStencilFaceFlag> face_mask,
+    final int reference)
+    throws VulkanException
+  {
+    if (this.stencilReference.isSame(face_mask, reference)) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().setStencilReference(face_mask, reference);
+    ++this.forwarded;
+    this.stencilReference.set(face_mask, reference);
+  }
+
+  @Override
+  public void setStencilCompareMask(
+    final Set<VulkanStencilFaceFlag> face_mask,
+    final int mask)
+    throws VulkanException
+  {
+    if (this.stencilCompareMask.isSame(face_mask, mask)) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().setStencilCompareMask(face_mask, mask);
+    ++this.forwarded;
+    this.stencilCompareMask.set(face_mask, mask);
+  }
+
+  @Override
+  public void setStencilWriteMask(
+    final Set<VulkanStencilFaceFlag> face_mask,
+    final int mask)
+    throws VulkanException
+  {
+    if (this.stencilWriteMask.isSame(face_mask, mask)) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().setStencilWriteMask(face_mask, mask);
+    ++this.forwarded;
+    this.stencilWriteMask.set(face_mask, mask);
+  }
+
+  /*
+   * Extended dynamic state.
+   */
+
+  @Override
+  public void setCullMode(
+    final Set<VulkanCullModeFlag> cull_mode)
+    throws VulkanException
+  {
+    int value = 0;
+    for (final var flag : CULL_MODE_FLAGS) {
+      if (cull_mode.contains(flag)) {
+        value |= 1 << flag.ordinal();
+      }
+    }
+
+    if (value == this.cullMode) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().setCullMode(cull_mode);
+    ++this.forwarded;
+    this.cullMode = value;
+  }
+
+  @Override
+  public void setFrontFace(
+    final VulkanFrontFace front_face)
+    throws VulkanException
+  {
+    final Object value = front_face;
+    if (value.equals(this.dynamicValues.get(VK_DYNAMIC_STATE_FRONT_FACE))) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().setFrontFace(front_face);
+    ++this.forwarded;
+    this.dynamicValues.put(VK_DYNAMIC_STATE_FRONT_FACE, value);
+  }
+
+  @Override
+  public void setPrimitiveTopology(
+    final VulkanPrimitiveTopology topology)
+    throws VulkanException
+  {
+    final Object value = topology;
+    if (value.equals(this.dynamicValues.get(VK_DYNAMIC_STATE_PRIMITIVE_TOPOLOGY))) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().setPrimitiveTopology(topology);
+    ++this.forwarded;
+    this.dynamicValues.put(VK_DYNAMIC_STATE_PRIMITIVE_TOPOLOGY, value);
+  }
+
+  @Override
+  public void setDepthTestEnable(
+    final boolean enable)
+    throws VulkanException
+  {
+    final Object value = Boolean.valueOf(enable);
+    if (value.equals(this.dynamicValues.get(VK_DYNAMIC_STATE_DEPTH_TEST_ENABLE))) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().setDepthTestEnable(enable);
+    ++this.forwarded;
+    this.dynamicValues.put(VK_DYNAMIC_STATE_DEPTH_TEST_ENABLE, value);
+  }
+
+  @Override
+  public void setDepthWriteEnable(
+    final boolean enable)
+    throws VulkanException
+  {
+    final Object value = Boolean.valueOf(enable);
+    if (value.equals(this.dynamicValues.get(VK_DYNAMIC_STATE_DEPTH_WRITE_ENABLE))) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().setDepthWriteEnable(enable);
+    ++this.forwarded;
+    this.dynamicValues.put(VK_DYNAMIC_STATE_DEPTH_WRITE_ENABLE, value);
+  }
+
+  @Override
+  public void setDepthCompareOp(
+    final VulkanCompareOp compare_op)
+    throws VulkanException
+  {
+    final Object value = compare_op;
+    if (value.equals(this.dynamicValues.get(VK_DYNAMIC_STATE_DEPTH_COMPARE_OP))) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().setDepthCompareOp(compare_op);
+    ++this.forwarded;
+    this.dynamicValues.put(VK_DYNAMIC_STATE_DEPTH_COMPARE_OP, value);
+  }
+
+  @Override
+  public void setDepthBoundsTestEnable(
+    final boolean enable)
+    throws VulkanException
+  {
+    final Object value = Boolean.valueOf(enable);
+    if (value.equals(this.dynamicValues.get(VK_DYNAMIC_STATE_DEPTH_BOUNDS_TEST_ENABLE))) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().setDepthBoundsTestEnable(enable);
+    ++this.forwarded;
+    this.dynamicValues.put(VK_DYNAMIC_STATE_DEPTH_BOUNDS_TEST_ENABLE, value);
+  }
+
+  @Override
+  public void setStencilTestEnable(
+    final boolean enable)
+    throws VulkanException
+  {
+    final Object value = Boolean.valueOf(enable);
+    if (value.equals(this.dynamicValues.get(VK_DYNAMIC_STATE_STENCIL_TEST_ENABLE))) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().setStencilTestEnable(enable);
+    ++this.forwarded;
+    this.dynamicValues.put(VK_DYNAMIC_STATE_STENCIL_TEST_ENABLE, value);
+  }
+
+  @Override
+  public void setStencilOp(
+    final Set<VulkanStencilFaceFlag> face_mask,
+    final VulkanStencilOp fail_op,
+    final VulkanStencilOp pass_op,
+    final VulkanStencilOp depth_fail_op,
+    final VulkanCompareOp compare_op)
+    throws VulkanException
+  {
+    final var ops =
+      stencilOps(fail_op, pass_op, depth_fail_op, compare_op);
+    final var front =
+      face_mask.contains(VK_STENCIL_FACE_FRONT_BIT);
+    final var back =
+      face_mask.contains(VK_STENCIL_FACE_BACK_BIT);
+
+    if ((!front || ops == this.stencilOpFront)
+        && (!back || ops == this.stencilOpBack)) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().setStencilOp(
+      face_mask, fail_op, pass_op, depth_fail_op, compare_op);
+    ++this.forwarded;
+    if (front) {
+      this.stencilOpFront = ops;
+    }
+    if (back) {
+      this.stencilOpBack = ops;
+    }
+  }
+
+  @Override
+  public void setRasterizerDiscardEnable(
+    final boolean enable)
+    throws VulkanException
+  {
+    final Object value = Boolean.valueOf(enable);
+    if (value.equals(this.dynamicValues.get(VK_DYNAMIC_STATE_RASTERIZER_DISCARD_ENABLE))) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().setRasterizerDiscardEnable(enable);
+    ++this.forwarded;
+    this.dynamicValues.put(VK_DYNAMIC_STATE_RASTERIZER_DISCARD_ENABLE, value);
+  }
+
+  @Override
+  public void setDepthBiasEnable(
+    final boolean enable)
+    throws VulkanException
+  {
+    final Object value = Boolean.valueOf(enable);
+    if (value.equals(this.dynamicValues.get(VK_DYNAMIC_STATE_DEPTH_BIAS_ENABLE))) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().setDepthBiasEnable(enable);
+    ++this.forwarded;
+    this.dynamicValues.put(VK_DYNAMIC_STATE_DEPTH_BIAS_ENABLE, value);
+  }
+
+  @Override
+  public void setPrimitiveRestartEnable(
+    final boolean enable)
+    throws VulkanException
+  {
+    final Object value = Boolean.valueOf(enable);
+    if (value.equals(this.dynamicValues.get(VK_DYNAMIC_STATE_PRIMITIVE_RESTART_ENABLE))) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().setPrimitiveRestartEnable(enable);
+    ++this.forwarded;
+    this.dynamicValues.put(VK_DYNAMIC_STATE_PRIMITIVE_RESTART_ENABLE, value);
+  }
+
+  @Override
+  public void setPolygonMode(
+    final VulkanPolygonMode polygon_mode)
+    throws VulkanException
+  {
+    final Object value = polygon_mode;
+    if (value.equals(this.dynamicValues.get(VK_DYNAMIC_STATE_POLYGON_MODE_EXT))) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().setPolygonMode(polygon_mode);
+    ++this.forwarded;
+    this.dynamicValues.put(VK_DYNAMIC_STATE_POLYGON_MODE_EXT, value);
+  }
+
+  @Override
+  public void setColorBlendEnable(
+    final int first_attachment,
+    final List<Boolean> enables)
+    throws VulkanException
+  {
+    if (rangeSame(this.colorBlendEnables, first_attachment, enables)) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().setColorBlendEnable(first_attachment, enables);
+    ++this.forwarded;
+    rangeSet(this.colorBlendEnables, first_attachment, enables);
+  }
+
+  @Override
+  public void setColorBlendEquation(
+    final int first_attachment,
+    final List<VulkanColorBlendEquationEXT> equations)
+    throws VulkanException
+  {
+    if (rangeSame(this.colorBlendEquations, first_attachment, equations)) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().setColorBlendEquation(first_attachment, equations);
+    ++this.forwarded;
+    rangeSet(this.colorBlendEquations, first_attachment, equations);
+  }
+
+  @Override
+  public void setColorWriteMask(
+    final int first_attachment,
+    final List<Set<VulkanColorComponentFlag>> masks)
+    throws VulkanException
+  {
+    if (rangeSame(this.colorWriteMasks, first_attachment, masks)) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().setColorWriteMask(first_attachment, masks);
+    ++this.forwarded;
+    rangeSet(this.colorWriteMasks, first_attachment, masks);
+  }
+
+  @Override
+  public void setVertexInput(
+    final List<VulkanVertexInputBindingDescription> bindings,
+    final List<VulkanVertexInputAttributeDescription> attributes)
+    throws VulkanException
+  {
+    if (listSame(bindings, this.vertexInputBindings)
+        && listSame(attributes, this.vertexInputAttributes)) {
+      ++this.elided;
+      return;
+    }
+
+    this.delegate().setVertexInput(bindings, attributes);
+    ++this.forwarded;
+    this.vertexInputBindings = List.copyOf(bindings);
+    this.vertexInputAttributes = List.copyOf(attributes);
+  }
+
+  /**
+   * Compare lists element by element, without allocating an iterator.
+   */
+
+  private static boolean listSame(
+    final List<?> values,
+    final List<?> cached)
+  {
+    if (cached == null || values.size() != cached.size()) {
+      return false;
+    }
+    for (int index = 0; index < values.size(); ++index) {
+      if (!values.get(index).equals(cached.get(index))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /*
+   * Operations that invalidate tracked state.
+   */
+
+  @Override
+  public void beginCommandBuffer(
+    final VulkanCommandBufferBeginInfo info)
+    throws VulkanException
+  {
+    this.invalidate();
+    this.delegate().beginCommandBuffer(info);
+  }
+
+  @Override
+  public void reset(
+    final Set<VulkanCommandBufferResetFlag> flags)
+    throws VulkanException
+  {
+    this.invalidate();
+    this.delegate().reset(flags);
+  }
+
+  @Override
+  public void executeCommands(
+    final List<VulkanCommandBufferType> commandBuffers)
+    throws VulkanException
+  {
+    this.invalidate();
+    this.delegate().executeCommands(commandBuffers);
+  }
+
+  @Override
+  public void executeCommandStream(
+    final VulkanCommandStreamType stream)
+    throws VulkanException
+  {
+    this.invalidate();
+    this.delegate().executeCommandStream(stream);
+  }
+
+  /**
+   * Pack the stencil operations for one face into a single integer, one
+   * byte per operation.
+   */
+
+  private static int stencilOps(
+    final VulkanStencilOp failOp,
+    final VulkanStencilOp passOp,
+    final VulkanStencilOp depthFailOp,
+    final VulkanCompareOp compareOp)
+  {
+    return failOp.ordinal()
+           | (passOp.ordinal() << 8)
+           | (depthFailOp.ordinal() << 16)
+           | (compareOp.ordinal() << 24);
+  }
+
+  /**
+   * The front and back values of a piece of stencil state.
+   */
+
+  private static final class StencilState
+  {
+    private boolean frontKnown;
+    private int front;
+    private boolean backKnown;
+    private int back;
+
+    StencilState()
+    {
+
+    }
+
+    void invalidate()
+    {
+      this.frontKnown = false;
+      this.backKnown = false;
+    }
+
+    boolean isSame(
+      final Set<VulkanStencilFaceFlag> faces,
+      final int value)
+    {
+      if (faces.contains(VK_STENCIL_FACE_FRONT_BIT)) {
+        if (!this.frontKnown || this.front != value) {
+          return false;
+        }
+      }
+      if (faces.contains(VK_STENCIL_FACE_BACK_BIT)) {
+        if (!this.backKnown || this.back != value) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    void set(
+      final Set<VulkanStencilFaceFlag> faces,
+      final int value)
+    {
+      if (faces.contains(VK_STENCIL_FACE_FRONT_BIT)) {
+        this.frontKnown = true;
+        this.front = value;
+      }
+      if (faces.contains(VK_STENCIL_FACE_BACK_BIT)) {
+        this.backKnown = true;
+        this.back = value;
+      }
+    }
+  }
+}
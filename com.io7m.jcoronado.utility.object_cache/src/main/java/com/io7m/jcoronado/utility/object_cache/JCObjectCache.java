@@ -0,0 +1,379 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.object_cache;
+
+import com.io7m.jcoronado.api.VulkanDescriptorSetLayoutCreateInfo;
+import com.io7m.jcoronado.api.VulkanDescriptorSetLayoutType;
+import com.io7m.jcoronado.api.VulkanDestroyedException;
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanHandleType;
+import com.io7m.jcoronado.api.VulkanLogicalDeviceType;
+import com.io7m.jcoronado.api.VulkanPipelineLayoutCreateInfo;
+import com.io7m.jcoronado.api.VulkanPipelineLayoutType;
+import com.io7m.jcoronado.api.VulkanRenderPassCreateInfo;
+import com.io7m.jcoronado.api.VulkanRenderPassType;
+import com.io7m.jcoronado.api.VulkanResourceException;
+import com.io7m.jcoronado.api.VulkanSamplerCreateInfo;
+import com.io7m.jcoronado.api.VulkanSamplerType;
+import com.io7m.jcoronado.api.VulkanShaderModuleCreateInfo;
+import com.io7m.jcoronado.api.VulkanShaderModuleType;
+import com.io7m.jmulticlose.core.CloseableCollection;
+import com.io7m.jmulticlose.core.CloseableCollectionType;
+
+import java.util.EnumMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The default implementation of the {@link JCObjectCacheType} interface.
+ *
+ * <p>Objects are keyed on their create infos, which are immutable values
+ * with structural equality. Reference counts are only modified inside
+ * {@link ConcurrentHashMap#compute} calls, so acquiring a reference to an
+ * object can never race with the release of its last reference.</p>
+ */
+
+public final class JCObjectCache
+  implements JCObjectCacheType
+{
+  private final VulkanLogicalDeviceType device;
+  private final Pool<VulkanSamplerCreateInfo, VulkanSamplerType> samplers;
+  private final Pool<VulkanDescriptorSetLayoutCreateInfo, VulkanDescriptorSetLayoutType> setLayouts;
+  private final Pool<VulkanPipelineLayoutCreateInfo, VulkanPipelineLayoutType> pipelineLayouts;
+  private final Pool<VulkanRenderPassCreateInfo, VulkanRenderPassType> renderPasses;
+  private final Pool<JCShaderModuleDigest, VulkanShaderModuleType> shaderModules;
+  private final Optional<JCShaderModuleIdentifierStoreType> identifiers;
+  private final EnumMap<JCObjectKind, Pool<?, ?>> pools;
+  private final AtomicBoolean closed;
+
+  private JCObjectCache(
+    final JCObjectCacheConfiguration configuration)
+  {
+    Objects.requireNonNull(configuration, "configuration");
+
+    this.device =
+      configuration.device();
+    this.samplers =
+      new Pool<>(JCObjectKind.SAMPLER);
+    this.setLayouts =
+      new Pool<>(JCObjectKind.DESCRIPTOR_SET_LAYOUT);
+    this.pipelineLayouts =
+      new Pool<>(JCObjectKind.PIPELINE_LAYOUT);
+    this.renderPasses =
+      new Pool<>(JCObjectKind.RENDER_PASS);
+    this.shaderModules =
+      new Pool<>(JCObjectKind.SHADER_MODULE);
+    this.identifiers =
+      configuration.shaderModuleIdentifiers();
+    this.closed =
+      new AtomicBoolean(false);
+
+    this.pools = new EnumMap<>(JCObjectKind.class);
+    this.pools.put(JCObjectKind.SAMPLER, this.samplers);
+    this.pools.put(JCObjectKind.DESCRIPTOR_SET_LAYOUT, this.setLayouts);
+    this.pools.put(JCObjectKind.PIPELINE_LAYOUT, this.pipelineLayouts);
+    this.pools.put(JCObjectKind.RENDER_PASS, this.renderPasses);
+    this.pools.put(JCObjectKind.SHADER_MODULE, this.shaderModules);
+  }
+
+  /**
+   * Create an object cache.
+   *
+   * @param configuration The configuration
+   *
+   * @return An object cache
+   */
+
+  public static JCObjectCacheType create(
+    final JCObjectCacheConfiguration configuration)
+  {
+    return new JCObjectCache(configuration);
+  }
+
+  @Override
+  public JCObjectReferenceType<VulkanSamplerType> sampler(
+    final VulkanSamplerCreateInfo info)
+    throws VulkanException
+  {
+    this.checkNotClosed();
+    return this.samplers.acquire(info, this.device::createSampler);
+  }
+
+  @Override
+  public JCObjectReferenceType<VulkanDescriptorSetLayoutType> descriptorSetLayout(
+    final VulkanDescriptorSetLayoutCreateInfo info)
+    throws VulkanException
+  {
+    this.checkNotClosed();
+    return this.setLayouts.acquire(info, this.device::createDescriptorSetLayout);
+  }
+
+  @Override
+  public JCObjectReferenceType<VulkanPipelineLayoutType> pipelineLayout(
+    final VulkanPipelineLayoutCreateInfo info)
+    throws VulkanException
+  {
+    this.checkNotClosed();
+    return this.pipelineLayouts.acquire(info, this.device::createPipelineLayout);
+  }
+
+  @Override
+  public JCObjectReferenceType<VulkanRenderPassType> renderPass(
+    final VulkanRenderPassCreateInfo info)
+    throws VulkanException
+  {
+    this.checkNotClosed();
+    return this.renderPasses.acquire(info, this.device::createRenderPass);
+  }
+
+  @Override
+  public JCObjectReferenceType<VulkanShaderModuleType> shaderModule(
+    final VulkanShaderModuleCreateInfo info)
+    throws VulkanException
+  {
+    Objects.requireNonNull(info, "info");
+
+    this.checkNotClosed();
+    return this.shaderModules.acquire(
+      JCShaderModuleDigest.of(info),
+      digest -> this.createShaderModule(digest, info)
+    );
+  }
+
+  private VulkanShaderModuleType createShaderModule(
+    final JCShaderModuleDigest digest,
+    final VulkanShaderModuleCreateInfo info)
+    throws VulkanException
+  {
+    final var module = this.device.createShaderModule(info);
+    if (this.identifiers.isPresent() && this.identifiersEnabled()) {
+      try {
+        this.identifiers.get()
+          .put(digest, this.device.getShaderModuleIdentifier(module));
+      } catch (final VulkanException e) {
+        module.close();
+        throw e;
+      }
+    }
+    return module;
+  }
+
+  private boolean identifiersEnabled()
+    throws VulkanException
+  {
+    return this.device.enabledExtensions()
+      .containsKey("VK_EXT_shader_module_identifier");
+  }
+
+  @Override
+  public JCObjectCacheStatistics statistics(
+    final JCObjectKind kind)
+  {
+    Objects.requireNonNull(kind, "kind");
+    return this.pools.get(kind).statistics();
+  }
+
+  private void checkNotClosed()
+    throws VulkanDestroyedException
+  {
+    if (this.closed.get()) {
+      throw new VulkanDestroyedException(
+        "Object cache has been closed.",
+        JCObjectCache.class
+      );
+    }
+  }
+
+  @Override
+  public void close()
+    throws VulkanException
+  {
+    if (this.closed.compareAndSet(false, true)) {
+      final var resources =
+        CloseableCollection.create(() -> {
+          return new VulkanResourceException(
+            "One or more resources failed to close."
+          );
+        });
+
+      /*
+       * Objects are closed in the reverse order of their registration, so
+       * render passes and pipeline layouts are destroyed before the
+       * descriptor set layouts and samplers that they may refer to.
+       */
+
+      this.shaderModules.drainInto(resources);
+      this.samplers.drainInto(resources);
+      this.setLayouts.drainInto(resources);
+      this.pipelineLayouts.drainInto(resources);
+      this.renderPasses.drainInto(resources);
+      resources.close();
+    }
+  }
+
+  private interface CreatorType<K, T>
+  {
+    T create(K info)
+      throws VulkanException;
+  }
+
+  private static final class Entry<T extends VulkanHandleType>
+  {
+    private final T object;
+    private int references;
+
+    Entry(
+      final T inObject)
+    {
+      this.object = Objects.requireNonNull(inObject, "object");
+      this.references = 1;
+    }
+  }
+
+  private static final class Pool<K, T extends VulkanHandleType>
+  {
+    private final JCObjectKind kind;
+    private final ConcurrentHashMap<K, Entry<T>> entries;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    Pool(
+      final JCObjectKind inKind)
+    {
+      this.kind = Objects.requireNonNull(inKind, "kind");
+      this.entries = new ConcurrentHashMap<>();
+      this.hits = new LongAdder();
+      this.misses = new LongAdder();
+    }
+
+    JCObjectReferenceType<T> acquire(
+      final K info,
+      final CreatorType<K, T> creator)
+      throws VulkanException
+    {
+      Objects.requireNonNull(info, "info");
+
+      final var existing =
+        this.entries.computeIfPresent(info, (k, e) -> {
+          ++e.references;
+          return e;
+        });
+
+      if (existing != null) {
+        this.hits.increment();
+        return new Reference<>(this, info, existing);
+      }
+
+      this.misses.increment();
+      final var created = new Entry<>(creator.create(info));
+      final var winner =
+        this.entries.compute(info, (k, e) -> {
+          if (e == null) {
+            return created;
+          }
+          ++e.references;
+          return e;
+        });
+
+      if (winner != created) {
+        created.object.close();
+      }
+      return new Reference<>(this, info, winner);
+    }
+
+    void release(
+      final K info,
+      final Entry<T> entry)
+      throws VulkanException
+    {
+      final var destroy = new AtomicBoolean(false);
+      this.entries.computeIfPresent(info, (k, e) -> {
+        if (e != entry) {
+          return e;
+        }
+        --e.references;
+        if (e.references == 0) {
+          destroy.set(true);
+          return null;
+        }
+        return e;
+      });
+
+      if (destroy.get()) {
+        entry.object.close();
+      }
+    }
+
+    JCObjectCacheStatistics statistics()
+    {
+      return new JCObjectCacheStatistics(
+        this.kind,
+        this.hits.sum(),
+        this.misses.sum(),
+        this.entries.size()
+      );
+    }
+
+    void drainInto(
+      final CloseableCollectionType<VulkanResourceException> resources)
+    {
+      for (final var entry : this.entries.values()) {
+        resources.add(entry.object);
+      }
+      this.entries.clear();
+    }
+  }
+
+  private static final class Reference<K, T extends VulkanHandleType>
+    implements JCObjectReferenceType<T>
+  {
+    private final Pool<K, T> pool;
+    private final K info;
+    private final Entry<T> entry;
+    private final AtomicBoolean closed;
+
+    Reference(
+      final Pool<K, T> inPool,
+      final K inInfo,
+      final Entry<T> inEntry)
+    {
+      this.pool = inPool;
+      this.info = inInfo;
+      this.entry = inEntry;
+      this.closed = new AtomicBoolean(false);
+    }
+
+    @Override
+    public T object()
+    {
+      return this.entry.object;
+    }
+
+    @Override
+    public void close()
+      throws VulkanException
+    {
+      if (this.closed.compareAndSet(false, true)) {
+        this.pool.release(this.info, this.entry);
+      }
+    }
+  }
+}
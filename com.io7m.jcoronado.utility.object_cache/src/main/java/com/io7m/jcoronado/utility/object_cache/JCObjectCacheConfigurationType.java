@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.object_cache;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import com.io7m.jcoronado.api.VulkanLogicalDeviceType;
+import org.immutables.value.Value;
+
+import java.util.Optional;
+
+/**
+ * The configuration values required to create an object cache.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface JCObjectCacheConfigurationType
+{
+  /**
+   * @return The logical device
+   */
+
+  VulkanLogicalDeviceType device();
+
+  /**
+   * A store in which to record the identifiers of created shader modules.
+   * Identifiers are only recorded if the
+   * {@code VK_EXT_shader_module_identifier} extension is enabled on the
+   * device; otherwise the store is ignored.
+   *
+   * @return The shader module identifier store
+   */
+
+  Optional<JCShaderModuleIdentifierStoreType> shaderModuleIdentifiers();
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.object_cache;
+
+import java.util.Objects;
+
+/**
+ * Statistics for one kind of object held by an object cache.
+ *
+ * @param kind    The kind of object
+ * @param hits    The number of requests satisfied by an existing object
+ * @param misses  The number of requests that created a new object
+ * @param objects The number of objects currently held
+ */
+
+public record JCObjectCacheStatistics(
+  JCObjectKind kind,
+  long hits,
+  long misses,
+  int objects)
+{
+  /**
+   * Statistics for one kind of object held by an object cache.
+   *
+   * @param kind    The kind of object
+   * @param hits    The number of requests satisfied by an existing object
+   * @param misses  The number of requests that created a new object
+   * @param objects The number of objects currently held
+   */
+
+  public JCObjectCacheStatistics
+  {
+    Objects.requireNonNull(kind, "kind");
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.object_cache;
+
+import com.io7m.jcoronado.api.VulkanDescriptorSetLayoutCreateInfo;
+import com.io7m.jcoronado.api.VulkanDescriptorSetLayoutType;
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanPipelineLayoutCreateInfo;
+import com.io7m.jcoronado.api.VulkanPipelineLayoutType;
+import com.io7m.jcoronado.api.VulkanRenderPassCreateInfo;
+import com.io7m.jcoronado.api.VulkanRenderPassType;
+import com.io7m.jcoronado.api.VulkanSamplerCreateInfo;
+import com.io7m.jcoronado.api.VulkanSamplerType;
+import com.io7m.jcoronado.api.VulkanShaderModuleCreateInfo;
+import com.io7m.jcoronado.api.VulkanShaderModuleType;
+
+/**
+ * <p>A device-scoped, hash-consed cache of immutable Vulkan objects.</p>
+ *
+ * <p>Requesting an object with a create info equal to that of an object
+ * that is currently held returns a new reference to the existing object
+ * instead of creating another one. This bounds the number of live samplers
+ * (see {@code maxSamplerAllocationCount}), and means that pipeline layouts
+ * built from cached descriptor set layouts are themselves shared, and so
+ * trivially compatible.</p>
+ *
+ * <p>The cache is safe for concurrent use. Closing the cache destroys every
+ * object it holds, whether or not references to it remain.</p>
+ */
+
+public interface JCObjectCacheType
+  extends AutoCloseable
+{
+  /**
+   * Retrieve or create a sampler.
+   *
+   * @param info The create info
+   *
+   * @return A reference to the sampler
+   *
+   * @throws VulkanException On errors
+   */
+
+  JCObjectReferenceType<VulkanSamplerType> sampler(
+    VulkanSamplerCreateInfo info)
+    throws VulkanException;
+
+  /**
+   * Retrieve or create a descriptor set layout.
+   *
+   * @param info The create info
+   *
+   * @return A reference to the descriptor set layout
+   *
+   * @throws VulkanException On errors
+   */
+
+  JCObjectReferenceType<VulkanDescriptorSetLayoutType> descriptorSetLayout(
+    VulkanDescriptorSetLayoutCreateInfo info)
+    throws VulkanException;
+
+  /**
+   * Retrieve or create a pipeline layout.
+   *
+   * @param info The create info
+   *
+   * @return A reference to the pipeline layout
+   *
+   * @throws VulkanException On errors
+   */
+
+  JCObjectReferenceType<VulkanPipelineLayoutType> pipelineLayout(
+    VulkanPipelineLayoutCreateInfo info)
+    throws VulkanException;
+
+  /**
+   * Retrieve or create a render pass.
+   *
+   * @param info The create info
+   *
+   * @return A reference to the render pass
+   *
+   * @throws VulkanException On errors
+   */
+
+  JCObjectReferenceType<VulkanRenderPassType> renderPass(
+    VulkanRenderPassCreateInfo info)
+    throws VulkanException;
+
+  /**
+   * Retrieve or create a shader module. Shader modules are keyed on a
+   * digest of their SPIR-V code and flags (see
+   * {@link JCShaderModuleDigest#of(VulkanShaderModuleCreateInfo)}), rather
+   * than on the create info, so modules loaded from separate buffers with
+   * identical contents are shared. If a shader module identifier store is
+   * configured, the identifier of each newly created module is recorded
+   * in it.
+   *
+   * @param info The create info
+   *
+   * @return A reference to the shader module
+   *
+   * @throws VulkanException On errors
+   */
+
+  JCObjectReferenceType<VulkanShaderModuleType> shaderModule(
+    VulkanShaderModuleCreateInfo info)
+    throws VulkanException;
+
+  /**
+   * @param kind The kind of object
+   *
+   * @return The current statistics for the given kind of object
+   */
+
+  JCObjectCacheStatistics statistics(JCObjectKind kind);
+
+  @Override
+  void close()
+    throws VulkanException;
+}
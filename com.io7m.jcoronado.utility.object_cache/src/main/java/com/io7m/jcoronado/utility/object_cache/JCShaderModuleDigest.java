@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.object_cache;
+
+import com.io7m.jcoronado.api.VulkanEnumMaps;
+import com.io7m.jcoronado.api.VulkanShaderModuleCreateInfo;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * A SHA-256 digest of the SPIR-V code and flags of a shader module create
+ * info. Shader modules with equal digests are interchangeable.
+ *
+ * @param word0 Bits 0-63 of the digest
+ * @param word1 Bits 64-127 of the digest
+ * @param word2 Bits 128-191 of the digest
+ * @param word3 Bits 192-255 of the digest
+ */
+
+public record JCShaderModuleDigest(
+  long word0,
+  long word1,
+  long word2,
+  long word3)
+{
+  /**
+   * The size of a digest in octets.
+   */
+
+  public static final int SIZE = 32;
+
+  /**
+   * Calculate the digest of the given create info. The position and limit
+   * of the create info's data buffer are not modified.
+   *
+   * @param info The create info
+   *
+   * @return The digest
+   */
+
+  public static JCShaderModuleDigest of(
+    final VulkanShaderModuleCreateInfo info)
+  {
+    Objects.requireNonNull(info, "info");
+
+    final MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+
+    final var flags = ByteBuffer.allocate(4);
+    flags.putInt(0, VulkanEnumMaps.packValues(info.flags()));
+    digest.update(flags);
+    digest.update(info.data().duplicate());
+    return fromBuffer(ByteBuffer.wrap(digest.digest()));
+  }
+
+  /**
+   * Read a digest from the current position of the given buffer, advancing
+   * the position by {@link #SIZE} octets.
+   *
+   * @param buffer The buffer
+   *
+   * @return The digest
+   */
+
+  public static JCShaderModuleDigest fromBuffer(
+    final ByteBuffer buffer)
+  {
+    return new JCShaderModuleDigest(
+      buffer.getLong(),
+      buffer.getLong(),
+      buffer.getLong(),
+      buffer.getLong()
+    );
+  }
+
+  /**
+   * Write the digest at the current position of the given buffer, advancing
+   * the position by {@link #SIZE} octets.
+   *
+   * @param buffer The buffer
+   */
+
+  public void toBuffer(
+    final ByteBuffer buffer)
+  {
+    buffer.putLong(this.word0);
+    buffer.putLong(this.word1);
+    buffer.putLong(this.word2);
+    buffer.putLong(this.word3);
+  }
+
+  @Override
+  public String toString()
+  {
+    final var hex = HexFormat.of();
+    return hex.toHexDigits(this.word0)
+           + hex.toHexDigits(this.word1)
+           + hex.toHexDigits(this.word2)
+           + hex.toHexDigits(this.word3);
+  }
+}
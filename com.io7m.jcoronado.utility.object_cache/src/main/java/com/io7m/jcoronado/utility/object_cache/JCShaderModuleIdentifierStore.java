@@ -0,0 +1,369 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.object_cache;
+
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceProperties;
+import com.io7m.jcoronado.api.VulkanShaderModuleIdentifierEXT;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * The default implementation of the {@link JCShaderModuleIdentifierStoreType}
+ * interface.
+ *
+ * <p>Store files consist of a fixed-size header followed by fixed-size
+ * entries, all big-endian. The header holds a magic number, a format
+ * version, the vendor ID, device ID, pipeline cache UUID, and shader module
+ * identifier algorithm UUID of the device that produced the identifiers, the
+ * number of entries, and a CRC32C checksum of the entries. Identifiers are
+ * only guaranteed to be compatible between devices that report the same
+ * {@code shaderModuleIdentifierAlgorithmUUID}, so files written for a
+ * different device, driver, or identifier algorithm are ignored, as are all
+ * files if the device does not report an identifier algorithm. Entries with
+ * an identifier size of zero, which record modules for which no identifier
+ * was available, are skipped.</p>
+ */
+
+public final class JCShaderModuleIdentifierStore
+  implements JCShaderModuleIdentifierStoreType
+{
+  private static final Logger LOG =
+    LoggerFactory.getLogger(JCShaderModuleIdentifierStore.class);
+
+  /**
+   * The magic number that begins store files ("JCSI").
+   */
+
+  public static final int FILE_MAGIC = 0x4A435349;
+
+  /**
+   * The current store file format version.
+   */
+
+  public static final int FILE_VERSION = 2;
+
+  /**
+   * The size in bytes of the store file header.
+   */
+
+  public static final int FILE_HEADER_SIZE = 56;
+
+  /**
+   * The size in bytes of each store file entry.
+   */
+
+  public static final int FILE_ENTRY_SIZE =
+    JCShaderModuleDigest.SIZE + 4 + VulkanShaderModuleIdentifierEXT.MAXIMUM_SIZE;
+
+  private final Path file;
+  private final VulkanPhysicalDeviceProperties properties;
+  private final ConcurrentHashMap<JCShaderModuleDigest, VulkanShaderModuleIdentifierEXT> identifiers;
+  private final AtomicLong modifications;
+  private final ReentrantLock saveLock;
+  private long savedModifications;
+
+  private JCShaderModuleIdentifierStore(
+    final Path inFile,
+    final VulkanPhysicalDeviceProperties inProperties,
+    final Map<JCShaderModuleDigest, VulkanShaderModuleIdentifierEXT> inIdentifiers)
+  {
+    this.file =
+      Objects.requireNonNull(inFile, "file");
+    this.properties =
+      Objects.requireNonNull(inProperties, "properties");
+    this.identifiers =
+      new ConcurrentHashMap<>(inIdentifiers);
+    this.modifications =
+      new AtomicLong(0L);
+    this.saveLock =
+      new ReentrantLock();
+    this.savedModifications =
+      0L;
+  }
+
+  /**
+   * Open a shader module identifier store, loading the store file if it
+   * exists and was written for the same device and driver.
+   *
+   * @param configuration The configuration
+   *
+   * @return A store
+   *
+   * @throws VulkanException On errors
+   */
+
+  public static JCShaderModuleIdentifierStoreType create(
+    final JCShaderModuleIdentifierStoreConfiguration configuration)
+    throws VulkanException
+  {
+    Objects.requireNonNull(configuration, "configuration");
+
+    final var file =
+      configuration.file().toAbsolutePath();
+    final var properties =
+      configuration.device().physicalDevice().properties();
+
+    Map<JCShaderModuleDigest, VulkanShaderModuleIdentifierEXT> loaded;
+    try {
+      loaded = parse(ByteBuffer.wrap(Files.readAllBytes(file)), properties);
+    } catch (final NoSuchFileException e) {
+      loaded = Map.of();
+    } catch (final IOException e) {
+      LOG.warn("Unable to read shader module identifiers {}: ", file, e);
+      loaded = Map.of();
+    }
+
+    LOG.debug(
+      "Loaded {} shader module identifiers from {}",
+      Integer.valueOf(loaded.size()),
+      file
+    );
+    return new JCShaderModuleIdentifierStore(file, properties, loaded);
+  }
+
+  private static Map<JCShaderModuleDigest, VulkanShaderModuleIdentifierEXT> parse(
+    final ByteBuffer data,
+    final VulkanPhysicalDeviceProperties properties)
+  {
+    if (data.capacity() < FILE_HEADER_SIZE) {
+      return Map.of();
+    }
+
+    final var magic = data.getInt(0);
+    final var version = data.getInt(4);
+    final var vendorId = data.getInt(8);
+    final var deviceId = data.getInt(12);
+    final var uuidHigh = data.getLong(16);
+    final var uuidLow = data.getLong(24);
+    final var algorithmHigh = data.getLong(32);
+    final var algorithmLow = data.getLong(40);
+    final var count = data.getInt(48);
+    final var checksum = data.getInt(52);
+
+    if (magic != FILE_MAGIC
+        || version != FILE_VERSION
+        || count < 0
+        || (long) count * FILE_ENTRY_SIZE != data.capacity() - FILE_HEADER_SIZE) {
+      return Map.of();
+    }
+
+    final var algorithmOpt =
+      properties.shaderModuleIdentifierAlgorithmUUID();
+    if (algorithmOpt.isEmpty()) {
+      return Map.of();
+    }
+
+    final var uuid = properties.pipelineCacheUUID();
+    final var algorithm = algorithmOpt.get();
+    if (vendorId != properties.vendorId()
+        || deviceId != properties.id()
+        || uuidHigh != uuid.getMostSignificantBits()
+        || uuidLow != uuid.getLeastSignificantBits()
+        || algorithmHigh != algorithm.getMostSignificantBits()
+        || algorithmLow != algorithm.getLeastSignificantBits()) {
+      return Map.of();
+    }
+
+    final var entries =
+      data.slice(FILE_HEADER_SIZE, data.capacity() - FILE_HEADER_SIZE);
+    if (checksumOf(entries) != checksum) {
+      return Map.of();
+    }
+
+    final var results =
+      new HashMap<JCShaderModuleDigest, VulkanShaderModuleIdentifierEXT>(count);
+
+    for (var index = 0; index < count; ++index) {
+      final var digest = JCShaderModuleDigest.fromBuffer(entries);
+      final var size = entries.getInt();
+      if (size < 0 || size > VulkanShaderModuleIdentifierEXT.MAXIMUM_SIZE) {
+        return Map.of();
+      }
+      final var identifier = new byte[VulkanShaderModuleIdentifierEXT.MAXIMUM_SIZE];
+      entries.get(identifier);
+      if (size == 0) {
+        continue;
+      }
+      results.put(
+        digest,
+        new VulkanShaderModuleIdentifierEXT(
+          Arrays.copyOf(identifier, size))
+      );
+    }
+    return results;
+  }
+
+  private static int checksumOf(
+    final ByteBuffer data)
+  {
+    final var crc = new CRC32C();
+    crc.update(data.duplicate());
+    return (int) crc.getValue();
+  }
+
+  @Override
+  public Path file()
+  {
+    return this.file;
+  }
+
+  @Override
+  public Optional<VulkanShaderModuleIdentifierEXT> find(
+    final JCShaderModuleDigest digest)
+  {
+    Objects.requireNonNull(digest, "digest");
+    return Optional.ofNullable(this.identifiers.get(digest));
+  }
+
+  @Override
+  public void put(
+    final JCShaderModuleDigest digest,
+    final VulkanShaderModuleIdentifierEXT identifier)
+  {
+    Objects.requireNonNull(digest, "digest");
+    Objects.requireNonNull(identifier, "identifier");
+
+    final var previous = this.identifiers.put(digest, identifier);
+    if (!identifier.equals(previous)) {
+      this.modifications.incrementAndGet();
+    }
+  }
+
+  @Override
+  public int size()
+  {
+    return this.identifiers.size();
+  }
+
+  @Override
+  public boolean save()
+    throws IOException
+  {
+    this.saveLock.lock();
+    try {
+      final var observed = this.modifications.get();
+      if (observed == this.savedModifications) {
+        LOG.trace("Shader module identifiers {} unchanged", this.file);
+        return false;
+      }
+
+      final var snapshot = Map.copyOf(this.identifiers);
+      this.writeAtomically(this.serialize(snapshot));
+      this.savedModifications = observed;
+      LOG.debug(
+        "Saved {} shader module identifiers to {}",
+        Integer.valueOf(snapshot.size()),
+        this.file
+      );
+      return true;
+    } finally {
+      this.saveLock.unlock();
+    }
+  }
+
+  private ByteBuffer serialize(
+    final Map<JCShaderModuleDigest, VulkanShaderModuleIdentifierEXT> snapshot)
+  {
+    final var count = snapshot.size();
+    final var data =
+      ByteBuffer.allocate(FILE_HEADER_SIZE + count * FILE_ENTRY_SIZE);
+    final var entries =
+      data.slice(FILE_HEADER_SIZE, count * FILE_ENTRY_SIZE);
+
+    for (final var entry : snapshot.entrySet()) {
+      final var identifier = entry.getValue().data();
+      entry.getKey().toBuffer(entries);
+      entries.putInt(identifier.length);
+      entries.put(identifier);
+      entries.position(
+        entries.position() + VulkanShaderModuleIdentifierEXT.MAXIMUM_SIZE - identifier.length);
+    }
+    entries.flip();
+
+    final var uuid =
+      this.properties.pipelineCacheUUID();
+    final var algorithm =
+      this.properties.shaderModuleIdentifierAlgorithmUUID()
+        .orElse(new UUID(0L, 0L));
+
+    data.putInt(0, FILE_MAGIC);
+    data.putInt(4, FILE_VERSION);
+    data.putInt(8, this.properties.vendorId());
+    data.putInt(12, this.properties.id());
+    data.putLong(16, uuid.getMostSignificantBits());
+    data.putLong(24, uuid.getLeastSignificantBits());
+    data.putLong(32, algorithm.getMostSignificantBits());
+    data.putLong(40, algorithm.getLeastSignificantBits());
+    data.putInt(48, count);
+    data.putInt(52, checksumOf(entries));
+    return data;
+  }
+
+  private void writeAtomically(
+    final ByteBuffer data)
+    throws IOException
+  {
+    final var directory = this.file.getParent();
+    Files.createDirectories(directory);
+
+    final var temporary =
+      Files.createTempFile(
+        directory,
+        this.file.getFileName().toString(),
+        ".tmp"
+      );
+
+    try {
+      try (var channel = FileChannel.open(temporary, WRITE)) {
+        while (data.hasRemaining()) {
+          channel.write(data);
+        }
+        channel.force(true);
+      }
+      Files.move(temporary, this.file, ATOMIC_MOVE, REPLACE_EXISTING);
+    } catch (final IOException e) {
+      try {
+        Files.deleteIfExists(temporary);
+      } catch (final IOException ex) {
+        e.addSuppressed(ex);
+      }
+      throw e;
+    }
+  }
+}
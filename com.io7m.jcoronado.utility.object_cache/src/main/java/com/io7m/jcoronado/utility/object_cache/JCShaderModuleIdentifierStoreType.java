@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.object_cache;
+
+import com.io7m.jcoronado.api.VulkanShaderModuleIdentifierEXT;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * <p>A persistent map from shader module digests to the shader module
+ * identifiers reported by {@code VK_EXT_shader_module_identifier}.</p>
+ *
+ * <p>On a later run, an identifier found in the store can be used in place
+ * of a shader module when creating a pipeline (together with a pipeline
+ * cache that contains the pipeline), avoiding the upload and compilation of
+ * the SPIR-V. Such pipelines must be created with
+ * {@code VK_PIPELINE_CREATE_FAIL_ON_PIPELINE_COMPILE_REQUIRED_BIT}, and the
+ * caller must fall back to creating the shader module for each pipeline
+ * left empty in the
+ * {@link com.io7m.jcoronado.api.VulkanPipelineCompileRequiredException}
+ * raised when creation returns {@code VK_PIPELINE_COMPILE_REQUIRED}.</p>
+ *
+ * <p>Stores are safe for concurrent use.</p>
+ */
+
+public interface JCShaderModuleIdentifierStoreType
+{
+  /**
+   * @return The file in which identifiers are persisted
+   */
+
+  Path file();
+
+  /**
+   * Find the identifier for the shader module with the given digest.
+   *
+   * @param digest The shader module digest
+   *
+   * @return The identifier, if one is known
+   */
+
+  Optional<VulkanShaderModuleIdentifierEXT> find(
+    JCShaderModuleDigest digest);
+
+  /**
+   * Record the identifier for the shader module with the given digest.
+   *
+   * @param digest     The shader module digest
+   * @param identifier The identifier
+   */
+
+  void put(
+    JCShaderModuleDigest digest,
+    VulkanShaderModuleIdentifierEXT identifier);
+
+  /**
+   * @return The number of identifiers in the store
+   */
+
+  int size();
+
+  /**
+   * Write the store to its file. The file is replaced atomically. Nothing
+   * is written if the store has not changed since it was loaded or last
+   * saved.
+   *
+   * @return {@code true} if the file was written
+   *
+   * @throws IOException On I/O errors
+   */
+
+  boolean save()
+    throws IOException;
+}
@@ -0,0 +1,522 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.parallel_recorder;
+
+import com.io7m.jcoronado.api.VulkanCallFailedException;
+import com.io7m.jcoronado.api.VulkanCommandBufferBeginInfo;
+import com.io7m.jcoronado.api.VulkanCommandBufferInheritanceInfo;
+import com.io7m.jcoronado.api.VulkanCommandBufferInheritanceRenderingInfo;
+import com.io7m.jcoronado.api.VulkanCommandBufferType;
+import com.io7m.jcoronado.api.VulkanCommandPoolCreateInfo;
+import com.io7m.jcoronado.api.VulkanCommandPoolType;
+import com.io7m.jcoronado.api.VulkanDestroyedException;
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanLogicalDeviceType;
+import com.io7m.jcoronado.api.VulkanRenderPassBeginInfo;
+import com.io7m.jcoronado.api.VulkanRenderingFlag;
+import com.io7m.jcoronado.api.VulkanRenderingInfo;
+import com.io7m.jcoronado.api.VulkanResourceException;
+import com.io7m.jmulticlose.core.CloseableCollection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.io7m.jcoronado.api.VulkanCommandBufferLevel.VK_COMMAND_BUFFER_LEVEL_SECONDARY;
+import static com.io7m.jcoronado.api.VulkanCommandBufferUsageFlag.VK_COMMAND_BUFFER_USAGE_ONE_TIME_SUBMIT_BIT;
+import static com.io7m.jcoronado.api.VulkanCommandBufferUsageFlag.VK_COMMAND_BUFFER_USAGE_RENDER_PASS_CONTINUE_BIT;
+import static com.io7m.jcoronado.api.VulkanCommandPoolCreateFlag.VK_COMMAND_POOL_CREATE_TRANSIENT_BIT;
+import static com.io7m.jcoronado.api.VulkanRenderingFlag.VK_RENDERING_CONTENTS_SECONDARY_COMMAND_BUFFERS_BIT;
+import static com.io7m.jcoronado.api.VulkanSubpassContents.VK_SUBPASS_CONTENTS_SECONDARY_COMMAND_BUFFERS;
+
+/**
+ * The default implementation of the {@link JCParallelRecorderType}
+ * interface.
+ */
+
+public final class JCParallelRecorder
+  implements JCParallelRecorderType
+{
+  private static final Logger LOG =
+    LoggerFactory.getLogger(JCParallelRecorder.class);
+
+  private final JCParallelRecorderConfiguration configuration;
+  private final VulkanLogicalDeviceType device;
+  private final ExecutorService executor;
+  private final Worker[][] workers;
+  private final AtomicBoolean closed;
+  private int frameIndex;
+
+  private JCParallelRecorder(
+    final JCParallelRecorderConfiguration inConfiguration,
+    final ExecutorService inExecutor,
+    final Worker[][] inWorkers)
+  {
+    this.configuration =
+      Objects.requireNonNull(inConfiguration, "configuration");
+    this.executor =
+      Objects.requireNonNull(inExecutor, "executor");
+    this.workers =
+      Objects.requireNonNull(inWorkers, "workers");
+    this.device =
+      this.configuration.device();
+    this.closed =
+      new AtomicBoolean(false);
+    this.frameIndex =
+      0;
+  }
+
+  /**
+   * Create a parallel recorder that executes jobs on the common
+   * {@link ForkJoinPool}.
+   *
+   * @param configuration The configuration
+   *
+   * @return A recorder
+   *
+   * @throws VulkanException On errors
+   */
+
+  public static JCParallelRecorderType create(
+    final JCParallelRecorderConfiguration configuration)
+    throws VulkanException
+  {
+    return create(configuration, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Create a parallel recorder. The given executor is not owned by the
+   * recorder and will not be shut down when the recorder is closed. An
+   * executor that creates a virtual thread per task is a good choice, as
+   * is a {@link ForkJoinPool}.
+   *
+   * @param configuration The configuration
+   * @param executor      The executor used to run recording tasks
+   *
+   * @return A recorder
+   *
+   * @throws VulkanException On errors
+   */
+
+  public static JCParallelRecorderType create(
+    final JCParallelRecorderConfiguration configuration,
+    final ExecutorService executor)
+    throws VulkanException
+  {
+    Objects.requireNonNull(configuration, "configuration");
+    Objects.requireNonNull(executor, "executor");
+
+    final var device =
+      configuration.device();
+    final var frames =
+      configuration.framesInFlight();
+    final var workerCount =
+      configuration.workerCount();
+    final var workers =
+      new Worker[frames][workerCount];
+
+    final var poolInfo =
+      VulkanCommandPoolCreateInfo.builder()
+        .setQueueFamilyIndex(configuration.queueFamilyIndex())
+        .addFlags(VK_COMMAND_POOL_CREATE_TRANSIENT_BIT)
+        .build();
+
+    final var resources =
+      CloseableCollection.create(() -> {
+        return new VulkanResourceException(
+          "One or more resources failed to close."
+        );
+      });
+
+    try {
+      for (int frame = 0; frame < frames; ++frame) {
+        for (int index = 0; index < workerCount; ++index) {
+          final var pool = device.createCommandPool(poolInfo);
+          resources.add(pool);
+          workers[frame][index] = new Worker(device, pool);
+        }
+      }
+    } catch (final VulkanException e) {
+      try {
+        resources.close();
+      } catch (final VulkanResourceException ex) {
+        e.addSuppressed(ex);
+      }
+      throw e;
+    }
+
+    LOG.debug(
+      "Created {} command pools ({} frames, {} workers)",
+      Integer.valueOf(frames * workerCount),
+      Integer.valueOf(frames),
+      Integer.valueOf(workerCount)
+    );
+    return new JCParallelRecorder(configuration, executor, workers);
+  }
+
+  private static VulkanException unwrap(
+    final ExecutionException e)
+  {
+    final var cause = e.getCause();
+    if (cause instanceof final VulkanException ve) {
+      return ve;
+    }
+    return new VulkanCallFailedException(
+      "A recording job failed.",
+      cause == null ? e : cause,
+      Map.of()
+    );
+  }
+
+  private void checkNotClosed()
+    throws VulkanDestroyedException
+  {
+    if (this.closed.get()) {
+      throw new VulkanDestroyedException(
+        "Recorder has been closed.",
+        JCParallelRecorder.class
+      );
+    }
+  }
+
+  @Override
+  public void beginFrame(
+    final int index)
+    throws VulkanException
+  {
+    this.checkNotClosed();
+
+    final var frames = this.configuration.framesInFlight();
+    if (index < 0 || index >= frames) {
+      throw new IllegalArgumentException(
+        "Frame index %d must be in the range [0, %d)".formatted(
+          Integer.valueOf(index),
+          Integer.valueOf(frames))
+      );
+    }
+
+    this.frameIndex = index;
+    for (final var worker : this.workers[index]) {
+      worker.reset();
+    }
+  }
+
+  @Override
+  public List<VulkanCommandBufferType> record(
+    final VulkanCommandBufferInheritanceInfo inheritance,
+    final List<? extends JCParallelRecorderJobType> jobs)
+    throws VulkanException
+  {
+    Objects.requireNonNull(inheritance, "inheritance");
+    Objects.requireNonNull(jobs, "jobs");
+
+    this.checkNotClosed();
+
+    final var jobCount = jobs.size();
+    if (jobCount == 0) {
+      return List.of();
+    }
+
+    final var event = new JCParallelRecorderJFRRecorded();
+    event.begin();
+
+    final var beginInfo =
+      beginInfoFor(inheritance);
+    final var frameWorkers =
+      this.workers[this.frameIndex];
+    final var rangeCount =
+      Math.min(frameWorkers.length, jobCount);
+
+    /*
+     * With only a single range, there is nothing to be gained by handing
+     * the work to the executor.
+     */
+
+    final List<VulkanCommandBufferType> results;
+    if (rangeCount == 1) {
+      results = List.of(frameWorkers[0].record(beginInfo, jobs));
+    } else {
+      results = this.recordParallel(
+        beginInfo, jobs, frameWorkers, rangeCount);
+    }
+
+    event.frameIndex = this.frameIndex;
+    event.jobCount = jobCount;
+    event.commandBufferCount = results.size();
+    event.commit();
+    return results;
+  }
+
+  private List<VulkanCommandBufferType> recordParallel(
+    final VulkanCommandBufferBeginInfo beginInfo,
+    final List<? extends JCParallelRecorderJobType> jobs,
+    final Worker[] frameWorkers,
+    final int rangeCount)
+    throws VulkanException
+  {
+    final var jobCount =
+      jobs.size();
+    final var futures =
+      new ArrayList<Future<VulkanCommandBufferType>>(rangeCount);
+
+    for (int index = 0; index < rangeCount; ++index) {
+      final var lower =
+        (int) (((long) index * jobCount) / rangeCount);
+      final var upper =
+        (int) (((long) (index + 1) * jobCount) / rangeCount);
+      final var worker =
+        frameWorkers[index];
+      final var range =
+        jobs.subList(lower, upper);
+
+      futures.add(
+        this.executor.submit(() -> worker.record(beginInfo, range))
+      );
+    }
+
+    /*
+     * Wait for every task, even if one fails, so that no pool is still
+     * in use by a task when this method returns.
+     */
+
+    final var results =
+      new ArrayList<VulkanCommandBufferType>(rangeCount);
+    VulkanException failure = null;
+    var interrupted = false;
+
+    for (final var future : futures) {
+      while (true) {
+        try {
+          results.add(future.get());
+          break;
+        } catch (final InterruptedException e) {
+          interrupted = true;
+        } catch (final ExecutionException e) {
+          final var ex = unwrap(e);
+          if (failure == null) {
+            failure = ex;
+          } else {
+            failure.addSuppressed(ex);
+          }
+          break;
+        }
+      }
+    }
+
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+    if (failure != null) {
+      throw failure;
+    }
+    return List.copyOf(results);
+  }
+
+  private static VulkanCommandBufferBeginInfo beginInfoFor(
+    final VulkanCommandBufferInheritanceInfo inheritance)
+  {
+    final var builder =
+      VulkanCommandBufferBeginInfo.builder()
+        .addFlags(VK_COMMAND_BUFFER_USAGE_ONE_TIME_SUBMIT_BIT)
+        .setInheritanceInfo(inheritance);
+
+    if (inheritance.renderPass().isPresent()
+        || inheritance.renderingInfo().isPresent()) {
+      builder.addFlags(VK_COMMAND_BUFFER_USAGE_RENDER_PASS_CONTINUE_BIT);
+    }
+    return builder.build();
+  }
+
+  @Override
+  public void executeInRenderPass(
+    final VulkanCommandBufferType primary,
+    final VulkanRenderPassBeginInfo info,
+    final List<? extends JCParallelRecorderJobType> jobs)
+    throws VulkanException
+  {
+    Objects.requireNonNull(primary, "primary");
+    Objects.requireNonNull(info, "info");
+    Objects.requireNonNull(jobs, "jobs");
+
+    final var secondaries =
+      this.record(
+        VulkanCommandBufferInheritanceInfo.builder()
+          .setRenderPass(info.renderPass())
+          .setSubpass(0)
+          .setFramebuffer(info.framebuffer())
+          .build(),
+        jobs
+      );
+
+    primary.beginRenderPass(info, VK_SUBPASS_CONTENTS_SECONDARY_COMMAND_BUFFERS);
+    if (!secondaries.isEmpty()) {
+      primary.executeCommands(secondaries);
+    }
+    primary.endRenderPass();
+  }
+
+  @Override
+  public void executeInRendering(
+    final VulkanCommandBufferType primary,
+    final VulkanRenderingInfo info,
+    final VulkanCommandBufferInheritanceRenderingInfo formats,
+    final List<? extends JCParallelRecorderJobType> jobs)
+    throws VulkanException
+  {
+    Objects.requireNonNull(primary, "primary");
+    Objects.requireNonNull(info, "info");
+    Objects.requireNonNull(formats, "formats");
+    Objects.requireNonNull(jobs, "jobs");
+
+    final var inheritedFlags =
+      EnumSet.noneOf(VulkanRenderingFlag.class);
+    inheritedFlags.addAll(info.flags());
+    inheritedFlags.remove(VK_RENDERING_CONTENTS_SECONDARY_COMMAND_BUFFERS_BIT);
+
+    final var renderingFlags =
+      EnumSet.copyOf(inheritedFlags);
+    renderingFlags.add(VK_RENDERING_CONTENTS_SECONDARY_COMMAND_BUFFERS_BIT);
+
+    final var secondaries =
+      this.record(
+        VulkanCommandBufferInheritanceInfo.builder()
+          .setRenderingInfo(
+            VulkanCommandBufferInheritanceRenderingInfo.builder()
+              .from(formats)
+              .setFlags(inheritedFlags)
+              .setViewMask(info.viewMask())
+              .build()
+          )
+          .build(),
+        jobs
+      );
+
+    primary.beginRendering(
+      VulkanRenderingInfo.builder()
+        .from(info)
+        .setFlags(renderingFlags)
+        .build()
+    );
+    if (!secondaries.isEmpty()) {
+      primary.executeCommands(secondaries);
+    }
+    primary.endRendering();
+  }
+
+  @Override
+  public void close()
+    throws VulkanException
+  {
+    if (this.closed.compareAndSet(false, true)) {
+      final var resources =
+        CloseableCollection.create(() -> {
+          return new VulkanResourceException(
+            "One or more resources failed to close."
+          );
+        });
+
+      for (final var frameWorkers : this.workers) {
+        for (final var worker : frameWorkers) {
+          resources.add(worker.pool);
+        }
+      }
+      resources.close();
+    }
+  }
+
+  /**
+   * A worker owns a single command pool for a single frame. A worker's pool
+   * is only ever accessed by the single task to which the worker is
+   * assigned, and so no additional synchronization is required.
+   */
+
+  private static final class Worker
+  {
+    private final VulkanLogicalDeviceType device;
+    private final VulkanCommandPoolType pool;
+    private final ArrayList<VulkanCommandBufferType> buffers;
+    private int used;
+
+    Worker(
+      final VulkanLogicalDeviceType inDevice,
+      final VulkanCommandPoolType inPool)
+    {
+      this.device =
+        Objects.requireNonNull(inDevice, "device");
+      this.pool =
+        Objects.requireNonNull(inPool, "pool");
+      this.buffers =
+        new ArrayList<>();
+      this.used =
+        0;
+    }
+
+    void reset()
+      throws VulkanException
+    {
+      if (this.used > 0) {
+        this.device.resetCommandPool(this.pool);
+        this.used = 0;
+      }
+    }
+
+    VulkanCommandBufferType record(
+      final VulkanCommandBufferBeginInfo beginInfo,
+      final List<? extends JCParallelRecorderJobType> jobs)
+      throws VulkanException
+    {
+      final var buffer = this.nextBuffer();
+      buffer.beginCommandBuffer(beginInfo);
+      for (final var job : jobs) {
+        job.record(buffer);
+      }
+      buffer.endCommandBuffer();
+      return buffer;
+    }
+
+    /**
+     * Command buffers are reused across frames; resetting the pool returns
+     * every buffer allocated from it to the initial state.
+     */
+
+    private VulkanCommandBufferType nextBuffer()
+      throws VulkanException
+    {
+      final VulkanCommandBufferType buffer;
+      if (this.used < this.buffers.size()) {
+        buffer = this.buffers.get(this.used);
+      } else {
+        buffer = this.device.createCommandBuffer(
+          this.pool,
+          VK_COMMAND_BUFFER_LEVEL_SECONDARY
+        );
+        this.buffers.add(buffer);
+      }
+      ++this.used;
+      return buffer;
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.parallel_recorder;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import com.io7m.jcoronado.api.VulkanLogicalDeviceType;
+import com.io7m.jcoronado.api.VulkanQueueFamilyIndex;
+import org.immutables.value.Value;
+
+/**
+ * The configuration values required to create a parallel recorder.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface JCParallelRecorderConfigurationType
+{
+  /**
+   * @return The logical device
+   */
+
+  VulkanLogicalDeviceType device();
+
+  /**
+   * @return The queue family to which all command buffers will be submitted
+   */
+
+  VulkanQueueFamilyIndex queueFamilyIndex();
+
+  /**
+   * @return The number of frames that may be in flight at any given time
+   */
+
+  @Value.Default
+  default int framesInFlight()
+  {
+    return 2;
+  }
+
+  /**
+   * @return The maximum number of workers that may record concurrently
+   */
+
+  @Value.Default
+  default int workerCount()
+  {
+    return Runtime.getRuntime().availableProcessors();
+  }
+
+  /**
+   * Check preconditions for the type.
+   */
+
+  @Value.Check
+  default void checkPreconditions()
+  {
+    if (this.framesInFlight() < 1) {
+      throw new IllegalArgumentException(
+        "Frames in flight %d must be positive".formatted(
+          Integer.valueOf(this.framesInFlight()))
+      );
+    }
+    if (this.workerCount() < 1) {
+      throw new IllegalArgumentException(
+        "Worker count %d must be positive".formatted(
+          Integer.valueOf(this.workerCount()))
+      );
+    }
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.parallel_recorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * A set of jobs was recorded in parallel.
+ */
+
+@Label("Recorded")
+@Category("JCoronado.ParallelRecorder")
+@Description("A set of jobs was recorded in parallel.")
+@StackTrace(value = false)
+public final class JCParallelRecorderJFRRecorded
+  extends Event
+  implements JCParallelRecorderJFREventType
+{
+  // CHECKSTYLE:OFF
+
+  @Label("FrameIndex")
+  @Description("The frame index.")
+  public int frameIndex;
+
+  @Label("JobCount")
+  @Description("The number of jobs recorded.")
+  public int jobCount;
+
+  @Label("CommandBufferCount")
+  @Description("The number of secondary command buffers produced.")
+  public int commandBufferCount;
+
+  public JCParallelRecorderJFRRecorded()
+  {
+
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.parallel_recorder;
+
+import com.io7m.jcoronado.api.VulkanCommandBufferType;
+import com.io7m.jcoronado.api.VulkanException;
+
+/**
+ * A recording job. A job records commands into a secondary command buffer
+ * that has already been begun, and must not begin, end, or submit the
+ * buffer itself. Jobs may be executed on any thread, but a given command
+ * buffer is only ever accessed by one job at a time.
+ */
+
+@FunctionalInterface
+public interface JCParallelRecorderJobType
+{
+  /**
+   * Record commands.
+   *
+   * @param commandBuffer The secondary command buffer
+   *
+   * @throws VulkanException On errors
+   */
+
+  void record(VulkanCommandBufferType commandBuffer)
+    throws VulkanException;
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.parallel_recorder;
+
+import com.io7m.jcoronado.api.VulkanCommandBufferInheritanceInfo;
+import com.io7m.jcoronado.api.VulkanCommandBufferInheritanceRenderingInfo;
+import com.io7m.jcoronado.api.VulkanCommandBufferType;
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanRenderPassBeginInfo;
+import com.io7m.jcoronado.api.VulkanRenderingInfo;
+
+import java.util.List;
+
+/**
+ * <p>A parallel secondary command buffer recorder.</p>
+ *
+ * <p>The recorder owns one command pool per worker per frame in flight.
+ * Recording jobs are divided into contiguous ranges, one per worker, and
+ * each range is recorded into a single secondary command buffer allocated
+ * from the worker's pool for the current frame. No pool is ever accessed by
+ * more than one task at a time, regardless of which threads the executor
+ * uses to run the tasks. The order of the returned command buffers matches
+ * the order of the submitted jobs.</p>
+ *
+ * <p>The recorder itself is not thread-safe; it is intended to be driven by
+ * a single rendering thread.</p>
+ */
+
+public interface JCParallelRecorderType
+  extends AutoCloseable
+{
+  /**
+   * Begin recording for the given frame. All command pools associated with
+   * the frame are reset, and so all command buffers previously recorded for
+   * the frame become invalid. The caller must ensure that the GPU has
+   * finished executing any command buffers previously recorded for the
+   * frame, typically by waiting on the frame's fence.
+   *
+   * @param frameIndex The frame index in the range
+   *                   {@code [0, framesInFlight)}
+   *
+   * @throws VulkanException On errors
+   */
+
+  void beginFrame(int frameIndex)
+    throws VulkanException;
+
+  /**
+   * Record the given jobs in parallel into secondary command buffers.
+   *
+   * @param inheritance The inheritance info for the secondary buffers
+   * @param jobs        The jobs
+   *
+   * @return The recorded secondary command buffers, in job order
+   *
+   * @throws VulkanException On errors
+   */
+
+  List<VulkanCommandBufferType> record(
+    VulkanCommandBufferInheritanceInfo inheritance,
+    List<? extends JCParallelRecorderJobType> jobs)
+    throws VulkanException;
+
+  /**
+   * Record the given jobs in parallel and execute them within a render
+   * pass instance on the given primary command buffer. The render pass is
+   * begun with {@code VK_SUBPASS_CONTENTS_SECONDARY_COMMAND_BUFFERS} and
+   * ended after the secondary buffers have been executed.
+   *
+   * @param primary The primary command buffer
+   * @param info    The render pass begin info
+   * @param jobs    The jobs
+   *
+   * @throws VulkanException On errors
+   */
+
+  void executeInRenderPass(
+    VulkanCommandBufferType primary,
+    VulkanRenderPassBeginInfo info,
+    List<? extends JCParallelRecorderJobType> jobs)
+    throws VulkanException;
+
+  /**
+   * Record the given jobs in parallel and execute them within a dynamic
+   * render pass instance on the given primary command buffer. The render
+   * pass instance is begun with
+   * {@code VK_RENDERING_CONTENTS_SECONDARY_COMMAND_BUFFERS_BIT} added to the
+   * given flags. The flags and view mask of the inheritance info are
+   * derived from the rendering info; the attachment formats and sample
+   * count are taken from {@code formats}.
+   *
+   * @param primary The primary command buffer
+   * @param info    The rendering info
+   * @param formats The attachment formats of the render pass instance
+   * @param jobs    The jobs
+   *
+   * @throws VulkanException On errors
+   */
+
+  void executeInRendering(
+    VulkanCommandBufferType primary,
+    VulkanRenderingInfo info,
+    VulkanCommandBufferInheritanceRenderingInfo formats,
+    List<? extends JCParallelRecorderJobType> jobs)
+    throws VulkanException;
+
+  @Override
+  void close()
+    throws VulkanException;
+}
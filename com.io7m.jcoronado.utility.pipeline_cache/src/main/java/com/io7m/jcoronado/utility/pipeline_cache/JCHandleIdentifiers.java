@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.pipeline_cache;
+
+import com.io7m.jcoronado.api.VulkanHandleType;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>Assigns unique identifiers to Vulkan handles, so that handles can be
+ * included in structural hashes.</p>
+ *
+ * <p>Handles are identified using their own {@code equals} and
+ * {@code hashCode} methods. Drivers may reuse a raw handle value after the
+ * object it referred to has been destroyed, and so handles should be
+ * forgotten with {@link #forget(VulkanHandleType)} when they are closed;
+ * a handle that is later assigned the same raw value will then receive a
+ * fresh identifier.</p>
+ */
+
+public final class JCHandleIdentifiers
+{
+  private final ConcurrentHashMap<VulkanHandleType, Long> identifiers;
+  private final AtomicLong next;
+
+  /**
+   * Create an empty set of identifiers.
+   */
+
+  public JCHandleIdentifiers()
+  {
+    this.identifiers = new ConcurrentHashMap<>();
+    this.next = new AtomicLong(1L);
+  }
+
+  /**
+   * @param handle The handle
+   *
+   * @return The identifier for the handle, assigning one if necessary
+   */
+
+  public long identify(
+    final VulkanHandleType handle)
+  {
+    Objects.requireNonNull(handle, "handle");
+
+    final var existing = this.identifiers.get(handle);
+    if (existing != null) {
+      return existing.longValue();
+    }
+
+    final var created = Long.valueOf(this.next.getAndIncrement());
+    final var raced = this.identifiers.putIfAbsent(handle, created);
+    return raced != null ? raced.longValue() : created.longValue();
+  }
+
+  /**
+   * Forget the identifier for the given handle.
+   *
+   * @param handle The handle
+   */
+
+  public void forget(
+    final VulkanHandleType handle)
+  {
+    Objects.requireNonNull(handle, "handle");
+    this.identifiers.remove(handle);
+  }
+
+  /**
+   * @return The number of handles that currently have identifiers
+   */
+
+  public int size()
+  {
+    return this.identifiers.size();
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.pipeline_cache;
+
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceProperties;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * The header that begins all Vulkan pipeline cache data.
+ *
+ * @param headerSize        The size in bytes of the header
+ * @param headerVersion     The header version
+ * @param vendorId          The vendor ID of the device that produced the data
+ * @param deviceId          The device ID of the device that produced the data
+ * @param pipelineCacheUUID The pipeline cache UUID of the device that
+ *                          produced the data
+ *
+ * @see "VkPipelineCacheHeaderVersionOne"
+ */
+
+public record JCPipelineCacheHeader(
+  int headerSize,
+  int headerVersion,
+  int vendorId,
+  int deviceId,
+  UUID pipelineCacheUUID)
+{
+  /**
+   * The size in bytes of a version one header.
+   */
+
+  public static final int HEADER_VERSION_ONE_SIZE = 32;
+
+  /**
+   * The value of {@code VK_PIPELINE_CACHE_HEADER_VERSION_ONE}.
+   */
+
+  public static final int HEADER_VERSION_ONE = 1;
+
+  /**
+   * The header that begins all Vulkan pipeline cache data.
+   *
+   * @param headerSize        The size in bytes of the header
+   * @param headerVersion     The header version
+   * @param vendorId          The vendor ID of the device that produced the
+   *                          data
+   * @param deviceId          The device ID of the device that produced the
+   *                          data
+   * @param pipelineCacheUUID The pipeline cache UUID of the device that
+   *                          produced the data
+   */
+
+  public JCPipelineCacheHeader
+  {
+    Objects.requireNonNull(pipelineCacheUUID, "pipelineCacheUUID");
+  }
+
+  /**
+   * Parse a header from the start of the given pipeline cache data. The
+   * position and limit of the given buffer are not modified.
+   *
+   * @param data The pipeline cache data
+   *
+   * @return The header, or nothing if the data does not begin with a valid
+   * version one header
+   */
+
+  public static Optional<JCPipelineCacheHeader> parse(
+    final ByteBuffer data)
+  {
+    Objects.requireNonNull(data, "data");
+
+    final var view =
+      data.slice().order(ByteOrder.LITTLE_ENDIAN);
+
+    if (view.remaining() < HEADER_VERSION_ONE_SIZE) {
+      return Optional.empty();
+    }
+
+    final var size = view.getInt(0);
+    if (Integer.compareUnsigned(size, HEADER_VERSION_ONE_SIZE) < 0
+        || Integer.compareUnsigned(size, view.remaining()) > 0) {
+      return Optional.empty();
+    }
+
+    final var version = view.getInt(4);
+    if (version != HEADER_VERSION_ONE) {
+      return Optional.empty();
+    }
+
+    final var uuid =
+      view.slice(16, 16).order(ByteOrder.BIG_ENDIAN);
+
+    return Optional.of(
+      new JCPipelineCacheHeader(
+        size,
+        version,
+        view.getInt(8),
+        view.getInt(12),
+        new UUID(uuid.getLong(0), uuid.getLong(8))
+      )
+    );
+  }
+
+  /**
+   * @param properties The device properties
+   *
+   * @return {@code true} if data with this header can be used with the
+   * given device
+   */
+
+  public boolean isCompatibleWith(
+    final VulkanPhysicalDeviceProperties properties)
+  {
+    Objects.requireNonNull(properties, "properties");
+
+    return this.vendorId == properties.vendorId()
+           && this.deviceId == properties.id()
+           && this.pipelineCacheUUID.equals(properties.pipelineCacheUUID());
+  }
+}
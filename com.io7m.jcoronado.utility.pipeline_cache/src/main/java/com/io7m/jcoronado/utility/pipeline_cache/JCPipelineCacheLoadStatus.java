@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.pipeline_cache;
+
+/**
+ * The result of loading a pipeline cache file.
+ */
+
+public enum JCPipelineCacheLoadStatus
+{
+  /**
+   * The cache file was valid, and the cache was populated from it.
+   */
+
+  LOADED,
+
+  /**
+   * The cache file did not exist, and the cache was created empty.
+   */
+
+  MISSING,
+
+  /**
+   * The cache file could not be read, and the cache was created empty.
+   */
+
+  UNREADABLE,
+
+  /**
+   * The cache file was truncated or failed its checksum, and the cache was
+   * created empty.
+   */
+
+  CORRUPT,
+
+  /**
+   * The cache file was intact but was produced by a different device, driver,
+   * or pipeline cache format, and the cache was created empty.
+   */
+
+  INCOMPATIBLE
+}
@@ -0,0 +1,501 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.pipeline_cache;
+
+import com.io7m.jcoronado.api.VulkanDestroyedException;
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanLogicalDeviceType;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceProperties;
+import com.io7m.jcoronado.api.VulkanPipelineCacheCreateInfo;
+import com.io7m.jcoronado.api.VulkanPipelineCacheType;
+import com.io7m.jcoronado.api.VulkanResourceException;
+import com.io7m.jmulticlose.core.CloseableCollection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+import static com.io7m.jcoronado.api.VulkanLogicalDeviceType.VulkanPipelineCacheDataResult.VK_PIPELINE_CACHE_SUCCESS;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * The default implementation of the {@link JCPipelineCacheManagerType}
+ * interface.
+ *
+ * <p>Cache files consist of a fixed-size container header followed by the
+ * raw data returned by {@code vkGetPipelineCacheData}. The container header
+ * holds a magic number, a format version, the length of the data, and a
+ * CRC32C checksum of the data, all big-endian.</p>
+ */
+
+public final class JCPipelineCacheManager
+  implements JCPipelineCacheManagerType
+{
+  private static final Logger LOG =
+    LoggerFactory.getLogger(JCPipelineCacheManager.class);
+
+  /**
+   * The magic number that begins cache files ("JCPC").
+   */
+
+  public static final int FILE_MAGIC = 0x4A435043;
+
+  /**
+   * The current cache file format version.
+   */
+
+  public static final int FILE_VERSION = 1;
+
+  /**
+   * The size in bytes of the cache file container header.
+   */
+
+  public static final int FILE_HEADER_SIZE = 24;
+
+  private final VulkanLogicalDeviceType device;
+  private final Path file;
+  private final JCPipelineCacheLoadStatus loadStatus;
+  private final VulkanPipelineCacheType cache;
+  private final ConcurrentHashMap<Long, ThreadCache> threadCaches;
+  private final ReentrantLock saveLock;
+  private final AtomicBoolean closed;
+  private long savedSize;
+  private int savedChecksum;
+
+  private JCPipelineCacheManager(
+    final VulkanLogicalDeviceType inDevice,
+    final Path inFile,
+    final JCPipelineCacheLoadStatus inLoadStatus,
+    final VulkanPipelineCacheType inCache,
+    final long inSavedSize,
+    final int inSavedChecksum)
+  {
+    this.device =
+      Objects.requireNonNull(inDevice, "device");
+    this.file =
+      Objects.requireNonNull(inFile, "file");
+    this.loadStatus =
+      Objects.requireNonNull(inLoadStatus, "loadStatus");
+    this.cache =
+      Objects.requireNonNull(inCache, "cache");
+    this.savedSize =
+      inSavedSize;
+    this.savedChecksum =
+      inSavedChecksum;
+    this.threadCaches =
+      new ConcurrentHashMap<>();
+    this.saveLock =
+      new ReentrantLock();
+    this.closed =
+      new AtomicBoolean(false);
+  }
+
+  /**
+   * Create a pipeline cache manager, loading the cache file if it exists
+   * and is valid for the device.
+   *
+   * @param configuration The configuration
+   *
+   * @return A pipeline cache manager
+   *
+   * @throws VulkanException On errors
+   */
+
+  public static JCPipelineCacheManagerType create(
+    final JCPipelineCacheConfiguration configuration)
+    throws VulkanException
+  {
+    Objects.requireNonNull(configuration, "configuration");
+
+    final var device =
+      configuration.device();
+    final var file =
+      configuration.file().toAbsolutePath();
+    final var properties =
+      device.physicalDevice().properties();
+
+    /*
+     * The mapping is released as soon as the cache has been created (the
+     * implementation copies the initial data), rather than when the buffer
+     * is garbage collected. A live mapping would prevent later saves from
+     * replacing the file on some platforms.
+     */
+
+    try (var channel = FileChannel.open(file, READ);
+         var arena = Arena.ofConfined()) {
+      final var size = channel.size();
+      if (size < FILE_HEADER_SIZE || size > Integer.MAX_VALUE) {
+        return createEmpty(device, file, JCPipelineCacheLoadStatus.CORRUPT);
+      }
+
+      final var mapped =
+        channel.map(READ_ONLY, 0L, size, arena).asByteBuffer();
+      return createFromMapped(device, file, properties, mapped);
+    } catch (final NoSuchFileException e) {
+      return createEmpty(device, file, JCPipelineCacheLoadStatus.MISSING);
+    } catch (final IOException e) {
+      LOG.warn("Unable to read pipeline cache {}: ", file, e);
+      return createEmpty(device, file, JCPipelineCacheLoadStatus.UNREADABLE);
+    }
+  }
+
+  private static JCPipelineCacheManagerType createFromMapped(
+    final VulkanLogicalDeviceType device,
+    final Path file,
+    final VulkanPhysicalDeviceProperties properties,
+    final ByteBuffer mapped)
+    throws VulkanException
+  {
+    final var magic = mapped.getInt(0);
+    final var version = mapped.getInt(4);
+    final var length = mapped.getLong(8);
+    final var checksum = mapped.getInt(16);
+
+    if (magic != FILE_MAGIC
+        || version != FILE_VERSION
+        || length != (long) mapped.capacity() - FILE_HEADER_SIZE) {
+      return createEmpty(device, file, JCPipelineCacheLoadStatus.CORRUPT);
+    }
+
+    final var data =
+      mapped.slice(FILE_HEADER_SIZE, (int) length);
+
+    if (checksumOf(data) != checksum) {
+      return createEmpty(device, file, JCPipelineCacheLoadStatus.CORRUPT);
+    }
+
+    final var headerOpt = JCPipelineCacheHeader.parse(data);
+    if (headerOpt.isEmpty()) {
+      return createEmpty(device, file, JCPipelineCacheLoadStatus.CORRUPT);
+    }
+
+    final var header = headerOpt.get();
+    if (!header.isCompatibleWith(properties)) {
+      LOG.debug(
+        "Pipeline cache {} is for a different device (vendor 0x{}, device 0x{}, uuid {})",
+        file,
+        Integer.toUnsignedString(header.vendorId(), 16),
+        Integer.toUnsignedString(header.deviceId(), 16),
+        header.pipelineCacheUUID()
+      );
+      return createEmpty(device, file, JCPipelineCacheLoadStatus.INCOMPATIBLE);
+    }
+
+    final var cache =
+      device.createPipelineCache(
+        VulkanPipelineCacheCreateInfo.builder()
+          .setInitialData(data)
+          .build()
+      );
+
+    LOG.debug("Loaded pipeline cache {} ({} bytes)", file, Long.valueOf(length));
+    return new JCPipelineCacheManager(
+      device,
+      file,
+      JCPipelineCacheLoadStatus.LOADED,
+      cache,
+      length,
+      checksum
+    );
+  }
+
+  private static JCPipelineCacheManagerType createEmpty(
+    final VulkanLogicalDeviceType device,
+    final Path file,
+    final JCPipelineCacheLoadStatus status)
+    throws VulkanException
+  {
+    LOG.debug("Pipeline cache {} not loaded ({})", file, status);
+    return new JCPipelineCacheManager(
+      device,
+      file,
+      status,
+      createEmptyCache(device),
+      -1L,
+      0
+    );
+  }
+
+  private static VulkanPipelineCacheType createEmptyCache(
+    final VulkanLogicalDeviceType device)
+    throws VulkanException
+  {
+    return device.createPipelineCache(
+      VulkanPipelineCacheCreateInfo.builder()
+        .setInitialData(ByteBuffer.allocateDirect(0))
+        .build()
+    );
+  }
+
+  private static int checksumOf(
+    final ByteBuffer data)
+  {
+    final var crc = new CRC32C();
+    crc.update(data.duplicate());
+    return (int) crc.getValue();
+  }
+
+  @Override
+  public Path file()
+  {
+    return this.file;
+  }
+
+  @Override
+  public JCPipelineCacheLoadStatus loadStatus()
+  {
+    return this.loadStatus;
+  }
+
+  @Override
+  public VulkanPipelineCacheType cache()
+  {
+    return this.cache;
+  }
+
+  @Override
+  public VulkanPipelineCacheType threadCache()
+    throws VulkanException
+  {
+    this.checkNotClosed();
+
+    final var thread = Thread.currentThread();
+    final var key = Long.valueOf(thread.threadId());
+    final var existing = this.threadCaches.get(key);
+    if (existing != null) {
+      return existing.cache();
+    }
+
+    final var created = createEmptyCache(this.device);
+    this.threadCaches.put(key, new ThreadCache(thread, created));
+    return created;
+  }
+
+  @Override
+  public void releaseThreadCache()
+    throws VulkanException
+  {
+    this.saveLock.lock();
+    try {
+      this.checkNotClosed();
+
+      final var key = Long.valueOf(Thread.currentThread().threadId());
+      final var existing = this.threadCaches.remove(key);
+      if (existing != null) {
+        try {
+          this.device.mergePipelineCaches(List.of(existing.cache()), this.cache);
+        } finally {
+          existing.cache().close();
+        }
+      }
+    } finally {
+      this.saveLock.unlock();
+    }
+  }
+
+  @Override
+  public void merge()
+    throws VulkanException
+  {
+    this.saveLock.lock();
+    try {
+      this.checkNotClosed();
+      this.mergeLocked();
+    } finally {
+      this.saveLock.unlock();
+    }
+  }
+
+  private void mergeLocked()
+    throws VulkanException
+  {
+    final var merging =
+      new ArrayList<VulkanPipelineCacheType>(this.threadCaches.size());
+    final var finished =
+      new ArrayList<ThreadCache>();
+
+    for (final var threadCache : this.threadCaches.values()) {
+      merging.add(threadCache.cache());
+      if (!threadCache.thread().isAlive()) {
+        finished.add(threadCache);
+      }
+    }
+
+    if (!merging.isEmpty()) {
+      this.device.mergePipelineCaches(merging, this.cache);
+    }
+
+    /*
+     * The caches of threads that have terminated can never be used again,
+     * so they are destroyed once their contents have been merged. This
+     * bounds the number of caches held by applications whose executors
+     * create new threads over time.
+     */
+
+    for (final var threadCache : finished) {
+      this.threadCaches.remove(Long.valueOf(threadCache.thread().threadId()));
+      threadCache.cache().close();
+    }
+  }
+
+  @Override
+  public boolean save()
+    throws VulkanException, IOException
+  {
+    this.saveLock.lock();
+    try {
+      this.checkNotClosed();
+      this.mergeLocked();
+
+      final var data = this.fetchData();
+      final var size = data.capacity();
+      final var checksum = checksumOf(data);
+      if (size == this.savedSize && checksum == this.savedChecksum) {
+        LOG.trace("Pipeline cache {} unchanged", this.file);
+        return false;
+      }
+
+      this.writeAtomically(data, checksum);
+      this.savedSize = size;
+      this.savedChecksum = checksum;
+      LOG.debug(
+        "Saved pipeline cache {} ({} bytes)",
+        this.file,
+        Integer.valueOf(size)
+      );
+      return true;
+    } finally {
+      this.saveLock.unlock();
+    }
+  }
+
+  private ByteBuffer fetchData()
+    throws VulkanException
+  {
+    while (true) {
+      final var size =
+        this.device.getPipelineCacheDataSize(this.cache);
+      final var data =
+        ByteBuffer.allocateDirect(Math.toIntExact(size));
+
+      final var result =
+        this.device.getPipelineCacheData(this.cache, data);
+      if (result == VK_PIPELINE_CACHE_SUCCESS) {
+        return data;
+      }
+    }
+  }
+
+  private void writeAtomically(
+    final ByteBuffer data,
+    final int checksum)
+    throws IOException
+  {
+    final var directory = this.file.getParent();
+    Files.createDirectories(directory);
+
+    final var temporary =
+      Files.createTempFile(
+        directory,
+        this.file.getFileName().toString(),
+        ".tmp"
+      );
+
+    try {
+      final var header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+      header.putInt(0, FILE_MAGIC);
+      header.putInt(4, FILE_VERSION);
+      header.putLong(8, data.capacity());
+      header.putInt(16, checksum);
+      header.putInt(20, 0);
+
+      try (var channel = FileChannel.open(temporary, WRITE)) {
+        final var body = data.duplicate();
+        while (header.hasRemaining() || body.hasRemaining()) {
+          channel.write(new ByteBuffer[]{header, body});
+        }
+        channel.force(true);
+      }
+
+      Files.move(temporary, this.file, ATOMIC_MOVE, REPLACE_EXISTING);
+    } catch (final IOException e) {
+      try {
+        Files.deleteIfExists(temporary);
+      } catch (final IOException ex) {
+        e.addSuppressed(ex);
+      }
+      throw e;
+    }
+  }
+
+  private void checkNotClosed()
+    throws VulkanDestroyedException
+  {
+    if (this.closed.get()) {
+      throw new VulkanDestroyedException(
+        "Pipeline cache manager has been closed.",
+        JCPipelineCacheManager.class
+      );
+    }
+  }
+
+  @Override
+  public void close()
+    throws VulkanException
+  {
+    if (this.closed.compareAndSet(false, true)) {
+      final var resources =
+        CloseableCollection.create(() -> {
+          return new VulkanResourceException(
+            "One or more resources failed to close."
+          );
+        });
+
+      resources.add(this.cache);
+      for (final var threadCache : this.threadCaches.values()) {
+        resources.add(threadCache.cache());
+      }
+      this.threadCaches.clear();
+      resources.close();
+    }
+  }
+
+  private record ThreadCache(
+    Thread thread,
+    VulkanPipelineCacheType cache)
+  {
+
+  }
+}
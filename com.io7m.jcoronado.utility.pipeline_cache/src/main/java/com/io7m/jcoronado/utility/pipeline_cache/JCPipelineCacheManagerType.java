@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.pipeline_cache;
+
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanPipelineCacheType;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * <p>A manager for a pipeline cache that is persisted to disk.</p>
+ *
+ * <p>The cache is loaded once when the manager is created. The cache file is
+ * memory-mapped for the duration of the load, checked for truncation and corruption, and the Vulkan
+ * pipeline cache header is checked against the vendor ID, device ID, and
+ * pipeline cache UUID of the device. Data that fails any check is discarded
+ * and the cache starts empty; the reason is available from
+ * {@link #loadStatus()}.</p>
+ *
+ * <p>Threads that compile pipelines concurrently should use
+ * {@link #threadCache()}, which returns a cache private to the calling
+ * thread. {@link #save()} merges all thread caches into the primary cache
+ * before writing it. Each merge destroys the caches of threads that have
+ * terminated, and a thread can destroy its own cache early with
+ * {@link #releaseThreadCache()}. Saves are atomic: data is written to a temporary file
+ * in the same directory and then renamed over the cache file, so a crash
+ * during a save never leaves a partially-written cache file behind. Saves
+ * are skipped entirely if the cache contents have not changed since they
+ * were last loaded or saved.</p>
+ *
+ * <p>Vulkan requires that the destination of a merge is externally
+ * synchronized, so pipelines must not be created with {@link #cache()}
+ * while {@link #merge()} or {@link #save()} is in progress.</p>
+ */
+
+public interface JCPipelineCacheManagerType
+  extends AutoCloseable
+{
+  /**
+   * @return The file used to persist the cache
+   */
+
+  Path file();
+
+  /**
+   * @return The result of loading the cache file
+   */
+
+  JCPipelineCacheLoadStatus loadStatus();
+
+  /**
+   * @return The primary pipeline cache
+   */
+
+  VulkanPipelineCacheType cache();
+
+  /**
+   * Retrieve the pipeline cache private to the calling thread, creating it
+   * if necessary. The contents of the cache are merged into the primary
+   * cache on each {@link #save()}.
+   *
+   * @return The pipeline cache for the current thread
+   *
+   * @throws VulkanException On errors
+   */
+
+  VulkanPipelineCacheType threadCache()
+    throws VulkanException;
+
+  /**
+   * Merge the pipeline cache private to the calling thread, if any, into
+   * the primary cache and destroy it. A subsequent call to
+   * {@link #threadCache()} on the same thread creates a new cache. Threads
+   * that are about to stop using the manager, such as pooled threads that
+   * are being retired, should call this method.
+   *
+   * @throws VulkanException On errors
+   */
+
+  void releaseThreadCache()
+    throws VulkanException;
+
+  /**
+   * Merge all thread caches into the primary cache without writing it.
+   * The caches of threads that have terminated are destroyed.
+   *
+   * @throws VulkanException On errors
+   */
+
+  void merge()
+    throws VulkanException;
+
+  /**
+   * Merge all thread caches into the primary cache, and write the primary
+   * cache to disk if its contents have changed since the last load or save.
+   *
+   * @return {@code true} if the cache file was written
+   *
+   * @throws VulkanException On errors
+   * @throws IOException     On I/O errors
+   */
+
+  boolean save()
+    throws VulkanException, IOException;
+
+  @Override
+  void close()
+    throws VulkanException;
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.pipeline_cache;
+
+import com.io7m.jcoronado.api.VulkanComputePipelineCreateInfo;
+import com.io7m.jcoronado.api.VulkanDestroyedException;
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanGraphicsPipelineCreateInfo;
+import com.io7m.jcoronado.api.VulkanHandleType;
+import com.io7m.jcoronado.api.VulkanLogicalDeviceType;
+import com.io7m.jcoronado.api.VulkanPipelineCacheType;
+import com.io7m.jcoronado.api.VulkanPipelineType;
+import com.io7m.jcoronado.api.VulkanResourceException;
+import com.io7m.jmulticlose.core.CloseableCollection;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The default implementation of the {@link JCPipelineDeduplicatorType}
+ * interface.
+ */
+
+public final class JCPipelineDeduplicator
+  implements JCPipelineDeduplicatorType
+{
+  private static final ThreadLocal<JCStructuralHasher> HASHERS =
+    ThreadLocal.withInitial(JCStructuralHasher::new);
+
+  private final VulkanLogicalDeviceType device;
+  private final Optional<VulkanPipelineCacheType> pipelineCache;
+  private final JCHandleIdentifiers handles;
+  private final ConcurrentHashMap<JCDigest128, VulkanPipelineType> pipelines;
+  private final AtomicBoolean closed;
+
+  private JCPipelineDeduplicator(
+    final JCPipelineDeduplicatorConfiguration configuration)
+  {
+    Objects.requireNonNull(configuration, "configuration");
+
+    this.device =
+      configuration.device();
+    this.pipelineCache =
+      configuration.pipelineCache();
+    this.handles =
+      new JCHandleIdentifiers();
+    this.pipelines =
+      new ConcurrentHashMap<>();
+    this.closed =
+      new AtomicBoolean(false);
+  }
+
+  /**
+   * Create a pipeline deduplicator.
+   *
+   * @param configuration The configuration
+   *
+   * @return A pipeline deduplicator
+   */
+
+  public static JCPipelineDeduplicatorType create(
+    final JCPipelineDeduplicatorConfiguration configuration)
+  {
+    return new JCPipelineDeduplicator(configuration);
+  }
+
+  @Override
+  public VulkanPipelineType graphicsPipeline(
+    final VulkanGraphicsPipelineCreateInfo info)
+    throws VulkanException
+  {
+    Objects.requireNonNull(info, "info");
+    this.checkNotClosed();
+
+    final var digest =
+      JCPipelineHashing.hashGraphics(HASHERS.get(), this.handles, info);
+    final var existing = this.pipelines.get(digest);
+    if (existing != null) {
+      return existing;
+    }
+
+    return this.publish(
+      digest,
+      this.device.createGraphicsPipelines(this.pipelineCache, List.of(info))
+        .get(0)
+    );
+  }
+
+  @Override
+  public VulkanPipelineType computePipeline(
+    final VulkanComputePipelineCreateInfo info)
+    throws VulkanException
+  {
+    Objects.requireNonNull(info, "info");
+    this.checkNotClosed();
+
+    final var digest =
+      JCPipelineHashing.hashCompute(HASHERS.get(), this.handles, info);
+    final var existing = this.pipelines.get(digest);
+    if (existing != null) {
+      return existing;
+    }
+
+    return this.publish(
+      digest,
+      this.device.createComputePipelines(this.pipelineCache, List.of(info))
+        .get(0)
+    );
+  }
+
+  /**
+   * Publish a newly created pipeline. If another thread published a
+   * pipeline for the same digest first, the new pipeline is destroyed and
+   * the existing one is returned.
+   */
+
+  private VulkanPipelineType publish(
+    final JCDigest128 digest,
+    final VulkanPipelineType created)
+    throws VulkanException
+  {
+    final var raced = this.pipelines.putIfAbsent(digest, created);
+    if (raced != null) {
+      created.close();
+      return raced;
+    }
+    return created;
+  }
+
+  @Override
+  public int size()
+  {
+    return this.pipelines.size();
+  }
+
+  @Override
+  public void forget(
+    final VulkanHandleType handle)
+  {
+    this.handles.forget(handle);
+  }
+
+  private void checkNotClosed()
+    throws VulkanDestroyedException
+  {
+    if (this.closed.get()) {
+      throw new VulkanDestroyedException(
+        "Pipeline deduplicator has been closed.",
+        JCPipelineDeduplicator.class
+      );
+    }
+  }
+
+  @Override
+  public void close()
+    throws VulkanException
+  {
+    if (this.closed.compareAndSet(false, true)) {
+      final var resources =
+        CloseableCollection.create(() -> {
+          return new VulkanResourceException(
+            "One or more resources failed to close."
+          );
+        });
+
+      for (final var pipeline : this.pipelines.values()) {
+        resources.add(pipeline);
+      }
+      this.pipelines.clear();
+      resources.close();
+    }
+  }
+}
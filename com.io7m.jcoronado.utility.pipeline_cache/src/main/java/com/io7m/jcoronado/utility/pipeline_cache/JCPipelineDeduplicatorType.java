@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.pipeline_cache;
+
+import com.io7m.jcoronado.api.VulkanComputePipelineCreateInfo;
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanGraphicsPipelineCreateInfo;
+import com.io7m.jcoronado.api.VulkanHandleType;
+import com.io7m.jcoronado.api.VulkanPipelineType;
+
+/**
+ * <p>A cache that returns an existing pipeline for a create info that is
+ * structurally identical to one seen previously.</p>
+ *
+ * <p>Create infos are identified by a 128-bit structural digest computed
+ * by {@link JCPipelineHashing}, rather than by the (deep, allocating)
+ * {@code equals} and {@code hashCode} methods of the create info types, so
+ * lookups are cheap enough to perform per draw. Referenced shader modules,
+ * layouts, render passes, and pipelines are identified by
+ * {@link JCHandleIdentifiers}.</p>
+ *
+ * <p>Pipelines returned by the deduplicator are owned by it, must not be
+ * closed by callers, and are closed when the deduplicator is closed.</p>
+ */
+
+public interface JCPipelineDeduplicatorType
+  extends AutoCloseable
+{
+  /**
+   * Retrieve or create a graphics pipeline.
+   *
+   * @param info The create info
+   *
+   * @return A pipeline
+   *
+   * @throws VulkanException On errors
+   */
+
+  VulkanPipelineType graphicsPipeline(
+    VulkanGraphicsPipelineCreateInfo info)
+    throws VulkanException;
+
+  /**
+   * Retrieve or create a compute pipeline.
+   *
+   * @param info The create info
+   *
+   * @return A pipeline
+   *
+   * @throws VulkanException On errors
+   */
+
+  VulkanPipelineType computePipeline(
+    VulkanComputePipelineCreateInfo info)
+    throws VulkanException;
+
+  /**
+   * @return The number of distinct pipelines held
+   */
+
+  int size();
+
+  /**
+   * Forget the identity of a handle that is about to be destroyed. Create
+   * infos that refer to a new handle with the same raw value will not match
+   * pipelines created from the old handle.
+   *
+   * @param handle The handle
+   */
+
+  void forget(VulkanHandleType handle);
+
+  @Override
+  void close()
+    throws VulkanException;
+}
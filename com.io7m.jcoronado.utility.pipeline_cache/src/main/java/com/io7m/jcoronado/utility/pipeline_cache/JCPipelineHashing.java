@@ -0,0 +1,402 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.pipeline_cache;
+
+import com.io7m.jcoronado.api.VulkanComputePipelineCreateInfo;
+import com.io7m.jcoronado.api.VulkanGraphicsPipelineCreateInfo;
+import com.io7m.jcoronado.api.VulkanPipelineColorBlendStateCreateInfo;
+import com.io7m.jcoronado.api.VulkanPipelineDepthStencilStateCreateInfo;
+import com.io7m.jcoronado.api.VulkanPipelineMultisampleStateCreateInfo;
+import com.io7m.jcoronado.api.VulkanPipelineRasterizationStateCreateInfo;
+import com.io7m.jcoronado.api.VulkanPipelineRenderingCreateInfo;
+import com.io7m.jcoronado.api.VulkanPipelineShaderStageCreateInfo;
+import com.io7m.jcoronado.api.VulkanPipelineVertexInputStateCreateInfo;
+import com.io7m.jcoronado.api.VulkanPipelineViewportStateCreateInfo;
+import com.io7m.jcoronado.api.VulkanSpecializationMap;
+import com.io7m.jcoronado.api.VulkanStencilOpState;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * Functions to compute structural hashes of pipeline create info values.
+ * Every field that affects the created pipeline is hashed, including the
+ * handles of referenced shader modules, layouts, render passes, and
+ * pipelines.
+ */
+
+public final class JCPipelineHashing
+{
+  private static final int TAG_GRAPHICS = 0x47524150;
+  private static final int TAG_COMPUTE = 0x434f4d50;
+
+  private JCPipelineHashing()
+  {
+
+  }
+
+  /**
+   * Hash a graphics pipeline create info.
+   *
+   * @param hasher  The hasher
+   * @param handles The handle identifiers
+   * @param info    The create info
+   *
+   * @return The digest
+   */
+
+  public static JCDigest128 hashGraphics(
+    final JCStructuralHasher hasher,
+    final JCHandleIdentifiers handles,
+    final VulkanGraphicsPipelineCreateInfo info)
+  {
+    hasher.reset();
+    hasher.putInt(TAG_GRAPHICS);
+    hasher.putEnumSet(info.flags());
+
+    final var stages = info.stages();
+    hasher.putInt(stages.size());
+    for (var index = 0; index < stages.size(); ++index) {
+      hashStage(hasher, handles, stages.get(index));
+    }
+
+    hashVertexInput(hasher, info.vertexInputState());
+
+    final var assembly = info.inputAssemblyState();
+    hasher.putEnumSet(assembly.flags());
+    hasher.putEnum(assembly.topology());
+    hasher.putBoolean(assembly.primitiveRestartEnable());
+
+    final var tessellation = info.tessellationState();
+    hasher.putEnumSet(tessellation.flags());
+    hasher.putInt(tessellation.patchControlPoints());
+
+    hashViewport(hasher, info.viewportState());
+    hashRasterization(hasher, info.rasterizationState());
+    hashMultisample(hasher, info.multisampleState());
+    hashDepthStencil(hasher, info.depthStencilState());
+    hashColorBlend(hasher, info.colorBlendState());
+
+    final var dynamic = info.dynamicState();
+    hasher.putEnumSet(dynamic.flags());
+    final var dynamicStates = dynamic.dynamicStates();
+    hasher.putInt(dynamicStates.size());
+    for (var index = 0; index < dynamicStates.size(); ++index) {
+      hasher.putEnum(dynamicStates.get(index));
+    }
+
+    hasher.putLong(handles.identify(info.layout()));
+    final var renderPass = info.renderPass();
+    if (renderPass.isPresent()) {
+      hasher.putBoolean(true);
+      hasher.putLong(handles.identify(renderPass.get()));
+    } else {
+      hasher.putBoolean(false);
+    }
+    hasher.putInt(info.subpass());
+
+    final var basePipeline = info.basePipeline();
+    if (basePipeline.isPresent()) {
+      hasher.putBoolean(true);
+      hasher.putLong(handles.identify(basePipeline.get()));
+    } else {
+      hasher.putBoolean(false);
+    }
+    hashOptionalInt(hasher, info.basePipelineIndex());
+    hashRendering(hasher, info.renderingCreateInfo());
+
+    hasher.putEnumSet(info.libraryFlags());
+    final var libraries = info.libraries();
+    hasher.putInt(libraries.size());
+    for (var index = 0; index < libraries.size(); ++index) {
+      hasher.putLong(handles.identify(libraries.get(index)));
+    }
+    return hasher.digest();
+  }
+
+  /**
+   * Hash a compute pipeline create info.
+   *
+   * @param hasher  The hasher
+   * @param handles The handle identifiers
+   * @param info    The create info
+   *
+   * @return The digest
+   */
+
+  public static JCDigest128 hashCompute(
+    final JCStructuralHasher hasher,
+    final JCHandleIdentifiers handles,
+    final VulkanComputePipelineCreateInfo info)
+  {
+    hasher.reset();
+    hasher.putInt(TAG_COMPUTE);
+    hasher.putEnumSet(info.flags());
+    hashStage(hasher, handles, info.stage());
+    hasher.putLong(handles.identify(info.layout()));
+
+    final var basePipeline = info.basePipeline();
+    if (basePipeline.isPresent()) {
+      hasher.putBoolean(true);
+      hasher.putLong(handles.identify(basePipeline.get()));
+    } else {
+      hasher.putBoolean(false);
+    }
+    hashOptionalInt(hasher, info.basePipelineIndex());
+    return hasher.digest();
+  }
+
+  private static void hashOptionalInt(
+    final JCStructuralHasher hasher,
+    final OptionalInt value)
+  {
+    if (value.isPresent()) {
+      hasher.putBoolean(true);
+      hasher.putInt(value.getAsInt());
+    } else {
+      hasher.putBoolean(false);
+    }
+  }
+
+  private static void hashStage(
+    final JCStructuralHasher hasher,
+    final JCHandleIdentifiers handles,
+    final VulkanPipelineShaderStageCreateInfo stage)
+  {
+    hasher.putEnumSet(stage.flags());
+    hasher.putEnum(stage.stage());
+
+    final var module = stage.module();
+    if (module.isPresent()) {
+      hasher.putBoolean(true);
+      hasher.putLong(handles.identify(module.get()));
+    } else {
+      hasher.putBoolean(false);
+      hasher.putBytes(stage.moduleIdentifier().orElseThrow().data());
+    }
+
+    hasher.putString(stage.shaderEntryPoint());
+
+    final var specialization = stage.specializationInfo();
+    if (specialization.isPresent()) {
+      hasher.putBoolean(true);
+      hashSpecialization(hasher, specialization.get());
+    } else {
+      hasher.putBoolean(false);
+    }
+  }
+
+  private static void hashSpecialization(
+    final JCStructuralHasher hasher,
+    final VulkanSpecializationMap map)
+  {
+    final var entries = map.entries();
+    hasher.putInt(entries.size());
+    for (var index = 0; index < entries.size(); ++index) {
+      final var entry = entries.get(index);
+      hasher.putInt(entry.constantID());
+      hasher.putLong(entry.offset());
+      hasher.putLong(entry.size());
+    }
+    hasher.putBytes(map.data());
+  }
+
+  private static void hashVertexInput(
+    final JCStructuralHasher hasher,
+    final VulkanPipelineVertexInputStateCreateInfo state)
+  {
+    hasher.putEnumSet(state.flags());
+
+    final var bindings = state.vertexBindingDescriptions();
+    hasher.putInt(bindings.size());
+    for (var index = 0; index < bindings.size(); ++index) {
+      final var binding = bindings.get(index);
+      hasher.putInt(binding.binding());
+      hasher.putInt(binding.stride());
+      hasher.putEnum(binding.inputRate());
+    }
+
+    final var attributes = state.vertexAttributeDescriptions();
+    hasher.putInt(attributes.size());
+    for (var index = 0; index < attributes.size(); ++index) {
+      final var attribute = attributes.get(index);
+      hasher.putInt(attribute.location());
+      hasher.putInt(attribute.binding());
+      hasher.putEnum(attribute.format());
+      hasher.putInt(attribute.offset());
+    }
+  }
+
+  private static void hashViewport(
+    final JCStructuralHasher hasher,
+    final VulkanPipelineViewportStateCreateInfo state)
+  {
+    hasher.putEnumSet(state.flags());
+
+    final var viewports = state.viewports();
+    hasher.putInt(viewports.size());
+    for (var index = 0; index < viewports.size(); ++index) {
+      final var viewport = viewports.get(index);
+      hasher.putFloat(viewport.x());
+      hasher.putFloat(viewport.y());
+      hasher.putFloat(viewport.width());
+      hasher.putFloat(viewport.height());
+      hasher.putFloat(viewport.minDepth());
+      hasher.putFloat(viewport.maxDepth());
+    }
+
+    final var scissors = state.scissors();
+    hasher.putInt(scissors.size());
+    for (var index = 0; index < scissors.size(); ++index) {
+      final var scissor = scissors.get(index);
+      hasher.putInt(scissor.offset().x());
+      hasher.putInt(scissor.offset().y());
+      hasher.putInt(scissor.extent().width());
+      hasher.putInt(scissor.extent().height());
+    }
+  }
+
+  private static void hashRasterization(
+    final JCStructuralHasher hasher,
+    final VulkanPipelineRasterizationStateCreateInfo state)
+  {
+    hasher.putEnumSet(state.flags());
+    hasher.putBoolean(state.depthClampEnable());
+    hasher.putBoolean(state.rasterizerDiscardEnable());
+    hasher.putEnum(state.polygonMode());
+    hasher.putEnumSet(state.cullMode());
+    hasher.putEnum(state.frontFace());
+    hasher.putBoolean(state.depthBiasEnable());
+    hasher.putFloat(state.depthBiasConstantFactor());
+    hasher.putFloat(state.depthBiasClamp());
+    hasher.putFloat(state.depthBiasSlopeFactor());
+    hasher.putFloat(state.lineWidth());
+  }
+
+  private static void hashMultisample(
+    final JCStructuralHasher hasher,
+    final VulkanPipelineMultisampleStateCreateInfo state)
+  {
+    hasher.putEnumSet(state.flags());
+    hasher.putEnum(state.rasterizationSamples());
+    hasher.putBoolean(state.sampleShadingEnable());
+    hasher.putFloat(state.minSampleShading());
+
+    final var sampleMask = state.sampleMask();
+    if (sampleMask.isPresent()) {
+      final var mask = sampleMask.get();
+      hasher.putInt(mask.length);
+      for (final var word : mask) {
+        hasher.putInt(word);
+      }
+    } else {
+      hasher.putInt(-1);
+    }
+
+    hasher.putBoolean(state.alphaToCoverageEnable());
+    hasher.putBoolean(state.alphaToOneEnable());
+  }
+
+  private static void hashStencilOp(
+    final JCStructuralHasher hasher,
+    final VulkanStencilOpState state)
+  {
+    hasher.putEnum(state.failOp());
+    hasher.putEnum(state.passOp());
+    hasher.putEnum(state.depthFailOp());
+    hasher.putEnum(state.compareOp());
+    hasher.putInt(state.compareMask());
+    hasher.putInt(state.writeMask());
+    hasher.putInt(state.reference());
+  }
+
+  private static void hashDepthStencil(
+    final JCStructuralHasher hasher,
+    final VulkanPipelineDepthStencilStateCreateInfo state)
+  {
+    hasher.putEnumSet(state.flags());
+    hasher.putBoolean(state.depthTestEnable());
+    hasher.putBoolean(state.depthWriteEnable());
+    hasher.putEnum(state.depthCompareOp());
+    hasher.putBoolean(state.depthBoundsTestEnable());
+    hasher.putBoolean(state.stencilTestEnable());
+    hashStencilOp(hasher, state.front());
+    hashStencilOp(hasher, state.back());
+    hasher.putFloat(state.minDepthBounds());
+    hasher.putFloat(state.maxDepthBounds());
+  }
+
+  private static void hashColorBlend(
+    final JCStructuralHasher hasher,
+    final VulkanPipelineColorBlendStateCreateInfo state)
+  {
+    final var logicOp = state.logicOp();
+    if (logicOp.isPresent()) {
+      hasher.putBoolean(true);
+      hasher.putEnum(logicOp.get());
+    } else {
+      hasher.putBoolean(false);
+    }
+    hasher.putEnumSet(state.flags());
+
+    final var attachments = state.attachments();
+    hasher.putInt(attachments.size());
+    for (var index = 0; index < attachments.size(); ++index) {
+      final var attachment = attachments.get(index);
+      hasher.putBoolean(attachment.enable());
+      hasher.putEnum(attachment.srcColorBlendFactor());
+      hasher.putEnum(attachment.dstColorBlendFactor());
+      hasher.putEnum(attachment.colorBlendOp());
+      hasher.putEnum(attachment.srcAlphaBlendFactor());
+      hasher.putEnum(attachment.dstAlphaBlendFactor());
+      hasher.putEnum(attachment.alphaBlendOp());
+      hasher.putEnumSet(attachment.colorWriteMask());
+    }
+
+    final var constants = state.blendConstants();
+    hasher.putFloat(constants.r());
+    hasher.putFloat(constants.g());
+    hasher.putFloat(constants.b());
+    hasher.putFloat(constants.a());
+  }
+
+  private static void hashRendering(
+    final JCStructuralHasher hasher,
+    final Optional<VulkanPipelineRenderingCreateInfo> rendering)
+  {
+    if (rendering.isEmpty()) {
+      hasher.putBoolean(false);
+      return;
+    }
+
+    final var info = rendering.get();
+    hasher.putBoolean(true);
+
+    final var formats = info.colorAttachmentFormats();
+    hasher.putInt(formats.size());
+    for (var index = 0; index < formats.size(); ++index) {
+      hasher.putEnum(formats.get(index));
+    }
+
+    final var depth = info.depthAttachmentFormat();
+    hasher.putInt(depth.isPresent() ? depth.get().ordinal() : -1);
+    final var stencil = info.stencilAttachmentFormat();
+    hasher.putInt(stencil.isPresent() ? stencil.get().ordinal() : -1);
+    hasher.putLong(info.viewMask());
+  }
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.pipeline_cache;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Set;
+
+/**
+ * <p>An incremental 128-bit hasher for structural hashing of create info
+ * values.</p>
+ *
+ * <p>Values are fed to the hasher one field at a time, and the hasher
+ * performs no allocation while doing so. The mixing function is that of
+ * 128-bit MurmurHash3 applied to a stream of 64-bit words. Digests are
+ * stable for a given sequence of inputs within a single process; enum
+ * constants are hashed by ordinal, so digests must not be persisted.</p>
+ *
+ * <p>Hashers are not thread-safe, but may be reused indefinitely by
+ * calling {@link #reset()}.</p>
+ */
+
+public final class JCStructuralHasher
+{
+  private static final long C1 = 0x87c37b91114253d5L;
+  private static final long C2 = 0x4cf5ad432745937fL;
+  private static final VarHandle BYTES_AS_LONGS =
+    MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+  private long h1;
+  private long h2;
+  private long length;
+
+  /**
+   * Create a hasher.
+   */
+
+  public JCStructuralHasher()
+  {
+    this.reset();
+  }
+
+  private static long fmix64(
+    final long k)
+  {
+    var x = k;
+    x ^= x >>> 33;
+    x *= 0xff51afd7ed558ccdL;
+    x ^= x >>> 33;
+    x *= 0xc4ceb9fe1a85ec53L;
+    x ^= x >>> 33;
+    return x;
+  }
+
+  /**
+   * Reset the hasher to its initial state.
+   *
+   * @return this
+   */
+
+  public JCStructuralHasher reset()
+  {
+    this.h1 = 0L;
+    this.h2 = 0L;
+    this.length = 0L;
+    return this;
+  }
+
+  /**
+   * Feed a long value to the hasher.
+   *
+   * @param value The value
+   *
+   * @return this
+   */
+
+  public JCStructuralHasher putLong(
+    final long value)
+  {
+    var k1 = value * C1;
+    k1 = Long.rotateLeft(k1, 31);
+    k1 *= C2;
+    this.h1 ^= k1;
+    this.h1 = Long.rotateLeft(this.h1, 27);
+    this.h1 += this.h2;
+    this.h1 = this.h1 * 5L + 0x52dce729L;
+
+    var k2 = value * C2;
+    k2 = Long.rotateLeft(k2, 33);
+    k2 *= C1;
+    this.h2 ^= k2;
+    this.h2 = Long.rotateLeft(this.h2, 31);
+    this.h2 += this.h1;
+    this.h2 = this.h2 * 5L + 0x38495ab5L;
+
+    this.length += 8L;
+    return this;
+  }
+
+  /**
+   * Feed an integer value to the hasher.
+   *
+   * @param value The value
+   *
+   * @return this
+   */
+
+  public JCStructuralHasher putInt(
+    final int value)
+  {
+    return this.putLong(Integer.toUnsignedLong(value));
+  }
+
+  /**
+   * Feed a boolean value to the hasher.
+   *
+   * @param value The value
+   *
+   * @return this
+   */
+
+  public JCStructuralHasher putBoolean(
+    final boolean value)
+  {
+    return this.putLong(value ? 1L : 0L);
+  }
+
+  /**
+   * Feed a float value to the hasher. All NaN values hash identically.
+   *
+   * @param value The value
+   *
+   * @return this
+   */
+
+  public JCStructuralHasher putFloat(
+    final float value)
+  {
+    return this.putInt(Float.floatToIntBits(value));
+  }
+
+  /**
+   * Feed an enum constant to the hasher.
+   *
+   * @param value The value
+   *
+   * @return this
+   */
+
+  public JCStructuralHasher putEnum(
+    final Enum<?> value)
+  {
+    return this.putInt(value.ordinal());
+  }
+
+  /**
+   * Feed a set of enum constants to the hasher. The result does not depend
+   * on the iteration order of the set.
+   *
+   * @param values The values
+   *
+   * @return this
+   */
+
+  public JCStructuralHasher putEnumSet(
+    final Set<? extends Enum<?>> values)
+  {
+    var mask = 0L;
+    var extra = 0L;
+    for (final var value : values) {
+      final var ordinal = value.ordinal();
+      if (ordinal < 64) {
+        mask |= 1L << ordinal;
+      } else {
+        extra += fmix64(ordinal);
+      }
+    }
+    return this.putLong(mask)
+      .putLong(extra)
+      .putInt(values.size());
+  }
+
+  /**
+   * Feed a string to the hasher.
+   *
+   * @param value The value
+   *
+   * @return this
+   */
+
+  public JCStructuralHasher putString(
+    final String value)
+  {
+    final var size = value.length();
+    this.putInt(size);
+
+    var index = 0;
+    for (; index + 4 <= size; index += 4) {
+      this.putLong(
+        ((long) value.charAt(index) << 48)
+        | ((long) value.charAt(index + 1) << 32)
+        | ((long) value.charAt(index + 2) << 16)
+        | (long) value.charAt(index + 3)
+      );
+    }
+    for (; index < size; ++index) {
+      this.putInt(value.charAt(index));
+    }
+    return this;
+  }
+
+  /**
+   * Feed the remaining bytes of the given buffer to the hasher. The
+   * position, limit, and byte order of the buffer are not modified, and so
+   * the buffer may be shared between threads. Words are read in the
+   * buffer's byte order, so identical bytes in buffers of differing byte
+   * order will not hash identically.
+   *
+   * @param data The data
+   *
+   * @return this
+   */
+
+  public JCStructuralHasher putBytes(
+    final ByteBuffer data)
+  {
+    final var start = data.position();
+    final var end = data.limit();
+    this.putInt(end - start);
+
+    var index = start;
+    for (; index + 8 <= end; index += 8) {
+      this.putLong(data.getLong(index));
+    }
+    for (; index < end; ++index) {
+      this.putInt(data.get(index));
+    }
+    return this;
+  }
+
+  /**
+   * Feed the given bytes to the hasher. Words are read in big-endian order,
+   * so an array hashes identically to a big-endian buffer holding the same
+   * bytes.
+   *
+   * @param data The data
+   *
+   * @return this
+   *
+   * @see #putBytes(ByteBuffer)
+   */
+
+  public JCStructuralHasher putBytes(
+    final byte[] data)
+  {
+    final var end = data.length;
+    this.putInt(end);
+
+    var index = 0;
+    for (; index + 8 <= end; index += 8) {
+      this.putLong((long) BYTES_AS_LONGS.get(data, index));
+    }
+    for (; index < end; ++index) {
+      this.putInt(data[index]);
+    }
+    return this;
+  }
+
+  /**
+   * @return The digest of all values fed to the hasher since it was
+   * created or reset
+   */
+
+  public JCDigest128 digest()
+  {
+    var x1 = this.h1 ^ this.length;
+    var x2 = this.h2 ^ this.length;
+    x1 += x2;
+    x2 += x1;
+    x1 = fmix64(x1);
+    x2 = fmix64(x2);
+    x1 += x2;
+    x2 += x1;
+    return new JCDigest128(x1, x2);
+  }
+}
@@ -0,0 +1,395 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.pipeline_compiler;
+
+import com.io7m.jcoronado.api.VulkanComputePipelineCreateInfo;
+import com.io7m.jcoronado.api.VulkanDestroyedException;
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanGraphicsPipelineCreateInfo;
+import com.io7m.jcoronado.api.VulkanLogicalDeviceType;
+import com.io7m.jcoronado.api.VulkanPipelineCacheType;
+import com.io7m.jcoronado.api.VulkanPipelineType;
+import com.io7m.jcoronado.utility.pipeline_cache.JCPipelineCacheManagerType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The default implementation of the {@link JCPipelineCompilerType}
+ * interface.
+ */
+
+public final class JCPipelineCompiler
+  implements JCPipelineCompilerType
+{
+  private static final Logger LOG =
+    LoggerFactory.getLogger(JCPipelineCompiler.class);
+
+  private final VulkanLogicalDeviceType device;
+  private final Optional<JCPipelineCacheManagerType> cacheManager;
+  private final long mergeIntervalNanos;
+  private final ThreadPoolExecutor executor;
+  private final ConcurrentHashMap<Object, Job> jobs;
+  private final AtomicLong sequence;
+  private final AtomicLong lastMerge;
+  private final AtomicBoolean closed;
+
+  private JCPipelineCompiler(
+    final JCPipelineCompilerConfiguration configuration)
+  {
+    Objects.requireNonNull(configuration, "configuration");
+
+    this.device =
+      configuration.device();
+    this.cacheManager =
+      configuration.cacheManager();
+    this.mergeIntervalNanos =
+      configuration.mergeInterval().toNanos();
+    this.jobs =
+      new ConcurrentHashMap<>();
+    this.sequence =
+      new AtomicLong(0L);
+    this.lastMerge =
+      new AtomicLong(System.nanoTime());
+    this.closed =
+      new AtomicBoolean(false);
+
+    final var workerCount = configuration.workerCount();
+    this.executor =
+      new ThreadPoolExecutor(
+        workerCount,
+        workerCount,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new PriorityBlockingQueue<>(),
+        new WorkerThreadFactory()
+      );
+  }
+
+  /**
+   * Create a pipeline compiler.
+   *
+   * @param configuration The configuration
+   *
+   * @return A pipeline compiler
+   */
+
+  public static JCPipelineCompilerType create(
+    final JCPipelineCompilerConfiguration configuration)
+  {
+    return new JCPipelineCompiler(configuration);
+  }
+
+  @Override
+  public CompletableFuture<VulkanPipelineType> compileGraphics(
+    final VulkanGraphicsPipelineCreateInfo info,
+    final int priority)
+  {
+    Objects.requireNonNull(info, "info");
+
+    return this.submit(info, priority, cache -> {
+      return this.device.createGraphicsPipelines(cache, List.of(info))
+        .get(0);
+    });
+  }
+
+  @Override
+  public CompletableFuture<VulkanPipelineType> compileCompute(
+    final VulkanComputePipelineCreateInfo info,
+    final int priority)
+  {
+    Objects.requireNonNull(info, "info");
+
+    return this.submit(info, priority, cache -> {
+      return this.device.createComputePipelines(cache, List.of(info))
+        .get(0);
+    });
+  }
+
+  @Override
+  public int inFlight()
+  {
+    return this.jobs.size();
+  }
+
+  private CompletableFuture<VulkanPipelineType> submit(
+    final Object key,
+    final int priority,
+    final CompilationType compilation)
+  {
+    if (this.closed.get()) {
+      return CompletableFuture.failedFuture(
+        new VulkanDestroyedException(
+          "Pipeline compiler has been closed.",
+          JCPipelineCompiler.class
+        )
+      );
+    }
+
+    final var created = new Job(key, compilation, priority);
+    final var existing = this.jobs.putIfAbsent(key, created);
+    if (existing != null) {
+      if (existing.promote(priority)) {
+        this.enqueue(existing, priority);
+      }
+      return existing.future.copy();
+    }
+
+    this.enqueue(created, priority);
+    return created.future.copy();
+  }
+
+  private void enqueue(
+    final Job job,
+    final int priority)
+  {
+    try {
+      this.executor.execute(
+        new Task(job, priority, this.sequence.getAndIncrement())
+      );
+    } catch (final RejectedExecutionException e) {
+      this.cancel(job);
+    }
+  }
+
+  private void cancel(
+    final Job job)
+  {
+    if (job.claimed.compareAndSet(false, true)) {
+      this.jobs.remove(job.key, job);
+      job.future.completeExceptionally(
+        new CancellationException("Pipeline compiler has been closed.")
+      );
+    }
+  }
+
+  private void compile(
+    final Job job)
+  {
+    try {
+      final var pipeline = job.compilation.compile(this.workerCache());
+      this.jobs.remove(job.key, job);
+      job.future.complete(pipeline);
+    } catch (final VulkanException e) {
+      this.jobs.remove(job.key, job);
+      job.future.completeExceptionally(e);
+    } catch (final RuntimeException e) {
+      LOG.error("Pipeline compilation raised an unexpected exception: ", e);
+      this.jobs.remove(job.key, job);
+      job.future.completeExceptionally(e);
+    }
+
+    this.mergeIfDue();
+  }
+
+  private Optional<VulkanPipelineCacheType> workerCache()
+    throws VulkanException
+  {
+    if (this.cacheManager.isPresent()) {
+      return Optional.of(this.cacheManager.get().threadCache());
+    }
+    return Optional.empty();
+  }
+
+  private void mergeIfDue()
+  {
+    if (this.cacheManager.isEmpty()) {
+      return;
+    }
+
+    final var now = System.nanoTime();
+    final var last = this.lastMerge.get();
+    if (now - last < this.mergeIntervalNanos) {
+      return;
+    }
+    if (!this.lastMerge.compareAndSet(last, now)) {
+      return;
+    }
+
+    try {
+      this.cacheManager.get().merge();
+    } catch (final VulkanException e) {
+      LOG.error("Failed to merge pipeline caches: ", e);
+    }
+  }
+
+  @Override
+  public void close()
+  {
+    if (this.closed.compareAndSet(false, true)) {
+      this.executor.shutdown();
+
+      final var pending = new ArrayList<Runnable>();
+      this.executor.getQueue().drainTo(pending);
+      for (final var runnable : pending) {
+        this.cancel(((Task) runnable).job);
+      }
+
+      var interrupted = false;
+      while (true) {
+        try {
+          if (this.executor.awaitTermination(1L, TimeUnit.SECONDS)) {
+            break;
+          }
+        } catch (final InterruptedException e) {
+          interrupted = true;
+        }
+      }
+
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private interface CompilationType
+  {
+    VulkanPipelineType compile(
+      Optional<VulkanPipelineCacheType> cache)
+      throws VulkanException;
+  }
+
+  private static final class Job
+  {
+    private final Object key;
+    private final CompilationType compilation;
+    private final CompletableFuture<VulkanPipelineType> future;
+    private final AtomicBoolean claimed;
+    private final AtomicInteger priority;
+
+    Job(
+      final Object inKey,
+      final CompilationType inCompilation,
+      final int inPriority)
+    {
+      this.key =
+        Objects.requireNonNull(inKey, "key");
+      this.compilation =
+        Objects.requireNonNull(inCompilation, "compilation");
+      this.future =
+        new CompletableFuture<>();
+      this.claimed =
+        new AtomicBoolean(false);
+      this.priority =
+        new AtomicInteger(inPriority);
+    }
+
+    /**
+     * Raise the priority of the job if it has not yet started.
+     *
+     * @return {@code true} if the priority was raised
+     */
+
+    boolean promote(
+      final int newPriority)
+    {
+      while (!this.claimed.get()) {
+        final var current = this.priority.get();
+        if (newPriority <= current) {
+          return false;
+        }
+        if (this.priority.compareAndSet(current, newPriority)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  /**
+   * A queued reference to a job. A job may be queued more than once if it
+   * is promoted; the first task to claim the job compiles it, and the
+   * others do nothing.
+   */
+
+  private final class Task
+    implements Runnable, Comparable<Task>
+  {
+    private final Job job;
+    private final int priority;
+    private final long sequence;
+
+    Task(
+      final Job inJob,
+      final int inPriority,
+      final long inSequence)
+    {
+      this.job = inJob;
+      this.priority = inPriority;
+      this.sequence = inSequence;
+    }
+
+    @Override
+    public void run()
+    {
+      if (this.job.claimed.compareAndSet(false, true)) {
+        JCPipelineCompiler.this.compile(this.job);
+      }
+    }
+
+    @Override
+    public int compareTo(
+      final Task other)
+    {
+      final var byPriority = Integer.compare(other.priority, this.priority);
+      if (byPriority != 0) {
+        return byPriority;
+      }
+      return Long.compare(this.sequence, other.sequence);
+    }
+  }
+
+  private static final class WorkerThreadFactory
+    implements ThreadFactory
+  {
+    private final AtomicInteger index;
+
+    WorkerThreadFactory()
+    {
+      this.index = new AtomicInteger(0);
+    }
+
+    @Override
+    public Thread newThread(
+      final Runnable runnable)
+    {
+      final var thread = new Thread(runnable);
+      thread.setName(
+        "com.io7m.jcoronado.pipeline_compiler[%d]"
+          .formatted(Integer.valueOf(this.index.getAndIncrement()))
+      );
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
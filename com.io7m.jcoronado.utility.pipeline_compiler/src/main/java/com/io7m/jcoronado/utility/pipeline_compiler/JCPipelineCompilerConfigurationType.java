@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.pipeline_compiler;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import com.io7m.jcoronado.api.VulkanLogicalDeviceType;
+import com.io7m.jcoronado.utility.pipeline_cache.JCPipelineCacheManagerType;
+import org.immutables.value.Value;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * The configuration values required to create a pipeline compiler.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface JCPipelineCompilerConfigurationType
+{
+  /**
+   * @return The logical device
+   */
+
+  VulkanLogicalDeviceType device();
+
+  /**
+   * The pipeline cache manager. If present, each worker compiles using its
+   * own thread cache, and the thread caches are merged into the primary
+   * cache at most once every {@link #mergeInterval()}. If absent, pipelines
+   * are compiled without a cache.
+   *
+   * @return The pipeline cache manager
+   */
+
+  Optional<JCPipelineCacheManagerType> cacheManager();
+
+  /**
+   * @return The number of worker threads
+   */
+
+  @Value.Default
+  default int workerCount()
+  {
+    return Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+  }
+
+  /**
+   * @return The minimum time between merges of worker caches
+   */
+
+  @Value.Default
+  default Duration mergeInterval()
+  {
+    return Duration.ofSeconds(5L);
+  }
+
+  /**
+   * Check preconditions for the type.
+   */
+
+  @Value.Check
+  default void checkPreconditions()
+  {
+    if (this.workerCount() < 1) {
+      throw new IllegalArgumentException(
+        "Worker count %d must be positive".formatted(
+          Integer.valueOf(this.workerCount()))
+      );
+    }
+    if (this.mergeInterval().isNegative()) {
+      throw new IllegalArgumentException(
+        "Merge interval %s must be non-negative".formatted(
+          this.mergeInterval())
+      );
+    }
+  }
+}
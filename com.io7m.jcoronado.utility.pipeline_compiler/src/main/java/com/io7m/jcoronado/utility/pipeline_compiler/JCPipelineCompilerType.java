@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.pipeline_compiler;
+
+import com.io7m.jcoronado.api.VulkanComputePipelineCreateInfo;
+import com.io7m.jcoronado.api.VulkanGraphicsPipelineCreateInfo;
+import com.io7m.jcoronado.api.VulkanPipelineType;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>A service that compiles pipelines asynchronously on a bounded pool of
+ * worker threads.</p>
+ *
+ * <p>Requests are started in order of descending priority, and in
+ * submission order for equal priorities. A request that is equal to a
+ * request that is still queued or compiling is coalesced with it: no
+ * further compilation is performed, and both callers receive the same
+ * pipeline. If the later request has a higher priority, the shared
+ * compilation is promoted to that priority. Callers that receive the same
+ * pipeline must agree on which of them closes it.</p>
+ *
+ * <p>Failed compilations complete the returned future exceptionally with a
+ * {@link com.io7m.jcoronado.api.VulkanException}. Cancelling a returned
+ * future does not cancel the underlying compilation.</p>
+ */
+
+public interface JCPipelineCompilerType
+  extends AutoCloseable
+{
+  /**
+   * Compile a graphics pipeline.
+   *
+   * @param info     The pipeline creation info
+   * @param priority The priority; higher values are compiled first
+   *
+   * @return The pipeline, when compiled
+   */
+
+  CompletableFuture<VulkanPipelineType> compileGraphics(
+    VulkanGraphicsPipelineCreateInfo info,
+    int priority);
+
+  /**
+   * Compile a compute pipeline.
+   *
+   * @param info     The pipeline creation info
+   * @param priority The priority; higher values are compiled first
+   *
+   * @return The pipeline, when compiled
+   */
+
+  CompletableFuture<VulkanPipelineType> compileCompute(
+    VulkanComputePipelineCreateInfo info,
+    int priority);
+
+  /**
+   * @return The number of distinct requests that are queued or compiling
+   */
+
+  int inFlight();
+
+  /**
+   * Stop accepting requests, fail all queued requests with a
+   * {@link java.util.concurrent.CancellationException}, and wait for
+   * compilations that have already started to finish.
+   */
+
+  @Override
+  void close();
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.rendergraph;
+
+import com.io7m.jcoronado.api.VulkanAccessFlag;
+import com.io7m.jcoronado.api.VulkanImageLayout;
+import com.io7m.jcoronado.api.VulkanPipelineStageFlag;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A barrier derived by the graph compiler.
+ *
+ * @param resource   The resource
+ * @param resourceId The resource ID
+ * @param srcStages  The source stages
+ * @param srcAccess  The source access
+ * @param dstStages  The destination stages
+ * @param dstAccess  The destination access
+ * @param oldLayout  The old image layout (ignored for buffers)
+ * @param newLayout  The new image layout (ignored for buffers)
+ */
+
+record JCRGBarrier(
+  JCRGResourceType resource,
+  int resourceId,
+  Set<VulkanPipelineStageFlag> srcStages,
+  Set<VulkanAccessFlag> srcAccess,
+  Set<VulkanPipelineStageFlag> dstStages,
+  Set<VulkanAccessFlag> dstAccess,
+  VulkanImageLayout oldLayout,
+  VulkanImageLayout newLayout)
+{
+  JCRGBarrier
+  {
+    Objects.requireNonNull(resource, "resource");
+    srcStages = Set.copyOf(srcStages);
+    srcAccess = Set.copyOf(srcAccess);
+    dstStages = Set.copyOf(dstStages);
+    dstAccess = Set.copyOf(dstAccess);
+    Objects.requireNonNull(oldLayout, "oldLayout");
+    Objects.requireNonNull(newLayout, "newLayout");
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.rendergraph;
+
+import com.io7m.jcoronado.api.VulkanBufferCreateInfo;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A buffer declared in a render graph.
+ */
+
+public final class JCRGBuffer implements JCRGResourceType
+{
+  private final Object owner;
+  private final int id;
+  private final String name;
+  private final Optional<VulkanBufferCreateInfo> createInfo;
+
+  JCRGBuffer(
+    final Object inOwner,
+    final int inId,
+    final String inName,
+    final Optional<VulkanBufferCreateInfo> inCreateInfo)
+  {
+    this.owner =
+      Objects.requireNonNull(inOwner, "owner");
+    this.id = inId;
+    this.name =
+      Objects.requireNonNull(inName, "name");
+    this.createInfo =
+      Objects.requireNonNull(inCreateInfo, "createInfo");
+  }
+
+  Object owner()
+  {
+    return this.owner;
+  }
+
+  int id()
+  {
+    return this.id;
+  }
+
+  @Override
+  public String name()
+  {
+    return this.name;
+  }
+
+  @Override
+  public boolean isImported()
+  {
+    return this.createInfo.isEmpty();
+  }
+
+  /**
+   * @return The creation info for transient buffers
+   */
+
+  public Optional<VulkanBufferCreateInfo> createInfo()
+  {
+    return this.createInfo;
+  }
+
+  @Override
+  public String toString()
+  {
+    return "[JCRGBuffer %s]".formatted(this.name);
+  }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.rendergraph;
+
+import com.io7m.jcoronado.api.VulkanAccessFlag;
+import com.io7m.jcoronado.api.VulkanPipelineStageFlag;
+
+import java.util.Set;
+
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_INDEX_READ_BIT;
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_INDIRECT_COMMAND_READ_BIT;
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_SHADER_STORAGE_READ_BIT;
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_SHADER_STORAGE_WRITE_BIT;
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_TRANSFER_READ_BIT;
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_TRANSFER_WRITE_BIT;
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_UNIFORM_READ_BIT;
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_VERTEX_ATTRIBUTE_READ_BIT;
+import static com.io7m.jcoronado.api.VulkanPipelineStageFlag.VK_PIPELINE_STAGE_COMPUTE_SHADER_BIT;
+import static com.io7m.jcoronado.api.VulkanPipelineStageFlag.VK_PIPELINE_STAGE_DRAW_INDIRECT_BIT;
+import static com.io7m.jcoronado.api.VulkanPipelineStageFlag.VK_PIPELINE_STAGE_FRAGMENT_SHADER_BIT;
+import static com.io7m.jcoronado.api.VulkanPipelineStageFlag.VK_PIPELINE_STAGE_INDEX_INPUT_BIT;
+import static com.io7m.jcoronado.api.VulkanPipelineStageFlag.VK_PIPELINE_STAGE_TRANSFER_BIT;
+import static com.io7m.jcoronado.api.VulkanPipelineStageFlag.VK_PIPELINE_STAGE_VERTEX_ATTRIBUTE_INPUT_BIT;
+import static com.io7m.jcoronado.api.VulkanPipelineStageFlag.VK_PIPELINE_STAGE_VERTEX_SHADER_BIT;
+
+/**
+ * The ways in which a pass may use a buffer. Each usage implies the
+ * pipeline stages and access types used to derive barriers.
+ */
+
+public enum JCRGBufferUsage
+{
+  /**
+   * The buffer is read as a vertex buffer.
+   */
+
+  VERTEX_READ(
+    Set.of(VK_PIPELINE_STAGE_VERTEX_ATTRIBUTE_INPUT_BIT),
+    Set.of(VK_ACCESS_VERTEX_ATTRIBUTE_READ_BIT),
+    false
+  ),
+
+  /**
+   * The buffer is read as an index buffer.
+   */
+
+  INDEX_READ(
+    Set.of(VK_PIPELINE_STAGE_INDEX_INPUT_BIT),
+    Set.of(VK_ACCESS_INDEX_READ_BIT),
+    false
+  ),
+
+  /**
+   * The buffer is read as a source of indirect draw or dispatch commands.
+   */
+
+  INDIRECT_READ(
+    Set.of(VK_PIPELINE_STAGE_DRAW_INDIRECT_BIT),
+    Set.of(VK_ACCESS_INDIRECT_COMMAND_READ_BIT),
+    false
+  ),
+
+  /**
+   * The buffer is read as a uniform buffer in a vertex shader.
+   */
+
+  VERTEX_SHADER_UNIFORM_READ(
+    Set.of(VK_PIPELINE_STAGE_VERTEX_SHADER_BIT),
+    Set.of(VK_ACCESS_UNIFORM_READ_BIT),
+    false
+  ),
+
+  /**
+   * The buffer is read as a uniform buffer in a fragment shader.
+   */
+
+  FRAGMENT_SHADER_UNIFORM_READ(
+    Set.of(VK_PIPELINE_STAGE_FRAGMENT_SHADER_BIT),
+    Set.of(VK_ACCESS_UNIFORM_READ_BIT),
+    false
+  ),
+
+  /**
+   * The buffer is read as a uniform buffer in a compute shader.
+   */
+
+  COMPUTE_SHADER_UNIFORM_READ(
+    Set.of(VK_PIPELINE_STAGE_COMPUTE_SHADER_BIT),
+    Set.of(VK_ACCESS_UNIFORM_READ_BIT),
+    false
+  ),
+
+  /**
+   * The buffer is read as a storage buffer in a vertex shader.
+   */
+
+  VERTEX_SHADER_STORAGE_READ(
+    Set.of(VK_PIPELINE_STAGE_VERTEX_SHADER_BIT),
+    Set.of(VK_ACCESS_SHADER_STORAGE_READ_BIT),
+    false
+  ),
+
+  /**
+   * The buffer is read as a storage buffer in a fragment shader.
+   */
+
+  FRAGMENT_SHADER_STORAGE_READ(
+    Set.of(VK_PIPELINE_STAGE_FRAGMENT_SHADER_BIT),
+    Set.of(VK_ACCESS_SHADER_STORAGE_READ_BIT),
+    false
+  ),
+
+  /**
+   * The buffer is read and written as a storage buffer in a fragment shader.
+   */
+
+  FRAGMENT_SHADER_STORAGE_WRITE(
+    Set.of(VK_PIPELINE_STAGE_FRAGMENT_SHADER_BIT),
+    Set.of(VK_ACCESS_SHADER_STORAGE_READ_BIT, VK_ACCESS_SHADER_STORAGE_WRITE_BIT),
+    true
+  ),
+
+  /**
+   * The buffer is read as a storage buffer in a compute shader.
+   */
+
+  COMPUTE_SHADER_STORAGE_READ(
+    Set.of(VK_PIPELINE_STAGE_COMPUTE_SHADER_BIT),
+    Set.of(VK_ACCESS_SHADER_STORAGE_READ_BIT),
+    false
+  ),
+
+  /**
+   * The buffer is read and written as a storage buffer in a compute shader.
+   */
+
+  COMPUTE_SHADER_STORAGE_WRITE(
+    Set.of(VK_PIPELINE_STAGE_COMPUTE_SHADER_BIT),
+    Set.of(VK_ACCESS_SHADER_STORAGE_READ_BIT, VK_ACCESS_SHADER_STORAGE_WRITE_BIT),
+    true
+  ),
+
+  /**
+   * The buffer is the source of a transfer operation.
+   */
+
+  TRANSFER_SOURCE(
+    Set.of(VK_PIPELINE_STAGE_TRANSFER_BIT),
+    Set.of(VK_ACCESS_TRANSFER_READ_BIT),
+    false
+  ),
+
+  /**
+   * The buffer is the target of a transfer operation.
+   */
+
+  TRANSFER_TARGET(
+    Set.of(VK_PIPELINE_STAGE_TRANSFER_BIT),
+    Set.of(VK_ACCESS_TRANSFER_WRITE_BIT),
+    true
+  );
+
+  private final Set<VulkanPipelineStageFlag> stages;
+  private final Set<VulkanAccessFlag> access;
+  private final boolean write;
+
+  JCRGBufferUsage(
+    final Set<VulkanPipelineStageFlag> inStages,
+    final Set<VulkanAccessFlag> inAccess,
+    final boolean inWrite)
+  {
+    this.stages = inStages;
+    this.access = inAccess;
+    this.write = inWrite;
+  }
+
+  /**
+   * @return The pipeline stages at which the buffer is accessed
+   */
+
+  public Set<VulkanPipelineStageFlag> stages()
+  {
+    return this.stages;
+  }
+
+  /**
+   * @return The types of access performed
+   */
+
+  public Set<VulkanAccessFlag> access()
+  {
+    return this.access;
+  }
+
+  /**
+   * @return {@code true} if the usage modifies the buffer
+   */
+
+  public boolean isWrite()
+  {
+    return this.write;
+  }
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.rendergraph;
+
+import com.io7m.jcoronado.api.VulkanBufferMemoryBarrier;
+import com.io7m.jcoronado.api.VulkanBufferType;
+import com.io7m.jcoronado.api.VulkanCommandBufferType;
+import com.io7m.jcoronado.api.VulkanDependencyInfo;
+import com.io7m.jcoronado.api.VulkanDestroyedException;
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanImageMemoryBarrier;
+import com.io7m.jcoronado.api.VulkanImageType;
+import com.io7m.jcoronado.api.VulkanQueueFamilyIndex;
+import com.io7m.jcoronado.api.VulkanResourceException;
+import com.io7m.jmulticlose.core.CloseableCollectionType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A compiled render graph.
+ */
+
+final class JCRGCompiledGraph implements JCRGCompiledGraphType
+{
+  private static final long VK_WHOLE_SIZE = 0xffff_ffff_ffff_ffffL;
+
+  private final CloseableCollectionType<VulkanResourceException> resources;
+  private final List<JCRGCompiledPass> passes;
+  private final List<JCRGBarrier> finalBarriers;
+  private final List<String> passesExecuted;
+  private final List<String> passesCulled;
+  private final VulkanImageType[] images;
+  private final VulkanBufferType[] buffers;
+  private final long transientRequired;
+  private final long transientAllocated;
+  private final int barrierCount;
+  private final List<Optional<VulkanDependencyInfo>> passDependencies;
+  private Optional<VulkanDependencyInfo> finalDependencies;
+  private boolean dirty;
+  private boolean closed;
+  private final Context context;
+
+  JCRGCompiledGraph(
+    final CloseableCollectionType<VulkanResourceException> inResources,
+    final int resourceCount,
+    final List<JCRGCompiledPass> inPasses,
+    final List<JCRGBarrier> inFinalBarriers,
+    final List<String> inPassesCulled,
+    final VulkanImageType[] transientImages,
+    final VulkanBufferType[] transientBuffers,
+    final long inTransientRequired,
+    final long inTransientAllocated)
+  {
+    this.resources =
+      Objects.requireNonNull(inResources, "resources");
+    this.passes =
+      List.copyOf(inPasses);
+    this.finalBarriers =
+      List.copyOf(inFinalBarriers);
+    this.passesCulled =
+      List.copyOf(inPassesCulled);
+    this.passesExecuted =
+      this.passes.stream()
+        .map(JCRGCompiledPass::name)
+        .toList();
+    this.images =
+      new VulkanImageType[resourceCount];
+    this.buffers =
+      new VulkanBufferType[resourceCount];
+
+    System.arraycopy(transientImages, 0, this.images, 0, resourceCount);
+    System.arraycopy(transientBuffers, 0, this.buffers, 0, resourceCount);
+
+    this.transientRequired = inTransientRequired;
+    this.transientAllocated = inTransientAllocated;
+
+    var count = this.finalBarriers.isEmpty() ? 0 : 1;
+    for (final var pass : this.passes) {
+      if (!pass.barriers().isEmpty()) {
+        ++count;
+      }
+    }
+    this.barrierCount = count;
+
+    this.passDependencies =
+      new ArrayList<>(this.passes.size());
+    for (int index = 0; index < this.passes.size(); ++index) {
+      this.passDependencies.add(Optional.empty());
+    }
+    this.finalDependencies = Optional.empty();
+    this.dirty = true;
+    this.context = new Context();
+  }
+
+  @Override
+  public List<String> passesExecuted()
+  {
+    return this.passesExecuted;
+  }
+
+  @Override
+  public List<String> passesCulled()
+  {
+    return this.passesCulled;
+  }
+
+  @Override
+  public int barrierCount()
+  {
+    return this.barrierCount;
+  }
+
+  @Override
+  public long transientMemoryRequired()
+  {
+    return this.transientRequired;
+  }
+
+  @Override
+  public long transientMemoryAllocated()
+  {
+    return this.transientAllocated;
+  }
+
+  @Override
+  public void bindImage(
+    final JCRGImage image,
+    final VulkanImageType actual)
+  {
+    Objects.requireNonNull(image, "image");
+    Objects.requireNonNull(actual, "actual");
+
+    if (!image.isImported()) {
+      throw new IllegalArgumentException(
+        "Image %s is not an imported image.".formatted(image.name())
+      );
+    }
+
+    final var id = image.id();
+    if (this.images[id] != actual) {
+      this.images[id] = actual;
+      this.dirty = true;
+    }
+  }
+
+  @Override
+  public void bindBuffer(
+    final JCRGBuffer buffer,
+    final VulkanBufferType actual)
+  {
+    Objects.requireNonNull(buffer, "buffer");
+    Objects.requireNonNull(actual, "actual");
+
+    if (!buffer.isImported()) {
+      throw new IllegalArgumentException(
+        "Buffer %s is not an imported buffer.".formatted(buffer.name())
+      );
+    }
+
+    final var id = buffer.id();
+    if (this.buffers[id] != actual) {
+      this.buffers[id] = actual;
+      this.dirty = true;
+    }
+  }
+
+  private VulkanImageType imageFor(
+    final JCRGImage image)
+  {
+    final var actual = this.images[image.id()];
+    if (actual == null) {
+      throw new IllegalStateException(
+        "Imported image %s has not been bound.".formatted(image.name())
+      );
+    }
+    return actual;
+  }
+
+  private VulkanBufferType bufferFor(
+    final JCRGBuffer buffer)
+  {
+    final var actual = this.buffers[buffer.id()];
+    if (actual == null) {
+      throw new IllegalStateException(
+        "Imported buffer %s has not been bound.".formatted(buffer.name())
+      );
+    }
+    return actual;
+  }
+
+  private Optional<VulkanDependencyInfo> materialize(
+    final List<JCRGBarrier> barriers)
+  {
+    if (barriers.isEmpty()) {
+      return Optional.empty();
+    }
+
+    final var info = VulkanDependencyInfo.builder();
+    for (final var barrier : barriers) {
+      switch (barrier.resource()) {
+        case final JCRGImage image -> {
+          info.addImageMemoryBarriers(
+            VulkanImageMemoryBarrier.builder()
+              .setImage(this.imageFor(image))
+              .setSubresourceRange(image.subresourceRange())
+              .setSrcStageMask(barrier.srcStages())
+              .setSrcAccessMask(barrier.srcAccess())
+              .setDstStageMask(barrier.dstStages())
+              .setDstAccessMask(barrier.dstAccess())
+              .setOldLayout(barrier.oldLayout())
+              .setNewLayout(barrier.newLayout())
+              .setSrcQueueFamilyIndex(VulkanQueueFamilyIndex.ignored())
+              .setDstQueueFamilyIndex(VulkanQueueFamilyIndex.ignored())
+              .build()
+          );
+        }
+        case final JCRGBuffer buffer -> {
+          info.addBufferMemoryBarriers(
+            VulkanBufferMemoryBarrier.builder()
+              .setBuffer(this.bufferFor(buffer))
+              .setOffset(0L)
+              .setSize(VK_WHOLE_SIZE)
+              .setSrcStageMask(barrier.srcStages())
+              .setSrcAccessMask(barrier.srcAccess())
+              .setDstStageMask(barrier.dstStages())
+              .setDstAccessMask(barrier.dstAccess())
+              .setSrcQueueFamilyIndex(VulkanQueueFamilyIndex.ignored())
+              .setDstQueueFamilyIndex(VulkanQueueFamilyIndex.ignored())
+              .build()
+          );
+        }
+      }
+    }
+    return Optional.of(info.build());
+  }
+
+  /**
+   * Rebuild the dependency infos. This only happens after the bindings of
+   * imported resources have changed.
+   */
+
+  private void rebuild()
+  {
+    for (int index = 0; index < this.passes.size(); ++index) {
+      this.passDependencies.set(
+        index,
+        this.materialize(this.passes.get(index).barriers())
+      );
+    }
+    this.finalDependencies = this.materialize(this.finalBarriers);
+    this.dirty = false;
+  }
+
+  @Override
+  public void execute(
+    final VulkanCommandBufferType commandBuffer)
+    throws VulkanException
+  {
+    Objects.requireNonNull(commandBuffer, "commandBuffer");
+
+    if (this.closed) {
+      throw new VulkanDestroyedException(
+        "Render graph has been closed.",
+        JCRGCompiledGraph.class
+      );
+    }
+
+    if (this.dirty) {
+      this.rebuild();
+    }
+
+    this.context.commandBuffer = commandBuffer;
+    try {
+      for (int index = 0; index < this.passes.size(); ++index) {
+        final var dependencies = this.passDependencies.get(index);
+        if (dependencies.isPresent()) {
+          commandBuffer.pipelineBarrier(dependencies.get());
+        }
+        this.passes.get(index).executor().execute(this.context);
+      }
+      if (this.finalDependencies.isPresent()) {
+        commandBuffer.pipelineBarrier(this.finalDependencies.get());
+      }
+    } finally {
+      this.context.commandBuffer = null;
+    }
+  }
+
+  @Override
+  public void close()
+    throws VulkanException
+  {
+    if (!this.closed) {
+      this.closed = true;
+      this.resources.close();
+    }
+  }
+
+  private final class Context implements JCRGPassContextType
+  {
+    private VulkanCommandBufferType commandBuffer;
+
+    Context()
+    {
+
+    }
+
+    @Override
+    public VulkanCommandBufferType commandBuffer()
+    {
+      return this.commandBuffer;
+    }
+
+    @Override
+    public VulkanImageType image(
+      final JCRGImage image)
+    {
+      return JCRGCompiledGraph.this.imageFor(
+        Objects.requireNonNull(image, "image"));
+    }
+
+    @Override
+    public VulkanBufferType buffer(
+      final JCRGBuffer buffer)
+    {
+      return JCRGCompiledGraph.this.bufferFor(
+        Objects.requireNonNull(buffer, "buffer"));
+    }
+  }
+}
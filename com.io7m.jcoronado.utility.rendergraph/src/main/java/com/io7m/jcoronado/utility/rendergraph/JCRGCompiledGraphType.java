@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.rendergraph;
+
+import com.io7m.jcoronado.api.VulkanBufferType;
+import com.io7m.jcoronado.api.VulkanCommandBufferType;
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanImageType;
+
+import java.util.List;
+
+/**
+ * <p>A compiled render graph.</p>
+ *
+ * <p>A compiled graph owns all of its transient resources and the memory
+ * that backs them. Imported resources must be bound with
+ * {@link #bindImage(JCRGImage, VulkanImageType)} and
+ * {@link #bindBuffer(JCRGBuffer, VulkanBufferType)} before execution; the
+ * bindings may be changed between executions (for example, to target a
+ * different swapchain image on each frame) without recompiling the
+ * graph.</p>
+ *
+ * <p>As transient resources are shared between executions, the application
+ * must ensure that one execution of the graph has completed on the GPU
+ * before the next execution begins.</p>
+ */
+
+public interface JCRGCompiledGraphType
+  extends AutoCloseable
+{
+  /**
+   * @return The names of the passes that will be executed, in order
+   */
+
+  List<String> passesExecuted();
+
+  /**
+   * @return The names of the passes that were culled
+   */
+
+  List<String> passesCulled();
+
+  /**
+   * @return The number of pipeline barriers recorded per execution
+   */
+
+  int barrierCount();
+
+  /**
+   * @return The total size of the memory required by transient resources
+   * if no aliasing took place
+   */
+
+  long transientMemoryRequired();
+
+  /**
+   * @return The total size of the memory actually allocated for transient
+   * resources
+   */
+
+  long transientMemoryAllocated();
+
+  /**
+   * Bind an imported image.
+   *
+   * @param image  The declared image
+   * @param actual The image to which the declared image refers
+   */
+
+  void bindImage(
+    JCRGImage image,
+    VulkanImageType actual);
+
+  /**
+   * Bind an imported buffer.
+   *
+   * @param buffer The declared buffer
+   * @param actual The buffer to which the declared buffer refers
+   */
+
+  void bindBuffer(
+    JCRGBuffer buffer,
+    VulkanBufferType actual);
+
+  /**
+   * Record the graph into the given command buffer.
+   *
+   * @param commandBuffer The command buffer
+   *
+   * @throws VulkanException On errors
+   */
+
+  void execute(
+    VulkanCommandBufferType commandBuffer)
+    throws VulkanException;
+
+  @Override
+  void close()
+    throws VulkanException;
+}
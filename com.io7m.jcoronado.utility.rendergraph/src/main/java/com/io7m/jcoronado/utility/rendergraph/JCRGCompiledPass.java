@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.rendergraph;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A pass that survived culling, along with the barriers that must be
+ * recorded before it.
+ *
+ * @param name     The pass name
+ * @param executor The pass executor
+ * @param barriers The barriers
+ */
+
+record JCRGCompiledPass(
+  String name,
+  JCRGPassExecutorType executor,
+  List<JCRGBarrier> barriers)
+{
+  JCRGCompiledPass
+  {
+    Objects.requireNonNull(name, "name");
+    Objects.requireNonNull(executor, "executor");
+    barriers = List.copyOf(barriers);
+  }
+}
@@ -0,0 +1,768 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.rendergraph;
+
+import com.io7m.jcoronado.api.VulkanAccessFlag;
+import com.io7m.jcoronado.api.VulkanBufferType;
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanImageLayout;
+import com.io7m.jcoronado.api.VulkanImageTiling;
+import com.io7m.jcoronado.api.VulkanImageType;
+import com.io7m.jcoronado.api.VulkanLogicalDeviceType;
+import com.io7m.jcoronado.api.VulkanMemoryAllocateInfo;
+import com.io7m.jcoronado.api.VulkanMemoryTypeIndex;
+import com.io7m.jcoronado.api.VulkanPipelineStageFlag;
+import com.io7m.jcoronado.api.VulkanResourceException;
+import com.io7m.jmulticlose.core.CloseableCollection;
+import com.io7m.jmulticlose.core.CloseableCollectionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_COLOR_ATTACHMENT_WRITE_BIT;
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_DEPTH_STENCIL_ATTACHMENT_WRITE_BIT;
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_HOST_WRITE_BIT;
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_MEMORY_READ_BIT;
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_MEMORY_WRITE_BIT;
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_SHADER_STORAGE_WRITE_BIT;
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_SHADER_WRITE_BIT;
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_TRANSFER_WRITE_BIT;
+import static com.io7m.jcoronado.api.VulkanImageLayout.VK_IMAGE_LAYOUT_UNDEFINED;
+import static com.io7m.jcoronado.api.VulkanMemoryPropertyFlag.VK_MEMORY_PROPERTY_DEVICE_LOCAL_BIT;
+import static com.io7m.jcoronado.api.VulkanPipelineStageFlag.VK_PIPELINE_STAGE_ALL_COMMANDS_BIT;
+
+/**
+ * The render graph compiler.
+ */
+
+final class JCRGCompiler
+{
+  private static final Logger LOG =
+    LoggerFactory.getLogger(JCRGCompiler.class);
+
+  private static final Set<VulkanAccessFlag> WRITE_ACCESS =
+    EnumSet.of(
+      VK_ACCESS_COLOR_ATTACHMENT_WRITE_BIT,
+      VK_ACCESS_DEPTH_STENCIL_ATTACHMENT_WRITE_BIT,
+      VK_ACCESS_HOST_WRITE_BIT,
+      VK_ACCESS_MEMORY_WRITE_BIT,
+      VK_ACCESS_SHADER_STORAGE_WRITE_BIT,
+      VK_ACCESS_SHADER_WRITE_BIT,
+      VK_ACCESS_TRANSFER_WRITE_BIT
+    );
+
+  private JCRGCompiler()
+  {
+
+  }
+
+  static JCRGCompiledGraphType compile(
+    final VulkanLogicalDeviceType device,
+    final List<JCRGResourceType> resources,
+    final List<JCRGPass> passes)
+    throws VulkanException
+  {
+    final var event = new JCRenderGraphJFRCompiled();
+    event.begin();
+
+    final var executed = cull(resources, passes);
+    final var resourceCount = resources.size();
+
+    /*
+     * Determine the lifetime of each transient resource in terms of the
+     * positions of the executed passes, and reject graphs that read transient
+     * resources before writing them.
+     */
+
+    final var first = new int[resourceCount];
+    final var last = new int[resourceCount];
+    Arrays.fill(first, -1);
+    Arrays.fill(last, -1);
+
+    for (int position = 0; position < executed.size(); ++position) {
+      final var pass = executed.get(position);
+      for (final var use : pass.uses()) {
+        final var id = use.resourceId();
+        if (!use.resource().isImported()) {
+          if (first[id] == -1 && !use.write()) {
+            throw new IllegalArgumentException(
+              "Transient resource %s is read by pass %s before it is written."
+                .formatted(use.resource().name(), pass.name())
+            );
+          }
+        }
+        if (first[id] == -1) {
+          first[id] = position;
+        }
+        last[id] = position;
+      }
+    }
+
+    final var owned =
+      CloseableCollection.create(() -> {
+        return new VulkanResourceException(
+          "One or more resources failed to close."
+        );
+      });
+
+    try {
+      final var allocation =
+        allocate(device, owned, resources, first, last);
+      final var barriers =
+        deriveBarriers(resources, executed, allocation, first);
+
+      final var compiledPasses = new ArrayList<JCRGCompiledPass>();
+      for (int position = 0; position < executed.size(); ++position) {
+        final var pass = executed.get(position);
+        compiledPasses.add(
+          new JCRGCompiledPass(
+            pass.name(),
+            pass.executor(),
+            barriers.get(position)
+          )
+        );
+      }
+
+      final var culled = new ArrayList<String>();
+      for (final var pass : passes) {
+        if (!executed.contains(pass)) {
+          culled.add(pass.name());
+        }
+      }
+
+      final var graph =
+        new JCRGCompiledGraph(
+          owned,
+          resourceCount,
+          compiledPasses,
+          barriers.get(executed.size()),
+          culled,
+          allocation.images,
+          allocation.buffers,
+          allocation.required,
+          allocation.allocated
+        );
+
+      event.passCount = passes.size();
+      event.passesCulled = culled.size();
+      event.barrierCount = graph.barrierCount();
+      event.transientMemoryRequired = allocation.required;
+      event.transientMemoryAllocated = allocation.allocated;
+      event.commit();
+
+      LOG.debug(
+        "Compiled graph: {} passes ({} culled), {} barriers, {}/{} bytes transient memory",
+        Integer.valueOf(passes.size()),
+        Integer.valueOf(culled.size()),
+        Integer.valueOf(graph.barrierCount()),
+        Long.valueOf(allocation.allocated),
+        Long.valueOf(allocation.required)
+      );
+      return graph;
+    } catch (final VulkanException | RuntimeException e) {
+      try {
+        owned.close();
+      } catch (final VulkanResourceException ex) {
+        e.addSuppressed(ex);
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Determine the set of passes that must be executed. A pass must be
+   * executed if it has side effects, if it writes to an imported resource,
+   * or if it produces the contents of a resource used by another pass that
+   * must be executed. A pass that writes to a resource is assumed to depend
+   * on the previous contents of the resource.
+   */
+
+  private static List<JCRGPass> cull(
+    final List<JCRGResourceType> resources,
+    final List<JCRGPass> passes)
+  {
+    final var passCount = passes.size();
+    final var lastWriter = new int[resources.size()];
+    Arrays.fill(lastWriter, -1);
+
+    final var needed = new boolean[passCount];
+    final var dependencies = new int[passCount][];
+
+    for (int index = 0; index < passCount; ++index) {
+      final var pass = passes.get(index);
+      final var uses = pass.uses();
+      final var passDependencies = new int[uses.size()];
+
+      for (int u = 0; u < uses.size(); ++u) {
+        passDependencies[u] = lastWriter[uses.get(u).resourceId()];
+      }
+      for (final var use : uses) {
+        if (use.write()) {
+          lastWriter[use.resourceId()] = index;
+          if (use.resource().isImported()) {
+            needed[index] = true;
+          }
+        }
+      }
+      if (pass.hasSideEffects()) {
+        needed[index] = true;
+      }
+      dependencies[index] = passDependencies;
+    }
+
+    /*
+     * Dependencies always refer to earlier passes, so a single backwards
+     * sweep is sufficient to propagate liveness.
+     */
+
+    for (int index = passCount - 1; index >= 0; --index) {
+      if (needed[index]) {
+        for (final var dependency : dependencies[index]) {
+          if (dependency >= 0) {
+            needed[dependency] = true;
+          }
+        }
+      }
+    }
+
+    final var executed = new ArrayList<JCRGPass>(passCount);
+    for (int index = 0; index < passCount; ++index) {
+      if (needed[index]) {
+        executed.add(passes.get(index));
+      }
+    }
+    return executed;
+  }
+
+  /**
+   * The memory placement of a transient resource.
+   */
+
+  private record Placement(
+    int resourceId,
+    long offset,
+    long size,
+    int first,
+    int last)
+  {
+    boolean lifetimeOverlaps(
+      final int otherFirst,
+      final int otherLast)
+    {
+      return !(this.last < otherFirst || otherLast < this.first);
+    }
+
+    boolean rangeOverlaps(
+      final long otherOffset,
+      final long otherSize)
+    {
+      return otherOffset < this.offset + this.size
+             && this.offset < otherOffset + otherSize;
+    }
+  }
+
+  /**
+   * Resources are only ever aliased with resources of the same kind in the
+   * same memory type; keeping buffers, linear images, and optimal images
+   * apart avoids any need to respect the buffer/image granularity.
+   */
+
+  private record MemoryGroup(
+    VulkanMemoryTypeIndex memoryType,
+    int kind)
+  {
+
+  }
+
+  private static final class Allocation
+  {
+    private final VulkanImageType[] images;
+    private final VulkanBufferType[] buffers;
+    private final List<List<Integer>> memoryOverlaps;
+    private long required;
+    private long allocated;
+
+    Allocation(
+      final int resourceCount)
+    {
+      this.images = new VulkanImageType[resourceCount];
+      this.buffers = new VulkanBufferType[resourceCount];
+      this.memoryOverlaps = new ArrayList<>(resourceCount);
+      for (int index = 0; index < resourceCount; ++index) {
+        this.memoryOverlaps.add(new ArrayList<>());
+      }
+    }
+  }
+
+  private static long alignUp(
+    final long offset,
+    final long alignment)
+  {
+    if (alignment <= 1L) {
+      return offset;
+    }
+    return ((offset + alignment - 1L) / alignment) * alignment;
+  }
+
+  private static Allocation allocate(
+    final VulkanLogicalDeviceType device,
+    final CloseableCollectionType<VulkanResourceException> owned,
+    final List<JCRGResourceType> resources,
+    final int[] first,
+    final int[] last)
+    throws VulkanException
+  {
+    final var result =
+      new Allocation(resources.size());
+
+    /*
+     * Create all live transient resources and fetch their requirements.
+     */
+
+    final var memoryProperties =
+      device.physicalDevice().memory();
+    final var sizes =
+      new long[resources.size()];
+    final var alignments =
+      new long[resources.size()];
+    final var groups =
+      new HashMap<Integer, MemoryGroup>();
+    final var live =
+      new ArrayList<Integer>();
+
+    for (final var resource : resources) {
+      switch (resource) {
+        case final JCRGImage image -> {
+          if (image.isImported() || first[image.id()] == -1) {
+            continue;
+          }
+          final var info =
+            image.createInfo().orElseThrow();
+          final var created =
+            owned.add(device.createImage(info));
+          final var requirements =
+            device.getImageMemoryRequirements(created);
+          final var type =
+            memoryProperties.findSuitableMemoryType(
+              requirements, Set.of(VK_MEMORY_PROPERTY_DEVICE_LOCAL_BIT));
+          final var kind =
+            info.tiling() == VulkanImageTiling.VK_IMAGE_TILING_LINEAR ? 1 : 2;
+
+          result.images[image.id()] = created;
+          sizes[image.id()] = requirements.size();
+          alignments[image.id()] = requirements.alignment();
+          groups.put(
+            Integer.valueOf(image.id()),
+            new MemoryGroup(type.index(), kind)
+          );
+          live.add(Integer.valueOf(image.id()));
+        }
+        case final JCRGBuffer buffer -> {
+          if (buffer.isImported() || first[buffer.id()] == -1) {
+            continue;
+          }
+          final var info =
+            buffer.createInfo().orElseThrow();
+          final var created =
+            owned.add(device.createBuffer(info));
+          final var requirements =
+            device.getBufferMemoryRequirements(created);
+          final var type =
+            memoryProperties.findSuitableMemoryType(
+              requirements, Set.of(VK_MEMORY_PROPERTY_DEVICE_LOCAL_BIT));
+
+          result.buffers[buffer.id()] = created;
+          sizes[buffer.id()] = requirements.size();
+          alignments[buffer.id()] = requirements.alignment();
+          groups.put(
+            Integer.valueOf(buffer.id()),
+            new MemoryGroup(type.index(), 0)
+          );
+          live.add(Integer.valueOf(buffer.id()));
+        }
+      }
+    }
+
+    /*
+     * Place the largest resources first. Each resource is placed at the
+     * lowest offset that does not overlap any resource in the same group
+     * whose lifetime overlaps its own.
+     */
+
+    live.sort(
+      Comparator.comparingLong((Integer id) -> sizes[id.intValue()])
+        .reversed()
+        .thenComparingInt(Integer::intValue)
+    );
+
+    final var placements =
+      new HashMap<MemoryGroup, List<Placement>>();
+
+    for (final var boxed : live) {
+      final var id = boxed.intValue();
+      final var size = sizes[id];
+      final var alignment = alignments[id];
+      final var group = groups.get(boxed);
+      final var existing =
+        placements.computeIfAbsent(group, k -> new ArrayList<>());
+
+      final var candidates = new ArrayList<Long>();
+      candidates.add(Long.valueOf(0L));
+      for (final var placed : existing) {
+        if (placed.lifetimeOverlaps(first[id], last[id])) {
+          candidates.add(
+            Long.valueOf(alignUp(placed.offset() + placed.size(), alignment))
+          );
+        }
+      }
+      candidates.sort(Comparator.naturalOrder());
+
+      var offset = -1L;
+      for (final var candidate : candidates) {
+        final var c = candidate.longValue();
+        var fits = true;
+        for (final var placed : existing) {
+          if (placed.lifetimeOverlaps(first[id], last[id])
+              && placed.rangeOverlaps(c, size)) {
+            fits = false;
+            break;
+          }
+        }
+        if (fits) {
+          offset = c;
+          break;
+        }
+      }
+
+      final var placement =
+        new Placement(id, offset, size, first[id], last[id]);
+
+      for (final var placed : existing) {
+        if (placed.rangeOverlaps(offset, size)) {
+          result.memoryOverlaps.get(id)
+            .add(Integer.valueOf(placed.resourceId()));
+          result.memoryOverlaps.get(placed.resourceId())
+            .add(boxed);
+        }
+      }
+
+      existing.add(placement);
+      result.required += size;
+    }
+
+    /*
+     * Allocate one block of memory per group, and bind every resource to
+     * its placement within the block.
+     */
+
+    for (final var entry : placements.entrySet()) {
+      final var group = entry.getKey();
+      final var groupPlacements = entry.getValue();
+
+      var blockSize = 0L;
+      for (final var placement : groupPlacements) {
+        blockSize = Math.max(blockSize, placement.offset() + placement.size());
+      }
+
+      final var memory =
+        owned.add(device.allocateMemory(
+          VulkanMemoryAllocateInfo.builder()
+            .setSize(blockSize)
+            .setMemoryTypeIndex(group.memoryType())
+            .build()
+        ));
+
+      result.allocated += blockSize;
+
+      for (final var placement : groupPlacements) {
+        final var id = placement.resourceId();
+        final var image = result.images[id];
+        if (image != null) {
+          device.bindImageMemory(image, memory, placement.offset());
+        } else {
+          device.bindBufferMemory(result.buffers[id], memory, placement.offset());
+        }
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * The synchronization state of a resource during barrier derivation.
+   */
+
+  private static final class ResourceState
+  {
+    private VulkanImageLayout layout;
+    private final EnumSet<VulkanPipelineStageFlag> writeStages;
+    private final EnumSet<VulkanAccessFlag> writeAccess;
+    private final EnumSet<VulkanPipelineStageFlag> readStages;
+    private final EnumSet<VulkanPipelineStageFlag> visibleStages;
+    private final EnumSet<VulkanAccessFlag> visibleAccess;
+
+    ResourceState(
+      final VulkanImageLayout inLayout)
+    {
+      this.layout = inLayout;
+      this.writeStages = EnumSet.noneOf(VulkanPipelineStageFlag.class);
+      this.writeAccess = EnumSet.noneOf(VulkanAccessFlag.class);
+      this.readStages = EnumSet.noneOf(VulkanPipelineStageFlag.class);
+      this.visibleStages = EnumSet.noneOf(VulkanPipelineStageFlag.class);
+      this.visibleAccess = EnumSet.noneOf(VulkanAccessFlag.class);
+    }
+
+    Set<VulkanPipelineStageFlag> pendingStages()
+    {
+      final var stages = EnumSet.copyOf(this.writeStages);
+      stages.addAll(this.readStages);
+      return stages;
+    }
+
+    void waitFor(
+      final ResourceState other)
+    {
+      this.writeStages.addAll(other.pendingStages());
+      this.writeAccess.addAll(other.writeAccess);
+    }
+
+    void recordWrite(
+      final JCRGUse use)
+    {
+      this.writeStages.clear();
+      this.writeStages.addAll(use.stages());
+      this.writeAccess.clear();
+      for (final var access : use.access()) {
+        if (WRITE_ACCESS.contains(access)) {
+          this.writeAccess.add(access);
+        }
+      }
+      this.readStages.clear();
+      this.visibleStages.clear();
+      this.visibleAccess.clear();
+    }
+  }
+
+  private static JCRGBarrier barrierFor(
+    final JCRGUse use,
+    final Set<VulkanPipelineStageFlag> srcStages,
+    final Set<VulkanAccessFlag> srcAccess,
+    final VulkanImageLayout oldLayout,
+    final VulkanImageLayout newLayout)
+  {
+    return new JCRGBarrier(
+      use.resource(),
+      use.resourceId(),
+      srcStages,
+      srcAccess,
+      use.stages(),
+      use.access(),
+      oldLayout,
+      newLayout
+    );
+  }
+
+  private static JCRGBarrier access(
+    final ResourceState state,
+    final JCRGUse use)
+  {
+    final var isImage = use.resource() instanceof JCRGImage;
+
+    /*
+     * A layout transition is a write, and so must wait for all prior reads
+     * and writes. Subsequent reads at other stages can be ordered after the
+     * transition by waiting on the stages that waited for it.
+     */
+
+    if (isImage && use.layout() != state.layout) {
+      final var barrier =
+        barrierFor(
+          use,
+          state.pendingStages(),
+          state.writeAccess,
+          state.layout,
+          use.layout()
+        );
+
+      state.layout = use.layout();
+      if (use.write()) {
+        state.recordWrite(use);
+      } else {
+        state.writeStages.clear();
+        state.writeStages.addAll(use.stages());
+        state.writeAccess.clear();
+        state.readStages.clear();
+        state.readStages.addAll(use.stages());
+        state.visibleStages.clear();
+        state.visibleStages.addAll(use.stages());
+        state.visibleAccess.clear();
+        state.visibleAccess.addAll(use.access());
+      }
+      return barrier;
+    }
+
+    final var layout = state.layout;
+    if (use.write()) {
+      final var pending = state.pendingStages();
+      if (pending.isEmpty()) {
+        state.recordWrite(use);
+        return null;
+      }
+
+      final var barrier =
+        barrierFor(use, pending, state.writeAccess, layout, layout);
+      state.recordWrite(use);
+      return barrier;
+    }
+
+    if (state.writeStages.isEmpty()
+        || (state.visibleStages.containsAll(use.stages())
+            && state.visibleAccess.containsAll(use.access()))) {
+      state.readStages.addAll(use.stages());
+      return null;
+    }
+
+    final var barrier =
+      barrierFor(use, state.writeStages, state.writeAccess, layout, layout);
+    state.visibleStages.addAll(use.stages());
+    state.visibleAccess.addAll(use.access());
+    state.readStages.addAll(use.stages());
+    return barrier;
+  }
+
+  private static ResourceState[] initialStates(
+    final List<JCRGResourceType> resources)
+  {
+    final var states = new ResourceState[resources.size()];
+    for (final var resource : resources) {
+      switch (resource) {
+        case final JCRGImage image -> {
+          final var state = new ResourceState(image.initialLayout());
+          if (image.isImported()) {
+            state.writeStages.add(VK_PIPELINE_STAGE_ALL_COMMANDS_BIT);
+            state.writeAccess.add(VK_ACCESS_MEMORY_WRITE_BIT);
+          }
+          states[image.id()] = state;
+        }
+        case final JCRGBuffer buffer -> {
+          final var state = new ResourceState(VK_IMAGE_LAYOUT_UNDEFINED);
+          if (buffer.isImported()) {
+            state.writeStages.add(VK_PIPELINE_STAGE_ALL_COMMANDS_BIT);
+            state.writeAccess.add(VK_ACCESS_MEMORY_WRITE_BIT);
+          }
+          states[buffer.id()] = state;
+        }
+      }
+    }
+    return states;
+  }
+
+  private static List<List<JCRGBarrier>> derivePassBarriers(
+    final ResourceState[] states,
+    final List<JCRGPass> executed)
+  {
+    final var results = new ArrayList<List<JCRGBarrier>>(executed.size() + 1);
+    for (final var pass : executed) {
+      final var passBarriers = new ArrayList<JCRGBarrier>();
+      for (final var use : pass.uses()) {
+        final var barrier = access(states[use.resourceId()], use);
+        if (barrier != null) {
+          passBarriers.add(barrier);
+        }
+      }
+      results.add(passBarriers);
+    }
+    return results;
+  }
+
+  /**
+   * Derive the barriers required before each executed pass. The returned
+   * list has one more element than the number of executed passes; the last
+   * element holds the barriers that transition imported images into their
+   * final layouts.
+   */
+
+  private static List<List<JCRGBarrier>> deriveBarriers(
+    final List<JCRGResourceType> resources,
+    final List<JCRGPass> executed,
+    final Allocation allocation,
+    final int[] first)
+  {
+    /*
+     * The first use of a transient resource must wait for every access to
+     * the memory it occupies: accesses to resources that it aliases earlier
+     * in the graph and, because a compiled graph is executed repeatedly,
+     * accesses made by the previous execution of the graph to the resource
+     * itself and to every resource that it aliases. The first use of a
+     * transient resource is always a write, so the final state of every
+     * resource does not depend on the initial states of transient resources.
+     * A first derivation therefore yields the final states, and the first use
+     * of each transient resource is then made to wait for the final accesses
+     * of itself and of every resource sharing its memory.
+     */
+
+    final var finalStates = initialStates(resources);
+    derivePassBarriers(finalStates, executed);
+
+    final var states = initialStates(resources);
+    for (int id = 0; id < resources.size(); ++id) {
+      if (resources.get(id).isImported() || first[id] == -1) {
+        continue;
+      }
+
+      final var state = states[id];
+      state.waitFor(finalStates[id]);
+      for (final var other : allocation.memoryOverlaps.get(id)) {
+        state.waitFor(finalStates[other.intValue()]);
+      }
+    }
+
+    final var results = derivePassBarriers(states, executed);
+
+    final var finalBarriers = new ArrayList<JCRGBarrier>();
+    for (final var resource : resources) {
+      if (resource instanceof final JCRGImage image && image.isImported()) {
+        final var state = states[image.id()];
+        final var finalLayout = image.finalLayout();
+        if (finalLayout != state.layout
+            && finalLayout != VK_IMAGE_LAYOUT_UNDEFINED) {
+          finalBarriers.add(
+            new JCRGBarrier(
+              image,
+              image.id(),
+              state.pendingStages(),
+              state.writeAccess,
+              Set.of(VK_PIPELINE_STAGE_ALL_COMMANDS_BIT),
+              Set.of(VK_ACCESS_MEMORY_READ_BIT, VK_ACCESS_MEMORY_WRITE_BIT),
+              state.layout,
+              finalLayout
+            )
+          );
+        }
+      }
+    }
+    results.add(finalBarriers);
+    return results;
+  }
+}
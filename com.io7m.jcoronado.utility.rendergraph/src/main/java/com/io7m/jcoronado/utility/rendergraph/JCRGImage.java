@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.rendergraph;
+
+import com.io7m.jcoronado.api.VulkanImageCreateInfo;
+import com.io7m.jcoronado.api.VulkanImageLayout;
+import com.io7m.jcoronado.api.VulkanImageSubresourceRange;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * An image declared in a render graph.
+ */
+
+public final class JCRGImage implements JCRGResourceType
+{
+  private final Object owner;
+  private final int id;
+  private final String name;
+  private final VulkanImageSubresourceRange subresourceRange;
+  private final Optional<VulkanImageCreateInfo> createInfo;
+  private final VulkanImageLayout initialLayout;
+  private final VulkanImageLayout finalLayout;
+
+  JCRGImage(
+    final Object inOwner,
+    final int inId,
+    final String inName,
+    final VulkanImageSubresourceRange inSubresourceRange,
+    final Optional<VulkanImageCreateInfo> inCreateInfo,
+    final VulkanImageLayout inInitialLayout,
+    final VulkanImageLayout inFinalLayout)
+  {
+    this.owner =
+      Objects.requireNonNull(inOwner, "owner");
+    this.id = inId;
+    this.name =
+      Objects.requireNonNull(inName, "name");
+    this.subresourceRange =
+      Objects.requireNonNull(inSubresourceRange, "subresourceRange");
+    this.createInfo =
+      Objects.requireNonNull(inCreateInfo, "createInfo");
+    this.initialLayout =
+      Objects.requireNonNull(inInitialLayout, "initialLayout");
+    this.finalLayout =
+      Objects.requireNonNull(inFinalLayout, "finalLayout");
+  }
+
+  Object owner()
+  {
+    return this.owner;
+  }
+
+  int id()
+  {
+    return this.id;
+  }
+
+  @Override
+  public String name()
+  {
+    return this.name;
+  }
+
+  @Override
+  public boolean isImported()
+  {
+    return this.createInfo.isEmpty();
+  }
+
+  /**
+   * @return The subresource range accessed by passes that use the image
+   */
+
+  public VulkanImageSubresourceRange subresourceRange()
+  {
+    return this.subresourceRange;
+  }
+
+  /**
+   * @return The creation info for transient images
+   */
+
+  public Optional<VulkanImageCreateInfo> createInfo()
+  {
+    return this.createInfo;
+  }
+
+  /**
+   * @return The layout of the image at the start of graph execution
+   */
+
+  public VulkanImageLayout initialLayout()
+  {
+    return this.initialLayout;
+  }
+
+  /**
+   * @return The layout the image will be transitioned into at the end of
+   * graph execution
+   */
+
+  public VulkanImageLayout finalLayout()
+  {
+    return this.finalLayout;
+  }
+
+  @Override
+  public String toString()
+  {
+    return "[JCRGImage %s]".formatted(this.name);
+  }
+}
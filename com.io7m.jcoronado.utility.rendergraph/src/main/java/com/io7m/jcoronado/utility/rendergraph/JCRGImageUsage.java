@@ -0,0 +1,206 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.rendergraph;
+
+import com.io7m.jcoronado.api.VulkanAccessFlag;
+import com.io7m.jcoronado.api.VulkanImageLayout;
+import com.io7m.jcoronado.api.VulkanPipelineStageFlag;
+
+import java.util.Set;
+
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_COLOR_ATTACHMENT_READ_BIT;
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_COLOR_ATTACHMENT_WRITE_BIT;
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_DEPTH_STENCIL_ATTACHMENT_READ_BIT;
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_DEPTH_STENCIL_ATTACHMENT_WRITE_BIT;
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_SHADER_SAMPLED_READ_BIT;
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_SHADER_STORAGE_READ_BIT;
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_SHADER_STORAGE_WRITE_BIT;
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_TRANSFER_READ_BIT;
+import static com.io7m.jcoronado.api.VulkanAccessFlag.VK_ACCESS_TRANSFER_WRITE_BIT;
+import static com.io7m.jcoronado.api.VulkanImageLayout.VK_IMAGE_LAYOUT_COLOR_ATTACHMENT_OPTIMAL;
+import static com.io7m.jcoronado.api.VulkanImageLayout.VK_IMAGE_LAYOUT_DEPTH_STENCIL_ATTACHMENT_OPTIMAL;
+import static com.io7m.jcoronado.api.VulkanImageLayout.VK_IMAGE_LAYOUT_DEPTH_STENCIL_READ_ONLY_OPTIMAL;
+import static com.io7m.jcoronado.api.VulkanImageLayout.VK_IMAGE_LAYOUT_GENERAL;
+import static com.io7m.jcoronado.api.VulkanImageLayout.VK_IMAGE_LAYOUT_SHADER_READ_ONLY_OPTIMAL;
+import static com.io7m.jcoronado.api.VulkanImageLayout.VK_IMAGE_LAYOUT_TRANSFER_DST_OPTIMAL;
+import static com.io7m.jcoronado.api.VulkanImageLayout.VK_IMAGE_LAYOUT_TRANSFER_SRC_OPTIMAL;
+import static com.io7m.jcoronado.api.VulkanPipelineStageFlag.VK_PIPELINE_STAGE_COLOR_ATTACHMENT_OUTPUT_BIT;
+import static com.io7m.jcoronado.api.VulkanPipelineStageFlag.VK_PIPELINE_STAGE_COMPUTE_SHADER_BIT;
+import static com.io7m.jcoronado.api.VulkanPipelineStageFlag.VK_PIPELINE_STAGE_EARLY_FRAGMENT_TESTS_BIT;
+import static com.io7m.jcoronado.api.VulkanPipelineStageFlag.VK_PIPELINE_STAGE_FRAGMENT_SHADER_BIT;
+import static com.io7m.jcoronado.api.VulkanPipelineStageFlag.VK_PIPELINE_STAGE_LATE_FRAGMENT_TESTS_BIT;
+import static com.io7m.jcoronado.api.VulkanPipelineStageFlag.VK_PIPELINE_STAGE_TRANSFER_BIT;
+
+/**
+ * The ways in which a pass may use an image. Each usage implies the
+ * pipeline stages, access types, and image layout used to derive barriers.
+ */
+
+public enum JCRGImageUsage
+{
+  /**
+   * The image is used as a color attachment (loaded and/or stored).
+   */
+
+  COLOR_ATTACHMENT_WRITE(
+    Set.of(VK_PIPELINE_STAGE_COLOR_ATTACHMENT_OUTPUT_BIT),
+    Set.of(VK_ACCESS_COLOR_ATTACHMENT_READ_BIT, VK_ACCESS_COLOR_ATTACHMENT_WRITE_BIT),
+    VK_IMAGE_LAYOUT_COLOR_ATTACHMENT_OPTIMAL,
+    true
+  ),
+
+  /**
+   * The image is used as a writable depth/stencil attachment.
+   */
+
+  DEPTH_STENCIL_ATTACHMENT_WRITE(
+    Set.of(VK_PIPELINE_STAGE_EARLY_FRAGMENT_TESTS_BIT, VK_PIPELINE_STAGE_LATE_FRAGMENT_TESTS_BIT),
+    Set.of(VK_ACCESS_DEPTH_STENCIL_ATTACHMENT_READ_BIT, VK_ACCESS_DEPTH_STENCIL_ATTACHMENT_WRITE_BIT),
+    VK_IMAGE_LAYOUT_DEPTH_STENCIL_ATTACHMENT_OPTIMAL,
+    true
+  ),
+
+  /**
+   * The image is used as a read-only depth/stencil attachment.
+   */
+
+  DEPTH_STENCIL_ATTACHMENT_READ(
+    Set.of(VK_PIPELINE_STAGE_EARLY_FRAGMENT_TESTS_BIT, VK_PIPELINE_STAGE_LATE_FRAGMENT_TESTS_BIT),
+    Set.of(VK_ACCESS_DEPTH_STENCIL_ATTACHMENT_READ_BIT),
+    VK_IMAGE_LAYOUT_DEPTH_STENCIL_READ_ONLY_OPTIMAL,
+    false
+  ),
+
+  /**
+   * The image is sampled in a fragment shader.
+   */
+
+  FRAGMENT_SHADER_SAMPLED_READ(
+    Set.of(VK_PIPELINE_STAGE_FRAGMENT_SHADER_BIT),
+    Set.of(VK_ACCESS_SHADER_SAMPLED_READ_BIT),
+    VK_IMAGE_LAYOUT_SHADER_READ_ONLY_OPTIMAL,
+    false
+  ),
+
+  /**
+   * The image is sampled in a compute shader.
+   */
+
+  COMPUTE_SHADER_SAMPLED_READ(
+    Set.of(VK_PIPELINE_STAGE_COMPUTE_SHADER_BIT),
+    Set.of(VK_ACCESS_SHADER_SAMPLED_READ_BIT),
+    VK_IMAGE_LAYOUT_SHADER_READ_ONLY_OPTIMAL,
+    false
+  ),
+
+  /**
+   * The image is read as a storage image in a compute shader.
+   */
+
+  COMPUTE_SHADER_STORAGE_READ(
+    Set.of(VK_PIPELINE_STAGE_COMPUTE_SHADER_BIT),
+    Set.of(VK_ACCESS_SHADER_STORAGE_READ_BIT),
+    VK_IMAGE_LAYOUT_GENERAL,
+    false
+  ),
+
+  /**
+   * The image is read and written as a storage image in a compute shader.
+   */
+
+  COMPUTE_SHADER_STORAGE_WRITE(
+    Set.of(VK_PIPELINE_STAGE_COMPUTE_SHADER_BIT),
+    Set.of(VK_ACCESS_SHADER_STORAGE_READ_BIT, VK_ACCESS_SHADER_STORAGE_WRITE_BIT),
+    VK_IMAGE_LAYOUT_GENERAL,
+    true
+  ),
+
+  /**
+   * The image is the source of a transfer operation.
+   */
+
+  TRANSFER_SOURCE(
+    Set.of(VK_PIPELINE_STAGE_TRANSFER_BIT),
+    Set.of(VK_ACCESS_TRANSFER_READ_BIT),
+    VK_IMAGE_LAYOUT_TRANSFER_SRC_OPTIMAL,
+    false
+  ),
+
+  /**
+   * The image is the target of a transfer operation.
+   */
+
+  TRANSFER_TARGET(
+    Set.of(VK_PIPELINE_STAGE_TRANSFER_BIT),
+    Set.of(VK_ACCESS_TRANSFER_WRITE_BIT),
+    VK_IMAGE_LAYOUT_TRANSFER_DST_OPTIMAL,
+    true
+  );
+
+  private final Set<VulkanPipelineStageFlag> stages;
+  private final Set<VulkanAccessFlag> access;
+  private final VulkanImageLayout layout;
+  private final boolean write;
+
+  JCRGImageUsage(
+    final Set<VulkanPipelineStageFlag> inStages,
+    final Set<VulkanAccessFlag> inAccess,
+    final VulkanImageLayout inLayout,
+    final boolean inWrite)
+  {
+    this.stages = inStages;
+    this.access = inAccess;
+    this.layout = inLayout;
+    this.write = inWrite;
+  }
+
+  /**
+   * @return The pipeline stages at which the image is accessed
+   */
+
+  public Set<VulkanPipelineStageFlag> stages()
+  {
+    return this.stages;
+  }
+
+  /**
+   * @return The types of access performed
+   */
+
+  public Set<VulkanAccessFlag> access()
+  {
+    return this.access;
+  }
+
+  /**
+   * @return The layout the image must be in
+   */
+
+  public VulkanImageLayout layout()
+  {
+    return this.layout;
+  }
+
+  /**
+   * @return {@code true} if the usage modifies the image
+   */
+
+  public boolean isWrite()
+  {
+    return this.write;
+  }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.rendergraph;
+
+import com.io7m.jcoronado.api.VulkanAccessFlag;
+import com.io7m.jcoronado.api.VulkanPipelineStageFlag;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+
+import static com.io7m.jcoronado.api.VulkanImageLayout.VK_IMAGE_LAYOUT_UNDEFINED;
+
+/**
+ * A declared pass.
+ */
+
+final class JCRGPass implements JCRGPassBuilderType
+{
+  private final Object owner;
+  private final String name;
+  private final List<JCRGUse> uses;
+  private final BitSet used;
+  private boolean sideEffects;
+  private JCRGPassExecutorType executor;
+
+  JCRGPass(
+    final Object inOwner,
+    final String inName)
+  {
+    this.owner =
+      Objects.requireNonNull(inOwner, "owner");
+    this.name =
+      Objects.requireNonNull(inName, "name");
+    this.uses =
+      new ArrayList<>();
+    this.used =
+      new BitSet();
+  }
+
+  String name()
+  {
+    return this.name;
+  }
+
+  List<JCRGUse> uses()
+  {
+    return this.uses;
+  }
+
+  boolean hasSideEffects()
+  {
+    return this.sideEffects;
+  }
+
+  JCRGPassExecutorType executor()
+  {
+    if (this.executor == null) {
+      throw new IllegalStateException(
+        "Pass %s has no executor.".formatted(this.name)
+      );
+    }
+    return this.executor;
+  }
+
+  private void checkOwner(
+    final Object resourceOwner,
+    final JCRGResourceType resource)
+  {
+    if (resourceOwner != this.owner) {
+      throw new IllegalArgumentException(
+        "Resource %s was not declared in this graph.".formatted(resource.name())
+      );
+    }
+  }
+
+  /**
+   * Add a use, combining it with any existing use of the same resource so
+   * that barrier derivation sees at most one use per resource per pass.
+   */
+
+  private void addUse(
+    final JCRGUse use)
+  {
+    final var id = use.resourceId();
+    if (!this.used.get(id)) {
+      this.used.set(id);
+      this.uses.add(use);
+      return;
+    }
+
+    for (int index = 0; index < this.uses.size(); ++index) {
+      final var existing = this.uses.get(index);
+      if (existing.resourceId() != id) {
+        continue;
+      }
+
+      if (existing.layout() != use.layout()) {
+        throw new IllegalArgumentException(
+          "Pass %s uses image %s in both layout %s and layout %s."
+            .formatted(
+              this.name,
+              use.resource().name(),
+              existing.layout(),
+              use.layout())
+        );
+      }
+
+      final var stages = EnumSet.noneOf(VulkanPipelineStageFlag.class);
+      stages.addAll(existing.stages());
+      stages.addAll(use.stages());
+      final var access = EnumSet.noneOf(VulkanAccessFlag.class);
+      access.addAll(existing.access());
+      access.addAll(use.access());
+
+      this.uses.set(
+        index,
+        new JCRGUse(
+          existing.resource(),
+          id,
+          stages,
+          access,
+          existing.layout(),
+          existing.write() || use.write()
+        )
+      );
+      return;
+    }
+  }
+
+  @Override
+  public JCRGPassBuilderType use(
+    final JCRGImage image,
+    final JCRGImageUsage usage)
+  {
+    Objects.requireNonNull(image, "image");
+    Objects.requireNonNull(usage, "usage");
+
+    this.checkOwner(image.owner(), image);
+    this.addUse(
+      new JCRGUse(
+        image,
+        image.id(),
+        usage.stages(),
+        usage.access(),
+        usage.layout(),
+        usage.isWrite()
+      )
+    );
+    return this;
+  }
+
+  @Override
+  public JCRGPassBuilderType use(
+    final JCRGBuffer buffer,
+    final JCRGBufferUsage usage)
+  {
+    Objects.requireNonNull(buffer, "buffer");
+    Objects.requireNonNull(usage, "usage");
+
+    this.checkOwner(buffer.owner(), buffer);
+    this.addUse(
+      new JCRGUse(
+        buffer,
+        buffer.id(),
+        usage.stages(),
+        usage.access(),
+        VK_IMAGE_LAYOUT_UNDEFINED,
+        usage.isWrite()
+      )
+    );
+    return this;
+  }
+
+  @Override
+  public JCRGPassBuilderType setSideEffects(
+    final boolean inSideEffects)
+  {
+    this.sideEffects = inSideEffects;
+    return this;
+  }
+
+  @Override
+  public JCRGPassBuilderType setExecutor(
+    final JCRGPassExecutorType inExecutor)
+  {
+    this.executor = Objects.requireNonNull(inExecutor, "executor");
+    return this;
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.rendergraph;
+
+/**
+ * A builder for a single pass. Passes declare every resource they use, and
+ * the way in which they use it. Declaring several uses of the same resource
+ * in one pass combines them into a single use covering all of the declared
+ * stages and access types; an image can only be in one layout during a
+ * pass, so uses of the same image that require different layouts are
+ * rejected.
+ */
+
+public interface JCRGPassBuilderType
+{
+  /**
+   * Declare that the pass uses the given image.
+   *
+   * @param image The image
+   * @param usage The usage
+   *
+   * @return this
+   *
+   * @throws IllegalArgumentException If the pass already uses the image in a
+   *                                  different layout
+   */
+
+  JCRGPassBuilderType use(
+    JCRGImage image,
+    JCRGImageUsage usage);
+
+  /**
+   * Declare that the pass uses the given buffer.
+   *
+   * @param buffer The buffer
+   * @param usage  The usage
+   *
+   * @return this
+   */
+
+  JCRGPassBuilderType use(
+    JCRGBuffer buffer,
+    JCRGBufferUsage usage);
+
+  /**
+   * Declare that the pass has side effects that are not visible through
+   * the declared resources, and must therefore never be culled.
+   *
+   * @param sideEffects {@code true} if the pass has side effects
+   *
+   * @return this
+   */
+
+  JCRGPassBuilderType setSideEffects(
+    boolean sideEffects);
+
+  /**
+   * Set the function that records the commands for the pass.
+   *
+   * @param executor The executor
+   *
+   * @return this
+   */
+
+  JCRGPassBuilderType setExecutor(
+    JCRGPassExecutorType executor);
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.rendergraph;
+
+import com.io7m.jcoronado.api.VulkanBufferType;
+import com.io7m.jcoronado.api.VulkanCommandBufferType;
+import com.io7m.jcoronado.api.VulkanImageType;
+
+/**
+ * The context passed to a pass executor.
+ */
+
+public interface JCRGPassContextType
+{
+  /**
+   * @return The command buffer into which commands are recorded
+   */
+
+  VulkanCommandBufferType commandBuffer();
+
+  /**
+   * Resolve an image declared in the graph.
+   *
+   * @param image The image
+   *
+   * @return The underlying image
+   */
+
+  VulkanImageType image(JCRGImage image);
+
+  /**
+   * Resolve a buffer declared in the graph.
+   *
+   * @param buffer The buffer
+   *
+   * @return The underlying buffer
+   */
+
+  VulkanBufferType buffer(JCRGBuffer buffer);
+}
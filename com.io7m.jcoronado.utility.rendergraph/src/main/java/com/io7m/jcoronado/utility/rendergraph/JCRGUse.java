@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.rendergraph;
+
+import com.io7m.jcoronado.api.VulkanAccessFlag;
+import com.io7m.jcoronado.api.VulkanImageLayout;
+import com.io7m.jcoronado.api.VulkanPipelineStageFlag;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A single use of a resource by a pass.
+ *
+ * @param resource   The resource
+ * @param resourceId The resource ID
+ * @param stages     The pipeline stages at which the resource is accessed
+ * @param access     The types of access performed
+ * @param layout     The required image layout (ignored for buffers)
+ * @param write      {@code true} if the resource is modified
+ */
+
+record JCRGUse(
+  JCRGResourceType resource,
+  int resourceId,
+  Set<VulkanPipelineStageFlag> stages,
+  Set<VulkanAccessFlag> access,
+  VulkanImageLayout layout,
+  boolean write)
+{
+  JCRGUse
+  {
+    Objects.requireNonNull(resource, "resource");
+    Objects.requireNonNull(stages, "stages");
+    Objects.requireNonNull(access, "access");
+    Objects.requireNonNull(layout, "layout");
+  }
+}
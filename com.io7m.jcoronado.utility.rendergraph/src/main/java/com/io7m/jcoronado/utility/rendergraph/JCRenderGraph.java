@@ -0,0 +1,183 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.rendergraph;
+
+import com.io7m.jcoronado.api.VulkanBufferCreateInfo;
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanImageAspectFlag;
+import com.io7m.jcoronado.api.VulkanImageCreateInfo;
+import com.io7m.jcoronado.api.VulkanImageLayout;
+import com.io7m.jcoronado.api.VulkanImageSubresourceRange;
+import com.io7m.jcoronado.api.VulkanLogicalDeviceType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.io7m.jcoronado.api.VulkanImageLayout.VK_IMAGE_LAYOUT_UNDEFINED;
+
+/**
+ * Functions to create render graphs.
+ */
+
+public final class JCRenderGraph
+{
+  private JCRenderGraph()
+  {
+
+  }
+
+  /**
+   * Create a new render graph builder.
+   *
+   * @param device The device on which transient resources will be created
+   *
+   * @return A new builder
+   */
+
+  public static JCRenderGraphBuilderType builder(
+    final VulkanLogicalDeviceType device)
+  {
+    return new Builder(device);
+  }
+
+  private static final class Builder implements JCRenderGraphBuilderType
+  {
+    private final VulkanLogicalDeviceType device;
+    private final List<JCRGResourceType> resources;
+    private final List<JCRGPass> passes;
+
+    Builder(
+      final VulkanLogicalDeviceType inDevice)
+    {
+      this.device =
+        Objects.requireNonNull(inDevice, "device");
+      this.resources =
+        new ArrayList<>();
+      this.passes =
+        new ArrayList<>();
+    }
+
+    @Override
+    public JCRGImage importImage(
+      final String name,
+      final VulkanImageSubresourceRange subresourceRange,
+      final VulkanImageLayout initialLayout,
+      final VulkanImageLayout finalLayout)
+    {
+      final var image =
+        new JCRGImage(
+          this,
+          this.resources.size(),
+          name,
+          subresourceRange,
+          Optional.empty(),
+          initialLayout,
+          finalLayout
+        );
+      this.resources.add(image);
+      return image;
+    }
+
+    @Override
+    public JCRGBuffer importBuffer(
+      final String name)
+    {
+      final var buffer =
+        new JCRGBuffer(
+          this,
+          this.resources.size(),
+          name,
+          Optional.empty()
+        );
+      this.resources.add(buffer);
+      return buffer;
+    }
+
+    @Override
+    public JCRGImage createImage(
+      final String name,
+      final VulkanImageCreateInfo createInfo,
+      final Set<VulkanImageAspectFlag> aspects)
+    {
+      Objects.requireNonNull(createInfo, "createInfo");
+      Objects.requireNonNull(aspects, "aspects");
+
+      final var range =
+        VulkanImageSubresourceRange.builder()
+          .addAllAspectMask(aspects)
+          .setBaseMipLevel(0)
+          .setLevelCount(createInfo.mipLevels())
+          .setBaseArrayLayer(0)
+          .setLayerCount(createInfo.arrayLayers())
+          .build();
+
+      final var image =
+        new JCRGImage(
+          this,
+          this.resources.size(),
+          name,
+          range,
+          Optional.of(createInfo),
+          VK_IMAGE_LAYOUT_UNDEFINED,
+          VK_IMAGE_LAYOUT_UNDEFINED
+        );
+      this.resources.add(image);
+      return image;
+    }
+
+    @Override
+    public JCRGBuffer createBuffer(
+      final String name,
+      final VulkanBufferCreateInfo createInfo)
+    {
+      Objects.requireNonNull(createInfo, "createInfo");
+
+      final var buffer =
+        new JCRGBuffer(
+          this,
+          this.resources.size(),
+          name,
+          Optional.of(createInfo)
+        );
+      this.resources.add(buffer);
+      return buffer;
+    }
+
+    @Override
+    public JCRGPassBuilderType addPass(
+      final String name)
+    {
+      final var pass = new JCRGPass(this, name);
+      this.passes.add(pass);
+      return pass;
+    }
+
+    @Override
+    public JCRGCompiledGraphType compile()
+      throws VulkanException
+    {
+      return JCRGCompiler.compile(
+        this.device,
+        List.copyOf(this.resources),
+        List.copyOf(this.passes)
+      );
+    }
+  }
+}
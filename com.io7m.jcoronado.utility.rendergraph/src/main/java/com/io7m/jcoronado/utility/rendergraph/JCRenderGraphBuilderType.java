@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.rendergraph;
+
+import com.io7m.jcoronado.api.VulkanBufferCreateInfo;
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanImageAspectFlag;
+import com.io7m.jcoronado.api.VulkanImageCreateInfo;
+import com.io7m.jcoronado.api.VulkanImageLayout;
+import com.io7m.jcoronado.api.VulkanImageSubresourceRange;
+
+import java.util.Set;
+
+/**
+ * <p>A builder for render graphs.</p>
+ *
+ * <p>Passes are executed in the order in which they are declared, and a
+ * pass that uses a resource observes the contents written by the most
+ * recently declared pass that wrote to it. Passes that do not contribute to
+ * an imported resource, and that are not marked as having side effects, are
+ * culled.</p>
+ */
+
+public interface JCRenderGraphBuilderType
+{
+  /**
+   * Import an image owned by the application. The actual image is bound to
+   * the compiled graph before execution, and may change between executions.
+   *
+   * @param name             The image name
+   * @param subresourceRange The subresource range that passes access
+   * @param initialLayout    The layout of the image before execution
+   * @param finalLayout      The layout of the image after execution
+   *
+   * @return The image
+   */
+
+  JCRGImage importImage(
+    String name,
+    VulkanImageSubresourceRange subresourceRange,
+    VulkanImageLayout initialLayout,
+    VulkanImageLayout finalLayout);
+
+  /**
+   * Import a buffer owned by the application. The actual buffer is bound to
+   * the compiled graph before execution, and may change between executions.
+   *
+   * @param name The buffer name
+   *
+   * @return The buffer
+   */
+
+  JCRGBuffer importBuffer(
+    String name);
+
+  /**
+   * Declare a transient image. Transient images are created by the compiled
+   * graph, and their memory may be shared with other transient resources
+   * whose lifetimes do not overlap. The contents of transient images do not
+   * persist between executions.
+   *
+   * @param name       The image name
+   * @param createInfo The image creation info
+   * @param aspects    The image aspects that passes access
+   *
+   * @return The image
+   */
+
+  JCRGImage createImage(
+    String name,
+    VulkanImageCreateInfo createInfo,
+    Set<VulkanImageAspectFlag> aspects);
+
+  /**
+   * Declare a transient buffer. Transient buffers are created by the
+   * compiled graph, and their memory may be shared with other transient
+   * resources whose lifetimes do not overlap. The contents of transient
+   * buffers do not persist between executions.
+   *
+   * @param name       The buffer name
+   * @param createInfo The buffer creation info
+   *
+   * @return The buffer
+   */
+
+  JCRGBuffer createBuffer(
+    String name,
+    VulkanBufferCreateInfo createInfo);
+
+  /**
+   * Declare a pass.
+   *
+   * @param name The pass name
+   *
+   * @return A builder for the pass
+   */
+
+  JCRGPassBuilderType addPass(
+    String name);
+
+  /**
+   * Compile the graph. This culls unused passes, derives barriers and
+   * layout transitions, and creates and allocates memory for transient
+   * resources. The resulting graph is intended to be compiled once and
+   * executed on every frame.
+   *
+   * @return A compiled graph
+   *
+   * @throws VulkanException On errors
+   */
+
+  JCRGCompiledGraphType compile()
+    throws VulkanException;
+}
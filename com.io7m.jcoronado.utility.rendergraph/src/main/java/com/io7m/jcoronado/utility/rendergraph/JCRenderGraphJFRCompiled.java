@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.rendergraph;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * A render graph was compiled.
+ */
+
+@Label("Compiled")
+@Category("JCoronado.RenderGraph")
+@Description("A render graph was compiled.")
+@StackTrace(value = false)
+public final class JCRenderGraphJFRCompiled
+  extends Event
+  implements JCRenderGraphJFREventType
+{
+  // CHECKSTYLE:OFF
+
+  @Label("PassCount")
+  @Description("The number of declared passes.")
+  public int passCount;
+
+  @Label("PassesCulled")
+  @Description("The number of passes culled.")
+  public int passesCulled;
+
+  @Label("BarrierCount")
+  @Description("The number of pipeline barriers recorded per execution.")
+  public int barrierCount;
+
+  @Label("TransientMemoryRequired")
+  @Description("The memory required by transient resources without aliasing.")
+  @DataAmount
+  public long transientMemoryRequired;
+
+  @Label("TransientMemoryAllocated")
+  @Description("The memory allocated for transient resources.")
+  @DataAmount
+  public long transientMemoryAllocated;
+
+  public JCRenderGraphJFRCompiled()
+  {
+
+  }
+}
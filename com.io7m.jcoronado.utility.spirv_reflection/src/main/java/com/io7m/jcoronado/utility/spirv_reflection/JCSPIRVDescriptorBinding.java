@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.spirv_reflection;
+
+import com.io7m.jcoronado.api.VulkanDescriptorType;
+import com.io7m.jcoronado.api.VulkanShaderStageFlag;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A descriptor binding declared by a shader module.
+ *
+ * @param set     The descriptor set
+ * @param binding The binding within the set
+ * @param type    The descriptor type
+ * @param count   The number of descriptors, or {@code 0} for a runtime-sized
+ *                array
+ * @param stages  The stages that use the binding
+ */
+
+public record JCSPIRVDescriptorBinding(
+  int set,
+  int binding,
+  VulkanDescriptorType type,
+  int count,
+  Set<VulkanShaderStageFlag> stages)
+{
+  /**
+   * A descriptor binding declared by a shader module.
+   *
+   * @param set     The descriptor set
+   * @param binding The binding within the set
+   * @param type    The descriptor type
+   * @param count   The number of descriptors, or {@code 0} for a
+   *                runtime-sized array
+   * @param stages  The stages that use the binding
+   */
+
+  public JCSPIRVDescriptorBinding
+  {
+    Objects.requireNonNull(type, "type");
+    stages = Set.copyOf(stages);
+  }
+
+  /**
+   * @return {@code true} if the binding is a runtime-sized array
+   */
+
+  public boolean isRuntimeSized()
+  {
+    return this.count == 0;
+  }
+}
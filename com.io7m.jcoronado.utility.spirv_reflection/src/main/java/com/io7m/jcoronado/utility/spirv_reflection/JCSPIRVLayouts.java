@@ -0,0 +1,340 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.spirv_reflection;
+
+import com.io7m.jcoronado.api.VulkanDescriptorBindingFlag;
+import com.io7m.jcoronado.api.VulkanDescriptorSetLayoutBinding;
+import com.io7m.jcoronado.api.VulkanDescriptorSetLayoutCreateInfo;
+import com.io7m.jcoronado.api.VulkanDescriptorType;
+import com.io7m.jcoronado.api.VulkanPipelineVertexInputStateCreateInfo;
+import com.io7m.jcoronado.api.VulkanPushConstantRange;
+import com.io7m.jcoronado.api.VulkanShaderStageFlag;
+import com.io7m.jcoronado.api.VulkanVertexInputAttributeDescription;
+import com.io7m.jcoronado.api.VulkanVertexInputBindingDescription;
+import com.io7m.jcoronado.api.VulkanVertexInputRate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static com.io7m.jcoronado.api.VulkanDescriptorBindingFlag.VK_DESCRIPTOR_BINDING_PARTIALLY_BOUND;
+import static com.io7m.jcoronado.api.VulkanDescriptorBindingFlag.VK_DESCRIPTOR_BINDING_VARIABLE_DESCRIPTOR_COUNT;
+
+/**
+ * <p>Functions to derive layouts from reflected shader modules.</p>
+ *
+ * <p>Descriptor set layouts and push constant ranges are merged across all
+ * of the given modules, and declare exactly the stages that use each
+ * binding or range. The resulting create infos are values, so layouts
+ * derived from different pipelines that share an interface compare equal
+ * and can be deduplicated by an object cache.</p>
+ */
+
+public final class JCSPIRVLayouts
+{
+  private JCSPIRVLayouts()
+  {
+
+  }
+
+  private static JCSPIRVReflectionException conflict(
+    final String message,
+    final int set,
+    final int binding)
+  {
+    return new JCSPIRVReflectionException(
+      message,
+      Map.of(
+        "Set", Integer.toString(set),
+        "Binding", Integer.toString(binding)
+      ),
+      "error-spirv-layout-conflict"
+    );
+  }
+
+  /**
+   * Derive descriptor set layouts from the given modules. The returned list
+   * is indexed by set number; sets that no module uses are given empty
+   * layouts. Runtime-sized arrays are given {@code runtimeArrayCount}
+   * descriptors and are marked as partially bound; if such an array is the
+   * highest binding in its set, it is also marked as having a variable
+   * descriptor count.
+   *
+   * @param modules           The modules
+   * @param runtimeArrayCount The descriptor count for runtime-sized arrays
+   *
+   * @return The descriptor set layouts
+   *
+   * @throws JCSPIRVReflectionException If the modules declare incompatible
+   *                                    descriptor types for a binding
+   */
+
+  public static List<VulkanDescriptorSetLayoutCreateInfo> descriptorSetLayouts(
+    final Collection<JCSPIRVModule> modules,
+    final int runtimeArrayCount)
+    throws JCSPIRVReflectionException
+  {
+    Objects.requireNonNull(modules, "modules");
+
+    if (runtimeArrayCount <= 0) {
+      throw new IllegalArgumentException(
+        "Runtime array count %d must be positive."
+          .formatted(Integer.valueOf(runtimeArrayCount))
+      );
+    }
+
+    final var sets = new TreeMap<Integer, TreeMap<Integer, Merged>>();
+    for (final var module : modules) {
+      for (final var binding : module.descriptorBindings()) {
+        final var bindings =
+          sets.computeIfAbsent(
+            Integer.valueOf(binding.set()),
+            k -> new TreeMap<>());
+
+        final var key = Integer.valueOf(binding.binding());
+        final var existing = bindings.get(key);
+        if (existing == null) {
+          bindings.put(key, new Merged(binding));
+        } else {
+          existing.merge(binding);
+        }
+      }
+    }
+
+    final var results = new ArrayList<VulkanDescriptorSetLayoutCreateInfo>();
+    if (sets.isEmpty()) {
+      return results;
+    }
+
+    final var setCount = sets.lastKey().intValue() + 1;
+    for (var set = 0; set < setCount; ++set) {
+      final var bindings = sets.get(Integer.valueOf(set));
+      if (bindings == null) {
+        results.add(VulkanDescriptorSetLayoutCreateInfo.builder().build());
+        continue;
+      }
+      results.add(setLayout(bindings, runtimeArrayCount));
+    }
+    return results;
+  }
+
+  private static VulkanDescriptorSetLayoutCreateInfo setLayout(
+    final TreeMap<Integer, Merged> bindings,
+    final int runtimeArrayCount)
+  {
+    final var builder =
+      VulkanDescriptorSetLayoutCreateInfo.builder();
+    final var flags =
+      new ArrayList<Set<VulkanDescriptorBindingFlag>>(bindings.size());
+
+    var anyRuntime = false;
+    final var last = bindings.lastKey();
+    for (final var entry : bindings.entrySet()) {
+      final var merged = entry.getValue();
+      final var runtime = merged.count == 0;
+
+      builder.addBindings(
+        VulkanDescriptorSetLayoutBinding.builder()
+          .setBinding(entry.getKey().intValue())
+          .setDescriptorType(merged.type)
+          .setDescriptorCount(runtime ? runtimeArrayCount : merged.count)
+          .setStageFlags(merged.stages)
+          .build()
+      );
+
+      if (runtime) {
+        anyRuntime = true;
+        if (entry.getKey().equals(last)) {
+          flags.add(Set.of(
+            VK_DESCRIPTOR_BINDING_PARTIALLY_BOUND,
+            VK_DESCRIPTOR_BINDING_VARIABLE_DESCRIPTOR_COUNT
+          ));
+        } else {
+          flags.add(Set.of(VK_DESCRIPTOR_BINDING_PARTIALLY_BOUND));
+        }
+      } else {
+        flags.add(Set.of());
+      }
+    }
+
+    if (anyRuntime) {
+      builder.setBindingsFlags(flags);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Derive push constant ranges from the given modules. Each stage appears
+   * in at most one range, which covers every push constant block that the
+   * stage uses; stages with identical ranges share a range.
+   *
+   * @param modules The modules
+   *
+   * @return The push constant ranges, ordered by offset
+   */
+
+  public static List<VulkanPushConstantRange> pushConstantRanges(
+    final Collection<JCSPIRVModule> modules)
+  {
+    Objects.requireNonNull(modules, "modules");
+
+    final var extents =
+      new EnumMap<VulkanShaderStageFlag, int[]>(VulkanShaderStageFlag.class);
+
+    for (final var module : modules) {
+      for (final var block : module.pushConstantBlocks()) {
+        final var start = block.offset();
+        final var end = block.offset() + block.size();
+        for (final var stage : block.stages()) {
+          final var extent = extents.get(stage);
+          if (extent == null) {
+            extents.put(stage, new int[]{start, end});
+          } else {
+            extent[0] = Math.min(extent[0], start);
+            extent[1] = Math.max(extent[1], end);
+          }
+        }
+      }
+    }
+
+    final var groups = new LinkedHashMap<Long, EnumSet<VulkanShaderStageFlag>>();
+    for (final var entry : extents.entrySet()) {
+      final var extent = entry.getValue();
+      final var key =
+        Long.valueOf(((long) extent[0] << 32) | Integer.toUnsignedLong(extent[1]));
+      groups.computeIfAbsent(key, k -> EnumSet.noneOf(VulkanShaderStageFlag.class))
+        .add(entry.getKey());
+    }
+
+    final var results = new ArrayList<VulkanPushConstantRange>(groups.size());
+    for (final var entry : groups.entrySet()) {
+      final var key = entry.getKey().longValue();
+      final var start = (int) (key >>> 32);
+      final var end = (int) key;
+      results.add(
+        VulkanPushConstantRange.builder()
+          .setOffset(start)
+          .setSize(end - start)
+          .setStageFlags(entry.getValue())
+          .build()
+      );
+    }
+
+    results.sort((x, y) -> Integer.compare(x.offset(), y.offset()));
+    return results;
+  }
+
+  /**
+   * Derive a vertex input state from the inputs of the given vertex shader
+   * module, assuming that all attributes are interleaved in a single
+   * tightly-packed vertex buffer, in location order.
+   *
+   * @param module    The vertex shader module
+   * @param binding   The vertex buffer binding
+   * @param inputRate The input rate
+   *
+   * @return The vertex input state
+   */
+
+  public static VulkanPipelineVertexInputStateCreateInfo vertexInputState(
+    final JCSPIRVModule module,
+    final int binding,
+    final VulkanVertexInputRate inputRate)
+  {
+    Objects.requireNonNull(module, "module");
+    Objects.requireNonNull(inputRate, "inputRate");
+
+    final var builder =
+      VulkanPipelineVertexInputStateCreateInfo.builder();
+    final var inputs =
+      module.vertexInputs();
+
+    if (inputs.isEmpty()) {
+      return builder.build();
+    }
+
+    var offset = 0;
+    for (final var input : inputs) {
+      builder.addVertexAttributeDescriptions(
+        VulkanVertexInputAttributeDescription.builder()
+          .setLocation(input.location())
+          .setBinding(binding)
+          .setFormat(input.format())
+          .setOffset(offset)
+          .build()
+      );
+      offset += input.size();
+    }
+
+    builder.addVertexBindingDescriptions(
+      VulkanVertexInputBindingDescription.builder()
+        .setBinding(binding)
+        .setStride(offset)
+        .setInputRate(inputRate)
+        .build()
+    );
+    return builder.build();
+  }
+
+  private static final class Merged
+  {
+    private final int set;
+    private final int binding;
+    private final VulkanDescriptorType type;
+    private final EnumSet<VulkanShaderStageFlag> stages;
+    private int count;
+
+    Merged(
+      final JCSPIRVDescriptorBinding initial)
+    {
+      this.set = initial.set();
+      this.binding = initial.binding();
+      this.type = initial.type();
+      this.count = initial.count();
+      this.stages = EnumSet.noneOf(VulkanShaderStageFlag.class);
+      this.stages.addAll(initial.stages());
+    }
+
+    void merge(
+      final JCSPIRVDescriptorBinding other)
+      throws JCSPIRVReflectionException
+    {
+      if (other.type() != this.type) {
+        throw conflict(
+          "Binding declared as both %s and %s."
+            .formatted(this.type, other.type()),
+          this.set,
+          this.binding
+        );
+      }
+
+      if (this.count == 0 || other.count() == 0) {
+        this.count = 0;
+      } else {
+        this.count = Math.max(this.count, other.count());
+      }
+      this.stages.addAll(other.stages());
+    }
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.spirv_reflection;
+
+import com.io7m.jcoronado.api.VulkanShaderStageFlag;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The interface of a reflected shader module.
+ *
+ * @param stages                  The stages of the module's entry points
+ * @param descriptorBindings      The descriptor bindings, ordered by set and
+ *                                binding
+ * @param pushConstantBlocks      The push constant blocks
+ * @param specializationConstants The specialization constants, ordered by ID
+ * @param vertexInputs            The vertex inputs, ordered by location
+ */
+
+public record JCSPIRVModule(
+  Set<VulkanShaderStageFlag> stages,
+  List<JCSPIRVDescriptorBinding> descriptorBindings,
+  List<JCSPIRVPushConstantBlock> pushConstantBlocks,
+  List<JCSPIRVSpecializationConstant> specializationConstants,
+  List<JCSPIRVVertexInput> vertexInputs)
+{
+  /**
+   * The interface of a reflected shader module.
+   *
+   * @param stages                  The stages of the module's entry points
+   * @param descriptorBindings      The descriptor bindings, ordered by set
+   *                                and binding
+   * @param pushConstantBlocks      The push constant blocks
+   * @param specializationConstants The specialization constants, ordered by
+   *                                ID
+   * @param vertexInputs            The vertex inputs, ordered by location
+   */
+
+  public JCSPIRVModule
+  {
+    stages = Set.copyOf(stages);
+    descriptorBindings = List.copyOf(descriptorBindings);
+    pushConstantBlocks = List.copyOf(pushConstantBlocks);
+    specializationConstants = List.copyOf(specializationConstants);
+    vertexInputs = List.copyOf(vertexInputs);
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.spirv_reflection;
+
+import com.io7m.jcoronado.api.VulkanShaderStageFlag;
+
+import java.util.Set;
+
+/**
+ * The range of a push constant block used by a shader module. The range
+ * starts at the lowest member offset and ends at the end of the last
+ * member, so stages that use disjoint parts of a shared block produce
+ * disjoint ranges.
+ *
+ * @param offset The offset in octets of the first member
+ * @param size   The size in octets of the range
+ * @param stages The stages that use the block
+ */
+
+public record JCSPIRVPushConstantBlock(
+  int offset,
+  int size,
+  Set<VulkanShaderStageFlag> stages)
+{
+  /**
+   * The range of a push constant block used by a shader module.
+   *
+   * @param offset The offset in octets of the first member
+   * @param size   The size in octets of the range
+   * @param stages The stages that use the block
+   */
+
+  public JCSPIRVPushConstantBlock
+  {
+    stages = Set.copyOf(stages);
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.spirv_reflection;
+
+import com.io7m.jcoronado.api.VulkanException;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * An exception raised when a shader module cannot be reflected, or when
+ * reflected modules cannot be combined into a single layout.
+ */
+
+public final class JCSPIRVReflectionException
+  extends VulkanException
+{
+  /**
+   * Construct an exception.
+   *
+   * @param message    The message
+   * @param attributes The error attributes
+   * @param errorCode  The error code
+   */
+
+  public JCSPIRVReflectionException(
+    final String message,
+    final Map<String, String> attributes,
+    final String errorCode)
+  {
+    super(message, attributes, errorCode, Optional.empty());
+  }
+}
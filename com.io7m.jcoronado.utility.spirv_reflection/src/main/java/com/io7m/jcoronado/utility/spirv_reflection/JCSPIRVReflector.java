@@ -0,0 +1,1011 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.spirv_reflection;
+
+import com.io7m.jcoronado.api.VulkanDescriptorType;
+import com.io7m.jcoronado.api.VulkanFormat;
+import com.io7m.jcoronado.api.VulkanShaderStageFlag;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_COMBINED_IMAGE_SAMPLER;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_INPUT_ATTACHMENT;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_SAMPLED_IMAGE;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_SAMPLER;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_STORAGE_BUFFER;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_STORAGE_IMAGE;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_STORAGE_TEXEL_BUFFER;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER;
+import static com.io7m.jcoronado.api.VulkanDescriptorType.VK_DESCRIPTOR_TYPE_UNIFORM_TEXEL_BUFFER;
+import static com.io7m.jcoronado.api.VulkanShaderStageFlag.VK_SHADER_STAGE_COMPUTE_BIT;
+import static com.io7m.jcoronado.api.VulkanShaderStageFlag.VK_SHADER_STAGE_FRAGMENT_BIT;
+import static com.io7m.jcoronado.api.VulkanShaderStageFlag.VK_SHADER_STAGE_GEOMETRY_BIT;
+import static com.io7m.jcoronado.api.VulkanShaderStageFlag.VK_SHADER_STAGE_TESSELLATION_CONTROL_BIT;
+import static com.io7m.jcoronado.api.VulkanShaderStageFlag.VK_SHADER_STAGE_TESSELLATION_EVALUATION_BIT;
+import static com.io7m.jcoronado.api.VulkanShaderStageFlag.VK_SHADER_STAGE_VERTEX_BIT;
+
+/**
+ * <p>The default implementation of the {@link JCSPIRVReflectorType}
+ * interface.</p>
+ *
+ * <p>Instructions are not decoded into objects. Instead, the reflector
+ * records the word offset of the instruction that defines each result ID,
+ * along with the decorations of interest, in arrays indexed by ID. Types are
+ * then resolved by reading operands directly from the code. Because the
+ * logical layout of a module places all decorations, types, constants, and
+ * global variables before the first function, parsing stops at the first
+ * {@code OpFunction}.</p>
+ */
+
+public final class JCSPIRVReflector
+  implements JCSPIRVReflectorType
+{
+  private static final int MAGIC = 0x07230203;
+  private static final int HEADER_WORDS = 5;
+  private static final int MAXIMUM_BOUND = 0x400000;
+  private static final int VERSION_1_4 = 0x10400;
+
+  private static final int OP_ENTRY_POINT = 15;
+  private static final int OP_TYPE_BOOL = 20;
+  private static final int OP_TYPE_INT = 21;
+  private static final int OP_TYPE_FLOAT = 22;
+  private static final int OP_TYPE_VECTOR = 23;
+  private static final int OP_TYPE_MATRIX = 24;
+  private static final int OP_TYPE_IMAGE = 25;
+  private static final int OP_TYPE_SAMPLER = 26;
+  private static final int OP_TYPE_SAMPLED_IMAGE = 27;
+  private static final int OP_TYPE_ARRAY = 28;
+  private static final int OP_TYPE_RUNTIME_ARRAY = 29;
+  private static final int OP_TYPE_STRUCT = 30;
+  private static final int OP_TYPE_POINTER = 32;
+  private static final int OP_CONSTANT = 43;
+  private static final int OP_SPEC_CONSTANT_TRUE = 48;
+  private static final int OP_SPEC_CONSTANT_FALSE = 49;
+  private static final int OP_SPEC_CONSTANT = 50;
+  private static final int OP_FUNCTION = 54;
+  private static final int OP_VARIABLE = 59;
+  private static final int OP_DECORATE = 71;
+  private static final int OP_MEMBER_DECORATE = 72;
+
+  private static final int DECORATION_SPEC_ID = 1;
+  private static final int DECORATION_BLOCK = 2;
+  private static final int DECORATION_BUFFER_BLOCK = 3;
+  private static final int DECORATION_ARRAY_STRIDE = 6;
+  private static final int DECORATION_MATRIX_STRIDE = 7;
+  private static final int DECORATION_BUILT_IN = 11;
+  private static final int DECORATION_LOCATION = 30;
+  private static final int DECORATION_BINDING = 33;
+  private static final int DECORATION_DESCRIPTOR_SET = 34;
+  private static final int DECORATION_OFFSET = 35;
+
+  private static final int STORAGE_UNIFORM_CONSTANT = 0;
+  private static final int STORAGE_INPUT = 1;
+  private static final int STORAGE_UNIFORM = 2;
+  private static final int STORAGE_OUTPUT = 3;
+  private static final int STORAGE_FUNCTION = 7;
+  private static final int STORAGE_PUSH_CONSTANT = 9;
+  private static final int STORAGE_STORAGE_BUFFER = 12;
+
+  private static final int DIM_BUFFER = 5;
+  private static final int DIM_SUBPASS_DATA = 6;
+
+  private static final int FLAG_BLOCK = 0b001;
+  private static final int FLAG_BUFFER_BLOCK = 0b010;
+  private static final int FLAG_BUILT_IN = 0b100;
+
+  private static final int KIND_FLOAT = 0;
+  private static final int KIND_SINT = 1;
+  private static final int KIND_UINT = 2;
+
+  private static final VulkanFormat[][][] VERTEX_FORMATS =
+    makeVertexFormats();
+
+  private static final Comparator<JCSPIRVDescriptorBinding> BINDING_ORDER =
+    Comparator.comparingInt(JCSPIRVDescriptorBinding::set)
+      .thenComparingInt(JCSPIRVDescriptorBinding::binding);
+
+  private ByteBuffer code;
+  private int base;
+  private int wordCount;
+  private boolean swap;
+  private int bound;
+  private int[] definitions;
+  private int[] descriptorSets;
+  private int[] bindings;
+  private int[] locations;
+  private int[] specIds;
+  private int[] arrayStrides;
+  private int[] flags;
+  private int[] stageMasks;
+  private int[] memberDecorations;
+  private int memberDecorationCount;
+  private int[] variables;
+  private int variableCount;
+  private int[] specConstants;
+  private int specConstantCount;
+
+  private JCSPIRVReflector()
+  {
+    this.definitions = new int[0];
+    this.descriptorSets = new int[0];
+    this.bindings = new int[0];
+    this.locations = new int[0];
+    this.specIds = new int[0];
+    this.arrayStrides = new int[0];
+    this.flags = new int[0];
+    this.stageMasks = new int[0];
+    this.memberDecorations = new int[64];
+    this.variables = new int[32];
+    this.specConstants = new int[16];
+  }
+
+  /**
+   * Create a new reflector.
+   *
+   * @return A reflector
+   */
+
+  public static JCSPIRVReflectorType create()
+  {
+    return new JCSPIRVReflector();
+  }
+
+  private static VulkanFormat[][][] makeVertexFormats()
+  {
+    final var channels = new String[]{"R", "G", "B", "A"};
+    final var suffixes = new String[]{"SFLOAT", "SINT", "UINT"};
+    final var widths = new int[]{8, 16, 32, 64};
+    final var formats = new VulkanFormat[3][4][4];
+
+    for (var kind = 0; kind < 3; ++kind) {
+      for (var width = 0; width < 4; ++width) {
+        for (var components = 1; components <= 4; ++components) {
+          final var name = new StringBuilder("VK_FORMAT_");
+          for (var c = 0; c < components; ++c) {
+            name.append(channels[c]);
+            name.append(widths[width]);
+          }
+          name.append('_');
+          name.append(suffixes[kind]);
+
+          try {
+            formats[kind][width][components - 1] =
+              VulkanFormat.valueOf(name.toString());
+          } catch (final IllegalArgumentException e) {
+            formats[kind][width][components - 1] = null;
+          }
+        }
+      }
+    }
+    return formats;
+  }
+
+  private static int widthIndex(
+    final int bits)
+  {
+    return switch (bits) {
+      case 8 -> 0;
+      case 16 -> 1;
+      case 32 -> 2;
+      case 64 -> 3;
+      default -> -1;
+    };
+  }
+
+  private static VulkanShaderStageFlag stageOf(
+    final int model)
+  {
+    return switch (model) {
+      case 0 -> VK_SHADER_STAGE_VERTEX_BIT;
+      case 1 -> VK_SHADER_STAGE_TESSELLATION_CONTROL_BIT;
+      case 2 -> VK_SHADER_STAGE_TESSELLATION_EVALUATION_BIT;
+      case 3 -> VK_SHADER_STAGE_GEOMETRY_BIT;
+      case 4 -> VK_SHADER_STAGE_FRAGMENT_BIT;
+      case 5 -> VK_SHADER_STAGE_COMPUTE_BIT;
+      default -> null;
+    };
+  }
+
+  private static Set<VulkanShaderStageFlag> stagesOf(
+    final int mask)
+  {
+    final var stages = EnumSet.noneOf(VulkanShaderStageFlag.class);
+    for (final var stage : VulkanShaderStageFlag.values()) {
+      if ((mask & (1 << stage.ordinal())) != 0) {
+        stages.add(stage);
+      }
+    }
+    return stages;
+  }
+
+  private static int[] grow(
+    final int[] array,
+    final int required)
+  {
+    if (required <= array.length) {
+      return array;
+    }
+    return Arrays.copyOf(array, Math.max(required, array.length * 2));
+  }
+
+  private static JCSPIRVReflectionException malformed(
+    final String message,
+    final int index)
+  {
+    return new JCSPIRVReflectionException(
+      message,
+      Map.of("Word", Integer.toString(index)),
+      "error-spirv-malformed"
+    );
+  }
+
+  private static JCSPIRVReflectionException unsupported(
+    final String message,
+    final int index)
+  {
+    return new JCSPIRVReflectionException(
+      message,
+      Map.of("Word", Integer.toString(index)),
+      "error-spirv-unsupported"
+    );
+  }
+
+  @Override
+  public JCSPIRVModule reflect(
+    final ByteBuffer inCode)
+    throws JCSPIRVReflectionException
+  {
+    Objects.requireNonNull(inCode, "code");
+
+    try {
+      this.code = inCode;
+      this.base = inCode.position();
+
+      final var size = inCode.remaining();
+      if (size % 4 != 0 || size < HEADER_WORDS * 4) {
+        throw malformed(
+          "SPIR-V code size %d is not a multiple of 4 of at least %d octets."
+            .formatted(Integer.valueOf(size), Integer.valueOf(HEADER_WORDS * 4)),
+          0
+        );
+      }
+      this.wordCount = size / 4;
+
+      final var magic = inCode.getInt(this.base);
+      if (magic == MAGIC) {
+        this.swap = false;
+      } else if (Integer.reverseBytes(magic) == MAGIC) {
+        this.swap = true;
+      } else {
+        throw malformed("SPIR-V magic number is missing.", 0);
+      }
+
+      final var version = this.word(1);
+      final var idBound = this.word(3);
+      if (idBound <= 0 || idBound > MAXIMUM_BOUND) {
+        throw malformed(
+          "SPIR-V ID bound %d is out of range.".formatted(Integer.valueOf(idBound)),
+          3
+        );
+      }
+
+      this.prepare(idBound);
+      final var moduleMask = this.parse();
+      return this.collect(version, moduleMask);
+    } finally {
+      this.code = null;
+    }
+  }
+
+  private void prepare(
+    final int idBound)
+  {
+    this.bound = idBound;
+    if (this.definitions.length < idBound) {
+      this.definitions = new int[idBound];
+      this.descriptorSets = new int[idBound];
+      this.bindings = new int[idBound];
+      this.locations = new int[idBound];
+      this.specIds = new int[idBound];
+      this.arrayStrides = new int[idBound];
+      this.flags = new int[idBound];
+      this.stageMasks = new int[idBound];
+    } else {
+      Arrays.fill(this.definitions, 0, idBound, 0);
+      Arrays.fill(this.arrayStrides, 0, idBound, 0);
+      Arrays.fill(this.flags, 0, idBound, 0);
+      Arrays.fill(this.stageMasks, 0, idBound, 0);
+    }
+
+    Arrays.fill(this.descriptorSets, 0, idBound, -1);
+    Arrays.fill(this.bindings, 0, idBound, -1);
+    Arrays.fill(this.locations, 0, idBound, -1);
+    Arrays.fill(this.specIds, 0, idBound, -1);
+
+    this.memberDecorationCount = 0;
+    this.variableCount = 0;
+    this.specConstantCount = 0;
+  }
+
+  private int word(
+    final int index)
+  {
+    final var value = this.code.getInt(this.base + (index << 2));
+    return this.swap ? Integer.reverseBytes(value) : value;
+  }
+
+  private int checkId(
+    final int id,
+    final int index)
+    throws JCSPIRVReflectionException
+  {
+    if (id <= 0 || id >= this.bound) {
+      throw malformed(
+        "SPIR-V ID %d is out of range.".formatted(Integer.valueOf(id)),
+        index
+      );
+    }
+    return id;
+  }
+
+  private static void checkLength(
+    final int length,
+    final int minimum,
+    final int index)
+    throws JCSPIRVReflectionException
+  {
+    if (length < minimum) {
+      throw malformed(
+        "SPIR-V instruction has %d words, but at least %d are required."
+          .formatted(Integer.valueOf(length), Integer.valueOf(minimum)),
+        index
+      );
+    }
+  }
+
+  private int parse()
+    throws JCSPIRVReflectionException
+  {
+    var moduleMask = 0;
+    var index = HEADER_WORDS;
+
+    while (index < this.wordCount) {
+      final var header = this.word(index);
+      final var length = header >>> 16;
+      final var opcode = header & 0xffff;
+
+      if (length == 0 || index + length > this.wordCount) {
+        throw malformed(
+          "SPIR-V instruction length %d is invalid.".formatted(Integer.valueOf(length)),
+          index
+        );
+      }
+
+      switch (opcode) {
+        case OP_FUNCTION -> {
+          return moduleMask;
+        }
+        case OP_ENTRY_POINT -> {
+          moduleMask |= this.parseEntryPoint(index, length);
+        }
+        case OP_DECORATE -> {
+          this.parseDecorate(index, length);
+        }
+        case OP_MEMBER_DECORATE -> {
+          this.parseMemberDecorate(index, length);
+        }
+        case OP_TYPE_BOOL,
+             OP_TYPE_INT,
+             OP_TYPE_FLOAT,
+             OP_TYPE_VECTOR,
+             OP_TYPE_MATRIX,
+             OP_TYPE_IMAGE,
+             OP_TYPE_SAMPLER,
+             OP_TYPE_SAMPLED_IMAGE,
+             OP_TYPE_ARRAY,
+             OP_TYPE_RUNTIME_ARRAY,
+             OP_TYPE_STRUCT,
+             OP_TYPE_POINTER -> {
+          checkLength(length, minimumTypeLength(opcode), index);
+          this.definitions[this.checkId(this.word(index + 1), index)] = index;
+        }
+        case OP_CONSTANT -> {
+          checkLength(length, 4, index);
+          this.definitions[this.checkId(this.word(index + 2), index)] = index;
+        }
+        case OP_SPEC_CONSTANT_TRUE,
+             OP_SPEC_CONSTANT_FALSE,
+             OP_SPEC_CONSTANT -> {
+          checkLength(length, 3, index);
+          final var id = this.checkId(this.word(index + 2), index);
+          this.definitions[id] = index;
+          this.specConstants =
+            grow(this.specConstants, this.specConstantCount + 1);
+          this.specConstants[this.specConstantCount++] = id;
+        }
+        case OP_VARIABLE -> {
+          checkLength(length, 4, index);
+          final var id = this.checkId(this.word(index + 2), index);
+          this.definitions[id] = index;
+          if (this.word(index + 3) != STORAGE_FUNCTION) {
+            this.variables = grow(this.variables, this.variableCount + 1);
+            this.variables[this.variableCount++] = id;
+          }
+        }
+        default -> {
+
+        }
+      }
+
+      index += length;
+    }
+    return moduleMask;
+  }
+
+  private static int minimumTypeLength(
+    final int opcode)
+  {
+    return switch (opcode) {
+      case OP_TYPE_IMAGE -> 9;
+      case OP_TYPE_INT,
+           OP_TYPE_VECTOR,
+           OP_TYPE_MATRIX,
+           OP_TYPE_ARRAY,
+           OP_TYPE_POINTER -> 4;
+      case OP_TYPE_FLOAT,
+           OP_TYPE_SAMPLED_IMAGE,
+           OP_TYPE_RUNTIME_ARRAY -> 3;
+      default -> 2;
+    };
+  }
+
+  private int parseEntryPoint(
+    final int index,
+    final int length)
+    throws JCSPIRVReflectionException
+  {
+    checkLength(length, 4, index);
+
+    final var model = this.word(index + 1);
+    final var stage = stageOf(model);
+    if (stage == null) {
+      throw unsupported(
+        "Execution model %d is not supported.".formatted(Integer.valueOf(model)),
+        index
+      );
+    }
+    final var bit = 1 << stage.ordinal();
+
+    /*
+     * Skip the nul-terminated entry point name; the interface IDs follow it.
+     */
+
+    final var end = index + length;
+    var cursor = index + 3;
+    while (cursor < end) {
+      final var w = this.word(cursor++);
+      if ((w & 0xff) == 0
+          || (w & 0xff00) == 0
+          || (w & 0xff0000) == 0
+          || (w & 0xff000000) == 0) {
+        break;
+      }
+    }
+
+    for (; cursor < end; ++cursor) {
+      this.stageMasks[this.checkId(this.word(cursor), cursor)] |= bit;
+    }
+    return bit;
+  }
+
+  private void parseDecorate(
+    final int index,
+    final int length)
+    throws JCSPIRVReflectionException
+  {
+    checkLength(length, 3, index);
+
+    final var target = this.checkId(this.word(index + 1), index);
+    final var decoration = this.word(index + 2);
+    switch (decoration) {
+      case DECORATION_BLOCK -> this.flags[target] |= FLAG_BLOCK;
+      case DECORATION_BUFFER_BLOCK -> this.flags[target] |= FLAG_BUFFER_BLOCK;
+      case DECORATION_BUILT_IN -> this.flags[target] |= FLAG_BUILT_IN;
+      case DECORATION_SPEC_ID,
+           DECORATION_ARRAY_STRIDE,
+           DECORATION_LOCATION,
+           DECORATION_BINDING,
+           DECORATION_DESCRIPTOR_SET -> {
+        checkLength(length, 4, index);
+        final var value = this.word(index + 3);
+        switch (decoration) {
+          case DECORATION_SPEC_ID -> this.specIds[target] = value;
+          case DECORATION_ARRAY_STRIDE -> this.arrayStrides[target] = value;
+          case DECORATION_LOCATION -> this.locations[target] = value;
+          case DECORATION_BINDING -> this.bindings[target] = value;
+          default -> this.descriptorSets[target] = value;
+        }
+      }
+      default -> {
+
+      }
+    }
+  }
+
+  private void parseMemberDecorate(
+    final int index,
+    final int length)
+    throws JCSPIRVReflectionException
+  {
+    checkLength(length, 4, index);
+
+    final var decoration = this.word(index + 3);
+    if (decoration == DECORATION_OFFSET
+        || decoration == DECORATION_MATRIX_STRIDE) {
+      checkLength(length, 5, index);
+
+      final var at = this.memberDecorationCount * 4;
+      this.memberDecorations = grow(this.memberDecorations, at + 4);
+      this.memberDecorations[at] = this.checkId(this.word(index + 1), index);
+      this.memberDecorations[at + 1] = this.word(index + 2);
+      this.memberDecorations[at + 2] = decoration;
+      this.memberDecorations[at + 3] = this.word(index + 4);
+      ++this.memberDecorationCount;
+    }
+  }
+
+  private int memberDecoration(
+    final int struct,
+    final int member,
+    final int decoration)
+  {
+    for (var index = 0; index < this.memberDecorationCount; ++index) {
+      final var at = index * 4;
+      if (this.memberDecorations[at] == struct
+          && this.memberDecorations[at + 1] == member
+          && this.memberDecorations[at + 2] == decoration) {
+        return this.memberDecorations[at + 3];
+      }
+    }
+    return -1;
+  }
+
+  private int definition(
+    final int id)
+    throws JCSPIRVReflectionException
+  {
+    final var index = this.definitions[this.checkId(id, 0)];
+    if (index == 0) {
+      throw malformed(
+        "SPIR-V ID %d is used but not defined.".formatted(Integer.valueOf(id)),
+        0
+      );
+    }
+    return index;
+  }
+
+  private int opcodeAt(
+    final int index)
+  {
+    return this.word(index) & 0xffff;
+  }
+
+  private JCSPIRVModule collect(
+    final int version,
+    final int moduleMask)
+    throws JCSPIRVReflectionException
+  {
+    final var descriptors = new ArrayList<JCSPIRVDescriptorBinding>();
+    final var pushConstants = new ArrayList<JCSPIRVPushConstantBlock>();
+    final var vertexInputs = new ArrayList<JCSPIRVVertexInput>();
+
+    for (var index = 0; index < this.variableCount; ++index) {
+      final var variable = this.variables[index];
+      final var at = this.definitions[variable];
+      final var storage = this.word(at + 3);
+      final var pointer = this.definition(this.word(at + 1));
+      if (this.opcodeAt(pointer) != OP_TYPE_POINTER) {
+        throw malformed("Variable type is not a pointer.", at);
+      }
+      final var pointee = this.word(pointer + 3);
+
+      /*
+       * Before SPIR-V 1.4, entry point interfaces only list input and
+       * output variables, so other variables are assumed to be used by
+       * every entry point in the module.
+       */
+
+      final int mask;
+      if (version >= VERSION_1_4
+          || storage == STORAGE_INPUT
+          || storage == STORAGE_OUTPUT) {
+        mask = this.stageMasks[variable];
+      } else {
+        mask = moduleMask;
+      }
+      if (mask == 0) {
+        continue;
+      }
+
+      switch (storage) {
+        case STORAGE_UNIFORM_CONSTANT,
+             STORAGE_UNIFORM,
+             STORAGE_STORAGE_BUFFER -> {
+          if (this.descriptorSets[variable] >= 0
+              && this.bindings[variable] >= 0) {
+            descriptors.add(
+              this.descriptorBinding(variable, storage, pointee, mask));
+          }
+        }
+        case STORAGE_PUSH_CONSTANT -> {
+          this.pushConstantBlock(pointee, mask, pushConstants);
+        }
+        case STORAGE_INPUT -> {
+          if ((mask & (1 << VK_SHADER_STAGE_VERTEX_BIT.ordinal())) != 0
+              && this.locations[variable] >= 0
+              && (this.flags[variable] & FLAG_BUILT_IN) == 0) {
+            this.vertexInputs(pointee, this.locations[variable], vertexInputs);
+          }
+        }
+        default -> {
+
+        }
+      }
+    }
+
+    descriptors.sort(BINDING_ORDER);
+    vertexInputs.sort(Comparator.comparingInt(JCSPIRVVertexInput::location));
+
+    return new JCSPIRVModule(
+      stagesOf(moduleMask),
+      mergeDuplicateBindings(descriptors),
+      pushConstants,
+      this.specializationConstants(),
+      vertexInputs
+    );
+  }
+
+  /**
+   * Modules with several entry points may declare a separate variable for
+   * the same binding in each entry point; such declarations are combined.
+   */
+
+  private static ArrayList<JCSPIRVDescriptorBinding> mergeDuplicateBindings(
+    final ArrayList<JCSPIRVDescriptorBinding> sorted)
+  {
+    final var results = new ArrayList<JCSPIRVDescriptorBinding>(sorted.size());
+    for (final var binding : sorted) {
+      final var lastIndex = results.size() - 1;
+      if (lastIndex >= 0) {
+        final var last = results.get(lastIndex);
+        if (last.set() == binding.set()
+            && last.binding() == binding.binding()
+            && last.type() == binding.type()) {
+          final var stages = EnumSet.copyOf(last.stages());
+          stages.addAll(binding.stages());
+          final var count =
+            last.count() == 0 || binding.count() == 0
+              ? 0
+              : Math.max(last.count(), binding.count());
+          results.set(
+            lastIndex,
+            new JCSPIRVDescriptorBinding(
+              last.set(), last.binding(), last.type(), count, stages)
+          );
+          continue;
+        }
+      }
+      results.add(binding);
+    }
+    return results;
+  }
+
+  private JCSPIRVDescriptorBinding descriptorBinding(
+    final int variable,
+    final int storage,
+    final int pointee,
+    final int mask)
+    throws JCSPIRVReflectionException
+  {
+    var count = 1;
+    var type = pointee;
+
+    while (true) {
+      final var at = this.definition(type);
+      final var opcode = this.opcodeAt(at);
+      if (opcode == OP_TYPE_ARRAY) {
+        count *= this.constantValue(this.word(at + 3));
+        type = this.word(at + 2);
+      } else if (opcode == OP_TYPE_RUNTIME_ARRAY) {
+        count = 0;
+        type = this.word(at + 2);
+      } else {
+        break;
+      }
+    }
+
+    return new JCSPIRVDescriptorBinding(
+      this.descriptorSets[variable],
+      this.bindings[variable],
+      this.descriptorType(storage, type),
+      count,
+      stagesOf(mask)
+    );
+  }
+
+  private VulkanDescriptorType descriptorType(
+    final int storage,
+    final int type)
+    throws JCSPIRVReflectionException
+  {
+    final var at = this.definition(type);
+    final var opcode = this.opcodeAt(at);
+
+    if (storage == STORAGE_STORAGE_BUFFER) {
+      return VK_DESCRIPTOR_TYPE_STORAGE_BUFFER;
+    }
+    if (storage == STORAGE_UNIFORM) {
+      if ((this.flags[type] & FLAG_BUFFER_BLOCK) != 0) {
+        return VK_DESCRIPTOR_TYPE_STORAGE_BUFFER;
+      }
+      return VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER;
+    }
+
+    return switch (opcode) {
+      case OP_TYPE_SAMPLER -> VK_DESCRIPTOR_TYPE_SAMPLER;
+      case OP_TYPE_SAMPLED_IMAGE -> VK_DESCRIPTOR_TYPE_COMBINED_IMAGE_SAMPLER;
+      case OP_TYPE_IMAGE -> {
+        final var dim = this.word(at + 3);
+        final var sampled = this.word(at + 7);
+        if (dim == DIM_BUFFER) {
+          yield sampled == 2
+            ? VK_DESCRIPTOR_TYPE_STORAGE_TEXEL_BUFFER
+            : VK_DESCRIPTOR_TYPE_UNIFORM_TEXEL_BUFFER;
+        }
+        if (dim == DIM_SUBPASS_DATA) {
+          yield VK_DESCRIPTOR_TYPE_INPUT_ATTACHMENT;
+        }
+        yield sampled == 2
+          ? VK_DESCRIPTOR_TYPE_STORAGE_IMAGE
+          : VK_DESCRIPTOR_TYPE_SAMPLED_IMAGE;
+      }
+      default -> throw unsupported(
+        "Descriptor type for opcode %d is not supported."
+          .formatted(Integer.valueOf(opcode)),
+        at
+      );
+    };
+  }
+
+  private int constantValue(
+    final int id)
+    throws JCSPIRVReflectionException
+  {
+    final var at = this.definition(id);
+    final var opcode = this.opcodeAt(at);
+    if (opcode != OP_CONSTANT && opcode != OP_SPEC_CONSTANT) {
+      throw unsupported("Array lengths must be scalar constants.", at);
+    }
+    return this.word(at + 3);
+  }
+
+  private void pushConstantBlock(
+    final int type,
+    final int mask,
+    final ArrayList<JCSPIRVPushConstantBlock> results)
+    throws JCSPIRVReflectionException
+  {
+    final var at = this.definition(type);
+    if (this.opcodeAt(at) != OP_TYPE_STRUCT) {
+      throw malformed("Push constant blocks must be structures.", at);
+    }
+
+    final var members = (this.word(at) >>> 16) - 2;
+    if (members == 0) {
+      return;
+    }
+
+    var start = Integer.MAX_VALUE;
+    for (var member = 0; member < members; ++member) {
+      final var offset =
+        this.memberDecoration(type, member, DECORATION_OFFSET);
+      start = Math.min(start, Math.max(offset, 0));
+    }
+
+    final var end = this.structSize(type, at);
+    results.add(new JCSPIRVPushConstantBlock(start, end - start, stagesOf(mask)));
+  }
+
+  private int structSize(
+    final int type,
+    final int at)
+    throws JCSPIRVReflectionException
+  {
+    final var members = (this.word(at) >>> 16) - 2;
+
+    var end = 0;
+    for (var member = 0; member < members; ++member) {
+      final var memberType =
+        this.word(at + 2 + member);
+      final var offset =
+        this.memberDecoration(type, member, DECORATION_OFFSET);
+      final var matrixStride =
+        this.memberDecoration(type, member, DECORATION_MATRIX_STRIDE);
+      final var start =
+        offset >= 0 ? offset : end;
+
+      end = Math.max(end, start + this.typeSize(memberType, matrixStride));
+    }
+    return end;
+  }
+
+  private int typeSize(
+    final int type,
+    final int matrixStride)
+    throws JCSPIRVReflectionException
+  {
+    final var at = this.definition(type);
+    final var opcode = this.opcodeAt(at);
+
+    return switch (opcode) {
+      case OP_TYPE_BOOL -> 4;
+      case OP_TYPE_INT, OP_TYPE_FLOAT -> this.word(at + 2) / 8;
+      case OP_TYPE_VECTOR -> {
+        yield this.word(at + 3) * this.typeSize(this.word(at + 2), -1);
+      }
+      case OP_TYPE_MATRIX -> {
+        final var columns = this.word(at + 3);
+        if (matrixStride > 0) {
+          yield columns * matrixStride;
+        }
+        yield columns * this.typeSize(this.word(at + 2), -1);
+      }
+      case OP_TYPE_ARRAY -> {
+        final var length = this.constantValue(this.word(at + 3));
+        final var stride = this.arrayStrides[type];
+        if (stride > 0) {
+          yield length * stride;
+        }
+        yield length * this.typeSize(this.word(at + 2), matrixStride);
+      }
+      case OP_TYPE_RUNTIME_ARRAY -> 0;
+      case OP_TYPE_STRUCT -> this.structSize(type, at);
+      case OP_TYPE_POINTER -> 8;
+      default -> throw unsupported(
+        "Size of type with opcode %d is not supported."
+          .formatted(Integer.valueOf(opcode)),
+        at
+      );
+    };
+  }
+
+  private int vertexInputs(
+    final int type,
+    final int location,
+    final ArrayList<JCSPIRVVertexInput> results)
+    throws JCSPIRVReflectionException
+  {
+    final var at = this.definition(type);
+    final var opcode = this.opcodeAt(at);
+
+    return switch (opcode) {
+      case OP_TYPE_ARRAY -> {
+        final var length = this.constantValue(this.word(at + 3));
+        final var element = this.word(at + 2);
+        var next = location;
+        for (var index = 0; index < length; ++index) {
+          next += this.vertexInputs(element, next, results);
+        }
+        yield next - location;
+      }
+      case OP_TYPE_MATRIX -> {
+        final var columns = this.word(at + 3);
+        final var column = this.word(at + 2);
+        var next = location;
+        for (var index = 0; index < columns; ++index) {
+          next += this.vertexInputs(column, next, results);
+        }
+        yield next - location;
+      }
+      case OP_TYPE_VECTOR -> {
+        yield this.vertexInput(
+          this.word(at + 2), this.word(at + 3), location, results);
+      }
+      case OP_TYPE_INT, OP_TYPE_FLOAT -> {
+        yield this.vertexInput(type, 1, location, results);
+      }
+      default -> throw unsupported(
+        "Vertex input type with opcode %d is not supported."
+          .formatted(Integer.valueOf(opcode)),
+        at
+      );
+    };
+  }
+
+  private int vertexInput(
+    final int scalar,
+    final int components,
+    final int location,
+    final ArrayList<JCSPIRVVertexInput> results)
+    throws JCSPIRVReflectionException
+  {
+    final var at = this.definition(scalar);
+    final var opcode = this.opcodeAt(at);
+    final var width = this.word(at + 2);
+
+    final int kind;
+    if (opcode == OP_TYPE_FLOAT) {
+      kind = KIND_FLOAT;
+    } else if (opcode == OP_TYPE_INT) {
+      kind = this.word(at + 3) != 0 ? KIND_SINT : KIND_UINT;
+    } else {
+      throw unsupported("Vertex input components must be numeric.", at);
+    }
+
+    final var widthIndex = widthIndex(width);
+    final var format =
+      widthIndex >= 0 && components >= 1 && components <= 4
+        ? VERTEX_FORMATS[kind][widthIndex][components - 1]
+        : null;
+
+    if (format == null) {
+      throw unsupported(
+        "No vertex format exists for %d components of width %d."
+          .formatted(Integer.valueOf(components), Integer.valueOf(width)),
+        at
+      );
+    }
+
+    final var size = components * (width / 8);
+    results.add(new JCSPIRVVertexInput(location, format, size));
+    return size > 16 ? 2 : 1;
+  }
+
+  private ArrayList<JCSPIRVSpecializationConstant> specializationConstants()
+    throws JCSPIRVReflectionException
+  {
+    final var results =
+      new ArrayList<JCSPIRVSpecializationConstant>(this.specConstantCount);
+
+    for (var index = 0; index < this.specConstantCount; ++index) {
+      final var constant = this.specConstants[index];
+      final var specId = this.specIds[constant];
+      if (specId < 0) {
+        continue;
+      }
+
+      final var at = this.definitions[constant];
+      final int size;
+      if (this.opcodeAt(at) == OP_SPEC_CONSTANT) {
+        size = this.typeSize(this.word(at + 1), -1);
+      } else {
+        size = 4;
+      }
+      results.add(new JCSPIRVSpecializationConstant(specId, size));
+    }
+
+    results.sort(Comparator.comparingInt(JCSPIRVSpecializationConstant::id));
+    return results;
+  }
+}
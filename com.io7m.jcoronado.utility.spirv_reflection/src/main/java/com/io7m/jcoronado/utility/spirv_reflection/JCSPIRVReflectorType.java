@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.spirv_reflection;
+
+import com.io7m.jcoronado.api.VulkanShaderModuleCreateInfo;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>A SPIR-V reflector.</p>
+ *
+ * <p>A reflector makes a single pass over the code of a module, stopping at
+ * the first function definition, and retains its working storage between
+ * calls so that large numbers of modules can be reflected without
+ * significant allocation. Reflectors are therefore not safe for concurrent
+ * use; use one reflector per thread.</p>
+ */
+
+public interface JCSPIRVReflectorType
+{
+  /**
+   * Reflect the SPIR-V code between the position and limit of the given
+   * buffer. The code may be in either byte order, regardless of the order
+   * of the buffer. The position, limit, and order of the buffer are not
+   * modified.
+   *
+   * @param code The SPIR-V code
+   *
+   * @return The reflected module interface
+   *
+   * @throws JCSPIRVReflectionException If the code is malformed or uses
+   *                                    unsupported features
+   */
+
+  JCSPIRVModule reflect(ByteBuffer code)
+    throws JCSPIRVReflectionException;
+
+  /**
+   * Reflect the SPIR-V code of the given shader module create info.
+   *
+   * @param info The create info
+   *
+   * @return The reflected module interface
+   *
+   * @throws JCSPIRVReflectionException If the code is malformed or uses
+   *                                    unsupported features
+   *
+   * @see #reflect(ByteBuffer)
+   */
+
+  default JCSPIRVModule reflect(
+    final VulkanShaderModuleCreateInfo info)
+    throws JCSPIRVReflectionException
+  {
+    return this.reflect(info.data());
+  }
+}
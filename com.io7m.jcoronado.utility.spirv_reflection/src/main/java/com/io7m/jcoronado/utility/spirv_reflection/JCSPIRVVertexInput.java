@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.utility.spirv_reflection;
+
+import com.io7m.jcoronado.api.VulkanFormat;
+
+import java.util.Objects;
+
+/**
+ * A vertex shader input attribute. Matrix and array inputs are reported as
+ * one attribute per location that they consume.
+ *
+ * @param location The attribute location
+ * @param format   The attribute format
+ * @param size     The size in octets of the attribute
+ */
+
+public record JCSPIRVVertexInput(
+  int location,
+  VulkanFormat format,
+  int size)
+{
+  /**
+   * A vertex shader input attribute.
+   *
+   * @param location The attribute location
+   * @param format   The attribute format
+   * @param size     The size in octets of the attribute
+   */
+
+  public JCSPIRVVertexInput
+  {
+    Objects.requireNonNull(format, "format");
+  }
+}
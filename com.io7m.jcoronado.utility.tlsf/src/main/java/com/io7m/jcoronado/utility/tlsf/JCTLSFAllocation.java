@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.tlsf;
+
+import com.io7m.jcoronado.api.VulkanDeviceMemoryType;
+import com.io7m.jcoronado.api.VulkanMemoryTypeIndex;
+
+import java.util.Objects;
+
+/**
+ * <p>A range of device memory allocated by a TLSF allocator. Resources are
+ * bound to the allocation using {@link #memory()} and {@link #offset()}.</p>
+ *
+ * <p>An allocation must be returned with
+ * {@link JCTLSFAllocatorType#free(JCTLSFAllocation)} once the GPU has
+ * finished with any resources bound to it.</p>
+ */
+
+public final class JCTLSFAllocation
+{
+  private final JCTLSFBlock block;
+  private final int node;
+  private final long offset;
+  private final long size;
+  private final JCTLSFResourceKind kind;
+  private volatile boolean freed;
+
+  JCTLSFAllocation(
+    final JCTLSFBlock inBlock,
+    final int inNode,
+    final long inOffset,
+    final long inSize,
+    final JCTLSFResourceKind inKind)
+  {
+    this.block = Objects.requireNonNull(inBlock, "block");
+    this.node = inNode;
+    this.offset = inOffset;
+    this.size = inSize;
+    this.kind = Objects.requireNonNull(inKind, "kind");
+  }
+
+  /**
+   * @return The device memory that contains the allocation
+   */
+
+  public VulkanDeviceMemoryType memory()
+  {
+    return this.block.memory();
+  }
+
+  /**
+   * @return The memory type of the device memory
+   */
+
+  public VulkanMemoryTypeIndex memoryTypeIndex()
+  {
+    return this.block.memoryTypeIndex();
+  }
+
+  /**
+   * @return The offset of the allocation within the device memory
+   */
+
+  public long offset()
+  {
+    return this.offset;
+  }
+
+  /**
+   * @return The size of the allocation; at least the requested size
+   */
+
+  public long size()
+  {
+    return this.size;
+  }
+
+  /**
+   * @return The kind of resource the allocation was made for
+   */
+
+  public JCTLSFResourceKind kind()
+  {
+    return this.kind;
+  }
+
+  /**
+   * @return {@code true} if the allocation has been freed
+   */
+
+  public boolean isFreed()
+  {
+    return this.freed;
+  }
+
+  JCTLSFBlock block()
+  {
+    return this.block;
+  }
+
+  int node()
+  {
+    return this.node;
+  }
+
+  void setFreed()
+  {
+    this.freed = true;
+  }
+
+  @Override
+  public String toString()
+  {
+    return "[JCTLSFAllocation %s 0x%s %s]".formatted(
+      this.memory(),
+      Long.toUnsignedString(this.offset, 16),
+      Long.toUnsignedString(this.size)
+    );
+  }
+}
@@ -0,0 +1,495 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.tlsf;
+
+import com.io7m.jcoronado.api.VulkanAllocationFailedException;
+import com.io7m.jcoronado.api.VulkanDestroyedException;
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanLogicalDeviceType;
+import com.io7m.jcoronado.api.VulkanMemoryAllocateInfo;
+import com.io7m.jcoronado.api.VulkanMemoryPropertyFlag;
+import com.io7m.jcoronado.api.VulkanMemoryRequirements;
+import com.io7m.jcoronado.api.VulkanMemoryTypeIndex;
+import com.io7m.jcoronado.api.VulkanMissingRequiredMemoryTypeException;
+import com.io7m.jcoronado.api.VulkanPhysicalDeviceMemoryProperties;
+import com.io7m.jcoronado.api.VulkanResourceException;
+import com.io7m.jmulticlose.core.CloseableCollection;
+
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The default implementation of the {@link JCTLSFAllocatorType} interface.
+ *
+ * <p>The blocks for each memory type and resource kind are held in a
+ * {@link JCTLSFPool} that indexes them by their largest free node, so
+ * choosing a block for an allocation takes constant time regardless of the
+ * number of blocks. Each pool retains at most one empty non-dedicated block
+ * so that alternating allocations and frees do not repeatedly allocate and
+ * free device memory.</p>
+ */
+
+public final class JCTLSFAllocator implements JCTLSFAllocatorType
+{
+  private final JCTLSFAllocatorConfiguration configuration;
+  private final VulkanLogicalDeviceType device;
+  private final VulkanPhysicalDeviceMemoryProperties memoryProperties;
+  private final boolean separateKinds;
+  private final ReentrantLock lock;
+  private final HashMap<PoolKey, JCTLSFPool> pools;
+  private final AtomicBoolean closed;
+  private int blockCount;
+  private long blockBytes;
+  private int allocationCount;
+  private long allocationBytes;
+
+  private JCTLSFAllocator(
+    final JCTLSFAllocatorConfiguration inConfiguration,
+    final VulkanPhysicalDeviceMemoryProperties inMemoryProperties,
+    final boolean inSeparateKinds)
+  {
+    this.configuration =
+      Objects.requireNonNull(inConfiguration, "configuration");
+    this.device =
+      inConfiguration.device();
+    this.memoryProperties =
+      Objects.requireNonNull(inMemoryProperties, "memoryProperties");
+    this.separateKinds =
+      inSeparateKinds;
+    this.lock =
+      new ReentrantLock();
+    this.pools =
+      new HashMap<>();
+    this.closed =
+      new AtomicBoolean(false);
+  }
+
+  /**
+   * Create a new allocator.
+   *
+   * @param configuration The configuration
+   *
+   * @return A new allocator
+   *
+   * @throws VulkanException On errors
+   */
+
+  public static JCTLSFAllocatorType create(
+    final JCTLSFAllocatorConfiguration configuration)
+    throws VulkanException
+  {
+    Objects.requireNonNull(configuration, "configuration");
+
+    final var physicalDevice =
+      configuration.device().physicalDevice();
+    final var granularity =
+      physicalDevice.limits().bufferImageGranularity();
+
+    return new JCTLSFAllocator(
+      configuration,
+      physicalDevice.memory(),
+      Long.compareUnsigned(granularity, 1L) > 0
+    );
+  }
+
+  private static long alignUp(
+    final long x,
+    final long alignment)
+  {
+    return (x + (alignment - 1L)) & -alignment;
+  }
+
+  private static boolean typePermitted(
+    final VulkanMemoryRequirements requirements,
+    final VulkanMemoryTypeIndex memoryType)
+  {
+    final var index = memoryType.value();
+    return index >= 0
+           && index < Integer.SIZE
+           && (requirements.memoryTypeBits() & (1 << index)) != 0;
+  }
+
+  private void checkNotClosed()
+    throws VulkanDestroyedException
+  {
+    if (this.closed.get()) {
+      throw new VulkanDestroyedException(
+        "Allocator has been closed.",
+        JCTLSFAllocator.class
+      );
+    }
+  }
+
+  private PoolKey poolKey(
+    final VulkanMemoryTypeIndex memoryType,
+    final JCTLSFResourceKind kind)
+  {
+    return new PoolKey(
+      memoryType,
+      this.separateKinds ? kind : JCTLSFResourceKind.LINEAR
+    );
+  }
+
+  @Override
+  public JCTLSFAllocation allocate(
+    final VulkanMemoryRequirements requirements,
+    final Set<VulkanMemoryPropertyFlag> requiredFlags,
+    final JCTLSFResourceKind kind)
+    throws VulkanException
+  {
+    Objects.requireNonNull(requirements, "requirements");
+    Objects.requireNonNull(requiredFlags, "requiredFlags");
+    Objects.requireNonNull(kind, "kind");
+
+    this.checkNotClosed();
+
+    for (final var type : this.memoryProperties.types().values()) {
+      if (typePermitted(requirements, type.index())
+          && type.flags().containsAll(requiredFlags)) {
+        return this.allocate(requirements, type.index(), kind);
+      }
+    }
+
+    throw new VulkanMissingRequiredMemoryTypeException(
+      "No memory type satisfies the requirements and flags %s.".formatted(
+        requiredFlags),
+      requirements
+    );
+  }
+
+  @Override
+  public JCTLSFAllocation allocate(
+    final VulkanMemoryRequirements requirements,
+    final VulkanMemoryTypeIndex memoryType,
+    final JCTLSFResourceKind kind)
+    throws VulkanException
+  {
+    Objects.requireNonNull(requirements, "requirements");
+    Objects.requireNonNull(memoryType, "memoryType");
+    Objects.requireNonNull(kind, "kind");
+
+    final var size = requirements.size();
+    if (size <= 0L) {
+      throw new IllegalArgumentException(
+        "Size %d must be positive".formatted(Long.valueOf(size))
+      );
+    }
+    if (!typePermitted(requirements, memoryType)) {
+      throw new VulkanMissingRequiredMemoryTypeException(
+        "Memory type %s is not permitted by the requirements.".formatted(
+          Integer.toUnsignedString(memoryType.value())),
+        requirements
+      );
+    }
+
+    this.checkNotClosed();
+
+    this.lock.lock();
+    try {
+      this.checkNotClosed();
+
+      final var pool =
+        this.pools.computeIfAbsent(
+          this.poolKey(memoryType, kind),
+          k -> new JCTLSFPool(this)
+        );
+
+      final var alignment = requirements.alignment();
+      if (size > this.configuration.blockSize()) {
+        final var dedicatedSize =
+          alignUp(size, this.configuration.minimumAlignment());
+        final var block =
+          this.blockCreate(pool, memoryType, dedicatedSize, 3, true);
+        return this.allocateFrom(pool, block, requirements, kind);
+      }
+
+      /*
+       * Try a block that is large enough to hold the allocation at any
+       * offset and, failing that, a block whose largest free node could
+       * hold the allocation if it happens to be suitably aligned. This
+       * mirrors the search performed by each heap, and keeps the number of
+       * blocks tried constant.
+       */
+
+      final var minimumAlignment =
+        this.configuration.minimumAlignment();
+      final var blockSize =
+        this.configuration.blockSize();
+
+      final var first =
+        pool.find(
+          JCTLSFHeap.searchUnits(size, alignment, minimumAlignment, blockSize));
+      final var firstAllocation =
+        this.allocateFromExisting(pool, first, size, alignment, kind);
+      if (firstAllocation != null) {
+        return firstAllocation;
+      }
+
+      final var second =
+        pool.head(
+          JCTLSFHeap.searchUnits(size, 0L, minimumAlignment, blockSize));
+      if (second != first) {
+        final var secondAllocation =
+          this.allocateFromExisting(pool, second, size, alignment, kind);
+        if (secondAllocation != null) {
+          return secondAllocation;
+        }
+      }
+
+      final var block =
+        this.blockCreate(
+          pool,
+          memoryType,
+          this.configuration.blockSize(),
+          this.configuration.nodesPerBlock(),
+          false
+        );
+      return this.allocateFrom(pool, block, requirements, kind);
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  private JCTLSFAllocation allocateFromExisting(
+    final JCTLSFPool pool,
+    final JCTLSFBlock block,
+    final long size,
+    final long alignment,
+    final JCTLSFResourceKind kind)
+  {
+    if (block == null) {
+      return null;
+    }
+
+    final var node = block.heap().allocate(size, alignment);
+    if (node == JCTLSFHeap.NO_NODE) {
+      pool.demote(block);
+      return null;
+    }
+    return this.allocation(block, node, kind);
+  }
+
+  private JCTLSFAllocation allocateFrom(
+    final JCTLSFPool pool,
+    final JCTLSFBlock block,
+    final VulkanMemoryRequirements requirements,
+    final JCTLSFResourceKind kind)
+    throws VulkanException
+  {
+    final var node =
+      block.heap().allocate(requirements.size(), requirements.alignment());
+
+    if (node == JCTLSFHeap.NO_NODE) {
+      this.blockRelease(pool, block);
+      throw new VulkanAllocationFailedException(
+        "The allocation does not fit into an empty block.",
+        requirements.size(),
+        requirements.alignment()
+      );
+    }
+    return this.allocation(block, node, kind);
+  }
+
+  private JCTLSFAllocation allocation(
+    final JCTLSFBlock block,
+    final int node,
+    final JCTLSFResourceKind kind)
+  {
+    final var pool = block.pool();
+    if (pool.empty() == block) {
+      pool.setEmpty(null);
+    }
+    if (!block.isDedicated()) {
+      pool.update(block);
+    }
+
+    final var heap = block.heap();
+    final var allocation =
+      new JCTLSFAllocation(
+        block,
+        node,
+        heap.offsetOf(node),
+        heap.sizeOf(node),
+        kind
+      );
+
+    this.allocationCount += 1;
+    this.allocationBytes += allocation.size();
+    return allocation;
+  }
+
+  private JCTLSFBlock blockCreate(
+    final JCTLSFPool pool,
+    final VulkanMemoryTypeIndex memoryType,
+    final long size,
+    final int nodes,
+    final boolean dedicated)
+    throws VulkanException
+  {
+    final var memory =
+      this.device.allocateMemory(
+        VulkanMemoryAllocateInfo.builder()
+          .setMemoryTypeIndex(memoryType)
+          .setSize(size)
+          .build()
+      );
+
+    final var block =
+      new JCTLSFBlock(
+        pool,
+        memory,
+        memoryType,
+        new JCTLSFHeap(size, this.configuration.minimumAlignment(), nodes),
+        dedicated
+      );
+
+    pool.add(block);
+    this.blockCount += 1;
+    this.blockBytes += size;
+    return block;
+  }
+
+  private void blockRelease(
+    final JCTLSFPool pool,
+    final JCTLSFBlock block)
+    throws VulkanException
+  {
+    pool.remove(block);
+    this.blockCount -= 1;
+    this.blockBytes -= block.heap().size();
+    block.memory().close();
+  }
+
+  @Override
+  public void free(
+    final JCTLSFAllocation allocation)
+    throws VulkanException
+  {
+    Objects.requireNonNull(allocation, "allocation");
+
+    final var block = allocation.block();
+    final var pool = block.pool();
+    if (pool.owner() != this) {
+      throw new IllegalArgumentException(
+        "Allocation %s does not belong to this allocator.".formatted(allocation)
+      );
+    }
+
+    this.checkNotClosed();
+
+    this.lock.lock();
+    try {
+      this.checkNotClosed();
+
+      if (allocation.isFreed()) {
+        throw new IllegalStateException(
+          "Allocation %s has already been freed.".formatted(allocation)
+        );
+      }
+
+      final var heap = block.heap();
+      heap.free(allocation.node());
+      allocation.setFreed();
+
+      this.allocationCount -= 1;
+      this.allocationBytes -= allocation.size();
+
+      if (heap.isEmpty()) {
+        if (block.isDedicated() || pool.empty() != null) {
+          this.blockRelease(pool, block);
+          return;
+        }
+        pool.setEmpty(block);
+      }
+      if (!block.isDedicated()) {
+        pool.update(block);
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public JCTLSFStatistics statistics()
+    throws VulkanException
+  {
+    this.checkNotClosed();
+
+    this.lock.lock();
+    try {
+      return new JCTLSFStatistics(
+        this.blockCount,
+        this.allocationCount,
+        this.blockBytes,
+        this.allocationBytes
+      );
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public void close()
+    throws VulkanException
+  {
+    if (this.closed.compareAndSet(false, true)) {
+      final var resources =
+        CloseableCollection.create(() -> {
+          return new VulkanResourceException(
+            "One or more resources failed to close."
+          );
+        });
+
+      this.lock.lock();
+      try {
+        for (final var pool : this.pools.values()) {
+          for (final var block : pool.blocks()) {
+            resources.add(block.memory());
+          }
+        }
+        this.pools.clear();
+        this.blockCount = 0;
+        this.blockBytes = 0L;
+        this.allocationCount = 0;
+        this.allocationBytes = 0L;
+      } finally {
+        this.lock.unlock();
+      }
+
+      resources.close();
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return "[JCTLSFAllocator 0x%s]".formatted(
+      Integer.toUnsignedString(this.hashCode(), 16)
+    );
+  }
+
+  private record PoolKey(
+    VulkanMemoryTypeIndex memoryType,
+    JCTLSFResourceKind kind)
+  {
+
+  }
+}
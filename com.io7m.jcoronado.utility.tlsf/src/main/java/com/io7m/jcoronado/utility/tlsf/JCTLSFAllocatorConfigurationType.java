@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.tlsf;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import com.io7m.jcoronado.api.VulkanLogicalDeviceType;
+import org.immutables.value.Value;
+
+/**
+ * The configuration values required to create a TLSF allocator.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface JCTLSFAllocatorConfigurationType
+{
+  /**
+   * @return The logical device
+   */
+
+  VulkanLogicalDeviceType device();
+
+  /**
+   * @return The size of each block of device memory; requests larger than
+   * this are given a dedicated block of their own
+   */
+
+  @Value.Default
+  default long blockSize()
+  {
+    return 64L * 1024L * 1024L;
+  }
+
+  /**
+   * @return The maximum number of nodes (free ranges plus allocations) that
+   * each block can track
+   */
+
+  @Value.Default
+  default int nodesPerBlock()
+  {
+    return 16384;
+  }
+
+  /**
+   * @return The minimum alignment of every allocation; all offsets and sizes
+   * are rounded up to a multiple of this value
+   */
+
+  @Value.Default
+  default long minimumAlignment()
+  {
+    return 16L;
+  }
+
+  /**
+   * Check preconditions for the type.
+   */
+
+  @Value.Check
+  default void checkPreconditions()
+  {
+    final var alignment = this.minimumAlignment();
+    if (alignment <= 0L || (alignment & (alignment - 1L)) != 0L) {
+      throw new IllegalArgumentException(
+        "Minimum alignment %d must be a power of two".formatted(
+          Long.valueOf(alignment))
+      );
+    }
+
+    final var size = this.blockSize();
+    if (size <= 0L || (size & (alignment - 1L)) != 0L) {
+      throw new IllegalArgumentException(
+        "Block size %d must be a positive multiple of %d".formatted(
+          Long.valueOf(size),
+          Long.valueOf(alignment))
+      );
+    }
+
+    if (this.nodesPerBlock() < 3) {
+      throw new IllegalArgumentException(
+        "Nodes per block %d must be at least 3".formatted(
+          Integer.valueOf(this.nodesPerBlock()))
+      );
+    }
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.tlsf;
+
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanMemoryPropertyFlag;
+import com.io7m.jcoronado.api.VulkanMemoryRequirements;
+import com.io7m.jcoronado.api.VulkanMemoryTypeIndex;
+
+import java.util.Set;
+
+/**
+ * <p>A general-purpose device memory allocator that does not depend on
+ * any native allocator library.</p>
+ *
+ * <p>The allocator obtains large blocks of device memory with
+ * {@code vkAllocateMemory} and carves allocations out of them using a
+ * {@link JCTLSFHeap} per block, so that the number of device memory
+ * allocations stays far below {@code maxMemoryAllocationCount}. Requests
+ * larger than the configured block size are given a dedicated block.</p>
+ *
+ * <p>Blocks are separated by memory type and, when the device's
+ * {@code bufferImageGranularity} is larger than one byte, by
+ * {@link JCTLSFResourceKind}. Allocations honour the alignment in the
+ * given memory requirements.</p>
+ *
+ * <p>All methods are thread-safe.</p>
+ */
+
+public interface JCTLSFAllocatorType
+  extends AutoCloseable
+{
+  /**
+   * Allocate memory from the first memory type permitted by the
+   * requirements that has all the required property flags.
+   *
+   * @param requirements  The memory requirements of the resource
+   * @param requiredFlags The required memory property flags
+   * @param kind          The kind of resource
+   *
+   * @return An allocation
+   *
+   * @throws VulkanException On errors
+   */
+
+  JCTLSFAllocation allocate(
+    VulkanMemoryRequirements requirements,
+    Set<VulkanMemoryPropertyFlag> requiredFlags,
+    JCTLSFResourceKind kind)
+    throws VulkanException;
+
+  /**
+   * Allocate memory from the given memory type.
+   *
+   * @param requirements The memory requirements of the resource
+   * @param memoryType   The memory type
+   * @param kind         The kind of resource
+   *
+   * @return An allocation
+   *
+   * @throws VulkanException On errors
+   */
+
+  JCTLSFAllocation allocate(
+    VulkanMemoryRequirements requirements,
+    VulkanMemoryTypeIndex memoryType,
+    JCTLSFResourceKind kind)
+    throws VulkanException;
+
+  /**
+   * Free an allocation. Blocks that become empty are released back to the
+   * device, except that one empty block is retained for each memory type
+   * and resource kind to avoid repeatedly allocating and freeing device
+   * memory.
+   *
+   * @param allocation The allocation
+   *
+   * @throws VulkanException          On errors
+   * @throws IllegalArgumentException If the allocation was not made by this
+   *                                  allocator
+   */
+
+  void free(JCTLSFAllocation allocation)
+    throws VulkanException;
+
+  /**
+   * @return The current allocator statistics
+   *
+   * @throws VulkanException On errors
+   */
+
+  JCTLSFStatistics statistics()
+    throws VulkanException;
+
+  /**
+   * Release all blocks of device memory. Any allocations that have not been
+   * freed become invalid.
+   *
+   * @throws VulkanException On errors
+   */
+
+  @Override
+  void close()
+    throws VulkanException;
+}
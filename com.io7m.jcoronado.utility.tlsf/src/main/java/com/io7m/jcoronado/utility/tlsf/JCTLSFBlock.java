@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.tlsf;
+
+import com.io7m.jcoronado.api.VulkanDeviceMemoryType;
+import com.io7m.jcoronado.api.VulkanMemoryTypeIndex;
+
+import java.util.Objects;
+
+/**
+ * A block of device memory and the heap that sub-allocates from it.
+ */
+
+final class JCTLSFBlock
+{
+  private final JCTLSFPool pool;
+  private final VulkanDeviceMemoryType memory;
+  private final VulkanMemoryTypeIndex memoryTypeIndex;
+  private final JCTLSFHeap heap;
+  private final boolean dedicated;
+
+  /*
+   * The list in which the pool holds the block, and the neighbours of the
+   * block within that list. These are maintained by the pool.
+   */
+
+  int poolList;
+  JCTLSFBlock poolPrevious;
+  JCTLSFBlock poolNext;
+
+  JCTLSFBlock(
+    final JCTLSFPool inPool,
+    final VulkanDeviceMemoryType inMemory,
+    final VulkanMemoryTypeIndex inMemoryTypeIndex,
+    final JCTLSFHeap inHeap,
+    final boolean inDedicated)
+  {
+    this.pool =
+      Objects.requireNonNull(inPool, "pool");
+    this.memory =
+      Objects.requireNonNull(inMemory, "memory");
+    this.memoryTypeIndex =
+      Objects.requireNonNull(inMemoryTypeIndex, "memoryTypeIndex");
+    this.heap =
+      Objects.requireNonNull(inHeap, "heap");
+    this.dedicated =
+      inDedicated;
+    this.poolList =
+      JCTLSFHeap.NO_NODE;
+  }
+
+  JCTLSFPool pool()
+  {
+    return this.pool;
+  }
+
+  VulkanDeviceMemoryType memory()
+  {
+    return this.memory;
+  }
+
+  VulkanMemoryTypeIndex memoryTypeIndex()
+  {
+    return this.memoryTypeIndex;
+  }
+
+  JCTLSFHeap heap()
+  {
+    return this.heap;
+  }
+
+  boolean isDedicated()
+  {
+    return this.dedicated;
+  }
+}
@@ -0,0 +1,665 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.tlsf;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * <p>A two-level segregated fit (TLSF) allocator that manages the offsets
+ * of a single range {@code [0, size)}. The heap does not own any memory;
+ * it simply records which parts of the range are in use.</p>
+ *
+ * <p>Each contiguous part of the range, whether free or in use, is
+ * represented by a <i>node</i>. Free nodes are kept in segregated lists
+ * indexed by a first level (the power of two of the size) and a second
+ * level (a linear subdivision of each power of two), and two levels of
+ * bitmaps record which lists are non-empty. Finding a suitable free node
+ * therefore takes a constant number of bit operations, and so both
+ * {@link #allocate(long, long)} and {@link #free(int)} run in
+ * {@code O(1)} time regardless of the number of allocations.</p>
+ *
+ * <p>Node metadata is held in primitive arrays allocated outside of the
+ * Java heap, and the number of nodes is fixed when the heap is created.
+ * Allocations fail when the node capacity is exhausted, even if free
+ * space remains.</p>
+ *
+ * <p>All offsets and sizes are multiples of the minimum alignment given
+ * at creation time.</p>
+ *
+ * <p>Heaps are not thread-safe.</p>
+ */
+
+public final class JCTLSFHeap
+{
+  /**
+   * The value returned by {@link #allocate(long, long)} when no space is
+   * available.
+   */
+
+  public static final int NO_NODE = -1;
+
+  static final int SL_SHIFT = 5;
+  static final int SL_COUNT = 1 << SL_SHIFT;
+  static final int FL_COUNT = Long.SIZE - SL_SHIFT + 1;
+
+  private static final int STATE_UNUSED = 0;
+  private static final int STATE_FREE = 1;
+  private static final int STATE_USED = 2;
+
+  private final long size;
+  private final long minimumAlignment;
+  private final int alignmentShift;
+  private final int nodeCapacity;
+  private final LongBuffer offsets;
+  private final LongBuffer sizes;
+  private final IntBuffer states;
+  private final IntBuffer physicalPrevious;
+  private final IntBuffer physicalNext;
+  private final IntBuffer freePrevious;
+  private final IntBuffer freeNext;
+  private final IntBuffer freeHeads;
+  private final IntBuffer secondLevelBitmaps;
+  private long firstLevelBitmap;
+  private int unusedHead;
+  private int nodesInUse;
+  private int allocationCount;
+  private long allocatedBytes;
+
+  /**
+   * Create a heap in which the whole range is initially free.
+   *
+   * @param inSize             The size of the range
+   * @param inMinimumAlignment The minimum alignment of all offsets and sizes
+   * @param inNodeCapacity     The maximum number of nodes
+   */
+
+  public JCTLSFHeap(
+    final long inSize,
+    final long inMinimumAlignment,
+    final int inNodeCapacity)
+  {
+    if (!isPowerOfTwo(inMinimumAlignment)) {
+      throw new IllegalArgumentException(
+        "Minimum alignment %s must be a power of two".formatted(
+          Long.toUnsignedString(inMinimumAlignment))
+      );
+    }
+    if (inSize <= 0L || (inSize & (inMinimumAlignment - 1L)) != 0L) {
+      throw new IllegalArgumentException(
+        "Size %s must be a positive multiple of %s".formatted(
+          Long.valueOf(inSize),
+          Long.valueOf(inMinimumAlignment))
+      );
+    }
+    if (inNodeCapacity < 1) {
+      throw new IllegalArgumentException(
+        "Node capacity %d must be positive".formatted(
+          Integer.valueOf(inNodeCapacity))
+      );
+    }
+
+    this.size = inSize;
+    this.minimumAlignment = inMinimumAlignment;
+    this.alignmentShift = Long.numberOfTrailingZeros(inMinimumAlignment);
+    this.nodeCapacity = inNodeCapacity;
+
+    this.offsets = longs(inNodeCapacity);
+    this.sizes = longs(inNodeCapacity);
+    this.states = ints(inNodeCapacity);
+    this.physicalPrevious = ints(inNodeCapacity);
+    this.physicalNext = ints(inNodeCapacity);
+    this.freePrevious = ints(inNodeCapacity);
+    this.freeNext = ints(inNodeCapacity);
+    this.freeHeads = ints(FL_COUNT * SL_COUNT);
+    this.secondLevelBitmaps = ints(FL_COUNT);
+
+    for (int index = 0; index < FL_COUNT * SL_COUNT; ++index) {
+      this.freeHeads.put(index, NO_NODE);
+    }
+    for (int index = 0; index < inNodeCapacity; ++index) {
+      this.states.put(index, STATE_UNUSED);
+      this.freeNext.put(index, index + 1 < inNodeCapacity ? index + 1 : NO_NODE);
+    }
+    this.unusedHead = 0;
+
+    final var initial = this.nodeAcquire();
+    this.offsets.put(initial, 0L);
+    this.sizes.put(initial, inSize);
+    this.physicalPrevious.put(initial, NO_NODE);
+    this.physicalNext.put(initial, NO_NODE);
+    this.freeInsert(initial);
+  }
+
+  private static LongBuffer longs(
+    final int count)
+  {
+    return ByteBuffer.allocateDirect(count * Long.BYTES)
+      .order(ByteOrder.nativeOrder())
+      .asLongBuffer();
+  }
+
+  private static IntBuffer ints(
+    final int count)
+  {
+    return ByteBuffer.allocateDirect(count * Integer.BYTES)
+      .order(ByteOrder.nativeOrder())
+      .asIntBuffer();
+  }
+
+  private static boolean isPowerOfTwo(
+    final long x)
+  {
+    return x > 0L && (x & (x - 1L)) == 0L;
+  }
+
+  private static long alignUp(
+    final long x,
+    final long alignment)
+  {
+    return (x + (alignment - 1L)) & -alignment;
+  }
+
+  /**
+   * @param units A size in units of the minimum alignment
+   *
+   * @return The index of the free list that holds nodes of the given size
+   */
+
+  static int listFor(
+    final long units)
+  {
+    if (units < SL_COUNT) {
+      return (int) units;
+    }
+
+    final var top = (Long.SIZE - 1) - Long.numberOfLeadingZeros(units);
+    final var second = (int) ((units >>> (top - SL_SHIFT)) ^ SL_COUNT);
+    final var first = top - SL_SHIFT + 1;
+    return (first << SL_SHIFT) | second;
+  }
+
+  /**
+   * @param units A size in units of the minimum alignment
+   *
+   * @return The size rounded up so that every node in the list for the
+   * rounded size is at least as large as the original size
+   */
+
+  static long roundUpToList(
+    final long units)
+  {
+    if (units < SL_COUNT) {
+      return units;
+    }
+
+    final var top = (Long.SIZE - 1) - Long.numberOfLeadingZeros(units);
+    return units + ((1L << (top - SL_SHIFT)) - 1L);
+  }
+
+  /**
+   * @param requestedSize      The size of the range
+   * @param requestedAlignment The alignment of the range
+   * @param minimumAlignment   The minimum alignment of the heap
+   * @param size               The size of the heap
+   *
+   * @return The size, in units of the minimum alignment, of a free node
+   * that can hold the range at any offset that satisfies the minimum
+   * alignment
+   */
+
+  static long searchUnits(
+    final long requestedSize,
+    final long requestedAlignment,
+    final long minimumAlignment,
+    final long size)
+  {
+    final var alignment =
+      Math.max(requestedAlignment, minimumAlignment);
+    final var allocSize =
+      alignUp(requestedSize, minimumAlignment);
+    final var searchSize =
+      Math.min(allocSize + (alignment - minimumAlignment), size);
+    return searchSize >>> Long.numberOfTrailingZeros(minimumAlignment);
+  }
+
+  /**
+   * @return The index of the free list that holds the largest free node, or
+   * {@link #NO_NODE} if there are no free nodes
+   */
+
+  int largestFreeList()
+  {
+    if (this.firstLevelBitmap == 0L) {
+      return NO_NODE;
+    }
+
+    final var first =
+      (Long.SIZE - 1) - Long.numberOfLeadingZeros(this.firstLevelBitmap);
+    final var second =
+      (Integer.SIZE - 1)
+      - Integer.numberOfLeadingZeros(this.secondLevelBitmaps.get(first));
+    return (first << SL_SHIFT) | second;
+  }
+
+  /**
+   * @return The size of the range
+   */
+
+  public long size()
+  {
+    return this.size;
+  }
+
+  /**
+   * @return The minimum alignment of all offsets and sizes
+   */
+
+  public long minimumAlignment()
+  {
+    return this.minimumAlignment;
+  }
+
+  /**
+   * @return The maximum number of nodes
+   */
+
+  public int nodeCapacity()
+  {
+    return this.nodeCapacity;
+  }
+
+  /**
+   * @return The number of nodes in use, free or allocated
+   */
+
+  public int nodeCount()
+  {
+    return this.nodesInUse;
+  }
+
+  /**
+   * @return The number of live allocations
+   */
+
+  public int allocationCount()
+  {
+    return this.allocationCount;
+  }
+
+  /**
+   * @return The number of bytes covered by live allocations
+   */
+
+  public long allocatedBytes()
+  {
+    return this.allocatedBytes;
+  }
+
+  /**
+   * @return {@code true} if there are no live allocations
+   */
+
+  public boolean isEmpty()
+  {
+    return this.allocationCount == 0;
+  }
+
+  /**
+   * @param node The node returned by {@link #allocate(long, long)}
+   *
+   * @return The offset of the allocation
+   */
+
+  public long offsetOf(
+    final int node)
+  {
+    return this.offsets.get(this.checkAllocated(node));
+  }
+
+  /**
+   * The size of an allocation. This is the requested size rounded up to the
+   * minimum alignment, and can be larger again if the heap was unable to
+   * split the remainder of the free node into a new node.
+   *
+   * @param node The node returned by {@link #allocate(long, long)}
+   *
+   * @return The size of the allocation
+   */
+
+  public long sizeOf(
+    final int node)
+  {
+    return this.sizes.get(this.checkAllocated(node));
+  }
+
+  /**
+   * @param node The node
+   *
+   * @return {@code true} if the node is a live allocation
+   */
+
+  public boolean isAllocated(
+    final int node)
+  {
+    return node >= 0
+           && node < this.nodeCapacity
+           && this.states.get(node) == STATE_USED;
+  }
+
+  /**
+   * Allocate a range.
+   *
+   * @param requestedSize      The size of the range
+   * @param requestedAlignment The alignment of the range; a power of two, or
+   *                           zero for the minimum alignment
+   *
+   * @return The allocated node, or {@link #NO_NODE} if there is no space
+   */
+
+  public int allocate(
+    final long requestedSize,
+    final long requestedAlignment)
+  {
+    if (requestedSize <= 0L) {
+      throw new IllegalArgumentException(
+        "Size %d must be positive".formatted(Long.valueOf(requestedSize))
+      );
+    }
+    if (requestedAlignment != 0L && !isPowerOfTwo(requestedAlignment)) {
+      throw new IllegalArgumentException(
+        "Alignment %s must be a power of two".formatted(
+          Long.toUnsignedString(requestedAlignment))
+      );
+    }
+
+    if (requestedSize > this.size) {
+      return NO_NODE;
+    }
+
+    final var alignment =
+      Math.max(requestedAlignment, this.minimumAlignment);
+    final var allocSize =
+      alignUp(requestedSize, this.minimumAlignment);
+
+    /*
+     * Search for a node large enough to hold the allocation at any offset
+     * that satisfies the minimum alignment. If there is no such node, the
+     * heads of the lists that hold nodes of exactly the search size and
+     * exactly the allocation size are checked in case either happens to be
+     * suitably aligned. This keeps the search constant-time, at the cost of
+     * occasionally failing when a suitable node exists deeper in a list.
+     */
+
+    final var searchUnits =
+      searchUnits(
+        requestedSize,
+        requestedAlignment,
+        this.minimumAlignment,
+        this.size
+      );
+
+    var node = this.freeFind(listFor(roundUpToList(searchUnits)));
+    if (node == NO_NODE) {
+      node = this.headFitting(listFor(searchUnits), allocSize, alignment);
+    }
+    if (node == NO_NODE) {
+      node = this.headFitting(
+        listFor(allocSize >>> this.alignmentShift),
+        allocSize,
+        alignment
+      );
+    }
+    if (node == NO_NODE) {
+      return NO_NODE;
+    }
+
+    final var nodeOffset = this.offsets.get(node);
+    final var nodeSize = this.sizes.get(node);
+    final var alignedOffset = alignUp(nodeOffset, alignment);
+    final var gap = alignedOffset - nodeOffset;
+    if (gap > 0L && this.unusedHead == NO_NODE) {
+      return NO_NODE;
+    }
+
+    this.freeRemove(node);
+
+    /*
+     * Any padding required for alignment is left behind as a free node.
+     * Its physical predecessor cannot be free, because free nodes are always
+     * merged with their free neighbours.
+     */
+
+    if (gap > 0L) {
+      final var target = this.nodeAcquire();
+      this.offsets.put(target, alignedOffset);
+      this.sizes.put(target, nodeSize - gap);
+      this.sizes.put(node, gap);
+      this.physicalLinkAfter(node, target);
+      this.freeInsert(node);
+      node = target;
+    }
+
+    final var remainder = this.sizes.get(node) - allocSize;
+    if (remainder > 0L && this.unusedHead != NO_NODE) {
+      final var tail = this.nodeAcquire();
+      this.offsets.put(tail, alignedOffset + allocSize);
+      this.sizes.put(tail, remainder);
+      this.sizes.put(node, allocSize);
+      this.physicalLinkAfter(node, tail);
+      this.freeInsert(tail);
+    }
+
+    this.states.put(node, STATE_USED);
+    this.allocationCount += 1;
+    this.allocatedBytes += this.sizes.get(node);
+    return node;
+  }
+
+  /**
+   * Free an allocation, merging it with any free neighbours.
+   *
+   * @param node The node returned by {@link #allocate(long, long)}
+   */
+
+  public void free(
+    final int node)
+  {
+    this.checkAllocated(node);
+
+    this.allocationCount -= 1;
+    this.allocatedBytes -= this.sizes.get(node);
+
+    var merged = node;
+
+    final var previous = this.physicalPrevious.get(merged);
+    if (previous != NO_NODE && this.states.get(previous) == STATE_FREE) {
+      this.freeRemove(previous);
+      this.sizes.put(previous, this.sizes.get(previous) + this.sizes.get(merged));
+      this.physicalUnlink(merged);
+      this.nodeRelease(merged);
+      merged = previous;
+    }
+
+    final var next = this.physicalNext.get(merged);
+    if (next != NO_NODE && this.states.get(next) == STATE_FREE) {
+      this.freeRemove(next);
+      this.sizes.put(merged, this.sizes.get(merged) + this.sizes.get(next));
+      this.physicalUnlink(next);
+      this.nodeRelease(next);
+    }
+
+    this.freeInsert(merged);
+  }
+
+  private int checkAllocated(
+    final int node)
+  {
+    if (!this.isAllocated(node)) {
+      throw new IllegalStateException(
+        "Node %d is not allocated".formatted(Integer.valueOf(node))
+      );
+    }
+    return node;
+  }
+
+  private int nodeAcquire()
+  {
+    final var node = this.unusedHead;
+    this.unusedHead = this.freeNext.get(node);
+    this.nodesInUse += 1;
+    return node;
+  }
+
+  private void nodeRelease(
+    final int node)
+  {
+    this.states.put(node, STATE_UNUSED);
+    this.freeNext.put(node, this.unusedHead);
+    this.unusedHead = node;
+    this.nodesInUse -= 1;
+  }
+
+  private void physicalLinkAfter(
+    final int node,
+    final int after)
+  {
+    final var next = this.physicalNext.get(node);
+    this.physicalPrevious.put(after, node);
+    this.physicalNext.put(after, next);
+    if (next != NO_NODE) {
+      this.physicalPrevious.put(next, after);
+    }
+    this.physicalNext.put(node, after);
+  }
+
+  private void physicalUnlink(
+    final int node)
+  {
+    final var previous = this.physicalPrevious.get(node);
+    final var next = this.physicalNext.get(node);
+    if (previous != NO_NODE) {
+      this.physicalNext.put(previous, next);
+    }
+    if (next != NO_NODE) {
+      this.physicalPrevious.put(next, previous);
+    }
+  }
+
+  private int headFitting(
+    final int list,
+    final long allocSize,
+    final long alignment)
+  {
+    final var node = this.freeHeads.get(list);
+    if (node == NO_NODE) {
+      return NO_NODE;
+    }
+
+    final var nodeOffset = this.offsets.get(node);
+    final var gap = alignUp(nodeOffset, alignment) - nodeOffset;
+    if (gap + allocSize > this.sizes.get(node)) {
+      return NO_NODE;
+    }
+    return node;
+  }
+
+  private int freeFind(
+    final int list)
+  {
+    var first = list >>> SL_SHIFT;
+    var secondMap =
+      this.secondLevelBitmaps.get(first) & (-1 << (list & (SL_COUNT - 1)));
+
+    if (secondMap == 0) {
+      final var firstMap = this.firstLevelBitmap & (-1L << (first + 1));
+      if (firstMap == 0L) {
+        return NO_NODE;
+      }
+      first = Long.numberOfTrailingZeros(firstMap);
+      secondMap = this.secondLevelBitmaps.get(first);
+    }
+
+    final var second = Integer.numberOfTrailingZeros(secondMap);
+    return this.freeHeads.get((first << SL_SHIFT) | second);
+  }
+
+  private void freeInsert(
+    final int node)
+  {
+    final var list = listFor(this.sizes.get(node) >>> this.alignmentShift);
+    final var head = this.freeHeads.get(list);
+
+    this.states.put(node, STATE_FREE);
+    this.freePrevious.put(node, NO_NODE);
+    this.freeNext.put(node, head);
+    if (head != NO_NODE) {
+      this.freePrevious.put(head, node);
+    }
+    this.freeHeads.put(list, node);
+
+    final var first = list >>> SL_SHIFT;
+    final var second = list & (SL_COUNT - 1);
+    this.secondLevelBitmaps.put(
+      first,
+      this.secondLevelBitmaps.get(first) | (1 << second)
+    );
+    this.firstLevelBitmap |= 1L << first;
+  }
+
+  private void freeRemove(
+    final int node)
+  {
+    final var list = listFor(this.sizes.get(node) >>> this.alignmentShift);
+    final var previous = this.freePrevious.get(node);
+    final var next = this.freeNext.get(node);
+
+    if (previous != NO_NODE) {
+      this.freeNext.put(previous, next);
+    }
+    if (next != NO_NODE) {
+      this.freePrevious.put(next, previous);
+    }
+
+    if (this.freeHeads.get(list) == node) {
+      this.freeHeads.put(list, next);
+      if (next == NO_NODE) {
+        final var first = list >>> SL_SHIFT;
+        final var second = list & (SL_COUNT - 1);
+        final var secondMap =
+          this.secondLevelBitmaps.get(first) & ~(1 << second);
+        this.secondLevelBitmaps.put(first, secondMap);
+        if (secondMap == 0) {
+          this.firstLevelBitmap &= ~(1L << first);
+        }
+      }
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return "[JCTLSFHeap %s/%s %d]".formatted(
+      Long.toUnsignedString(this.allocatedBytes),
+      Long.toUnsignedString(this.size),
+      Integer.valueOf(this.allocationCount)
+    );
+  }
+}
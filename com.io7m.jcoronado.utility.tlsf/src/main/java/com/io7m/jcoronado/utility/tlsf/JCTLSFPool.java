@@ -0,0 +1,291 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.tlsf;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+
+import static com.io7m.jcoronado.utility.tlsf.JCTLSFHeap.FL_COUNT;
+import static com.io7m.jcoronado.utility.tlsf.JCTLSFHeap.NO_NODE;
+import static com.io7m.jcoronado.utility.tlsf.JCTLSFHeap.SL_COUNT;
+import static com.io7m.jcoronado.utility.tlsf.JCTLSFHeap.SL_SHIFT;
+
+/**
+ * <p>The blocks for a single memory type and resource kind.</p>
+ *
+ * <p>Non-dedicated blocks are kept in lists indexed by the free list of
+ * the largest free node of their heap, and two levels of bitmaps record
+ * which lists are non-empty, exactly as each heap indexes its free nodes.
+ * Finding a block that can hold an allocation therefore takes a constant
+ * number of bit operations regardless of the number of blocks. Blocks with
+ * no free space are not held in any list. Dedicated blocks are never
+ * searched, and are held in a separate set.</p>
+ *
+ * <p>Pools are not thread-safe.</p>
+ */
+
+final class JCTLSFPool
+{
+  private final Object owner;
+  private final JCTLSFBlock[] heads;
+  private final int[] secondLevelBitmaps;
+  private final HashSet<JCTLSFBlock> dedicated;
+  private long firstLevelBitmap;
+  private JCTLSFBlock empty;
+
+  JCTLSFPool(
+    final Object inOwner)
+  {
+    this.owner =
+      Objects.requireNonNull(inOwner, "owner");
+    this.heads =
+      new JCTLSFBlock[FL_COUNT * SL_COUNT];
+    this.secondLevelBitmaps =
+      new int[FL_COUNT];
+    this.dedicated =
+      new HashSet<>();
+  }
+
+  /**
+   * @return The allocator that owns the pool
+   */
+
+  Object owner()
+  {
+    return this.owner;
+  }
+
+  /**
+   * @return The retained empty block, if any
+   */
+
+  JCTLSFBlock empty()
+  {
+    return this.empty;
+  }
+
+  /**
+   * Retain the given empty block.
+   *
+   * @param block The block
+   */
+
+  void setEmpty(
+    final JCTLSFBlock block)
+  {
+    this.empty = block;
+  }
+
+  /**
+   * Add a new block to the pool.
+   *
+   * @param block The block
+   */
+
+  void add(
+    final JCTLSFBlock block)
+  {
+    if (block.isDedicated()) {
+      this.dedicated.add(block);
+    } else {
+      this.update(block);
+    }
+  }
+
+  /**
+   * Remove a block from the pool.
+   *
+   * @param block The block
+   */
+
+  void remove(
+    final JCTLSFBlock block)
+  {
+    if (block.isDedicated()) {
+      this.dedicated.remove(block);
+    } else {
+      this.unlink(block);
+    }
+    if (this.empty == block) {
+      this.empty = null;
+    }
+  }
+
+  /**
+   * Move a block to the list matching the current state of its heap. This
+   * must be called whenever the heap of a non-dedicated block changes.
+   *
+   * @param block The block
+   */
+
+  void update(
+    final JCTLSFBlock block)
+  {
+    final var list = block.heap().largestFreeList();
+    if (list == block.poolList) {
+      return;
+    }
+
+    this.unlink(block);
+    if (list != NO_NODE) {
+      this.link(list, block);
+    }
+  }
+
+  /**
+   * Find a block that can probably hold a range. A block whose largest free
+   * node is at least {@code units} in size is preferred; otherwise, the
+   * first block whose largest free node is in the same list as
+   * {@code units} is returned.
+   *
+   * @param units The size returned by
+   *              {@link JCTLSFHeap#searchUnits(long, long, long, long)}
+   *
+   * @return A block, or {@code null} if no block is suitable
+   */
+
+  JCTLSFBlock find(
+    final long units)
+  {
+    final var list =
+      JCTLSFHeap.listFor(JCTLSFHeap.roundUpToList(units));
+
+    var first = list >>> SL_SHIFT;
+    var secondMap =
+      this.secondLevelBitmaps[first] & (-1 << (list & (SL_COUNT - 1)));
+
+    if (secondMap == 0) {
+      final var firstMap = this.firstLevelBitmap & (-1L << (first + 1));
+      if (firstMap == 0L) {
+        return this.head(units);
+      }
+      first = Long.numberOfTrailingZeros(firstMap);
+      secondMap = this.secondLevelBitmaps[first];
+    }
+
+    final var second = Integer.numberOfTrailingZeros(secondMap);
+    return this.heads[(first << SL_SHIFT) | second];
+  }
+
+  /**
+   * @param units A size in units of the minimum alignment
+   *
+   * @return The first block whose largest free node is in the same list as
+   * {@code units}, or {@code null} if there is no such block
+   */
+
+  JCTLSFBlock head(
+    final long units)
+  {
+    return this.heads[JCTLSFHeap.listFor(units)];
+  }
+
+  /**
+   * Move a block that could not hold a range to the end of its list, so
+   * that other blocks in the same list are tried first next time.
+   *
+   * @param block The block
+   */
+
+  void demote(
+    final JCTLSFBlock block)
+  {
+    final var list = block.poolList;
+    if (list != NO_NODE && this.heads[list] == block) {
+      this.heads[list] = block.poolNext;
+    }
+  }
+
+  /**
+   * @return Every block in the pool
+   */
+
+  List<JCTLSFBlock> blocks()
+  {
+    final var results = new ArrayList<JCTLSFBlock>(this.dedicated);
+    for (final var head : this.heads) {
+      if (head != null) {
+        var block = head;
+        do {
+          results.add(block);
+          block = block.poolNext;
+        } while (block != head);
+      }
+    }
+    return results;
+  }
+
+  /*
+   * Each list is circular, so the last block in a list is the predecessor
+   * of the head.
+   */
+
+  private void link(
+    final int list,
+    final JCTLSFBlock block)
+  {
+    final var head = this.heads[list];
+    if (head == null) {
+      block.poolPrevious = block;
+      block.poolNext = block;
+    } else {
+      block.poolPrevious = head.poolPrevious;
+      block.poolNext = head;
+      head.poolPrevious.poolNext = block;
+      head.poolPrevious = block;
+    }
+
+    block.poolList = list;
+    this.heads[list] = block;
+
+    final var first = list >>> SL_SHIFT;
+    this.secondLevelBitmaps[first] |= 1 << (list & (SL_COUNT - 1));
+    this.firstLevelBitmap |= 1L << first;
+  }
+
+  private void unlink(
+    final JCTLSFBlock block)
+  {
+    final var list = block.poolList;
+    if (list == NO_NODE) {
+      return;
+    }
+
+    if (block.poolNext == block) {
+      this.heads[list] = null;
+
+      final var first = list >>> SL_SHIFT;
+      this.secondLevelBitmaps[first] &= ~(1 << (list & (SL_COUNT - 1)));
+      if (this.secondLevelBitmaps[first] == 0) {
+        this.firstLevelBitmap &= ~(1L << first);
+      }
+    } else {
+      block.poolPrevious.poolNext = block.poolNext;
+      block.poolNext.poolPrevious = block.poolPrevious;
+      if (this.heads[list] == block) {
+        this.heads[list] = block.poolNext;
+      }
+    }
+
+    block.poolList = NO_NODE;
+    block.poolPrevious = null;
+    block.poolNext = null;
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.utility.tlsf;
+
+/**
+ * The kind of resource that will be bound to an allocation. Linear and
+ * non-linear resources that share a page of {@code bufferImageGranularity}
+ * bytes can alias each other on some implementations, and so the allocator
+ * never places allocations of different kinds in the same block of device
+ * memory when the granularity is larger than one byte.
+ */
+
+public enum JCTLSFResourceKind
+{
+  /**
+   * Buffers, and images created with {@code VK_IMAGE_TILING_LINEAR}.
+   */
+
+  LINEAR,
+
+  /**
+   * Images created with {@code VK_IMAGE_TILING_OPTIMAL}.
+   */
+
+  NON_LINEAR
+}
@@ -20,6 +20,7 @@ import com.io7m.immutables.styles.ImmutablesStyleType;
 import com.io7m.jcoronado.api.VulkanMemoryPropertyFlag;
 import org.immutables.value.Value;
 
+import java.util.Optional;
 import java.util.Set;
 
 import static com.io7m.jcoronado.vma.VMAMemoryUsage.VMA_MEMORY_USAGE_UNKNOWN;
@@ -69,4 +70,14 @@ public interface VMAAllocationCreateInfoType
   {
     return 0L;
   }
+
+  /**
+   * @return The custom pool from which the allocation should be made; if
+   * absent, the allocation is made from one of the allocator's default pools
+   * and the {@link #usage()}, {@link #requiredFlags()},
+   * {@link #preferredFlags()}, and {@link #memoryTypeBits()} fields select
+   * the memory type
+   */
+
+  Optional<VMAPoolType> pool();
 }
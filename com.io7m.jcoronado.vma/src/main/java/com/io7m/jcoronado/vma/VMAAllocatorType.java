@@ -23,6 +23,8 @@ import com.io7m.jcoronado.api.VulkanHandleDispatchableType;
 import com.io7m.jcoronado.api.VulkanImageCreateInfo;
 import com.io7m.jcoronado.api.VulkanImageType;
 
+import java.util.List;
+
 /**
  * A configured VMA allocator.
  */
@@ -74,4 +76,113 @@ public interface VMAAllocatorType extends VulkanHandleDispatchableType
   VMAMappedMemoryType mapMemory(
     VMAAllocationType allocation)
     throws VulkanException;
+
+  /**
+   * Create a custom memory pool. The pool must be closed before the
+   * allocator is closed, and all allocations made from the pool must be
+   * closed before the pool is closed.
+   *
+   * @param info The pool creation info
+   *
+   * @return A new pool
+   *
+   * @throws VulkanException On errors
+   */
+
+  VMAPoolType createPool(
+    VMAPoolCreateInfo info)
+    throws VulkanException;
+
+  /**
+   * Find the index of the memory type that would be used for a buffer
+   * created with the given parameters. This is typically used to obtain a
+   * value for {@link VMAPoolCreateInfoType#memoryTypeIndex()}.
+   *
+   * @param alloc_create_info  The allocation creation info
+   * @param buffer_create_info The buffer creation info
+   *
+   * @return A memory type index
+   *
+   * @throws VulkanException On errors
+   */
+
+  int findMemoryTypeIndexForBufferInfo(
+    VMAAllocationCreateInfo alloc_create_info,
+    VulkanBufferCreateInfo buffer_create_info)
+    throws VulkanException;
+
+  /**
+   * Find the index of the memory type that would be used for an image
+   * created with the given parameters. This is typically used to obtain a
+   * value for {@link VMAPoolCreateInfoType#memoryTypeIndex()}.
+   *
+   * @param alloc_create_info The allocation creation info
+   * @param image_create_info The image creation info
+   *
+   * @return A memory type index
+   *
+   * @throws VulkanException On errors
+   */
+
+  int findMemoryTypeIndexForImageInfo(
+    VMAAllocationCreateInfo alloc_create_info,
+    VulkanImageCreateInfo image_create_info)
+    throws VulkanException;
+
+  /**
+   * Retrieve the current usage and budget of every memory heap. This is
+   * cheap enough to be called every frame. This method may be called
+   * concurrently with {@link #close()}; if the allocator is closed first,
+   * the method fails with an exception rather than touching the destroyed
+   * allocator.
+   *
+   * @return A snapshot of the budget of each heap, indexed by heap index
+   *
+   * @throws VulkanException On errors
+   */
+
+  List<VMABudget> heapBudgets()
+    throws VulkanException;
+
+  /**
+   * Calculate detailed statistics for every memory type and heap. This
+   * traverses every block and allocation and is comparatively slow.
+   *
+   * @return A snapshot of the allocator statistics
+   *
+   * @throws VulkanException On errors
+   */
+
+  VMATotalStatistics calculateStatistics()
+    throws VulkanException;
+
+  /**
+   * Build a JSON document describing the state of the allocator.
+   *
+   * @param detailed {@code true} if the document should include a map of every block and allocation
+   *
+   * @return A JSON string
+   *
+   * @throws VulkanException On errors
+   */
+
+  String buildStatsString(boolean detailed)
+    throws VulkanException;
+
+  /**
+   * Begin incremental defragmentation. Only allocations made with
+   * {@link #createBuffer(VMAAllocationCreateInfo, VulkanBufferCreateInfo)}
+   * and {@link #createImage(VMAAllocationCreateInfo, VulkanImageCreateInfo)}
+   * are moved.
+   *
+   * @param info The defragmentation parameters
+   *
+   * @return A defragmentation context
+   *
+   * @throws VulkanException On errors
+   */
+
+  VMADefragmentationContextType beginDefragmentation(
+    VMADefragmentationInfo info)
+    throws VulkanException;
 }
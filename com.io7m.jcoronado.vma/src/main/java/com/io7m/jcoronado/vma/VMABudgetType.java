@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.vma;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+/**
+ * The current memory usage and budget of a single memory heap. This is an
+ * immutable snapshot.
+ *
+ * @see "VmaBudget"
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface VMABudgetType
+{
+  /**
+   * @return The index of the memory heap
+   */
+
+  int heapIndex();
+
+  /**
+   * @return The statistics of the blocks and allocations made by this allocator in the heap
+   */
+
+  VMAStatistics statistics();
+
+  /**
+   * @return The estimated current memory usage of the heap by the whole
+   * process, in bytes. This is fetched from the driver if
+   * {@link VMAAllocatorCreateFlag#VMA_ALLOCATOR_CREATE_EXT_MEMORY_BUDGET_BIT}
+   * is enabled, and estimated from {@link #statistics()} otherwise.
+   */
+
+  @Value.Default
+  default long usage()
+  {
+    return 0L;
+  }
+
+  /**
+   * @return The estimated amount of memory available to the process in the
+   * heap, in bytes. Allocating beyond this may fail or cause performance
+   * degradation.
+   */
+
+  @Value.Default
+  default long budget()
+  {
+    return 0L;
+  }
+}
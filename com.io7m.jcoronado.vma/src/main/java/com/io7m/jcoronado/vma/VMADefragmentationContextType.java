@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.vma;
+
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanHandleNonDispatchableType;
+
+import java.util.Optional;
+
+/**
+ * An in-progress defragmentation. Passes are typically spread over multiple
+ * frames to bound the per-frame cost:
+ *
+ * <pre>{@code
+ * try (var context = allocator.beginDefragmentation(info)) {
+ *   while (true) {
+ *     final var pass = context.beginPass();
+ *     if (pass.isEmpty()) {
+ *       break;
+ *     }
+ *     // ... record, submit, and wait for the copies of pass.get().moves()
+ *     if (pass.get().end()) {
+ *       break;
+ *     }
+ *   }
+ * }
+ * }</pre>
+ *
+ * Closing the context ends defragmentation. New allocations may be made,
+ * and allocations not involved in a pass may be freed, while
+ * defragmentation is in progress.
+ *
+ * @see "VmaDefragmentationContext"
+ */
+
+public interface VMADefragmentationContextType
+  extends VulkanHandleNonDispatchableType
+{
+  /**
+   * Begin a new pass. At most one pass may be in progress at any given
+   * time.
+   *
+   * @return A new pass, or nothing if no further moves are possible
+   *
+   * @throws VulkanException On errors
+   */
+
+  Optional<VMADefragmentationPassType> beginPass()
+    throws VulkanException;
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.vma;
+
+import com.io7m.jcoronado.api.VulkanEnumBitmaskType;
+
+/**
+ * @see "VmaDefragmentationFlagBits"
+ */
+
+public enum VMADefragmentationFlag implements VulkanEnumBitmaskType
+{
+  /**
+   * Use simple but fast algorithm for defragmentation. May not achieve best
+   * results but will require least time to compute and least allocations to
+   * copy.
+   */
+
+  VMA_DEFRAGMENTATION_FLAG_ALGORITHM_FAST_BIT(0x00000001),
+
+  /**
+   * Default defragmentation algorithm, applied also when no algorithm is
+   * specified. Offers a balance between defragmentation quality and the
+   * amount of allocations and bytes that need to be moved.
+   */
+
+  VMA_DEFRAGMENTATION_FLAG_ALGORITHM_BALANCED_BIT(0x00000002),
+
+  /**
+   * Perform full defragmentation of memory. Can result in notably more time
+   * to compute and allocations to copy, but will achieve best memory
+   * packing.
+   */
+
+  VMA_DEFRAGMENTATION_FLAG_ALGORITHM_FULL_BIT(0x00000004),
+
+  /**
+   * Use the most robust algorithm at the cost of time to compute and number
+   * of copies to make. Only available when bufferImageGranularity is greater
+   * than 1, as it aims to reduce alignment issues between different types of
+   * resources.
+   */
+
+  VMA_DEFRAGMENTATION_FLAG_ALGORITHM_EXTENSIVE_BIT(0x00000008);
+
+  private final int value;
+
+  VMADefragmentationFlag(
+    final int i)
+  {
+    this.value = i;
+  }
+
+  @Override
+  public int value()
+  {
+    return this.value;
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.vma;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Parameters for defragmentation.
+ *
+ * @see "VmaDefragmentationInfo"
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface VMADefragmentationInfoType
+{
+  /**
+   * @return The defragmentation flags; at most one algorithm may be specified
+   */
+
+  Set<VMADefragmentationFlag> flags();
+
+  /**
+   * @return The custom pool to be defragmented; if absent, the default pools are defragmented
+   */
+
+  Optional<VMAPoolType> pool();
+
+  /**
+   * @return The maximum number of bytes that can be copied during a single pass; {@code 0} means no limit
+   */
+
+  @Value.Default
+  default long maxBytesPerPass()
+  {
+    return 0L;
+  }
+
+  /**
+   * @return The maximum number of allocations that can be moved during a single pass; {@code 0} means no limit
+   */
+
+  @Value.Default
+  default int maxAllocationsPerPass()
+  {
+    return 0;
+  }
+
+  /**
+   * Check preconditions for the type.
+   */
+
+  @Value.Check
+  default void checkPreconditions()
+  {
+    if (this.maxBytesPerPass() < 0L) {
+      throw new IllegalArgumentException(
+        "Maximum bytes per pass %d must be non-negative"
+          .formatted(Long.valueOf(this.maxBytesPerPass()))
+      );
+    }
+
+    if (this.maxAllocationsPerPass() < 0) {
+      throw new IllegalArgumentException(
+        "Maximum allocations per pass %d must be non-negative"
+          .formatted(Integer.valueOf(this.maxAllocationsPerPass()))
+      );
+    }
+
+    if (this.flags().size() > 1) {
+      throw new IllegalArgumentException(
+        "At most one defragmentation algorithm may be specified (received %s)"
+          .formatted(this.flags())
+      );
+    }
+  }
+}
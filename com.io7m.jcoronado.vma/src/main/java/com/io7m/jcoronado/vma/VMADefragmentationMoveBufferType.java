@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.vma;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import com.io7m.jcoronado.api.VulkanBufferCopy;
+import com.io7m.jcoronado.api.VulkanBufferType;
+import org.immutables.value.Value;
+
+import java.util.List;
+
+/**
+ * A buffer move. The caller must record a copy from {@link #source()} to
+ * {@link #target()} (typically using {@link #copyRegions()}), and the copy
+ * must complete before the pass is ended.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface VMADefragmentationMoveBufferType
+  extends VMADefragmentationMoveType
+{
+  /**
+   * @return The buffer currently bound to the allocation
+   */
+
+  VulkanBufferType source();
+
+  /**
+   * @return The new buffer, bound to the allocation's new location
+   */
+
+  VulkanBufferType target();
+
+  /**
+   * @return The size of the buffer, in bytes
+   */
+
+  long size();
+
+  /**
+   * @return The copy regions that copy the entire buffer
+   */
+
+  default List<VulkanBufferCopy> copyRegions()
+  {
+    return List.of(
+      VulkanBufferCopy.builder()
+        .setSourceOffset(0L)
+        .setTargetOffset(0L)
+        .setSize(this.size())
+        .build()
+    );
+  }
+}
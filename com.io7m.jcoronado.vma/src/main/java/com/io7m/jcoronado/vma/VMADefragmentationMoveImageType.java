@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.vma;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import com.io7m.jcoronado.api.VulkanImageCreateInfo;
+import com.io7m.jcoronado.api.VulkanImageType;
+import org.immutables.value.Value;
+
+/**
+ * An image move. The target image is created with the same parameters as
+ * the source image, and is therefore in the initial layout given by
+ * {@link #createInfo()}. The caller must transition both images, record a
+ * copy of every mip level and array layer from {@link #source()} to
+ * {@link #target()}, transition the target image to the layout the
+ * application expects, and the copy must complete before the pass is ended.
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface VMADefragmentationMoveImageType
+  extends VMADefragmentationMoveType
+{
+  /**
+   * @return The image currently bound to the allocation
+   */
+
+  VulkanImageType source();
+
+  /**
+   * @return The new image, bound to the allocation's new location
+   */
+
+  VulkanImageType target();
+
+  /**
+   * @return The parameters with which both images were created
+   */
+
+  VulkanImageCreateInfo createInfo();
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.vma;
+
+import com.io7m.jcoronado.api.VulkanException;
+
+import java.util.List;
+
+/**
+ * A single incremental defragmentation pass.
+ *
+ * For each move in {@link #moves()}, the caller records a copy from the
+ * source resource to the target resource, submits the copies, and waits for
+ * them to complete. Moves that cannot be performed during this pass (for
+ * example, because the source resource is in use by the device) can be
+ * excluded with {@link #ignore(VMADefragmentationMoveType)}. The caller
+ * then calls {@link #end()}.
+ *
+ * When the pass ends, each allocation that was moved is rebound to the
+ * target resource, and the source resource is closed. Callers must replace
+ * any references to source resources with the corresponding targets. The
+ * target resources of ignored moves are closed, and those allocations stay
+ * where they were.
+ */
+
+public interface VMADefragmentationPassType
+{
+  /**
+   * @return The moves proposed by this pass
+   */
+
+  List<VMADefragmentationMoveType> moves();
+
+  /**
+   * Exclude a move from this pass. The allocation will stay in its current
+   * location.
+   *
+   * @param move The move
+   */
+
+  void ignore(VMADefragmentationMoveType move);
+
+  /**
+   * End the pass, committing all moves that were not ignored.
+   *
+   * @return {@code true} if defragmentation is complete, and {@code false} if further passes are needed
+   *
+   * @throws VulkanException On errors
+   */
+
+  boolean end()
+    throws VulkanException;
+}
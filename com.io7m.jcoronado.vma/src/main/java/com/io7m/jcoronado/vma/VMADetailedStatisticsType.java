@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.vma;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+/**
+ * Detailed statistics about a set of memory blocks, including the sizes of
+ * allocations and free ranges. This is an immutable snapshot.
+ *
+ * @see "VmaDetailedStatistics"
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface VMADetailedStatisticsType
+{
+  /**
+   * @return The basic statistics
+   */
+
+  VMAStatistics statistics();
+
+  /**
+   * @return The number of free ranges of memory between allocations
+   */
+
+  @Value.Default
+  default long unusedRangeCount()
+  {
+    return 0L;
+  }
+
+  /**
+   * @return The smallest allocation size, or {@code -1} (as an unsigned value) if there are no allocations
+   */
+
+  @Value.Default
+  default long allocationSizeMin()
+  {
+    return 0L;
+  }
+
+  /**
+   * @return The largest allocation size, or {@code 0} if there are no allocations
+   */
+
+  @Value.Default
+  default long allocationSizeMax()
+  {
+    return 0L;
+  }
+
+  /**
+   * @return The smallest free range size, or {@code -1} (as an unsigned value) if there are no free ranges
+   */
+
+  @Value.Default
+  default long unusedRangeSizeMin()
+  {
+    return 0L;
+  }
+
+  /**
+   * @return The largest free range size, or {@code 0} if there are no free ranges
+   */
+
+  @Value.Default
+  default long unusedRangeSizeMax()
+  {
+    return 0L;
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.vma;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+/**
+ * A periodic sample of the usage and budget of a memory heap.
+ *
+ * @see VMAJFRHeapBudgetSampler
+ */
+
+@Label("HeapBudget")
+@Category("JCoronado.VMA")
+@Description("A periodic sample of the usage and budget of a memory heap.")
+@StackTrace(value = false)
+@Period("1 s")
+public final class VMAJFRHeapBudget extends Event
+{
+  // CHECKSTYLE:OFF
+
+  @Label("Allocator")
+  @Description("The allocator name.")
+  public String allocator;
+
+  @Label("HeapIndex")
+  @Description("The memory heap index.")
+  public int heapIndex;
+
+  @Label("Usage")
+  @Description("The estimated usage of the heap by the process.")
+  @DataAmount
+  public long usage;
+
+  @Label("Budget")
+  @Description("The estimated memory available to the process in the heap.")
+  @DataAmount
+  public long budget;
+
+  @Label("BlockCount")
+  @Description("The number of memory blocks allocated in the heap.")
+  public long blockCount;
+
+  @Label("AllocationCount")
+  @Description("The number of allocations made in the heap.")
+  public long allocationCount;
+
+  @Label("BlockBytes")
+  @Description("The total size of the memory blocks allocated in the heap.")
+  @DataAmount
+  public long blockBytes;
+
+  @Label("AllocationBytes")
+  @Description("The total size of the allocations made in the heap.")
+  @DataAmount
+  public long allocationBytes;
+
+  public VMAJFRHeapBudget()
+  {
+
+  }
+}
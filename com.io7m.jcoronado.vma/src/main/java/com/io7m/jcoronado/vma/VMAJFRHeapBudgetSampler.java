@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.vma;
+
+import com.io7m.jcoronado.api.VulkanException;
+import jdk.jfr.FlightRecorder;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A sampler that publishes a {@link VMAJFRHeapBudget} event for every
+ * memory heap of an allocator whenever JFR requests periodic events.
+ *
+ * The sampler is driven by JFR's own periodic event thread, and so costs
+ * nothing unless a recording with the {@link VMAJFRHeapBudget} event enabled
+ * is running. The period defaults to one second and can be changed in the
+ * recording settings. The sampler calls {@link VMAAllocatorType#heapBudgets()}
+ * from the JFR thread, and so must not be used with allocators created with
+ * {@link VMAAllocatorCreateFlag#VMA_ALLOCATOR_CREATE_EXTERNALLY_SYNCHRONIZED_BIT}.
+ *
+ * Closing the allocator while the sampler is open is safe: the allocator
+ * does not destroy itself while a {@link VMAAllocatorType#heapBudgets()}
+ * call is in progress, and later samples are skipped. The sampler should
+ * nevertheless be closed when it is no longer needed.
+ */
+
+public final class VMAJFRHeapBudgetSampler implements AutoCloseable
+{
+  private final VMAAllocatorType allocator;
+  private final String name;
+  private final Runnable hook;
+  private final AtomicBoolean closed;
+
+  private VMAJFRHeapBudgetSampler(
+    final VMAAllocatorType inAllocator,
+    final String inName)
+  {
+    this.allocator =
+      Objects.requireNonNull(inAllocator, "allocator");
+    this.name =
+      Objects.requireNonNull(inName, "name");
+    this.closed =
+      new AtomicBoolean(false);
+    this.hook =
+      this::sample;
+  }
+
+  /**
+   * Create a new sampler and register it with JFR.
+   *
+   * @param allocator The allocator
+   * @param name      The allocator name, used to distinguish events from multiple allocators
+   *
+   * @return A new sampler
+   */
+
+  public static VMAJFRHeapBudgetSampler create(
+    final VMAAllocatorType allocator,
+    final String name)
+  {
+    final var sampler = new VMAJFRHeapBudgetSampler(allocator, name);
+    FlightRecorder.addPeriodicEvent(VMAJFRHeapBudget.class, sampler.hook);
+    return sampler;
+  }
+
+  private void sample()
+  {
+    if (this.closed.get() || this.allocator.isClosed()) {
+      return;
+    }
+
+    try {
+      for (final var budget : this.allocator.heapBudgets()) {
+        final var statistics = budget.statistics();
+        final var event = new VMAJFRHeapBudget();
+        event.allocator = this.name;
+        event.heapIndex = budget.heapIndex();
+        event.usage = budget.usage();
+        event.budget = budget.budget();
+        event.blockCount = statistics.blockCount();
+        event.allocationCount = statistics.allocationCount();
+        event.blockBytes = statistics.blockBytes();
+        event.allocationBytes = statistics.allocationBytes();
+        event.commit();
+      }
+    } catch (final VulkanException e) {
+      // Sampling is best-effort; the allocator may have been closed
+      // concurrently, in which case heapBudgets() fails without touching
+      // the destroyed allocator.
+    }
+  }
+
+  /**
+   * @return {@code true} if the sampler is closed
+   */
+
+  public boolean isClosed()
+  {
+    return this.closed.get();
+  }
+
+  @Override
+  public void close()
+  {
+    if (this.closed.compareAndSet(false, true)) {
+      FlightRecorder.removePeriodicEvent(this.hook);
+    }
+  }
+}
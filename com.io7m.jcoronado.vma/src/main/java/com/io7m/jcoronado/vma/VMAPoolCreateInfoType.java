@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.vma;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+import java.util.Set;
+
+/**
+ * Information required to create a custom memory pool.
+ *
+ * @see "VmaPoolCreateInfo"
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface VMAPoolCreateInfoType
+{
+  /**
+   * @return The Vulkan memory type index from which all allocations in the pool will be made
+   *
+   * @see VMAAllocatorType#findMemoryTypeIndexForBufferInfo
+   * @see VMAAllocatorType#findMemoryTypeIndexForImageInfo
+   */
+
+  int memoryTypeIndex();
+
+  /**
+   * @return The pool creation flags
+   */
+
+  Set<VMAPoolCreateFlag> flags();
+
+  /**
+   * @return The size of a single {@code VkDeviceMemory} block allocated as part of this pool, in bytes; {@code 0} selects the allocator's default block size
+   */
+
+  @Value.Default
+  default long blockSize()
+  {
+    return 0L;
+  }
+
+  /**
+   * @return The minimum number of blocks that will always be allocated in this pool, even if empty
+   */
+
+  @Value.Default
+  default long minBlockCount()
+  {
+    return 0L;
+  }
+
+  /**
+   * @return The maximum number of blocks that can be allocated in this pool; {@code 0} means no limit
+   */
+
+  @Value.Default
+  default long maxBlockCount()
+  {
+    return 0L;
+  }
+
+  /**
+   * @return The priority of allocations in this pool, in the range {@code [0, 1]}; used only when {@code VK_EXT_memory_priority} is enabled
+   */
+
+  @Value.Default
+  default float priority()
+  {
+    return 0.5f;
+  }
+
+  /**
+   * @return An additional minimum alignment applied to every allocation in this pool; {@code 0} or a power of two
+   */
+
+  @Value.Default
+  default long minAllocationAlignment()
+  {
+    return 0L;
+  }
+
+  /**
+   * Check preconditions for the type.
+   */
+
+  @Value.Check
+  default void checkPreconditions()
+  {
+    if (this.memoryTypeIndex() < 0) {
+      throw new IllegalArgumentException(
+        "Memory type index %d must be non-negative"
+          .formatted(Integer.valueOf(this.memoryTypeIndex()))
+      );
+    }
+
+    if (this.blockSize() < 0L) {
+      throw new IllegalArgumentException(
+        "Block size %d must be non-negative"
+          .formatted(Long.valueOf(this.blockSize()))
+      );
+    }
+
+    if (this.minBlockCount() < 0L || this.maxBlockCount() < 0L) {
+      throw new IllegalArgumentException(
+        "Block counts (min %d, max %d) must be non-negative"
+          .formatted(
+            Long.valueOf(this.minBlockCount()),
+            Long.valueOf(this.maxBlockCount()))
+      );
+    }
+
+    if (this.maxBlockCount() != 0L
+        && this.minBlockCount() > this.maxBlockCount()) {
+      throw new IllegalArgumentException(
+        "Minimum block count %d must be <= maximum block count %d"
+          .formatted(
+            Long.valueOf(this.minBlockCount()),
+            Long.valueOf(this.maxBlockCount()))
+      );
+    }
+
+    final var p = this.priority();
+    if (!(p >= 0.0f && p <= 1.0f)) {
+      throw new IllegalArgumentException(
+        "Priority %f must be in the range [0, 1]"
+          .formatted(Float.valueOf(p))
+      );
+    }
+
+    final var a = this.minAllocationAlignment();
+    if (a < 0L || (a & (a - 1L)) != 0L) {
+      throw new IllegalArgumentException(
+        "Minimum allocation alignment %d must be zero or a power of two"
+          .formatted(Long.valueOf(a))
+      );
+    }
+  }
+}
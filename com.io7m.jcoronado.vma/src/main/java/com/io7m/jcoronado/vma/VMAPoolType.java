@@ -0,0 +1,40 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcoronado.vma;
+
+import com.io7m.jcoronado.api.VulkanHandleNonDispatchableType;
+
+/**
+ * A custom memory pool. Allocations can be directed to a pool by
+ * specifying it in {@link VMAAllocationCreateInfoType#pool()}, and only
+ * the allocator that created a pool may allocate from it. All allocations
+ * made from a pool must be freed before the pool is closed. Closing a pool
+ * that has live allocations raises {@link IllegalStateException}; the pool
+ * then rejects new allocations, and is destroyed once the last of its
+ * allocations is freed.
+ *
+ * @see "VmaPool"
+ */
+
+public interface VMAPoolType extends VulkanHandleNonDispatchableType
+{
+  /**
+   * @return The information used to create the pool
+   */
+
+  VMAPoolCreateInfo createInfo();
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.vma;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+/**
+ * Basic statistics about a set of memory blocks and the allocations within
+ * them. This is an immutable snapshot.
+ *
+ * @see "VmaStatistics"
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface VMAStatisticsType
+{
+  /**
+   * @return The number of {@code VkDeviceMemory} objects (blocks) allocated
+   */
+
+  @Value.Default
+  default long blockCount()
+  {
+    return 0L;
+  }
+
+  /**
+   * @return The number of allocations made within the blocks
+   */
+
+  @Value.Default
+  default long allocationCount()
+  {
+    return 0L;
+  }
+
+  /**
+   * @return The total size of all {@code VkDeviceMemory} blocks, in bytes
+   */
+
+  @Value.Default
+  default long blockBytes()
+  {
+    return 0L;
+  }
+
+  /**
+   * @return The total size of all allocations, in bytes. This is always
+   * less than or equal to {@link #blockBytes()}; the difference is memory
+   * that is allocated from Vulkan but not in use.
+   */
+
+  @Value.Default
+  default long allocationBytes()
+  {
+    return 0L;
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.vma;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+import java.util.List;
+
+/**
+ * Statistics for every memory type and memory heap of the allocator, and
+ * the totals across all of them. This is an immutable snapshot.
+ *
+ * Calculating these statistics requires traversing every block and
+ * allocation, and so should not be done every frame. Use
+ * {@link VMAAllocatorType#heapBudgets()} for cheap, frequent sampling.
+ *
+ * @see "VmaTotalStatistics"
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface VMATotalStatisticsType
+{
+  /**
+   * @return The statistics for each memory type, indexed by memory type index
+   */
+
+  List<VMADetailedStatistics> memoryTypes();
+
+  /**
+   * @return The statistics for each memory heap, indexed by heap index
+   */
+
+  List<VMADetailedStatistics> memoryHeaps();
+
+  /**
+   * @return The statistics across all memory types
+   */
+
+  VMADetailedStatistics total();
+}
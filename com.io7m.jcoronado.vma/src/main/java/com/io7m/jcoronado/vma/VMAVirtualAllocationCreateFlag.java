@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.vma;
+
+import com.io7m.jcoronado.api.VulkanEnumBitmaskType;
+
+/**
+ * @see "VmaVirtualAllocationCreateFlagBits"
+ */
+
+public enum VMAVirtualAllocationCreateFlag implements VulkanEnumBitmaskType
+{
+  /**
+   * Allocation will be created from upper stack in a double stack pool.
+   * This flag is only allowed for virtual blocks created with
+   * {@link VMAVirtualBlockCreateFlag#VMA_VIRTUAL_BLOCK_CREATE_LINEAR_ALGORITHM_BIT}.
+   */
+
+  VMA_VIRTUAL_ALLOCATION_CREATE_UPPER_ADDRESS_BIT(0x00000040),
+
+  /**
+   * Allocation strategy that tries to minimize memory usage.
+   */
+
+  VMA_VIRTUAL_ALLOCATION_CREATE_STRATEGY_MIN_MEMORY_BIT(0x00010000),
+
+  /**
+   * Allocation strategy that tries to minimize allocation time.
+   */
+
+  VMA_VIRTUAL_ALLOCATION_CREATE_STRATEGY_MIN_TIME_BIT(0x00020000),
+
+  /**
+   * Allocation strategy that chooses always the lowest offset in available
+   * space. This is not the most efficient strategy but achieves highly
+   * packed data.
+   */
+
+  VMA_VIRTUAL_ALLOCATION_CREATE_STRATEGY_MIN_OFFSET_BIT(0x00040000);
+
+  private final int value;
+
+  VMAVirtualAllocationCreateFlag(
+    final int i)
+  {
+    this.value = i;
+  }
+
+  @Override
+  public int value()
+  {
+    return this.value;
+  }
+}
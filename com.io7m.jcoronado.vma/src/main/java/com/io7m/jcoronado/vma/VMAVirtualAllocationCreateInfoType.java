@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.vma;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+import java.util.Set;
+
+import static com.io7m.jcoronado.vma.VMAVirtualAllocationCreateFlag.VMA_VIRTUAL_ALLOCATION_CREATE_UPPER_ADDRESS_BIT;
+
+/**
+ * Information required to create a virtual allocation.
+ *
+ * @see "VmaVirtualAllocationCreateInfo"
+ */
+
+@ImmutablesStyleType
+@Value.Immutable
+public interface VMAVirtualAllocationCreateInfoType
+{
+  /**
+   * @return The size of the allocation
+   */
+
+  long size();
+
+  /**
+   * @return The required alignment of the allocation offset; a power of two
+   */
+
+  @Value.Default
+  default long alignment()
+  {
+    return 1L;
+  }
+
+  /**
+   * @return The allocation flags; at most one strategy may be specified
+   */
+
+  Set<VMAVirtualAllocationCreateFlag> flags();
+
+  /**
+   * Check preconditions for the type.
+   */
+
+  @Value.Check
+  default void checkPreconditions()
+  {
+    if (this.size() <= 0L) {
+      throw new IllegalArgumentException(
+        "Allocation size %d must be positive"
+          .formatted(Long.valueOf(this.size()))
+      );
+    }
+
+    final var a = this.alignment();
+    if (a <= 0L || (a & (a - 1L)) != 0L) {
+      throw new IllegalArgumentException(
+        "Alignment %d must be a power of two"
+          .formatted(Long.valueOf(a))
+      );
+    }
+
+    final var strategies =
+      this.flags()
+        .stream()
+        .filter(f -> f != VMA_VIRTUAL_ALLOCATION_CREATE_UPPER_ADDRESS_BIT)
+        .count();
+
+    if (strategies > 1L) {
+      throw new IllegalArgumentException(
+        "At most one allocation strategy may be specified (received %s)"
+          .formatted(this.flags())
+      );
+    }
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcoronado.vma;
+
+import com.io7m.jcoronado.api.VulkanException;
+import com.io7m.jcoronado.api.VulkanHandleNonDispatchableType;
+
+import java.util.Optional;
+
+/**
+ * A virtual block: an allocator that manages ranges of an abstract space
+ * of {@link VMAVirtualBlockCreateInfoType#size()} bytes without allocating
+ * any memory itself. Virtual blocks are typically used to sub-allocate
+ * ranges of a single large buffer, such as vertex and index arenas or
+ * uniform buffers, avoiding a separate memory allocation per object.
+ *
+ * All operations on a virtual block are serialized by an internal lock, so
+ * a block may be used from any number of threads without external
+ * synchronization. An allocation may be freed from a thread other than the
+ * one that allocated it. Freeing an allocation that is not live in this
+ * block is an error. The block must not be closed while other threads are
+ * using it.
+ *
+ * @see "VmaVirtualBlock"
+ */
+
+public interface VMAVirtualBlockType
+  extends VulkanHandleNonDispatchableType
+{
+  /**
+   * @return The information used to create the block
+   */
+
+  VMAVirtualBlockCreateInfo createInfo();
+
+  /**
+   * Allocate a range from the block.
+   *
+   * @param info The allocation parameters
+   *
+   * @return The allocation, or nothing if there is no free range large enough
+   *
+   * @throws VulkanException On errors
+   */
+
+  Optional<VMAVirtualAllocation> allocate(
+    VMAVirtualAllocationCreateInfo info)
+    throws VulkanException;
+
+  /**
+   * Free an allocation.
+   *
+   * @param allocation The allocation
+   *
+   * @throws VulkanException On errors
+   */
+
+  void free(
+    VMAVirtualAllocation allocation)
+    throws VulkanException;
+
+  /**
+   * Free all allocations at once.
+   *
+   * @throws VulkanException On errors
+   */
+
+  void clear()
+    throws VulkanException;
+
+  /**
+   * @return {@code true} if the block contains no allocations
+   *
+   * @throws VulkanException On errors
+   */
+
+  boolean isEmpty()
+    throws VulkanException;
+
+  /**
+   * @return Basic statistics about the block; cheap to compute
+   *
+   * @throws VulkanException On errors
+   */
+
+  VMAStatistics statistics()
+    throws VulkanException;
+
+  /**
+   * @return Detailed statistics about the block; requires traversing every allocation
+   *
+   * @throws VulkanException On errors
+   */
+
+  VMADetailedStatistics calculateStatistics()
+    throws VulkanException;
+}
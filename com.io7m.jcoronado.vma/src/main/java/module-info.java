@@ -27,6 +27,7 @@ module com.io7m.jcoronado.vma
 
   requires com.io7m.jcoronado.api;
   requires com.io7m.jmulticlose.core;
+  requires jdk.jfr;
 
   exports com.io7m.jcoronado.vma;
 }
\ No newline at end of file